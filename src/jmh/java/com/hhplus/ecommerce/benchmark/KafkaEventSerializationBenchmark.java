@@ -0,0 +1,116 @@
+package com.hhplus.ecommerce.benchmark;
+
+import com.hhplus.ecommerce.domain.coupon.event.CouponIssueRequest;
+import com.hhplus.ecommerce.domain.order.event.OrderCompletedEvent;
+import com.hhplus.ecommerce.infrastructure.kafka.codec.CouponIssueRequestCodec;
+import com.hhplus.ecommerce.infrastructure.kafka.codec.KafkaEventCodec;
+import com.hhplus.ecommerce.infrastructure.kafka.codec.OrderCompletedEventCodec;
+import com.hhplus.ecommerce.infrastructure.kafka.codec.VersionedBinarySerializer;
+import com.hhplus.ecommerce.infrastructure.kafka.codec.WireFormatDeserializer;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * KafkaEventSerializationBenchmark - Kafka 메시지 형식 비교 (JSON vs 바이너리)
+ *
+ * 측정 항목:
+ * - 직렬화/역직렬화 평균 시간 (ns/op)
+ * - 메시지 크기: Setup 시 1회 출력 (JSON은 __TypeId__ 헤더 제외 크기)
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=KafkaEventSerializationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KafkaEventSerializationBenchmark {
+
+    private static final String ORDER_TOPIC = "order.completed";
+    private static final String COUPON_TOPIC = "coupon.issue.requests";
+
+    private OrderCompletedEvent orderEvent;
+    private CouponIssueRequest couponRequest;
+
+    private JsonSerializer<OrderCompletedEvent> orderJsonSerializer;
+    private VersionedBinarySerializer<OrderCompletedEvent> orderBinarySerializer;
+
+    private JsonSerializer<CouponIssueRequest> couponJsonSerializer;
+    private VersionedBinarySerializer<CouponIssueRequest> couponBinarySerializer;
+    private WireFormatDeserializer<CouponIssueRequest> couponDeserializer;
+
+    private byte[] couponJson;
+    private RecordHeaders couponJsonHeaders;
+    private byte[] couponBinary;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        orderEvent = new OrderCompletedEvent(1_234_567L, 98_765L, 189_000L,
+                "홍길동", "서울특별시 강남구 테헤란로 123, 4층", LocalDateTime.now());
+        couponRequest = CouponIssueRequest.create(98_765L, 42L);
+
+        orderJsonSerializer = new JsonSerializer<>();
+        orderBinarySerializer = new VersionedBinarySerializer<>(new OrderCompletedEventCodec());
+        couponJsonSerializer = new JsonSerializer<>();
+        couponBinarySerializer = new VersionedBinarySerializer<>(new CouponIssueRequestCodec());
+        couponDeserializer = new WireFormatDeserializer<>(
+                List.<KafkaEventCodec<? extends CouponIssueRequest>>of(new CouponIssueRequestCodec()),
+                new JsonDeserializer<>(CouponIssueRequest.class));
+
+        couponJsonHeaders = new RecordHeaders();
+        couponJson = couponJsonSerializer.serialize(COUPON_TOPIC, couponJsonHeaders, couponRequest);
+        couponBinary = couponBinarySerializer.serialize(COUPON_TOPIC, couponRequest);
+
+        System.out.printf("[메시지 크기] OrderCompletedEvent json=%dB binary=%dB, CouponIssueRequest json=%dB binary=%dB%n",
+                orderJsonSerializer.serialize(ORDER_TOPIC, orderEvent).length,
+                orderBinarySerializer.serialize(ORDER_TOPIC, orderEvent).length,
+                couponJson.length, couponBinary.length);
+    }
+
+    @Benchmark
+    public byte[] orderEventJsonSerialize() {
+        return orderJsonSerializer.serialize(ORDER_TOPIC, orderEvent);
+    }
+
+    @Benchmark
+    public byte[] orderEventBinarySerialize() {
+        return orderBinarySerializer.serialize(ORDER_TOPIC, orderEvent);
+    }
+
+    @Benchmark
+    public byte[] couponRequestJsonSerialize() {
+        return couponJsonSerializer.serialize(COUPON_TOPIC, couponRequest);
+    }
+
+    @Benchmark
+    public byte[] couponRequestBinarySerialize() {
+        return couponBinarySerializer.serialize(COUPON_TOPIC, couponRequest);
+    }
+
+    @Benchmark
+    public CouponIssueRequest couponRequestJsonDeserialize() {
+        return couponDeserializer.deserialize(COUPON_TOPIC, couponJsonHeaders, couponJson);
+    }
+
+    @Benchmark
+    public CouponIssueRequest couponRequestBinaryDeserialize() {
+        return couponDeserializer.deserialize(COUPON_TOPIC, couponJsonHeaders, couponBinary);
+    }
+}
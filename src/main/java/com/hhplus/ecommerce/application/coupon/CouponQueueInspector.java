@@ -0,0 +1,80 @@
+package com.hhplus.ecommerce.application.coupon;
+
+import com.hhplus.ecommerce.application.coupon.dto.CouponRequest;
+import com.hhplus.ecommerce.infrastructure.config.RedisKeyType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * CouponQueueInspector - 처리 대기 중인 쿠폰 발급 요청 조회 (읽기 전용)
+ *
+ * - 대기 큐(QUEUE_COUPON_PENDING)와 재시도 큐(QUEUE_COUPON_RETRY)를 LRANGE로 읽기만 함 (제거 안 함)
+ * - 큐 전체를 한 번에 읽지 않고 page-size 단위로 나눠 읽음 (Redis 단일 명령 응답 크기/블로킹 제한)
+ *   - 적재는 LPUSH(head), 소비는 RPOP(tail) → head부터 양수 인덱스로 읽으면 소비로 인한 인덱스 이동 없음
+ *   - 읽는 도중 적재된 요청은 앞쪽 항목을 밀어 다시 읽게 할 뿐 (Set이므로 중복 무해), 건너뛰지 않음
+ * - CouponReservationService의 고아 예약 사용자 판정에서 아직 DB에 반영되지 않은 요청을 제외하는 데 사용
+ * - CouponQueueService는 CouponReservationService에 의존하므로 순환 의존을 피하려고 별도 컴포넌트로 분리
+ */
+@Component
+public class CouponQueueInspector {
+
+    private static final Logger log = LoggerFactory.getLogger(CouponQueueInspector.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final int pageSize;
+
+    public CouponQueueInspector(RedisTemplate<String, String> redisTemplate,
+                                ObjectMapper objectMapper,
+                                @Value("${coupon.queue.inspect-page-size:500}") int pageSize) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * 대기/재시도 큐에 남아 있는 요청의 사용자 조회
+     *
+     * @return couponId → 대기 중인 userId 집합
+     */
+    public Map<Long, Set<Long>> findQueuedUsers() {
+        Map<Long, Set<Long>> queuedUsers = new HashMap<>();
+        collect(RedisKeyType.QUEUE_COUPON_PENDING.getKey(), queuedUsers);
+        collect(RedisKeyType.QUEUE_COUPON_RETRY.getKey(), queuedUsers);
+        return queuedUsers;
+    }
+
+    private void collect(String queueKey, Map<Long, Set<Long>> queuedUsers) {
+        for (long start = 0; ; start += pageSize) {
+            List<String> page = redisTemplate.opsForList().range(queueKey, start, start + pageSize - 1);
+            if (page == null || page.isEmpty()) {
+                return;
+            }
+            parse(queueKey, page, queuedUsers);
+            if (page.size() < pageSize) {
+                return;
+            }
+        }
+    }
+
+    private void parse(String queueKey, List<String> jsons, Map<Long, Set<Long>> queuedUsers) {
+        for (String json : jsons) {
+            try {
+                CouponRequest request = objectMapper.readValue(json, CouponRequest.class);
+                queuedUsers.computeIfAbsent(request.getCouponId(), k -> new HashSet<>()).add(request.getUserId());
+            } catch (Exception e) {
+                log.warn("[CouponQueueInspector] 요청 파싱 오류 (건너뜀): queueKey={}, error={}", queueKey, e.getMessage());
+            }
+        }
+    }
+}
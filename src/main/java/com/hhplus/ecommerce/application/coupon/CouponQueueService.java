@@ -1,21 +1,30 @@
 package com.hhplus.ecommerce.application.coupon;
 
+import com.hhplus.ecommerce.application.coupon.dto.CouponBatchIssueResult;
 import com.hhplus.ecommerce.application.coupon.dto.CouponRequest;
 import com.hhplus.ecommerce.application.coupon.dto.CouponIssueStatusResponse;
+import com.hhplus.ecommerce.domain.coupon.CouponReservationResult;
 import com.hhplus.ecommerce.presentation.coupon.response.IssueCouponResponse;
+import com.hhplus.ecommerce.infrastructure.config.AdaptiveTTLService;
 import com.hhplus.ecommerce.infrastructure.config.RedisKeyType;
 import com.hhplus.ecommerce.infrastructure.constants.RetryConstants;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.stereotype.Service;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * CouponQueueService - Redis 기반 쿠폰 발급 큐 관리
@@ -44,7 +53,10 @@ import java.util.UUID;
  * - 큐 추가: O(1) ~ 1ms
  * - 상태 저장: O(1) ~ 1ms
  * - 처리: 배치로 초당 ~100개
+ * - 배치 모드(coupon.queue.batch.enabled=true): RPOP count + 쿠폰별 일괄 발급으로 초당 수만 건
  * - 선착순: FIFO 보장, 공정성 보장
+ *
+ * 상태/결과 키 TTL: AdaptiveTTLService.getEffectiveTTL() (기본 TTL 이상 + 지터, 상태 조회 히트/미스를 관측치로 기록)
  */
 @Service
 public class CouponQueueService {
@@ -54,14 +66,26 @@ public class CouponQueueService {
     private final RedisTemplate<String, String> redisTemplate;
     private final ObjectMapper objectMapper;
     private final CouponService couponService;
+    private final CouponReservationService couponReservationService;
+    private final AdaptiveTTLService adaptiveTTLService;
+    private final boolean batchEnabled;
+    private final int batchSize;
 
     public CouponQueueService(
             RedisTemplate<String, String> redisTemplate,
             ObjectMapper objectMapper,
-            CouponService couponService) {
+            CouponService couponService,
+            CouponReservationService couponReservationService,
+            AdaptiveTTLService adaptiveTTLService,
+            @Value("${coupon.queue.batch.enabled:false}") boolean batchEnabled,
+            @Value("${coupon.queue.batch.size:500}") int batchSize) {
         this.redisTemplate = redisTemplate;
         this.objectMapper = objectMapper;
         this.couponService = couponService;
+        this.couponReservationService = couponReservationService;
+        this.adaptiveTTLService = adaptiveTTLService;
+        this.batchEnabled = batchEnabled;
+        this.batchSize = batchSize;
     }
 
     /**
@@ -69,9 +93,11 @@ public class CouponQueueService {
      *
      * 동작:
      * 1. CouponRequest 객체 생성
-     * 2. JSON으로 직렬화
-     * 3. Redis LPUSH로 큐에 추가
-     * 4. 상태를 별도 키에 저장 (조회용)
+     * 2. 예약 게이트 판정 (CouponReservationService)
+     *    - 소진/중복이면 큐에 넣지 않고 FAILED 상태만 저장
+     * 3. JSON으로 직렬화
+     * 4. Redis LPUSH로 큐에 추가
+     * 5. 상태를 별도 키에 저장 (조회용)
      *
      * @param userId 사용자 ID
      * @param couponId 쿠폰 ID
@@ -79,18 +105,34 @@ public class CouponQueueService {
      */
     public String enqueueCouponRequest(Long userId, Long couponId) {
         CouponRequest request = CouponRequest.of(userId, couponId);
+        CouponReservationResult reservation = null;
+        boolean enqueued = false;
 
         try {
+            // 0. 예약 게이트: 패자는 큐/DB 락에 도달하지 않음
+            reservation = couponReservationService.reserve(userId, couponId);
+            if (!reservation.isAdmitted()) {
+                request.markFailed(reservation.getRejectMessage());
+                String stateKey = RedisKeyType.STATE_COUPON_REQUEST.buildKey(request.getRequestId());
+                redisTemplate.opsForValue().set(stateKey, objectMapper.writeValueAsString(request),
+                        adaptiveTTLService.getEffectiveTTL(RedisKeyType.STATE_COUPON_REQUEST));
+
+                log.info("[CouponQueue] 예약 게이트 거절: requestId={}, userId={}, couponId={}, result={}",
+                        request.getRequestId(), userId, couponId, reservation);
+                return request.getRequestId();
+            }
+
             String json = objectMapper.writeValueAsString(request);
 
             // 1. 큐에 요청 추가 (LPUSH)
             String queueKey = RedisKeyType.QUEUE_COUPON_PENDING.getKey();
             redisTemplate.opsForList().leftPush(queueKey, json);
+            enqueued = true;
 
             // 2. 상태 저장 (조회용)
             String stateKey = RedisKeyType.STATE_COUPON_REQUEST
                 .buildKey(request.getRequestId());
-            Duration ttl = RedisKeyType.STATE_COUPON_REQUEST.getTtl();
+            Duration ttl = adaptiveTTLService.getEffectiveTTL(RedisKeyType.STATE_COUPON_REQUEST);
             redisTemplate.opsForValue().set(stateKey, json, ttl);
 
             log.info("[CouponQueue] 요청 추가: requestId={}, userId={}, couponId={}, queueKey={}",
@@ -100,6 +142,11 @@ public class CouponQueueService {
 
         } catch (Exception e) {
             log.error("[CouponQueue] 큐 추가 실패: userId={}, couponId={}", userId, couponId, e);
+            // 큐에 들어가지 못한 예약은 워커가 처리하지 않으므로 여기서 취소
+            // (LPUSH 이후 실패는 워커가 발급/취소를 담당하므로 취소하지 않음)
+            if (reservation == CouponReservationResult.RESERVED && !enqueued) {
+                couponReservationService.release(userId, couponId, e);
+            }
             throw new RuntimeException("쿠폰 발급 요청 등록 실패", e);
         }
     }
@@ -108,9 +155,10 @@ public class CouponQueueService {
      * 백그라운드 워커: Redis 큐의 요청을 처리
      *
      * 실행:
-     * - @Scheduled(fixedRate = 10)으로 10ms마다 실행
+     * - CouponQueueWorkerScheduler가 10ms마다 호출 (coupon.queue.worker.enabled=false면 호출 안 함)
      * - 배치: 한 번에 최대 10개씩 처리
      * - RPOP으로 FIFO 순서 보장
+     * - coupon.queue.batch.enabled=true면 processCouponQueueBatch()로 일괄 처리
      *
      * 처리 흐름:
      * 1. Redis 큐에서 요청 꺼내기 (RPOP)
@@ -122,8 +170,12 @@ public class CouponQueueService {
      * - IllegalArgumentException (쿠폰 소진, 기간 만료): FAILED로 기록
      * - Exception (시스템 오류): 재시도 큐로 이동
      */
-    @Scheduled(fixedRate = 10)
     public void processCouponQueue() {
+        if (batchEnabled) {
+            processCouponQueueBatch();
+            return;
+        }
+
         String queueKey = RedisKeyType.QUEUE_COUPON_PENDING.getKey();
         int processedCount = 0;
         int maxBatchSize = 10;  // 한 번에 최대 10개 처리
@@ -136,63 +188,159 @@ public class CouponQueueService {
                 break;
             }
 
-            try {
-                CouponRequest request = objectMapper.readValue(json, CouponRequest.class);
+            CouponRequest request = parseRequest(json);
+            if (request != null && processSingleRequest(request, json)) {
+                processedCount++;
+            }
+        }
 
-                log.debug("[Worker] 쿠폰 발급 처리 시작: requestId={}, userId={}, couponId={}",
-                        request.getRequestId(), request.getUserId(), request.getCouponId());
+        if (processedCount > 0) {
+            log.debug("[Worker] 배치 처리 완료: count={}", processedCount);
+        }
+    }
 
-                // DB 처리
-                IssueCouponResponse response = couponService.issueCouponWithLock(
-                    request.getUserId(),
-                    request.getCouponId()
-                );
+    /**
+     * 배치 워커: 큐에서 N개를 한 번에 꺼내 쿠폰별로 일괄 발급
+     *
+     * 처리 흐름:
+     * 1. RPOP key count로 최대 batchSize개를 왕복 1회에 꺼내기 (오래된 요청부터 반환 → FIFO 유지)
+     * 2. JSON은 요청당 1회만 역직렬화
+     * 3. couponId별로 묶어 CouponService.issueCouponBatch() 호출
+     *    - 쿠폰당 행 락 1회, 재고 차감 1회, user_coupons 다건 INSERT 1회
+     * 4. 모든 결과/상태를 파이프라인 1회로 Redis에 기록
+     *
+     * 에러 처리:
+     * - 사용자별 비즈니스 실패: FAILED (+ 예약 게이트 취소)
+     * - 배치 트랜잭션 자체 실패 (시스템 오류, 쿠폰 없음 등): 해당 쿠폰 묶음만 단건 경로로 재처리
+     *   → 단건 경로의 FAILED/RETRY 판정을 그대로 따름
+     *
+     * @return 발급 완료 건수
+     */
+    public int processCouponQueueBatch() {
+        String queueKey = RedisKeyType.QUEUE_COUPON_PENDING.getKey();
+        List<String> jsons = redisTemplate.opsForList().rightPop(queueKey, batchSize);
+        if (jsons == null || jsons.isEmpty()) {
+            return 0;
+        }
 
-                // 결과 저장
-                saveResult(request.getRequestId(), response, "COMPLETED", null);
+        // couponId별 그룹핑 (그룹 내 FIFO 순서 유지)
+        Map<Long, List<QueuedRequest>> requestsByCoupon = new LinkedHashMap<>();
+        for (String json : jsons) {
+            CouponRequest request = parseRequest(json);
+            if (request != null) {
+                requestsByCoupon.computeIfAbsent(request.getCouponId(), k -> new ArrayList<>())
+                        .add(new QueuedRequest(request, json));
+            }
+        }
 
-                log.info("[Worker] 쿠폰 발급 완료: requestId={}, couponId={}, discountAmount={}",
-                        request.getRequestId(), response.getCouponId(), response.getDiscountAmount());
+        List<CouponRequest> finished = new ArrayList<>(jsons.size());
+        Map<String, IssueCouponResponse> responses = new HashMap<>();
+        int completedCount = 0;
 
-                processedCount++;
+        for (Map.Entry<Long, List<QueuedRequest>> entry : requestsByCoupon.entrySet()) {
+            Long couponId = entry.getKey();
+            List<QueuedRequest> group = entry.getValue();
 
-            } catch (IllegalArgumentException e) {
-                // 비즈니스 로직 오류 (재시도 X)
-                try {
-                    CouponRequest request = objectMapper.readValue(json, CouponRequest.class);
-                    saveResult(request.getRequestId(), null, "FAILED", e.getMessage());
-                    log.warn("[Worker] 발급 불가: requestId={}, reason={}",
-                        ((CouponRequest) objectMapper.readValue(json, CouponRequest.class)).getRequestId(),
-                        e.getMessage());
-                } catch (Exception innerE) {
-                    log.error("[Worker] 요청 파싱 오류", innerE);
+            List<CouponBatchIssueResult> results;
+            try {
+                List<Long> userIds = group.stream()
+                        .map(queued -> queued.request.getUserId())
+                        .collect(Collectors.toList());
+                results = couponService.issueCouponBatch(couponId, userIds);
+            } catch (Exception e) {
+                // 배치 트랜잭션 롤백 → 단건 경로로 재처리
+                log.warn("[Worker] 배치 발급 실패, 단건 처리로 전환: couponId={}, size={}, error={}",
+                        couponId, group.size(), e.getMessage());
+                for (QueuedRequest queued : group) {
+                    if (processSingleRequest(queued.request, queued.json)) {
+                        completedCount++;
+                    }
                 }
+                continue;
+            }
 
-            } catch (Exception e) {
-                // 시스템 오류 (재시도 O)
-                try {
-                    CouponRequest request = objectMapper.readValue(json, CouponRequest.class);
-                    redisTemplate.opsForList().leftPush(
-                        RedisKeyType.QUEUE_COUPON_RETRY.getKey(),
-                        json
-                    );
-                    updateStatus(request.getRequestId(), "RETRY", e.getMessage());
-                    log.error("[Worker] 처리 실패, 재시도 큐로 이동: requestId={}, error={}",
-                            request.getRequestId(), e.getMessage());
-                } catch (Exception innerE) {
-                    log.error("[Worker] 오류 처리 중 예외 발생", innerE);
+            for (int i = 0; i < group.size(); i++) {
+                CouponRequest request = group.get(i).request;
+                CouponBatchIssueResult result = results.get(i);
+                if (result.isSuccess()) {
+                    request.markCompleted();
+                    responses.put(request.getRequestId(), result.getResponse());
+                    completedCount++;
+                } else {
+                    couponReservationService.release(request.getUserId(), couponId, result, request.getRequestedAt());
+                    request.markFailed(result.getFailureReason());
                 }
+                finished.add(request);
             }
         }
 
-        if (processedCount > 0) {
-            log.debug("[Worker] 배치 처리 완료: count={}", processedCount);
+        saveResultsPipelined(finished, responses);
+
+        log.debug("[Worker] 배치 발급 처리 완료: popped={}, completed={}, coupons={}",
+                jsons.size(), completedCount, requestsByCoupon.size());
+        return completedCount;
+    }
+
+    /**
+     * 단건 처리 (기존 워커 경로, 배치 실패 시 폴백)
+     *
+     * @return 발급 완료 여부
+     */
+    private boolean processSingleRequest(CouponRequest request, String json) {
+        try {
+            log.debug("[Worker] 쿠폰 발급 처리 시작: requestId={}, userId={}, couponId={}",
+                    request.getRequestId(), request.getUserId(), request.getCouponId());
+
+            // DB 처리
+            IssueCouponResponse response = couponService.issueCouponWithLock(
+                request.getUserId(),
+                request.getCouponId()
+            );
+
+            // 결과 저장
+            saveResult(request.getRequestId(), response, "COMPLETED", null);
+
+            log.info("[Worker] 쿠폰 발급 완료: requestId={}, couponId={}, discountAmount={}",
+                    request.getRequestId(), response.getCouponId(), response.getDiscountAmount());
+            return true;
+
+        } catch (IllegalArgumentException e) {
+            // 비즈니스 로직 오류 (재시도 X)
+            couponReservationService.release(request.getUserId(), request.getCouponId(), e,
+                    request.getRequestedAt());
+            saveResult(request.getRequestId(), null, "FAILED", e.getMessage());
+            log.warn("[Worker] 발급 불가: requestId={}, reason={}", request.getRequestId(), e.getMessage());
+            return false;
+
+        } catch (Exception e) {
+            // 시스템 오류 (재시도 O)
+            try {
+                redisTemplate.opsForList().leftPush(
+                    RedisKeyType.QUEUE_COUPON_RETRY.getKey(),
+                    json
+                );
+                updateStatus(request.getRequestId(), "RETRY", e.getMessage());
+                log.error("[Worker] 처리 실패, 재시도 큐로 이동: requestId={}, error={}",
+                        request.getRequestId(), e.getMessage());
+            } catch (Exception innerE) {
+                log.error("[Worker] 오류 처리 중 예외 발생", innerE);
+            }
+            return false;
+        }
+    }
+
+    private CouponRequest parseRequest(String json) {
+        try {
+            return objectMapper.readValue(json, CouponRequest.class);
+        } catch (Exception e) {
+            log.error("[Worker] 요청 파싱 오류: json={}", json, e);
+            return null;
         }
     }
 
     /**
      * 재시도 큐 처리 (무한 반복 방지)
-     * - 백그라운드에서 주기적으로 실행
+     * - CouponQueueWorkerScheduler가 1분마다 호출 (30초 후 시작)
      * - 시스템 오류로 재시도 중인 요청 재처리
      * - MAX_RETRIES(3)를 초과하면 DLQ로 이동
      *
@@ -205,7 +353,6 @@ public class CouponQueueService {
      * 6. 시스템 오류 + 재시도 가능 → 재시도 큐로 다시 추가
      * 7. 시스템 오류 + 재시도 불가능 → DLQ로 이동
      */
-    @Scheduled(fixedRate = 60000, initialDelay = 30000)  // 1분마다, 30초 후 시작
     public void processRetryQueue() {
         String retryQueueKey = RedisKeyType.QUEUE_COUPON_RETRY.getKey();
         String dlqKey = RedisKeyType.QUEUE_COUPON_DLQ.getKey();
@@ -244,6 +391,8 @@ public class CouponQueueService {
                 // 비즈니스 로직 오류 (쿠폰 소진, 기간 만료 등) → 다시 실패 (재시도 안 함)
                 try {
                     CouponRequest request = objectMapper.readValue(json, CouponRequest.class);
+                    couponReservationService.release(request.getUserId(), request.getCouponId(), e,
+                            request.getRequestedAt());
                     saveResult(request.getRequestId(), null, "FAILED", e.getMessage());
                     log.warn("[Retry Worker] 비즈니스 오류로 최종 실패: requestId={}, reason={}",
                             request.getRequestId(), e.getMessage());
@@ -267,6 +416,8 @@ public class CouponQueueService {
                         // 재시도 불가능 (MAX_RETRIES 초과) → DLQ로 이동
                         String updatedJson = objectMapper.writeValueAsString(request);
                         redisTemplate.opsForList().leftPush(dlqKey, updatedJson);
+                        couponReservationService.release(request.getUserId(), request.getCouponId(), e,
+                                request.getRequestedAt());
                         updateStatus(request.getRequestId(), "DLQ",
                                 "최대 재시도 횟수(3) 초과: " + e.getMessage());
                         log.error("[Retry Worker] 최대 재시도 횟수 초과, DLQ로 이동: requestId={}, " +
@@ -302,7 +453,7 @@ public class CouponQueueService {
             if (response != null) {
                 String resultJson = objectMapper.writeValueAsString(response);
                 String resultKey = RedisKeyType.STATE_COUPON_RESULT.buildKey(requestId);
-                Duration ttl = RedisKeyType.STATE_COUPON_RESULT.getTtl();
+                Duration ttl = adaptiveTTLService.getEffectiveTTL(RedisKeyType.STATE_COUPON_RESULT);
                 redisTemplate.opsForValue().set(resultKey, resultJson, ttl);
             }
 
@@ -328,7 +479,7 @@ public class CouponQueueService {
                 request.setErrorMessage(errorMessage);
 
                 String updatedJson = objectMapper.writeValueAsString(request);
-                Duration ttl = RedisKeyType.STATE_COUPON_REQUEST.getTtl();
+                Duration ttl = adaptiveTTLService.getEffectiveTTL(RedisKeyType.STATE_COUPON_REQUEST);
                 redisTemplate.opsForValue().set(stateKey, updatedJson, ttl);
 
                 log.debug("[CouponQueue] 상태 업데이트: requestId={}, status={}", requestId, status);
@@ -339,6 +490,53 @@ public class CouponQueueService {
         }
     }
 
+    /**
+     * 배치 결과를 파이프라인 1회로 저장
+     *
+     * - 상태 JSON은 큐에서 꺼낸 요청 객체로 구성 (상태 키 재조회 없음)
+     * - 상태 키는 SET XX로 갱신하여 만료된 요청을 되살리지 않음 (updateStatus와 동일)
+     */
+    private void saveResultsPipelined(List<CouponRequest> requests, Map<String, IssueCouponResponse> responses) {
+        if (requests.isEmpty()) {
+            return;
+        }
+
+        Map<String, String> stateJsons = new LinkedHashMap<>();
+        Map<String, String> resultJsons = new LinkedHashMap<>();
+        for (CouponRequest request : requests) {
+            try {
+                stateJsons.put(RedisKeyType.STATE_COUPON_REQUEST.buildKey(request.getRequestId()),
+                        objectMapper.writeValueAsString(request));
+                IssueCouponResponse response = responses.get(request.getRequestId());
+                if (response != null) {
+                    resultJsons.put(RedisKeyType.STATE_COUPON_RESULT.buildKey(request.getRequestId()),
+                            objectMapper.writeValueAsString(response));
+                }
+            } catch (Exception e) {
+                log.error("[CouponQueue] 결과 직렬화 실패: requestId={}", request.getRequestId(), e);
+            }
+        }
+
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    // 결과를 먼저 기록해야 COMPLETED 조회 시 결과가 비어 있지 않음
+                    // TTL은 키마다 계산 (지터로 같은 배치 키의 동시 만료 방지)
+                    resultJsons.forEach((key, json) -> ops.opsForValue().set(key, json,
+                            adaptiveTTLService.getEffectiveTTL(RedisKeyType.STATE_COUPON_RESULT)));
+                    stateJsons.forEach((key, json) -> ops.opsForValue().setIfPresent(key, json,
+                            adaptiveTTLService.getEffectiveTTL(RedisKeyType.STATE_COUPON_REQUEST)));
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            log.error("[CouponQueue] 배치 결과 저장 실패: count={}", requests.size(), e);
+        }
+    }
+
     /**
      * 요청 상태 조회
      *
@@ -349,6 +547,7 @@ public class CouponQueueService {
         try {
             String stateJson = redisTemplate.opsForValue()
                 .get(RedisKeyType.STATE_COUPON_REQUEST.buildKey(requestId));
+            adaptiveTTLService.recordAccess(RedisKeyType.STATE_COUPON_REQUEST, stateJson != null);
 
             if (stateJson == null) {
                 log.debug("[CouponQueue] 요청을 찾을 수 없음: requestId={}", requestId);
@@ -361,6 +560,7 @@ public class CouponQueueService {
             if ("COMPLETED".equals(request.getStatus())) {
                 String resultJson = redisTemplate.opsForValue()
                     .get(RedisKeyType.STATE_COUPON_RESULT.buildKey(requestId));
+                adaptiveTTLService.recordAccess(RedisKeyType.STATE_COUPON_RESULT, resultJson != null);
 
                 if (resultJson != null) {
                     IssueCouponResponse result = objectMapper
@@ -412,6 +612,15 @@ public class CouponQueueService {
         }
     }
 
+    /**
+     * 큐에서 꺼낸 요청 (재시도 큐 이동 시 원본 JSON 유지)
+     */
+    @lombok.AllArgsConstructor
+    private static class QueuedRequest {
+        private final CouponRequest request;
+        private final String json;
+    }
+
     /**
      * 큐 통계 DTO
      */
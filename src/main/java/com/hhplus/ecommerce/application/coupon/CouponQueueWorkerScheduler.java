@@ -0,0 +1,34 @@
+package com.hhplus.ecommerce.application.coupon;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * CouponQueueWorkerScheduler - 쿠폰 발급 큐 워커 주기 실행
+ *
+ * - processCouponQueue(): 10ms마다 대기 큐 처리
+ * - processRetryQueue(): 1분마다 재시도 큐 처리 (30초 후 시작)
+ * - coupon.queue.worker.enabled=false면 빈을 만들지 않음
+ *   → 통합 테스트는 워커를 끄고 processCouponQueue()를 직접 호출해 큐 상태를 검증
+ */
+@Component
+@ConditionalOnProperty(name = "coupon.queue.worker.enabled", havingValue = "true", matchIfMissing = true)
+public class CouponQueueWorkerScheduler {
+
+    private final CouponQueueService couponQueueService;
+
+    public CouponQueueWorkerScheduler(CouponQueueService couponQueueService) {
+        this.couponQueueService = couponQueueService;
+    }
+
+    @Scheduled(fixedRate = 10)
+    public void processCouponQueue() {
+        couponQueueService.processCouponQueue();
+    }
+
+    @Scheduled(fixedRate = 60000, initialDelay = 30000)
+    public void processRetryQueue() {
+        couponQueueService.processRetryQueue();
+    }
+}
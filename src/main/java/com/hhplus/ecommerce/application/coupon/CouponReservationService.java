@@ -0,0 +1,367 @@
+package com.hhplus.ecommerce.application.coupon;
+
+import com.hhplus.ecommerce.application.coupon.dto.CouponBatchIssueResult;
+import com.hhplus.ecommerce.application.inventory.StripedStockService;
+import com.hhplus.ecommerce.domain.coupon.Coupon;
+import com.hhplus.ecommerce.domain.coupon.CouponAlreadyIssuedException;
+import com.hhplus.ecommerce.domain.coupon.CouponIssueFailureCode;
+import com.hhplus.ecommerce.domain.coupon.CouponRepository;
+import com.hhplus.ecommerce.domain.coupon.CouponReservationRepository;
+import com.hhplus.ecommerce.domain.coupon.CouponReservationResult;
+import com.hhplus.ecommerce.domain.coupon.UserCouponRepository;
+import com.hhplus.ecommerce.presentation.coupon.response.IssueCouponResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * CouponReservationService - 선착순 쿠폰 예약 게이트 (DB 락 앞단)
+ *
+ * 문제:
+ * - 선착순 이벤트 시 모든 요청이 같은 coupons 행에 SELECT ... FOR UPDATE
+ * - MySQL이 전체 버스트를 하나의 행 락으로 직렬화 (재고 소진 후에도 계속 락 대기)
+ *
+ * 해결:
+ * - Redis Lua 게이트로 재고/중복을 먼저 판정 (네트워크 왕복 1회)
+ * - 승자(RESERVED)만 CouponService.issueCouponWithLock() 경로로 진입
+ * - 패자(SOLD_OUT, DUPLICATE)는 DB 락 없이 즉시 거절
+ *
+ * 정합성:
+ * - DB 비관적 락 경로는 그대로 유지 → 초과 발급 방지는 DB가 최종 보장
+ * - 게이트는 "DB에 도달하는 요청 수"만 줄이는 admission control
+ * - DB 발급 실패 시 예약 취소(release)로 카운터 복구
+ *   (실패 판정은 CouponIssueFailureCode/CouponAlreadyIssuedException 타입으로, 메시지 문자열에 의존하지 않음)
+ * - reconcileReservedStock()이 주기적으로 카운터 드리프트와 고아 예약 사용자를 감지/보정
+ * - 시딩/보정 기준은 발급 가능 수량 (remaining_qty + 재고 버킷 잔여분, StripedStockService)
+ *   → 재고 분할로 remaining_qty가 0인 핫 쿠폰을 매진으로 판정하지 않음
+ * - 보정 시에는 컨슈머가 임대했지만 아직 발급하지 않은 재고(CouponStockLeaseService)도 발급 가능 수량에 포함
+ *   → 임대분만큼 카운터를 낮춰 거짓 SOLD_OUT을 내지 않음
+ *
+ * 장애 대응:
+ * - Redis 장애 시 BYPASSED로 기존 DB 경로 그대로 사용 (fail-open)
+ * - coupon.reservation.enabled=false(기본값)면 게이트 전체 비활성화
+ */
+@Service
+public class CouponReservationService {
+
+    private static final Logger log = LoggerFactory.getLogger(CouponReservationService.class);
+
+    /** 예약 사용자 DB 발급 여부 확인 시 IN 절 최대 크기 */
+    private static final int ISSUED_LOOKUP_CHUNK_SIZE = 1000;
+
+    private final CouponReservationRepository couponReservationRepository;
+    private final CouponRepository couponRepository;
+    private final UserCouponRepository userCouponRepository;
+    private final CouponService couponService;
+    private final StripedStockService stripedStockService;
+    private final CouponQueueInspector couponQueueInspector;
+    private final CouponStockLeaseService couponStockLeaseService;
+    private final boolean enabled;
+
+    /** 직전 정합성 점검에서 관측한 (Redis 카운터, DB 잔여 수량) - 고착 드리프트 판정용 */
+    private final Map<Long, DriftObservation> lastObservations = new ConcurrentHashMap<>();
+
+    /** 직전 정합성 점검에서 DB 발급 없이 예약 사용자 Set에 남아 있던 사용자 - 고아 판정용 */
+    private final Map<Long, Set<Long>> lastOrphanCandidates = new ConcurrentHashMap<>();
+
+    public CouponReservationService(CouponReservationRepository couponReservationRepository,
+                                    CouponRepository couponRepository,
+                                    UserCouponRepository userCouponRepository,
+                                    CouponService couponService,
+                                    StripedStockService stripedStockService,
+                                    CouponQueueInspector couponQueueInspector,
+                                    CouponStockLeaseService couponStockLeaseService,
+                                    @Value("${coupon.reservation.enabled:false}") boolean enabled) {
+        this.couponReservationRepository = couponReservationRepository;
+        this.couponRepository = couponRepository;
+        this.userCouponRepository = userCouponRepository;
+        this.couponService = couponService;
+        this.stripedStockService = stripedStockService;
+        this.couponQueueInspector = couponQueueInspector;
+        this.couponStockLeaseService = couponStockLeaseService;
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 예약 시도 (재고 카운터가 없으면 DB 발급 가능 수량으로 시딩 후 1회 재시도)
+     *
+     * @param userId 사용자 ID
+     * @param couponId 쿠폰 ID
+     * @return 예약 결과 (isAdmitted()가 true일 때만 DB 발급 진행)
+     */
+    public CouponReservationResult reserve(Long userId, Long couponId) {
+        if (!enabled) {
+            return CouponReservationResult.BYPASSED;
+        }
+
+        try {
+            CouponReservationResult result = couponReservationRepository.reserve(couponId, userId);
+
+            if (result == CouponReservationResult.NOT_INITIALIZED) {
+                Optional<Coupon> coupon = couponRepository.findById(couponId);
+                if (coupon.isEmpty()) {
+                    // 존재하지 않는 쿠폰은 DB 경로에서 CouponNotFoundException으로 처리
+                    return CouponReservationResult.BYPASSED;
+                }
+                couponReservationRepository.seedIfAbsent(couponId,
+                        stripedStockService.getAvailableQuantity(coupon.get()));
+                result = couponReservationRepository.reserve(couponId, userId);
+            }
+
+            if (result == CouponReservationResult.NOT_INITIALIZED) {
+                return CouponReservationResult.BYPASSED;
+            }
+
+            log.debug("[CouponReservation] 예약 판정: userId={}, couponId={}, result={}", userId, couponId, result);
+            return result;
+
+        } catch (Exception e) {
+            log.warn("[CouponReservation] 게이트 오류, DB 경로로 우회: userId={}, couponId={}, error={}",
+                    userId, couponId, e.getMessage());
+            return CouponReservationResult.BYPASSED;
+        }
+    }
+
+    /**
+     * DB 발급 실패 시 예약 취소 (동기 경로 - 재전달 없음)
+     *
+     * @param userId 사용자 ID
+     * @param couponId 쿠폰 ID
+     * @param cause DB 발급 실패 원인
+     */
+    public void release(Long userId, Long couponId, Exception cause) {
+        release(userId, couponId, cause, null);
+    }
+
+    /**
+     * DB 발급 실패 시 예약 취소
+     *
+     * - 중복 발급(CouponAlreadyIssuedException): 재고만 복구, 사용자 기록 유지
+     *   단, 기존 발급이 이 요청 이후에 생긴 것이면 같은 요청의 재처리(Kafka 재전달, 재시도 큐)로 보고 복구하지 않음
+     * - 그 외 실패: 재고 복구 + 사용자 기록 제거 (재요청 허용)
+     *
+     * @param userId 사용자 ID
+     * @param couponId 쿠폰 ID
+     * @param cause DB 발급 실패 원인
+     * @param requestedAt 예약(요청) 시각 (모르면 null → 재처리가 아닌 것으로 봄)
+     */
+    public void release(Long userId, Long couponId, Exception cause, LocalDateTime requestedAt) {
+        if (cause instanceof CouponAlreadyIssuedException alreadyIssued) {
+            releaseAlreadyIssued(userId, couponId, alreadyIssued.getIssuedAt(), requestedAt);
+            return;
+        }
+        release(userId, couponId, false);
+    }
+
+    /**
+     * DB 발급 실패 시 예약 취소 (배치 발급 결과)
+     *
+     * @param userId 사용자 ID
+     * @param couponId 쿠폰 ID
+     * @param result 배치 발급 결과 (성공이면 NOOP)
+     * @param requestedAt 예약(요청) 시각 (모르면 null)
+     */
+    public void release(Long userId, Long couponId, CouponBatchIssueResult result, LocalDateTime requestedAt) {
+        if (result.isSuccess()) {
+            return;
+        }
+        if (result.getFailureCode() == CouponIssueFailureCode.ALREADY_ISSUED) {
+            releaseAlreadyIssued(userId, couponId, result.getExistingIssuedAt(), requestedAt);
+            return;
+        }
+        release(userId, couponId, false);
+    }
+
+    /**
+     * 기존 발급 시각이 요청 시각 이후면 이 요청이 이미 발급에 성공한 것 (재처리)
+     * → 예약 재고는 그 발급이 소비했으므로 복구하지 않음 (복구하면 재전달마다 카운터가 중복 INCR)
+     */
+    private void releaseAlreadyIssued(Long userId, Long couponId,
+                                      LocalDateTime existingIssuedAt, LocalDateTime requestedAt) {
+        if (requestedAt != null && existingIssuedAt != null && !existingIssuedAt.isBefore(requestedAt)) {
+            log.info("[CouponReservation] 동일 요청 재처리로 판단, 예약 유지: userId={}, couponId={}, " +
+                    "requestedAt={}, issuedAt={}", userId, couponId, requestedAt, existingIssuedAt);
+            return;
+        }
+        release(userId, couponId, true);
+    }
+
+    private void release(Long userId, Long couponId, boolean keepUser) {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            boolean released = couponReservationRepository.release(couponId, userId, keepUser);
+            log.info("[CouponReservation] 예약 취소: userId={}, couponId={}, keepUser={}, released={}",
+                    userId, couponId, keepUser, released);
+        } catch (Exception e) {
+            // 카운터 복구 실패는 정합성 점검 잡이 보정
+            log.warn("[CouponReservation] 예약 취소 실패 (정합성 점검에서 보정): userId={}, couponId={}, error={}",
+                    userId, couponId, e.getMessage());
+        }
+    }
+
+    /**
+     * 동기 쿠폰 발급 (게이트 → DB 비관적 락 경로)
+     *
+     * @param userId 사용자 ID
+     * @param couponId 쿠폰 ID
+     * @return 발급된 쿠폰 정보
+     * @throws IllegalArgumentException 게이트 거절 (소진, 중복) 또는 DB 발급 불가
+     */
+    public IssueCouponResponse issueCoupon(Long userId, Long couponId) {
+        CouponReservationResult reservation = reserve(userId, couponId);
+        if (!reservation.isAdmitted()) {
+            throw new IllegalArgumentException(reservation.getRejectMessage());
+        }
+
+        try {
+            return couponService.issueCoupon(userId, couponId);
+        } catch (RuntimeException e) {
+            if (reservation == CouponReservationResult.RESERVED) {
+                release(userId, couponId, e);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 예약 재고 정합성 점검 (드리프트 감지/보정)
+     *
+     * 판정 기준 (DB remaining_qty가 Source of Truth):
+     * - DB 값 = 발급 가능 수량 + 이 노드의 미발급 임대 재고 (임대분은 remaining_qty에서 빠졌지만 아직 발급 전)
+     * - Redis > DB: 게이트를 거치지 않은 발급 등으로 카운터가 과대 → 즉시 DB 값으로 하향 보정
+     *   - 재고 임대 사용 시에는 다른 노드의 임대분을 알 수 없으므로 연속 관측 시에만 보정
+     *     (임대분은 사용되면 값이 바뀌고, 유휴 임대분은 idle-release-ms 안에 반납되어 DB 값에 반영됨)
+     * - Redis < DB: 처리 중인 승자(in-flight)일 수 있음
+     *   → 직전 점검과 동일한 값이 유지되면 고착 드리프트(유실된 release)로 보고 보정
+     *
+     * 보정은 Compare-And-Set으로 수행하여 점검 중 끼어든 예약을 덮어쓰지 않음
+     *
+     * 예약 사용자 Set:
+     * - DB 발급 없이 Set에 남은 사용자는 처리 중이거나 release가 유실된 것
+     * - 대기/재시도 큐에 요청이 남아 있는 사용자는 처리 중이므로 후보에서 제외 (CouponQueueInspector)
+     *   큐 스냅샷을 DB 발급 조회보다 먼저 읽어, 스냅샷 이후 꺼내진 요청은 발급 조회에 반영되도록 함
+     * - 연속 두 번의 점검에서 계속 발급 없이 남아 있으면 고아로 보고 Set에서 제거 (재요청 허용)
+     *   카운터는 위 드리프트 보정이 DB 기준으로 맞추므로 여기서는 건드리지 않음
+     *
+     * @return 보정된 쿠폰 수
+     */
+    @Scheduled(fixedRate = 60000, initialDelay = 60000)
+    public int reconcileReservedStock() {
+        if (!enabled) {
+            return 0;
+        }
+
+        int corrected = 0;
+        try {
+            Map<Long, Set<Long>> queuedUsers = couponQueueInspector.findQueuedUsers();
+            List<Coupon> coupons = couponRepository.findAllAvailable();
+            for (Coupon coupon : coupons) {
+                boolean stockCorrected = reconcile(coupon);
+                boolean usersCorrected = reconcileReservedUsers(coupon.getCouponId(),
+                        queuedUsers.getOrDefault(coupon.getCouponId(), Set.of()));
+                if (stockCorrected || usersCorrected) {
+                    corrected++;
+                }
+            }
+        } catch (Exception e) {
+            log.error("[CouponReservation] 정합성 점검 실패: error={}", e.getMessage(), e);
+        }
+
+        if (corrected > 0) {
+            log.warn("[CouponReservation] 예약 재고 드리프트 보정 완료: count={}", corrected);
+        }
+        return corrected;
+    }
+
+    private boolean reconcile(Coupon coupon) {
+        Long couponId = coupon.getCouponId();
+        Optional<Integer> reservedStock = couponReservationRepository.getReservedStock(couponId);
+        if (reservedStock.isEmpty()) {
+            lastObservations.remove(couponId);
+            return false;
+        }
+
+        int redisQty = reservedStock.get();
+        int dbQty = stripedStockService.getAvailableQuantity(coupon)
+                + couponStockLeaseService.getOutstandingQuantity(couponId);
+        DriftObservation current = new DriftObservation(redisQty, dbQty);
+        DriftObservation previous = lastObservations.put(couponId, current);
+
+        if (redisQty == dbQty) {
+            lastObservations.remove(couponId);
+            return false;
+        }
+
+        boolean stuck = current.equals(previous);
+        boolean mayBeInFlight = redisQty < dbQty || couponStockLeaseService.isEnabled();
+        if (mayBeInFlight && !stuck) {
+            log.debug("[CouponReservation] 드리프트 관측 (in-flight/임대 가능): couponId={}, redis={}, db={}",
+                    couponId, redisQty, dbQty);
+            return false;
+        }
+
+        boolean updated = couponReservationRepository.compareAndSetStock(couponId, redisQty, dbQty);
+        if (updated) {
+            lastObservations.remove(couponId);
+            log.warn("[CouponReservation] 예약 재고 보정: couponId={}, redis={} → db={}", couponId, redisQty, dbQty);
+        }
+        return updated;
+    }
+
+    private boolean reconcileReservedUsers(Long couponId, Set<Long> queuedUsers) {
+        Set<Long> reservedUsers = couponReservationRepository.getReservedUsers(couponId);
+        if (reservedUsers.isEmpty()) {
+            lastOrphanCandidates.remove(couponId);
+            return false;
+        }
+
+        Set<Long> candidates = new HashSet<>(reservedUsers);
+        candidates.removeAll(queuedUsers);
+        List<Long> members = new ArrayList<>(reservedUsers);
+        for (int from = 0; from < members.size(); from += ISSUED_LOOKUP_CHUNK_SIZE) {
+            List<Long> chunk = members.subList(from, Math.min(from + ISSUED_LOOKUP_CHUNK_SIZE, members.size()));
+            candidates.removeAll(userCouponRepository.findIssuedUserIds(couponId, chunk));
+        }
+
+        Set<Long> previous = lastOrphanCandidates.getOrDefault(couponId, Set.of());
+        Set<Long> orphans = new HashSet<>(candidates);
+        orphans.retainAll(previous);
+        candidates.removeAll(orphans);
+        if (candidates.isEmpty()) {
+            lastOrphanCandidates.remove(couponId);
+        } else {
+            lastOrphanCandidates.put(couponId, candidates);
+        }
+
+        if (orphans.isEmpty()) {
+            return false;
+        }
+        long removed = couponReservationRepository.removeReservedUsers(couponId, orphans);
+        log.warn("[CouponReservation] 고아 예약 사용자 정리: couponId={}, count={}", couponId, removed);
+        return removed > 0;
+    }
+
+    /**
+     * 정합성 점검 관측값
+     */
+    private record DriftObservation(int reservedQty, int remainingQty) {
+    }
+}
@@ -1,12 +1,18 @@
 package com.hhplus.ecommerce.application.coupon;
 
+import com.hhplus.ecommerce.application.coupon.dto.CouponBatchIssueResult;
+import com.hhplus.ecommerce.application.inventory.StripedStockService;
 import com.hhplus.ecommerce.domain.coupon.Coupon;
 import com.hhplus.ecommerce.domain.coupon.UserCoupon;
 import com.hhplus.ecommerce.domain.coupon.UserCouponStatus;
 import com.hhplus.ecommerce.domain.coupon.CouponNotFoundException;
+import com.hhplus.ecommerce.domain.coupon.CouponAlreadyIssuedException;
+import com.hhplus.ecommerce.domain.coupon.CouponIssueFailureCode;
 import com.hhplus.ecommerce.domain.coupon.CouponRepository;
 import com.hhplus.ecommerce.domain.coupon.UserCouponRepository;
+import com.hhplus.ecommerce.domain.coupon.event.CouponIssueRequest;
 import com.hhplus.ecommerce.domain.coupon.event.CouponIssuedEvent;
+import com.hhplus.ecommerce.domain.stock.StockBucketType;
 import com.hhplus.ecommerce.domain.user.UserNotFoundException;
 import com.hhplus.ecommerce.domain.user.UserRepository;
 import com.hhplus.ecommerce.domain.order.ChildTransactionEvent;
@@ -25,8 +31,15 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 /**
@@ -48,6 +61,8 @@ import java.util.stream.Collectors;
  * - synchronized 키워드 제거 (단일 인스턴스 전용, 분산 환경 미지원)
  * - 원자적 감소: remaining_qty--, version++
  * - UNIQUE(user_id, coupon_id) 제약으로 중복 발급 방지
+ * - 핫 쿠폰은 StripedStockService의 재고 버킷에서 차감 (쿠폰 행 락 우회)
+ * - 재고 분할 중 쿠폰 행 remaining_qty는 0일 수 있음 → 단건/배치/임대 모두 행이 부족하면 버킷에서 차감
  *
  * 흐름 (sequence-diagrams.md 5번 기반):
  * 1. 사용자 존재 검증 (읽기 전용)
@@ -69,19 +84,22 @@ public class CouponService {
     private final ChildTransactionEventRepository childTransactionEventRepository;
     private final ObjectMapper objectMapper;
     private final ApplicationEventPublisher eventPublisher;
+    private final StripedStockService stripedStockService;
 
     public CouponService(CouponRepository couponRepository,
                          UserCouponRepository userCouponRepository,
                          UserRepository userRepository,
                          ChildTransactionEventRepository childTransactionEventRepository,
                          ObjectMapper objectMapper,
-                         ApplicationEventPublisher eventPublisher) {
+                         ApplicationEventPublisher eventPublisher,
+                         StripedStockService stripedStockService) {
         this.couponRepository = couponRepository;
         this.userCouponRepository = userCouponRepository;
         this.userRepository = userRepository;
         this.childTransactionEventRepository = childTransactionEventRepository;
         this.objectMapper = objectMapper;
         this.eventPublisher = eventPublisher;
+        this.stripedStockService = stripedStockService;
     }
 
     /**
@@ -210,6 +228,11 @@ public class CouponService {
      * @return 발급된 쿠폰 정보
      */
     private IssueCouponResponse issueCouponWithLockInternal(Long userId, Long couponId, Long orderId) {
+        // 핫 쿠폰(재고 분할): 버킷에서 차감되면 쿠폰 행 락 없이 발급
+        if (stripedStockService.tryDeduct(StockBucketType.COUPON, couponId, 1)) {
+            return issueCouponFromStripedStock(userId, couponId, orderId);
+        }
+
         // === 2단계: DB 레벨 비관적 락 획득 ===
         // SELECT coupons WHERE coupon_id=? FOR UPDATE
         // 다른 트랜잭션의 접근을 자동으로 차단함 (synchronized 제거됨)
@@ -230,26 +253,61 @@ public class CouponService {
             throw new IllegalArgumentException("쿠폰이 유효기간을 벗어났습니다");
         }
 
-        // 5. 재고 검증 (remaining_qty > 0)
+        // 5. 재고 검증 (remaining_qty > 0, 분할 중이면 재고 버킷에서 차감)
         if (!coupon.hasStock()) {
-            throw new IllegalArgumentException("쿠폰이 모두 소진되었습니다");
+            // 다른 인스턴스가 분할해 로컬 힌트가 없는 경우 포함 (쿠폰 행 락을 잡은 채 버킷 확인)
+            if (!stripedStockService.deductOnRowShortage(StockBucketType.COUPON, couponId, 1)) {
+                throw new IllegalArgumentException("쿠폰이 모두 소진되었습니다");
+            }
+            Integer remainingQty = coupon.getRemainingQty();
+            return completeIssue(userId, couponId, coupon, orderId, remainingQty, remainingQty);
         }
 
         // === 6단계: 원자적 감소 (UPDATE) ===
         // Domain 메서드 활용: 비즈니스 로직 캡슐화
         // Coupon.decreaseStock()이 remaining_qty--, version++, is_active 관리
         Integer remainingQtyBefore = coupon.getRemainingQty();
-        coupon.decreaseStock();
+        decreaseRowStock(coupon, 1);
         Integer remainingQtyAfter = coupon.getRemainingQty();
         couponRepository.update(coupon);
 
+        return completeIssue(userId, couponId, coupon, orderId, remainingQtyBefore, remainingQtyAfter);
+    }
+
+    /**
+     * 재고 버킷에서 차감된 쿠폰 발급 (쿠폰 행 락 없음)
+     *
+     * - 재고는 StripedStockService가 버킷 행에서 이미 차감 (현재 트랜잭션에 참여)
+     * - 활성화/유효기간 검증은 락 없는 조회로 수행
+     * - 검증/중복 실패 시 예외 → 트랜잭션 롤백으로 버킷 차감도 복구
+     */
+    private IssueCouponResponse issueCouponFromStripedStock(Long userId, Long couponId, Long orderId) {
+        Coupon coupon = couponRepository.findById(couponId)
+                .orElseThrow(() -> new CouponNotFoundException(couponId));
+
+        if (!coupon.isActiveCoupon()) {
+            throw new IllegalArgumentException("쿠폰이 비활성화되어 있습니다");
+        }
+        if (!coupon.isValidPeriod(LocalDateTime.now())) {
+            throw new IllegalArgumentException("쿠폰이 유효기간을 벗어났습니다");
+        }
+
+        // 쿠폰 행의 remaining_qty는 변하지 않음 (버킷 차감)
+        Integer remainingQty = coupon.getRemainingQty();
+        return completeIssue(userId, couponId, coupon, orderId, remainingQty, remainingQty);
+    }
+
+    /**
+     * 재고 차감 이후 발급 단계 (7~9단계 + Outbox Event 저장)
+     */
+    private IssueCouponResponse completeIssue(Long userId, Long couponId, Coupon coupon, Long orderId,
+                                              Integer remainingQtyBefore, Integer remainingQtyAfter) {
         // === 7단계: UNIQUE 검증 ===
         // UNIQUE(user_id, coupon_id) 제약 확인
         // DB 제약 조건으로 중복 발급 방지 (별도 락 불필요)
-        boolean alreadyIssued = userCouponRepository.findByUserIdAndCouponId(userId, couponId)
-                .isPresent();
-        if (alreadyIssued) {
-            throw new IllegalArgumentException("이 쿠폰은 이미 발급받으셨습니다");
+        Optional<UserCoupon> alreadyIssued = userCouponRepository.findByUserIdAndCouponId(userId, couponId);
+        if (alreadyIssued.isPresent()) {
+            throw new CouponAlreadyIssuedException(userId, couponId, alreadyIssued.get().getIssuedAt());
         }
 
         // === 8단계: 발급 기록 저장 ===
@@ -327,6 +385,340 @@ public class CouponService {
         return IssueCouponResponse.from(savedUserCoupon, coupon);
     }
 
+    /**
+     * 쿠폰 배치 발급 (동일 쿠폰에 대한 여러 요청을 하나의 트랜잭션으로 처리)
+     *
+     * 호출 경로:
+     * - CouponQueueService 배치 워커 (coupon.queue.batch.enabled=true)
+     * - issueCouponRequests() (Kafka 배치 리스너)
+     *
+     * 단건 발급(issueCouponWithLock)을 N번 반복하는 것과 동일한 발급 결과를 보장:
+     * - 요청 순서(FIFO)대로 재고 → 중복 순으로 판정
+     * - 재고가 중간에 소진되면 이후 요청은 SOLD_OUT으로 실패
+     *   (decreaseStock()이 is_active=false로 바꾸지만, 쿠폰이 비활성이었던 것은 아니므로 INACTIVE로 보고하지 않음)
+     * - 재고 분할 중이면 쿠폰 행 재고를 먼저 쓰고 부족분은 재고 버킷에서 차감 (쿠폰 행 락 → 버킷 락)
+     * - 중복 요청은 재고를 차감하지 않음 (배치 내 동일 사용자 중복 포함)
+     *
+     * DB 왕복:
+     * - 행 락 1회 (SELECT ... FOR UPDATE)
+     * - 중복 검증 IN 쿼리 1회 (기존 발급 시각 포함 → 중복 사용자별 추가 조회 없음)
+     * - 재고 차감 UPDATE 1회
+     * - user_coupons 다건 INSERT 1회 + 발급 ID 재조회 1회
+     *
+     * 쿠폰 자체가 발급 불가(비활성, 기간 만료)이면 전체 요청이 동일 사유로 실패
+     *
+     * @param couponId 쿠폰 ID
+     * @param userIds 요청 순서대로 정렬된 사용자 ID 목록
+     * @return 사용자별 발급 결과 (입력 순서 유지)
+     * @throws CouponNotFoundException 쿠폰을 찾을 수 없음
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<CouponBatchIssueResult> issueCouponBatch(Long couponId, List<Long> userIds) {
+        return issueCouponBatchInternal(couponId, userIds);
+    }
+
+    /**
+     * Kafka 발급 요청 일괄 처리 (배치 리스너용)
+     *
+     * - 요청을 couponId별로 묶어 쿠폰당 행 락 1회 + 재고 차감 1회 + 다건 INSERT 1회
+     * - 여러 쿠폰의 행 락은 couponId 오름차순으로 획득 (컨슈머 스레드 간 데드락 방지)
+     * - 전체가 하나의 트랜잭션 → 호출자는 반환 후(커밋 후)에만 Offset을 커밋해야 함
+     * - 없는 쿠폰에 대한 요청은 NOT_FOUND 실패 결과 (다른 쿠폰 그룹의 발급은 그대로 커밋)
+     *   → 행 락 조회에서 판정하므로 해당 그룹은 아무것도 쓰지 않은 상태
+     *
+     * @param requests Kafka에서 poll한 발급 요청 목록
+     * @return 요청별 발급 결과 (입력 순서 유지)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<CouponBatchIssueResult> issueCouponRequests(List<CouponIssueRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            return List.of();
+        }
+
+        // couponId 오름차순으로 그룹핑 (그룹 내 요청 순서 유지)
+        Map<Long, List<Integer>> indexesByCoupon = new TreeMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            indexesByCoupon.computeIfAbsent(requests.get(i).getCouponId(), k -> new ArrayList<>()).add(i);
+        }
+
+        CouponBatchIssueResult[] results = new CouponBatchIssueResult[requests.size()];
+        for (Map.Entry<Long, List<Integer>> entry : indexesByCoupon.entrySet()) {
+            List<Integer> indexes = entry.getValue();
+            List<Long> userIds = indexes.stream()
+                    .map(i -> requests.get(i).getUserId())
+                    .collect(Collectors.toList());
+
+            List<CouponBatchIssueResult> groupResults;
+            try {
+                groupResults = issueCouponBatchInternal(entry.getKey(), userIds);
+            } catch (CouponNotFoundException e) {
+                log.warn("[CouponService] 없는 쿠폰 발급 요청 실패 처리: couponId={}, requests={}",
+                        entry.getKey(), userIds.size());
+                groupResults = userIds.stream()
+                        .map(userId -> CouponBatchIssueResult.failure(userId, CouponIssueFailureCode.NOT_FOUND))
+                        .collect(Collectors.toList());
+            }
+            for (int j = 0; j < indexes.size(); j++) {
+                results[indexes.get(j)] = groupResults.get(j);
+            }
+        }
+        return List.of(results);
+    }
+
+    private List<CouponBatchIssueResult> issueCouponBatchInternal(Long couponId, List<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return List.of();
+        }
+
+        // 1. 행 락 1회
+        Coupon coupon = couponRepository.findByIdForUpdate(couponId)
+                .orElseThrow(() -> new CouponNotFoundException(couponId));
+
+        // 2. 쿠폰 단위 검증 (실패 시 전체 거절)
+        CouponIssueFailureCode couponRejectCode = null;
+        if (!coupon.isActiveCoupon()) {
+            couponRejectCode = CouponIssueFailureCode.INACTIVE;
+        } else if (!coupon.isValidPeriod(LocalDateTime.now())) {
+            couponRejectCode = CouponIssueFailureCode.EXPIRED;
+        }
+        if (couponRejectCode != null) {
+            CouponIssueFailureCode code = couponRejectCode;
+            return userIds.stream()
+                    .map(userId -> CouponBatchIssueResult.failure(userId, code))
+                    .collect(Collectors.toList());
+        }
+
+        // 3. 중복 검증 IN 쿼리 1회 (기존 발급 시각도 함께 조회)
+        Map<Long, LocalDateTime> previouslyIssuedAt = new HashMap<>();
+        for (UserCoupon issued : userCouponRepository.findIssuedByUserIds(couponId, new LinkedHashSet<>(userIds))) {
+            previouslyIssuedAt.put(issued.getUserId(), issued.getIssuedAt());
+        }
+        Set<Long> previouslyIssuedUserIds = previouslyIssuedAt.keySet();
+        Set<Long> issuedUserIds = new HashSet<>(previouslyIssuedUserIds);
+
+        // 4. 발급 가능 수량 = 쿠폰 행 재고 + (행으로 부족하면) 재고 버킷에서 미리 차감한 수량
+        //    중복이 아닌 사용자 수만큼만 버킷에서 가져오므로 차감분은 모두 발급에 사용됨
+        long newUserCount = userIds.stream()
+                .filter(userId -> !previouslyIssuedUserIds.contains(userId))
+                .distinct()
+                .count();
+        int fromBuckets = stripedStockService.takeUpTo(StockBucketType.COUPON, couponId,
+                (int) Math.max(0, newUserCount - coupon.getRemainingQty()));
+
+        // 5. FIFO 순서로 사용자별 판정
+        int availableQty = coupon.getRemainingQty() + fromBuckets;
+        LocalDateTime issuedAt = LocalDateTime.now();
+        List<UserCoupon> toIssue = new ArrayList<>();
+        List<CouponBatchIssueResult> rejections = new ArrayList<>(userIds.size());
+
+        for (Long userId : userIds) {
+            CouponBatchIssueResult rejection = null;
+            if (toIssue.size() >= availableQty) {
+                // 배치 도중 소진돼도 쿠폰 자체는 활성 상태였으므로 INACTIVE가 아닌 SOLD_OUT
+                rejection = CouponBatchIssueResult.failure(userId, CouponIssueFailureCode.SOLD_OUT);
+            } else if (!issuedUserIds.add(userId)) {
+                // 기존 발급이면 DB 발급 시각, 같은 배치 안의 중복(재전달)이면 이번 배치 발급 시각
+                LocalDateTime existingIssuedAt = previouslyIssuedUserIds.contains(userId)
+                        ? previouslyIssuedAt.get(userId)
+                        : issuedAt;
+                rejection = CouponBatchIssueResult.alreadyIssued(userId, existingIssuedAt);
+            } else {
+                toIssue.add(UserCoupon.builder()
+                        .userId(userId)
+                        .couponId(couponId)
+                        .status(UserCouponStatus.UNUSED)
+                        .issuedAt(issuedAt)
+                        .usedAt(null)
+                        .build());
+            }
+            rejections.add(rejection);
+        }
+
+        if (toIssue.isEmpty()) {
+            return buildBatchResults(userIds, rejections, Map.of(), coupon);
+        }
+
+        // 6. 재고 차감 UPDATE 1회 (버킷 차감분 제외)
+        Integer remainingQtyBefore = coupon.getRemainingQty();
+        int fromRow = toIssue.size() - fromBuckets;
+        if (fromRow > 0) {
+            decreaseRowStock(coupon, fromRow);
+            couponRepository.update(coupon);
+        }
+        Integer remainingQtyAfter = coupon.getRemainingQty();
+
+        // 7. user_coupons 다건 INSERT 1회
+        Map<Long, UserCoupon> savedByUserId = userCouponRepository.saveAllInBatch(toIssue).stream()
+                .collect(Collectors.toMap(UserCoupon::getUserId, uc -> uc));
+
+        log.info("[CouponService] 쿠폰 배치 발급 완료: couponId={}, requested={}, issued={}, remaining_qty={}",
+                couponId, userIds.size(), toIssue.size(), remainingQtyAfter);
+
+        // 8. 배치당 CouponIssuedEvent 1회 (AFTER_COMMIT 캐시 무효화)
+        try {
+            eventPublisher.publishEvent(new CouponIssuedEvent(
+                    couponId,
+                    toIssue.get(toIssue.size() - 1).getUserId(),
+                    remainingQtyBefore,
+                    remainingQtyAfter
+            ));
+        } catch (Exception e) {
+            log.warn("[CouponService] CouponIssuedEvent 발행 실패 (무시됨): couponId={}, error={}",
+                    couponId, e.getMessage());
+        }
+
+        return buildBatchResults(userIds, rejections, savedByUserId, coupon);
+    }
+
+    private List<CouponBatchIssueResult> buildBatchResults(List<Long> userIds,
+                                                           List<CouponBatchIssueResult> rejections,
+                                                           Map<Long, UserCoupon> savedByUserId,
+                                                           Coupon coupon) {
+        List<CouponBatchIssueResult> results = new ArrayList<>(userIds.size());
+        for (int i = 0; i < userIds.size(); i++) {
+            Long userId = userIds.get(i);
+            CouponBatchIssueResult rejection = rejections.get(i);
+            if (rejection != null) {
+                results.add(rejection);
+                continue;
+            }
+            UserCoupon saved = savedByUserId.get(userId);
+            if (saved == null) {
+                throw new IllegalStateException("배치 발급 결과 누락: couponId=" + coupon.getCouponId() + ", userId=" + userId);
+            }
+            results.add(CouponBatchIssueResult.success(userId, IssueCouponResponse.from(saved, coupon)));
+        }
+        return results;
+    }
+
+    /**
+     * 쿠폰 행 재고 차감 (is_active 관리 포함)
+     *
+     * - 이번 차감으로 행 재고가 0이 될 때만 버킷 잔여분 조회
+     *   → 재고 버킷에 남은 수량이 있으면 소진이 아니므로 비활성화하지 않음
+     */
+    private void decreaseRowStock(Coupon coupon, int quantity) {
+        int stripedQty = coupon.getRemainingQty() == quantity
+                ? stripedStockService.getStripedQuantity(StockBucketType.COUPON, coupon.getCouponId())
+                : 0;
+        coupon.decreaseStock(quantity, stripedQty);
+    }
+
+    /**
+     * 재고 임대 (파티션 소유 컨슈머용)
+     *
+     * 쿠폰 행 락을 짧게 1회 잡아 remaining_qty에서 최대 requested개를 떼어 간다.
+     * 임대한 재고는 CouponStockLeaseService가 메모리에서 소진하며 발급 (발급마다 행 락 없음)
+     *
+     * 초과 발급 방지:
+     * - 임대 자체가 비관적 락 안의 차감이므로 임대 총량은 remaining_qty를 넘을 수 없음
+     * - 재고 분할 중이면 쿠폰 행으로 부족한 수량을 재고 버킷에서 임대 (쿠폰 행 락 → 버킷 락)
+     * - 미사용 임대분은 returnLeasedStock()으로 반납
+     *
+     * @param couponId 쿠폰 ID
+     * @param requested 임대 요청 수량
+     * @return 실제 임대된 수량 (재고 소진 시 0)
+     * @throws CouponNotFoundException 쿠폰을 찾을 수 없음
+     * @throws IllegalArgumentException 쿠폰이 비활성화되었거나 유효기간을 벗어남
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int leaseStock(Long couponId, int requested) {
+        Coupon coupon = couponRepository.findByIdForUpdate(couponId)
+                .orElseThrow(() -> new CouponNotFoundException(couponId));
+
+        // 검증 실패 시 예외 → 트랜잭션 롤백으로 버킷 차감도 복구
+        int fromRow = Math.min(requested, coupon.getRemainingQty());
+        int fromBuckets = stripedStockService.takeUpTo(StockBucketType.COUPON, couponId, requested - fromRow);
+        int granted = fromRow + fromBuckets;
+        if (granted == 0) {
+            return 0;
+        }
+        if (!coupon.isActiveCoupon()) {
+            throw new IllegalArgumentException("쿠폰이 비활성화되어 있습니다");
+        }
+        if (!coupon.isValidPeriod(LocalDateTime.now())) {
+            throw new IllegalArgumentException("쿠폰이 유효기간을 벗어났습니다");
+        }
+
+        Integer remainingQtyBefore = coupon.getRemainingQty();
+        if (fromRow > 0) {
+            decreaseRowStock(coupon, fromRow);
+            couponRepository.update(coupon);
+        }
+
+        log.info("[CouponService] 쿠폰 재고 임대: couponId={}, granted={}, remaining_qty={}",
+                couponId, granted, coupon.getRemainingQty());
+
+        try {
+            eventPublisher.publishEvent(new CouponIssuedEvent(
+                    couponId, null, remainingQtyBefore, coupon.getRemainingQty()));
+        } catch (Exception e) {
+            log.warn("[CouponService] CouponIssuedEvent 발행 실패 (무시됨): couponId={}, error={}",
+                    couponId, e.getMessage());
+        }
+        return granted;
+    }
+
+    /**
+     * 미사용 임대 재고 반납 (리밸런싱, 유휴 임대 정리, 종료 시)
+     *
+     * @param couponId 쿠폰 ID
+     * @param quantity 반납 수량
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void returnLeasedStock(Long couponId, int quantity) {
+        Coupon coupon = couponRepository.findByIdForUpdate(couponId)
+                .orElseThrow(() -> new CouponNotFoundException(couponId));
+        coupon.increaseRemainingQty(quantity);
+        couponRepository.update(coupon);
+
+        log.info("[CouponService] 임대 재고 반납: couponId={}, quantity={}, remaining_qty={}",
+                couponId, quantity, coupon.getRemainingQty());
+    }
+
+    /**
+     * 임대 재고로 쿠폰 발급 (쿠폰 행 락 없음)
+     *
+     * 재고는 호출자가 이미 임대분에서 차감했으므로 여기서는 발급 기록만 저장
+     * - 임대 이후 관리자가 비활성화한 쿠폰은 거절
+     *   (임대로 행 재고가 0이 되어 비활성화된 경우는 소진 비활성화이므로 임대분으로 계속 발급)
+     * - 중복 발급은 기존과 동일하게 조회 + UNIQUE(user_id, coupon_id)로 방지
+     *
+     * @param userId 사용자 ID
+     * @param couponId 쿠폰 ID
+     * @return 발급된 쿠폰 정보
+     * @throws IllegalArgumentException 비활성화, 유효기간 만료, 중복 발급
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public IssueCouponResponse issueCouponFromLease(Long userId, Long couponId) {
+        Coupon coupon = couponRepository.findById(couponId)
+                .orElseThrow(() -> new CouponNotFoundException(couponId));
+
+        if (!coupon.isActiveCoupon() && !coupon.isDeactivatedByExhaustion()) {
+            throw new IllegalArgumentException("쿠폰이 비활성화되어 있습니다");
+        }
+        if (!coupon.isValidPeriod(LocalDateTime.now())) {
+            throw new IllegalArgumentException("쿠폰이 유효기간을 벗어났습니다");
+        }
+        Optional<UserCoupon> alreadyIssued = userCouponRepository.findByUserIdAndCouponId(userId, couponId);
+        if (alreadyIssued.isPresent()) {
+            throw new CouponAlreadyIssuedException(userId, couponId, alreadyIssued.get().getIssuedAt());
+        }
+
+        UserCoupon savedUserCoupon = userCouponRepository.save(UserCoupon.builder()
+                .userId(userId)
+                .couponId(couponId)
+                .status(UserCouponStatus.UNUSED)
+                .issuedAt(LocalDateTime.now())
+                .usedAt(null)
+                .build());
+
+        log.info("[CouponService] 임대 재고로 쿠폰 발급 완료: userId={}, couponId={}, userCouponId={}",
+                userId, couponId, savedUserCoupon.getUserCouponId());
+
+        return IssueCouponResponse.from(savedUserCoupon, coupon);
+    }
+
     /**
      * 4.2 사용자가 보유한 쿠폰 조회
      * GET /coupons/issued?status=UNUSED
@@ -412,9 +804,9 @@ public class CouponService {
         // 1. 발급 가능한 쿠폰 조회
         List<Coupon> availableCoupons = couponRepository.findAllAvailable();
 
-        // 2. Response로 변환
+        // 2. Response로 변환 (재고 분할 중인 쿠폰은 버킷 잔여분 포함)
         return availableCoupons.stream()
-                .map(AvailableCouponResponse::from)
+                .map(coupon -> AvailableCouponResponse.from(coupon, stripedStockService.getAvailableQuantity(coupon)))
                 .collect(Collectors.toList());
     }
 
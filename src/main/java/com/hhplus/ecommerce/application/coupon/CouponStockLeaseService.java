@@ -0,0 +1,240 @@
+package com.hhplus.ecommerce.application.coupon;
+
+import com.hhplus.ecommerce.presentation.coupon.response.IssueCouponResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * CouponStockLeaseService - 파티션 소유 컨슈머의 메모리 재고 임대 관리
+ *
+ * 전제:
+ * - coupon.issue.requests가 couponId(또는 couponId+버킷) 키로 파티셔닝됨 (CouponIssueKeyResolver)
+ * - 한 파티션은 한 시점에 한 컨슈머 스레드만 소비 → 해당 파티션의 임대 재고는 단일 소유
+ *
+ * 동작:
+ * - 임대분이 남아 있으면 메모리에서 차감 후 발급 기록만 저장 (쿠폰 행 락 없음)
+ * - 임대분이 없으면 CouponService.leaseStock()으로 행 락 1회에 leaseSize개를 임대
+ * - 발급 실패(중복, 시스템 오류) 시 메모리 임대분 복구
+ *
+ * 초과 발급 방지:
+ * - 임대 = 비관적 락 안의 remaining_qty 차감 → 임대 총량 ≤ 재고
+ * - 발급 = 임대분 범위 내에서만 수행
+ *
+ * 소유권 이전 (리밸런싱 안전):
+ * - 파티션 회수 시 releasePartitions()가 미사용 임대분을 DB로 반납 (CouponStockLeaseRebalanceListener)
+ * - 회수된 임대에는 더 이상 재고를 적립하지 않음: 회수 이후 끝난 발급의 복구분/잔여 임대분은 바로 DB로 반납
+ * - 새 소유자는 반납된 remaining_qty에서 다시 임대
+ * - 유휴 임대분은 releaseIdleLeases()가 주기적으로 반납 (다른 파티션/버킷이 재고를 쓸 수 있도록)
+ * - 프로세스 비정상 종료 시 미반납 임대분은 발급되지 않은 채 남음 (초과 발급이 아닌 미발급 방향)
+ *
+ * coupon.stock-lease.enabled=false(기본값)면 사용하지 않음
+ */
+@Service
+public class CouponStockLeaseService {
+
+    private static final Logger log = LoggerFactory.getLogger(CouponStockLeaseService.class);
+
+    private final CouponService couponService;
+    private final boolean enabled;
+    private final int leaseSize;
+    private final long idleReleaseMs;
+
+    /** partition → (couponId → 임대 재고) */
+    private final Map<Integer, Map<Long, StockLease>> leasesByPartition = new ConcurrentHashMap<>();
+
+    /** couponId → 반납 실패로 대기 중인 수량 (다음 정리 주기에 재시도) */
+    private final Map<Long, AtomicInteger> pendingReturns = new ConcurrentHashMap<>();
+
+    public CouponStockLeaseService(CouponService couponService,
+                                   @Value("${coupon.stock-lease.enabled:false}") boolean enabled,
+                                   @Value("${coupon.stock-lease.size:100}") int leaseSize,
+                                   @Value("${coupon.stock-lease.idle-release-ms:5000}") long idleReleaseMs) {
+        this.couponService = couponService;
+        this.enabled = enabled;
+        this.leaseSize = leaseSize;
+        this.idleReleaseMs = idleReleaseMs;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 임대 재고로 쿠폰 발급
+     *
+     * @param partition 요청이 속한 파티션 (임대 소유 단위)
+     * @param userId 사용자 ID
+     * @param couponId 쿠폰 ID
+     * @return 발급된 쿠폰 정보
+     * @throws IllegalArgumentException 재고 소진, 쿠폰 발급 불가, 중복 발급
+     */
+    public IssueCouponResponse issue(int partition, Long userId, Long couponId) {
+        StockLease lease = leasesByPartition
+                .computeIfAbsent(partition, p -> new ConcurrentHashMap<>())
+                .computeIfAbsent(couponId, id -> new StockLease());
+
+        if (!lease.tryAcquire()) {
+            int granted = couponService.leaseStock(couponId, leaseSize);
+            if (granted == 0) {
+                throw new IllegalArgumentException("쿠폰이 모두 소진되었습니다");
+            }
+            // 1개는 이번 요청이 사용
+            credit(partition, couponId, lease, granted - 1);
+            log.debug("[CouponStockLease] 재고 임대: partition={}, couponId={}, granted={}",
+                    partition, couponId, granted);
+        }
+
+        try {
+            return couponService.issueCouponFromLease(userId, couponId);
+        } catch (RuntimeException e) {
+            // 발급되지 않았으므로 임대분 복구 (중복 발급은 재고를 소비하지 않음)
+            credit(partition, couponId, lease, 1);
+            throw e;
+        }
+    }
+
+    /**
+     * 파티션 회수 시 미사용 임대분 반납
+     *
+     * @param partitions 회수된 파티션 번호
+     */
+    public void releasePartitions(Collection<Integer> partitions) {
+        for (Integer partition : partitions) {
+            Map<Long, StockLease> leases = leasesByPartition.remove(partition);
+            if (leases != null) {
+                leases.forEach((couponId, lease) -> {
+                    lease.revoke();
+                    returnLease(partition, couponId, lease);
+                });
+            }
+        }
+    }
+
+    /**
+     * 유휴 임대분 반납 (일정 시간 사용되지 않은 임대 재고) + 반납 실패분 재시도
+     */
+    @Scheduled(fixedRate = 1000, initialDelay = 1000)
+    public void releaseIdleLeases() {
+        if (!enabled) {
+            return;
+        }
+        pendingReturns.forEach((couponId, pending) -> returnStock(couponId, pending.getAndSet(0)));
+
+        long threshold = System.currentTimeMillis() - idleReleaseMs;
+        leasesByPartition.forEach((partition, leases) ->
+                leases.forEach((couponId, lease) -> {
+                    if (lease.lastUsedAt < threshold) {
+                        returnLease(partition, couponId, lease);
+                    }
+                }));
+    }
+
+    /**
+     * 이 노드가 보유한 미발급 임대 재고 (모든 파티션 임대분 + 반납 대기분)
+     * - remaining_qty에서는 이미 빠졌지만 아직 발급되지 않은 수량 (예약 게이트 정합성 점검용)
+     */
+    public int getOutstandingQuantity(Long couponId) {
+        int outstanding = 0;
+        for (Map<Long, StockLease> leases : leasesByPartition.values()) {
+            StockLease lease = leases.get(couponId);
+            if (lease != null) {
+                outstanding += Math.max(lease.remaining.get(), 0);
+            }
+        }
+        AtomicInteger pending = pendingReturns.get(couponId);
+        return pending != null ? outstanding + pending.get() : outstanding;
+    }
+
+    @PreDestroy
+    public void releaseAll() {
+        releasePartitions(new ArrayList<>(leasesByPartition.keySet()));
+    }
+
+    /**
+     * 임대분 적립 (새 임대분 또는 발급 실패 복구분)
+     *
+     * 적립 후 임대가 회수됐으면 직접 비워서 반납 (소유자 없는 임대에 남아 유실되지 않도록)
+     * - 회수는 revoke() → drain() 순서, 적립은 add() → isRevoked() → drain() 순서
+     *   → 어느 쪽이 먼저 비우든 getAndSet(0)이므로 같은 수량을 두 번 반납하지 않음
+     */
+    private void credit(int partition, Long couponId, StockLease lease, int quantity) {
+        lease.add(quantity);
+        if (lease.isRevoked()) {
+            returnLease(partition, couponId, lease);
+        }
+    }
+
+    private void returnLease(Integer partition, Long couponId, StockLease lease) {
+        int unused = lease.drain();
+        if (unused <= 0) {
+            return;
+        }
+        log.debug("[CouponStockLease] 임대 재고 반납: partition={}, couponId={}, unused={}", partition, couponId, unused);
+        returnStock(couponId, unused);
+    }
+
+    private void returnStock(Long couponId, int quantity) {
+        if (quantity <= 0) {
+            return;
+        }
+        try {
+            couponService.returnLeasedStock(couponId, quantity);
+        } catch (Exception e) {
+            // 반납 실패분은 다음 정리 주기에 재시도 (파티션 소유와 무관하게 보관)
+            pendingReturns.computeIfAbsent(couponId, id -> new AtomicInteger()).addAndGet(quantity);
+            log.error("[CouponStockLease] 임대 재고 반납 실패 (재시도 예정): couponId={}, quantity={}, error={}",
+                    couponId, quantity, e.getMessage());
+        }
+    }
+
+    /**
+     * 파티션별 쿠폰 임대 재고
+     *
+     * 소비는 파티션 소유 스레드, 반납은 리밸런싱/스케줄러 스레드에서 일어나므로 CAS로 관리
+     */
+    private static class StockLease {
+        private final AtomicInteger remaining = new AtomicInteger();
+        private volatile long lastUsedAt = System.currentTimeMillis();
+        private volatile boolean revoked;
+
+        boolean tryAcquire() {
+            lastUsedAt = System.currentTimeMillis();
+            int current;
+            do {
+                current = remaining.get();
+                if (current <= 0) {
+                    return false;
+                }
+            } while (!remaining.compareAndSet(current, current - 1));
+            return true;
+        }
+
+        void add(int quantity) {
+            if (quantity > 0) {
+                remaining.addAndGet(quantity);
+            }
+        }
+
+        int drain() {
+            return remaining.getAndSet(0);
+        }
+
+        void revoke() {
+            revoked = true;
+        }
+
+        boolean isRevoked() {
+            return revoked;
+        }
+    }
+}
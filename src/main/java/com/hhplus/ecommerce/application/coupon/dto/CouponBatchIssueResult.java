@@ -0,0 +1,55 @@
+package com.hhplus.ecommerce.application.coupon.dto;
+
+import com.hhplus.ecommerce.domain.coupon.CouponAlreadyIssuedException;
+import com.hhplus.ecommerce.domain.coupon.CouponIssueFailureCode;
+import com.hhplus.ecommerce.presentation.coupon.response.IssueCouponResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * CouponBatchIssueResult - 배치 쿠폰 발급의 사용자별 결과
+ *
+ * CouponService.issueCouponBatch()가 요청 순서(FIFO)대로 반환
+ * - 성공: response 존재
+ * - 실패: failureCode + failureReason 존재 (단건 발급과 동일한 비즈니스 오류 메시지, 배치 도중 소진은 SOLD_OUT)
+ * - 중복 발급 실패: existingIssuedAt에 DB에 이미 존재하는 발급 시각 (예약 게이트 재전달 판정용)
+ */
+@Getter
+@AllArgsConstructor
+public class CouponBatchIssueResult {
+
+    private final Long userId;
+    private final IssueCouponResponse response;
+    private final CouponIssueFailureCode failureCode;
+    private final String failureReason;
+    private final LocalDateTime existingIssuedAt;
+
+    public static CouponBatchIssueResult success(Long userId, IssueCouponResponse response) {
+        return new CouponBatchIssueResult(userId, response, null, null, null);
+    }
+
+    public static CouponBatchIssueResult failure(Long userId, CouponIssueFailureCode failureCode) {
+        return new CouponBatchIssueResult(userId, null, failureCode, failureCode.getMessage(), null);
+    }
+
+    public static CouponBatchIssueResult alreadyIssued(Long userId, LocalDateTime existingIssuedAt) {
+        CouponIssueFailureCode code = CouponIssueFailureCode.ALREADY_ISSUED;
+        return new CouponBatchIssueResult(userId, null, code, code.getMessage(), existingIssuedAt);
+    }
+
+    /**
+     * 단건 발급 경로의 비즈니스 예외를 배치 결과로 변환
+     */
+    public static CouponBatchIssueResult failure(Long userId, IllegalArgumentException cause) {
+        if (cause instanceof CouponAlreadyIssuedException alreadyIssued) {
+            return alreadyIssued(userId, alreadyIssued.getIssuedAt());
+        }
+        return new CouponBatchIssueResult(userId, null, CouponIssueFailureCode.REJECTED, cause.getMessage(), null);
+    }
+
+    public boolean isSuccess() {
+        return response != null;
+    }
+}
@@ -1,11 +1,16 @@
 package com.hhplus.ecommerce.application.coupon.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
 /**
  * CouponRequest - 쿠폰 발급 요청 데이터
  *
@@ -131,6 +136,17 @@ public class CouponRequest {
         return this.retryCount < maxRetries;
     }
 
+    /**
+     * 요청 시각 (예약 게이트가 재처리 여부를 판정할 때 사용)
+     */
+    @JsonIgnore
+    public LocalDateTime getRequestedAt() {
+        if (this.timestamp == null) {
+            return null;
+        }
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(this.timestamp), ZoneId.systemDefault());
+    }
+
     /**
      * 대기 시간 계산 (밀리초)
      */
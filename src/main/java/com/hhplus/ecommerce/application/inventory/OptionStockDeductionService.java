@@ -0,0 +1,124 @@
+package com.hhplus.ecommerce.application.inventory;
+
+import com.hhplus.ecommerce.application.order.dto.CreateOrderRequestDto.OrderItemDto;
+import com.hhplus.ecommerce.domain.product.ProductRepository;
+import com.hhplus.ecommerce.domain.product.event.ProductStockChangedEvent;
+import com.hhplus.ecommerce.domain.stock.StockBucketType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * OptionStockDeductionService - 옵션 재고 조건부 일괄 차감
+ *
+ * 문제:
+ * - 엔티티 로드 → deductStock() → save 경로는 @Version 충돌 시 OptimisticLockException
+ * - 경합 시 대부분의 시도가 실패하고 @Retryable로 주문 전체를 재시도
+ * - 옵션 차감마다 Product 행(total_stock, status)도 갱신 → 같은 상품의 모든 옵션이 한 행에서 충돌
+ *
+ * 해결:
+ * - UPDATE product_options SET stock = stock - ? WHERE option_id = ? AND stock >= ?
+ *   를 주문 항목 전체에 대해 JDBC 배치 1회로 실행
+ * - 영향 행 수 0 = 재고 부족 → 예외로 호출자 트랜잭션 롤백 (재시도 없음)
+ * - 상품 총 재고/상태는 커밋 후 ProductStockChangedEvent로 비동기 재계산 (ProductStatusEventHandler)
+ *
+ * 재고 분할 (StripedStockService):
+ * - 옵션 재고 차감의 단일 진입점 → 핫 옵션의 버킷 차감도 여기서 처리
+ * - 버킷 차감 → 나머지 옵션 행 일괄 차감 → 행이 부족한 옵션은 버킷에서 차감
+ *   (다른 인스턴스가 분할해 옵션 행 stock이 0인 경우 포함)
+ * - 버킷에서 차감된 옵션의 상품도 ProductStockChangedEvent 대상
+ *
+ * 호출자 트랜잭션 안에서 실행되어야 함 (OrderTransactionService, DeductInventoryStep)
+ */
+@Service
+public class OptionStockDeductionService {
+
+    private static final Logger log = LoggerFactory.getLogger(OptionStockDeductionService.class);
+
+    private final ProductRepository productRepository;
+    private final StripedStockService stripedStockService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public OptionStockDeductionService(ProductRepository productRepository,
+                                       StripedStockService stripedStockService,
+                                       ApplicationEventPublisher eventPublisher) {
+        this.productRepository = productRepository;
+        this.stripedStockService = stripedStockService;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * 주문 항목의 옵션 재고 일괄 차감
+     *
+     * - 같은 옵션이 여러 항목에 있으면 수량을 합산해 1회 차감
+     * - 옵션 ID 오름차순으로 실행 → 동시 주문 간 행 락 획득 순서 고정 (데드락 방지)
+     *
+     * @param orderItems 차감할 주문 항목
+     * @return 옵션 행에서 차감된 주문 항목 (재고 부족 알림 대상, 버킷 차감 항목 제외)
+     * @throws IllegalArgumentException 수량이 0 이하, 옵션 없음, 재고 부족
+     */
+    public List<OrderItemDto> deductAll(List<OrderItemDto> orderItems) {
+        if (orderItems.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Integer> quantitiesByOptionId = new TreeMap<>();
+        Set<Long> productIds = new LinkedHashSet<>();
+        for (OrderItemDto item : orderItems) {
+            if (item.getQuantity() <= 0) {
+                throw new IllegalArgumentException("차감 수량은 0보다 커야 합니다");
+            }
+            quantitiesByOptionId.merge(item.getOptionId(), item.getQuantity(), Integer::sum);
+            productIds.add(item.getProductId());
+        }
+
+        // 1. 핫 옵션은 재고 버킷에서 차감 (옵션 행 락 없음)
+        Set<Long> bucketOptionIds = new HashSet<>();
+        Map<Long, Integer> rowQuantities = new TreeMap<>();
+        quantitiesByOptionId.forEach((optionId, quantity) -> {
+            if (stripedStockService.tryDeduct(StockBucketType.PRODUCT_OPTION, optionId, quantity)) {
+                bucketOptionIds.add(optionId);
+            } else {
+                rowQuantities.put(optionId, quantity);
+            }
+        });
+
+        // 2. 나머지는 옵션 행 조건부 UPDATE 일괄 차감, 행이 부족하면 버킷에서 차감
+        if (!rowQuantities.isEmpty()) {
+            for (Long optionId : productRepository.deductOptionStocks(rowQuantities)) {
+                int quantity = rowQuantities.remove(optionId);
+                if (!stripedStockService.deductOnRowShortage(StockBucketType.PRODUCT_OPTION, optionId, quantity)) {
+                    throw insufficientStock(optionId, quantity);
+                }
+                bucketOptionIds.add(optionId);
+            }
+        }
+
+        eventPublisher.publishEvent(new ProductStockChangedEvent(List.copyOf(productIds)));
+        log.debug("[OptionStockDeductionService] 재고 일괄 차감 완료: options={}, bucketOptions={}",
+                quantitiesByOptionId, bucketOptionIds);
+
+        return orderItems.stream()
+                .filter(item -> !bucketOptionIds.contains(item.getOptionId()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 차감 실패 원인 판정 (실패 시에만 조회)
+     */
+    private IllegalArgumentException insufficientStock(Long optionId, int quantity) {
+        return productRepository.findOptionById(optionId)
+                .map(option -> new IllegalArgumentException(
+                        option.getName() + "의 재고가 부족합니다 (요청: " + quantity + ", 보유: " + option.getStock() + ")"))
+                .orElseGet(() -> new IllegalArgumentException("상품 옵션을 찾을 수 없습니다: optionId=" + optionId));
+    }
+}
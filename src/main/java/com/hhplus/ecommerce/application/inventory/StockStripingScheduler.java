@@ -0,0 +1,89 @@
+package com.hhplus.ecommerce.application.inventory;
+
+import com.hhplus.ecommerce.domain.stock.StockBucketRepository;
+import com.hhplus.ecommerce.domain.stock.StockBucketType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * StockStripingScheduler - 핫 아이템 분할/병합 주기 작업
+ *
+ * - 공유 핫 지정(HotStockItemRepository)과 버킷 목록으로 StripedStockService 로컬 사본 갱신
+ *   → 모든 인스턴스가 같은 핫 지정으로 판단 (인스턴스마다 다른 아이템을 분할/병합하지 않음)
+ * - 핫 아이템인데 버킷이 없으면 분할 (StripedStockService.stripe)
+ * - 핫 지정이 해제되고 cool-down-ms 동안 버킷 차감이 없으면 병합 (StripedStockService.merge)
+ *   → 다른 인스턴스에서 진행 중인 차감이 끝날 시간을 두고 원본 행으로 되돌림
+ * - 여러 인스턴스가 같은 아이템을 동시에 분할/병합해도 원본 행 락으로 직렬화 (이미 분할됐으면 이동 수량 0)
+ * - 주기마다 버킷 행 전체를 로드하지 않음: 분할된 아이템 ID만 조회하고,
+ *   마지막 차감 시각은 병합 후보(핫 지정 해제)에 대해서만 집계 조회
+ *
+ * 분할/병합은 각각 독립 트랜잭션 (아이템 하나의 실패가 다른 아이템에 영향 없음)
+ */
+@Component
+public class StockStripingScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(StockStripingScheduler.class);
+
+    private final StripedStockService stripedStockService;
+    private final StockBucketRepository stockBucketRepository;
+    private final long coolDownMs;
+
+    public StockStripingScheduler(StripedStockService stripedStockService,
+                                  StockBucketRepository stockBucketRepository,
+                                  @Value("${stock.striping.cool-down-ms:60000}") long coolDownMs) {
+        this.stripedStockService = stripedStockService;
+        this.stockBucketRepository = stockBucketRepository;
+        this.coolDownMs = coolDownMs;
+    }
+
+    @Scheduled(fixedRate = 5000, initialDelay = 5000)
+    public void rebalance() {
+        if (!stripedStockService.isEnabled()) {
+            return;
+        }
+
+        try {
+            stripedStockService.refreshHotItems();
+        } catch (Exception e) {
+            log.warn("[StockStripingScheduler] 핫 지정 조회 실패 (이전 지정으로 진행): {}", e.getMessage());
+        }
+
+        LocalDateTime coolDownThreshold = LocalDateTime.now().minusNanos(coolDownMs * 1_000_000);
+        for (StockBucketType itemType : StockBucketType.values()) {
+            Set<Long> stripedIds = stockBucketRepository.findStripedItemIds(itemType);
+            stripedStockService.refreshStripedItems(itemType, stripedIds);
+            Set<Long> hotIds = stripedStockService.getHotItemIds(itemType);
+
+            for (Long itemId : hotIds) {
+                if (!stripedIds.contains(itemId)) {
+                    run("분할", itemType, itemId, () -> stripedStockService.stripe(itemType, itemId));
+                }
+            }
+
+            // 병합 후보(핫 지정이 해제된 분할 아이템)만 마지막 차감 시각 조회
+            Set<Long> coolingIds = new HashSet<>(stripedIds);
+            coolingIds.removeAll(hotIds);
+            stockBucketRepository.findLastUpdatedAt(itemType, coolingIds).forEach((itemId, lastUpdatedAt) -> {
+                if (lastUpdatedAt.isBefore(coolDownThreshold)) {
+                    run("병합", itemType, itemId, () -> stripedStockService.merge(itemType, itemId));
+                }
+            });
+        }
+    }
+
+    private void run(String action, StockBucketType itemType, Long itemId, Runnable task) {
+        try {
+            task.run();
+        } catch (Exception e) {
+            log.error("[StockStripingScheduler] 재고 {} 실패 (다음 주기에 재시도): type={}, itemId={}, error={}",
+                    action, itemType, itemId, e.getMessage());
+        }
+    }
+}
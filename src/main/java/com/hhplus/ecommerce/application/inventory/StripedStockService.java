@@ -0,0 +1,410 @@
+package com.hhplus.ecommerce.application.inventory;
+
+import com.hhplus.ecommerce.domain.coupon.Coupon;
+import com.hhplus.ecommerce.domain.coupon.CouponNotFoundException;
+import com.hhplus.ecommerce.domain.coupon.CouponRepository;
+import com.hhplus.ecommerce.domain.product.ProductOption;
+import com.hhplus.ecommerce.domain.product.ProductRepository;
+import com.hhplus.ecommerce.domain.stock.HotStockItemRepository;
+import com.hhplus.ecommerce.domain.stock.StockBucket;
+import com.hhplus.ecommerce.domain.stock.StockBucketRepository;
+import com.hhplus.ecommerce.domain.stock.StockBucketType;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * StripedStockService - 핫 아이템 재고 분할(스트라이핑) 관리
+ *
+ * 문제:
+ * - Coupon.decreaseStock(), ProductOption.deductStock()은 단일 재고 행을 갱신
+ * - 선착순 트래픽이 한 행 락에 몰리면 처리량 = 행 락 1개의 처리량
+ *
+ * 해결:
+ * - 핫 아이템으로 지정되면 남은 재고를 K개 StockBucket 행으로 이동 (stripe)
+ * - 차감은 임의 버킷에서 시작해 조건부 UPDATE(quantity >= ?)로 시도, 실패 시 다음 버킷
+ *   → 서로 다른 버킷을 고른 트랜잭션끼리는 락 경합 없음
+ * - 핫 지정이 해제되면 버킷 잔여분을 원본 행으로 병합 (merge, StockStripingScheduler)
+ *
+ * 분할 상태 판정:
+ * - 핫 지정은 HotStockItemRepository(Redis)에 저장 → 모든 인스턴스가 같은 지정으로 분할/병합
+ * - 분할 여부의 기준은 버킷 행 존재 (인스턴스 로컬 상태는 빠른 경로 진입 여부에만 사용)
+ * - 분할 중 원본 행 재고는 0이 될 수 있으므로, 원본 행이 부족한 모든 경로는 버킷을 확인해야 함
+ *   → deductOnRowShortage / takeUpTo / getStripedQuantity / getAvailableQuantity
+ *
+ * 초과 판매 방지:
+ * - 분할/병합은 원본 행과 버킷을 모두 락 잡은 한 트랜잭션에서 수량을 "이동"
+ * - 버킷 차감은 호출자 트랜잭션에 참여 → 주문/발급이 롤백되면 버킷 차감도 롤백
+ *
+ * 락 순서: 원본 행 → 버킷(bucket_no 오름차순) (분할, 병합, 원본 행 부족 시 버킷 차감 모두 동일)
+ * - 빠른 경로(tryDeduct)는 버킷 1개 조건부 UPDATE만 수행하고 여러 버킷 락은 잡지 않음
+ *
+ * stock.striping.enabled=false(기본값)면 모든 차감은 기존 경로로 처리 (버킷 조회 없음)
+ */
+@Service
+public class StripedStockService {
+
+    private static final Logger log = LoggerFactory.getLogger(StripedStockService.class);
+
+    private final StockBucketRepository stockBucketRepository;
+    private final HotStockItemRepository hotStockItemRepository;
+    private final CouponRepository couponRepository;
+    private final ProductRepository productRepository;
+    private final boolean enabled;
+    private final int bucketCount;
+
+    /** 설정값 핫 아이템 (기동 시 HotStockItemRepository에 지정) */
+    private final Map<StockBucketType, Set<Long>> configuredHotItems = new EnumMap<>(StockBucketType.class);
+
+    /** 핫 지정 로컬 사본 (StockStripingScheduler가 주기마다 HotStockItemRepository에서 갱신) */
+    private final Map<StockBucketType, Set<Long>> hotItems = new ConcurrentHashMap<>();
+
+    /** 버킷이 있는 것으로 확인된 아이템 (빠른 경로 진입용 힌트, 기준은 버킷 행) */
+    private final Map<StockBucketType, Set<Long>> stripedItems = new ConcurrentHashMap<>();
+
+    public StripedStockService(StockBucketRepository stockBucketRepository,
+                               HotStockItemRepository hotStockItemRepository,
+                               CouponRepository couponRepository,
+                               ProductRepository productRepository,
+                               @Value("${stock.striping.enabled:false}") boolean enabled,
+                               @Value("${stock.striping.buckets:8}") int bucketCount,
+                               @Value("${stock.striping.hot-coupon-ids:}") String hotCouponIds,
+                               @Value("${stock.striping.hot-option-ids:}") String hotOptionIds) {
+        this.stockBucketRepository = stockBucketRepository;
+        this.hotStockItemRepository = hotStockItemRepository;
+        this.couponRepository = couponRepository;
+        this.productRepository = productRepository;
+        this.enabled = enabled;
+        this.bucketCount = Math.max(1, bucketCount);
+        this.configuredHotItems.put(StockBucketType.COUPON, parseIds(hotCouponIds));
+        this.configuredHotItems.put(StockBucketType.PRODUCT_OPTION, parseIds(hotOptionIds));
+        for (StockBucketType itemType : StockBucketType.values()) {
+            this.hotItems.put(itemType, newIdSet(configuredHotItems.get(itemType)));
+            this.stripedItems.put(itemType, ConcurrentHashMap.newKeySet());
+        }
+    }
+
+    private static Set<Long> parseIds(String ids) {
+        return Arrays.stream(ids.split(","))
+                .map(String::trim)
+                .filter(id -> !id.isEmpty())
+                .map(Long::valueOf)
+                .collect(Collectors.toSet());
+    }
+
+    private static Set<Long> newIdSet(Collection<Long> ids) {
+        Set<Long> set = ConcurrentHashMap.newKeySet();
+        set.addAll(ids);
+        return set;
+    }
+
+    /**
+     * 설정값 핫 아이템을 공유 저장소에 지정하고 로컬 사본 갱신
+     * - Redis 장애가 기동 실패로 이어지지 않도록 예외는 로그만 남김 (설정값으로 동작, 다음 주기에 재동기화)
+     */
+    @PostConstruct
+    public void registerConfiguredHotItems() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            configuredHotItems.forEach((itemType, itemIds) ->
+                    itemIds.forEach(itemId -> hotStockItemRepository.add(itemType, itemId)));
+            refreshHotItems();
+        } catch (Exception e) {
+            log.warn("[StripedStock] 핫 아이템 지정 동기화 실패 (설정값으로 동작): {}", e.getMessage());
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isHot(StockBucketType itemType, Long itemId) {
+        return enabled && hotItems.get(itemType).contains(itemId);
+    }
+
+    public Set<Long> getHotItemIds(StockBucketType itemType) {
+        return Set.copyOf(hotItems.get(itemType));
+    }
+
+    /**
+     * 공유 저장소의 핫 지정으로 로컬 사본 교체 (StockStripingScheduler 주기마다)
+     */
+    public void refreshHotItems() {
+        for (StockBucketType itemType : StockBucketType.values()) {
+            hotItems.put(itemType, newIdSet(hotStockItemRepository.findHotItemIds(itemType)));
+        }
+    }
+
+    /**
+     * 버킷이 있는 아이템 목록으로 로컬 힌트 교체 (StockStripingScheduler 주기마다)
+     */
+    public void refreshStripedItems(StockBucketType itemType, Collection<Long> itemIds) {
+        stripedItems.put(itemType, newIdSet(itemIds));
+    }
+
+    /**
+     * 핫 아이템 지정 (모든 인스턴스의 다음 스케줄 주기에 분할)
+     */
+    public void markHot(StockBucketType itemType, Long itemId) {
+        hotStockItemRepository.add(itemType, itemId);
+        hotItems.get(itemType).add(itemId);
+    }
+
+    /**
+     * 핫 아이템 해제 (쿨다운 후 스케줄러가 병합)
+     */
+    public void markCold(StockBucketType itemType, Long itemId) {
+        hotStockItemRepository.remove(itemType, itemId);
+        hotItems.get(itemType).remove(itemId);
+    }
+
+    /**
+     * 버킷에서 재고 차감 시도 - 빠른 경로 (원본 행 락 전에 호출, 호출자 트랜잭션에 참여)
+     *
+     * 처리 흐름:
+     * 1. 핫 지정도 분할 확인도 안 된 아이템이면 즉시 false (추가 쿼리 없음)
+     * 2. 버킷 후보 조회 (락 없음) → quantity 이상 남은 버킷만
+     * 3. 임의 시작 버킷부터 순환하며 조건부 UPDATE 시도 → 1행 갱신되면 성공
+     *
+     * false면 호출자는 원본 행 경로로 처리하고, 원본 행이 부족하면 deductOnRowShortage 호출
+     * (단일 버킷으로 부족한 수량은 원본 행 락을 잡은 뒤 여러 버킷에 걸쳐 차감 - 락 순서 유지)
+     *
+     * @param itemType 재고 대상 유형
+     * @param itemId 쿠폰 ID 또는 옵션 ID
+     * @param quantity 차감 수량
+     * @return 버킷에서 차감했으면 true
+     */
+    @Transactional
+    public boolean tryDeduct(StockBucketType itemType, Long itemId, int quantity) {
+        if (quantity <= 0 || !enabled
+                || !(hotItems.get(itemType).contains(itemId) || stripedItems.get(itemType).contains(itemId))) {
+            return false;
+        }
+
+        List<StockBucket> buckets = findBuckets(itemType, itemId);
+        List<StockBucket> candidates = buckets.stream()
+                .filter(bucket -> bucket.getQuantity() >= quantity)
+                .collect(Collectors.toList());
+        if (candidates.isEmpty()) {
+            return false;
+        }
+
+        int start = ThreadLocalRandom.current().nextInt(candidates.size());
+        for (int i = 0; i < candidates.size(); i++) {
+            StockBucket bucket = candidates.get((start + i) % candidates.size());
+            if (stockBucketRepository.deduct(bucket.getBucketId(), quantity)) {
+                log.debug("[StripedStock] 버킷 차감: type={}, itemId={}, bucketNo={}, quantity={}",
+                        itemType, itemId, bucket.getBucketNo(), quantity);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 원본 행 재고가 부족할 때 버킷에서 차감 (원본 행 락을 잡은 상태에서 호출)
+     *
+     * - 로컬 힌트와 관계없이 버킷 행을 확인 (다른 인스턴스가 분할한 아이템 포함)
+     * - 전체 버킷을 락 잡고 여러 버킷에 걸쳐 차감
+     *
+     * @return 버킷에서 quantity만큼 차감했으면 true, 분할되지 않았거나 버킷 합계도 부족하면 false
+     */
+    @Transactional
+    public boolean deductOnRowShortage(StockBucketType itemType, Long itemId, int quantity) {
+        if (quantity <= 0 || !enabled) {
+            return false;
+        }
+
+        List<StockBucket> locked = lockBuckets(itemType, itemId);
+        int total = locked.stream().mapToInt(StockBucket::getQuantity).sum();
+        if (total < quantity) {
+            return false;
+        }
+
+        takeFrom(locked, quantity);
+        log.debug("[StripedStock] 다중 버킷 차감: type={}, itemId={}, quantity={}", itemType, itemId, quantity);
+        return true;
+    }
+
+    /**
+     * 버킷에서 최대 maxQuantity까지 차감 (원본 행 락을 잡은 상태에서 호출, 배치 발급/재고 임대용)
+     *
+     * @return 실제 차감한 수량 (0 ~ maxQuantity)
+     */
+    @Transactional
+    public int takeUpTo(StockBucketType itemType, Long itemId, int maxQuantity) {
+        if (maxQuantity <= 0 || !enabled) {
+            return 0;
+        }
+
+        List<StockBucket> locked = lockBuckets(itemType, itemId);
+        int total = locked.stream().mapToInt(StockBucket::getQuantity).sum();
+        int taken = Math.min(total, maxQuantity);
+        if (taken > 0) {
+            takeFrom(locked, taken);
+            log.debug("[StripedStock] 버킷 일괄 차감: type={}, itemId={}, taken={}", itemType, itemId, taken);
+        }
+        return taken;
+    }
+
+    private void takeFrom(List<StockBucket> locked, int quantity) {
+        int remaining = quantity;
+        for (StockBucket bucket : locked) {
+            if (remaining == 0) {
+                break;
+            }
+            remaining -= bucket.take(remaining);
+        }
+        stockBucketRepository.saveAll(locked);
+    }
+
+    /**
+     * 버킷에 남은 재고 합계 (재고 검증/조회 시 원본 행 재고에 더함)
+     * - 분할 기능이 켜져 있으면 로컬 힌트와 관계없이 버킷 행을 조회
+     */
+    public int getStripedQuantity(StockBucketType itemType, Long itemId) {
+        if (!enabled) {
+            return 0;
+        }
+        return findBuckets(itemType, itemId).stream()
+                .mapToInt(StockBucket::getQuantity)
+                .sum();
+    }
+
+    /**
+     * 쿠폰 발급 가능 수량 (remaining_qty + 버킷 잔여분)
+     */
+    public int getAvailableQuantity(Coupon coupon) {
+        return coupon.getAvailableQty(getStripedQuantity(StockBucketType.COUPON, coupon.getCouponId()));
+    }
+
+    /**
+     * 원본 행의 남은 재고를 K개 버킷으로 이동 (이미 분할된 경우 기존 버킷에 분배)
+     *
+     * @return 이동한 수량
+     */
+    @Transactional
+    public int stripe(StockBucketType itemType, Long itemId) {
+        int moved;
+        List<StockBucket> buckets;
+        if (itemType == StockBucketType.COUPON) {
+            Coupon coupon = lockCoupon(itemId);
+            buckets = new ArrayList<>(lockBuckets(itemType, itemId));
+            moved = coupon.moveStockToBuckets();
+            if (moved > 0) {
+                couponRepository.update(coupon);
+            }
+        } else {
+            ProductOption option = lockOption(itemId);
+            buckets = new ArrayList<>(lockBuckets(itemType, itemId));
+            moved = option.getStock();
+            if (moved > 0) {
+                option.deductStock(moved);
+                productRepository.saveOption(option);
+            }
+        }
+        if (moved == 0 && !buckets.isEmpty()) {
+            return 0;
+        }
+
+        if (buckets.isEmpty()) {
+            for (int bucketNo = 0; bucketNo < bucketCount; bucketNo++) {
+                buckets.add(StockBucket.create(itemType, itemId, bucketNo, share(moved, bucketNo, bucketCount)));
+            }
+        } else {
+            for (int i = 0; i < buckets.size(); i++) {
+                buckets.get(i).add(share(moved, i, buckets.size()));
+            }
+        }
+        stockBucketRepository.saveAll(buckets);
+        stripedItems.get(itemType).add(itemId);
+
+        log.info("[StripedStock] 재고 분할: type={}, itemId={}, moved={}, buckets={}",
+                itemType, itemId, moved, buckets.size());
+        return moved;
+    }
+
+    /**
+     * 버킷 잔여 재고를 원본 행으로 병합하고 버킷 삭제
+     *
+     * @return 원본 행으로 되돌린 수량
+     */
+    @Transactional
+    public int merge(StockBucketType itemType, Long itemId) {
+        Coupon coupon = null;
+        ProductOption option = null;
+        if (itemType == StockBucketType.COUPON) {
+            coupon = lockCoupon(itemId);
+        } else {
+            option = lockOption(itemId);
+        }
+
+        List<StockBucket> buckets = lockBuckets(itemType, itemId);
+        if (buckets.isEmpty()) {
+            stripedItems.get(itemType).remove(itemId);
+            return 0;
+        }
+
+        int total = buckets.stream().mapToInt(StockBucket::getQuantity).sum();
+        if (coupon != null) {
+            coupon.returnStockFromBuckets(total);
+            couponRepository.update(coupon);
+        } else if (total > 0) {
+            option.restoreStock(total);
+            productRepository.saveOption(option);
+        }
+        stockBucketRepository.deleteAll(buckets);
+        stripedItems.get(itemType).remove(itemId);
+
+        log.info("[StripedStock] 재고 병합: type={}, itemId={}, merged={}, buckets={}",
+                itemType, itemId, total, buckets.size());
+        return total;
+    }
+
+    private static int share(int total, int index, int count) {
+        return total / count + (index < total % count ? 1 : 0);
+    }
+
+    private List<StockBucket> findBuckets(StockBucketType itemType, Long itemId) {
+        return trackStriped(itemType, itemId, stockBucketRepository.findByItem(itemType, itemId));
+    }
+
+    private List<StockBucket> lockBuckets(StockBucketType itemType, Long itemId) {
+        return trackStriped(itemType, itemId, stockBucketRepository.findByItemForUpdate(itemType, itemId));
+    }
+
+    private List<StockBucket> trackStriped(StockBucketType itemType, Long itemId, List<StockBucket> buckets) {
+        if (buckets.isEmpty()) {
+            stripedItems.get(itemType).remove(itemId);
+        } else {
+            stripedItems.get(itemType).add(itemId);
+        }
+        return buckets;
+    }
+
+    private Coupon lockCoupon(Long couponId) {
+        return couponRepository.findByIdForUpdate(couponId)
+                .orElseThrow(() -> new CouponNotFoundException(couponId));
+    }
+
+    private ProductOption lockOption(Long optionId) {
+        return productRepository.findOptionByIdForUpdate(optionId)
+                .orElseThrow(() -> new IllegalArgumentException("상품 옵션을 찾을 수 없습니다: optionId=" + optionId));
+    }
+}
@@ -0,0 +1,237 @@
+package com.hhplus.ecommerce.application.order;
+
+import com.hhplus.ecommerce.domain.order.OrderAdmissionRejectedException;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * OrderAdmissionQueue - 핫 옵션 주문 입장 대기열 (레인별 단일 실행)
+ *
+ * 문제:
+ * - 세일 시작 시 수백 개의 주문 트랜잭션이 같은 product_options 행에서 대기
+ * - 대기 중인 트랜잭션이 커넥션을 잡고 있어 Hikari 풀 고갈 → 다른 API까지 지연
+ *
+ * 해결:
+ * - 핫 옵션을 포함한 주문은 optionId로 고른 레인(단일 스레드)에 넣어 순서대로 실행
+ *   → 같은 옵션 행을 두고 동시에 대기하는 트랜잭션은 레인당 최대 1개
+ *   → 경합이 MySQL 행 락에서 프로세스 내 큐 순서로 이동
+ * - 레인 워커는 대기열을 micro-batch(batch-size)로 꺼내 연속 실행 (깨우기 비용 절감)
+ * - HTTP 요청 스레드는 timeout-ms까지만 결과를 기다림
+ *
+ * 부하 차단:
+ * - 레인 대기열 용량(lane-capacity) 초과 시 즉시 OrderAdmissionRejectedException (503)
+ * - 대기 시간 안에 실행이 시작되지 않은 주문은 취소 후 거절 (트랜잭션 미실행 → 재시도 안전)
+ * - 이미 실행이 시작된 주문은 결과가 나올 때까지 기다림 (커밋된 주문을 실패로 응답하지 않기 위해)
+ *
+ * 설정:
+ * - order.admission.enabled: 기본 false (비활성화 시 기존과 동일하게 호출 스레드에서 바로 실행)
+ * - order.admission.hot-option-ids: 레인으로 보낼 옵션 ID (콤마 구분, 운영 중 markHot/markCold로 변경)
+ *
+ * 단일 인스턴스 안에서의 직렬화이므로, 여러 인스턴스 간 정합성은 기존 조건부 차감이 보장합니다.
+ */
+@Component
+public class OrderAdmissionQueue {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderAdmissionQueue.class);
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final long timeoutMs;
+    private final Set<Long> hotOptionIds = ConcurrentHashMap.newKeySet();
+    private final List<Lane> lanes = new ArrayList<>();
+
+    public OrderAdmissionQueue(@Value("${order.admission.enabled:false}") boolean enabled,
+                               @Value("${order.admission.lanes:8}") int laneCount,
+                               @Value("${order.admission.lane-capacity:256}") int laneCapacity,
+                               @Value("${order.admission.batch-size:16}") int batchSize,
+                               @Value("${order.admission.timeout-ms:3000}") long timeoutMs,
+                               @Value("${order.admission.hot-option-ids:}") String hotOptionIds) {
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.timeoutMs = timeoutMs;
+        Arrays.stream(hotOptionIds.split(","))
+                .map(String::trim)
+                .filter(id -> !id.isEmpty())
+                .map(Long::valueOf)
+                .forEach(this.hotOptionIds::add);
+
+        if (enabled) {
+            for (int i = 0; i < laneCount; i++) {
+                lanes.add(new Lane(i, laneCapacity));
+            }
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void markHot(Long optionId) {
+        hotOptionIds.add(optionId);
+    }
+
+    public void markCold(Long optionId) {
+        hotOptionIds.remove(optionId);
+    }
+
+    /**
+     * 주문 실행
+     *
+     * - 핫 옵션이 없거나 비활성화 상태면 호출 스레드에서 바로 실행
+     * - 핫 옵션이 있으면 가장 작은 핫 optionId의 레인에서 실행하고 결과를 기다림
+     *   (같은 핫 옵션을 포함한 주문은 항상 같은 레인)
+     *
+     * @param optionIds 주문이 포함한 옵션 ID
+     * @param work 실행할 작업 (주문 트랜잭션)
+     * @return 작업 결과
+     * @throws OrderAdmissionRejectedException 레인 포화 또는 대기 시간 초과
+     */
+    public <T> T execute(Collection<Long> optionIds, Supplier<T> work) {
+        Optional<Long> laneKey = findLaneKey(optionIds);
+        if (laneKey.isEmpty()) {
+            return work.get();
+        }
+
+        Lane lane = lanes.get(Math.floorMod(Long.hashCode(laneKey.get()), lanes.size()));
+        AdmissionTask<T> task = new AdmissionTask<>(work);
+        if (!lane.queue.offer(task)) {
+            log.warn("[OrderAdmissionQueue] 레인 포화로 주문 거절: lane={}, optionId={}, depth={}",
+                    lane.index, laneKey.get(), lane.queue.size());
+            throw new OrderAdmissionRejectedException("주문이 몰려 처리할 수 없습니다. 잠시 후 다시 시도해주세요");
+        }
+        return await(task, lane, laneKey.get());
+    }
+
+    /**
+     * 레인별 대기 중인 주문 수 (모니터링용)
+     */
+    public List<Integer> getQueueDepths() {
+        return lanes.stream().map(lane -> lane.queue.size()).collect(Collectors.toList());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        lanes.forEach(lane -> lane.worker.interrupt());
+    }
+
+    private Optional<Long> findLaneKey(Collection<Long> optionIds) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        return optionIds.stream()
+                .filter(Objects::nonNull)
+                .filter(hotOptionIds::contains)
+                .min(Long::compare);
+    }
+
+    private <T> T await(AdmissionTask<T> task, Lane lane, Long optionId) {
+        try {
+            try {
+                return task.result.get(timeoutMs, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                if (task.abandon()) {
+                    log.warn("[OrderAdmissionQueue] 대기 시간 초과로 주문 거절: lane={}, optionId={}, timeoutMs={}",
+                            lane.index, optionId, timeoutMs);
+                    throw new OrderAdmissionRejectedException("주문 대기 시간이 초과되었습니다. 잠시 후 다시 시도해주세요");
+                }
+                // 이미 실행 중 → 결과(커밋/롤백)가 확정될 때까지 대기
+                return task.result.get();
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("주문 처리 중 오류가 발생했습니다", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (task.abandon()) {
+                throw new OrderAdmissionRejectedException("주문 대기가 중단되었습니다");
+            }
+            throw new IllegalStateException("주문 결과 대기 중 인터럽트가 발생했습니다", e);
+        }
+    }
+
+    /**
+     * 대기열 항목
+     * - started: 워커의 실행 시작과 호출자의 포기 중 먼저 선점한 쪽만 유효
+     */
+    private static class AdmissionTask<T> {
+        private final Supplier<T> work;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final AtomicBoolean started = new AtomicBoolean(false);
+
+        private AdmissionTask(Supplier<T> work) {
+            this.work = work;
+        }
+
+        private boolean abandon() {
+            return started.compareAndSet(false, true);
+        }
+
+        private void run() {
+            if (!started.compareAndSet(false, true)) {
+                return; // 호출자가 이미 포기함
+            }
+            try {
+                result.complete(work.get());
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            }
+        }
+    }
+
+    /**
+     * 단일 실행 레인 (스레드 1개 + 용량 제한 대기열)
+     */
+    private class Lane {
+        private final int index;
+        private final BlockingQueue<AdmissionTask<?>> queue;
+        private final Thread worker;
+
+        private Lane(int index, int capacity) {
+            this.index = index;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+            this.worker = new Thread(this::runLoop, "order-admission-lane-" + index);
+            this.worker.setDaemon(true);
+            this.worker.start();
+        }
+
+        private void runLoop() {
+            List<AdmissionTask<?>> batch = new ArrayList<>(batchSize);
+            while (!Thread.currentThread().isInterrupted()) {
+                try {
+                    batch.add(queue.take());
+                    queue.drainTo(batch, batchSize - 1);
+                    for (AdmissionTask<?> task : batch) {
+                        task.run();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    batch.clear();
+                }
+            }
+        }
+    }
+}
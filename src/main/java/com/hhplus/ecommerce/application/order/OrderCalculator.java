@@ -7,6 +7,7 @@ import com.hhplus.ecommerce.application.order.dto.OrderItemCommand;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * OrderCalculator - 주문 관련 비즈니스 계산 로직 전담
@@ -45,20 +46,39 @@ public class OrderCalculator {
      * 알고리즘:
      * 소계 = Σ(각 상품의 가격 × 수량)
      *
+     * 항목 수와 무관하게 상품 조회 1회 (OrderPricingContext 일괄 로드)
+     *
      * @param orderItems 주문 항목 목록
      * @return 소계 금액
      * @throws ProductNotFoundException 상품을 찾을 수 없음
      */
     public long calculateSubtotal(List<OrderItemCommand> orderItems) {
+        return calculateSubtotal(loadContext(orderItems), orderItems);
+    }
+
+    /**
+     * 주문 항목들의 소계 계산 (이미 로드한 상품 스냅샷 사용, 추가 조회 없음)
+     *
+     * @param pricingContext 주문 상품 스냅샷
+     * @param orderItems 주문 항목 목록
+     * @return 소계 금액
+     * @throws ProductNotFoundException 상품을 찾을 수 없음
+     */
+    public long calculateSubtotal(OrderPricingContext pricingContext, List<OrderItemCommand> orderItems) {
         long subtotal = 0;
         for (OrderItemCommand item : orderItems) {
-            Product product = productRepository.findById(item.getProductId())
-                    .orElseThrow(() -> new ProductNotFoundException(item.getProductId()));
+            Product product = pricingContext.getProduct(item.getProductId());
             subtotal += product.getPrice() * item.getQuantity();
         }
         return subtotal;
     }
 
+    private OrderPricingContext loadContext(List<OrderItemCommand> orderItems) {
+        return OrderPricingContext.load(productRepository, orderItems.stream()
+                .map(OrderItemCommand::getProductId)
+                .collect(Collectors.toList()));
+    }
+
     /**
      * 쿠폰 할인금 계산
      *
@@ -99,12 +119,13 @@ public class OrderCalculator {
      * 주문 생성 시 소계와 할인금을 모두 필요로 하므로
      * 한 번의 계산으로 두 값을 반환하도록 최적화
      *
+     * @param pricingContext 주문 상품 스냅샷 (OrderValidator와 공유)
      * @param orderItems 주문 항목 목록
      * @param couponId 쿠폰 ID
      * @return [소계, 할인금, 최종금액] 배열
      */
-    public long[] calculatePrices(List<OrderItemCommand> orderItems, Long couponId) {
-        long subtotal = calculateSubtotal(orderItems);
+    public long[] calculatePrices(OrderPricingContext pricingContext, List<OrderItemCommand> orderItems, Long couponId) {
+        long subtotal = calculateSubtotal(pricingContext, orderItems);
         long couponDiscount = calculateCouponDiscount(couponId);
         long finalAmount = subtotal - couponDiscount;
 
@@ -0,0 +1,87 @@
+package com.hhplus.ecommerce.application.order;
+
+import com.hhplus.ecommerce.domain.product.Product;
+import com.hhplus.ecommerce.domain.product.ProductNotFoundException;
+import com.hhplus.ecommerce.domain.product.ProductOption;
+import com.hhplus.ecommerce.domain.product.ProductRepository;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * OrderPricingContext - 주문 1건 처리 동안 공유하는 상품 스냅샷
+ *
+ * 문제:
+ * - 금액 계산, 검증, 재고 차감, 주문 항목 생성이 각각 항목마다 findById(fetch join)를 호출
+ *   → 항목 1개당 4~5회 상품 조회
+ *
+ * 해결:
+ * - 주문이 참조하는 모든 상품을 옵션과 함께 IN 쿼리 1회로 로드
+ * - 같은 단계 안에서는 항목 수와 무관하게 상품 조회 1회
+ *
+ * 사용 범위:
+ * - OrderService: 계산(OrderCalculator) + 검증(OrderValidator)이 하나의 스냅샷 공유 (트랜잭션 밖, 읽기 전용)
+ * - OrderTransactionService: 트랜잭션 안에서 1회 다시 로드해 주문 항목 생성 + 재고 부족 알림에 공유
+ *   (주문 항목의 가격/옵션명은 커밋 시점 값을 기록해야 하므로 트랜잭션 밖 스냅샷을 재사용하지 않음)
+ *
+ * 재고 차감은 이 스냅샷을 쓰지 않음:
+ * - OptionStockDeductionService가 조건부 UPDATE(stock >= ?)를 일괄 실행해 DB에서 직접 차감
+ * - 스냅샷의 stock 값은 재고 부족 알림용 추정치일 뿐, 차감 판정이나 @Version 검증에 사용되지 않음
+ */
+public class OrderPricingContext {
+
+    private final Map<Long, Product> productsById;
+
+    private OrderPricingContext(Map<Long, Product> productsById) {
+        this.productsById = productsById;
+    }
+
+    /**
+     * 상품 ID 목록으로 스냅샷 로드 (IN 쿼리 1회, 빈 목록이면 조회 없음)
+     *
+     * @param productRepository 상품 저장소
+     * @param productIds 주문이 참조하는 상품 ID (중복 허용)
+     */
+    public static OrderPricingContext load(ProductRepository productRepository, Collection<Long> productIds) {
+        Set<Long> distinctIds = new LinkedHashSet<>(productIds);
+        if (distinctIds.isEmpty()) {
+            return of(List.of());
+        }
+        return of(productRepository.findAllByIdsWithOptions(distinctIds));
+    }
+
+    public static OrderPricingContext of(List<Product> products) {
+        return new OrderPricingContext(products.stream()
+                .collect(Collectors.toMap(Product::getProductId, Function.identity(), (first, second) -> first)));
+    }
+
+    /**
+     * 스냅샷에서 상품 조회
+     *
+     * @throws ProductNotFoundException 상품을 찾을 수 없음
+     */
+    public Product getProduct(Long productId) {
+        Product product = productsById.get(productId);
+        if (product == null) {
+            throw new ProductNotFoundException(productId);
+        }
+        return product;
+    }
+
+    /**
+     * 스냅샷에서 상품 옵션 조회
+     *
+     * @throws ProductNotFoundException 상품을 찾을 수 없음
+     */
+    public Optional<ProductOption> findOption(Long productId, Long optionId) {
+        return getProduct(productId).getOptions().stream()
+                .filter(option -> option.getOptionId().equals(optionId))
+                .findFirst();
+    }
+}
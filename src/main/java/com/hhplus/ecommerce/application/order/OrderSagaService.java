@@ -36,20 +36,20 @@ import java.util.List;
  * ✅ Saga Orchestrator 패턴 적용:
  * - 중앙 집중식 워크플로우 관리 (OrderSagaOrchestrator)
  * - 각 Step은 독립적인 트랜잭션으로 실행 (REQUIRES_NEW)
- * - Forward Flow: 순차 실행 (Step 1 → 2 → 3 → 4)
- * - Backward Flow: LIFO 보상 (Step 4 → 3 → 2 → 1)
+ * - Forward Flow: 의존 관계(DAG) 순서로 실행, 서로 독립인 Step은 동시 실행
+ *   (재고/포인트/쿠폰 동시 → 주문 생성, saga.parallel.enabled=false이면 위상 정렬 순 순차 실행)
+ * - Backward Flow: 실행 완료된 Step만 위상 정렬 역순으로 순차 보상
  *
- * Step 구성:
- * Step 1: DeductInventoryStep - 재고 차감
- * Step 2: DeductBalanceStep - 포인트 차감
- * Step 3: UseCouponStep - 쿠폰 사용 (선택적)
- * Step 4: CreateOrderStep - 주문 생성
+ * Step 구성 (의존 관계):
+ * - DeductInventoryStep - 재고 차감 (의존 없음)
+ * - DeductBalanceStep - 포인트 차감 (의존 없음)
+ * - UseCouponStep - 쿠폰 사용, 선택적 (의존 없음)
+ * - CreateOrderStep - 주문 생성 (위 3개 Step에 의존)
  *
- * 보상 순서 (LIFO):
- * Step 4: CreateOrderStep - 주문 취소
- * Step 3: UseCouponStep - 쿠폰 복구
- * Step 2: DeductBalanceStep - 포인트 환불
- * Step 1: DeductInventoryStep - 재고 복구
+ * 보상 순서 (위상 정렬 역순):
+ * - CreateOrderStep - 주문 취소 (가장 먼저)
+ * - UseCouponStep / DeductBalanceStep / DeductInventoryStep - 쿠폰 복구 / 포인트 환불 / 재고 복구
+ *   (서로 독립이므로 상대 순서는 의미 없음, 실행되지 않은 Step은 건너뜀)
  *
  * ✅ 트랜잭션 외부 I/O 분리:
  * - PaymentSuccessEvent, CompensationCompletedEvent, CompensationFailedEvent 발행
@@ -103,15 +103,16 @@ public class OrderSagaService {
     /**
      * Saga Orchestrator 기반 주문 생성 및 자동 결제
      *
-     * 플로우 (Saga Orchestrator 패턴):
-     * Step 1: DeductInventoryStep - 재고 차감 (독립 트랜잭션)
-     * Step 2: DeductBalanceStep - 포인트 차감 (독립 트랜잭션)
-     * Step 3: UseCouponStep - 쿠폰 사용 (독립 트랜잭션, 선택적)
-     * Step 4: CreateOrderStep - 주문 생성 (독립 트랜잭션)
+     * 플로우 (Saga Orchestrator 패턴, 의존 관계 DAG):
+     * - DeductInventoryStep - 재고 차감 (독립 트랜잭션)
+     * - DeductBalanceStep - 포인트 차감 (독립 트랜잭션)
+     * - UseCouponStep - 쿠폰 사용 (독립 트랜잭션, 선택적)
+     *   → 위 3개는 서로 독립이라 동시 실행
+     * - CreateOrderStep - 주문 생성 (독립 트랜잭션, 위 3개 완료 후)
      *
-     * 실패 시 자동 보상 (LIFO):
-     * - OrderSagaOrchestrator가 자동으로 역순 보상 실행
-     * - Step 4 → 3 → 2 → 1 순서로 compensate() 호출
+     * 실패 시 자동 보상 (위상 정렬 역순):
+     * - OrderSagaOrchestrator가 실행 중인 Step 완료를 기다린 뒤 보상 실행
+     * - 실행 완료된 Step만 위상 정렬 역순으로 compensate() 호출 (CreateOrderStep 먼저)
      * - 각 Step의 보상 플래그를 확인하여 실행 여부 결정
      *
      * ✅ 트랜잭션 외부 I/O 분리:
@@ -123,7 +124,7 @@ public class OrderSagaService {
      * - 각 Step은 독립적인 트랜잭션으로 실행 (REQUIRES_NEW)
      * - Step 간 의존성 최소화 (MSA 전환 대비)
      * - 중앙 집중식 워크플로우 관리 (Orchestrator)
-     * - 자동 보상 메커니즘 (LIFO)
+     * - 자동 보상 메커니즘 (위상 정렬 역순)
      *
      * @param userId 사용자 ID
      * @param orderItems 주문 항목 리스트
@@ -156,14 +157,12 @@ public class OrderSagaService {
             Long subtotal = orderCalculator.calculateSubtotal(orderItemCommands);
 
             // ========== Step 2: OrderSagaOrchestrator 실행 ==========
-            // OrderSagaOrchestrator가 각 Step을 순차 실행:
-            // 1. DeductInventoryStep (재고 차감)
-            // 2. DeductBalanceStep (포인트 차감)
-            // 3. UseCouponStep (쿠폰 사용, 선택적)
-            // 4. CreateOrderStep (주문 생성)
+            // OrderSagaOrchestrator가 각 Step을 의존 관계 순서로 실행:
+            // - DeductInventoryStep / DeductBalanceStep / UseCouponStep (서로 독립, 동시 실행)
+            // - CreateOrderStep (위 3개 완료 후 실행)
             //
-            // 실패 시 자동 보상 (LIFO):
-            // 4. CreateOrderStep → 3. UseCouponStep → 2. DeductBalanceStep → 1. DeductInventoryStep
+            // 실패 시 자동 보상 (위상 정렬 역순, 실행 완료된 Step만):
+            // CreateOrderStep → UseCouponStep / DeductBalanceStep / DeductInventoryStep
             Order order = orderSagaOrchestrator.executeSaga(
                     userId,
                     orderItems,
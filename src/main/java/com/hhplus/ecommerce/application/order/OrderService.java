@@ -5,12 +5,14 @@ import com.hhplus.ecommerce.domain.order.OrderNotFoundException;
 import com.hhplus.ecommerce.domain.order.OrderRepository;
 import com.hhplus.ecommerce.domain.order.InvalidOrderStatusException;
 import com.hhplus.ecommerce.domain.order.UserMismatchException;
+import com.hhplus.ecommerce.domain.product.ProductRepository;
 import com.hhplus.ecommerce.domain.user.User;
 import com.hhplus.ecommerce.domain.user.UserRepository;
 import com.hhplus.ecommerce.domain.user.UserNotFoundException;
 import com.hhplus.ecommerce.application.order.dto.CreateOrderCommand;
 import com.hhplus.ecommerce.application.order.dto.CreateOrderResponse;
 import com.hhplus.ecommerce.application.order.dto.OrderDetailResponse;
+import com.hhplus.ecommerce.application.order.dto.OrderItemCommand;
 import com.hhplus.ecommerce.application.order.dto.OrderListResponse;
 import com.hhplus.ecommerce.application.order.dto.CancelOrderResponse;
 import com.hhplus.ecommerce.application.order.dto.CreateOrderRequestDto;
@@ -36,6 +38,7 @@ import java.util.stream.Collectors;
  * - OrderValidator: 모든 유효성 검증 담당
  * - OrderCalculator: 모든 비즈니스 계산 담당
  * - OrderTransactionService: 주문 생성 트랜잭션 담당
+ * - OrderAdmissionQueue: 핫 옵션 주문의 레인별 순차 실행 (선택)
  * - OrderCancelTransactionService: 주문 취소 트랜잭션 담당
  *
  * 플로우 (주문 생성):
@@ -68,23 +71,29 @@ public class OrderService {
 
     private final OrderRepository orderRepository;
     private final UserRepository userRepository;
+    private final ProductRepository productRepository;
     private final OrderValidator orderValidator;
     private final OrderCalculator orderCalculator;
     private final OrderTransactionService orderTransactionService;
     private final OrderCancelTransactionService orderCancelTransactionService;
+    private final OrderAdmissionQueue orderAdmissionQueue;
 
     public OrderService(OrderRepository orderRepository,
                        UserRepository userRepository,
+                       ProductRepository productRepository,
                        OrderValidator orderValidator,
                        OrderCalculator orderCalculator,
                        OrderTransactionService orderTransactionService,
-                       OrderCancelTransactionService orderCancelTransactionService) {
+                       OrderCancelTransactionService orderCancelTransactionService,
+                       OrderAdmissionQueue orderAdmissionQueue) {
         this.orderRepository = orderRepository;
         this.userRepository = userRepository;
+        this.productRepository = productRepository;
         this.orderValidator = orderValidator;
         this.orderCalculator = orderCalculator;
         this.orderTransactionService = orderTransactionService;
         this.orderCancelTransactionService = orderCancelTransactionService;
+        this.orderAdmissionQueue = orderAdmissionQueue;
     }
 
     /**
@@ -103,14 +112,20 @@ public class OrderService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException(userId));
 
+        // 주문 상품 스냅샷: 참조하는 모든 상품을 IN 쿼리 1회로 로드 (계산 + 검증이 공유)
+        OrderPricingContext pricingContext = OrderPricingContext.load(productRepository,
+                command.getOrderItems().stream()
+                        .map(OrderItemCommand::getProductId)
+                        .collect(Collectors.toList()));
+
         // 금액 계산 (OrderCalculator 위임)
-        long[] prices = orderCalculator.calculatePrices(command.getOrderItems(), command.getCouponId());
+        long[] prices = orderCalculator.calculatePrices(pricingContext, command.getOrderItems(), command.getCouponId());
         long subtotal = prices[0];
         long couponDiscount = prices[1];
         long finalAmount = prices[2];
 
         // 1단계: 검증 (읽기 전용, 트랜잭션 없음) (OrderValidator 위임)
-        orderValidator.validateOrder(user, command.getOrderItems(), finalAmount);
+        orderValidator.validateOrder(user, command.getOrderItems(), finalAmount, pricingContext);
 
         // 1-1단계: 쿠폰 소유 및 사용 가능 여부 검증 (새로운 검증)
         // 변경 사항 (2025-11-18):
@@ -130,14 +145,17 @@ public class OrderService {
                         .build())
                 .collect(Collectors.toList());
 
-        Order savedOrder = orderTransactionService.executeTransactionalOrder(
-                userId,
-                orderItemDtos,
-                command.getCouponId(),
-                couponDiscount,
-                subtotal,
-                finalAmount
-        );
+        // 핫 옵션 주문은 입장 대기열의 옵션별 레인에서 순서대로 실행 (비활성화/일반 주문은 바로 실행)
+        Order savedOrder = orderAdmissionQueue.execute(
+                orderItemDtos.stream().map(OrderItemDto::getOptionId).collect(Collectors.toList()),
+                () -> orderTransactionService.executeTransactionalOrder(
+                        userId,
+                        orderItemDtos,
+                        command.getCouponId(),
+                        couponDiscount,
+                        subtotal,
+                        finalAmount
+                ));
 
         // 3단계: 후처리 (외부 전송, 알림 등, 트랜잭션 이후)
         handlePostOrderProcessing(savedOrder);
@@ -23,6 +23,7 @@ import com.hhplus.ecommerce.domain.order.event.OrderCompletedEvent;
 import com.hhplus.ecommerce.domain.product.event.LowInventoryEvent;
 import com.hhplus.ecommerce.domain.product.ProductConstants;
 import com.hhplus.ecommerce.application.coupon.CouponService;
+import com.hhplus.ecommerce.application.inventory.OptionStockDeductionService;
 import com.hhplus.ecommerce.application.order.dto.CreateOrderRequestDto.OrderItemDto;
 import com.hhplus.ecommerce.application.user.UserBalanceService;
 import org.springframework.context.ApplicationEventPublisher;
@@ -36,7 +37,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import jakarta.persistence.OptimisticLockException;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -72,6 +76,8 @@ public class OrderTransactionService {
     private final CouponService couponService;
     private final ObjectMapper objectMapper;
     private final ApplicationEventPublisher eventPublisher;
+    private final OptionStockDeductionService optionStockDeductionService;
+    private final OutboxImmediateRelay outboxImmediateRelay;
 
     public OrderTransactionService(OrderRepository orderRepository,
                                    ProductRepository productRepository,
@@ -81,7 +87,9 @@ public class OrderTransactionService {
                                    ExecutedChildTransactionRepository executedChildTransactionRepository,
                                    CouponService couponService,
                                    ObjectMapper objectMapper,
-                                   ApplicationEventPublisher eventPublisher) {
+                                   ApplicationEventPublisher eventPublisher,
+                                   OptionStockDeductionService optionStockDeductionService,
+                                   OutboxImmediateRelay outboxImmediateRelay) {
         this.orderRepository = orderRepository;
         this.productRepository = productRepository;
         this.userRepository = userRepository;
@@ -91,6 +99,8 @@ public class OrderTransactionService {
         this.couponService = couponService;
         this.objectMapper = objectMapper;
         this.eventPublisher = eventPublisher;
+        this.optionStockDeductionService = optionStockDeductionService;
+        this.outboxImmediateRelay = outboxImmediateRelay;
     }
 
     /**
@@ -112,7 +122,7 @@ public class OrderTransactionService {
      *
      * 프록시를 통해 호출되므로 @Transactional이 정상 작동합니다.
      * 다음 작업이 하나의 트랜잭션으로 처리됩니다:
-     * - 재고 차감 (Domain 메서드 사용, 낙관적 락 @Version)
+     * - 재고 차감 (조건부 UPDATE JDBC 배치, 재고 부족 시 영향 행 0 → 롤백)
      * - 사용자 잔액 차감 (Domain 메서드 사용, 자식 TX)
      * - 주문 저장
      * - 주문 항목 저장
@@ -124,7 +134,8 @@ public class OrderTransactionService {
      *   - waitTime=5초: 최대 5초 동안 락 획득 시도
      *   - leaseTime=2초: 락 유지 시간 2초
      *   - 락 획득 실패 시 RuntimeException 발생 → 부모 TX 롤백 ⚠️
-     * - OptimisticLockException 발생 시 @Retryable로 자동 재시도 (deductInventory만)
+     * - OptimisticLockException 발생 시 @Retryable로 자동 재시도
+     *   (재고 차감은 조건부 UPDATE라 버전 충돌이 없음 → 재시도는 그 외 @Version 엔티티용 안전망)
      * - maxAttempts=3: 최대 3회 재시도
      * - backoff: Exponential Backoff with Jitter (Thundering Herd 방지)
      *   - delay=50ms: 초기 대기 시간
@@ -272,9 +283,13 @@ public class OrderTransactionService {
             }
         }
 
-        // ===== 2-1: 재고 차감 (낙관적 락, @Retryable 대상) =====
-        // OptimisticLockException 발생 시 최대 3회 재시도
-        deductInventory(orderItems);
+        // ===== 2-0: 주문 상품 스냅샷 (트랜잭션 내 IN 쿼리 1회) =====
+        // 주문 항목 생성과 재고 부족 알림이 공유 (재고 차감 판정에는 사용하지 않음)
+        OrderPricingContext pricingContext = OrderPricingContext.load(productRepository,
+                orderItems.stream().map(OrderItemDto::getProductId).collect(Collectors.toList()));
+
+        // ===== 2-1: 재고 차감 (조건부 UPDATE 일괄 차감, 버전 충돌/재시도 없음) =====
+        deductInventory(pricingContext, orderItems);
 
         // ===== 2-2: 사용자 잔액 차감 (자식 TX: REQUIRES_NEW) =====
         // ⚠️ 중요: 자식 TX에서 발생하는 예외를 명시적으로 처리
@@ -316,12 +331,8 @@ public class OrderTransactionService {
 
         // ===== 2-4: 주문 항목 생성 및 Order ID 설정 =====
         for (OrderItemDto itemRequest : orderItems) {
-            Product product = productRepository.findById(itemRequest.getProductId())
-                    .orElseThrow(() -> new ProductNotFoundException(itemRequest.getProductId()));
-
-            ProductOption option = product.getOptions().stream()
-                    .filter(o -> o.getOptionId().equals(itemRequest.getOptionId()))
-                    .findFirst()
+            Product product = pricingContext.getProduct(itemRequest.getProductId());
+            ProductOption option = pricingContext.findOption(itemRequest.getProductId(), itemRequest.getOptionId())
                     .orElseThrow(() -> new IllegalArgumentException("옵션을 찾을 수 없습니다"));
 
             OrderItem orderItem = OrderItem.createOrderItem(
@@ -341,9 +352,9 @@ public class OrderTransactionService {
 
         // ===== 2-6: OrderCreatedEvent 발행 =====
         // God Transaction 해체
-        // 쿠폰 사용 처리와 상품 상태 업데이트를 이벤트 핸들러로 분리
+        // 쿠폰 사용 처리를 이벤트 핸들러로 분리
         // - CouponEventHandler: 동기 처리 (BEFORE_COMMIT)
-        // - ProductStatusEventHandler: 비동기 처리 (AFTER_COMMIT)
+        // (상품 상태 업데이트는 재고 차감 시 발행한 ProductStockChangedEvent로 처리)
         List<OrderCreatedEvent.OrderItemInfo> orderItemInfos = orderItems.stream()
                 .map(item -> new OrderCreatedEvent.OrderItemInfo(
                         item.getProductId(),
@@ -386,66 +397,85 @@ public class OrderTransactionService {
      *
      * 트랜잭션 2단계 내에서 호출되므로 주문 저장과 함께 원자적으로 처리됩니다.
      * 배치 프로세스가 이 메시지를 조회하여 외부 시스템(배송, 결제 등)에 전송합니다.
+     * 즉시 발행 모드(OutboxImmediateRelay)에서는 커밋 직후 바로 전송하고 배치는 안전망으로만 동작합니다.
      *
      * @param orderId 주문 ID
      * @param userId 사용자 ID
      */
     private void saveOrderCompletionEvent(Long orderId, Long userId) {
         Outbox outbox = Outbox.createOutbox(orderId, userId, "ORDER_COMPLETED");
-        outboxRepository.save(outbox);
+        Outbox savedOutbox = outboxRepository.save(outbox);
+
+        // 즉시 발행 모드: 커밋 직후 발행 (비활성화 시 폴링 릴레이가 발행)
+        outboxImmediateRelay.register(savedOutbox.getMessageId());
         log.info("[OrderTransactionService] Outbox 메시지 저장: orderId={}, status=PENDING", orderId);
     }
 
     /**
-     * 재고 차감 (Domain 메서드 활용)
+     * 재고 차감 (조건부 UPDATE 일괄 차감)
      *
-     * Product.deductStock() 메서드가 다음을 처리합니다:
-     * - ProductOption 재고 검증 및 차감
-     * - 낙관적 락 (version 증가)
-     * - 상품 상태 자동 업데이트 (모든 옵션 재고가 0인 경우 품절로 변경)
-     * - 동시성 제어 (synchronized 블록)
-     *
-     * Application 계층은 Domain 메서드를 호출하기만 하면 됩니다.
+     * OptionStockDeductionService.deductAll()이 다음을 처리합니다:
+     * - UPDATE ... SET stock = stock - ? WHERE option_id = ? AND stock >= ? 를 JDBC 배치 1회로 실행
+     * - 영향 행 수 0 → 재고 부족 예외 (OptimisticLockException/재시도 없음)
+     * - 상품 총 재고/상태는 커밋 후 ProductStatusEventHandler가 비동기 재계산
      *
      * 개선사항 (재고 부족 이벤트):
      * - 재고 차감 후 재고가 LOW_STOCK_THRESHOLD 이하이면 LowInventoryEvent 발행
      * - 이벤트 리스너(InventoryEventListener)에서 관리자 알림 처리
      * - 트랜잭션 커밋 후 비동기로 실행되어 주문 트랜잭션과 분리
+     * - 남은 재고는 트랜잭션 내 스냅샷(OrderPricingContext) 기준 추정치
+     *   (동시 주문으로 실제 재고가 더 적을 수 있으나 다음 주문에서 다시 감지됨)
+     *
+     * 핫 옵션 (StripedStockService):
+     * - OptionStockDeductionService가 재고 버킷에서 차감 (옵션 행 락 경합 없음)
+     * - 버킷 차감 옵션은 재고 부족 알림 대상에서 제외 (스냅샷이 옵션 행 기준)
      */
-    private void deductInventory(List<OrderItemDto> orderItems) {
-        for (OrderItemDto itemRequest : orderItems) {
-            Product product = productRepository.findById(itemRequest.getProductId())
-                    .orElseThrow(() -> new ProductNotFoundException(itemRequest.getProductId()));
-
-            // Domain 메서드 호출 (Product가 내부적으로 ProductOption 조회 및 재고 차감)
-            // 예외 처리: InsufficientStockException, ProductOptionNotFoundException
-            product.deductStock(itemRequest.getOptionId(), itemRequest.getQuantity());
-
-            // 재고 차감 후 재고 부족 여부 확인 및 이벤트 발행
-            ProductOption option = product.findOptionById(itemRequest.getOptionId())
-                    .orElseThrow(() -> new ProductNotFoundException(itemRequest.getProductId()));
-
-            if (option.getStock() <= ProductConstants.LOW_STOCK_THRESHOLD) {
-                log.warn("[OrderTransactionService] 재고 부족 감지 - productId={}, optionId={}, stock={}, threshold={}",
-                        product.getProductId(), option.getOptionId(), option.getStock(), ProductConstants.LOW_STOCK_THRESHOLD);
-
-                LowInventoryEvent lowInventoryEvent = new LowInventoryEvent(
-                        product.getProductId(),
-                        option.getOptionId(),
-                        product.getProductName(),
-                        option.getName(),
-                        option.getStock(),
-                        ProductConstants.LOW_STOCK_THRESHOLD
-                );
+    private void deductInventory(OrderPricingContext pricingContext, List<OrderItemDto> orderItems) {
+        // 예외 처리: 재고 부족/옵션 없음 시 IllegalArgumentException → 트랜잭션 롤백
+        List<OrderItemDto> rowDeductions = optionStockDeductionService.deductAll(orderItems);
 
-                eventPublisher.publishEvent(lowInventoryEvent);
-                log.info("[OrderTransactionService] LowInventoryEvent 발행: productId={}, optionId={}, stock={}",
-                        product.getProductId(), option.getOptionId(), option.getStock());
-            }
+        publishLowInventoryEvents(pricingContext, rowDeductions);
+    }
 
-            // 저장소에 반영
-            productRepository.save(product);
+    /**
+     * 차감된 옵션 중 재고가 임계값 이하인 옵션에 대해 LowInventoryEvent 발행
+     */
+    private void publishLowInventoryEvents(OrderPricingContext pricingContext, List<OrderItemDto> deductedItems) {
+        Map<Long, Integer> quantitiesByOptionId = new LinkedHashMap<>();
+        Map<Long, Long> productIdsByOptionId = new LinkedHashMap<>();
+        for (OrderItemDto item : deductedItems) {
+            quantitiesByOptionId.merge(item.getOptionId(), item.getQuantity(), Integer::sum);
+            productIdsByOptionId.put(item.getOptionId(), item.getProductId());
         }
+
+        quantitiesByOptionId.forEach((optionId, quantity) -> {
+            Long productId = productIdsByOptionId.get(optionId);
+            Product product = pricingContext.getProduct(productId);
+            ProductOption option = pricingContext.findOption(productId, optionId)
+                    .orElseThrow(() -> new ProductNotFoundException(productId));
+
+            // 스냅샷은 조건부 UPDATE 이전 값 (JDBC 차감은 영속성 컨텍스트에 반영되지 않음)
+            int remainingStock = option.getStock() - quantity;
+            if (remainingStock > ProductConstants.LOW_STOCK_THRESHOLD) {
+                return;
+            }
+
+            log.warn("[OrderTransactionService] 재고 부족 감지 - productId={}, optionId={}, stock={}, threshold={}",
+                    productId, optionId, remainingStock, ProductConstants.LOW_STOCK_THRESHOLD);
+
+            LowInventoryEvent lowInventoryEvent = new LowInventoryEvent(
+                    productId,
+                    optionId,
+                    product.getProductName(),
+                    option.getName(),
+                    remainingStock,
+                    ProductConstants.LOW_STOCK_THRESHOLD
+            );
+
+            eventPublisher.publishEvent(lowInventoryEvent);
+            log.info("[OrderTransactionService] LowInventoryEvent 발행: productId={}, optionId={}, stock={}",
+                    productId, optionId, remainingStock);
+        });
     }
 
     /**
@@ -1,11 +1,11 @@
 package com.hhplus.ecommerce.application.order;
 
+import com.hhplus.ecommerce.application.inventory.StripedStockService;
 import com.hhplus.ecommerce.domain.order.Order;
 import com.hhplus.ecommerce.domain.order.OrderRepository;
-import com.hhplus.ecommerce.domain.product.Product;
 import com.hhplus.ecommerce.domain.product.ProductOption;
-import com.hhplus.ecommerce.domain.product.ProductRepository;
 import com.hhplus.ecommerce.domain.product.ProductNotFoundException;
+import com.hhplus.ecommerce.domain.stock.StockBucketType;
 import com.hhplus.ecommerce.domain.user.User;
 import com.hhplus.ecommerce.domain.coupon.UserCouponRepository;
 import com.hhplus.ecommerce.application.order.dto.OrderItemCommand;
@@ -27,20 +27,21 @@ import java.util.List;
  * - 예외 발생으로 검증 실패 표현
  * - OrderService에서 의존성 주입받음
  * - Repository는 주입받아 데이터 조회만 수행
+ * - 상품/옵션은 OrderPricingContext 스냅샷에서 조회 (상품 조회는 호출자가 1회 수행)
  */
 @Component
 public class OrderValidator {
 
-    private final ProductRepository productRepository;
     private final UserCouponRepository userCouponRepository;
     private final OrderRepository orderRepository;
+    private final StripedStockService stripedStockService;
 
-    public OrderValidator(ProductRepository productRepository,
-                         UserCouponRepository userCouponRepository,
-                         OrderRepository orderRepository) {
-        this.productRepository = productRepository;
+    public OrderValidator(UserCouponRepository userCouponRepository,
+                         OrderRepository orderRepository,
+                         StripedStockService stripedStockService) {
         this.userCouponRepository = userCouponRepository;
         this.orderRepository = orderRepository;
+        this.stripedStockService = stripedStockService;
     }
 
     /**
@@ -52,17 +53,21 @@ public class OrderValidator {
      * 3. 각 옵션의 재고 충분성
      * 4. 사용자 잔액 충분성
      *
+     * 상품/옵션은 OrderCalculator와 공유하는 스냅샷에서 조회 (추가 상품 조회 없음)
+     *
      * @param user 주문자 정보
      * @param orderItems 주문 항목 목록
      * @param finalAmount 최종 결제액
+     * @param pricingContext 주문 상품 스냅샷
      * @throws ProductNotFoundException 상품을 찾을 수 없음
      * @throws IllegalArgumentException 옵션/재고/잔액 부족
      */
-    public void validateOrder(User user, List<OrderItemCommand> orderItems, long finalAmount) {
+    public void validateOrder(User user, List<OrderItemCommand> orderItems, long finalAmount,
+                              OrderPricingContext pricingContext) {
         // 각 주문 항목에 대해 검증 수행
         for (OrderItemCommand itemCommand : orderItems) {
-            validateProductAndOption(itemCommand);
-            validateStockAvailable(itemCommand);
+            ProductOption option = validateProductAndOption(pricingContext, itemCommand);
+            validateStockAvailable(option, itemCommand);
         }
 
         // 사용자 잔액 검증
@@ -72,45 +77,34 @@ public class OrderValidator {
     /**
      * 상품과 옵션 존재 여부 검증
      *
+     * @param pricingContext 주문 상품 스냅샷
      * @param itemCommand 주문 항목 커맨드
+     * @return 주문 항목의 옵션
      * @throws ProductNotFoundException 상품을 찾을 수 없음
      * @throws IllegalArgumentException 옵션을 찾을 수 없음
      */
-    private void validateProductAndOption(OrderItemCommand itemCommand) {
-        Product product = productRepository.findById(itemCommand.getProductId())
-                .orElseThrow(() -> new ProductNotFoundException(itemCommand.getProductId()));
-
-        // 옵션 존재 여부 확인
-        product.getOptions().stream()
-                .filter(o -> o.getOptionId().equals(itemCommand.getOptionId()))
-                .findFirst()
+    private ProductOption validateProductAndOption(OrderPricingContext pricingContext, OrderItemCommand itemCommand) {
+        return pricingContext.findOption(itemCommand.getProductId(), itemCommand.getOptionId())
                 .orElseThrow(() -> new IllegalArgumentException("옵션을 찾을 수 없습니다"));
     }
 
     /**
      * 재고 충분성 검증
      *
+     * @param option 주문 항목의 옵션
      * @param itemCommand 주문 항목 커맨드
-     * @throws ProductNotFoundException 상품을 찾을 수 없음
      * @throws IllegalArgumentException 재고 부족
      */
-    private void validateStockAvailable(OrderItemCommand itemCommand) {
-        Product product = productRepository.findById(itemCommand.getProductId())
-                .orElseThrow(() -> new ProductNotFoundException(itemCommand.getProductId()));
-
-        // 옵션의 재고 확인
-        int availableStock = product.getOptions().stream()
-                .filter(o -> o.getOptionId().equals(itemCommand.getOptionId()))
-                .mapToInt(ProductOption::getStock)
-                .sum();
+    private void validateStockAvailable(ProductOption option, OrderItemCommand itemCommand) {
+        // 옵션의 재고 확인 (옵션 행이 부족할 때만 재고 버킷 잔여분 조회 - 분할 중 행 재고는 0일 수 있음)
+        if (option.getStock() >= itemCommand.getQuantity()) {
+            return;
+        }
+        int availableStock = option.getStock()
+                + stripedStockService.getStripedQuantity(StockBucketType.PRODUCT_OPTION, itemCommand.getOptionId());
 
         if (availableStock < itemCommand.getQuantity()) {
-            String optionName = product.getOptions().stream()
-                    .filter(o -> o.getOptionId().equals(itemCommand.getOptionId()))
-                    .map(ProductOption::getName)
-                    .findFirst()
-                    .orElse("알 수 없는 옵션");
-            throw new IllegalArgumentException(optionName + "의 재고가 부족합니다");
+            throw new IllegalArgumentException(option.getName() + "의 재고가 부족합니다");
         }
     }
 
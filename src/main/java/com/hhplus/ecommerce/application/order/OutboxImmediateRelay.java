@@ -0,0 +1,143 @@
+package com.hhplus.ecommerce.application.order;
+
+import com.hhplus.ecommerce.domain.order.OutboxRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * OutboxImmediateRelay - 커밋 직후 Outbox 즉시 발행 (폴링 대체 모드)
+ *
+ * 문제:
+ * - 폴링 릴레이(OutboxPollingService)는 최대 폴링 주기(5초)만큼 발행이 지연
+ * - 메시지가 없어도 주기마다 outbox 테이블 SELECT
+ *
+ * 해결:
+ * - Outbox를 저장한 트랜잭션이 커밋되면(afterCommit) 메시지 ID를 메모리 버퍼에 넣음
+ * - 워커 스레드(max-in-flight개)가 버퍼에서 꺼내 단건 선점(claimById) 후 바로 발행
+ * - 결과 반영(SENT/재시도/ABANDONED)은 폴링 릴레이와 동일 (OutboxPollingService.relayClaimed)
+ *
+ * At-least-once:
+ * - 커밋 후에만 버퍼에 넣으므로 롤백된 메시지는 발행하지 않음
+ * - 버퍼가 가득 차거나 인스턴스가 죽어 유실된 ID는 폴링 안전망이 발행
+ *   (즉시 발행 모드에서 폴링은 safety-net-delay-seconds보다 오래된 메시지만 선점)
+ * - 선점 리스로 폴링과 동시에 같은 메시지를 발행하지 않음 (리스 만료 후에는 중복 발행 가능)
+ *
+ * 설정:
+ * - outbox.immediate.enabled: 기본 false (비활성화 시 폴링만 사용)
+ * - outbox.immediate.buffer-capacity: 버퍼 크기 (초과분은 버리고 폴링에 맡김)
+ * - outbox.immediate.max-in-flight: 동시에 발행 중인 메시지 수 상한 (워커 수)
+ */
+@Component
+@Slf4j
+public class OutboxImmediateRelay {
+
+    private final OutboxRepository outboxRepository;
+    private final OutboxPollingService outboxPollingService;
+    private final boolean enabled;
+    private final long leaseSeconds;
+    private final BlockingQueue<Long> buffer;
+    private final List<Thread> workers = new ArrayList<>();
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    public OutboxImmediateRelay(OutboxRepository outboxRepository,
+                                OutboxPollingService outboxPollingService,
+                                @Value("${outbox.immediate.enabled:false}") boolean enabled,
+                                @Value("${outbox.immediate.buffer-capacity:4096}") int bufferCapacity,
+                                @Value("${outbox.immediate.max-in-flight:4}") int maxInFlight,
+                                @Value("${outbox.relay.lease-seconds:30}") long leaseSeconds) {
+        this.outboxRepository = outboxRepository;
+        this.outboxPollingService = outboxPollingService;
+        this.enabled = enabled;
+        this.leaseSeconds = leaseSeconds;
+        this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+
+        if (enabled) {
+            for (int i = 0; i < maxInFlight; i++) {
+                Thread worker = new Thread(this::runLoop, "outbox-immediate-" + i);
+                worker.setDaemon(true);
+                worker.start();
+                workers.add(worker);
+            }
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 저장한 Outbox 메시지를 커밋 직후 발행하도록 등록
+     * - 트랜잭션 안: afterCommit에서 버퍼에 추가 (롤백 시 아무것도 하지 않음)
+     * - 트랜잭션 밖: 바로 버퍼에 추가
+     *
+     * @param messageId 저장된 Outbox 메시지 ID
+     */
+    public void register(Long messageId) {
+        if (!enabled || messageId == null) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(messageId);
+                }
+            });
+        } else {
+            enqueue(messageId);
+        }
+    }
+
+    /**
+     * 버퍼 포화로 폴링 안전망에 넘긴 메시지 수 (모니터링용)
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.forEach(Thread::interrupt);
+    }
+
+    private void enqueue(Long messageId) {
+        if (!buffer.offer(messageId)) {
+            droppedCount.incrementAndGet();
+            log.warn("[OutboxImmediateRelay] 버퍼 포화 - 폴링 안전망으로 발행: messageId={}", messageId);
+        }
+    }
+
+    private void runLoop() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                relay(buffer.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void relay(Long messageId) {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            outboxRepository.claimById(messageId, now, now.plusSeconds(leaseSeconds))
+                    .ifPresent(message -> outboxPollingService.relayClaimed(List.of(message)));
+        } catch (Exception e) {
+            // 선점/결과 반영 실패: 메시지는 PENDING으로 남아 폴링 안전망이 발행
+            log.error("[OutboxImmediateRelay] 즉시 발행 실패 (폴링 안전망으로 재시도): messageId={}, error={}",
+                    messageId, e.getMessage());
+        }
+    }
+}
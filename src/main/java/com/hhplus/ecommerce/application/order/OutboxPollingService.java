@@ -3,148 +3,230 @@ package com.hhplus.ecommerce.application.order;
 import com.hhplus.ecommerce.domain.order.Outbox;
 import com.hhplus.ecommerce.domain.order.OutboxRepository;
 import com.hhplus.ecommerce.application.alert.AlertService;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
 
 /**
- * OutboxPollingService - Outbox 메시지 배치 처리 서비스
+ * OutboxPollingService - Outbox 메시지 릴레이 (배치 선점 + 병렬 발행)
  *
  * 역할:
- * - 주기적으로 PENDING 상태의 Outbox 메시지를 조회
- * - 각 메시지를 외부 시스템에 발행 시도
- * - 성공/실패에 따라 메시지 상태 업데이트
+ * - 주기적으로 발행 시각이 된 PENDING Outbox 메시지를 선점
+ * - 메시지 타입별로 외부 시스템 발행을 병렬 처리
+ * - 성공/실패 결과를 배치 단위로 일괄 반영
  * - 최대 재시도 횟수 초과 시 ABANDONED 상태로 전환
  *
  * 실행:
- * - @Scheduled(fixedRate = 5000): 5초마다 실행
- * - 트랜잭션: 각 메시지별로 개별 트랜잭션 처리
+ * - @Scheduled: outbox.relay.poll-interval-ms (기본 5초)마다 실행 (SchedulingConfig의 @EnableScheduling, taskScheduler 풀)
+ * - outbox.relay.enabled=false면 주기 릴레이만 끔 (즉시 발행 경로의 relayClaimed는 그대로 사용)
+ * - 1회 실행당 최대 max-batches-per-run 배치 (배치당 batch-size건)
+ *
+ * 즉시 발행 모드 (outbox.immediate.enabled, OutboxImmediateRelay):
+ * - 커밋 직후 메시지를 바로 발행하고, 폴링은 유실 복구용 안전망으로만 동작
+ * - 안전망은 safety-net-delay-seconds보다 오래 대기한 메시지만 선점 (즉시 발행과 경쟁하지 않음)
  *
  * 설계:
+ * - 전체 PENDING을 한 번에 로드하지 않음 → 장애 후 적체가 커져도 메모리/트랜잭션 크기 일정
+ * - 선점: SELECT ... FOR UPDATE SKIP LOCKED + next_attempt_at 리스 (짧은 독립 트랜잭션)
+ *   → 여러 인스턴스가 서로 다른 배치를 동시에 릴레이, 발행 중에는 행 락 없음
+ * - 발행: 메시지 타입별로 outboxRelayExecutor에서 병렬 실행 (타입 내 순서 유지)
+ * - 결과: SENT / 재시도 예약 / ABANDONED 각각 UPDATE 1회 (메시지별 update 없음)
+ * - 재시도 지연: next_attempt_at = now + RETRY_DELAY_SECONDS
+ *   → 실패 메시지는 지연 시간 동안 조회 범위에 들어오지 않음 (재스캔 없음)
  * - OutboxEventPublisher에 실제 발행 로직 위임
- * - 재시도 횟수 제한 (MAX_RETRIES)
- * - 타임스탬프 추적 (lastAttempt, sentAt)
  */
 @Service
 @Slf4j
-@RequiredArgsConstructor
 public class OutboxPollingService {
 
     private final OutboxRepository outboxRepository;
     private final OutboxEventPublisher eventPublisher;
     private final AlertService alertService;
+    private final Executor relayExecutor;
+    private final boolean pollingEnabled;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final long leaseSeconds;
+    private final boolean immediateEnabled;
+    private final long safetyNetDelaySeconds;
 
     private static final int MAX_RETRIES = 3;
     private static final long RETRY_DELAY_SECONDS = 60;  // 1분 후 재시도
 
+    public OutboxPollingService(OutboxRepository outboxRepository,
+                                OutboxEventPublisher eventPublisher,
+                                AlertService alertService,
+                                @Qualifier("outboxRelayExecutor") Executor relayExecutor,
+                                @Value("${outbox.relay.enabled:true}") boolean pollingEnabled,
+                                @Value("${outbox.relay.batch-size:200}") int batchSize,
+                                @Value("${outbox.relay.max-batches-per-run:50}") int maxBatchesPerRun,
+                                @Value("${outbox.relay.lease-seconds:30}") long leaseSeconds,
+                                @Value("${outbox.immediate.enabled:false}") boolean immediateEnabled,
+                                @Value("${outbox.immediate.safety-net-delay-seconds:30}") long safetyNetDelaySeconds) {
+        this.outboxRepository = outboxRepository;
+        this.eventPublisher = eventPublisher;
+        this.alertService = alertService;
+        this.relayExecutor = relayExecutor;
+        this.pollingEnabled = pollingEnabled;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.leaseSeconds = leaseSeconds;
+        this.immediateEnabled = immediateEnabled;
+        this.safetyNetDelaySeconds = safetyNetDelaySeconds;
+    }
+
     /**
-     * 5초마다 실행되는 배치 작업
+     * 주기적으로 실행되는 배치 작업
      *
      * 처리 흐름:
-     * 1. PENDING 상태의 모든 Outbox 메시지 조회
-     * 2. 각 메시지별로 외부 시스템 발행 시도
-     * 3. 성공 → SENT로 업데이트
-     * 4. 실패 → retryCount 증가, 최대 초과 시 ABANDONED로 변경
+     * 1. 발행 시각이 된 PENDING 메시지를 batch-size건 선점
+     * 2. 메시지 타입별로 병렬 발행
+     * 3. 성공 → SENT, 실패 → 재시도 예약 또는 ABANDONED (결과별 일괄 UPDATE)
+     * 4. 가득 찬 배치였으면 다음 배치 선점 (max-batches-per-run까지)
      */
-    @Scheduled(fixedRate = 5000)
-    @Transactional
+    @Scheduled(fixedRateString = "${outbox.relay.poll-interval-ms:5000}")
     public void pollAndSendMessages() {
+        if (!pollingEnabled) {
+            return;
+        }
         try {
-            log.debug("[OutboxPollingService] Outbox 메시지 폴링 시작...");
-
-            // STEP 1: PENDING 상태의 모든 메시지 조회
-            List<Outbox> pendingMessages = outboxRepository.findAllByStatus("PENDING");
-
-            if (pendingMessages.isEmpty()) {
-                log.debug("[OutboxPollingService] 전송할 PENDING 메시지 없음");
-                return;
+            log.debug("[OutboxPollingService] Outbox 메시지 릴레이 시작...");
+
+            int relayed = 0;
+            for (int i = 0; i < maxBatchesPerRun; i++) {
+                LocalDateTime now = LocalDateTime.now();
+                // 즉시 발행 모드: 커밋 직후 발행 중인 최근 메시지는 건너뜀 (안전망)
+                LocalDateTime dueBefore = immediateEnabled ? now.minusSeconds(safetyNetDelaySeconds) : now;
+                List<Outbox> batch = outboxRepository.claimPendingBatch(dueBefore, batchSize, now.plusSeconds(leaseSeconds));
+                if (batch.isEmpty()) {
+                    break;
+                }
+
+                relayClaimed(batch);
+                relayed += batch.size();
+
+                if (batch.size() < batchSize) {
+                    break;
+                }
             }
 
-            log.info("[OutboxPollingService] {} 개의 PENDING 메시지 발견", pendingMessages.size());
-
-            // STEP 2: 각 메시지별로 외부 시스템에 발행 시도
-            for (Outbox message : pendingMessages) {
-                processMessage(message);
+            if (relayed > 0) {
+                log.info("[OutboxPollingService] Outbox 메시지 릴레이 완료 - {}건", relayed);
             }
 
-            log.debug("[OutboxPollingService] Outbox 메시지 폴링 완료");
-
         } catch (Exception e) {
             log.error("[OutboxPollingService] 배치 처리 중 예상치 못한 에러", e);
         }
     }
 
     /**
-     * 개별 Outbox 메시지 처리
+     * 선점한 메시지 발행 및 결과 반영
+     * - 폴링 배치와 OutboxImmediateRelay(커밋 직후 단건)가 공통으로 사용
+     * - 메시지 타입이 하나뿐이면 실행기를 거치지 않고 호출 스레드에서 발행
      *
-     * @param message 처리할 Outbox 메시지
+     * @param batch 선점한 Outbox 메시지
      */
-    private void processMessage(Outbox message) {
-        try {
-            log.info("[OutboxPollingService] 메시지 발행 시작 - messageId={}, orderId={}, type={}",
-                    message.getMessageId(), message.getOrderId(), message.getMessageType());
+    public void relayClaimed(List<Outbox> batch) {
+        Map<String, List<Outbox>> messagesByType = batch.stream()
+                .collect(Collectors.groupingBy(Outbox::getMessageType, LinkedHashMap::new, Collectors.toList()));
 
-            // STEP 3a: 외부 시스템에 메시지 발행
-            eventPublisher.publish(message);
+        List<Outbox> failed = new ArrayList<>();
+        if (messagesByType.size() == 1) {
+            failed.addAll(dispatch(batch));
+        } else {
+            List<CompletableFuture<List<Outbox>>> dispatches = messagesByType.values().stream()
+                    .map(messages -> CompletableFuture.supplyAsync(() -> dispatch(messages), relayExecutor))
+                    .collect(Collectors.toList());
+            for (CompletableFuture<List<Outbox>> dispatch : dispatches) {
+                failed.addAll(dispatch.join());
+            }
+        }
 
-            // STEP 3b: 성공 - SENT 상태로 업데이트
-            message.markAsSent();
-            message.setSentAt(LocalDateTime.now());
-            outboxRepository.update(message);
+        Set<Long> failedIds = failed.stream().map(Outbox::getMessageId).collect(Collectors.toSet());
+        List<Long> sentIds = batch.stream()
+                .filter(message -> !failedIds.contains(message.getMessageId()))
+                .map(Outbox::getMessageId)
+                .collect(Collectors.toList());
+        outboxRepository.markSent(sentIds);
 
-            log.info("[OutboxPollingService] 메시지 발행 성공 - messageId={}, orderId={}, status=SENT",
-                    message.getMessageId(), message.getOrderId());
+        handleFailures(failed);
 
-        } catch (Exception e) {
-            handleMessageFailure(message, e);
+        log.debug("[OutboxPollingService] 배치 릴레이 - total={}, sent={}, failed={}",
+                batch.size(), sentIds.size(), failed.size());
+    }
+
+    /**
+     * 같은 타입 메시지 순차 발행
+     *
+     * @param messages 같은 messageType의 메시지
+     * @return 발행 실패한 메시지
+     */
+    private List<Outbox> dispatch(List<Outbox> messages) {
+        List<Outbox> failed = new ArrayList<>();
+        for (Outbox message : messages) {
+            try {
+                eventPublisher.publish(message);
+            } catch (Exception e) {
+                log.warn("[OutboxPollingService] 메시지 발행 실패 - messageId={}, orderId={}, error={}",
+                        message.getMessageId(), message.getOrderId(), e.getMessage());
+                failed.add(message);
+            }
         }
+        return failed;
     }
 
     /**
-     * 메시지 발행 실패 처리
+     * 발행 실패 메시지 처리
      *
      * 재시도 로직:
-     * - retryCount < MAX_RETRIES: PENDING 상태 유지, 재시도 대기
+     * - retryCount < MAX_RETRIES: PENDING 유지, RETRY_DELAY_SECONDS 후 재시도 예약
      * - retryCount >= MAX_RETRIES: ABANDONED 상태로 변경, 관리자 알림
      *
-     * @param message 실패한 Outbox 메시지
-     * @param e 발생한 예외
+     * @param failed 발행 실패한 메시지
      */
-    private void handleMessageFailure(Outbox message, Exception e) {
-        log.warn("[OutboxPollingService] 메시지 발행 실패 - messageId={}, orderId={}, error={}",
-                message.getMessageId(), message.getOrderId(), e.getMessage());
+    private void handleFailures(List<Outbox> failed) {
+        if (failed.isEmpty()) {
+            return;
+        }
+
+        List<Outbox> abandoned = new ArrayList<>();
+        List<Long> retryIds = new ArrayList<>();
+        for (Outbox message : failed) {
+            // 재시도 횟수 증가 (DB에는 일괄 UPDATE로 반영)
+            message.markAsFailed();
+            if (message.shouldAbandoned(MAX_RETRIES)) {
+                message.setStatus("ABANDONED");
+                abandoned.add(message);
+            } else {
+                retryIds.add(message.getMessageId());
+            }
+        }
 
-        // 재시도 횟수 증가
-        message.markAsFailed();
-        message.setLastAttempt(LocalDateTime.now());
+        outboxRepository.scheduleRetry(retryIds, LocalDateTime.now().plusSeconds(RETRY_DELAY_SECONDS));
+        outboxRepository.markAbandoned(abandoned.stream().map(Outbox::getMessageId).collect(Collectors.toList()));
 
-        // 최대 재시도 횟수 확인
-        if (message.getRetryCount() >= MAX_RETRIES) {
-            log.error("[OutboxPollingService] 최대 재시도 횟수 초과 - messageId={}, orderId={}, retries={}",
+        for (Outbox message : abandoned) {
+            log.error("[OutboxPollingService] 최대 재시도 횟수 초과, ABANDONED로 처리됨 - messageId={}, orderId={}, retries={}",
                     message.getMessageId(), message.getOrderId(), message.getRetryCount());
 
-            // DLQ로 이동 (ABANDONED)
-            message.setStatus("ABANDONED");
-            outboxRepository.update(message);
-
             // 관리자 알림
             alertService.notifyOutboxFailure(message);
+        }
 
-            log.error("[OutboxPollingService] 메시지 ABANDONED로 처리됨 - messageId={}, orderId={}",
-                    message.getMessageId(), message.getOrderId());
-
-        } else {
-            // 재시도 대기: PENDING 상태 유지, lastAttempt 업데이트
-            message.setStatus("PENDING");
-            outboxRepository.update(message);
-
-            log.info("[OutboxPollingService] 메시지 재시도 대기 - messageId={}, orderId={}, retryCount={}/{}",
-                    message.getMessageId(), message.getOrderId(), message.getRetryCount(), MAX_RETRIES);
+        if (!retryIds.isEmpty()) {
+            log.info("[OutboxPollingService] 메시지 재시도 예약 - {}건, {}초 후", retryIds.size(), RETRY_DELAY_SECONDS);
         }
     }
 }
@@ -0,0 +1,52 @@
+package com.hhplus.ecommerce.application.order.listener;
+
+import com.hhplus.ecommerce.domain.order.event.OrderCreatedEvent;
+import com.hhplus.ecommerce.domain.product.ProductSalesRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * ProductSalesEventHandler - 주문 완료 시 상품별 일일 주문 수 요약 갱신 (비동기 이벤트 핸들러)
+ *
+ * 역할:
+ * - OrderCreatedEvent를 수신하여 product_sales_daily에 상품별 주문 수 1 누적
+ * - 같은 주문에 같은 상품이 여러 항목으로 있어도 1회만 증가 (랭킹과 같은 주문 수 기준)
+ * - 인기 상품 계산이 전체 상품/주문을 스캔하지 않도록 요약을 미리 유지
+ *
+ * 비동기 처리:
+ * - @TransactionalEventListener(AFTER_COMMIT): 롤백된 주문은 반영하지 않음
+ * - 예외 발생 시 로깅만 하고 주문에 영향 없음 (인기 상품은 근사치 허용)
+ */
+@Component
+public class ProductSalesEventHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductSalesEventHandler.class);
+
+    private final ProductSalesRepository productSalesRepository;
+
+    public ProductSalesEventHandler(ProductSalesRepository productSalesRepository) {
+        this.productSalesRepository = productSalesRepository;
+    }
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleOrderCreated(OrderCreatedEvent event) {
+        try {
+            Map<Long, Long> orderCounts = event.getProductIds().stream()
+                    .collect(Collectors.toMap(Function.identity(), productId -> 1L));
+            productSalesRepository.addDailyOrderCounts(LocalDate.now(), orderCounts);
+        } catch (Exception e) {
+            log.error("[ProductSalesEventHandler] 일일 주문 수 요약 갱신 실패 (무시됨): orderId={}, productIds={}, error={}",
+                    event.getOrderId(), event.getProductIds(), e.getMessage());
+        }
+    }
+}
@@ -1,9 +1,7 @@
 package com.hhplus.ecommerce.application.order.listener;
 
-import com.hhplus.ecommerce.domain.order.event.OrderCreatedEvent;
-import com.hhplus.ecommerce.domain.product.Product;
 import com.hhplus.ecommerce.domain.product.ProductRepository;
-import com.hhplus.ecommerce.domain.product.ProductNotFoundException;
+import com.hhplus.ecommerce.domain.product.event.ProductStockChangedEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.scheduling.annotation.Async;
@@ -12,10 +10,10 @@ import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
 /**
- * ProductStatusEventHandler - 주문 생성 후 상품 상태 업데이트 (비동기 이벤트 핸들러)
+ * ProductStatusEventHandler - 재고 차감 후 상품 상태 업데이트 (비동기 이벤트 핸들러)
  *
  * 역할:
- * - OrderCreatedEvent를 수신하여 상품 상태 업데이트 (품절 여부)
+ * - ProductStockChangedEvent를 수신하여 상품 총 재고/상태 재계산 (품절 여부)
  * - 주문 Core Transaction과 독립적으로 비동기 실행
  * - 예외 발생 시 부모 트랜잭션에 영향 없음
  *
@@ -25,14 +23,19 @@ import org.springframework.transaction.event.TransactionalEventListener;
  * - Core TX(재고 차감, 쿠폰 처리)와 상품 상태 업데이트 분리
  * - 재고 차감은 Core TX에서 수행, 품절 여부 판단만 비동기 처리
  *
+ * 조건부 차감 (OptionStockDeductionService):
+ * - Core TX는 옵션 행만 조건부 UPDATE → 상품 행(total_stock, status)은 갱신하지 않음
+ * - 주문 경로(OrderTransactionService)와 Saga 경로(DeductInventoryStep) 모두 이 이벤트 발행
+ * - 상품별 로드/저장 대신 UPDATE 1회로 재계산 (상품 @Version 충돌 없음)
+ *
  * 비동기 처리:
  * - @Async: 별도 스레드에서 실행
- * - @EventListener: 트랜잭션과 무관하게 이벤트 발생 시 즉시 실행
- * - 주문 생성 트랜잭션이 커밋된 후 실행됨
+ * - @TransactionalEventListener(AFTER_COMMIT): 재고 차감 트랜잭션이 커밋된 후 실행
+ *   (커밋 전 재계산하면 차감 전 재고를 읽으므로)
  * - 예외 발생 시 주문 생성에 영향 없음 (이미 커밋됨)
  *
  * 처리 로직:
- * - 주문된 상품들의 재고를 재계산
+ * - 차감된 상품들의 재고를 옵션 재고 합계로 재계산
  * - 모든 옵션의 재고가 0이면 '품절'로 변경
  * - 그 외의 경우 '판매중'으로 유지
  */
@@ -48,62 +51,34 @@ public class ProductStatusEventHandler {
     }
 
     /**
-     * 주문 생성 완료 시 상품 상태 업데이트 (비동기)
+     * 재고 차감 커밋 시 상품 상태 업데이트 (비동기)
      *
      * 이벤트 수신 시점:
-     * - OrderTransactionService.executeTransactionalOrderInternal() 트랜잭션 커밋 후
-     * - 주문 생성이 완료된 상태
+     * - OptionStockDeductionService.deductAll()을 호출한 트랜잭션 커밋 후
      * - 별도 스레드에서 실행
      *
      * 처리 로직:
-     * 1. 주문된 상품 ID 목록 추출
-     * 2. 각 상품의 재고 상태 재계산 (Product.recalculateTotalStock())
-     * 3. 모든 옵션 재고가 0이면 '품절', 그 외에는 '판매중'으로 변경
-     * 4. DB에 저장
+     * - productRepository.recalculateTotalStocks(): 옵션 재고 합계로 total_stock/status 일괄 갱신
      *
      * 예외 처리:
      * - 예외 발생 시 로깅만 하고 주문 생성에 영향 없음
-     * - 상품 상태 업데이트는 비핵심 후처리 로직
+     * - 상품 상태 업데이트는 비핵심 후처리 로직 (다음 차감 시 다시 재계산됨)
      *
-     * @param event OrderCreatedEvent (orderId, userId, couponId, orderItems, productIds)
+     * @param event ProductStockChangedEvent (productIds)
      */
     @Async
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    public void handleOrderCreated(OrderCreatedEvent event) {
-        log.info("[ProductStatusEventHandler] 상품 상태 업데이트 시작 (비동기): orderId={}, productIds={}",
-                event.getOrderId(), event.getProductIds());
-
+    public void handleProductStockChanged(ProductStockChangedEvent event) {
         try {
-            // 주문된 상품들의 상태 업데이트
-            for (Long productId : event.getProductIds()) {
-                try {
-                    Product product = productRepository.findById(productId)
-                            .orElseThrow(() -> new ProductNotFoundException(productId));
-
-                    // Domain 메서드 호출 (Product가 상태 자동 업데이트)
-                    // 모든 옵션 재고가 0이면 '품절', 그 외에는 '판매중'으로 변경
-                    product.recalculateTotalStock();
-
-                    // 저장소에 반영
-                    productRepository.save(product);
-
-                    log.info("[ProductStatusEventHandler] 상품 상태 업데이트 완료: productId={}, status={}, totalStock={}",
-                            productId, product.getStatus(), product.getTotalStock());
-
-                } catch (Exception e) {
-                    // 개별 상품 처리 실패는 로깅만 하고 계속 진행
-                    log.error("[ProductStatusEventHandler] 상품 상태 업데이트 실패: productId={}, error={}",
-                            productId, e.getMessage());
-                }
-            }
+            productRepository.recalculateTotalStocks(event.getProductIds());
 
-            log.info("[ProductStatusEventHandler] 상품 상태 업데이트 완료 (비동기): orderId={}, productCount={}",
-                    event.getOrderId(), event.getProductIds().size());
+            log.info("[ProductStatusEventHandler] 상품 상태 업데이트 완료 (비동기): productIds={}",
+                    event.getProductIds());
 
         } catch (Exception e) {
-            // 전체 처리 실패는 로깅만 하고 주문에 영향 없음
-            log.error("[ProductStatusEventHandler] 상품 상태 업데이트 전체 실패 (무시됨): orderId={}, error={}",
-                    event.getOrderId(), e.getMessage());
+            // 처리 실패는 로깅만 하고 주문에 영향 없음
+            log.error("[ProductStatusEventHandler] 상품 상태 업데이트 실패 (무시됨): productIds={}, error={}",
+                    event.getProductIds(), e.getMessage());
         }
     }
-}
\ No newline at end of file
+}
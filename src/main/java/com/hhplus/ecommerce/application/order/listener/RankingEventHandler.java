@@ -0,0 +1,48 @@
+package com.hhplus.ecommerce.application.order.listener;
+
+import com.hhplus.ecommerce.application.ranking.RankingService;
+import com.hhplus.ecommerce.domain.order.event.OrderCreatedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * RankingEventHandler - 주문 완료 시 상품 랭킹 점수 반영 (비동기 이벤트 핸들러)
+ *
+ * 역할:
+ * - OrderCreatedEvent를 수신하여 주문에 포함된 상품별로 점수 1 증가
+ * - 같은 주문에 같은 상품이 여러 항목으로 있어도 1회만 증가 (주문 수 기준 랭킹)
+ *
+ * 비동기 처리:
+ * - @TransactionalEventListener(AFTER_COMMIT): 롤백된 주문은 랭킹에 반영하지 않음
+ * - 쓰기 지연이 켜져 있으면 로컬 누적만 하고 반환 (RankingScoreAccumulator)
+ * - 예외 발생 시 로깅만 하고 주문에 영향 없음
+ */
+@Component
+public class RankingEventHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(RankingEventHandler.class);
+
+    private final RankingService rankingService;
+
+    public RankingEventHandler(RankingService rankingService) {
+        this.rankingService = rankingService;
+    }
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleOrderCreated(OrderCreatedEvent event) {
+        try {
+            for (Long productId : event.getProductIds()) {
+                rankingService.incrementProductScore(productId);
+            }
+        } catch (Exception e) {
+            // 랭킹은 비핵심 후처리 (근사치 허용)
+            log.error("[RankingEventHandler] 랭킹 점수 반영 실패 (무시됨): orderId={}, productIds={}, error={}",
+                    event.getOrderId(), event.getProductIds(), e.getMessage());
+        }
+    }
+}
@@ -6,6 +6,7 @@ import lombok.Setter;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
 /**
  * SagaContext - Saga 오케스트레이터의 실행 컨텍스트 (경량화 버전)
@@ -28,6 +29,7 @@ import java.util.List;
  * - 감소율: 79%
  *
  * 주요 구성 요소:
+ * 0. sagaId: Saga 실행 ID (saga_log 상태 전이 로그의 키)
  * 1. 입력 데이터: userId, orderItems, couponId, 금액 정보
  * 2. 실행 결과: orderId (ID만, Order 객체 제거)
  * 3. 실행 이력: executedStepNames (Step 이름 리스트)
@@ -36,6 +38,12 @@ import java.util.List;
 @Setter
 public class SagaContext {
 
+    /**
+     * Saga 실행 ID
+     * - 생성 시 UUID 부여, 복구 시에는 saga_log의 ID로 교체
+     */
+    private String sagaId;
+
     // ========== 입력 데이터 (요청 파라미터) ==========
     /**
      * 주문 사용자 ID
@@ -101,6 +109,7 @@ public class SagaContext {
                        Long couponDiscount,
                        Long subtotal,
                        Long finalAmount) {
+        this.sagaId = UUID.randomUUID().toString();
         this.userId = userId;
         this.orderItems = orderItems;
         this.couponId = couponId;
@@ -156,8 +165,9 @@ public class SagaContext {
     @Override
     public String toString() {
         return String.format(
-                "SagaContext[userId=%d, orderItems=%d개, couponId=%s, finalAmount=%d, " +
+                "SagaContext[sagaId=%s, userId=%d, orderItems=%d개, couponId=%s, finalAmount=%d, " +
                 "orderId=%s, executedSteps=%d개]",
+                sagaId,
                 userId,
                 orderItems != null ? orderItems.size() : 0,
                 couponId,
@@ -1,8 +1,12 @@
 package com.hhplus.ecommerce.application.order.saga.context;
 
 import com.hhplus.ecommerce.application.order.dto.CreateOrderRequestDto.OrderItemDto;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -34,9 +38,16 @@ import java.util.List;
  * - finalAmount: 최종 결제 금액
  * - orderId: 생성된 주문 ID (nullable, CreateOrderStep에서 설정)
  * - executedStepNames: 실행된 Step 이름 목록 (LIFO 보상용)
+ *
+ * 영속화:
+ * - saga_log의 STEP_APPLIED 표식 payload로 JSON 저장 (null/빈 필드 생략)
+ * - 복구 시 payload를 역직렬화한 뒤 남아 있는 표식으로 orderId/executedStepNames를 채워 SagaContext 복원
  */
 @Getter
 @Builder
+@Jacksonized
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+@JsonIgnoreProperties(ignoreUnknown = true)
 public class SagaExecutionSnapshot {
 
     // ========== 입력 데이터 (필수) ==========
@@ -92,6 +103,39 @@ public class SagaExecutionSnapshot {
     @Builder.Default
     private final List<String> executedStepNames = new ArrayList<>();
 
+    // ========== 변환 ==========
+
+    /**
+     * SagaContext의 입력 데이터로 스냅샷 생성 (실행 결과/이력 제외)
+     *
+     * @param context Saga 실행 컨텍스트
+     * @return 입력 데이터 스냅샷
+     */
+    public static SagaExecutionSnapshot inputsOf(SagaContext context) {
+        return SagaExecutionSnapshot.builder()
+                .userId(context.getUserId())
+                .orderItems(context.getOrderItems())
+                .couponId(context.getCouponId())
+                .couponDiscount(context.getCouponDiscount())
+                .subtotal(context.getSubtotal())
+                .finalAmount(context.getFinalAmount())
+                .build();
+    }
+
+    /**
+     * 스냅샷으로 SagaContext 복원 (복구용)
+     *
+     * @param sagaId 복원할 Saga 실행 ID
+     * @return 입력 데이터, orderId, 실행 이력이 채워진 SagaContext
+     */
+    public SagaContext toContext(String sagaId) {
+        SagaContext context = new SagaContext(userId, orderItems, couponId, couponDiscount, subtotal, finalAmount);
+        context.setSagaId(sagaId);
+        context.setOrderId(orderId);
+        executedStepNames.forEach(context::addExecutedStepName);
+        return context;
+    }
+
     // ========== Helper Methods ==========
 
     /**
@@ -127,6 +171,7 @@ public class SagaExecutionSnapshot {
      *
      * @return 실행된 Step 개수
      */
+    @JsonIgnore
     public int getExecutedStepCount() {
         return executedStepNames.size();
     }
@@ -136,6 +181,7 @@ public class SagaExecutionSnapshot {
      *
      * @return Step 이름 목록
      */
+    @JsonIgnore
     public List<String> getExecutedStepNamesCopy() {
         return new ArrayList<>(executedStepNames);
     }
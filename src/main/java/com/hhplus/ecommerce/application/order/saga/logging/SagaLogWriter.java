@@ -0,0 +1,299 @@
+package com.hhplus.ecommerce.application.order.saga.logging;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hhplus.ecommerce.application.order.saga.context.SagaContext;
+import com.hhplus.ecommerce.application.order.saga.context.SagaExecutionSnapshot;
+import com.hhplus.ecommerce.domain.order.SagaLogEntry;
+import com.hhplus.ecommerce.domain.order.SagaLogEventType;
+import com.hhplus.ecommerce.domain.order.SagaLogRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SagaLogWriter - Saga 상태 전이 로그 비동기 그룹 커밋 기록기
+ *
+ * 문제:
+ * - Saga 상태가 메모리(SagaContext)에만 있어 Step 도중 프로세스가 죽으면
+ *   차감된 재고/포인트/쿠폰이 보상되지 않고 남음 (어떤 Step이 완료됐는지 알 수 없음)
+ * - 전이마다 동기 INSERT를 하면 Step 수만큼 주문 응답 지연 증가
+ *
+ * 해결:
+ * - 전이(SAGA_STARTED, STEP_COMPLETED, STEP_COMPENSATED, ...)를 대기열에 넣고 즉시 반환 (호출 스레드는 DB를 기다리지 않음)
+ * - 전용 플러셔 스레드가 대기열을 꺼내 다건 INSERT 1회로 기록 (그룹 커밋)
+ *   → INSERT가 진행되는 동안 쌓인 전이는 다음 INSERT 1회에 함께 기록 (부하가 높을수록 배치가 커짐)
+ * - 대기열이 가득 차면 호출 스레드에서 직접 기록 (DB가 따라오지 못할 때만 지연으로 역압, 유실 없음)
+ *
+ * 적용 표식 (비동기 전이가 유실되어도 복구가 틀리지 않도록):
+ * - STEP_APPLIED: Step 트랜잭션 안에서 기록 (markApplied), 보상 트랜잭션에서 확인 + 삭제 (clearApplied)
+ *   → Step 커밋 = 표식 존재, 보상 커밋 = 표식 삭제 (요청 경로에 별도 동기 INSERT 없음)
+ *   → 보상은 표식이 있을 때만 실행 (미적용 Step, 이미 보상된 Step의 중복 보상 방지)
+ * - 표식마다 입력 스냅샷(payload)을 함께 기록 → 남은 표식 하나만으로 SagaContext 복원 가능
+ *   (SAGA_STARTED가 유실되거나 일부 표식이 보상으로 삭제돼도 복구 가능)
+ *
+ * 유실 범위 (비동기 전이):
+ * - 정상 종료: @PreDestroy에서 남은 전이를 모두 기록
+ * - 비정상 종료: 아직 플러시되지 않은 전이(최대 INSERT 1회분)만 유실
+ * - 기록 실패: write-retries회 재시도 후 버림 (droppedEntries로 집계)
+ * - 복구는 적용 표식만으로 판정하므로 비동기 전이 유실은 복구 결과에 영향 없음 (SagaRecoveryService 참고)
+ *
+ * 설정:
+ * - saga.log.enabled: 기본 true (false면 기록하지 않음, 복구 스캐너도 비활성화)
+ * - saga.log.queue-capacity: 대기열 용량 (기본 10000)
+ * - saga.log.max-batch-size: INSERT 1회 최대 행 수 (기본 500)
+ */
+@Component
+public class SagaLogWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(SagaLogWriter.class);
+
+    private static final long POLL_TIMEOUT_MS = 100;
+    private static final long RETRY_BACKOFF_MS = 100;
+    private static final long SHUTDOWN_TIMEOUT_MS = 5000;
+
+    private final SagaLogRepository sagaLogRepository;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final int writeRetries;
+
+    private final BlockingQueue<SagaLogEntry> queue;
+    private final AtomicLong writtenEntries = new AtomicLong();
+    private final AtomicLong droppedEntries = new AtomicLong();
+    private final AtomicLong flushCount = new AtomicLong();
+    private final Thread flusher;
+
+    private volatile boolean running;
+
+    public SagaLogWriter(SagaLogRepository sagaLogRepository,
+                         ObjectMapper objectMapper,
+                         @Value("${saga.log.enabled:true}") boolean enabled,
+                         @Value("${saga.log.queue-capacity:10000}") int queueCapacity,
+                         @Value("${saga.log.max-batch-size:500}") int maxBatchSize,
+                         @Value("${saga.log.write-retries:3}") int writeRetries) {
+        this.sagaLogRepository = sagaLogRepository;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.maxBatchSize = maxBatchSize;
+        this.writeRetries = writeRetries;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+
+        if (enabled) {
+            this.running = true;
+            this.flusher = new Thread(this::runLoop, "saga-log-flusher");
+            this.flusher.setDaemon(true);
+            this.flusher.start();
+        } else {
+            this.flusher = null;
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // ========== 전이 기록 ==========
+
+    /**
+     * Saga 시작 (관측용 - 복구 대상/입력 스냅샷은 적용 표식에서 판정)
+     */
+    public void started(SagaContext context) {
+        record(context, SagaLogEventType.SAGA_STARTED, null);
+    }
+
+    /**
+     * Step 적용 표식 기록 - Step의 execute() 트랜잭션 안에서 호출
+     * - Step 변경과 함께 커밋/롤백 (CreateOrderStep은 orderId 포함 → 복구 시 주문 ID 복원)
+     * - 입력 스냅샷 포함 (복구 시 SagaContext 복원용)
+     */
+    public void markApplied(SagaContext context, String stepName) {
+        if (!enabled) {
+            return;
+        }
+        sagaLogRepository.appendIfAbsent(SagaLogEntry.of(context.getSagaId(), SagaLogEventType.STEP_APPLIED,
+                stepName, context.getOrderId(), encode(SagaExecutionSnapshot.inputsOf(context))));
+    }
+
+    /**
+     * Step 적용 표식 확인 + 삭제 - Step의 compensate() 트랜잭션 안에서 보상 전에 호출
+     * - 보상이 실패해 트랜잭션이 롤백되면 표식도 복원됨 (다음 복구에서 다시 보상)
+     *
+     * @return 보상해야 하면 true (표식이 있었음, 로그 비활성화 시 항상 true)
+     */
+    public boolean clearApplied(SagaContext context, String stepName) {
+        if (!enabled) {
+            return true;
+        }
+        return sagaLogRepository.removeIfPresent(context.getSagaId(), SagaLogEventType.STEP_APPLIED, stepName);
+    }
+
+    /**
+     * Step 실행 완료 (CreateOrderStep 완료 시 orderId 포함)
+     */
+    public void stepCompleted(SagaContext context, String stepName) {
+        record(context, SagaLogEventType.STEP_COMPLETED, stepName);
+    }
+
+    /**
+     * Step 보상 완료
+     */
+    public void stepCompensated(SagaContext context, String stepName) {
+        record(context, SagaLogEventType.STEP_COMPENSATED, stepName);
+    }
+
+    /**
+     * Step 보상 실패 (이후 처리는 SagaCompensationHandler/DLQ 담당)
+     */
+    public void stepCompensationFailed(SagaContext context, String stepName) {
+        record(context, SagaLogEventType.STEP_COMPENSATION_FAILED, stepName);
+    }
+
+    /**
+     * Saga 성공
+     */
+    public void completed(SagaContext context) {
+        record(context, SagaLogEventType.SAGA_COMPLETED, null);
+    }
+
+    /**
+     * Saga 보상 완료
+     */
+    public void compensated(SagaContext context) {
+        record(context, SagaLogEventType.SAGA_COMPENSATED, null);
+    }
+
+    /**
+     * 임의 전이 기록 (복구 스캐너의 RECOVERY_ABANDONED 등)
+     */
+    public void append(SagaLogEntry entry) {
+        if (!enabled) {
+            return;
+        }
+        if (!queue.offer(entry)) {
+            // 대기열 포화 → 호출 스레드에서 직접 기록 (역압)
+            writeOrDrop(List.of(entry));
+        }
+    }
+
+    // ========== 모니터링 ==========
+
+    public int getPendingCount() {
+        return queue.size();
+    }
+
+    public long getWrittenEntries() {
+        return writtenEntries.get();
+    }
+
+    public long getDroppedEntries() {
+        return droppedEntries.get();
+    }
+
+    /**
+     * INSERT 횟수 (writtenEntries / flushCount = 평균 그룹 크기)
+     */
+    public long getFlushCount() {
+        return flushCount.get();
+    }
+
+    /**
+     * 종료 시 남은 전이 기록 (플러셔가 대기열을 비울 때까지 대기)
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (!enabled) {
+            return;
+        }
+        running = false;
+        try {
+            flusher.join(SHUTDOWN_TIMEOUT_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.info("[SagaLogWriter] 종료 플러시 완료: written={}, dropped={}, pending={}",
+                writtenEntries.get(), droppedEntries.get(), queue.size());
+    }
+
+    private void record(SagaContext context, SagaLogEventType eventType, String stepName) {
+        if (!enabled) {
+            return;
+        }
+        append(SagaLogEntry.of(context.getSagaId(), eventType, stepName, context.getOrderId(), null));
+    }
+
+    private void runLoop() {
+        List<SagaLogEntry> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            SagaLogEntry first;
+            try {
+                first = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                // 종료 경로는 running 플래그로 처리 (남은 전이 기록을 위해 계속 진행)
+                continue;
+            }
+            if (first == null) {
+                continue;
+            }
+            batch.add(first);
+            queue.drainTo(batch, maxBatchSize - 1);
+            writeOrDrop(batch);
+            batch.clear();
+        }
+    }
+
+    private void writeOrDrop(List<SagaLogEntry> entries) {
+        Exception failure = write(entries);
+        if (failure != null) {
+            droppedEntries.addAndGet(entries.size());
+            log.error("[SagaLogWriter] Saga 로그 기록 실패 - {}건 버림 (재시도 {}회 초과)",
+                    entries.size(), writeRetries, failure);
+        }
+    }
+
+    /**
+     * write-retries회까지 재시도하며 기록
+     *
+     * @return 성공 시 null, 재시도 초과 시 마지막 예외
+     */
+    private Exception write(List<SagaLogEntry> entries) {
+        for (int attempt = 0; ; attempt++) {
+            try {
+                sagaLogRepository.appendAll(entries);
+                writtenEntries.addAndGet(entries.size());
+                flushCount.incrementAndGet();
+                return null;
+            } catch (Exception e) {
+                if (attempt >= writeRetries) {
+                    return e;
+                }
+                log.warn("[SagaLogWriter] Saga 로그 기록 실패 - 재시도 {}/{}: {}",
+                        attempt + 1, writeRetries, e.getMessage());
+                try {
+                    Thread.sleep(RETRY_BACKOFF_MS * (attempt + 1));
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    private String encode(SagaExecutionSnapshot snapshot) {
+        try {
+            return objectMapper.writeValueAsString(snapshot);
+        } catch (JsonProcessingException e) {
+            // 스냅샷 없이 표식만 기록 → 복구 시 수동 처리 대상 (RECOVERY_ABANDONED)
+            log.error("[SagaLogWriter] Saga 입력 스냅샷 직렬화 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+}
@@ -4,22 +4,28 @@ import com.hhplus.ecommerce.application.order.dto.CreateOrderRequestDto.OrderIte
 import com.hhplus.ecommerce.application.order.saga.compensation.CompensationFailureContext;
 import com.hhplus.ecommerce.application.order.saga.compensation.SagaCompensationHandler;
 import com.hhplus.ecommerce.application.order.saga.context.SagaContext;
-import com.hhplus.ecommerce.application.order.saga.context.SagaExecutionSnapshot;
+import com.hhplus.ecommerce.application.order.saga.logging.SagaLogWriter;
 import com.hhplus.ecommerce.domain.order.Order;
 import com.hhplus.ecommerce.domain.order.OrderRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.TransientDataAccessException;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 /**
@@ -27,32 +33,41 @@ import java.util.stream.Collectors;
  *
  * 역할:
  * - Saga 워크플로우의 전체 실행 흐름 제어
- * - Step들을 순서대로 실행 (Forward Flow)
- * - 실패 시 보상 트랜잭션 자동 실행 (Backward Flow, LIFO)
+ * - Step들을 의존 관계(DAG) 순서로 실행, 서로 독립인 Step은 동시 실행 (Forward Flow)
+ * - 실패 시 보상 트랜잭션 자동 실행 (Backward Flow, 위상 정렬 역순)
  * - SagaContext를 통해 Step 간 데이터 공유 관리
  *
  * Saga Orchestrator 패턴:
  * - 중앙 집중식 워크플로우 관리 (Orchestration)
  * - 각 Step은 독립적으로 실행 가능한 트랜잭션 단위
- * - 실패 시 자동 보상 (LIFO: Last-In-First-Out)
- * - 명시적 순서 제어 (getOrder() 메서드)
+ * - 실패 시 자동 보상 (위상 정렬 역순)
+ * - 명시적 의존 관계 (getDependencies() 메서드, SagaStepGraph)
  *
  * 실행 플로우:
  * 1. Forward Flow:
- *    - Step들을 getOrder() 순서대로 정렬
- *    - 순차적으로 execute() 호출
- *    - 각 Step 실행 후 executedSteps에 추가
- *    - 모든 Step 성공 시 Order 반환
+ *    - 선행 Step이 모두 완료된 Step을 sagaStepExecutor에 제출 (동시 실행)
+ *    - 실행 가능한 Step이 1개뿐이고 실행 중인 Step이 없으면 호출 스레드에서 바로 실행
+ *    - Step 완료 시 executedStepNames에 추가 (호출 스레드에서만 기록) → 후행 Step 실행 가능 여부 갱신
+ *    - Step 실패 시 새 Step 제출 중단, 이미 실행 중인 Step은 완료까지 대기 (보상 대상 확정)
+ *    - 전체 지연 ≈ 임계 경로 (재고/포인트/쿠폰 중 가장 느린 Step + 주문 생성)
  *
  * 2. Backward Flow (보상):
  *    - 예외 발생 시 자동 보상 시작
- *    - executedSteps를 역순(LIFO)으로 순회
+ *    - 실행 완료된 Step을 위상 정렬 역순으로 순회 (순차 실행)
  *    - 각 Step의 compensate() 호출
- *    - 보상 실패 시 로깅만 하고 계속 진행 (Best Effort)
+ *    - 보상 실패 Step은 트랜잭션 롤백 + 예외 전파 → STEP_COMPENSATION_FAILED 기록, Handler 위임 후 다음 Step 보상
+ *    - 모든 Step 보상 성공 시에만 SAGA_COMPENSATED 기록 (실패가 있으면 복구 스캐너가 재보상)
+ *
+ * 3. 상태 전이 로그 (SagaLogWriter):
+ *    - 각 Step은 자기 트랜잭션에서 적용 표식(STEP_APPLIED, 입력 스냅샷 포함)을 기록하고, 보상 시 확인 + 삭제
+ *      → 복구 스캐너는 표식만으로 실행된 Step을 찾음 (중복 보상 방지, Step 밖의 동기 INSERT 없음)
+ *    - Saga 시작/Step 완료/Step 보상/종결은 saga_log에 비동기 그룹 커밋 (호출 스레드는 DB를 기다리지 않음)
+ *    - 프로세스가 Saga 도중 종료되면 SagaRecoveryService가 로그로 SagaContext를 복원해 recover() 호출
  *
  * 의존성 주입:
  * - List<SagaStep>: Spring이 모든 SagaStep 구현체를 자동 주입
- * - 런타임에 getOrder()로 정렬하여 실행
+ * - 생성 시 SagaStepGraph로 DAG 구성 (순환/누락 의존은 기동 실패)
+ * - sagaStepExecutor: 동시 실행용 제한된 스레드 풀 (saga.parallel.enabled=false이면 호출 스레드에서 순차 실행)
  *
  * 트랜잭션 전략:
  * - Orchestrator 자체는 @Transactional 없음 (각 Step이 독립 트랜잭션)
@@ -65,19 +80,21 @@ public class OrderSagaOrchestrator {
     private static final Logger log = LoggerFactory.getLogger(OrderSagaOrchestrator.class);
 
     /**
-     * 모든 SagaStep 구현체 (Spring이 자동 주입)
-     * - DeductInventoryStep (order=1)
-     * - DeductBalanceStep (order=2)
-     * - UseCouponStep (order=3)
-     * - CreateOrderStep (order=4)
+     * 모든 SagaStep 구현체 (위상 정렬 순)
+     * - DeductInventoryStep, DeductBalanceStep, UseCouponStep (의존 없음)
+     * - CreateOrderStep (위 3개 Step에 의존)
      */
     private final List<SagaStep> steps;
 
     /**
-     * Step 이름 → Step 객체 매핑 (보상 시 사용)
-     * - 보상 시 step 이름으로 step 객체를 빠르게 찾기 위한 Map
+     * Step 의존 관계 DAG (실행 스케줄링, 보상 순서)
+     */
+    private final SagaStepGraph graph;
+
+    /**
+     * Step 실행기 (독립 Step 동시 실행)
      */
-    private final Map<String, SagaStep> stepMap;
+    private final Executor stepExecutor;
 
     /**
      * 보상 실패 처리 Handler
@@ -92,34 +109,43 @@ public class OrderSagaOrchestrator {
      */
     private final OrderRepository orderRepository;
 
+    /**
+     * Saga 상태 전이 로그 기록기 (크래시 복구용)
+     */
+    private final SagaLogWriter sagaLogWriter;
+
     /**
      * 생성자 주입
      *
      * @param steps 모든 SagaStep 구현체 (Spring이 자동 주입)
      * @param compensationHandler 보상 실패 처리 Handler
      * @param orderRepository Order 조회용 Repository
+     * @param stepExecutor 독립 Step 동시 실행기
+     * @param parallelEnabled false이면 위상 정렬 순으로 호출 스레드에서 순차 실행
+     * @param sagaLogWriter Saga 상태 전이 로그 기록기
      */
     public OrderSagaOrchestrator(List<SagaStep> steps,
                                 SagaCompensationHandler compensationHandler,
-                                OrderRepository orderRepository) {
-        // getOrder() 순서대로 정렬
-        this.steps = steps.stream()
-                .sorted(Comparator.comparingInt(SagaStep::getOrder))
-                .collect(Collectors.toList());
-
-        // Step 이름 → Step 객체 매핑 생성
-        this.stepMap = new HashMap<>();
-        for (SagaStep step : this.steps) {
-            this.stepMap.put(step.getName(), step);
-        }
+                                OrderRepository orderRepository,
+                                @Qualifier("sagaStepExecutor") Executor stepExecutor,
+                                @Value("${saga.parallel.enabled:true}") boolean parallelEnabled,
+                                SagaLogWriter sagaLogWriter) {
+        this.graph = new SagaStepGraph(steps);
+        this.steps = graph.getTopologicalOrder();
+        this.stepExecutor = parallelEnabled ? stepExecutor : Runnable::run;
 
         this.compensationHandler = compensationHandler;
         this.orderRepository = orderRepository;
+        this.sagaLogWriter = sagaLogWriter;
 
-        log.info("[OrderSagaOrchestrator] Saga Steps 초기화 완료 (총 {}개)", steps.size());
+        log.info("[OrderSagaOrchestrator] Saga Steps 초기화 완료 (총 {}개, 병렬 실행={})", steps.size(), parallelEnabled);
         this.steps.forEach(step ->
-                log.info("[OrderSagaOrchestrator]   - {} (order={})", step.getName(), step.getOrder())
+                log.info("[OrderSagaOrchestrator]   - {} (order={}, dependsOn={})",
+                        step.getName(), step.getOrder(), step.getDependencies())
         );
+        log.info("[OrderSagaOrchestrator] 실행 단계: {}", graph.getLevels().stream()
+                .map(Object::toString)
+                .collect(Collectors.joining(" → ")));
     }
 
     /**
@@ -127,13 +153,13 @@ public class OrderSagaOrchestrator {
      *
      * Forward Flow:
      * 1. SagaContext 생성 (입력 데이터로 초기화)
-     * 2. Step들을 순서대로 실행
-     * 3. 각 Step 실행 후 executedSteps에 추가
+     * 2. Step들을 의존 관계 순서로 실행 (독립 Step은 동시 실행)
+     * 3. 각 Step 완료 후 executedStepNames에 추가
      * 4. 모든 Step 성공 시 생성된 Order 반환
      *
      * Backward Flow (예외 발생 시):
      * 1. compensate() 메서드 호출
-     * 2. executedSteps를 역순(LIFO)으로 보상
+     * 2. 실행 완료된 Step을 위상 정렬 역순으로 보상
      * 3. 보상 완료 후 예외 재발생
      *
      * Retry 전략:
@@ -172,22 +198,11 @@ public class OrderSagaOrchestrator {
         );
 
         log.info("[OrderSagaOrchestrator] Saga 실행 시작 - {}", context);
+        sagaLogWriter.started(context);
 
         try {
-            // ========== Step 2: Forward Flow - 순차 실행 ==========
-            for (SagaStep step : steps) {
-                log.info("[OrderSagaOrchestrator] Step 실행 시작: {} (order={})",
-                        step.getName(), step.getOrder());
-
-                // Step 실행
-                step.execute(context);
-
-                // 실행 이력 추가 (LIFO 보상용) - Step 이름만 저장
-                context.addExecutedStepName(step.getName());
-
-                log.info("[OrderSagaOrchestrator] Step 실행 완료: {} (order={})",
-                        step.getName(), step.getOrder());
-            }
+            // ========== Step 2: Forward Flow - 의존 관계 순서로 실행 ==========
+            executeSteps(context);
 
             // ========== Step 3: 성공 - Order 조회 후 반환 ==========
             Long orderId = context.getOrderId();
@@ -202,6 +217,7 @@ public class OrderSagaOrchestrator {
 
             log.info("[OrderSagaOrchestrator] Saga 실행 성공 - orderId={}, 실행된 Step={}개",
                     order.getOrderId(), context.getExecutedStepCount());
+            sagaLogWriter.completed(context);
 
             return order;
 
@@ -210,7 +226,7 @@ public class OrderSagaOrchestrator {
             log.error("[OrderSagaOrchestrator] Saga 실행 실패 - 보상 트랜잭션 시작: {}",
                     e.getMessage(), e);
 
-            // 보상 실행 (LIFO)
+            // 보상 실행 (위상 정렬 역순)
             compensate(context);
 
             // 예외 재발생
@@ -219,17 +235,121 @@ public class OrderSagaOrchestrator {
     }
 
     /**
-     * 보상 트랜잭션 실행 (Backward Flow, LIFO) - 리팩토링 버전
+     * Forward Flow - DAG 스케줄링
+     *
+     * - 실행 가능한 Step: 선행 Step이 모두 완료된 Step (우선순위: getOrder() → 이름)
+     * - 실행 중인 Step이 없고 실행 가능한 Step이 1개뿐이면 호출 스레드에서 실행 (스레드 전환 비용 제거)
+     * - 완료 기록/후행 Step 갱신은 호출 스레드에서만 수행 → SagaContext.executedStepNames 동시 수정 없음
+     * - 실패 시 새 Step 제출 중단, 실행 중인 Step 완료 대기 후 첫 번째 예외 전파 (나머지는 suppressed)
+     *
+     * @param context Saga 실행 컨텍스트
+     * @throws Exception 첫 번째로 실패한 Step의 예외
+     */
+    private void executeSteps(SagaContext context) throws Exception {
+        Map<String, Integer> remainingDependencies = graph.inDegrees();
+        PriorityQueue<SagaStep> ready = new PriorityQueue<>(SagaStepGraph.priority());
+        ready.addAll(graph.roots());
+        CompletionService<String> completion = new ExecutorCompletionService<>(stepExecutor);
+
+        int inFlight = 0;
+        Exception failure = null;
+        boolean interrupted = false;
+
+        while (true) {
+            if (failure == null && inFlight == 0 && ready.size() == 1) {
+                SagaStep step = ready.poll();
+                try {
+                    runStep(step, context);
+                    onStepCompleted(step.getName(), context, remainingDependencies, ready);
+                } catch (Exception e) {
+                    failure = e;
+                }
+                continue;
+            }
+            while (failure == null && !ready.isEmpty()) {
+                SagaStep step = ready.poll();
+                completion.submit(() -> {
+                    runStep(step, context);
+                    return step.getName();
+                });
+                inFlight++;
+            }
+            if (inFlight == 0) {
+                break;
+            }
+
+            Future<String> done;
+            try {
+                done = completion.take();
+            } catch (InterruptedException e) {
+                // 실행 중인 Step의 결과(보상 대상)를 확정하기 위해 완료까지 대기
+                interrupted = true;
+                if (failure == null) {
+                    failure = e;
+                }
+                continue;
+            }
+            inFlight--;
+            try {
+                onStepCompleted(done.get(), context, remainingDependencies, ready);
+            } catch (ExecutionException e) {
+                Exception cause = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+                if (failure == null) {
+                    failure = cause;
+                } else {
+                    failure.addSuppressed(cause);
+                }
+            }
+        }
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void runStep(SagaStep step, SagaContext context) throws Exception {
+        log.info("[OrderSagaOrchestrator] Step 실행 시작: {} (order={})",
+                step.getName(), step.getOrder());
+
+        step.execute(context);
+
+        log.info("[OrderSagaOrchestrator] Step 실행 완료: {} (order={})",
+                step.getName(), step.getOrder());
+    }
+
+    /**
+     * Step 완료 기록 + 선행 Step이 모두 끝난 후행 Step을 실행 대기열에 추가
+     */
+    private void onStepCompleted(String stepName,
+                                 SagaContext context,
+                                 Map<String, Integer> remainingDependencies,
+                                 PriorityQueue<SagaStep> ready) {
+        // 실행 이력 추가 (보상용) - Step 이름만 저장
+        context.addExecutedStepName(stepName);
+        sagaLogWriter.stepCompleted(context, stepName);
+
+        for (String dependent : graph.dependentsOf(stepName)) {
+            if (remainingDependencies.merge(dependent, -1, Integer::sum) == 0) {
+                ready.add(graph.getStep(dependent));
+            }
+        }
+    }
+
+    /**
+     * 보상 트랜잭션 실행 (Backward Flow, 위상 정렬 역순) - 리팩토링 버전
      *
      * 역할:
-     * - 실행된 Step들을 역순으로 보상
+     * - 실행된 Step들을 위상 정렬 역순으로 보상
      * - 각 Step의 compensate() 메서드 호출
      * - 보상 실패 시 SagaCompensationHandler에 위임
      *
-     * LIFO (Last-In-First-Out) 전략:
-     * - 가장 마지막에 실행된 Step부터 보상
-     * - 실행 순서: Step1 → Step2 → Step3 → Step4
-     * - 보상 순서: Step4 → Step3 → Step2 → Step1
+     * 위상 정렬 역순 전략:
+     * - 후행 Step을 선행 Step보다 먼저 보상 (주문 취소 → 쿠폰/포인트/재고 복구)
+     * - 동시에 실행된 Step의 완료 순서와 무관하게 항상 같은 순서 (getOrder() 역순)
+     * - 보상은 순차 실행 (드문 경로, Handler 호출 순서 보장)
      *
      * 리팩토링된 보상 전략:
      * - Orchestrator는 "언제 보상할지"만 결정 (워크플로우 제어)
@@ -242,16 +362,22 @@ public class OrderSagaOrchestrator {
      * 3. 실패: CompensationFailureContext 생성하여 Handler에 위임
      *    - Handler가 Critical 여부 판단
      *    - Handler가 알림, DLQ 발행 등 처리
+     * 4. 모든 Step 보상 성공 시에만 SAGA_COMPENSATED 기록
+     *    - 실패 Step이 있으면 종결 기록 없음 → SagaRecoveryService가 stale-after-ms 이후 다시 보상
+     *      (실패 Step은 보상 트랜잭션 롤백으로 적용 표식이 남아 있고, 보상된 Step은 표식이 없어 skip)
      *
      * @param context Saga 실행 컨텍스트 (보상에 필요한 메타데이터 포함)
      */
     private void compensate(SagaContext context) {
-        log.warn("[OrderSagaOrchestrator] 보상 트랜잭션 시작 (LIFO) - 실행된 Step={}개",
+        log.warn("[OrderSagaOrchestrator] 보상 트랜잭션 시작 (위상 정렬 역순) - 실행된 Step={}개",
                 context.getExecutedStepCount());
 
-        // ========== Step 1: executedStepNames를 역순으로 가져오기 (LIFO) ==========
-        List<String> executedStepNames = context.getExecutedStepNamesCopy();
-        Collections.reverse(executedStepNames);
+        // ========== Step 1: 실행된 Step을 위상 정렬 역순으로 정렬 ==========
+        Set<String> executed = new HashSet<>(context.getExecutedStepNamesCopy());
+        List<String> executedStepNames = graph.getReverseTopologicalOrder().stream()
+                .map(SagaStep::getName)
+                .filter(executed::contains)
+                .collect(Collectors.toList());
 
         log.info("[OrderSagaOrchestrator] 보상 순서: {}",
                 String.join(" → ", executedStepNames));
@@ -261,9 +387,10 @@ public class OrderSagaOrchestrator {
         Long userId = context.getUserId();
 
         // ========== Step 3: 각 Step 보상 실행 (Step 이름으로 Step 조회) ==========
+        int failedSteps = 0;
         for (String stepName : executedStepNames) {
-            // stepMap에서 Step 객체 조회
-            SagaStep step = stepMap.get(stepName);
+            // 그래프에서 Step 객체 조회
+            SagaStep step = graph.getStep(stepName);
             if (step == null) {
                 log.error("[OrderSagaOrchestrator] ⚠️ Step을 찾을 수 없습니다: stepName={}", stepName);
                 continue;
@@ -276,11 +403,15 @@ public class OrderSagaOrchestrator {
                 step.compensate(context);
 
                 log.info("[OrderSagaOrchestrator] 보상 실행 완료: {}", stepName);
+                sagaLogWriter.stepCompensated(context, stepName);
 
             } catch (Exception compensationError) {
                 // ========== 보상 실패 처리: Handler에 위임 ==========
                 log.error("[OrderSagaOrchestrator] 보상 실패 - Handler에 위임: Step={}, error={}",
                         stepName, compensationError.getMessage());
+                failedSteps++;
+                // Handler/DLQ 기록과 별개로 종결하지 않음 → 복구 스캐너가 다시 보상
+                sagaLogWriter.stepCompensationFailed(context, stepName);
 
                 // CompensationFailureContext 생성
                 CompensationFailureContext failureContext = CompensationFailureContext.from(
@@ -297,8 +428,55 @@ public class OrderSagaOrchestrator {
         }
 
         // ========== Step 4: 보상 완료 로깅 ==========
+        if (failedSteps > 0) {
+            log.error("[OrderSagaOrchestrator] ⚠️ 보상 트랜잭션 일부 실패 - 실패 Step={}개/{}개 (복구 시 재보상)",
+                    failedSteps, executedStepNames.size());
+            return;
+        }
         log.info("[OrderSagaOrchestrator] ✅ 보상 트랜잭션 완료 - 총 {}개 Step 보상 처리",
                 executedStepNames.size());
+        sagaLogWriter.compensated(context);
+    }
+
+    /**
+     * 중단된 Saga 복구 (SagaRecoveryService에서 호출)
+     *
+     * 입력:
+     * - context의 실행 이력 = saga_log에 적용 표식(STEP_APPLIED)이 남아 있는 Step
+     *   (표식은 Step 커밋과 함께 생기고 보상 커밋과 함께 삭제되므로 "적용된 채 보상되지 않은 Step" 목록)
+     *
+     * 판정:
+     * - 등록된 모든 Step이 실행 이력에 있고 orderId가 복원되었으며 주문이 취소/실패 상태가 아님
+     *   → SAGA_COMPLETED만 기록 (Step 재실행 없음)
+     *   → CreateOrderStep은 다른 모든 Step 완료 후 실행되므로 주문 존재 = 선행 Step 커밋 완료
+     *   → 주문 보상은 행을 지우지 않고 CANCELLED로 바꾸므로 행 존재만으로는 판정 불가
+     *     (Saga 밖에서 취소된 주문도 성공으로 종결하지 않도록 상태까지 확인)
+     * - 그 외: compensate()로 실행 이력의 Step을 위상 정렬 역순으로 보상
+     *   → 각 Step의 compensate()가 적용 표식을 다시 확인 (그사이 다른 경로로 보상된 Step은 skip)
+     *   → 모든 Step 보상 성공 시에만 SAGA_COMPENSATED 기록, 실패 Step이 있으면 다음 복구 주기에 다시 보상
+     *
+     * 중단된 주문을 끝까지 재실행하지 않는 이유:
+     * - 요청자는 이미 실패/타임아웃 응답을 받았으므로 뒤늦은 주문 생성보다 차감 복구가 안전
+     *
+     * @param context saga_log로 복원한 SagaContext
+     * @return 성공 Saga로 종결했으면 true, 보상 경로를 실행했으면 false (보상 실패 여부와 무관)
+     * @throws com.hhplus.ecommerce.common.exception.CompensationException Critical 보상 실패 시 (Handler가 전파)
+     */
+    public boolean recover(SagaContext context) {
+        boolean allStepsCompleted = steps.stream().allMatch(step -> context.hasExecutedStep(step.getName()));
+        if (allStepsCompleted
+                && context.getOrderId() != null
+                && orderRepository.findById(context.getOrderId())
+                        .filter(order -> !order.isCancelled() && !order.isFailed())
+                        .isPresent()) {
+            log.info("[OrderSagaOrchestrator] 중단된 Saga 복구 - 성공으로 종결: {}", context);
+            sagaLogWriter.completed(context);
+            return true;
+        }
+
+        log.warn("[OrderSagaOrchestrator] 중단된 Saga 복구 - 보상 실행: {}", context);
+        compensate(context);
+        return false;
     }
 
     /**
@@ -2,6 +2,8 @@ package com.hhplus.ecommerce.application.order.saga.orchestration;
 
 import com.hhplus.ecommerce.application.order.saga.context.SagaContext;
 
+import java.util.Set;
+
 /**
  * SagaStep - Saga 오케스트레이터 패턴의 개별 Step 인터페이스
  *
@@ -12,24 +14,23 @@ import com.hhplus.ecommerce.application.order.saga.context.SagaContext;
  *
  * 구현 규칙:
  * - 각 Step은 독립적으로 실행 가능해야 함
- * - 실행 순서는 getOrder()로 정의
- * - 보상 순서는 실행 순서의 역순 (LIFO)
+ * - 실행 순서는 getDependencies()로 정의 (선행 Step이 모두 완료된 Step부터 실행, 서로 독립이면 동시 실행)
+ * - 보상 순서는 의존 관계 위상 정렬의 역순
  * - 멱등성(Idempotency): 동일 요청 재실행 시 동일 결과 보장
- * - SagaContext를 통해 Step 간 데이터 공유
+ * - SagaContext를 통해 Step 간 데이터 공유 (동시 실행되는 Step끼리는 입력 데이터만 읽기)
  *
  * 주요 메서드:
- * - getName(): Step 식별자 (로깅 및 디버깅용)
+ * - getName(): Step 식별자 (로깅 및 디버깅용, 의존 관계 선언에 사용)
  * - execute(): Step 실행 로직 (정상 플로우)
  * - compensate(): Step 보상 로직 (롤백 플로우)
- * - getOrder(): Step 실행 순서 (숫자가 작을수록 먼저 실행)
+ * - getDependencies(): 먼저 완료되어야 하는 Step 이름
+ * - getOrder(): 동시에 실행 가능한 Step 사이의 순번 (로깅, 보상 실패 기록, 결정적 보상 순서)
  *
- * 실행 순서:
- * 1. DeductInventoryStep (order=1): 재고 차감
- * 2. DeductBalanceStep (order=2): 포인트 차감
- * 3. UseCouponStep (order=3): 쿠폰 사용 처리
- * 4. CreateOrderStep (order=4): 주문 생성
+ * 실행 그래프:
+ * - DeductInventoryStep (재고 차감), DeductBalanceStep (포인트 차감), UseCouponStep (쿠폰 사용): 의존 없음 → 동시 실행
+ * - CreateOrderStep (주문 생성): 위 3개 Step 완료 후 실행
  *
- * 보상 순서 (역순 LIFO):
+ * 보상 순서 (위상 정렬 역순):
  * 4. CreateOrderStep: 주문 취소
  * 3. UseCouponStep: 쿠폰 복구
  * 2. DeductBalanceStep: 포인트 환불
@@ -63,29 +64,45 @@ public interface SagaStep {
      * 역할:
      * - execute()에서 수행한 작업을 되돌림 (롤백)
      * - SagaContext의 보상 플래그를 확인하여 실행 여부 결정
-     * - 보상 실패 시 예외를 발생시키지 말고 로깅만 수행 (Best Effort)
+     * - 보상 실패 시 트랜잭션을 롤백하고 예외 전파 (실패를 삼키고 정상 반환하면 보상 완료로 기록됨)
      *
      * 보상 로직 패턴:
      * 1. 보상 플래그 확인 (예: context.isInventoryDeducted())
      * 2. 플래그가 true이면 보상 실행, false이면 skip
-     * 3. 보상 실패 시 로깅만 하고 예외 전파하지 않음
+     * 3. 보상 실패 시 롤백 + 예외 전파 → Orchestrator가 STEP_COMPENSATION_FAILED 기록 후 다음 Step 보상
      *
      * @param context Saga 실행 컨텍스트 (보상에 필요한 메타데이터 포함)
-     * @throws Exception 보상 중 치명적 오류 발생 시 (선택적)
+     * @throws Exception 보상 실패 시
      */
     void compensate(SagaContext context) throws Exception;
 
     /**
-     * Step 실행 순서 반환
+     * 선행 Step 이름 반환
+     *
+     * 역할:
+     * - Orchestrator가 의존 관계 DAG를 구성하는 데 사용
+     * - 반환한 Step이 모두 성공한 뒤에 실행됨
+     * - 존재하지 않는 Step 이름이나 순환 의존은 기동 시 IllegalStateException
+     *
+     * 기본값: 빈 집합 (의존 없음 → Saga 시작 시 바로 실행)
+     *
+     * @return 선행 Step 이름 (예: Set.of("DeductInventoryStep"))
+     */
+    default Set<String> getDependencies() {
+        return Set.of();
+    }
+
+    /**
+     * Step 순번 반환
      *
      * 역할:
-     * - Orchestrator가 Step들을 정렬하여 순차 실행하는 데 사용
-     * - 숫자가 작을수록 먼저 실행
-     * - 보상 순서는 자동으로 역순(LIFO)
+     * - 동시에 실행 가능한 Step 사이의 순번 (숫자가 작을수록 먼저 제출)
+     * - 보상 순서 결정 시 같은 레벨 Step의 순서 (역순으로 보상)
+     * - 보상 실패 기록(FailedCompensation.stepOrder)
      *
      * 기본값: 0 (순서 지정 안 함)
      *
-     * @return 실행 순서 (1, 2, 3, 4...)
+     * @return 순번 (1, 2, 3, 4...)
      */
     default int getOrder() {
         return 0;
@@ -0,0 +1,147 @@
+package com.hhplus.ecommerce.application.order.saga.orchestration;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * SagaStepGraph - SagaStep 의존 관계 DAG
+ *
+ * 역할:
+ * - SagaStep.getDependencies()로 선행 Step → 후행 Step 간선 구성
+ * - 생성 시 검증: Step 이름 중복, 존재하지 않는 의존 Step, 순환 의존 → IllegalStateException (기동 실패)
+ * - 결정적 위상 정렬: 동시에 실행 가능한 Step은 getOrder() → 이름 순
+ *   (보상 순서 = 위상 정렬 역순 → 실행 타이밍과 무관하게 항상 같은 순서)
+ *
+ * 예시 (현재 Step 구성):
+ * - [DeductInventoryStep, DeductBalanceStep, UseCouponStep] → [CreateOrderStep]
+ * - 위상 정렬: DeductInventoryStep → DeductBalanceStep → UseCouponStep → CreateOrderStep
+ */
+public class SagaStepGraph {
+
+    private static final Comparator<SagaStep> STEP_PRIORITY =
+            Comparator.comparingInt(SagaStep::getOrder).thenComparing(SagaStep::getName);
+
+    private final Map<String, SagaStep> stepsByName = new LinkedHashMap<>();
+    private final Map<String, Set<String>> dependencies = new HashMap<>();
+    private final Map<String, List<String>> dependents = new HashMap<>();
+    private final List<SagaStep> topologicalOrder;
+    private final List<List<String>> levels;
+
+    public SagaStepGraph(List<SagaStep> steps) {
+        for (SagaStep step : steps) {
+            if (stepsByName.putIfAbsent(step.getName(), step) != null) {
+                throw new IllegalStateException("Saga Step 이름이 중복되었습니다: " + step.getName());
+            }
+        }
+        for (SagaStep step : steps) {
+            Set<String> stepDependencies = step.getDependencies() != null ? step.getDependencies() : Set.of();
+            for (String dependency : stepDependencies) {
+                if (!stepsByName.containsKey(dependency)) {
+                    throw new IllegalStateException(
+                            "존재하지 않는 Saga Step에 의존합니다: " + step.getName() + " → " + dependency);
+                }
+                dependents.computeIfAbsent(dependency, name -> new ArrayList<>()).add(step.getName());
+            }
+            dependencies.put(step.getName(), Set.copyOf(stepDependencies));
+        }
+
+        // Kahn 알고리즘 (레벨 단위, 레벨 안에서는 우선순위 순)
+        Map<String, Integer> inDegrees = inDegrees();
+        List<SagaStep> order = new ArrayList<>();
+        List<List<String>> levelNames = new ArrayList<>();
+        List<SagaStep> current = roots();
+        while (!current.isEmpty()) {
+            current.sort(STEP_PRIORITY);
+            order.addAll(current);
+            levelNames.add(current.stream().map(SagaStep::getName).toList());
+            List<SagaStep> next = new ArrayList<>();
+            for (SagaStep step : current) {
+                for (String dependent : dependentsOf(step.getName())) {
+                    if (inDegrees.merge(dependent, -1, Integer::sum) == 0) {
+                        next.add(stepsByName.get(dependent));
+                    }
+                }
+            }
+            current = next;
+        }
+        if (order.size() != stepsByName.size()) {
+            List<String> cyclic = stepsByName.keySet().stream()
+                    .filter(name -> inDegrees.get(name) > 0)
+                    .toList();
+            throw new IllegalStateException("Saga Step 의존 관계에 순환이 있습니다: " + cyclic);
+        }
+        this.topologicalOrder = Collections.unmodifiableList(order);
+        this.levels = Collections.unmodifiableList(levelNames);
+    }
+
+    /**
+     * Step별 미완료 선행 Step 수 (실행 스케줄링용 새 Map)
+     */
+    public Map<String, Integer> inDegrees() {
+        Map<String, Integer> inDegrees = new HashMap<>();
+        dependencies.forEach((name, stepDependencies) -> inDegrees.put(name, stepDependencies.size()));
+        return inDegrees;
+    }
+
+    /**
+     * 선행 Step이 없는 Step (바로 실행 가능)
+     */
+    public List<SagaStep> roots() {
+        List<SagaStep> roots = new ArrayList<>();
+        stepsByName.forEach((name, step) -> {
+            if (dependencies.get(name).isEmpty()) {
+                roots.add(step);
+            }
+        });
+        return roots;
+    }
+
+    /**
+     * name을 선행 Step으로 가지는 Step 이름
+     */
+    public List<String> dependentsOf(String name) {
+        return dependents.getOrDefault(name, List.of());
+    }
+
+    public SagaStep getStep(String name) {
+        return stepsByName.get(name);
+    }
+
+    public List<SagaStep> getTopologicalOrder() {
+        return topologicalOrder;
+    }
+
+    /**
+     * 보상 순서 (위상 정렬 역순)
+     */
+    public List<SagaStep> getReverseTopologicalOrder() {
+        List<SagaStep> reversed = new ArrayList<>(topologicalOrder);
+        Collections.reverse(reversed);
+        return reversed;
+    }
+
+    /**
+     * 레벨별 Step 이름 (같은 레벨은 서로 독립 → 동시 실행 가능)
+     */
+    public List<List<String>> getLevels() {
+        return levels;
+    }
+
+    /**
+     * 실행 대기열 우선순위 (getOrder() → 이름)
+     */
+    public static Comparator<SagaStep> priority() {
+        return STEP_PRIORITY;
+    }
+
+    public int size() {
+        return stepsByName.size();
+    }
+}
@@ -0,0 +1,235 @@
+package com.hhplus.ecommerce.application.order.saga.recovery;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hhplus.ecommerce.application.order.saga.context.SagaContext;
+import com.hhplus.ecommerce.application.order.saga.context.SagaExecutionSnapshot;
+import com.hhplus.ecommerce.application.order.saga.logging.SagaLogWriter;
+import com.hhplus.ecommerce.application.order.saga.orchestration.OrderSagaOrchestrator;
+import com.hhplus.ecommerce.domain.order.SagaLogEntry;
+import com.hhplus.ecommerce.domain.order.SagaLogEventType;
+import com.hhplus.ecommerce.domain.order.SagaLogRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * SagaRecoveryService - 중단된 Saga 복구 스캐너
+ *
+ * 문제:
+ * - Saga 도중 프로세스가 죽으면 보상(Backward Flow)도 실행되지 않음
+ *   → 재고/포인트/쿠폰이 차감된 채 주문 없이 남음
+ *
+ * 해결:
+ * - 기동 직후(ApplicationReadyEvent)와 주기적으로 saga_log에서 적용 표식이 남아 있고 종결 전이가 없는 Saga 조회
+ * - 적용 표식으로 SagaContext 복원 (표식의 입력 스냅샷 + 표식이 남은 Step)
+ * - OrderSagaOrchestrator.recover(): 모든 Step 완료 + 주문 존재면 성공으로 종결, 아니면 보상
+ *
+ * 대상 선정:
+ * - stale-after-ms보다 오래 전에 적용 표식을 남긴 Saga만 (다른 노드에서 실행 중인 Saga 제외)
+ *   → stale-after-ms는 Saga 최대 실행 시간(재시도 포함)보다 길어야 함
+ * - lookback-hours 이내에 적용 표식을 남긴 Saga만 (오래된 로그 스캔 제한)
+ *
+ * 중복 복구 방지 (여러 노드 동시 기동):
+ * - RECOVERY_CLAIMED(step_name = 시도 번호)를 단건 INSERT → UNIQUE 충돌 시 다른 노드가 선점한 것
+ * - 선점 후 stale-after-ms가 지나도 종결되지 않으면 다음 시도 번호로 재선점 (복구 중 종료 대비)
+ * - max-attempts 초과 시 RECOVERY_ABANDONED 기록 후 수동 처리 (오류 로그)
+ *
+ * 비동기 전이 유실 대응:
+ * - 복구 판정은 Step 트랜잭션과 함께 커밋/삭제되는 적용 표식(STEP_APPLIED)만 사용
+ *   → SAGA_STARTED/STEP_COMPLETED/STEP_COMPENSATED가 유실돼도 복구 대상과 보상 후보가 틀리지 않음
+ *   → 롤백된 Step은 표식이 없고, 보상된 Step은 표식이 삭제되어 다시 보상하지 않음
+ * - 표식이 모두 삭제된 Saga는 되돌릴 변경이 없으므로 대상 아님
+ * - CreateOrderStep의 orderId는 표식(또는 남아 있는 STEP_COMPLETED)에서 복원
+ */
+@Component
+public class SagaRecoveryService {
+
+    private static final Logger log = LoggerFactory.getLogger(SagaRecoveryService.class);
+
+    private final SagaLogRepository sagaLogRepository;
+    private final OrderSagaOrchestrator orderSagaOrchestrator;
+    private final SagaLogWriter sagaLogWriter;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final long staleAfterMs;
+    private final long lookbackHours;
+    private final int batchSize;
+    private final int maxAttempts;
+
+    public SagaRecoveryService(SagaLogRepository sagaLogRepository,
+                               OrderSagaOrchestrator orderSagaOrchestrator,
+                               SagaLogWriter sagaLogWriter,
+                               ObjectMapper objectMapper,
+                               @Value("${saga.recovery.enabled:true}") boolean enabled,
+                               @Value("${saga.recovery.stale-after-ms:300000}") long staleAfterMs,
+                               @Value("${saga.recovery.lookback-hours:24}") long lookbackHours,
+                               @Value("${saga.recovery.batch-size:100}") int batchSize,
+                               @Value("${saga.recovery.max-attempts:3}") int maxAttempts) {
+        this.sagaLogRepository = sagaLogRepository;
+        this.orderSagaOrchestrator = orderSagaOrchestrator;
+        this.sagaLogWriter = sagaLogWriter;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.staleAfterMs = staleAfterMs;
+        this.lookbackHours = lookbackHours;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * 기동 직후 복구 (이전 프로세스가 남긴 Saga)
+     * - 복구 실패가 기동 실패로 이어지지 않도록 예외는 로그만 남김
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverOnStartup() {
+        try {
+            recoverInFlightSagas();
+        } catch (Exception e) {
+            log.error("[SagaRecoveryService] 기동 시 Saga 복구 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 주기 복구 (재시작되지 않은 노드가 남긴 Saga)
+     * - 스케줄링은 SchedulingConfig의 @EnableScheduling으로 활성화 (taskScheduler 풀에서 실행)
+     */
+    @Scheduled(fixedDelayString = "${saga.recovery.interval-ms:300000}",
+            initialDelayString = "${saga.recovery.interval-ms:300000}")
+    public void recoverPeriodically() {
+        try {
+            recoverInFlightSagas();
+        } catch (Exception e) {
+            log.error("[SagaRecoveryService] 주기 Saga 복구 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 종결되지 않은 Saga를 batch-size만큼 조회해 복구
+     *
+     * @return 이 노드가 선점해 복구한 Saga 수
+     */
+    public int recoverInFlightSagas() {
+        if (!enabled || !sagaLogWriter.isEnabled()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime staleBefore = now.minus(staleAfterMs, ChronoUnit.MILLIS);
+        List<String> sagaIds = sagaLogRepository.findInFlightSagaIds(
+                now.minusHours(lookbackHours), staleBefore, staleBefore, batchSize);
+        if (sagaIds.isEmpty()) {
+            return 0;
+        }
+
+        log.warn("[SagaRecoveryService] 종결되지 않은 Saga {}건 발견 - 복구 시작", sagaIds.size());
+        int recovered = 0;
+        for (String sagaId : sagaIds) {
+            try {
+                if (recoverSaga(sagaId)) {
+                    recovered++;
+                }
+            } catch (Exception e) {
+                // 선점 후 실패 → stale-after-ms 이후 다음 시도 번호로 재시도
+                log.error("[SagaRecoveryService] Saga 복구 실패: sagaId={}, error={}", sagaId, e.getMessage(), e);
+            }
+        }
+        log.info("[SagaRecoveryService] Saga 복구 완료 - 대상={}건, 복구={}건", sagaIds.size(), recovered);
+        return recovered;
+    }
+
+    private boolean recoverSaga(String sagaId) {
+        List<SagaLogEntry> entries = sagaLogRepository.findBySagaId(sagaId);
+        if (entries.stream().anyMatch(entry -> entry.getEventType().isTerminal())) {
+            return false;
+        }
+
+        if (entries.stream().noneMatch(entry -> entry.getEventType() == SagaLogEventType.STEP_APPLIED)) {
+            // 조회 후 보상이 끝나 표식이 모두 삭제됨 → 되돌릴 변경 없음
+            return false;
+        }
+
+        long previousAttempts = entries.stream()
+                .filter(entry -> entry.getEventType() == SagaLogEventType.RECOVERY_CLAIMED)
+                .count();
+        if (previousAttempts >= maxAttempts) {
+            abandon(sagaId, "복구 시도 " + previousAttempts + "회 초과");
+            return false;
+        }
+
+        SagaLogEntry claim = SagaLogEntry.of(sagaId, SagaLogEventType.RECOVERY_CLAIMED,
+                String.valueOf(previousAttempts + 1), null, null);
+        if (!sagaLogRepository.appendIfAbsent(claim)) {
+            log.info("[SagaRecoveryService] 다른 노드가 복구 중: sagaId={}", sagaId);
+            return false;
+        }
+
+        Optional<SagaContext> context = restore(sagaId, entries);
+        if (context.isEmpty()) {
+            abandon(sagaId, "입력 스냅샷 없음");
+            return false;
+        }
+
+        orderSagaOrchestrator.recover(context.get());
+        return true;
+    }
+
+    /**
+     * 적용 표식으로 SagaContext 복원
+     * - 입력 스냅샷 = 표식 payload (모든 표식이 같은 스냅샷을 가짐)
+     * - 실행 이력 = 표식이 남아 있는 Step (보상된 Step은 표식이 삭제됨)
+     * - orderId = STEP_APPLIED/STEP_COMPLETED에 기록된 마지막 orderId
+     */
+    private Optional<SagaContext> restore(String sagaId, List<SagaLogEntry> entries) {
+        Optional<String> payload = entries.stream()
+                .filter(entry -> entry.getEventType() == SagaLogEventType.STEP_APPLIED)
+                .map(SagaLogEntry::getPayload)
+                .filter(Objects::nonNull)
+                .findFirst();
+        if (payload.isEmpty()) {
+            return Optional.empty();
+        }
+
+        SagaExecutionSnapshot snapshot;
+        try {
+            snapshot = objectMapper.readValue(payload.get(), SagaExecutionSnapshot.class);
+        } catch (Exception e) {
+            log.error("[SagaRecoveryService] 입력 스냅샷 역직렬화 실패: sagaId={}, error={}", sagaId, e.getMessage());
+            return Optional.empty();
+        }
+
+        SagaContext context = snapshot.toContext(sagaId);
+        for (SagaLogEntry entry : entries) {
+            switch (entry.getEventType()) {
+                case STEP_APPLIED -> {
+                    context.addExecutedStepName(entry.getStepName());
+                    if (entry.getOrderId() != null) {
+                        context.setOrderId(entry.getOrderId());
+                    }
+                }
+                case STEP_COMPLETED -> {
+                    if (entry.getOrderId() != null) {
+                        context.setOrderId(entry.getOrderId());
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+        return Optional.of(context);
+    }
+
+    private void abandon(String sagaId, String reason) {
+        log.error("[SagaRecoveryService] ⚠️ Saga 자동 복구 포기 - 수동 처리 필요: sagaId={}, reason={}", sagaId, reason);
+        sagaLogWriter.append(SagaLogEntry.of(sagaId, SagaLogEventType.RECOVERY_ABANDONED, null, null, null));
+    }
+}
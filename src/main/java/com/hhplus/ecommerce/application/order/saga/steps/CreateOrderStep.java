@@ -2,6 +2,7 @@ package com.hhplus.ecommerce.application.order.saga.steps;
 
 import com.hhplus.ecommerce.application.order.dto.CreateOrderRequestDto.OrderItemDto;
 import com.hhplus.ecommerce.application.order.saga.context.SagaContext;
+import com.hhplus.ecommerce.application.order.saga.logging.SagaLogWriter;
 import com.hhplus.ecommerce.application.order.saga.orchestration.SagaStep;
 import com.hhplus.ecommerce.domain.order.Order;
 import com.hhplus.ecommerce.domain.order.OrderItem;
@@ -15,10 +16,12 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 /**
  * CreateOrderStep - 주문 생성 Step (Saga Step 4/4)
@@ -29,8 +32,8 @@ import java.util.List;
  * - 생성된 Order를 SagaContext에 저장
  * - 주문 생성 실패 시 예외 발생 → Saga 보상 플로우 시작
  *
- * 실행 순서: 4번 (마지막 Step)
- * - 재고 차감, 포인트 차감, 쿠폰 사용이 모두 성공한 후 실행
+ * 실행 순서: 4번 (마지막 Step, getDependencies()로 선언)
+ * - 재고 차감, 포인트 차감, 쿠폰 사용(동시 실행)이 모두 성공한 후 실행
  * - 주문 생성 실패 시 모든 이전 Step들을 보상해야 함
  *
  * Forward Flow (execute):
@@ -61,10 +64,13 @@ public class CreateOrderStep implements SagaStep {
 
     private final OrderRepository orderRepository;
     private final ProductRepository productRepository;
+    private final SagaLogWriter sagaLogWriter;
 
-    public CreateOrderStep(OrderRepository orderRepository, ProductRepository productRepository) {
+    public CreateOrderStep(OrderRepository orderRepository, ProductRepository productRepository,
+                           SagaLogWriter sagaLogWriter) {
         this.orderRepository = orderRepository;
         this.productRepository = productRepository;
+        this.sagaLogWriter = sagaLogWriter;
     }
 
     @Override
@@ -77,6 +83,11 @@ public class CreateOrderStep implements SagaStep {
         return 4; // 마지막 Step
     }
 
+    @Override
+    public Set<String> getDependencies() {
+        return Set.of("DeductInventoryStep", "DeductBalanceStep", "UseCouponStep");
+    }
+
     /**
      * 주문 생성 (Forward Flow)
      *
@@ -176,6 +187,9 @@ public class CreateOrderStep implements SagaStep {
         // ========== Step 5: SagaContext에 orderId만 저장 (Order 객체 아님) ==========
         context.setOrderId(savedOrder.getOrderId());
 
+        // ========== Step 6: 적용 표식 (orderId 포함 - 완료 전이가 유실돼도 복구 시 주문 ID 복원) ==========
+        sagaLogWriter.markApplied(context, getName());
+
         log.info("[{}] 주문 생성 Step 완료 - orderId={}, orderItems={}개",
                 getName(), savedOrder.getOrderId(), orderItems.size());
         log.info("[{}] ========== 주문 생성 트랜잭션 종료 (커밋 예정) ==========", getName());
@@ -186,7 +200,7 @@ public class CreateOrderStep implements SagaStep {
      *
      * 처리 로직 (Phase 2 변경):
      * 1. Step 실행 여부 확인 (context.hasExecutedStep으로 체크)
-     * 2. context.getOrderId()에서 주문 ID 획득
+     * 2. context.getOrderId()에서 주문 ID 획득 + 적용 표식 확인/삭제 (표식이 없으면 skip)
      * 3. DB에서 Order 조회 (비관적 락)
      * 4. order.markAsFailed() 호출 (PENDING → FAILED)
      * 5. order.cancel() 호출 (FAILED → CANCELLED)
@@ -197,12 +211,12 @@ public class CreateOrderStep implements SagaStep {
      * - context.getOrder() 제거 → context.getOrderId()로 ID만 획득 후 DB 조회
      * - 메타데이터 의존 제거 → DB 조회 기반으로 전환
      *
-     * Best Effort 보상:
-     * - 보상 실패 시 예외를 발생시키지 말고 로깅만 수행
-     * - Orchestrator가 다음 보상을 계속 진행할 수 있도록 함
+     * 보상 실패:
+     * - 트랜잭션 롤백 (표식 삭제도 롤백 → 표식이 남아 복구 시 다시 주문 취소)
+     * - 예외 전파 → Orchestrator가 STEP_COMPENSATION_FAILED 기록 + Handler 위임 후 다음 보상 진행
      *
      * @param context Saga 실행 컨텍스트 (orderId 포함)
-     * @throws Exception 보상 중 치명적 오류 발생 시
+     * @throws Exception 주문 취소 실패 시
      */
     @Override
     @Transactional(propagation = Propagation.REQUIRES_NEW)
@@ -233,6 +247,13 @@ public class CreateOrderStep implements SagaStep {
             return;
         }
 
+        // ========== 적용 표식 확인 + 삭제 (보상과 같은 트랜잭션) ==========
+        // 표식이 없으면 Step 트랜잭션이 커밋되지 않았거나 이미 보상됨 → 중복 보상 방지
+        if (!sagaLogWriter.clearApplied(context, getName())) {
+            log.info("[{}] 적용 표식이 없으므로 보상 skip (미적용 또는 이미 보상됨)", getName());
+            return;
+        }
+
         log.warn("[{}] 주문 취소 시작 - orderId={}",
                 getName(), orderId);
 
@@ -268,9 +289,12 @@ public class CreateOrderStep implements SagaStep {
             }
 
         } catch (Exception e) {
-            // 주문 취소 실패는 로깅만 하고 예외를 전파하지 않음 (Best Effort)
-            log.error("[{}] 주문 취소 실패 (무시하고 계속) - orderId={}, error={}",
+            log.error("[{}] 주문 취소 실패 - orderId={}, error={}",
                     getName(), orderId, e.getMessage(), e);
+            // 표식 삭제도 롤백 → 표식이 남아 다음 보상 시도(복구)에서 다시 보상
+            // (체크 예외는 @Transactional 기본 규칙상 커밋되므로 명시적으로 롤백 지정)
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            throw e;
         }
 
         log.warn("[{}] ========== 주문 취소 트랜잭션 종료 (커밋 예정) ==========", getName());
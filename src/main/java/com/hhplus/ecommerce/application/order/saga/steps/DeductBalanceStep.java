@@ -1,6 +1,7 @@
 package com.hhplus.ecommerce.application.order.saga.steps;
 
 import com.hhplus.ecommerce.application.order.saga.context.SagaContext;
+import com.hhplus.ecommerce.application.order.saga.logging.SagaLogWriter;
 import com.hhplus.ecommerce.application.order.saga.orchestration.SagaStep;
 import com.hhplus.ecommerce.application.user.UserBalanceService;
 import com.hhplus.ecommerce.domain.order.Order;
@@ -11,6 +12,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
 /**
  * DeductBalanceStep - 포인트 차감 Step (Saga Step 2/4)
@@ -21,21 +23,22 @@ import org.springframework.transaction.annotation.Transactional;
  * - 차감 정보를 SagaContext에 기록 (보상용)
  * - 포인트 부족 시 예외 발생 → Saga 보상 플로우 시작
  *
- * 실행 순서: 2번 (재고 차감 다음)
- * - 재고 차감 성공 후 포인트 차감
- * - 포인트 부족 시 재고만 복구하면 됨 (간단한 보상)
+ * 실행 순서: 의존 없음 (재고 차감, 쿠폰 사용과 동시 실행)
+ * - 사용자 잔액만 변경 → 재고/쿠폰과 자원이 겹치지 않음
+ * - 포인트 부족 시 함께 실행된 재고/쿠폰 Step만 보상
  *
  * Forward Flow (execute):
- * 1. UserBalanceService.deductBalance() 호출
+ * 1. UserBalanceService.deductBalanceInCurrentTransaction() 호출 (Step 트랜잭션 참여)
  *    - 내부적으로 분산락 + 비관적 락 처리
  *    - 포인트 부족 시 InsufficientBalanceException 발생
  * 2. context.setDeductedAmount() 호출 (보상 메타데이터 기록)
  * 3. context.setBalanceDeducted(true) 설정 (보상 플래그)
+ * 4. 적용 표식(STEP_APPLIED) 기록 (같은 트랜잭션)
  *
  * Backward Flow (compensate):
  * 1. context.isBalanceDeducted() 확인
- * 2. true이면 포인트 환불 실행
- * 3. UserBalanceService.refundBalance() 호출 (포인트 복구)
+ * 2. true이면 적용 표식 확인 + 삭제 (표식이 없으면 skip → 중복 환불 방지)
+ * 3. UserBalanceService.refundBalanceInCurrentTransaction() 호출 (포인트 복구)
  *
  * 동시성 제어:
  * - UserBalanceService에서 분산락(Redis) + 비관적 락(DB) 처리
@@ -53,11 +56,14 @@ public class DeductBalanceStep implements SagaStep {
 
     private final UserBalanceService userBalanceService;
     private final OrderRepository orderRepository;
+    private final SagaLogWriter sagaLogWriter;
 
     public DeductBalanceStep(UserBalanceService userBalanceService,
-                            OrderRepository orderRepository) {
+                            OrderRepository orderRepository,
+                            SagaLogWriter sagaLogWriter) {
         this.userBalanceService = userBalanceService;
         this.orderRepository = orderRepository;
+        this.sagaLogWriter = sagaLogWriter;
     }
 
     @Override
@@ -67,14 +73,14 @@ public class DeductBalanceStep implements SagaStep {
 
     @Override
     public int getOrder() {
-        return 2; // 재고 차감 다음
+        return 2; // 동시 실행 Step 중 두 번째 (보상 순서 결정용)
     }
 
     /**
      * 포인트 차감 실행 (Forward Flow)
      *
      * 처리 로직:
-     * 1. UserBalanceService.deductBalance() 호출
+     * 1. UserBalanceService.deductBalanceInCurrentTransaction() 호출
      *    - 분산락 + 비관적 락으로 동시성 제어
      *    - 포인트 부족 시 InsufficientBalanceException 발생
      * 2. 차감 금액을 SagaContext에 기록 (보상용)
@@ -100,15 +106,15 @@ public class DeductBalanceStep implements SagaStep {
         // ========== Step 1: 포인트 차감 (UserBalanceService) ==========
         // UserBalanceService에서 분산락 + 비관적 락 처리
         // 포인트 부족 시 InsufficientBalanceException 발생
-        User user = userBalanceService.deductBalance(
-                userId,
-                finalAmount,
-                null // transactionMetadata (nullable)
-        );
+        // Step 트랜잭션에 참여 → 차감과 적용 표식이 함께 커밋/롤백
+        User user = userBalanceService.deductBalanceInCurrentTransaction(userId, finalAmount);
 
         log.info("[{}] 포인트 차감 완료 - userId={}, 차감금액={}, 남은잔액={}",
                 getName(), userId, finalAmount, user.getBalance());
 
+        // ========== Step 2: 적용 표식 (차감과 같은 트랜잭션) ==========
+        sagaLogWriter.markApplied(context, getName());
+
         log.info("[{}] 포인트 차감 Step 완료 - userId={}, 차감금액={}",
                 getName(), userId, finalAmount);
     }
@@ -118,21 +124,23 @@ public class DeductBalanceStep implements SagaStep {
      *
      * 처리 로직:
      * 1. Step 실행 여부 확인 (context.hasExecutedStep으로 체크)
+     *    + 적용 표식 확인/삭제 (표식이 없으면 skip → 중복 환불 방지)
      * 2. DB에서 Order 조회 (orderId 사용)
      * 3. Order.finalAmount에서 환불할 금액 획득
-     * 4. UserBalanceService.refundBalance() 호출 (포인트 복구)
+     *    (주문 생성 전 실패로 orderId가 없으면 context.finalAmount = 실제 차감 금액)
+     * 4. UserBalanceService.refundBalanceInCurrentTransaction() 호출 (포인트 복구)
      *
      * 변경 사항:
      * - context.isBalanceDeducted() 제거 → context.hasExecutedStep(getName()) 사용
      * - context.getDeductedAmount() 제거 → Order.getFinalAmount()에서 정보 획득
      * - 메타데이터 의존 제거 → DB 조회 기반으로 전환
      *
-     * Best Effort 보상:
-     * - 보상 실패 시 예외를 발생시키지 말고 로깅만 수행
-     * - Orchestrator가 다음 보상을 계속 진행할 수 있도록 함
+     * 보상 실패:
+     * - 트랜잭션 롤백 (표식 삭제도 롤백 → 표식이 남아 복구 시 다시 환불)
+     * - 예외 전파 → Orchestrator가 STEP_COMPENSATION_FAILED 기록 + Handler 위임 후 다음 보상 진행
      *
      * @param context Saga 실행 컨텍스트 (orderId 포함)
-     * @throws Exception 보상 중 치명적 오류 발생 시
+     * @throws Exception 포인트 환불 실패 시
      */
     @Override
     @Transactional(propagation = Propagation.REQUIRES_NEW)
@@ -143,35 +151,47 @@ public class DeductBalanceStep implements SagaStep {
             return;
         }
 
-        // ========== Step 2: DB에서 Order 조회 ==========
-        Long orderId = context.getOrderId();
-        if (orderId == null) {
-            log.warn("[{}] orderId가 null이므로 보상 skip (주문 생성 전 실패)", getName());
+        // ========== 적용 표식 확인 + 삭제 (보상과 같은 트랜잭션) ==========
+        // 표식이 없으면 Step 트랜잭션이 커밋되지 않았거나 이미 보상됨 → 중복 보상 방지
+        if (!sagaLogWriter.clearApplied(context, getName())) {
+            log.info("[{}] 적용 표식이 없으므로 보상 skip (미적용 또는 이미 보상됨)", getName());
             return;
         }
 
-        Order order = orderRepository.findById(orderId)
-                .orElseThrow(() -> new IllegalStateException(
-                        "보상 중 Order를 찾을 수 없습니다: orderId=" + orderId));
+        // ========== Step 2~3: 환불 금액 획득 (Order 또는 차감 시 사용한 입력 금액) ==========
+        // 다른 Step과 동시 실행되므로 주문 생성 전 실패(orderId 없음)에도 차감이 끝났을 수 있음
+        Long orderId = context.getOrderId();
+        Long refundAmount;
+        if (orderId == null) {
+            refundAmount = context.getFinalAmount();
+            log.warn("[{}] orderId가 없으므로 차감 금액으로 환불 (주문 생성 전 실패)", getName());
+        } else {
+            Order order = orderRepository.findById(orderId)
+                    .orElseThrow(() -> new IllegalStateException(
+                            "보상 중 Order를 찾을 수 없습니다: orderId=" + orderId));
+            refundAmount = order.getFinalAmount();
+        }
 
-        // ========== Step 3: Order에서 환불 금액 획득 ==========
         Long userId = context.getUserId();
-        Long refundAmount = order.getFinalAmount();
 
         log.warn("[{}] 포인트 환불 시작 - userId={}, orderId={}, 환불금액={}",
                 getName(), userId, orderId, refundAmount);
 
         try {
             // ========== Step 4: 포인트 환불 (UserBalanceService) ==========
-            User user = userBalanceService.refundBalance(userId, refundAmount);
+            // Step 트랜잭션에 참여 → 환불과 표식 삭제가 함께 커밋/롤백
+            User user = userBalanceService.refundBalanceInCurrentTransaction(userId, refundAmount);
 
             log.warn("[{}] 포인트 환불 완료 - userId={}, 환불금액={}, 환불후잔액={}",
                     getName(), userId, refundAmount, user.getBalance());
 
         } catch (Exception e) {
-            // 환불 실패는 로깅만 하고 예외를 전파하지 않음 (Best Effort)
-            log.error("[{}] 포인트 환불 실패 (무시하고 계속) - userId={}, 환불금액={}, error={}",
+            log.error("[{}] 포인트 환불 실패 - userId={}, 환불금액={}, error={}",
                     getName(), userId, refundAmount, e.getMessage(), e);
+            // 표식 삭제도 롤백 → 표식이 남아 다음 보상 시도(복구)에서 다시 보상
+            // (체크 예외는 @Transactional 기본 규칙상 커밋되므로 명시적으로 롤백 지정)
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            throw e;
         }
     }
 }
\ No newline at end of file
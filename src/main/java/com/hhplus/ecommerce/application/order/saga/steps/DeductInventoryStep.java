@@ -1,7 +1,9 @@
 package com.hhplus.ecommerce.application.order.saga.steps;
 
+import com.hhplus.ecommerce.application.inventory.OptionStockDeductionService;
 import com.hhplus.ecommerce.application.order.dto.CreateOrderRequestDto.OrderItemDto;
 import com.hhplus.ecommerce.application.order.saga.context.SagaContext;
+import com.hhplus.ecommerce.application.order.saga.logging.SagaLogWriter;
 import com.hhplus.ecommerce.application.order.saga.orchestration.SagaStep;
 import com.hhplus.ecommerce.domain.order.Order;
 import com.hhplus.ecommerce.domain.order.OrderItem;
@@ -13,8 +15,12 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * DeductInventoryStep - 재고 차감 Step (Saga Step 1/4)
  *
@@ -23,20 +29,19 @@ import org.springframework.transaction.support.TransactionSynchronizationManager
  * - 재고 차감 정보를 SagaContext에 기록 (보상용)
  * - 재고 부족 시 예외 발생 → Saga 보상 플로우 시작
  *
- * 실행 순서: 1번 (가장 먼저 실행)
- * - 재고 차감 실패 시 다른 Step들이 실행되지 않음
- * - 재고 부족은 주문 생성 전에 감지되어야 하므로 첫 번째로 실행
+ * 실행 순서: 의존 없음 (포인트 차감, 쿠폰 사용과 동시 실행)
+ * - 상품 옵션 재고만 변경 → 포인트/쿠폰과 자원이 겹치지 않음
+ * - 재고 부족 시 주문 생성(CreateOrderStep)은 실행되지 않고, 함께 실행된 포인트/쿠폰 Step만 보상
  *
  * Forward Flow (execute):
- * 1. 각 주문 항목의 ProductOption 조회
- * 2. option.decreaseStock(quantity) 호출 (재고 차감)
- * 3. productRepository.saveOption() 호출 (DB 저장)
- * 4. context.recordInventoryDeduction() 호출 (보상 메타데이터 기록)
- * 5. context.setInventoryDeducted(true) 설정 (보상 플래그)
+ * 1. OptionStockDeductionService로 조건부 UPDATE 일괄 차감
+ *    (엔티티 로드/저장 없음, 영향 행 수 0이면 재고 부족)
+ *    (핫 옵션은 StripedStockService 재고 버킷에서 차감, 옵션 행 갱신 없음)
+ * 2. 적용 표식(STEP_APPLIED) 기록 (같은 트랜잭션)
  *
  * Backward Flow (compensate):
  * 1. context.isInventoryDeducted() 확인
- * 2. true이면 재고 복구 실행
+ * 2. true이면 적용 표식 확인 + 삭제 (표식이 없으면 skip → 중복 재고 복구 방지)
  * 3. context.getDeductedInventory()에서 복구할 수량 조회
  * 4. option.restoreStock(quantity) 호출 (재고 복구)
  * 5. productRepository.saveOption() 호출 (DB 저장)
@@ -53,11 +58,17 @@ public class DeductInventoryStep implements SagaStep {
 
     private final ProductRepository productRepository;
     private final OrderRepository orderRepository;
+    private final OptionStockDeductionService optionStockDeductionService;
+    private final SagaLogWriter sagaLogWriter;
 
     public DeductInventoryStep(ProductRepository productRepository,
-                               OrderRepository orderRepository) {
+                               OrderRepository orderRepository,
+                               OptionStockDeductionService optionStockDeductionService,
+                               SagaLogWriter sagaLogWriter) {
         this.productRepository = productRepository;
         this.orderRepository = orderRepository;
+        this.optionStockDeductionService = optionStockDeductionService;
+        this.sagaLogWriter = sagaLogWriter;
     }
 
     @Override
@@ -67,16 +78,14 @@ public class DeductInventoryStep implements SagaStep {
 
     @Override
     public int getOrder() {
-        return 1; // 가장 먼저 실행
+        return 1; // 동시 실행 Step 중 첫 번째 (보상 순서 결정용)
     }
 
     /**
      * 재고 차감 실행 (Forward Flow)
      *
      * 처리 로직:
-     * 1. 각 주문 항목별로 ProductOption 조회
-     * 2. decreaseStock() 호출 (재고 차감, 재고 부족 시 예외)
-     * 3. DB 저장
+     * 1. 조건부 UPDATE 일괄 차감 (핫 옵션은 재고 버킷, 재고 부족 시 예외)
      *
      * 변경 사항:
      * - SagaContext 메타데이터 기록 제거 (recordInventoryDeduction 제거)
@@ -85,7 +94,7 @@ public class DeductInventoryStep implements SagaStep {
      *
      * 예외 처리:
      * - ProductOption 조회 실패: IllegalArgumentException
-     * - 재고 부족: InsufficientStockException (domain에서 발생)
+     * - 재고 부족: IllegalArgumentException (조건부 UPDATE 영향 행 수 0)
      * - 예외 발생 시 Orchestrator가 보상 플로우 시작
      *
      * @param context Saga 실행 컨텍스트
@@ -108,27 +117,12 @@ public class DeductInventoryStep implements SagaStep {
             throw new IllegalStateException("트랜잭션이 활성화되지 않았습니다");
         }
 
-        // ========== Step 1: 각 주문 항목별로 재고 차감 ==========
-        for (OrderItemDto item : context.getOrderItems()) {
-            // ProductOption 조회
-            ProductOption option = productRepository.findOptionById(item.getOptionId())
-                    .orElseThrow(() -> new IllegalArgumentException(
-                            "상품 옵션을 찾을 수 없습니다: optionId=" + item.getOptionId()));
-
-            log.info("[{}] 재고 차감 중 - optionId={}, optionName={}, 요청수량={}, 현재재고={}",
-                    getName(), item.getOptionId(), option.getName(),
-                    item.getQuantity(), option.getStock());
-
-            // ========== Step 2: 재고 차감 (domain 로직) ==========
-            // option.deductStock()에서 재고 부족 시 IllegalArgumentException 발생
-            option.deductStock(item.getQuantity());
+        // ========== 조건부 UPDATE 일괄 차감 (JDBC 배치 1회, 핫 옵션은 재고 버킷) ==========
+        // 옵션 없음/재고 부족 시 IllegalArgumentException 발생 → Step 롤백
+        optionStockDeductionService.deductAll(context.getOrderItems());
 
-            // ========== Step 3: DB 저장 ==========
-            productRepository.saveOption(option);
-
-            log.info("[{}] 재고 차감 완료 - optionId={}, 차감수량={}, 남은재고={}",
-                    getName(), item.getOptionId(), item.getQuantity(), option.getStock());
-        }
+        // ========== 적용 표식 (차감과 같은 트랜잭션) ==========
+        sagaLogWriter.markApplied(context, getName());
 
         log.info("[{}] 재고 차감 완료 - 총 {}개 옵션 처리",
                 getName(), context.getOrderItems().size());
@@ -140,8 +134,10 @@ public class DeductInventoryStep implements SagaStep {
      *
      * 처리 로직 (Phase 2 변경):
      * 1. Step 실행 여부 확인 (context.hasExecutedStep으로 체크)
+     *    + 적용 표식 확인/삭제 (표식이 없으면 skip → 중복 재고 복구 방지)
      * 2. DB에서 Order 조회 (orderId 사용)
      * 3. Order의 OrderItems에서 복구할 재고 정보 획득
+     *    (주문 생성 전 실패로 orderId가 없으면 context.orderItems = 실제 차감 항목)
      * 4. 각 OrderItem별로 재고 복구 실행
      * 5. DB 저장
      *
@@ -150,12 +146,13 @@ public class DeductInventoryStep implements SagaStep {
      * - context.getDeductedInventory() 제거 → Order.getOrderItems()에서 정보 획득
      * - 메타데이터 의존 제거 → DB 조회 기반으로 전환
      *
-     * Best Effort 보상:
-     * - 보상 실패 시 예외를 발생시키지 말고 로깅만 수행
-     * - Orchestrator가 다음 보상을 계속 진행할 수 있도록 함
+     * 보상 실패:
+     * - 한 옵션이라도 복구에 실패하면 트랜잭션 전체 롤백 (이미 복구한 옵션 + 표식 삭제도 롤백)
+     *   → 일부만 복구된 채 표식이 사라지지 않도록 하고, 복구 시 전체 항목을 다시 복구
+     * - 예외 전파 → Orchestrator가 STEP_COMPENSATION_FAILED 기록 + Handler 위임 후 다음 보상 진행
      *
      * @param context Saga 실행 컨텍스트 (orderId 포함)
-     * @throws Exception 보상 중 치명적 오류 발생 시
+     * @throws Exception 재고 복구 실패 시
      */
     @Override
     @Transactional(propagation = Propagation.REQUIRES_NEW)
@@ -179,24 +176,36 @@ public class DeductInventoryStep implements SagaStep {
             return;
         }
 
-        // ========== Step 2: DB에서 Order 조회 ==========
-        Long orderId = context.getOrderId();
-        if (orderId == null) {
-            log.warn("[{}] orderId가 null이므로 보상 skip (주문 생성 전 실패)", getName());
+        // ========== 적용 표식 확인 + 삭제 (보상과 같은 트랜잭션) ==========
+        // 표식이 없으면 Step 트랜잭션이 커밋되지 않았거나 이미 보상됨 → 중복 보상 방지
+        if (!sagaLogWriter.clearApplied(context, getName())) {
+            log.info("[{}] 적용 표식이 없으므로 보상 skip (미적용 또는 이미 보상됨)", getName());
             return;
         }
 
-        Order order = orderRepository.findById(orderId)
-                .orElseThrow(() -> new IllegalStateException(
-                        "보상 중 Order를 찾을 수 없습니다: orderId=" + orderId));
+        // ========== Step 2: 복구할 항목 획득 (Order 또는 차감 시 사용한 입력 항목) ==========
+        // 다른 Step과 동시 실행되므로 주문 생성 전 실패(orderId 없음)에도 차감이 끝났을 수 있음
+        Long orderId = context.getOrderId();
+        List<OrderItemDto> restorations = new ArrayList<>();
+        if (orderId == null) {
+            restorations.addAll(context.getOrderItems());
+            log.warn("[{}] orderId가 없으므로 주문 요청 항목으로 복구 (주문 생성 전 실패)", getName());
+        } else {
+            Order order = orderRepository.findById(orderId)
+                    .orElseThrow(() -> new IllegalStateException(
+                            "보상 중 Order를 찾을 수 없습니다: orderId=" + orderId));
+            for (OrderItem orderItem : order.getOrderItems()) {
+                restorations.add(new OrderItemDto(orderItem.getProductId(), orderItem.getOptionId(), orderItem.getQuantity()));
+            }
+        }
 
         log.warn("[{}] 재고 복구 시작 - orderId={}, 복구할 항목 {}개",
-                getName(), orderId, order.getOrderItems().size());
+                getName(), orderId, restorations.size());
 
-        // ========== Step 3: 각 OrderItem별로 재고 복구 ==========
-        for (OrderItem orderItem : order.getOrderItems()) {
-            Long optionId = orderItem.getOptionId();
-            Integer quantity = orderItem.getQuantity();
+        // ========== Step 3: 각 항목별로 재고 복구 ==========
+        for (OrderItemDto restoration : restorations) {
+            Long optionId = restoration.getOptionId();
+            Integer quantity = restoration.getQuantity();
 
             try {
                 // ProductOption 조회
@@ -217,14 +226,17 @@ public class DeductInventoryStep implements SagaStep {
                         getName(), optionId, quantity, option.getStock());
 
             } catch (Exception e) {
-                // 개별 옵션 복구 실패는 로깅만 하고 계속 진행 (Best Effort)
-                log.error("[{}] 재고 복구 실패 (무시하고 계속) - optionId={}, error={}",
+                log.error("[{}] 재고 복구 실패 - optionId={}, error={}",
                         getName(), optionId, e.getMessage(), e);
+                // 이미 복구한 옵션과 표식 삭제도 롤백 → 표식이 남아 다음 보상 시도(복구)에서 전체 항목 다시 보상
+                // (체크 예외는 @Transactional 기본 규칙상 커밋되므로 명시적으로 롤백 지정)
+                TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+                throw e;
             }
         }
 
-        log.warn("[{}] 재고 복구 완료 - 총 {}개 옵션 복구 시도",
-                getName(), order.getOrderItems().size());
+        log.warn("[{}] 재고 복구 완료 - 총 {}개 옵션 복구",
+                getName(), restorations.size());
         log.warn("[{}] ========== 재고 복구 트랜잭션 종료 (커밋 예정) ==========", getName());
     }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.hhplus.ecommerce.application.order.saga.steps;
 
 import com.hhplus.ecommerce.application.order.saga.context.SagaContext;
+import com.hhplus.ecommerce.application.order.saga.logging.SagaLogWriter;
 import com.hhplus.ecommerce.application.order.saga.orchestration.SagaStep;
 import com.hhplus.ecommerce.domain.coupon.UserCoupon;
 import com.hhplus.ecommerce.domain.coupon.UserCouponRepository;
@@ -10,6 +11,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
 import java.time.LocalDateTime;
 
@@ -22,8 +24,8 @@ import java.time.LocalDateTime;
  * - 쿠폰 정보를 SagaContext에 기록 (보상용)
  * - 쿠폰이 없는 경우 skip
  *
- * 실행 순서: 3번 (재고 차감, 포인트 차감 다음)
- * - 재고/포인트 차감 성공 후 쿠폰 처리
+ * 실행 순서: 의존 없음 (재고 차감, 포인트 차감과 동시 실행)
+ * - 사용자 쿠폰 행만 변경 → 재고/포인트와 자원이 겹치지 않음
  * - 쿠폰이 없으면 execute()와 compensate() 모두 skip
  *
  * Forward Flow (execute):
@@ -34,10 +36,11 @@ import java.time.LocalDateTime;
  * 5. DB 저장
  * 6. context.setUsedCouponId() 호출 (보상 메타데이터 기록)
  * 7. context.setCouponUsed(true) 설정 (보상 플래그)
+ * 8. 적용 표식(STEP_APPLIED) 기록 (같은 트랜잭션)
  *
  * Backward Flow (compensate):
  * 1. context.isCouponUsed() 확인
- * 2. true이면 쿠폰 상태 복구 실행
+ * 2. true이면 적용 표식 확인 + 삭제 (표식이 없으면 skip → 미사용 쿠폰을 UNUSED로 덮어쓰지 않음)
  * 3. UserCoupon 조회 (비관적 락 적용)
  * 4. 상태를 UNUSED로 변경, usedAt을 null로 설정
  * 5. DB 저장
@@ -57,9 +60,11 @@ public class UseCouponStep implements SagaStep {
     private static final Logger log = LoggerFactory.getLogger(UseCouponStep.class);
 
     private final UserCouponRepository userCouponRepository;
+    private final SagaLogWriter sagaLogWriter;
 
-    public UseCouponStep(UserCouponRepository userCouponRepository) {
+    public UseCouponStep(UserCouponRepository userCouponRepository, SagaLogWriter sagaLogWriter) {
         this.userCouponRepository = userCouponRepository;
+        this.sagaLogWriter = sagaLogWriter;
     }
 
     @Override
@@ -69,7 +74,7 @@ public class UseCouponStep implements SagaStep {
 
     @Override
     public int getOrder() {
-        return 3; // 재고/포인트 차감 다음
+        return 3; // 동시 실행 Step 중 세 번째 (보상 순서 결정용)
     }
 
     /**
@@ -130,8 +135,9 @@ public class UseCouponStep implements SagaStep {
         log.info("[{}] 쿠폰 상태 변경 (UNUSED → USED) - userCouponId={}, usedAt={}",
                 getName(), userCoupon.getUserCouponId(), userCoupon.getUsedAt());
 
-        // ========== Step 5: DB에 저장 ==========
+        // ========== Step 5: DB에 저장 + 적용 표식 ==========
         userCouponRepository.update(userCoupon);
+        sagaLogWriter.markApplied(context, getName());
 
         log.info("[{}] 쿠폰 사용 처리 완료 - userId={}, couponId={}, status={}",
                 getName(), userId, couponId, userCoupon.getStatus());
@@ -155,12 +161,12 @@ public class UseCouponStep implements SagaStep {
      * - context.getUsedCouponId() 제거 → context.getCouponId() 사용 (입력 데이터)
      * - 메타데이터 의존 제거 → 입력 파라미터 활용
      *
-     * Best Effort 보상:
-     * - 보상 실패 시 예외를 발생시키지 말고 로깅만 수행
-     * - Orchestrator가 다음 보상을 계속 진행할 수 있도록 함
+     * 보상 실패:
+     * - 트랜잭션 롤백 (표식 삭제도 롤백 → 표식이 남아 복구 시 다시 쿠폰 복구)
+     * - 예외 전파 → Orchestrator가 STEP_COMPENSATION_FAILED 기록 + Handler 위임 후 다음 보상 진행
      *
      * @param context Saga 실행 컨텍스트 (couponId 포함)
-     * @throws Exception 보상 중 치명적 오류 발생 시
+     * @throws Exception 쿠폰 복구 실패 시
      */
     @Override
     @Transactional(propagation = Propagation.REQUIRES_NEW)
@@ -178,6 +184,13 @@ public class UseCouponStep implements SagaStep {
             return;
         }
 
+        // ========== 적용 표식 확인 + 삭제 (보상과 같은 트랜잭션) ==========
+        // 표식이 없으면 Step 트랜잭션이 커밋되지 않았거나 이미 보상됨 → 중복 보상 방지
+        if (!sagaLogWriter.clearApplied(context, getName())) {
+            log.info("[{}] 적용 표식이 없으므로 보상 skip (미적용 또는 이미 보상됨)", getName());
+            return;
+        }
+
         Long userId = context.getUserId();
 
         log.warn("[{}] 쿠폰 복구 시작 - userId={}, couponId={}",
@@ -206,9 +219,12 @@ public class UseCouponStep implements SagaStep {
                     getName(), userId, couponId, userCoupon.getStatus());
 
         } catch (Exception e) {
-            // 쿠폰 복구 실패는 로깅만 하고 예외를 전파하지 않음 (Best Effort)
-            log.error("[{}] 쿠폰 복구 실패 (무시하고 계속) - userId={}, couponId={}, error={}",
+            log.error("[{}] 쿠폰 복구 실패 - userId={}, couponId={}, error={}",
                     getName(), userId, couponId, e.getMessage(), e);
+            // 표식 삭제도 롤백 → 표식이 남아 다음 보상 시도(복구)에서 다시 보상
+            // (체크 예외는 @Transactional 기본 규칙상 커밋되므로 명시적으로 롤백 지정)
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            throw e;
         }
     }
 }
\ No newline at end of file
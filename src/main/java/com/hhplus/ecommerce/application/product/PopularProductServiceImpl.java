@@ -1,18 +1,25 @@
 package com.hhplus.ecommerce.application.product;
 
+import com.hhplus.ecommerce.application.ranking.RankingService;
 import com.hhplus.ecommerce.domain.product.Product;
 import com.hhplus.ecommerce.domain.product.ProductRepository;
+import com.hhplus.ecommerce.domain.product.ProductSalesRepository;
+import com.hhplus.ecommerce.domain.ranking.RankingItem;
+import com.hhplus.ecommerce.domain.ranking.RankingWindow;
 import com.hhplus.ecommerce.infrastructure.config.RedisKeyType;
-import com.hhplus.ecommerce.infrastructure.persistence.product.MySQLProductRepository;
 import com.hhplus.ecommerce.presentation.product.response.PopularProductListResponse;
 import com.hhplus.ecommerce.presentation.product.response.PopularProductView;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -32,14 +39,31 @@ import java.util.stream.Collectors;
  * 캐시 무효화:
  * - @CacheEvict로 명시적 캐시 제거
  * - Redis에서도 자동으로 key 삭제
+ *
+ * 구간 랭킹 우선:
+ * - 최근 3일 랭킹 집계(ranking:window:3d)에서 상위 5개 ID 조회 (ZREVRANGE 1회) + 상품 5개 IN 조회
+ * - 집계가 비어 있거나(최초 기동, 주문 없음) Redis 조회 실패 시에만 MySQL 요약 테이블로 대체
+ *
+ * 캐시 미스 비용:
+ * - 두 경로 모두 상위 5개만 읽고 상품 5개를 IN 조회 1회로 결합 (전체 상품 스캔 없음)
  */
 @Service
 public class PopularProductServiceImpl implements PopularProductService {
 
+    private static final Logger log = LoggerFactory.getLogger(PopularProductServiceImpl.class);
+    private static final int POPULAR_PRODUCT_LIMIT = 5;
+    private static final int POPULAR_WINDOW_DAYS = 3;
+
     private final ProductRepository productRepository;
+    private final ProductSalesRepository productSalesRepository;
+    private final RankingService rankingService;
 
-    public PopularProductServiceImpl(ProductRepository productRepository) {
+    public PopularProductServiceImpl(ProductRepository productRepository,
+                                     ProductSalesRepository productSalesRepository,
+                                     RankingService rankingService) {
         this.productRepository = productRepository;
+        this.productSalesRepository = productSalesRepository;
+        this.rankingService = rankingService;
     }
 
     /**
@@ -48,103 +72,92 @@ public class PopularProductServiceImpl implements PopularProductService {
      * Redis 캐싱:
      * - @Cacheable(value = RedisKeyType.CACHE_POPULAR_PRODUCTS, key = "'list'")
      * - TTL: 1시간 (RedisCacheManager 설정)
-     * - 캐시 미스 시: calculatePopularProducts() 호출
+     * - 캐시 미스 시: 최근 3일 구간 랭킹 조회 (비어 있으면 calculatePopularProducts())
      * - 캐시 히트 시: Redis에서 직접 반환 (DB 쿼리 없음)
+     * - sync = true: 만료 시 동시 미스를 1회 로드로 병합, 만료 전 XFetch 조기 갱신 (StampedeProtectedCache)
      *
      * ✅ 개선: 캐시 이름을 RedisKeyType enum으로 타입 안전하게 관리
      *
      * @return 상위 5개 인기 상품 목록
      */
     @Override
-    @Cacheable(cacheNames = RedisKeyType.CACHE_POPULAR_PRODUCTS_NAME, key = "'list'")
+    @Cacheable(cacheNames = RedisKeyType.CACHE_POPULAR_PRODUCTS_NAME, key = "'list'", sync = true)
     public PopularProductListResponse getPopularProducts() {
-        return calculatePopularProducts();
+        List<RankingItem> ranked;
+        try {
+            ranked = rankingService.getTopProducts(RankingWindow.LAST_3_DAYS, POPULAR_PRODUCT_LIMIT);
+        } catch (Exception e) {
+            log.warn("[PopularProductService] 구간 랭킹 조회 실패 - DB 집계로 대체: {}", e.getMessage());
+            ranked = List.of();
+        }
+
+        if (ranked.isEmpty()) {
+            return calculatePopularProducts();
+        }
+        return toPopularProducts(ranked);
     }
 
     /**
-     * 인기 상품 상위 5개 계산
-     * 정렬 기준: orderCount3Days (내림차순, Repository에서 조회)
-     * 포함 대상: 최근 3일간 주문된 상품만 (성능 최적화)
-     * 반환값: PopularProductView 리스트 (rank 정보 포함)
-     *
-     * ✅ 성능 최적화 (Message 5):
-     * - N+1 문제 해결: 배치 쿼리로 모든 상품의 주문 수량을 1번에 조회
-     * - 기존: 각 상품마다 getOrderCount3Days() 호출 (반복 N회)
-     * - 개선: getOrderCountsLast3Days(productIds) 배치 호출 (1회)
-     * - 메모리 효율: Map 기반 O(1) lookup으로 조회 속도 개선
+     * 인기 상품 상위 5개 계산 (구간 랭킹이 비어 있을 때)
      *
-     * 성능 개선 효과:
-     * - 전체 상품 대신 최근 3일 주문이 있는 상품만 조회 (findProductsOrderedLast3Days)
-     * - 커버링 인덱스 활용으로 DB 쿼리 효율 개선
-     * - 메모리 로드량 감소
-     * - 주문 100개 기준: ~100 쿼리 → 1 쿼리 (99% 개선)
+     * 요약 테이블(product_sales_daily) 기반:
+     * - 최근 3일(오늘 포함) 요약 행만 범위 스캔 → 상품별 합산 → 상위 5개 (DB에서 LIMIT)
+     * - 이전 방식(전체 상품 로드 + 전체 ID IN 조회 + JVM 정렬)과 달리 카탈로그 크기와 무관
      *
      * @return 상위 5개 상품 응답
      */
     private PopularProductListResponse calculatePopularProducts() {
-        // 1. 최근 3일간 주문된 상품만 조회 (성능 개선)
-        List<Product> allProducts = productRepository.findProductsOrderedLast3Days();
-
-        // 2. ✅ 배치 쿼리로 모든 상품의 주문 수량을 한 번에 조회 (N+1 해결)
-        // 기존: allProducts.forEach(p -> getOrderCount3Days(p.getId())) - N번 반복
-        // 개선: getOrderCountsLast3Days(productIds) - 1번 배치 호출
-        List<Long> productIds = allProducts.stream()
-                .map(Product::getProductId)
-                .collect(Collectors.toList());
-
-        MySQLProductRepository mySQLProductRepository = (MySQLProductRepository) productRepository;
-        Map<Long, Long> orderCountMap = mySQLProductRepository.getOrderCountsLast3Days(productIds);
-
-        // 3. 주문 수량으로 정렬하여 상위 5개 선택
-        List<PopularProductView> topProducts = allProducts.stream()
-                .map(product -> {
-                    Long orderCount3Days = orderCountMap.getOrDefault(product.getProductId(), 0L);
-                    return new ProductWithOrderCount(product, orderCount3Days);
-                })
-                .sorted((p1, p2) -> Long.compare(p2.orderCount3Days, p1.orderCount3Days))
-                .limit(5)
-                .map((p) -> PopularProductView.builder()
-                        .productId(p.product.getProductId())
-                        .productName(p.product.getProductName())
-                        .price(p.product.getPrice())
-                        .totalStock(p.product.getTotalStock())
-                        .status(p.product.getStatus())
-                        .orderCount3Days(p.orderCount3Days)
-                        .rank(0) // 임시 값, 아래에서 업데이트
-                        .createdAt(p.product.getCreatedAt())
-                        .build())
-                .collect(Collectors.toList());
-
-        // 4. 순위 정보 추가
-        for (int i = 0; i < topProducts.size(); i++) {
-            PopularProductView view = topProducts.get(i);
-            topProducts.set(i, PopularProductView.builder()
-                    .productId(view.getProductId())
-                    .productName(view.getProductName())
-                    .price(view.getPrice())
-                    .totalStock(view.getTotalStock())
-                    .status(view.getStatus())
-                    .orderCount3Days(view.getOrderCount3Days())
-                    .rank(i + 1)
-                    .createdAt(view.getCreatedAt())
-                    .build());
-        }
-
-        return new PopularProductListResponse(topProducts);
+        LocalDate fromDate = LocalDate.now().minusDays(POPULAR_WINDOW_DAYS - 1);
+        return toPopularProducts(productSalesRepository.findTopProductsSince(fromDate, POPULAR_PRODUCT_LIMIT));
     }
 
     /**
-     * 상품과 주문 수량을 임시로 보관하는 내부 클래스
-     * Application 계층에서 Domain과 Infrastructure 계층의 데이터를 조합할 때 사용
+     * 랭킹 결과를 상품 정보와 결합 (랭킹 순서 유지, 삭제된 상품은 제외)
+     *
+     * - 주문된 상품이 5개 미만이면 주문 수 0인 상품을 상품 ID 순으로 채움 (기존 응답 형태 유지)
+     *
+     * @param ranked 점수 내림차순 랭킹 항목
+     * @return 순위가 매겨진 인기 상품 응답
      */
-    private static class ProductWithOrderCount {
-        final Product product;
-        final Long orderCount3Days;
+    private PopularProductListResponse toPopularProducts(List<RankingItem> ranked) {
+        Map<Long, Product> productsById = ranked.isEmpty()
+                ? Map.of()
+                : productRepository.findAllByIdsWithOptions(
+                                ranked.stream().map(RankingItem::getProductId).collect(Collectors.toList()))
+                        .stream()
+                        .collect(Collectors.toMap(Product::getProductId, Function.identity(), (first, second) -> first));
+
+        List<PopularProductView> views = new ArrayList<>();
+        for (RankingItem item : ranked) {
+            Product product = productsById.get(item.getProductId());
+            if (product != null) {
+                views.add(toView(product, item.getScore(), views.size() + 1));
+            }
+        }
 
-        ProductWithOrderCount(Product product, Long orderCount3Days) {
-            this.product = product;
-            this.orderCount3Days = orderCount3Days;
+        if (views.size() < POPULAR_PRODUCT_LIMIT) {
+            for (Product product : productRepository.findFirstProducts(POPULAR_PRODUCT_LIMIT + views.size())) {
+                if (views.size() >= POPULAR_PRODUCT_LIMIT) {
+                    break;
+                }
+                if (!productsById.containsKey(product.getProductId())) {
+                    views.add(toView(product, 0L, views.size() + 1));
+                }
+            }
         }
+        return new PopularProductListResponse(views);
     }
 
+    private PopularProductView toView(Product product, Long orderCount3Days, int rank) {
+        return PopularProductView.builder()
+                .productId(product.getProductId())
+                .productName(product.getProductName())
+                .price(product.getPrice())
+                .totalStock(product.getTotalStock())
+                .status(product.getStatus())
+                .orderCount3Days(orderCount3Days)
+                .rank(rank)
+                .createdAt(product.getCreatedAt())
+                .build();
+    }
 }
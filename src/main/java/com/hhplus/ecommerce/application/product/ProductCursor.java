@@ -0,0 +1,62 @@
+package com.hhplus.ecommerce.application.product;
+
+import com.hhplus.ecommerce.domain.product.ProductSort;
+import com.hhplus.ecommerce.domain.product.ProductSummary;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * ProductCursor - 상품 목록 키셋 커서 (?after=)
+ *
+ * 마지막 행의 (정렬 값, product_id)와 정렬 기준을 URL-safe Base64 문자열로 인코딩
+ * - 형식: {정렬 필드}|{asc|desc}|{product_id}|{정렬 값}
+ * - 정렬 기준을 함께 담아 다른 정렬로 커서를 재사용하는 요청을 거절
+ */
+@Getter
+public class ProductCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final ProductSort sort;
+    private final boolean ascending;
+    private final Long lastProductId;
+    private final Object lastValue;
+
+    private ProductCursor(ProductSort sort, boolean ascending, Long lastProductId, Object lastValue) {
+        this.sort = sort;
+        this.ascending = ascending;
+        this.lastProductId = lastProductId;
+        this.lastValue = lastValue;
+    }
+
+    /**
+     * 페이지 마지막 행으로 다음 페이지 커서 생성
+     */
+    public static String encode(ProductSort sort, boolean ascending, ProductSummary last) {
+        String raw = sort.getColumn() + DELIMITER + (ascending ? "asc" : "desc") + DELIMITER
+                + last.getProductId() + DELIMITER + sort.formatValue(last);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 해석
+     *
+     * @throws IllegalArgumentException 형식이 올바르지 않은 커서
+     */
+    public static ProductCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            // 정렬 값(상품명)에 구분자가 들어갈 수 있으므로 앞 3개만 분리
+            String[] parts = raw.split("\\|", 4);
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다");
+            }
+            ProductSort sort = ProductSort.fromField(parts[0]);
+            return new ProductCursor(sort, "asc".equals(parts[1]), Long.parseLong(parts[2]), sort.parseValue(parts[3]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다", e);
+        }
+    }
+}
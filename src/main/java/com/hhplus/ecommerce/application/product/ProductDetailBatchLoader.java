@@ -0,0 +1,116 @@
+package com.hhplus.ecommerce.application.product;
+
+import com.hhplus.ecommerce.domain.product.Product;
+import com.hhplus.ecommerce.domain.product.ProductRepository;
+import com.hhplus.ecommerce.infrastructure.config.RedisKeyType;
+import com.hhplus.ecommerce.presentation.product.response.ProductDetailResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.CacheKeyPrefix;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * ProductDetailBatchLoader - 여러 상품 상세를 상세 캐시 우선으로 일괄 조회
+ *
+ * 문제:
+ * - 랭킹/목록 화면이 상품 N개를 보여주려면 상세 조회 N회 (캐시 히트여도 Redis 왕복 N회)
+ *
+ * 해결:
+ * - 상세 캐시(productDetail::{id})를 MGET 1회로 조회
+ * - 미스만 모아 DB IN 조회 1회 (옵션 fetch join) → 응답 변환 후 상세 캐시에 채움
+ * - 캐시 값 형식은 ProductService.getProductDetail()과 동일 (같은 직렬화기, 같은 키)
+ *
+ * 캐시 장애:
+ * - MGET 실패 시 전부 미스로 보고 DB에서 조회 (조회 자체는 실패시키지 않음)
+ */
+@Component
+public class ProductDetailBatchLoader {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductDetailBatchLoader.class);
+
+    private final ProductRepository productRepository;
+    private final RedisTemplate<String, Object> cacheRedisTemplate;
+    private final CacheManager cacheManager;
+    private final String detailKeyPrefix;
+
+    public ProductDetailBatchLoader(ProductRepository productRepository,
+                                    @Qualifier("cacheRedisTemplate") RedisTemplate<String, Object> cacheRedisTemplate,
+                                    CacheManager cacheManager) {
+        this.productRepository = productRepository;
+        this.cacheRedisTemplate = cacheRedisTemplate;
+        this.cacheManager = cacheManager;
+        this.detailKeyPrefix = CacheKeyPrefix.simple().compute(RedisKeyType.CACHE_PRODUCT_DETAIL_NAME);
+    }
+
+    /**
+     * 상품 상세 일괄 조회
+     *
+     * @param productIds 상품 ID (중복 허용)
+     * @return 상품 ID → 상세 (존재하지 않는 상품은 제외)
+     */
+    public Map<Long, ProductDetailResponse> loadAll(Collection<Long> productIds) {
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(productIds));
+        Map<Long, ProductDetailResponse> details = new HashMap<>();
+        if (ids.isEmpty()) {
+            return details;
+        }
+
+        List<Long> missIds = new ArrayList<>();
+        List<Object> cached = multiGet(ids);
+        for (int i = 0; i < ids.size(); i++) {
+            Object value = cached != null ? cached.get(i) : null;
+            if (value instanceof ProductDetailResponse detail) {
+                details.put(ids.get(i), detail);
+            } else {
+                missIds.add(ids.get(i));
+            }
+        }
+
+        if (!missIds.isEmpty()) {
+            Cache detailCache = cacheManager.getCache(RedisKeyType.CACHE_PRODUCT_DETAIL_NAME);
+            for (Product product : productRepository.findAllByIdsWithOptions(missIds)) {
+                ProductDetailResponse detail = ProductService.toProductDetailResponse(product, product.getOptions());
+                details.put(product.getProductId(), detail);
+                putQuietly(detailCache, product.getProductId(), detail);
+            }
+        }
+
+        log.debug("[ProductDetailBatchLoader] 상품 상세 일괄 조회: requested={}, cacheHits={}, dbLoaded={}",
+                ids.size(), ids.size() - missIds.size(), missIds.size());
+        return details;
+    }
+
+    private List<Object> multiGet(List<Long> ids) {
+        try {
+            return cacheRedisTemplate.opsForValue().multiGet(ids.stream()
+                    .map(id -> detailKeyPrefix + id)
+                    .collect(Collectors.toList()));
+        } catch (Exception e) {
+            log.warn("[ProductDetailBatchLoader] 상세 캐시 MGET 실패 - DB 조회로 대체: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void putQuietly(Cache detailCache, Long productId, ProductDetailResponse detail) {
+        if (detailCache == null) {
+            return;
+        }
+        try {
+            detailCache.put(productId, detail);
+        } catch (Exception e) {
+            log.warn("[ProductDetailBatchLoader] 상세 캐시 저장 실패: productId={}, error={}", productId, e.getMessage());
+        }
+    }
+}
@@ -3,6 +3,8 @@ package com.hhplus.ecommerce.application.product;
 import com.hhplus.ecommerce.domain.product.Product;
 import com.hhplus.ecommerce.domain.product.ProductOption;
 import com.hhplus.ecommerce.domain.product.ProductRepository;
+import com.hhplus.ecommerce.domain.product.ProductSort;
+import com.hhplus.ecommerce.domain.product.ProductSummary;
 import com.hhplus.ecommerce.infrastructure.config.RedisKeyType;
 import com.hhplus.ecommerce.presentation.product.response.ProductDetailResponse;
 import com.hhplus.ecommerce.presentation.product.response.ProductListResponse;
@@ -10,12 +12,8 @@ import com.hhplus.ecommerce.presentation.product.response.ProductResponse;
 import com.hhplus.ecommerce.presentation.product.response.ProductOptionResponse;
 import com.hhplus.ecommerce.domain.product.ProductNotFoundException;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -34,50 +32,81 @@ public class ProductService {
 
     /**
      * 상품 목록 조회 with 페이지네이션 및 정렬
-     * 캐시: RedisKeyType.CACHE_PRODUCT_LIST_NAME
+     * 캐시: RedisKeyType.CACHE_PRODUCT_LIST_NAME (첫 페이지만)
      * TTL: 1시간 (RedisKeyType에서 자동 관리)
-     * 예상 효과: TPS 200 → 1000 (5배 향상)
      *
-     * ✅ 개선: 캐시 이름을 RedisKeyType enum으로 타입 안전하게 관리
+     * 정렬/페이지네이션은 DB에서 처리 (ORDER BY + LIMIT/OFFSET, 정렬 컬럼 인덱스)
+     * - 옵션 미포함 프로젝션 조회 → 카탈로그 크기와 무관하게 페이지 크기만큼만 로드
+     * - 트래픽이 몰리는 첫 페이지만 캐시, 나머지 페이지는 인덱스 조회로 충분
+     * - sync = true: 만료 시 동시 미스를 키당 1회 로드로 병합 (StampedeProtectedCache)
+     * - 깊은 페이지는 nextCursor로 getProductListAfter 사용 (OFFSET 스캔 없음)
      *
      * @param page 페이지 번호 (0-based)
      * @param size 페이지당 항목 수
      * @param sort 정렬 기준 (필드명,방향)
      * @return 페이지네이션된 상품 목록
      */
-    @Cacheable(cacheNames = RedisKeyType.CACHE_PRODUCT_LIST_NAME, key = "'list_' + #page + '_' + #size + '_' + #sort")
+    @Cacheable(cacheNames = RedisKeyType.CACHE_PRODUCT_LIST_NAME, key = "'list_' + #page + '_' + #size + '_' + #sort",
+            condition = "#page == 0", sync = true)
     public ProductListResponse getProductList(int page, int size, String sort) {
         // 파라미터 검증
         if (page < 0) {
             throw new IllegalArgumentException("페이지 번호는 0 이상이어야 합니다");
         }
-        if (size < 1 || size > 100) {
-            throw new IllegalArgumentException("페이지 크기는 1 이상 100 이하여야 합니다");
-        }
-
-        // 모든 상품 조회
-        List<Product> allProducts = productRepository.findAll();
+        validatePageSize(size);
 
-        // 정렬 적용
-        List<Product> sortedProducts = applySorting(allProducts, sort);
+        ProductSort productSort = parseSortField(sort);
+        boolean ascending = isAscending(sort);
 
         // 페이지네이션 계산
-        int totalElements = sortedProducts.size();
-        int totalPages = (totalElements + size - 1) / size;
-        int startIndex = page * size;
-        int endIndex = Math.min(startIndex + size, totalElements);
-
-        // 페이지에 해당하는 상품만 추출 (startIndex가 범위를 벗어나면 빈 목록 반환)
-        List<ProductResponse> pageContent = new ArrayList<>();
-        if (startIndex < totalElements) {
-            pageContent = sortedProducts.subList(startIndex, endIndex)
-                    .stream()
-                    .map(this::convertToProductResponse)
-                    .collect(Collectors.toList());
+        long totalElements = productRepository.countProducts();
+        long totalPages = (totalElements + size - 1) / size;
+        long offset = (long) page * size;
+
+        // 범위를 벗어난 페이지는 조회 없이 빈 목록
+        List<ProductSummary> summaries = offset < totalElements
+                ? productRepository.findProductSummaries(productSort, ascending, (int) offset, size)
+                : List.of();
+
+        String nextCursor = offset + size < totalElements && !summaries.isEmpty()
+                ? ProductCursor.encode(productSort, ascending, summaries.get(summaries.size() - 1))
+                : null;
+
+        return new ProductListResponse(toProductResponses(summaries), totalElements,
+                totalPages, page, size, nextCursor);
+    }
+
+    /**
+     * 상품 목록 키셋 커서 조회 (?after=)
+     * - 이전 페이지 마지막 행 다음부터 size개 조회 (인덱스 범위 조회, 페이지 깊이와 무관)
+     * - 전체 건수는 세지 않음 (totalElements/totalPages/currentPage = null)
+     *
+     * @param after 이전 응답의 nextCursor
+     * @param size 페이지당 항목 수
+     * @param sort 정렬 기준 (커서 생성 시와 같아야 함)
+     * @return 다음 페이지 상품 목록 (마지막 페이지면 nextCursor = null)
+     */
+    public ProductListResponse getProductListAfter(String after, int size, String sort) {
+        validatePageSize(size);
+
+        ProductSort productSort = parseSortField(sort);
+        boolean ascending = isAscending(sort);
+        ProductCursor cursor = ProductCursor.decode(after);
+        if (cursor.getSort() != productSort || cursor.isAscending() != ascending) {
+            throw new IllegalArgumentException("커서의 정렬 기준이 요청과 다릅니다: " + sort);
         }
 
-        return new ProductListResponse(pageContent, (long) totalElements,
-                (long) totalPages, page, size);
+        // 1개 더 조회해 다음 페이지 존재 여부 판단
+        List<ProductSummary> summaries = productRepository.findProductSummariesAfter(
+                productSort, ascending, cursor.getLastValue(), cursor.getLastProductId(), size + 1);
+        boolean hasNext = summaries.size() > size;
+        List<ProductSummary> pageContent = hasNext ? summaries.subList(0, size) : summaries;
+
+        String nextCursor = hasNext
+                ? ProductCursor.encode(productSort, ascending, pageContent.get(pageContent.size() - 1))
+                : null;
+
+        return new ProductListResponse(toProductResponses(pageContent), null, null, null, size, nextCursor);
     }
 
     /**
@@ -105,9 +134,20 @@ public class ProductService {
         // 옵션 조회
         List<ProductOption> options = productRepository.findOptionsByProductId(productId);
 
+        return toProductDetailResponse(product, options);
+    }
+
+    /**
+     * 상품 상세 응답 변환 (상세 캐시 값과 같은 형태)
+     *
+     * @param product 상품
+     * @param options 상품 옵션 목록
+     * @return 상품 상세 응답
+     */
+    static ProductDetailResponse toProductDetailResponse(Product product, List<ProductOption> options) {
         // 옵션 응답 변환
         List<ProductOptionResponse> optionResponses = options.stream()
-                .map(this::convertToProductOptionResponse)
+                .map(ProductService::convertToProductOptionResponse)
                 .collect(Collectors.toList());
 
         return new ProductDetailResponse(
@@ -122,57 +162,49 @@ public class ProductService {
         );
     }
 
+    private void validatePageSize(int size) {
+        if (size < 1 || size > 100) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 100 이하여야 합니다");
+        }
+    }
+
     /**
-     * 정렬 적용
+     * 정렬 필드 파싱 (필드명,방향)
      *
-     * @param products 정렬할 상품 목록
-     * @param sort 정렬 기준 (필드명,방향)
-     * @return 정렬된 상품 목록
+     * @throws IllegalArgumentException 유효하지 않은 정렬 필드
+     */
+    private ProductSort parseSortField(String sort) {
+        return ProductSort.fromField(sort.split(",")[0]);
+    }
+
+    /**
+     * 정렬 방향 파싱 (asc 외에는 내림차순)
      */
-    private List<Product> applySorting(List<Product> products, String sort) {
+    private boolean isAscending(String sort) {
         String[] sortParts = sort.split(",");
-        String sortField = sortParts[0];
-        String sortDirection = sortParts.length > 1 ? sortParts[1] : "desc";
-
-        // 유효하지 않은 정렬 필드 검증
-        Comparator<Product> comparator = switch (sortField) {
-            case "product_id" -> Comparator.comparing(Product::getProductId);
-            case "product_name" -> Comparator.comparing(Product::getProductName);
-            case "price" -> Comparator.comparing(Product::getPrice);
-            case "created_at" -> Comparator.comparing(Product::getCreatedAt);
-            default -> throw new IllegalArgumentException("유효하지 않은 정렬 필드입니다: " + sortField);
-        };
-
-        if ("asc".equalsIgnoreCase(sortDirection)) {
-            return products.stream()
-                    .sorted(comparator)
-                    .collect(Collectors.toList());
-        } else {
-            return products.stream()
-                    .sorted(comparator.reversed())
-                    .collect(Collectors.toList());
-        }
+        return sortParts.length > 1 && "asc".equalsIgnoreCase(sortParts[1]);
     }
 
     /**
-     * Product를 ProductResponse로 변환
+     * ProductSummary를 ProductResponse로 변환
      */
-    private ProductResponse convertToProductResponse(Product product) {
-        return new ProductResponse(
-                product.getProductId(),
-                product.getProductName(),
-                product.getDescription(),
-                product.getPrice(),
-                product.getTotalStock(),
-                product.getStatus(),
-                product.getCreatedAt()
-        );
+    private List<ProductResponse> toProductResponses(List<ProductSummary> summaries) {
+        return summaries.stream()
+                .map(summary -> new ProductResponse(
+                        summary.getProductId(),
+                        summary.getProductName(),
+                        summary.getDescription(),
+                        summary.getPrice(),
+                        summary.getTotalStock(),
+                        summary.getStatus(),
+                        summary.getCreatedAt()))
+                .collect(Collectors.toList());
     }
 
     /**
      * ProductOption을 ProductOptionResponse로 변환
      */
-    private ProductOptionResponse convertToProductOptionResponse(ProductOption option) {
+    private static ProductOptionResponse convertToProductOptionResponse(ProductOption option) {
         return new ProductOptionResponse(
                 option.getOptionId(),
                 option.getName(),
@@ -0,0 +1,134 @@
+package com.hhplus.ecommerce.application.ranking;
+
+import com.hhplus.ecommerce.application.product.ProductDetailBatchLoader;
+import com.hhplus.ecommerce.domain.ranking.RankingItem;
+import com.hhplus.ecommerce.domain.ranking.RankingWindow;
+import com.hhplus.ecommerce.presentation.product.response.ProductDetailResponse;
+import com.hhplus.ecommerce.presentation.ranking.response.RankedProductsResponse.RankedProductView;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * RankedProductQueryService - 상품 정보가 결합된 TOP N 랭킹 조회 (노드 로컬 near-cache)
+ *
+ * 조회 경로 (near-cache 미스/만료 시):
+ * 1. 랭킹 ZSET에서 상위 max-size개 ID/점수 (ZREVRANGE 1회)
+ * 2. 상품 상세 캐시 MGET 1회 + 미스만 DB IN 조회 1회 (ProductDetailBatchLoader)
+ * 3. 순위를 매긴 목록을 구간별로 near-cache에 보관
+ *
+ * near-cache:
+ * - 구간(일일/24h/3d/7d)별로 상위 max-size개를 렌더링해 두고 topN만큼 잘라 반환
+ * - refresh-ms가 지나면 한 스레드만 다시 계산, 나머지 스레드는 이전 목록을 그대로 반환
+ * - TOP 목록은 읽기가 변경보다 훨씬 잦으므로 노드당 refresh-ms마다 Redis/DB 조회 1세트로 제한
+ * - 노드 간 일관성은 보장하지 않음 (최대 refresh-ms 만큼 서로 다를 수 있음)
+ */
+@Service
+public class RankedProductQueryService {
+
+    private static final Logger log = LoggerFactory.getLogger(RankedProductQueryService.class);
+    private static final String DAILY = "daily";
+
+    private final RankingService rankingService;
+    private final ProductDetailBatchLoader productDetailBatchLoader;
+    private final int maxSize;
+    private final long refreshNanos;
+
+    private final ConcurrentHashMap<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+    public RankedProductQueryService(RankingService rankingService,
+                                     ProductDetailBatchLoader productDetailBatchLoader,
+                                     @Value("${ranking.near-cache.max-size:50}") int maxSize,
+                                     @Value("${ranking.near-cache.refresh-ms:3000}") long refreshMs) {
+        this.rankingService = rankingService;
+        this.productDetailBatchLoader = productDetailBatchLoader;
+        this.maxSize = maxSize;
+        this.refreshNanos = refreshMs * 1_000_000L;
+    }
+
+    /**
+     * 구간 TOP N 상품 조회 (상품 정보 포함)
+     *
+     * @param window 랭킹 구간 (null이면 오늘 일일 랭킹)
+     * @param topN 상위 몇 개 (1 이상, max-size 초과분은 max-size까지만)
+     * @return 순위순 상품 목록
+     */
+    public List<RankedProductView> getTopRankedProducts(RankingWindow window, int topN) {
+        if (topN <= 0) {
+            throw new IllegalArgumentException("topN은 1 이상이어야 합니다: " + topN);
+        }
+
+        String key = window == null ? DAILY : window.getCode();
+        long now = System.nanoTime();
+        Snapshot snapshot = snapshots.get(key);
+
+        if (snapshot == null) {
+            snapshot = refresh(key, window, now);
+        } else if (now - snapshot.loadedAt >= refreshNanos && snapshot.refreshing.compareAndSet(false, true)) {
+            try {
+                snapshot = refresh(key, window, now);
+            } catch (Exception e) {
+                // 갱신 실패 시 이전 목록 유지 (다음 요청에서 다시 시도)
+                snapshot.refreshing.set(false);
+                log.warn("[RankedProductQueryService] 랭킹 갱신 실패 - 이전 목록 반환: window={}, error={}",
+                        key, e.getMessage());
+            }
+        }
+
+        List<RankedProductView> views = snapshot.views;
+        return views.size() <= topN ? views : views.subList(0, topN);
+    }
+
+    private Snapshot refresh(String key, RankingWindow window, long now) {
+        List<RankingItem> ranked = window == null
+                ? rankingService.getTopProducts(maxSize)
+                : rankingService.getTopProducts(window, maxSize);
+
+        Map<Long, ProductDetailResponse> details = productDetailBatchLoader.loadAll(ranked.stream()
+                .map(RankingItem::getProductId)
+                .collect(Collectors.toList()));
+
+        List<RankedProductView> views = new ArrayList<>(ranked.size());
+        for (RankingItem item : ranked) {
+            ProductDetailResponse detail = details.get(item.getProductId());
+            if (detail == null) {
+                continue;  // 랭킹에는 남아 있지만 삭제된 상품
+            }
+            views.add(RankedProductView.builder()
+                    .rank(views.size() + 1)
+                    .productId(detail.getProductId())
+                    .productName(detail.getProductName())
+                    .price(detail.getPrice())
+                    .totalStock(detail.getTotalStock())
+                    .status(detail.getStatus())
+                    .score(item.getScore())
+                    .build());
+        }
+
+        Snapshot snapshot = new Snapshot(List.copyOf(views), now);
+        snapshots.put(key, snapshot);
+        return snapshot;
+    }
+
+    /**
+     * 구간별 렌더링된 TOP 목록
+     */
+    private static final class Snapshot {
+        private final List<RankedProductView> views;
+        private final long loadedAt;
+        private final AtomicBoolean refreshing = new AtomicBoolean(false);
+
+        private Snapshot(List<RankedProductView> views, long loadedAt) {
+            this.views = views;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.hhplus.ecommerce.application.ranking;
+
+import com.hhplus.ecommerce.domain.ranking.RankingRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * RankingScoreAccumulator - 랭킹 점수 쓰기 지연(write-behind) 누적기
+ *
+ * 문제:
+ * - 주문 1건의 상품마다 ZINCRBY 1회 → 주문량만큼 Redis 왕복
+ * - 인기 상품은 같은 멤버에 대한 증가가 짧은 시간에 반복
+ *
+ * 해결:
+ * - (시간 버킷, 상품 ID)별 LongAdder에 로컬로 누적 (스레드 경합 시 셀 분산)
+ * - N ms마다 또는 누적 증가 M회 도달 시 시간 버킷별 파이프라인 1회로 반영
+ *   (일일 키와 시간 버킷에 같은 델타를 함께 ZINCRBY)
+ * - 같은 상품의 증가는 델타 하나로 합쳐짐 → Redis 쓰기 수 = 플러시 주기 × 활성 상품 수
+ *
+ * 반영 방식:
+ * - LongAdder는 초기화하지 않고, 카운터별로 "이미 반영한 누적값"을 기록해 차이만 전송
+ *   (sumThenReset은 동시 증가를 잃을 수 있으므로 사용하지 않음)
+ * - 반영 기록(flushed)은 플러시 락을 잡은 스레드만 갱신
+ *
+ * 지난 시간 버킷 정리:
+ * - latestHour는 단조 증가 (늦게 도착한 이전 시간의 add()가 되돌리지 않음)
+ * - latestHour보다 이전 시간의 카운터 맵은 remove(hour, map)으로 원자적으로 떼어 낸 뒤 남은 델타를 반영
+ *   → 이후 그 시간의 add()는 새 맵에 누적되어 다음 플러시에 반영
+ * - 떼어 내기 직전에 맵을 잡은 add()의 증가분은 떼어 낸 맵에 늦게 도착할 수 있으므로
+ *   떼어 낸 맵은 다음 플러시에서 한 번 더 반영한 뒤 폐기
+ *
+ * 실패 처리 (ranking.write-behind.retry-on-failure):
+ * - true (at-least-once): 반영 기록을 유지 → 다음 플러시에서 재전송
+ *   (파이프라인 일부만 반영된 경우 해당 상품은 중복 가산될 수 있음)
+ * - false (bounded-loss): 실패한 델타는 버림 → 손실은 플러시 1회분으로 제한
+ *
+ * 종료:
+ * - @PreDestroy에서 진행 중인 플러시를 기다린 뒤 남은 누적분을 반영
+ * - 프로세스가 비정상 종료되면 마지막 플러시 이후 누적분은 유실 (랭킹은 근사치 허용)
+ */
+@Component
+public class RankingScoreAccumulator {
+
+    private static final Logger log = LoggerFactory.getLogger(RankingScoreAccumulator.class);
+
+    private final RankingRepository rankingRepository;
+    private final boolean enabled;
+    private final long maxPendingIncrements;
+    private final boolean retryOnFailure;
+
+    // 시간(YYYYMMDDHH) → 상품 ID → 카운터
+    private final ConcurrentHashMap<String, ConcurrentHashMap<Long, Counter>> countersByHour = new ConcurrentHashMap<>();
+    private final AtomicLong pendingIncrements = new AtomicLong();
+    private final AtomicLong droppedIncrements = new AtomicLong();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicReference<String> latestHour = new AtomicReference<>();
+
+    // 떼어 낸 지난 시간 버킷 (다음 플러시에서 늦은 증가분 반영 후 폐기, 플러시 락을 잡은 스레드만 접근)
+    private List<Map.Entry<String, ConcurrentHashMap<Long, Counter>>> retiredHours = new ArrayList<>();
+
+    public RankingScoreAccumulator(RankingRepository rankingRepository,
+                                   @Value("${ranking.write-behind.enabled:false}") boolean enabled,
+                                   @Value("${ranking.write-behind.max-pending-increments:10000}") long maxPendingIncrements,
+                                   @Value("${ranking.write-behind.retry-on-failure:true}") boolean retryOnFailure) {
+        this.rankingRepository = rankingRepository;
+        this.enabled = enabled;
+        this.maxPendingIncrements = maxPendingIncrements;
+        this.retryOnFailure = retryOnFailure;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 상품 점수 1 증가를 로컬에 누적
+     *
+     * - 누적 증가가 max-pending-increments에 도달하면 호출 스레드에서 즉시 플러시
+     *   (다른 스레드가 플러시 중이면 기다리지 않음)
+     *
+     * @param hour 시간 (YYYYMMDDHH 형식, 앞 8자리가 일일 랭킹 날짜)
+     * @param productId 상품 ID
+     */
+    public void add(String hour, Long productId) {
+        advanceLatestHour(hour);
+        countersByHour.computeIfAbsent(hour, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(productId, key -> new Counter())
+                .adder.increment();
+
+        if (pendingIncrements.incrementAndGet() >= maxPendingIncrements) {
+            flush();
+        }
+    }
+
+    /**
+     * 주기 플러시 (ranking.write-behind.flush-interval-ms)
+     *
+     * - 다른 스레드가 플러시 중이면 건너뜀 (그 플러시가 누적분을 가져감)
+     */
+    @Scheduled(fixedRateString = "${ranking.write-behind.flush-interval-ms:1000}")
+    public void flush() {
+        if (!enabled || !flushLock.tryLock()) {
+            return;
+        }
+        try {
+            flushPending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 종료 시 남은 누적분 반영 (진행 중인 플러시 완료 대기)
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (!enabled) {
+            return;
+        }
+        flushLock.lock();
+        try {
+            flushPending();
+            log.info("[RankingScoreAccumulator] 종료 플러시 완료: dropped={}", droppedIncrements.get());
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 실패로 버려진 증가 수 (bounded-loss 모드)
+     */
+    public long getDroppedIncrements() {
+        return droppedIncrements.get();
+    }
+
+    /**
+     * latestHour 단조 증가 (이미 최신이면 CAS 없이 반환)
+     */
+    private void advanceLatestHour(String hour) {
+        String current = latestHour.get();
+        if (current == null || hour.compareTo(current) > 0) {
+            latestHour.accumulateAndGet(hour, (prev, next) -> prev == null || next.compareTo(prev) > 0 ? next : prev);
+        }
+    }
+
+    private void flushPending() {
+        // 합계를 읽기 전에 초기화 → 이후 증가는 이번 합계 또는 다음 플러시에 포함
+        pendingIncrements.set(0);
+
+        // 지난 플러시에서 떼어 낸 버킷: 늦게 도착한 증가분 반영 후 폐기 (재전송 대기 중이면 유지)
+        List<Map.Entry<String, ConcurrentHashMap<Long, Counter>>> stillRetired = new ArrayList<>();
+        for (Map.Entry<String, ConcurrentHashMap<Long, Counter>> retired : retiredHours) {
+            if (!flushHour(retired.getKey(), retired.getValue())) {
+                stillRetired.add(retired);
+            }
+        }
+        retiredHours = stillRetired;
+
+        String latest = latestHour.get();
+        for (Map.Entry<String, ConcurrentHashMap<Long, Counter>> hourEntry : countersByHour.entrySet()) {
+            String hour = hourEntry.getKey();
+            ConcurrentHashMap<Long, Counter> counters = hourEntry.getValue();
+
+            // 지난 시간: 맵을 원자적으로 떼어 낸 뒤 반영 (이후 add()는 새 맵에 누적)
+            if (latest != null && hour.compareTo(latest) < 0 && countersByHour.remove(hour, counters)) {
+                flushHour(hour, counters);
+                retiredHours.add(Map.entry(hour, counters));
+                continue;
+            }
+            flushHour(hour, counters);
+        }
+    }
+
+    /**
+     * 시간 버킷 하나의 델타 반영
+     *
+     * @return 재전송할 델타가 남지 않았으면 true
+     */
+    private boolean flushHour(String hour, ConcurrentHashMap<Long, Counter> countersByProduct) {
+        Map<Long, Long> increments = new HashMap<>();
+        List<Counter> counters = new ArrayList<>();
+        List<Long> sums = new ArrayList<>();
+
+        countersByProduct.forEach((productId, counter) -> {
+            long sum = counter.adder.sum();
+            long delta = sum - counter.flushed;
+            if (delta > 0) {
+                increments.put(productId, delta);
+                counters.add(counter);
+                sums.add(sum);
+            }
+        });
+
+        if (increments.isEmpty()) {
+            return true;
+        }
+
+        boolean applied;
+        try {
+            rankingRepository.incrementProductScores(hour.substring(0, 8), hour, increments);
+            applied = true;
+        } catch (Exception e) {
+            applied = false;
+            log.warn("[RankingScoreAccumulator] 랭킹 플러시 실패: hour={}, products={}, retry={}",
+                    hour, increments.size(), retryOnFailure, e);
+        }
+
+        if (applied || !retryOnFailure) {
+            for (int i = 0; i < counters.size(); i++) {
+                counters.get(i).flushed = sums.get(i);
+            }
+            if (!applied) {
+                droppedIncrements.addAndGet(increments.values().stream().mapToLong(Long::longValue).sum());
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 상품별 카운터 (누적값 + 반영한 누적값)
+     */
+    private static final class Counter {
+        private final LongAdder adder = new LongAdder();
+        // 플러시 락을 잡은 스레드만 읽고 씀
+        private long flushed;
+    }
+}
@@ -1,6 +1,7 @@
 package com.hhplus.ecommerce.application.ranking;
 
 import com.hhplus.ecommerce.domain.ranking.RankingItem;
+import com.hhplus.ecommerce.domain.ranking.RankingWindow;
 
 import java.util.List;
 import java.util.Optional;
@@ -64,6 +65,22 @@ public interface RankingService {
      */
     List<RankingItem> getTopProducts(long topN);
 
+    /**
+     * 구간 TOP N 상품 조회 (최근 24시간 / 3일 / 7일)
+     *
+     * 동작:
+     * - 마감된 최근 N시간 버킷의 집계 ZSET에서 상위 N개 반환
+     * - 진행 중인 현재 시간의 주문은 다음 정시 갱신 때 반영
+     *
+     * 성능:
+     * - 집계는 시간 마감마다 미리 계산 → 조회는 O(log N + K)
+     *
+     * @param window 랭킹 구간
+     * @param topN 상위 몇 개
+     * @return 상위 N개 상품의 (productId, score) 리스트
+     */
+    List<RankingItem> getTopProducts(RankingWindow window, long topN);
+
     /**
      * 특정 상품의 순위 확인
      *
@@ -2,13 +2,16 @@ package com.hhplus.ecommerce.application.ranking;
 
 import com.hhplus.ecommerce.domain.ranking.RankingRepository;
 import com.hhplus.ecommerce.domain.ranking.RankingItem;
+import com.hhplus.ecommerce.domain.ranking.RankingWindow;
 import org.springframework.stereotype.Service;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -24,8 +27,17 @@ import java.util.Optional;
  * - Atomic 연산으로 동시성 보장
  * - 오늘 날짜 기준으로 자동 처리
  *
+ * 쓰기 지연 (ranking.write-behind.enabled=true):
+ * - 점수 증가를 RankingScoreAccumulator에 로컬 누적 후 주기적으로 파이프라인 일괄 반영
+ * - 비활성화 시 증가마다 Redis에 바로 반영 (일일 키 + 시간 버킷, 파이프라인 왕복 1회)
+ *
+ * 구간 랭킹:
+ * - 시간 버킷을 RankingWindowRefresher가 시간 마감마다 24시간/3일/7일 집계로 합침
+ * - getTopProducts(window, topN)은 미리 집계된 ZSET 조회 1회
+ * - 집계가 비어 있으면(정시 갱신 전) RankingWindowRefresher.rebuildIfMissing()으로 생성 후 재조회
+ *
  * 사용 흐름:
- * 1. 주문 완료: OrderService → rankingService.incrementProductScore(productId)
+ * 1. 주문 완료: RankingEventHandler(AFTER_COMMIT) → rankingService.incrementProductScore(productId)
  * 2. 인기상품: PopularProductService → rankingService.getTopProducts(5)
  * 3. 상품순위: ProductDetailController → rankingService.getProductRank(productId)
  */
@@ -36,9 +48,18 @@ public class RankingServiceImpl implements RankingService {
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
 
     private final RankingRepository rankingRepository;
+    private final RankingScoreAccumulator scoreAccumulator;
+    private final RankingWindowRefresher windowRefresher;
+
+    // 시간이 바뀔 때만 다시 포맷 (점수 증가마다 format 호출 방지)
+    private volatile CurrentHour currentHour = new CurrentHour(LocalDateTime.MIN, "", "");
 
-    public RankingServiceImpl(RankingRepository rankingRepository) {
+    public RankingServiceImpl(RankingRepository rankingRepository,
+                              RankingScoreAccumulator scoreAccumulator,
+                              RankingWindowRefresher windowRefresher) {
         this.rankingRepository = rankingRepository;
+        this.scoreAccumulator = scoreAccumulator;
+        this.windowRefresher = windowRefresher;
     }
 
     /**
@@ -47,15 +68,31 @@ public class RankingServiceImpl implements RankingService {
      * @return "20241202" 형식
      */
     private String getTodayDate() {
-        return LocalDate.now().format(DATE_FORMATTER);
+        return getCurrentHour().date;
+    }
+
+    private CurrentHour getCurrentHour() {
+        LocalDateTime hourStart = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+        CurrentHour cached = currentHour;
+        if (!cached.hourStart.equals(hourStart)) {
+            cached = new CurrentHour(hourStart, hourStart.format(DATE_FORMATTER), RankingWindow.formatHour(hourStart));
+            currentHour = cached;
+        }
+        return cached;
     }
 
     @Override
     public void incrementProductScore(Long productId) {
-        String todayDate = getTodayDate();
+        CurrentHour current = getCurrentHour();
+        String todayDate = current.date;
+
+        if (scoreAccumulator.isEnabled()) {
+            scoreAccumulator.add(current.hour, productId);
+            return;
+        }
 
         try {
-            rankingRepository.incrementProductScore(todayDate, productId);
+            rankingRepository.incrementProductScores(todayDate, current.hour, Map.of(productId, 1L));
             log.debug("[RankingService] 상품 점수 증가: productId={}, date={}", productId, todayDate);
         } catch (Exception e) {
             log.error("[RankingService] 상품 점수 증가 실패: productId={}", productId, e);
@@ -81,6 +118,26 @@ public class RankingServiceImpl implements RankingService {
         }
     }
 
+    @Override
+    public List<RankingItem> getTopProducts(RankingWindow window, long topN) {
+        if (topN <= 0) {
+            throw new IllegalArgumentException("topN은 1 이상이어야 합니다: " + topN);
+        }
+
+        try {
+            List<RankingItem> topProducts = rankingRepository.getTopProducts(window, topN);
+            if (topProducts.isEmpty() && windowRefresher.rebuildIfMissing(window)) {
+                topProducts = rankingRepository.getTopProducts(window, topN);
+            }
+            log.debug("[RankingService] 구간 TOP 상품 조회 완료: window={}, topN={}, count={}",
+                    window.getCode(), topN, topProducts.size());
+            return topProducts;
+        } catch (Exception e) {
+            log.error("[RankingService] 구간 TOP 상품 조회 실패: window={}, topN={}", window.getCode(), topN, e);
+            throw new RuntimeException("구간 TOP 상품 조회 실패", e);
+        }
+    }
+
     @Override
     public Optional<Long> getProductRank(Long productId) {
         if (productId == null || productId <= 0) {
@@ -116,4 +173,16 @@ public class RankingServiceImpl implements RankingService {
             throw new RuntimeException("상품 주문 수 조회 실패", e);
         }
     }
+
+    private static final class CurrentHour {
+        private final LocalDateTime hourStart;
+        private final String date;
+        private final String hour;
+
+        private CurrentHour(LocalDateTime hourStart, String date, String hour) {
+            this.hourStart = hourStart;
+            this.date = date;
+            this.hour = hour;
+        }
+    }
 }
@@ -0,0 +1,135 @@
+package com.hhplus.ecommerce.application.ranking;
+
+import com.hhplus.ecommerce.domain.ranking.RankingRepository;
+import com.hhplus.ecommerce.domain.ranking.RankingWindow;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * RankingWindowRefresher - 구간 랭킹 집계 갱신 (시간 마감마다)
+ *
+ * 역할:
+ * - 정시가 지나면 직전 1시간 버킷을 마감하고 24시간/3일/7일 집계에 반영
+ *
+ * 증분 갱신:
+ * - 집계 = 집계 × decay + 마감 버킷 − (N시간 전 버킷) × decay^N
+ * - 구간 길이와 무관하게 ZUNIONSTORE 입력 키 3개 → 7일 구간도 168개 버킷을 다시 합치지 않음
+ * - 여러 서버가 동시에 실행해도 마지막 반영 시간 비교로 1회만 반영 (Lua 원자 실행)
+ *
+ * 전체 재계산:
+ * - 집계가 없거나(최초 실행, TTL 만료) 직전 시간이 반영되지 않은 경우 (갱신 누락)
+ * - 자정마다 (감쇠 가중치 사용 시 부동소수 오차 누적 방지, 마감 후 늦게 반영된 증가분 흡수)
+ *
+ * 조회 시 재계산 (rebuildIfMissing):
+ * - 정시 갱신 전이라 집계가 없으면(기동 직후, TTL 만료, 갱신 누락) 조회 시점에 ZUNIONSTORE로 생성
+ * - 같은 마감 시간에는 노드당 1회만 (시간 버킷이 모두 비어 집계가 생기지 않아도 조회마다 반복하지 않음)
+ *
+ * 시간 감쇠 (ranking.window.decay-per-hour):
+ * - 나이 a시간 버킷의 가중치 = decay^a (1.0이면 단순 합)
+ */
+@Component
+public class RankingWindowRefresher {
+
+    private static final Logger log = LoggerFactory.getLogger(RankingWindowRefresher.class);
+
+    private final RankingRepository rankingRepository;
+    private final double decayPerHour;
+
+    // 구간 → 조회 시 재계산한 마지막 마감 시간 (YYYYMMDDHH)
+    private final Map<RankingWindow, String> onDemandRebuiltHours = new ConcurrentHashMap<>();
+
+    public RankingWindowRefresher(RankingRepository rankingRepository,
+                                  @Value("${ranking.window.decay-per-hour:1.0}") double decayPerHour) {
+        if (decayPerHour <= 0 || decayPerHour > 1.0) {
+            throw new IllegalArgumentException("ranking.window.decay-per-hour는 0 초과 1 이하여야 합니다: " + decayPerHour);
+        }
+        this.rankingRepository = rankingRepository;
+        this.decayPerHour = decayPerHour;
+    }
+
+    /**
+     * 정시 직후 실행 (쓰기 지연 플러시가 끝나도록 몇 초 뒤)
+     */
+    @Scheduled(cron = "${ranking.window.refresh-cron:10 0 * * * *}")
+    public void refreshClosedHour() {
+        refreshClosedHour(LocalDateTime.now());
+    }
+
+    /**
+     * now 기준 직전 시간을 마감하고 모든 구간 집계에 반영
+     *
+     * @param now 현재 시각
+     */
+    public void refreshClosedHour(LocalDateTime now) {
+        LocalDateTime closedHour = now.truncatedTo(ChronoUnit.HOURS).minusHours(1);
+
+        for (RankingWindow window : RankingWindow.values()) {
+            try {
+                refreshWindow(window, closedHour);
+            } catch (Exception e) {
+                // 다음 정시에 직전 시간 미반영으로 판단되어 전체 재계산됨
+                log.error("[RankingWindowRefresher] 구간 랭킹 갱신 실패: window={}, closedHour={}",
+                        window.getCode(), closedHour, e);
+            }
+        }
+    }
+
+    /**
+     * 구간 집계가 비어 있을 때 조회 시점에 전체 재계산
+     *
+     * @param window 랭킹 구간
+     * @return 재계산했으면 true (같은 마감 시간에 이미 재계산했으면 false)
+     */
+    public boolean rebuildIfMissing(RankingWindow window) {
+        return rebuildIfMissing(window, LocalDateTime.now());
+    }
+
+    /**
+     * now 기준 직전 시간까지로 구간 집계 전체 재계산 (마감 시간당 노드 1회)
+     *
+     * @param window 랭킹 구간
+     * @param now 현재 시각
+     * @return 재계산했으면 true
+     */
+    public boolean rebuildIfMissing(RankingWindow window, LocalDateTime now) {
+        LocalDateTime closedHour = now.truncatedTo(ChronoUnit.HOURS).minusHours(1);
+        String closed = RankingWindow.formatHour(closedHour);
+        if (closed.equals(onDemandRebuiltHours.put(window, closed))) {
+            return false;
+        }
+
+        rankingRepository.rebuildWindow(window, window.bucketHours(closedHour), decayPerHour);
+        log.info("[RankingWindowRefresher] 구간 집계 없음 - 조회 시 재계산: window={}, closedHour={}",
+                window.getCode(), closedHour);
+        return true;
+    }
+
+    private void refreshWindow(RankingWindow window, LocalDateTime closedHour) {
+        // 23시 버킷이 마감되는 자정 직후 갱신은 전체 재계산
+        boolean dailyRebuild = closedHour.getHour() == 23;
+
+        if (!dailyRebuild) {
+            boolean applied = rankingRepository.applyClosedHour(
+                    window,
+                    RankingWindow.formatHour(closedHour),
+                    RankingWindow.formatHour(closedHour.minusHours(1)),
+                    RankingWindow.formatHour(closedHour.minusHours(window.getHours())),
+                    decayPerHour);
+            if (applied) {
+                log.debug("[RankingWindowRefresher] 구간 랭킹 증분 반영: window={}, closedHour={}",
+                        window.getCode(), closedHour);
+                return;
+            }
+        }
+
+        rankingRepository.rebuildWindow(window, window.bucketHours(closedHour), decayPerHour);
+    }
+}
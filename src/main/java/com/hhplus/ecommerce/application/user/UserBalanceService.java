@@ -131,6 +131,26 @@ public class UserBalanceService {
         return deductBalanceInternal(userId, amount, null);
     }
 
+    /**
+     * 사용자 잔액 차감 - 호출자 트랜잭션에 참여 (Saga Step 전용)
+     *
+     * - DeductBalanceStep이 적용 표식(STEP_APPLIED)과 같은 트랜잭션에서 차감하도록 MANDATORY
+     *   (REQUIRES_NEW면 차감만 먼저 커밋된 뒤 종료될 때 표식 없이 차감이 남아 복구가 환불하지 않음)
+     *
+     * @param userId 사용자 ID
+     * @param amount 차감할 금액
+     * @return 차감 후 사용자 정보
+     * @throws UserNotFoundException 사용자를 찾을 수 없음
+     * @throws InsufficientBalanceException 잔액 부족
+     */
+    @Transactional(
+        propagation = Propagation.MANDATORY,
+        rollbackFor = Exception.class
+    )
+    public User deductBalanceInCurrentTransaction(Long userId, Long amount) {
+        return deductBalanceInternal(userId, amount, null);
+    }
+
     /**
      * 사용자 잔액 차감 내부 구현
      *
@@ -278,6 +298,27 @@ public class UserBalanceService {
      */
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public User refundBalance(Long userId, Long amount) {
+        return refundBalanceInternal(userId, amount);
+    }
+
+    /**
+     * 사용자 잔액 환불 - 호출자 트랜잭션에 참여 (Saga Step 보상 전용)
+     *
+     * - DeductBalanceStep.compensate()가 적용 표식 삭제와 같은 트랜잭션에서 환불하도록 MANDATORY
+     *   (환불만 먼저 커밋된 뒤 종료되면 표식이 남아 복구 시 중복 환불)
+     *
+     * @param userId 사용자 ID
+     * @param amount 환불할 금액
+     * @return 환불 후 사용자 정보
+     * @throws UserNotFoundException 사용자를 찾을 수 없음
+     * @throws IllegalArgumentException 금액이 0 이하
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public User refundBalanceInCurrentTransaction(Long userId, Long amount) {
+        return refundBalanceInternal(userId, amount);
+    }
+
+    private User refundBalanceInternal(Long userId, Long amount) {
         // 1. 사용자 조회 (비관적 락 획득)
         User user = userRepository.findByIdForUpdate(userId)
                 .orElseThrow(() -> new UserNotFoundException(userId));
@@ -116,6 +116,45 @@ public class Coupon {
         }
     }
 
+    /**
+     * 쿠폰 재고 일괄 감소 (배치 발급용)
+     *
+     * 한 번의 행 락 안에서 여러 사용자에게 발급할 때 사용
+     * - decreaseStock()과 동일한 규칙을 quantity 단위로 적용
+     *
+     * @param quantity 감소할 수량 (1 이상)
+     * @throws IllegalArgumentException 수량이 0 이하이거나 재고가 부족한 경우
+     */
+    public void decreaseStock(int quantity) {
+        decreaseStock(quantity, 0);
+    }
+
+    /**
+     * 쿠폰 재고 일괄 감소 (재고 분할 중인 쿠폰)
+     *
+     * - 원본 행 remaining_qty에서만 차감
+     * - 원본 행이 0이 되어도 재고 버킷에 남은 수량이 있으면 소진이 아니므로 is_active 유지
+     *
+     * @param quantity 감소할 수량 (1 이상)
+     * @param stripedQty 재고 버킷에 남은 수량 (분할되지 않았으면 0)
+     * @throws IllegalArgumentException 수량이 0 이하이거나 원본 행 재고가 부족한 경우
+     */
+    public void decreaseStock(int quantity, int stripedQty) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("감소 수량은 1 이상이어야 합니다: " + quantity);
+        }
+        if (this.remainingQty < quantity) {
+            throw new IllegalArgumentException("쿠폰 재고가 부족합니다 (남은 수량: " + this.remainingQty + ")");
+        }
+        this.remainingQty -= quantity;
+        this.updatedAt = LocalDateTime.now();
+
+        // 재고가 소진되면 자동으로 비활성화
+        if (this.remainingQty == 0 && stripedQty <= 0) {
+            this.isActive = false;
+        }
+    }
+
     /**
      * 쿠폰 재고 복구 (보상용)
      *
@@ -145,12 +184,98 @@ public class Coupon {
     }
 
     /**
-     * 쿠폰 재고 확인
+     * 쿠폰 재고 일괄 복구 (미사용 재고 임대분 반납용)
+     *
+     * - CouponStockLeaseService가 임대했다가 사용하지 못한 재고를 되돌릴 때 호출
+     * - total_quantity가 설정된 경우 이를 초과하지 않음
+     * - 재고 소진(remaining_qty 0)으로 비활성화된 경우에만 다시 활성화
+     *   (재고가 남은 상태의 비활성화는 관리자 조치이므로 유지)
+     *
+     * @param quantity 복구할 수량 (1 이상)
+     * @throws IllegalArgumentException 수량이 0 이하이거나 total_quantity를 초과하는 경우
+     */
+    public void increaseRemainingQty(int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("복구 수량은 1 이상이어야 합니다: " + quantity);
+        }
+        if (this.totalQuantity != null && this.remainingQty + quantity > this.totalQuantity) {
+            throw new IllegalArgumentException(
+                    "쿠폰 복구 불가능: 전체 재고 초과 (remaining: " + this.remainingQty + ", quantity: " + quantity + ", total: " + this.totalQuantity + ")"
+            );
+        }
+        boolean deactivatedByExhaustion = isDeactivatedByExhaustion();
+        this.remainingQty += quantity;
+        this.updatedAt = LocalDateTime.now();
+
+        if (deactivatedByExhaustion) {
+            this.isActive = true;
+        }
+    }
+
+    /**
+     * 남은 재고 전체를 재고 버킷으로 이동 (핫 쿠폰 분할용)
+     *
+     * - remaining_qty는 0이 되지만 소진이 아니므로 is_active는 유지
+     * - 이동한 재고는 StockBucket 행에서 차감됨 (StripedStockService)
+     *
+     * @return 이동한 수량
+     */
+    public int moveStockToBuckets() {
+        int moved = this.remainingQty;
+        if (moved > 0) {
+            this.remainingQty = 0;
+            this.updatedAt = LocalDateTime.now();
+        }
+        return moved;
+    }
+
+    /**
+     * 재고 버킷의 잔여 수량을 되돌림 (핫 쿠폰 병합용)
+     *
+     * - 분할 중 관리자 비활성화 상태는 유지
+     * - 되돌린 뒤에도 재고가 0이면 분할 중 소진된 것이므로 비활성화 (decreaseStock과 동일한 규칙)
+     *
+     * @param quantity 되돌릴 수량 (0 이상)
+     */
+    public void returnStockFromBuckets(int quantity) {
+        if (quantity < 0) {
+            throw new IllegalArgumentException("병합 수량은 0 이상이어야 합니다: " + quantity);
+        }
+        this.remainingQty += quantity;
+        this.updatedAt = LocalDateTime.now();
+
+        if (this.remainingQty == 0) {
+            this.isActive = false;
+        }
+    }
+
+    /**
+     * 쿠폰 재고 확인 (원본 행만)
+     *
+     * 재고 분할 중에는 remaining_qty가 0이므로 hasStock(stripedQty)로 판정해야 함
      */
     public boolean hasStock() {
         return this.remainingQty > 0;
     }
 
+    /**
+     * 쿠폰 재고 확인 (원본 행 + 재고 버킷)
+     *
+     * @param stripedQty 재고 버킷에 남은 수량 (분할되지 않았으면 0)
+     */
+    public boolean hasStock(int stripedQty) {
+        return getAvailableQty(stripedQty) > 0;
+    }
+
+    /**
+     * 발급 가능 수량 (원본 행 remaining_qty + 재고 버킷 잔여분)
+     *
+     * @param stripedQty 재고 버킷에 남은 수량 (분할되지 않았으면 0)
+     */
+    public int getAvailableQty(int stripedQty) {
+        return this.remainingQty + Math.max(0, stripedQty);
+    }
+
     /**
      * 쿠폰 활성화 상태 확인
      */
@@ -158,6 +283,16 @@ public class Coupon {
         return Boolean.TRUE.equals(this.isActive);
     }
 
+    /**
+     * 재고 소진(remaining_qty 0)으로 비활성화된 상태인지 확인
+     *
+     * - 재고가 남은 상태의 비활성화는 관리자 조치로 봄
+     * - 임대/분할로 행 재고가 0이 되어 비활성화된 쿠폰은 임대분으로 계속 발급 가능
+     */
+    public boolean isDeactivatedByExhaustion() {
+        return this.remainingQty == 0 && !isActiveCoupon();
+    }
+
     /**
      * 유효 기간 확인
      */
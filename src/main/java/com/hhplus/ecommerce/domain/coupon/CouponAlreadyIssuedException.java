@@ -0,0 +1,40 @@
+package com.hhplus.ecommerce.domain.coupon;
+
+import java.time.LocalDateTime;
+
+/**
+ * CouponAlreadyIssuedException
+ * 동일 사용자에게 이미 발급된 쿠폰을 다시 발급하려 할 때 발생하는 예외
+ *
+ * - 기존 비즈니스 오류 처리(IllegalArgumentException)와 호환되도록 상속
+ * - issuedAt: DB에 이미 존재하는 발급 시각 (예약 게이트가 재전달 여부를 판정할 때 사용)
+ */
+public class CouponAlreadyIssuedException extends IllegalArgumentException {
+    private static final String MESSAGE = "이 쿠폰은 이미 발급받으셨습니다";
+    private final Long userId;
+    private final Long couponId;
+    private final LocalDateTime issuedAt;
+
+    public CouponAlreadyIssuedException(Long userId, Long couponId, LocalDateTime issuedAt) {
+        super(MESSAGE);
+        this.userId = userId;
+        this.couponId = couponId;
+        this.issuedAt = issuedAt;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Long getCouponId() {
+        return couponId;
+    }
+
+    public LocalDateTime getIssuedAt() {
+        return issuedAt;
+    }
+
+    public String getErrorCode() {
+        return CouponIssueFailureCode.ALREADY_ISSUED.name();
+    }
+}
@@ -0,0 +1,41 @@
+package com.hhplus.ecommerce.domain.coupon;
+
+/**
+ * CouponIssueFailureCode - 쿠폰 발급 실패 사유 코드
+ *
+ * 메시지 문자열 대신 코드로 실패를 판정한다 (메시지 문구 변경에 영향받지 않음)
+ * - 예약 게이트 취소(CouponReservationService.release)는 ALREADY_ISSUED 여부로 사용자 기록 유지를 결정
+ */
+public enum CouponIssueFailureCode {
+
+    /** 동일 사용자에게 이미 발급됨 */
+    ALREADY_ISSUED("이 쿠폰은 이미 발급받으셨습니다"),
+
+    /** 재고 소진 (배치 도중 소진 포함) */
+    SOLD_OUT("쿠폰이 모두 소진되었습니다"),
+
+    /** 비활성화된 쿠폰 */
+    INACTIVE("쿠폰이 비활성화되어 있습니다"),
+
+    /** 유효기간 밖 */
+    EXPIRED("쿠폰이 유효기간을 벗어났습니다"),
+
+    /** 존재하지 않는 쿠폰 (CouponNotFoundException과 동일한 메시지) */
+    NOT_FOUND("쿠폰을 찾을 수 없습니다"),
+
+    /** 그 밖의 비즈니스 오류 (메시지는 예외에서 전달) */
+    REJECTED(null);
+
+    private final String message;
+
+    CouponIssueFailureCode(String message) {
+        this.message = message;
+    }
+
+    /**
+     * 사용자에게 보여줄 실패 사유 (기존 CouponService 예외 메시지와 동일)
+     */
+    public String getMessage() {
+        return message;
+    }
+}
@@ -0,0 +1,91 @@
+package com.hhplus.ecommerce.domain.coupon;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * CouponReservationRepository - 선착순 쿠폰 예약 게이트 Port Interface
+ *
+ * 역할:
+ * - DB 비관적 락(SELECT ... FOR UPDATE) 앞단에서 재고/중복을 원자적으로 판정
+ * - 승자만 coupons 행 락을 잡도록 하여 MySQL 직렬화 구간을 재고 수량만큼으로 축소
+ *
+ * 설계:
+ * - 재고 카운터: coupons.remaining_qty에서 시딩 (SET NX)
+ * - 예약 사용자 집합: 사용자별 중복 예약 차단 (SADD)
+ * - 재고 확인 + 중복 확인 + 차감을 하나의 원자적 연산으로 수행 (Redis Lua)
+ *
+ * 정합성:
+ * - DB(coupons.remaining_qty)가 최종 진실 (Source of Truth)
+ * - 카운터 드리프트와 고아 예약 사용자는 CouponReservationService.reconcileReservedStock()이 보정
+ */
+public interface CouponReservationRepository {
+
+    /**
+     * 예약 시도 (원자적: 재고 확인 → 중복 확인 → 차감 → 사용자 기록)
+     *
+     * @param couponId 쿠폰 ID
+     * @param userId 사용자 ID
+     * @return RESERVED | SOLD_OUT | DUPLICATE | NOT_INITIALIZED
+     */
+    CouponReservationResult reserve(Long couponId, Long userId);
+
+    /**
+     * 예약 취소 (DB 발급 실패 시 보상)
+     *
+     * @param couponId 쿠폰 ID
+     * @param userId 사용자 ID
+     * @param keepUser true면 재고만 복구하고 사용자 기록은 유지 (DB에 이미 발급된 경우)
+     * @return 재고가 복구되었으면 true
+     */
+    boolean release(Long couponId, Long userId, boolean keepUser);
+
+    /**
+     * 재고 카운터 시딩 (키가 없을 때만)
+     *
+     * @param couponId 쿠폰 ID
+     * @param remainingQty DB의 remaining_qty
+     * @return 새로 시딩했으면 true
+     */
+    boolean seedIfAbsent(Long couponId, int remainingQty);
+
+    /**
+     * 현재 예약 재고 조회
+     *
+     * @param couponId 쿠폰 ID
+     * @return 재고 카운터 (시딩 전이면 empty)
+     */
+    Optional<Integer> getReservedStock(Long couponId);
+
+    /**
+     * 재고 카운터 보정 (Compare-And-Set)
+     *
+     * 조회 시점 이후 다른 예약이 끼어들었으면 보정하지 않음
+     *
+     * @param couponId 쿠폰 ID
+     * @param expected 조회 시점의 카운터 값
+     * @param corrected 보정할 값
+     * @return 보정되었으면 true
+     */
+    boolean compareAndSetStock(Long couponId, int expected, int corrected);
+
+    /**
+     * 예약 사용자 조회 (정합성 점검용)
+     *
+     * @param couponId 쿠폰 ID
+     * @return 예약 사용자 ID 집합 (없으면 빈 집합)
+     */
+    Set<Long> getReservedUsers(Long couponId);
+
+    /**
+     * 예약 사용자 기록만 제거 (재고 카운터는 변경하지 않음)
+     *
+     * 취소(release)가 유실되어 DB 발급 없이 남은 사용자 기록 정리용
+     *
+     * @param couponId 쿠폰 ID
+     * @param userIds 제거할 사용자 ID
+     * @return 제거된 사용자 수
+     */
+    long removeReservedUsers(Long couponId, Collection<Long> userIds);
+}
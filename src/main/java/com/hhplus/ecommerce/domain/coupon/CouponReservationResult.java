@@ -0,0 +1,45 @@
+package com.hhplus.ecommerce.domain.coupon;
+
+/**
+ * CouponReservationResult - 선착순 예약 게이트 판정 결과
+ *
+ * RESERVED만 DB 발급 경로(issueCouponWithLock)로 진입할 수 있다.
+ * 나머지는 DB 락을 잡기 전에 즉시 거절/우회된다.
+ */
+public enum CouponReservationResult {
+
+    /** 재고 차감 + 사용자 기록 완료 (DB 발급 진행) */
+    RESERVED(null),
+
+    /** 예약 재고 소진 */
+    SOLD_OUT("쿠폰이 모두 소진되었습니다"),
+
+    /** 동일 사용자가 이미 예약함 */
+    DUPLICATE("이 쿠폰은 이미 발급받으셨습니다"),
+
+    /** 재고 카운터가 아직 시딩되지 않음 */
+    NOT_INITIALIZED(null),
+
+    /** 게이트 비활성화 또는 Redis 장애 → 기존 DB 경로로 우회 */
+    BYPASSED(null);
+
+    private final String rejectMessage;
+
+    CouponReservationResult(String rejectMessage) {
+        this.rejectMessage = rejectMessage;
+    }
+
+    /**
+     * DB 발급 경로로 진행 가능한지 여부
+     */
+    public boolean isAdmitted() {
+        return this == RESERVED || this == BYPASSED;
+    }
+
+    /**
+     * 거절 사유 (기존 CouponService 예외 메시지와 동일)
+     */
+    public String getRejectMessage() {
+        return rejectMessage;
+    }
+}
@@ -1,5 +1,6 @@
 package com.hhplus.ecommerce.domain.coupon;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -36,6 +37,35 @@ public interface UserCouponRepository {
      */
     Optional<UserCoupon> findByUserIdAndCouponId(Long userId, Long couponId);
 
+    /**
+     * 주어진 사용자 중 특정 쿠폰을 이미 발급받은 사용자 ID 조회
+     * 예약 사용자 정합성 점검 등 발급 여부만 필요한 용도
+     *
+     * @param couponId 쿠폰 ID
+     * @param userIds 확인할 사용자 ID 목록
+     * @return 이미 발급받은 사용자 ID 목록
+     */
+    List<Long> findIssuedUserIds(Long couponId, Collection<Long> userIds);
+
+    /**
+     * 주어진 사용자 중 특정 쿠폰을 이미 발급받은 발급 기록 조회
+     * 배치 발급 시 중복 검증과 기존 발급 시각 확인을 IN 쿼리 1회로 처리하는 용도
+     *
+     * @param couponId 쿠폰 ID
+     * @param userIds 확인할 사용자 ID 목록
+     * @return 이미 발급된 사용자 쿠폰 목록
+     */
+    List<UserCoupon> findIssuedByUserIds(Long couponId, Collection<Long> userIds);
+
+    /**
+     * 사용자 쿠폰 일괄 저장 (배치 발급용)
+     * 다건 INSERT 1회로 저장한 뒤 발급 ID가 채워진 엔티티를 반환
+     *
+     * @param userCoupons 저장할 사용자 쿠폰 목록 (동일 쿠폰 기준)
+     * @return 저장된 사용자 쿠폰 목록 (userCouponId 포함)
+     */
+    List<UserCoupon> saveAllInBatch(List<UserCoupon> userCoupons);
+
     /**
      * 비관적 락을 사용하여 사용자 쿠폰 조회
      * SELECT ... FOR UPDATE로 즉시 락 획득
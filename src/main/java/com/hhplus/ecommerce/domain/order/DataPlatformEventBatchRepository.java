@@ -0,0 +1,22 @@
+package com.hhplus.ecommerce.domain.order;
+
+import java.util.List;
+
+/**
+ * DataPlatformEventBatchRepository - 데이터 플랫폼 이벤트 일괄 저장 (Port)
+ *
+ * 역할:
+ * - Kafka 배치 리스너가 poll 단위로 모은 이벤트를 다건 INSERT로 저장
+ * - UNIQUE(order_id, event_type) 중복은 예외 없이 건너뜀 (멱등성)
+ */
+public interface DataPlatformEventBatchRepository {
+
+    /**
+     * 이벤트 일괄 저장 (이미 저장된 (order_id, event_type)은 무시)
+     *
+     * @param events 저장할 이벤트 (호출자가 배치 내 중복 제거)
+     * @return 저장을 시도한 행 수 (로그용, 실제 삽입 수 아님)
+     *         - ON DUPLICATE KEY UPDATE + 드라이버 기본값(found rows)에서는 무시된 중복 행도 1로 집계됨
+     */
+    int insertIgnoringDuplicates(List<DataPlatformEvent> events);
+}
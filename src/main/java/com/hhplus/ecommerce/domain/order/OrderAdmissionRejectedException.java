@@ -0,0 +1,16 @@
+package com.hhplus.ecommerce.domain.order;
+
+/**
+ * 주문 입장 대기열(OrderAdmissionQueue)이 주문을 받아들이지 못했을 때 발생하는 예외
+ *
+ * 사용 시나리오:
+ * - 핫 옵션 레인의 대기열이 가득 참 (부하 차단)
+ * - 대기 시간(deadline) 안에 레인에서 실행되지 못함
+ *
+ * 두 경우 모두 주문 트랜잭션은 실행되지 않았으므로 클라이언트가 재시도해도 안전합니다.
+ */
+public class OrderAdmissionRejectedException extends RuntimeException {
+    public OrderAdmissionRejectedException(String message) {
+        super(message);
+    }
+}
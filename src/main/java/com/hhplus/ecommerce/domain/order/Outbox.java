@@ -28,9 +28,13 @@ import java.time.LocalDateTime;
  * - message_type은 이벤트 타입 (ORDER_COMPLETED, SHIPPING_REQUEST 등)
  * - status는 PENDING | SENT | FAILED 중 하나
  * - retry_count는 재시도 횟수 추적
+ * - next_attempt_at은 다음 발행 가능 시각 (릴레이 선점 리스 및 재시도 지연)
+ *   → 릴레이는 (status, next_attempt_at) 인덱스로 지금 보낼 메시지만 조회
  */
 @Entity
-@Table(name = "outbox")
+@Table(name = "outbox", indexes = {
+        @Index(name = "idx_outbox_status_next_attempt", columnList = "status, next_attempt_at, message_id")
+})
 @AllArgsConstructor
 @Builder
 @Getter
@@ -68,6 +72,9 @@ public class Outbox {
     @Column(name = "sent_at")
     private LocalDateTime sentAt;
 
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -84,6 +91,7 @@ public class Outbox {
                 .messageType(messageType)
                 .status("PENDING")
                 .retryCount(0)
+                .nextAttemptAt(LocalDateTime.now())
                 .createdAt(LocalDateTime.now())
                 .build();
     }
@@ -102,6 +110,7 @@ public class Outbox {
                 .payload(payload)
                 .status("PENDING")
                 .retryCount(0)
+                .nextAttemptAt(LocalDateTime.now())
                 .createdAt(LocalDateTime.now())
                 .build();
     }
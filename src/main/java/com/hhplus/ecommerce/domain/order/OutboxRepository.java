@@ -1,5 +1,7 @@
 package com.hhplus.ecommerce.domain.order;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,6 +22,9 @@ import java.util.Optional;
  * - findByOrderId(): 주문별 메시지 조회
  * - findAllByStatus(): 상태별 메시지 조회 (배치 프로세스용)
  * - update(): 메시지 상태 업데이트 (재시도, 전송 완료 등)
+ * - claimPendingBatch(): 릴레이용 발행 대상 선점 (SKIP LOCKED)
+ * - claimById(): 커밋 직후 즉시 발행용 단건 선점
+ * - markSent()/scheduleRetry()/markAbandoned(): 배치 결과 일괄 반영
  */
 public interface OutboxRepository {
 
@@ -63,6 +68,45 @@ public interface OutboxRepository {
      */
     Outbox update(Outbox outbox);
 
+    /**
+     * 발행 대상 메시지 선점 (릴레이 배치용)
+     *
+     * - status = PENDING AND next_attempt_at <= now 인 메시지를 (next_attempt_at, message_id) 순으로 최대 limit건
+     * - SELECT ... FOR UPDATE SKIP LOCKED: 다른 인스턴스가 선점 중인 행은 건너뜀
+     * - 선점한 행의 next_attempt_at을 leaseUntil로 미룬 뒤 즉시 커밋
+     *   → 발행 중에는 다른 인스턴스가 다시 가져가지 않고, 인스턴스가 죽으면 리스 만료 후 재발행
+     *   → 선점한 행은 조회 범위를 벗어나므로 다음 배치는 OFFSET 없이 인덱스 범위의 앞에서 시작
+     *
+     * @param now 기준 시각
+     * @param limit 최대 선점 건수
+     * @param leaseUntil 선점 리스 만료 시각
+     * @return 선점한 메시지 (영속성 컨텍스트와 무관한 스냅샷)
+     */
+    List<Outbox> claimPendingBatch(LocalDateTime now, int limit, LocalDateTime leaseUntil);
+
+    /**
+     * 메시지 1건 선점 (커밋 직후 즉시 발행용)
+     * - claimPendingBatch()와 같은 조건/리스를 메시지 ID 1건에 적용
+     * - 이미 다른 릴레이가 선점했거나 발행된 메시지면 Optional.empty()
+     */
+    Optional<Outbox> claimById(Long messageId, LocalDateTime now, LocalDateTime leaseUntil);
+
+    /**
+     * 발행 성공 메시지 일괄 SENT 처리 (UPDATE 1회)
+     */
+    void markSent(Collection<Long> messageIds);
+
+    /**
+     * 발행 실패 메시지 일괄 재시도 예약 (UPDATE 1회)
+     * - retry_count 증가, next_attempt_at = nextAttemptAt (PENDING 유지)
+     */
+    void scheduleRetry(Collection<Long> messageIds, LocalDateTime nextAttemptAt);
+
+    /**
+     * 재시도 초과 메시지 일괄 ABANDONED 처리 (UPDATE 1회)
+     */
+    void markAbandoned(Collection<Long> messageIds);
+
     /**
      * 모든 Outbox 메시지 조회 (테스트, 관리 용도)
      *
@@ -0,0 +1,91 @@
+package com.hhplus.ecommerce.domain.order;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * SagaLogEntry - Saga 상태 전이 로그 (Domain 계층)
+ *
+ * 역할:
+ * - Saga 실행 중 상태 전이 1건당 1행을 추가만 하는(append-only) 로그
+ * - 프로세스가 Saga 도중 종료되어도 어떤 Step이 완료되었는지 DB에서 복원 가능
+ *
+ * 행 구성 (압축형):
+ * - STEP_APPLIED 표식만 payload(SagaExecutionSnapshot JSON, 입력 데이터)를 가짐
+ * - STEP_* 행은 step_name, CreateOrderStep 완료 행은 order_id까지 기록
+ * - 수정/삭제 없음 → 현재 상태는 saga_id의 행들을 재생해 계산
+ *   (예외: STEP_APPLIED 표식은 보상 트랜잭션에서 삭제 - 같은 Step의 중복 보상 방지)
+ *
+ * 멱등성:
+ * - UNIQUE(saga_id, event_type, step_name): 재시도로 같은 전이가 다시 기록되어도 1행
+ * - Saga 수준 전이는 step_name = '' (NULL은 UNIQUE에서 중복 허용되므로 사용하지 않음)
+ * - RECOVERY_CLAIMED는 step_name에 시도 번호를 기록 → 같은 시도 번호는 한 노드만 선점
+ */
+@Entity
+@Table(
+    name = "saga_log",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_saga_log_transition", columnNames = {"saga_id", "event_type", "step_name"})
+    },
+    indexes = {
+        @Index(name = "idx_saga_log_event_created_at", columnList = "event_type, created_at")
+    }
+)
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SagaLogEntry {
+
+    public static final String NO_STEP = "";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "log_id")
+    private Long logId;
+
+    @Column(name = "saga_id", nullable = false, length = 36)
+    private String sagaId;
+
+    @Column(name = "event_type", nullable = false, length = 32)
+    @Enumerated(EnumType.STRING)
+    private SagaLogEventType eventType;
+
+    @Column(name = "step_name", nullable = false, length = 64)
+    private String stepName;
+
+    @Column(name = "order_id")
+    private Long orderId;
+
+    @Column(name = "payload", columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 로그 행 생성 팩토리 메서드
+     *
+     * @param sagaId Saga 실행 ID
+     * @param eventType 전이 유형
+     * @param stepName Step 이름 (Saga 수준 전이는 null → '')
+     * @param orderId 주문 ID (nullable)
+     * @param payload 입력 스냅샷 (STEP_APPLIED만, nullable)
+     */
+    public static SagaLogEntry of(String sagaId,
+                                  SagaLogEventType eventType,
+                                  String stepName,
+                                  Long orderId,
+                                  String payload) {
+        return SagaLogEntry.builder()
+                .sagaId(sagaId)
+                .eventType(eventType)
+                .stepName(stepName != null ? stepName : NO_STEP)
+                .orderId(orderId)
+                .payload(payload)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
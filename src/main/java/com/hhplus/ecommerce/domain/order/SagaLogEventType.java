@@ -0,0 +1,52 @@
+package com.hhplus.ecommerce.domain.order;
+
+/**
+ * Saga 로그 전이 유형
+ *
+ * 라이프사이클:
+ * SAGA_STARTED
+ *   ↓
+ * [STEP_APPLIED (입력 스냅샷 포함)] → STEP_COMPLETED (Step별)
+ *   ↓
+ * SAGA_COMPLETED (성공) 또는 STEP_COMPENSATED × N → SAGA_COMPENSATED (보상 완료)
+ *   (보상 실패 Step이 있으면 STEP_COMPENSATION_FAILED만 남기고 SAGA_COMPENSATED 없음 → 복구 대상)
+ *
+ * 기록 시점:
+ * - STEP_APPLIED: Step 자신의 트랜잭션 안에서 기록하는 적용 표식 (Step 커밋 = 표식 존재)
+ *   → compensate()가 같은 트랜잭션에서 확인 + 삭제 (표식이 없으면 미적용 또는 이미 보상된 Step)
+ *   → 복구 대상 조회와 SagaContext 복원은 표식만 사용
+ * - 그 외: 비동기 그룹 커밋 (유실되어도 표식으로 복구 대상/보상 여부 판정)
+ *
+ * 종결 유형(isTerminal):
+ * - SAGA_COMPLETED, SAGA_COMPENSATED: 정상 종료
+ * - RECOVERY_ABANDONED: 복구 시도 횟수 초과 → 수동 처리
+ * - STEP_COMPENSATION_FAILED는 종결 아님: 적용 표식이 남아 있으므로 복구 스캐너가 다시 보상
+ *   (CompensationDLQ 기록과 별개로 재시도, max-attempts 초과 시 RECOVERY_ABANDONED)
+ */
+public enum SagaLogEventType {
+    SAGA_STARTED("Saga 시작"),
+    STEP_APPLIED("Step 적용 표식"),
+    STEP_COMPLETED("Step 완료"),
+    STEP_COMPENSATED("Step 보상 완료"),
+    STEP_COMPENSATION_FAILED("Step 보상 실패"),
+    SAGA_COMPLETED("Saga 성공"),
+    SAGA_COMPENSATED("Saga 보상 완료"),
+    RECOVERY_CLAIMED("복구 선점"),
+    RECOVERY_ABANDONED("복구 포기");
+
+    private final String description;
+
+    SagaLogEventType(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public boolean isTerminal() {
+        return this == SAGA_COMPLETED
+                || this == SAGA_COMPENSATED
+                || this == RECOVERY_ABANDONED;
+    }
+}
@@ -0,0 +1,62 @@
+package com.hhplus.ecommerce.domain.order;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * SagaLogRepository - Saga 상태 전이 로그 저장소 (Port)
+ *
+ * 역할:
+ * - SagaLogWriter가 모은 전이 로그를 다건 INSERT 1회로 그룹 커밋
+ * - 복구 스캐너의 미종결 Saga 조회 및 복구 선점
+ */
+public interface SagaLogRepository {
+
+    /**
+     * 전이 로그 일괄 저장 (이미 기록된 (saga_id, event_type, step_name)은 무시)
+     *
+     * @param entries 저장할 로그
+     * @return 영향 행 수 (로그용)
+     */
+    int appendAll(List<SagaLogEntry> entries);
+
+    /**
+     * 전이 로그 1건 저장 (중복이면 저장하지 않음)
+     * - 복구 선점(RECOVERY_CLAIMED)에 사용: 같은 시도 번호는 한 노드만 성공
+     *
+     * @return 저장했으면 true, 이미 같은 전이가 있으면 false
+     */
+    boolean appendIfAbsent(SagaLogEntry entry);
+
+    /**
+     * 전이 로그 1건 삭제 (STEP_APPLIED 표식 확인 + 제거)
+     * - 호출자 트랜잭션에 참여: 보상과 같은 트랜잭션에서 삭제해야 보상 롤백 시 표식도 복원됨
+     * - 동시 보상은 행 잠금으로 직렬화 → 한 트랜잭션만 true
+     *
+     * @return 삭제했으면 true, 해당 전이가 없으면 false
+     */
+    boolean removeIfPresent(String sagaId, SagaLogEventType eventType, String stepName);
+
+    /**
+     * 종결되지 않은 Saga ID 조회 (시작 시각 오름차순)
+     *
+     * 대상:
+     * - startedAfter ≤ STEP_APPLIED.created_at < startedBefore인 적용 표식이 있음 (표식이 없으면 되돌릴 변경 없음)
+     * - 종결 전이(SagaLogEventType.isTerminal) 없음
+     * - claimedBefore 이후의 RECOVERY_CLAIMED 없음 (다른 노드가 복구 중)
+     *
+     * @param startedAfter 조회 하한 (오래된 로그 스캔 제한)
+     * @param startedBefore 이 시각 이전에 시작한 Saga만 (실행 중인 Saga 제외)
+     * @param claimedBefore 이 시각 이후의 복구 선점이 있으면 제외
+     * @param limit 최대 조회 수
+     */
+    List<String> findInFlightSagaIds(LocalDateTime startedAfter,
+                                     LocalDateTime startedBefore,
+                                     LocalDateTime claimedBefore,
+                                     int limit);
+
+    /**
+     * Saga의 전이 로그 전체 조회 (기록 순)
+     */
+    List<SagaLogEntry> findBySagaId(String sagaId);
+}
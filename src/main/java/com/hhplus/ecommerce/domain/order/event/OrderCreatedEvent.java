@@ -15,6 +15,8 @@ import java.util.stream.Collectors;
  * 리스너:
  *   1. CouponEventHandler (동기, BEFORE_COMMIT) - 쿠폰 사용 처리
  *   2. ProductStatusEventHandler (비동기, AFTER_COMMIT) - 상품 상태 업데이트
+ *   3. RankingEventHandler (비동기, AFTER_COMMIT) - 상품 랭킹 점수 반영
+ *   4. ProductSalesEventHandler (비동기, AFTER_COMMIT) - 상품별 일일 주문 수 요약
  *
  * Phase 2 개선:
  * - God Transaction 해체
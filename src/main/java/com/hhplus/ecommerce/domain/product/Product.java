@@ -30,7 +30,12 @@ import java.util.Optional;
  * - synchronized 제거: DB 레벨 낙관적 락으로 충분
  */
 @Entity
-@Table(name = "products")
+@Table(name = "products",
+        indexes = {
+                @Index(name = "idx_products_price", columnList = "price, product_id"),
+                @Index(name = "idx_products_created_at", columnList = "created_at, product_id"),
+                @Index(name = "idx_products_product_name", columnList = "product_name, product_id")
+        })
 @Getter
 @Builder
 @NoArgsConstructor
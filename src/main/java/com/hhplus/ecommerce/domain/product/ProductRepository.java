@@ -1,6 +1,8 @@
 package com.hhplus.ecommerce.domain.product;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -15,11 +17,44 @@ public interface ProductRepository {
      */
     List<Product> findAll();
 
+    /**
+     * 상품 목록 페이지 조회 (옵션 미포함 프로젝션, ORDER BY + LIMIT/OFFSET)
+     *
+     * @param sort 정렬 기준 (product_id 외에는 product_id 보조 정렬)
+     * @param ascending 오름차순 여부
+     * @param offset 건너뛸 행 수
+     * @param limit 조회할 행 수
+     */
+    List<ProductSummary> findProductSummaries(ProductSort sort, boolean ascending, int offset, int limit);
+
+    /**
+     * 키셋 커서 다음 페이지 조회 (옵션 미포함 프로젝션)
+     * - (정렬 값, product_id)가 마지막 행보다 뒤인 행부터 LIMIT
+     * - OFFSET 스캔이 없어 페이지 깊이와 무관하게 인덱스 범위 조회
+     *
+     * @param lastValue 이전 페이지 마지막 행의 정렬 컬럼 값 (PRODUCT_ID 정렬이면 무시)
+     * @param lastProductId 이전 페이지 마지막 행의 상품 ID
+     */
+    List<ProductSummary> findProductSummariesAfter(ProductSort sort, boolean ascending,
+                                                   Object lastValue, Long lastProductId, int limit);
+
+    /**
+     * 전체 상품 수
+     */
+    long countProducts();
+
     /**
      * ID로 상품 조회
      */
     Optional<Product> findById(Long productId);
 
+    /**
+     * 여러 상품을 옵션과 함께 일괄 조회 (IN + fetch join 1회)
+     * - 주문 생성 시 항목 수와 무관하게 상품 조회 1회 (OrderPricingContext)
+     * - 존재하지 않는 ID는 결과에서 제외
+     */
+    List<Product> findAllByIdsWithOptions(Collection<Long> productIds);
+
     /**
      * 상품 ID로 옵션들 조회
      */
@@ -46,18 +81,29 @@ public interface ProductRepository {
     Optional<ProductOption> findOptionByIdForUpdate(Long optionId);
 
     /**
-     * 최근 3일 주문 수량 조회
-     * Application 계층에서 인기 상품 계산 시 사용
+     * 옵션 재고 조건부 일괄 차감 (JDBC 배치 1회)
+     * UPDATE product_options SET stock = stock - ? WHERE option_id = ? AND stock >= ?
+     *
+     * - 엔티티 로드/더티체킹/@Version 검증 없이 DB에서 원자적으로 차감
+     * - 영향 행 수 0 = 재고 부족 또는 옵션 없음
+     * - 차감된 행은 호출자 트랜잭션에 포함 (실패 시 호출자가 예외로 롤백)
+     *
+     * @param quantitiesByOptionId 옵션 ID별 차감 수량 (순회 순서대로 실행)
+     * @return 차감되지 않은 옵션 ID 목록 (모두 성공이면 빈 목록)
+     */
+    List<Long> deductOptionStocks(Map<Long, Integer> quantitiesByOptionId);
+
+    /**
+     * 상품 총 재고 및 상태 일괄 재계산 (UPDATE 1회)
+     * - 옵션 재고 합계(재고 분할 중인 옵션은 버킷 잔여분 포함)로 total_stock 갱신, 0이면 SOLD_OUT, 그 외 IN_STOCK
+     * - 조건부 차감 경로는 상품 행을 갱신하지 않으므로 커밋 후 비동기로 호출
      */
-    Long getOrderCount3Days(Long productId);
+    void recalculateTotalStocks(Collection<Long> productIds);
 
     /**
-     * 최근 3일간 주문된 상품만 조회 (인기 상품 계산 최적화)
-     * - 성능 개선: findAll() 대신 실제 주문이 있는 상품만 조회
-     * - 커버링 인덱스 활용 가능
-     * - 많은 상품 중 일부만 로드
+     * 상품 ID 순 상위 N개 조회 (인기 상품 빈자리 채움용, LIMIT 적용)
      */
-    List<Product> findProductsOrderedLast3Days();
+    List<Product> findFirstProducts(int limit);
 
     /**
      * 상품 저장
@@ -0,0 +1,47 @@
+package com.hhplus.ecommerce.domain.product;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * ProductSalesDaily - 상품별 일일 주문 수 요약 (인기 상품 집계용)
+ *
+ * 목적:
+ * - 인기 상품 계산 시 전체 상품/주문 스캔 대신 최근 N일 요약 행만 읽음
+ * - 행 수 = 기간(일) × 그 기간에 팔린 상품 수 (카탈로그 크기와 무관)
+ *
+ * 갱신:
+ * - 주문 커밋 후 이벤트로 (sales_date, product_id) 행에 UPSERT 누적
+ *   (INSERT ... ON DUPLICATE KEY UPDATE order_count = order_count + ?)
+ *
+ * UNIQUE(sales_date, product_id) → 기간 조건 범위 스캔 + 상품별 합산
+ */
+@Entity
+@Table(name = "product_sales_daily", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_product_sales_daily", columnNames = {"sales_date", "product_id"})
+})
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSalesDaily {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "sales_id")
+    private Long salesId;
+
+    @Column(name = "sales_date", nullable = false)
+    private LocalDate salesDate;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "order_count", nullable = false)
+    private Long orderCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
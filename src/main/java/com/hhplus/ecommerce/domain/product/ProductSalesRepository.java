@@ -0,0 +1,33 @@
+package com.hhplus.ecommerce.domain.product;
+
+import com.hhplus.ecommerce.domain.ranking.RankingItem;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ProductSalesRepository - 상품별 일일 주문 수 요약 저장소 Port Interface
+ */
+public interface ProductSalesRepository {
+
+    /**
+     * 일일 주문 수 누적 (상품 수와 무관하게 배치 UPSERT 1회)
+     *
+     * @param salesDate 주문 일자
+     * @param orderCounts 상품 ID → 증가할 주문 수
+     */
+    void addDailyOrderCounts(LocalDate salesDate, Map<Long, Long> orderCounts);
+
+    /**
+     * 기간 내 주문 수 상위 상품 조회
+     *
+     * - fromDate 이후 요약 행만 범위 스캔 후 상품별 합산, 상위 limit개만 반환
+     * - 동점이면 상품 ID 오름차순
+     *
+     * @param fromDate 시작 일자 (포함)
+     * @param limit 최대 개수
+     * @return 주문 수 내림차순 (productId, score=주문 수)
+     */
+    List<RankingItem> findTopProductsSince(LocalDate fromDate, int limit);
+}
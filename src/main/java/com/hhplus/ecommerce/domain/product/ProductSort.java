@@ -0,0 +1,62 @@
+package com.hhplus.ecommerce.domain.product;
+
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+/**
+ * 상품 목록 정렬 기준
+ *
+ * - 정렬 컬럼은 이 열거형에서만 결정 (요청 문자열을 SQL에 직접 넣지 않음)
+ * - product_id 외 정렬은 product_id를 보조 정렬로 붙여 순서를 고정 → 키셋 커서의 기준이 됨
+ * - 각 컬럼은 (정렬 컬럼, product_id) 인덱스로 정렬/LIMIT을 처리
+ */
+public enum ProductSort {
+    PRODUCT_ID("product_id", ProductSummary::getProductId),
+    PRODUCT_NAME("product_name", ProductSummary::getProductName),
+    PRICE("price", ProductSummary::getPrice),
+    CREATED_AT("created_at", ProductSummary::getCreatedAt);
+
+    private final String column;
+    private final Function<ProductSummary, Object> extractor;
+
+    ProductSort(String column, Function<ProductSummary, Object> extractor) {
+        this.column = column;
+        this.extractor = extractor;
+    }
+
+    public String getColumn() {
+        return column;
+    }
+
+    /**
+     * 요청 필드명(product_id, product_name, price, created_at)으로 조회
+     *
+     * @throws IllegalArgumentException 지원하지 않는 정렬 필드
+     */
+    public static ProductSort fromField(String field) {
+        for (ProductSort sort : values()) {
+            if (sort.column.equals(field)) {
+                return sort;
+            }
+        }
+        throw new IllegalArgumentException("유효하지 않은 정렬 필드입니다: " + field);
+    }
+
+    /**
+     * 상품의 정렬 컬럼 값을 문자열로 변환 (커서 저장용)
+     */
+    public String formatValue(ProductSummary summary) {
+        return String.valueOf(extractor.apply(summary));
+    }
+
+    /**
+     * 커서에 저장된 문자열을 정렬 컬럼 타입으로 변환
+     */
+    public Object parseValue(String value) {
+        return switch (this) {
+            case PRODUCT_ID, PRICE -> Long.parseLong(value);
+            case PRODUCT_NAME -> value;
+            case CREATED_AT -> LocalDateTime.parse(value);
+        };
+    }
+}
@@ -0,0 +1,24 @@
+package com.hhplus.ecommerce.domain.product;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상품 목록용 요약 정보 (옵션 미포함 프로젝션)
+ *
+ * 목록 조회는 products 테이블 컬럼만 필요하므로
+ * Product 엔티티(EAGER options) 대신 이 프로젝션으로 조회
+ */
+@Getter
+@AllArgsConstructor
+public class ProductSummary {
+    private final Long productId;
+    private final String productName;
+    private final String description;
+    private final Long price;
+    private final Integer totalStock;
+    private final String status;
+    private final LocalDateTime createdAt;
+}
@@ -0,0 +1,23 @@
+package com.hhplus.ecommerce.domain.product.event;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 상품 재고 변경 이벤트
+ * 옵션 재고가 조건부 UPDATE로 차감되어 상품 총 재고/상태 재계산이 필요할 때 발행되는 도메인 이벤트
+ */
+@Getter
+@ToString
+public class ProductStockChangedEvent {
+    private final List<Long> productIds;
+    private final LocalDateTime occurredAt;
+
+    public ProductStockChangedEvent(List<Long> productIds) {
+        this.productIds = productIds;
+        this.occurredAt = LocalDateTime.now();
+    }
+}
@@ -1,6 +1,7 @@
 package com.hhplus.ecommerce.domain.ranking;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -37,6 +38,63 @@ public interface RankingRepository {
      */
     void incrementProductScore(String date, Long productId);
 
+    /**
+     * 여러 상품 점수 일괄 증가 (쓰기 지연 누적분 반영, 단건 증가도 이 경로 사용)
+     *
+     * 동작:
+     * - 상품별 ZINCRBY를 일일 키와 시간 버킷에 모두 적용, 파이프라인 1회로 전송
+     * - 상품 수와 무관하게 Redis 왕복 1회
+     *
+     * Atomicity:
+     * - 각 ZINCRBY는 원자적이나 배치 전체는 원자적이지 않음
+     * - 실패 시 일부 상품만 반영되었을 수 있음 (호출자가 재시도 여부 결정)
+     *
+     * @param date 날짜 (YYYYMMDD 형식)
+     * @param hour 시간 (YYYYMMDDHH 형식)
+     * @param increments 상품 ID → 증가량
+     */
+    void incrementProductScores(String date, String hour, Map<Long, Long> increments);
+
+    /**
+     * 마감된 시간 버킷을 구간 집계에 증분 반영
+     *
+     * 동작 (원자적, 여러 서버가 동시에 호출해도 1회만 반영):
+     * - 집계 = 집계 × decay + 마감 버킷 − 만료 버킷 × decay^N (ZUNIONSTORE WEIGHTS)
+     * - 점수가 0 이하가 된 멤버 제거
+     * - 이미 반영된 시간이면 아무것도 하지 않음
+     *
+     * @param window 랭킹 구간
+     * @param closedHour 마감된 시간 (YYYYMMDDHH)
+     * @param previousHour closedHour 직전 시간 - 집계가 이 시간까지 반영된 경우에만 증분 가능
+     * @param expiredHour 구간에서 빠지는 시간 (closedHour − N시간)
+     * @param decay 시간당 감쇠 가중치 (1.0이면 감쇠 없음)
+     * @return 반영(또는 이미 반영)이면 true, 집계가 없거나 끊겨 전체 재계산이 필요하면 false
+     */
+    boolean applyClosedHour(RankingWindow window, String closedHour, String previousHour,
+                            String expiredHour, double decay);
+
+    /**
+     * 구간 집계 전체 재계산
+     *
+     * 동작:
+     * - ZUNIONSTORE ranking:window:{code} N개 시간 버킷 WEIGHTS 1 decay decay^2 ...
+     * - 마지막 반영 시간을 hoursNewestFirst[0]으로 기록
+     *
+     * @param window 랭킹 구간
+     * @param hoursNewestFirst 구간 시간 버킷 (최신순)
+     * @param decay 시간당 감쇠 가중치
+     */
+    void rebuildWindow(RankingWindow window, List<String> hoursNewestFirst, double decay);
+
+    /**
+     * 구간 TOP N 상품 조회 (ZREVRANGE 1회, O(log N + K))
+     *
+     * @param window 랭킹 구간
+     * @param topN 상위 몇 개
+     * @return 상위 N개 상품 (감쇠 적용 시 점수는 가중 합의 정수부)
+     */
+    List<RankingItem> getTopProducts(RankingWindow window, long topN);
+
     /**
      * TOP N 상품 조회 (상위 순위)
      *
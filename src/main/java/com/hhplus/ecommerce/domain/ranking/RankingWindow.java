@@ -0,0 +1,74 @@
+package com.hhplus.ecommerce.domain.ranking;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RankingWindow - 시간 창(sliding window) 랭킹 구간
+ *
+ * 설계:
+ * - 점수는 시간별 버킷 "ranking:hourly:{yyyyMMddHH}"에 누적
+ * - 창 랭킹은 마감된 최근 N개 시간 버킷의 합 (진행 중인 현재 시간은 제외)
+ * - 창별 집계 ZSET "ranking:window:{code}"를 시간 마감마다 갱신 → 조회는 ZREVRANGE 1회
+ */
+public enum RankingWindow {
+
+    LAST_24_HOURS("24h", 24),
+    LAST_3_DAYS("3d", 72),
+    LAST_7_DAYS("7d", 168);
+
+    private static final DateTimeFormatter HOUR_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMddHH");
+
+    private final String code;
+    private final int hours;
+
+    RankingWindow(String code, int hours) {
+        this.code = code;
+        this.hours = hours;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public int getHours() {
+        return hours;
+    }
+
+    /**
+     * 창에 포함되는 시간 버킷 (최신순)
+     *
+     * @param latestClosedHour 가장 최근에 마감된 시간 (정시로 절삭된 값)
+     * @return yyyyMMddHH 목록, 0번째가 latestClosedHour
+     */
+    public List<String> bucketHours(LocalDateTime latestClosedHour) {
+        List<String> buckets = new ArrayList<>(hours);
+        for (int age = 0; age < hours; age++) {
+            buckets.add(formatHour(latestClosedHour.minusHours(age)));
+        }
+        return buckets;
+    }
+
+    /**
+     * 시간 버킷 이름 (yyyyMMddHH)
+     */
+    public static String formatHour(LocalDateTime hour) {
+        return hour.format(HOUR_FORMATTER);
+    }
+
+    /**
+     * 코드("24h", "3d", "7d")로 창 조회
+     *
+     * @throws IllegalArgumentException 지원하지 않는 코드
+     */
+    public static RankingWindow fromCode(String code) {
+        for (RankingWindow window : values()) {
+            if (window.code.equalsIgnoreCase(code)) {
+                return window;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 랭킹 구간입니다: " + code);
+    }
+}
@@ -0,0 +1,19 @@
+package com.hhplus.ecommerce.domain.stock;
+
+import java.util.Set;
+
+/**
+ * HotStockItemRepository - Domain 계층 (Port)
+ *
+ * 재고 분할 대상(핫 아이템) 지정 저장소
+ * - 모든 인스턴스가 같은 지정을 읽어야 분할/병합 판단이 엇갈리지 않음
+ * - Infrastructure의 RedisHotStockItemRepository가 Adapter (구현)
+ */
+public interface HotStockItemRepository {
+
+    Set<Long> findHotItemIds(StockBucketType itemType);
+
+    void add(StockBucketType itemType, Long itemId);
+
+    void remove(StockBucketType itemType, Long itemId);
+}
@@ -0,0 +1,97 @@
+package com.hhplus.ecommerce.domain.stock;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * StockBucket 도메인 엔티티
+ * 핫 아이템(선착순 쿠폰, 인기 옵션)의 재고를 K개 행으로 나눠 보관
+ *
+ * 목적:
+ * - 단일 재고 행(coupons.remaining_qty, product_options.stock)의 행 락 경합 분산
+ * - 차감은 임의 버킷 1개 행에서만 일어나므로 최대 K개 트랜잭션이 동시에 진행 가능
+ *
+ * 재고 보존 규칙:
+ * - 분할 시 원본 행의 재고를 버킷으로 "이동" (원본 감소 + 버킷 생성을 한 트랜잭션으로)
+ * - 원본 행 재고 + Σ버킷 재고 = 분할 전 재고 (초과 판매 없음)
+ * - 병합 시 Σ버킷 재고를 원본 행으로 되돌리고 버킷 삭제
+ * - quantity는 조건부 UPDATE(quantity >= ?)로만 감소 → 음수 불가
+ *
+ * UNIQUE(item_type, item_id, bucket_no)
+ */
+@Entity
+@Table(name = "stock_buckets", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"item_type", "item_id", "bucket_no"})
+})
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockBucket {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "bucket_id")
+    private Long bucketId;
+
+    @Column(name = "item_type", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private StockBucketType itemType;
+
+    @Column(name = "item_id", nullable = false)
+    private Long itemId;
+
+    @Column(name = "bucket_no", nullable = false)
+    private Integer bucketNo;
+
+    @Column(name = "quantity", nullable = false)
+    private Integer quantity;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * 버킷 생성 팩토리 메서드
+     *
+     * @param itemType 재고 대상 유형
+     * @param itemId 쿠폰 ID 또는 옵션 ID
+     * @param bucketNo 버킷 번호 (0 ~ K-1)
+     * @param quantity 초기 수량 (0 이상)
+     */
+    public static StockBucket create(StockBucketType itemType, Long itemId, int bucketNo, int quantity) {
+        if (quantity < 0) {
+            throw new IllegalArgumentException("버킷 수량은 0 이상이어야 합니다: " + quantity);
+        }
+        return StockBucket.builder()
+                .itemType(itemType)
+                .itemId(itemId)
+                .bucketNo(bucketNo)
+                .quantity(quantity)
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * 버킷 수량 추가 (이미 분할된 아이템을 다시 분할할 때)
+     */
+    public void add(int quantity) {
+        if (quantity < 0) {
+            throw new IllegalArgumentException("추가 수량은 0 이상이어야 합니다: " + quantity);
+        }
+        this.quantity += quantity;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 버킷 수량 차감 (락을 잡은 버킷들에 걸쳐 차감할 때)
+     *
+     * @return 실제 차감한 수량 (보유 수량 이하)
+     */
+    public int take(int quantity) {
+        int taken = Math.min(this.quantity, quantity);
+        this.quantity -= taken;
+        this.updatedAt = LocalDateTime.now();
+        return taken;
+    }
+}
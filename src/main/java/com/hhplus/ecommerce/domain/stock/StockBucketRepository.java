@@ -0,0 +1,53 @@
+package com.hhplus.ecommerce.domain.stock;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * StockBucketRepository - Domain 계층 (Port)
+ *
+ * 재고 버킷 행 저장소
+ * - Infrastructure의 MySQLStockBucketRepository가 Adapter (구현)
+ */
+public interface StockBucketRepository {
+
+    /**
+     * 아이템의 버킷 조회 (락 없음, 차감할 버킷 후보 선정용)
+     */
+    List<StockBucket> findByItem(StockBucketType itemType, Long itemId);
+
+    /**
+     * 아이템의 버킷을 비관적 락으로 조회 (bucket_no 오름차순으로 락 획득)
+     *
+     * 용도: 분할/병합, 단일 버킷으로 부족한 수량을 여러 버킷에 걸쳐 차감
+     */
+    List<StockBucket> findByItemForUpdate(StockBucketType itemType, Long itemId);
+
+    /**
+     * 조건부 원자적 차감
+     * UPDATE stock_buckets SET quantity = quantity - ? WHERE bucket_id = ? AND quantity >= ?
+     *
+     * @return 차감 성공 여부 (영향 행 1이면 성공)
+     */
+    boolean deduct(Long bucketId, int quantity);
+
+    /**
+     * 버킷이 있는 아이템 ID 조회 (분할 상태 판정용, 버킷 행은 로드하지 않음)
+     */
+    Set<Long> findStripedItemIds(StockBucketType itemType);
+
+    /**
+     * 아이템별 마지막 버킷 차감 시각 조회 (병합 쿨다운 판정용)
+     *
+     * @param itemIds 조회할 아이템 ID (핫 지정이 해제된 분할 아이템만)
+     * @return itemId → 버킷 updated_at 최댓값
+     */
+    Map<Long, LocalDateTime> findLastUpdatedAt(StockBucketType itemType, Collection<Long> itemIds);
+
+    List<StockBucket> saveAll(List<StockBucket> buckets);
+
+    void deleteAll(List<StockBucket> buckets);
+}
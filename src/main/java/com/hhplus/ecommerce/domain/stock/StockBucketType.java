@@ -0,0 +1,12 @@
+package com.hhplus.ecommerce.domain.stock;
+
+/**
+ * StockBucketType - 재고 버킷으로 분할할 수 있는 재고 대상
+ *
+ * - COUPON: coupons.remaining_qty
+ * - PRODUCT_OPTION: product_options.stock
+ */
+public enum StockBucketType {
+    COUPON,
+    PRODUCT_OPTION
+}
@@ -0,0 +1,99 @@
+package com.hhplus.ecommerce.infrastructure.cache;
+
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * AccessRecordingCache - 조회 히트/미스, 무효화를 CacheAccessObserver에 기록하는 데코레이터
+ *
+ * - get(key): 값이 없으면 미스
+ * - get(key, loader): 로더가 호출되면 미스 (@Cacheable(sync = true) 경로)
+ * - evict/clear: 무효화 1건 (키 단위/전체 구분 없음)
+ */
+public class AccessRecordingCache implements Cache {
+
+    private final Cache delegate;
+    private final CacheAccessObserver observer;
+
+    public AccessRecordingCache(Cache delegate, CacheAccessObserver observer) {
+        this.delegate = delegate;
+        this.observer = observer;
+    }
+
+    public Cache getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper wrapper = delegate.get(key);
+        observer.recordAccess(getName(), wrapper != null);
+        return wrapper;
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        T value = delegate.get(key, type);
+        observer.recordAccess(getName(), value != null);
+        return value;
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        AtomicBoolean loaded = new AtomicBoolean(false);
+        T value = delegate.get(key, () -> {
+            loaded.set(true);
+            return valueLoader.call();
+        });
+        observer.recordAccess(getName(), !loaded.get());
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+        observer.recordInvalidation(getName());
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = delegate.evictIfPresent(key);
+        observer.recordInvalidation(getName());
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+        observer.recordInvalidation(getName());
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = delegate.invalidate();
+        observer.recordInvalidation(getName());
+        return invalidated;
+    }
+}
@@ -0,0 +1,24 @@
+package com.hhplus.ecommerce.infrastructure.cache;
+
+/**
+ * 캐시 접근/무효화 관측 (캐시 계층 → TTL 조정 등 소비자)
+ *
+ * 관측 대상이 아닌 캐시 이름은 구현체가 무시
+ */
+public interface CacheAccessObserver {
+
+    /**
+     * 조회 1건 기록
+     *
+     * @param cacheName 캐시 이름
+     * @param hit 캐시 히트 여부 (미스면 원본 로드)
+     */
+    void recordAccess(String cacheName, boolean hit);
+
+    /**
+     * 무효화(evict/clear) 1건 기록
+     *
+     * @param cacheName 캐시 이름
+     */
+    void recordInvalidation(String cacheName);
+}
@@ -0,0 +1,22 @@
+package com.hhplus.ecommerce.infrastructure.cache;
+
+/**
+ * L1 캐시 무효화 전파 (다른 노드의 로컬 캐시 제거 요청)
+ */
+public interface CacheInvalidationPublisher {
+
+    /**
+     * 특정 키 무효화 전파
+     *
+     * @param cacheName 캐시 이름
+     * @param key 캐시 키 (문자열 변환 값)
+     */
+    void publishEvict(String cacheName, String key);
+
+    /**
+     * 캐시 전체 무효화 전파
+     *
+     * @param cacheName 캐시 이름
+     */
+    void publishClear(String cacheName);
+}
@@ -0,0 +1,184 @@
+package com.hhplus.ecommerce.infrastructure.cache;
+
+import com.hhplus.ecommerce.infrastructure.config.RedisKeyType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * CacheStampedeProtector - 캐시 스탬피드 방지 설정 및 노드 간 재계산 리스
+ *
+ * 대상 캐시(popularProducts, productList)를 StampedeProtectedCache로 감싸고
+ * 노드 간 공유가 필요한 작업(리스 획득/해제, 남은 TTL 조회)을 Redis로 처리
+ *
+ * - 리스: SET lock:cache:{cacheName}:{key} {노드 ID} NX PX → 한 노드만 원본 재계산
+ * - 리스 해제: 값이 자기 노드 ID일 때만 삭제 (재계산이 리스 TTL보다 길어 다른 노드가 잡은 리스를 지우지 않음)
+ * - 리스 대기: 리스를 못 잡은 노드는 L2에 값이 채워질 때까지 짧게 폴링, 시간 초과 시 직접 재계산
+ * - XFetch: 남은 TTL이 (재계산 시간 × beta × -ln(rand)) 이하이면 만료 전에 확률적으로 재계산
+ *
+ * 리스 관련 Redis 오류는 로깅 후 리스 없이 진행 (노드 내 중복 로드 방지는 유지)
+ */
+@Slf4j
+public class CacheStampedeProtector {
+
+    private static final long LEASE_POLL_INTERVAL_MS = 50;
+
+    /**
+     * KEYS[1]=리스 키, ARGV[1]=노드 ID
+     */
+    private static final RedisScript<Long> RELEASE_LEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end " +
+            "return 0",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Map<String, RedisKeyType> protectedCacheTypes;
+    private final boolean leaseEnabled;
+    private final long leaseWaitMs;
+    private final double beta;
+    private final long defaultRecomputeMs;
+    private final Function<RedisKeyType, Duration> ttlResolver;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    /**
+     * @param redisTemplate 리스/TTL 조회용 (String 직렬화)
+     * @param protectedCacheTypes 보호할 캐시 이름별 RedisKeyType (L2 TTL 기준)
+     * @param leaseEnabled 노드 간 재계산 리스 사용 여부
+     * @param leaseWaitMs 리스를 못 잡았을 때 다른 노드의 결과를 기다리는 최대 시간
+     * @param beta XFetch 가중치 (0이면 조기 갱신 없음, 클수록 일찍 갱신)
+     * @param defaultRecomputeMs 재계산 시간을 모르는 항목(다른 노드가 채운 값)의 추정 재계산 시간
+     * @param ttlResolver 재계산 직후 만료 시각 추정에 쓸 TTL (적응형 TTL이면 실제 쓰기 TTL 이하의 값)
+     */
+    public CacheStampedeProtector(RedisTemplate<String, String> redisTemplate,
+                                  Map<String, RedisKeyType> protectedCacheTypes,
+                                  boolean leaseEnabled,
+                                  long leaseWaitMs,
+                                  double beta,
+                                  long defaultRecomputeMs,
+                                  Function<RedisKeyType, Duration> ttlResolver) {
+        this.redisTemplate = redisTemplate;
+        this.protectedCacheTypes = Map.copyOf(protectedCacheTypes);
+        this.leaseEnabled = leaseEnabled;
+        this.leaseWaitMs = leaseWaitMs;
+        this.beta = beta;
+        this.defaultRecomputeMs = defaultRecomputeMs;
+        this.ttlResolver = ttlResolver;
+    }
+
+    /**
+     * 보호 대상 캐시면 StampedeProtectedCache로 감싸고, 아니면 그대로 반환
+     */
+    public Cache protect(Cache cache) {
+        RedisKeyType type = protectedCacheTypes.get(cache.getName());
+        if (type == null || type.getTtl() == null) {
+            return cache;
+        }
+        return new StampedeProtectedCache(cache, this, () -> ttlResolver.apply(type));
+    }
+
+    /**
+     * 재계산 리스 획득 (비활성화 또는 Redis 오류면 true → 리스 없이 재계산)
+     */
+    boolean tryAcquireLease(String cacheName, String key) {
+        if (!leaseEnabled) {
+            return true;
+        }
+        try {
+            Duration leaseTtl = RedisKeyType.LOCK_CACHE_FILL.getTtl();
+            Boolean acquired = redisTemplate.opsForValue()
+                    .setIfAbsent(leaseKey(cacheName, key), nodeId, leaseTtl);
+            return Boolean.TRUE.equals(acquired);
+        } catch (Exception e) {
+            log.warn("[CacheStampede] 리스 획득 실패, 리스 없이 재계산 - cache={}, key={}, error={}",
+                    cacheName, key, e.getMessage());
+            return true;
+        }
+    }
+
+    /**
+     * 재계산 리스 해제 - 자기 노드가 잡은 리스만 삭제 (실패 시 리스 TTL로 만료)
+     */
+    void releaseLease(String cacheName, String key) {
+        if (!leaseEnabled) {
+            return;
+        }
+        try {
+            redisTemplate.execute(RELEASE_LEASE_SCRIPT, List.of(leaseKey(cacheName, key)), nodeId);
+        } catch (Exception e) {
+            log.warn("[CacheStampede] 리스 해제 실패 (TTL로 만료됨) - cache={}, key={}, error={}",
+                    cacheName, key, e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드의 재계산 결과 대기 (L2 폴링)
+     *
+     * @return 채워진 값 (시간 초과면 null → 호출자가 직접 재계산)
+     */
+    Object awaitOtherNode(Supplier<Cache.ValueWrapper> lookup) {
+        long deadline = System.currentTimeMillis() + leaseWaitMs;
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(LEASE_POLL_INTERVAL_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            Cache.ValueWrapper wrapper = lookup.get();
+            if (wrapper != null && wrapper.get() != null) {
+                return wrapper.get();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * L2 항목의 남은 TTL (ms)
+     *
+     * @return 남은 TTL, 만료 없음이면 Long.MAX_VALUE, 키 없음/조회 실패면 -1
+     */
+    long remainingTtlMillis(String cacheName, String key) {
+        try {
+            // RedisCacheConfiguration 기본 키 접두사: {cacheName}::
+            Long ttl = redisTemplate.getExpire(cacheName + "::" + key, TimeUnit.MILLISECONDS);
+            if (ttl == null || ttl == -2) {
+                return -1;
+            }
+            return ttl == -1 ? Long.MAX_VALUE : ttl;
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+
+    /**
+     * XFetch 조기 갱신 판단
+     * now - recompute × beta × ln(rand) ≥ expiresAt
+     */
+    boolean shouldRefreshEarly(long now, long expiresAt, long recomputeMs) {
+        if (beta <= 0 || expiresAt == Long.MAX_VALUE) {
+            return false;
+        }
+        double random = ThreadLocalRandom.current().nextDouble();
+        double gap = recomputeMs * beta * -Math.log(random);
+        return now + gap >= expiresAt;
+    }
+
+    long getDefaultRecomputeMs() {
+        return defaultRecomputeMs;
+    }
+
+    private String leaseKey(String cacheName, String key) {
+        return RedisKeyType.LOCK_CACHE_FILL.buildKey(cacheName, key);
+    }
+}
@@ -0,0 +1,31 @@
+package com.hhplus.ecommerce.infrastructure.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 2단 캐시 계층별 히트/미스 통계 스냅샷
+ *
+ * - L1 미스 = L2 조회 횟수 (L2 히트 + L2 미스)
+ * - L2 미스 = 원본(DB) 로드 횟수
+ */
+@Getter
+@AllArgsConstructor
+public class CacheTierStatistics {
+    private final String cacheName;
+    private final long localHits;
+    private final long localMisses;
+    private final long redisHits;
+    private final long redisMisses;
+    private final long localSize;
+
+    public double getLocalHitRatio() {
+        long requests = localHits + localMisses;
+        return requests == 0 ? 0.0 : (double) localHits / requests;
+    }
+
+    public double getRedisHitRatio() {
+        long requests = redisHits + redisMisses;
+        return requests == 0 ? 0.0 : (double) redisHits / requests;
+    }
+}
@@ -0,0 +1,21 @@
+package com.hhplus.ecommerce.infrastructure.cache;
+
+/**
+ * 캐시 값 저장 형식 (VersionedCacheValueSerializer)
+ *
+ * 읽기는 형식과 무관하게 모두 지원하므로 캐시별 쓰기 형식을 바꿔도 캐시를 비울 필요 없음
+ */
+public enum CacheValueFormat {
+
+    /**
+     * 기존 형식: Jackson default typing JSON (모든 객체에 클래스명 포함, 봉투 없음)
+     * - 다형성 필드(Object, 인터페이스 타입)가 있는 값에 사용
+     */
+    TYPED_JSON,
+
+    /**
+     * 압축 형식: 버전 봉투 + 루트 타입 1회 기록 + 타입 정보 없는 Smile 본문 (+ 임계값 이상 LZ4)
+     * - 필드 타입이 구체 클래스인 응답 DTO에 사용
+     */
+    COMPACT
+}
@@ -0,0 +1,49 @@
+package com.hhplus.ecommerce.infrastructure.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Redis pub/sub L1 무효화 수신
+ *
+ * 다른 노드가 보낸 무효화 메시지로 자기 노드 L1만 제거 (L2는 발행 노드가 이미 제거)
+ */
+@Slf4j
+public class RedisCacheInvalidationListener implements MessageListener {
+
+    private final TwoTierRedisCacheManager cacheManager;
+    private final String nodeId;
+
+    public RedisCacheInvalidationListener(TwoTierRedisCacheManager cacheManager, String nodeId) {
+        this.cacheManager = cacheManager;
+        this.nodeId = nodeId;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        handle(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 무효화 메시지 처리 ({노드 ID}|{E|C}|{캐시 이름}|{키})
+     */
+    public void handle(String body) {
+        // 키에 구분자가 들어갈 수 있으므로 앞 3개만 분리
+        String[] parts = body.split("\\|", 4);
+        if (parts.length != 4) {
+            log.warn("[CacheInvalidation] 잘못된 무효화 메시지 무시 - body={}", body);
+            return;
+        }
+        if (nodeId.equals(parts[0])) {
+            return;
+        }
+        if (RedisCacheInvalidationPublisher.CLEAR.equals(parts[1])) {
+            cacheManager.clearLocal(parts[2]);
+        } else {
+            cacheManager.evictLocal(parts[2], parts[3]);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.hhplus.ecommerce.infrastructure.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.UUID;
+
+/**
+ * Redis pub/sub 기반 L1 무효화 전파
+ *
+ * 메시지 형식: {노드 ID}|{E: 키 제거, C: 전체 제거}|{캐시 이름}|{키}
+ * - 노드 ID로 자기 노드가 보낸 메시지는 수신 측에서 무시 (이미 로컬 제거 완료)
+ * - 발행 실패는 로깅만 함 (L2는 이미 제거됨, 다른 노드 L1은 L1 TTL로 만료)
+ */
+@Slf4j
+public class RedisCacheInvalidationPublisher implements CacheInvalidationPublisher {
+
+    /** 무효화 채널 */
+    public static final String CHANNEL = "cache:invalidation";
+
+    static final String EVICT = "E";
+    static final String CLEAR = "C";
+    static final String DELIMITER = "|";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public RedisCacheInvalidationPublisher(RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public void publishEvict(String cacheName, String key) {
+        publish(EVICT, cacheName, key);
+    }
+
+    @Override
+    public void publishClear(String cacheName) {
+        publish(CLEAR, cacheName, "");
+    }
+
+    private void publish(String type, String cacheName, String key) {
+        String message = String.join(DELIMITER, nodeId, type, cacheName, key);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, message);
+        } catch (Exception e) {
+            log.warn("[CacheInvalidation] 무효화 전파 실패 (L1 TTL로 만료됨) - cache={}, key={}, error={}",
+                    cacheName, key, e.getMessage());
+        }
+    }
+}
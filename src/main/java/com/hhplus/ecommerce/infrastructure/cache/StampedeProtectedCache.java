@@ -0,0 +1,281 @@
+package com.hhplus.ecommerce.infrastructure.cache;
+
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * StampedeProtectedCache - 캐시 채움 병합 + XFetch 조기 갱신 데코레이터
+ *
+ * 문제:
+ * - 인기 상품/상품 목록 캐시가 만료되는 순간 동시 요청이 모두 미스 → 모두 원본 재계산
+ *
+ * 해결 (@Cacheable(sync = true) 경로 = get(key, loader)):
+ * - 노드 내 병합: 키당 진행 중인 로드 1개, 나머지 요청은 같은 결과를 기다림
+ * - 노드 간 리스: 리스를 잡은 노드만 재계산, 나머지는 L2에 채워질 때까지 대기
+ * - XFetch: 히트 시 만료 임박 정도와 재계산 시간으로 확률적으로 만료 전 재계산
+ *   (당첨된 요청 1건만 재계산, 같은 키를 이미 재계산 중이면 기존 값 반환)
+ *   - 조기 갱신은 미스 로드와 별도 집합으로 추적 → 미스 로드가 값 없이 끝나는 조기 갱신에 합류하지 않음
+ *
+ * 만료 시각 추정:
+ * - 재계산 직후 만료 시각 = 완료 시각 + ttl 공급자 값 (적응형 TTL의 현재 최솟값)
+ * - 추정이 실제보다 이르면 그 시각에 L2 남은 TTL을 다시 읽어 보정 (늦게 추정하면 조기 갱신을 놓침)
+ *
+ * 지표: 키별 재계산 횟수, 병합된 대기 수, 조기 갱신 수
+ */
+public class StampedeProtectedCache implements Cache {
+
+    private static final long TTL_RECHECK_MS = 1000;
+
+    private final Cache delegate;
+    private final CacheStampedeProtector protector;
+    private final Supplier<Duration> ttl;
+
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final Map<String, EntryTiming> timings = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> recomputeCounts = new ConcurrentHashMap<>();
+    private final LongAdder coalescedLoads = new LongAdder();
+    private final LongAdder earlyRefreshes = new LongAdder();
+
+    public StampedeProtectedCache(Cache delegate, CacheStampedeProtector protector, Supplier<Duration> ttl) {
+        this.delegate = delegate;
+        this.protector = protector;
+        this.ttl = ttl;
+    }
+
+    public Cache getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(key, type);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String cacheKey = String.valueOf(key);
+        ValueWrapper cached = delegate.get(key);
+        if (cached != null && cached.get() != null) {
+            if (isRefreshDue(cacheKey)) {
+                Object refreshed = refreshEarly(key, cacheKey, valueLoader);
+                if (refreshed != null) {
+                    return (T) refreshed;
+                }
+            }
+            return (T) cached.get();
+        }
+        return (T) loadCoalesced(key, cacheKey, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+        timings.remove(String.valueOf(key));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+        timings.remove(String.valueOf(key));
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        timings.remove(String.valueOf(key));
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+        timings.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        timings.clear();
+        return delegate.invalidate();
+    }
+
+    /**
+     * 키별 재계산 횟수 스냅샷
+     */
+    public Map<String, Long> getRecomputeCounts() {
+        return recomputeCounts.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().sum()));
+    }
+
+    /**
+     * 진행 중인 로드에 합류한 요청 수 (재계산을 피한 수)
+     */
+    public long getCoalescedLoads() {
+        return coalescedLoads.sum();
+    }
+
+    /**
+     * XFetch로 만료 전에 재계산한 수
+     */
+    public long getEarlyRefreshes() {
+        return earlyRefreshes.sum();
+    }
+
+    /**
+     * 미스 로드 - 키당 1개만 실행, 나머지는 결과 대기
+     */
+    private Object loadCoalesced(Object key, String cacheKey, Callable<?> valueLoader) {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(cacheKey, mine);
+        if (existing != null) {
+            coalescedLoads.increment();
+            return await(key, existing);
+        }
+        try {
+            Object value = loadWithLease(key, cacheKey, valueLoader);
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(cacheKey, mine);
+        }
+    }
+
+    /**
+     * XFetch 조기 갱신 - 같은 키가 로드/재계산 중이거나 다른 노드가 리스를 잡았으면 건너뜀
+     * (inFlight에 넣지 않음: 건너뛰거나 실패하면 결과가 없으므로 미스 로드가 기다릴 대상이 아님)
+     *
+     * @return 갱신된 값 (건너뛰면 null → 호출자가 기존 값 반환)
+     */
+    private Object refreshEarly(Object key, String cacheKey, Callable<?> valueLoader) {
+        if (inFlight.containsKey(cacheKey) || !refreshing.add(cacheKey)) {
+            return null;
+        }
+        try {
+            if (!protector.tryAcquireLease(getName(), cacheKey)) {
+                return null;
+            }
+            try {
+                earlyRefreshes.increment();
+                return recompute(key, cacheKey, valueLoader);
+            } finally {
+                protector.releaseLease(getName(), cacheKey);
+            }
+        } catch (RuntimeException e) {
+            // 조기 갱신 실패는 기존 값으로 응답 (만료 전이므로 값이 유효함)
+            return null;
+        } finally {
+            refreshing.remove(cacheKey);
+        }
+    }
+
+    private Object loadWithLease(Object key, String cacheKey, Callable<?> valueLoader) {
+        boolean leased = protector.tryAcquireLease(getName(), cacheKey);
+        if (!leased) {
+            Object filled = protector.awaitOtherNode(() -> delegate.get(key));
+            if (filled != null) {
+                return filled;
+            }
+        }
+        try {
+            return recompute(key, cacheKey, valueLoader);
+        } finally {
+            if (leased) {
+                protector.releaseLease(getName(), cacheKey);
+            }
+        }
+    }
+
+    private Object recompute(Object key, String cacheKey, Callable<?> valueLoader) {
+        long startedAt = System.currentTimeMillis();
+        Object value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        long finishedAt = System.currentTimeMillis();
+        delegate.put(key, value);
+        timings.put(cacheKey, new EntryTiming(finishedAt + ttl.get().toMillis(), finishedAt - startedAt));
+        recomputeCounts.computeIfAbsent(cacheKey, k -> new LongAdder()).increment();
+        return value;
+    }
+
+    /**
+     * XFetch 판단 - 만료 시각을 모르거나 지났으면 L2의 남은 TTL로 갱신 후 판단
+     * (다른 노드가 채운 값은 재계산 시간을 모르므로 기본 추정치 사용)
+     */
+    private boolean isRefreshDue(String cacheKey) {
+        long now = System.currentTimeMillis();
+        EntryTiming timing = timings.get(cacheKey);
+        if (timing == null || now >= timing.expiresAt) {
+            long remaining = protector.remainingTtlMillis(getName(), cacheKey);
+            if (remaining < 0) {
+                // L2에 없거나 조회 실패 → 잠시 뒤 다시 확인 (히트마다 TTL 조회 방지)
+                timings.put(cacheKey, new EntryTiming(now + TTL_RECHECK_MS, 0));
+                return false;
+            }
+            long recomputeMs = timing != null ? timing.recomputeMs : protector.getDefaultRecomputeMs();
+            long expiresAt = remaining == Long.MAX_VALUE ? Long.MAX_VALUE : now + remaining;
+            timing = new EntryTiming(expiresAt, recomputeMs);
+            timings.put(cacheKey, timing);
+        }
+        return protector.shouldRefreshEarly(now, timing.expiresAt, timing.recomputeMs);
+    }
+
+    private Object await(Object key, CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new ValueRetrievalException(key, null, e.getCause());
+        }
+    }
+
+    /**
+     * 항목 만료 시각과 마지막 재계산 소요 시간
+     */
+    private static final class EntryTiming {
+        private final long expiresAt;
+        private final long recomputeMs;
+
+        private EntryTiming(long expiresAt, long recomputeMs) {
+            this.expiresAt = expiresAt;
+            this.recomputeMs = recomputeMs;
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.hhplus.ecommerce.infrastructure.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * TwoTierCache - 로컬 Caffeine(L1) + Redis(L2) 2단 캐시
+ *
+ * 조회: L1 → L2 → (미스) 원본 로드
+ * - L2 히트 값은 L1에 채움 → 핫 키는 네트워크 왕복 없이 반환
+ *
+ * L1 값 격리:
+ * - 캐시 DTO는 가변 객체 → 같은 인스턴스를 공유하면 한 호출자의 수정이 L1과 다른 요청에 그대로 보임
+ * - L1에는 직렬화된 바이트만 보관하고 조회마다 새 객체로 역직렬화 (저장 시점 이후의 수정도 반영되지 않음)
+ *
+ * 저장(put): L2 + 자기 노드 L1
+ * - @Cacheable 미스 채움이 대부분이고 다른 노드의 L1은 무효화 시 이미 비워졌으므로 전파하지 않음
+ *
+ * 무효화(evict/clear): L2 + 자기 노드 L1 제거 후 pub/sub으로 다른 노드 L1 제거 요청
+ *
+ * L1 키는 Redis 캐시 키와 같이 문자열로 변환해 사용 (Long 1과 "1"을 같은 키로 취급)
+ */
+public class TwoTierCache implements Cache {
+
+    private final String name;
+    private final Cache redisCache;
+    private final com.github.benmanes.caffeine.cache.Cache<String, byte[]> localCache;
+    private final RedisSerializer<Object> localValueSerializer;
+    private final CacheInvalidationPublisher invalidationPublisher;
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder localMisses = new LongAdder();
+    private final LongAdder redisHits = new LongAdder();
+    private final LongAdder redisMisses = new LongAdder();
+
+    public TwoTierCache(Cache redisCache,
+                        com.github.benmanes.caffeine.cache.Cache<String, byte[]> localCache,
+                        RedisSerializer<Object> localValueSerializer,
+                        CacheInvalidationPublisher invalidationPublisher) {
+        this.name = redisCache.getName();
+        this.redisCache = redisCache;
+        this.localCache = localCache;
+        this.localValueSerializer = localValueSerializer;
+        this.invalidationPublisher = invalidationPublisher;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return redisCache.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = toLocalKey(key);
+        byte[] localValue = localCache.getIfPresent(localKey);
+        if (localValue != null) {
+            localHits.increment();
+            return new SimpleValueWrapper(localValueSerializer.deserialize(localValue));
+        }
+        localMisses.increment();
+
+        ValueWrapper redisValue = redisCache.get(key);
+        if (redisValue == null || redisValue.get() == null) {
+            redisMisses.increment();
+            return null;
+        }
+        redisHits.increment();
+        putLocal(localKey, redisValue.get());
+        return redisValue;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper == null) {
+            return null;
+        }
+        Object value = wrapper.get();
+        if (type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("캐시 값 타입이 일치하지 않습니다: " + type.getName());
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+        // 로드 중복 방지(sync)는 L2 구현에 위임
+        T value = redisCache.get(key, valueLoader);
+        if (value != null) {
+            putLocal(toLocalKey(key), value);
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        redisCache.put(key, value);
+        if (value != null) {
+            putLocal(toLocalKey(key), value);
+        } else {
+            localCache.invalidate(toLocalKey(key));
+        }
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = redisCache.putIfAbsent(key, value);
+        Object current = existing != null ? existing.get() : value;
+        if (current != null) {
+            putLocal(toLocalKey(key), current);
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        redisCache.evict(key);
+        evictLocal(toLocalKey(key));
+        invalidationPublisher.publishEvict(name, toLocalKey(key));
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = redisCache.evictIfPresent(key);
+        evictLocal(toLocalKey(key));
+        invalidationPublisher.publishEvict(name, toLocalKey(key));
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        redisCache.clear();
+        clearLocal();
+        invalidationPublisher.publishClear(name);
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = redisCache.invalidate();
+        clearLocal();
+        invalidationPublisher.publishClear(name);
+        return invalidated;
+    }
+
+    /**
+     * 자기 노드 L1에서만 제거 (다른 노드의 무효화 메시지 수신 시)
+     */
+    public void evictLocal(String localKey) {
+        localCache.invalidate(localKey);
+    }
+
+    /**
+     * 자기 노드 L1 전체 제거 (다른 노드의 clear 메시지 수신 시)
+     */
+    public void clearLocal() {
+        localCache.invalidateAll();
+    }
+
+    /**
+     * 계층별 히트/미스 통계 스냅샷
+     */
+    public CacheTierStatistics getStatistics() {
+        return new CacheTierStatistics(name,
+                localHits.sum(), localMisses.sum(),
+                redisHits.sum(), redisMisses.sum(),
+                localCache.estimatedSize());
+    }
+
+    private void putLocal(String localKey, Object value) {
+        localCache.put(localKey, localValueSerializer.serialize(value));
+    }
+
+    private static String toLocalKey(Object key) {
+        return String.valueOf(key);
+    }
+}
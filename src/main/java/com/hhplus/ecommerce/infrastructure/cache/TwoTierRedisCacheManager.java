@@ -0,0 +1,169 @@
+package com.hhplus.ecommerce.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hhplus.ecommerce.infrastructure.config.RedisKeyType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * TwoTierRedisCacheManager - 로컬 Caffeine(L1) + RedisCacheManager(L2)
+ *
+ * 문제:
+ * - 모든 @Cacheable 조회가 Redis 왕복 + 타입 정보 포함 JSON 역직렬화
+ * - 쿠폰 목록, 상위 상품 상세 같은 핫 키는 같은 값을 요청마다 네트워크로 다시 읽음
+ *
+ * 해결:
+ * - RedisKeyType에 L1 크기/TTL이 정의된 캐시만 TwoTierCache로 감싸 L1 우선 조회
+ *   (L1은 직렬화된 복사본을 보관 → 조회마다 새 객체, 호출자 간 가변 DTO 공유 없음)
+ * - 그 외 캐시(장바구니, 재고 등 사용자별/쓰기 잦은 캐시)는 Redis 캐시 그대로 반환
+ * - @CacheEvict, CouponEventListener 등의 evict/clear는 Redis pub/sub으로 모든 노드 L1에 전파
+ *
+ * - 인기 상품/상품 목록은 CacheStampedeProtector로 감싸 채움 병합 + XFetch 조기 갱신
+ * - CacheAccessObserver가 있으면 모든 캐시의 히트/미스/무효화를 기록 (적응형 TTL 입력)
+ *   (스탬피드 보호 안쪽에서 기록 → 병합된 대기, XFetch 조기 갱신은 미스로 세지 않음)
+ *
+ * 통계: 캐시별 L1/L2 히트/미스(getStatistics()), 키별 재계산 횟수(getRecomputeCounts()), 주기적으로 로그 출력
+ */
+@Slf4j
+public class TwoTierRedisCacheManager implements CacheManager {
+
+    private final CacheManager redisCacheManager;
+    private final Map<String, RedisKeyType> localCacheTypes;
+    private final RedisSerializer<Object> localValueSerializer;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final CacheStampedeProtector stampedeProtector;
+    private final CacheAccessObserver accessObserver;
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+    /**
+     * @param redisCacheManager L2 캐시 매니저
+     * @param localCacheTypes 캐시 이름별 L1 설정 (RedisKeyType의 L1 크기/TTL), 없는 캐시는 L2만 사용
+     * @param localValueSerializer L1 복사본 직렬화 (타입 정보 포함, 역직렬화 시 원래 타입 복원 필요)
+     * @param invalidationPublisher L1 무효화 전파
+     * @param stampedeProtector 스탬피드 방지 대상 캐시를 감쌀 보호기 (null이면 미적용)
+     * @param accessObserver 캐시 접근/무효화 기록 대상 (null이면 미기록)
+     */
+    public TwoTierRedisCacheManager(CacheManager redisCacheManager,
+                                    Map<String, RedisKeyType> localCacheTypes,
+                                    RedisSerializer<Object> localValueSerializer,
+                                    CacheInvalidationPublisher invalidationPublisher,
+                                    CacheStampedeProtector stampedeProtector,
+                                    CacheAccessObserver accessObserver) {
+        this.redisCacheManager = redisCacheManager;
+        this.localCacheTypes = Map.copyOf(localCacheTypes);
+        this.localValueSerializer = localValueSerializer;
+        this.invalidationPublisher = invalidationPublisher;
+        this.stampedeProtector = stampedeProtector;
+        this.accessObserver = accessObserver;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache redisCache = redisCacheManager.getCache(name);
+        if (redisCache == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, cacheName -> {
+            Cache decorated = decorate(redisCache);
+            if (accessObserver != null) {
+                decorated = new AccessRecordingCache(decorated, accessObserver);
+            }
+            return stampedeProtector != null ? stampedeProtector.protect(decorated) : decorated;
+        });
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return redisCacheManager.getCacheNames();
+    }
+
+    /**
+     * 다른 노드 무효화 메시지 수신 - 자기 노드 L1에서 키 제거
+     */
+    public void evictLocal(String cacheName, String key) {
+        if (unwrap(caches.get(cacheName)) instanceof TwoTierCache twoTierCache) {
+            twoTierCache.evictLocal(key);
+        }
+    }
+
+    /**
+     * 다른 노드 무효화 메시지 수신 - 자기 노드 L1 전체 제거
+     */
+    public void clearLocal(String cacheName) {
+        if (unwrap(caches.get(cacheName)) instanceof TwoTierCache twoTierCache) {
+            twoTierCache.clearLocal();
+        }
+    }
+
+    /**
+     * L1을 사용하는 캐시별 계층 통계
+     */
+    public List<CacheTierStatistics> getStatistics() {
+        return caches.values().stream()
+                .map(this::unwrap)
+                .filter(TwoTierCache.class::isInstance)
+                .map(cache -> ((TwoTierCache) cache).getStatistics())
+                .toList();
+    }
+
+    /**
+     * 스탬피드 방지 캐시별 키 재계산 횟수
+     */
+    public Map<String, Map<String, Long>> getRecomputeCounts() {
+        return caches.values().stream()
+                .filter(StampedeProtectedCache.class::isInstance)
+                .map(StampedeProtectedCache.class::cast)
+                .collect(Collectors.toMap(Cache::getName, StampedeProtectedCache::getRecomputeCounts));
+    }
+
+    /**
+     * 계층별 히트율 주기 로그
+     */
+    @Scheduled(fixedRateString = "${cache.two-tier.stats-log-interval-ms:60000}")
+    public void logStatistics() {
+        for (CacheTierStatistics stats : getStatistics()) {
+            log.info("[TwoTierCache] cache={}, L1 hit={}/miss={} ({}%), L2 hit={}/miss={} ({}%), L1 size={}",
+                    stats.getCacheName(),
+                    stats.getLocalHits(), stats.getLocalMisses(), Math.round(stats.getLocalHitRatio() * 100),
+                    stats.getRedisHits(), stats.getRedisMisses(), Math.round(stats.getRedisHitRatio() * 100),
+                    stats.getLocalSize());
+        }
+        for (Cache cache : caches.values()) {
+            if (cache instanceof StampedeProtectedCache protectedCache) {
+                log.info("[TwoTierCache] cache={}, recompute={}, coalesced={}, earlyRefresh={}",
+                        protectedCache.getName(), protectedCache.getRecomputeCounts(),
+                        protectedCache.getCoalescedLoads(), protectedCache.getEarlyRefreshes());
+            }
+        }
+    }
+
+    private Cache unwrap(Cache cache) {
+        Cache unwrapped = cache instanceof StampedeProtectedCache protectedCache ? protectedCache.getDelegate() : cache;
+        return unwrapped instanceof AccessRecordingCache recordingCache ? recordingCache.getDelegate() : unwrapped;
+    }
+
+    private Cache decorate(Cache redisCache) {
+        RedisKeyType type = localCacheTypes.get(redisCache.getName());
+        if (type == null || type.getLocalCacheMaxSize() <= 0 || type.getLocalCacheTtl() == null) {
+            return redisCache;
+        }
+        com.github.benmanes.caffeine.cache.Cache<String, byte[]> localCache = Caffeine.newBuilder()
+                .maximumSize(type.getLocalCacheMaxSize())
+                .expireAfterWrite(type.getLocalCacheTtl())
+                .build();
+        return new TwoTierCache(redisCache, localCache, localValueSerializer, invalidationPublisher);
+    }
+}
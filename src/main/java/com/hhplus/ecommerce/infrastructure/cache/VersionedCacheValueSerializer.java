@@ -0,0 +1,224 @@
+package com.hhplus.ecommerce.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.extern.slf4j.Slf4j;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * VersionedCacheValueSerializer - 버전 봉투 기반 캐시 값 직렬화
+ *
+ * 문제:
+ * - default typing JSON은 중첩 객체마다 "@class": "com.hhplus...."를 기록
+ *   → 상품 목록/쿠폰 목록처럼 항목이 많은 값일수록 크기와 파싱 비용 증가
+ *
+ * 압축 형식(COMPACT) 레이아웃:
+ *   [0x00 매직][버전 1][플래그(bit0 = LZ4)][루트 타입 (UTF)][원본 길이 int (LZ4일 때)][Smile 본문]
+ * - 루트 타입은 1회만 기록 (컬렉션은 "java.util.List<요소 클래스>")
+ * - 본문은 타입 정보 없는 Smile(바이너리 JSON): 숫자는 텍스트 대신 가변 길이 정수,
+ *   반복되는 필드명은 백레퍼런스로 1회만 기록 → 목록 값에서 크기/파싱 비용 감소
+ * - 크기가 임계값 이상이면 본문을 추가로 LZ4 압축 (반복되는 문자열 값까지 줄임)
+ *
+ * 읽기 호환:
+ * - 첫 바이트가 매직이 아니면 기존 TYPED_JSON으로 해석 → 배포 중 형식이 섞여도 캐시 비우지 않음
+ * - 모르는 버전(새 버전 노드가 쓴 값), 찾을 수 없는 타입은 null 반환 → 캐시 미스로 처리되어 다시 채움
+ *
+ * 압축 형식으로 표현할 수 없는 값(이종 컬렉션, Map, 허용 패키지 밖 타입)은 TYPED_JSON으로 저장
+ */
+@Slf4j
+public class VersionedCacheValueSerializer implements RedisSerializer<Object> {
+
+    static final byte MAGIC = 0x00;
+    static final byte VERSION = 1;
+    static final byte FLAG_LZ4 = 0x01;
+
+    private static final String LIST_PREFIX = "java.util.List<";
+    private static final String SET_PREFIX = "java.util.Set<";
+    private static final String ALLOWED_PACKAGE = "com.hhplus.ecommerce.";
+
+    private static final LZ4Factory LZ4 = LZ4Factory.fastestInstance();
+
+    private final RedisSerializer<Object> typedJsonSerializer;
+    private final ObjectMapper compactMapper;
+    private final CacheValueFormat writeFormat;
+    private final int compressionThresholdBytes;
+    private final Map<String, JavaType> typeCache = new ConcurrentHashMap<>();
+
+    /**
+     * @param typedJsonSerializer 기존 형식 직렬화 (TYPED_JSON 쓰기 + 봉투 없는 값 읽기)
+     * @param writeFormat 쓰기 형식
+     * @param compressionThresholdBytes 이 크기 이상인 본문만 LZ4 압축 (0 이하면 압축 안 함)
+     */
+    public VersionedCacheValueSerializer(RedisSerializer<Object> typedJsonSerializer,
+                                         CacheValueFormat writeFormat,
+                                         int compressionThresholdBytes) {
+        this.typedJsonSerializer = typedJsonSerializer;
+        this.writeFormat = writeFormat;
+        this.compressionThresholdBytes = compressionThresholdBytes;
+        this.compactMapper = SmileMapper.builder()
+                .addModule(new JavaTimeModule())
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+                .build();
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        if (writeFormat == CacheValueFormat.COMPACT) {
+            String typeDescriptor = describe(value);
+            if (typeDescriptor != null) {
+                return serializeCompact(value, typeDescriptor);
+            }
+        }
+        return typedJsonSerializer.serialize(value);
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != MAGIC) {
+            return typedJsonSerializer.deserialize(bytes);
+        }
+        if (bytes.length < 3 || bytes[1] != VERSION) {
+            log.warn("[CacheCodec] 지원하지 않는 캐시 값 버전 - 캐시 미스로 처리: version={}",
+                    bytes.length > 1 ? bytes[1] : -1);
+            return null;
+        }
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes, 3, bytes.length - 3);
+            String typeDescriptor = readUtf(buffer);
+            byte[] body;
+            if ((bytes[2] & FLAG_LZ4) != 0) {
+                int originalLength = buffer.getInt();
+                LZ4FastDecompressor decompressor = LZ4.fastDecompressor();
+                body = new byte[originalLength];
+                decompressor.decompress(bytes, buffer.position(), body, 0, originalLength);
+            } else {
+                body = new byte[buffer.remaining()];
+                buffer.get(body);
+            }
+            return compactMapper.readValue(body, resolve(typeDescriptor));
+        } catch (IOException | RuntimeException e) {
+            // 배포 중 타입 변경/손상된 값 → 오류 대신 캐시 미스로 처리해 다시 채움
+            log.warn("[CacheCodec] 캐시 값 역직렬화 실패 - 캐시 미스로 처리: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private byte[] serializeCompact(Object value, String typeDescriptor) {
+        try {
+            byte[] body = compactMapper.writeValueAsBytes(value);
+            boolean compress = compressionThresholdBytes > 0 && body.length >= compressionThresholdBytes;
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(body.length + typeDescriptor.length() + 16);
+            DataOutputStream data = new DataOutputStream(out);
+            data.writeByte(MAGIC);
+            data.writeByte(VERSION);
+            data.writeByte(compress ? FLAG_LZ4 : 0);
+            data.writeUTF(typeDescriptor);
+            if (compress) {
+                LZ4Compressor compressor = LZ4.fastCompressor();
+                byte[] compressed = new byte[compressor.maxCompressedLength(body.length)];
+                int compressedLength = compressor.compress(body, 0, body.length, compressed, 0);
+                data.writeInt(body.length);
+                data.write(compressed, 0, compressedLength);
+            } else {
+                data.write(body);
+            }
+            data.flush();
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new SerializationException("캐시 값 직렬화 실패", e);
+        }
+    }
+
+    /**
+     * 루트 타입 기술자 (압축 형식으로 표현할 수 없으면 null)
+     */
+    private String describe(Object value) {
+        if (value instanceof Collection<?> collection) {
+            if (!(collection instanceof List<?>) && !(collection instanceof Set<?>)) {
+                return null;
+            }
+            String prefix = collection instanceof List<?> ? LIST_PREFIX : SET_PREFIX;
+            Class<?> elementType = null;
+            for (Object element : collection) {
+                if (element == null) {
+                    return null;
+                }
+                if (elementType == null) {
+                    elementType = element.getClass();
+                } else if (elementType != element.getClass()) {
+                    return null;
+                }
+            }
+            if (elementType == null) {
+                return prefix + ">";
+            }
+            return isAllowed(elementType) ? prefix + elementType.getName() + ">" : null;
+        }
+        return isAllowed(value.getClass()) ? value.getClass().getName() : null;
+    }
+
+    private JavaType resolve(String typeDescriptor) {
+        return typeCache.computeIfAbsent(typeDescriptor, descriptor -> {
+            TypeFactory typeFactory = compactMapper.getTypeFactory();
+            if (descriptor.startsWith(LIST_PREFIX) || descriptor.startsWith(SET_PREFIX)) {
+                boolean list = descriptor.startsWith(LIST_PREFIX);
+                String elementName = descriptor.substring((list ? LIST_PREFIX : SET_PREFIX).length(),
+                        descriptor.length() - 1);
+                Class<?> elementType = elementName.isEmpty() ? Object.class : loadAllowed(elementName);
+                return list
+                        ? typeFactory.constructCollectionType(List.class, elementType)
+                        : typeFactory.constructCollectionType(Set.class, elementType);
+            }
+            return typeFactory.constructType(loadAllowed(descriptor));
+        });
+    }
+
+    private Class<?> loadAllowed(String className) {
+        if (!className.startsWith(ALLOWED_PACKAGE)) {
+            throw new SerializationException("허용되지 않은 캐시 값 타입입니다: " + className);
+        }
+        try {
+            return Class.forName(className, false, getClass().getClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new SerializationException("캐시 값 타입을 찾을 수 없습니다: " + className, e);
+        }
+    }
+
+    private static boolean isAllowed(Class<?> type) {
+        return type.getName().startsWith(ALLOWED_PACKAGE);
+    }
+
+    private static String readUtf(ByteBuffer buffer) {
+        int length = buffer.getShort() & 0xFFFF;
+        byte[] utf = new byte[length];
+        buffer.get(utf);
+        // 타입 기술자는 ASCII 클래스명이므로 modified UTF-8 = UTF-8
+        return new String(utf, StandardCharsets.UTF_8);
+    }
+}
@@ -1,7 +1,20 @@
 package com.hhplus.ecommerce.infrastructure.config;
 
+import com.hhplus.ecommerce.infrastructure.cache.CacheAccessObserver;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+
 import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * AdaptiveTTLService - 상태별 동적 TTL 관리 서비스
@@ -20,9 +33,75 @@ import java.time.Duration;
  * - 쿠폰 요청: 보통 1-2분 이내 완료, 롤백 가능성 고려 30분
  * - 결제 상태: 보통 1-3분 이내 완료, 거래 타임아웃 기준 5분
  * - 락 상태: 매우 단기 (밀리초~초 단위), 데드락 방지 60초
+ *
+ * 적응형 TTL (getEffectiveTTL):
+ * - 키 패밀리(RedisKeyType)별 조회 히트/미스, 무효화 횟수를 관측 (캐시 계층, CouponQueueService 상태 조회)
+ * - 주기마다(recompute) 구간 관측치로 배율 결정 → 기본 TTL × 배율, 이전 배율과 평활화해 급변 방지
+ *   - 표본 부족: 배율 1 (기본 TTL)
+ *   - 무효화 비율(무효화/조회) ≥ volatile: 최소 배율 (어차피 곧 무효화될 값은 짧게)
+ *   - 무효화 비율 ≤ stable 이고 히트율 ≥ hot: 최대 배율 (자주 읽히고 거의 안 바뀌는 값은 길게)
+ *     단, 기동 후 무효화가 한 번이라도 관측된 패밀리만 해당
+ *     → 무효화 경로가 없는 캐시(popularProducts, productDetail 등)는 무효화 0건이 "안 바뀜"이 아니라
+ *       "변경을 알 수 없음"이므로, 히트율만으로 TTL을 늘리지 않고 기본 TTL 유지
+ *   - 그 외: 배율 1
+ * - STATE 키는 기본 TTL 아래로 줄이지 않음 (요청 상태는 클라이언트가 조회할 때까지 남아 있어야 함)
+ * - 쓰기마다 ±jitter 비율만큼 무작위 가감 → 같은 시각에 채워진 키가 동시에 만료되지 않음
+ *
+ * getTTL 등 기존 메서드는 정책상 기본 TTL을 그대로 반환
  */
+@Slf4j
 @Service
-public class AdaptiveTTLService {
+public class AdaptiveTTLService implements CacheAccessObserver {
+
+    private final boolean adaptiveEnabled;
+    private final double minFactor;
+    private final double maxFactor;
+    private final double jitterRatio;
+    private final long minSamples;
+    private final double hotHitRatio;
+    private final double stableInvalidationRatio;
+    private final double volatileInvalidationRatio;
+    private final double smoothing;
+
+    private final Map<RedisKeyType, FamilyStats> families = new EnumMap<>(RedisKeyType.class);
+    private final Map<String, RedisKeyType> cacheFamilies = new ConcurrentHashMap<>();
+
+    /**
+     * @param adaptiveEnabled false면 getEffectiveTTL이 기본 TTL(지터만 적용) 반환
+     * @param minFactor 기본 TTL 대비 최소 배율
+     * @param maxFactor 기본 TTL 대비 최대 배율
+     * @param jitterRatio 쓰기마다 더하거나 빼는 최대 비율 (0.1 → ±10%)
+     * @param minSamples 배율을 바꾸기 위한 구간 최소 조회 수
+     * @param hotHitRatio 늘릴 대상 히트율 하한
+     * @param stableInvalidationRatio 늘릴 대상 무효화 비율 상한
+     * @param volatileInvalidationRatio 줄일 대상 무효화 비율 하한
+     * @param smoothing 새 목표 배율 반영 비율 (1이면 즉시 반영)
+     */
+    public AdaptiveTTLService(
+            @Value("${cache.adaptive-ttl.enabled:true}") boolean adaptiveEnabled,
+            @Value("${cache.adaptive-ttl.min-factor:0.5}") double minFactor,
+            @Value("${cache.adaptive-ttl.max-factor:4.0}") double maxFactor,
+            @Value("${cache.adaptive-ttl.jitter-ratio:0.1}") double jitterRatio,
+            @Value("${cache.adaptive-ttl.min-samples:100}") long minSamples,
+            @Value("${cache.adaptive-ttl.hot-hit-ratio:0.8}") double hotHitRatio,
+            @Value("${cache.adaptive-ttl.stable-invalidation-ratio:0.01}") double stableInvalidationRatio,
+            @Value("${cache.adaptive-ttl.volatile-invalidation-ratio:0.2}") double volatileInvalidationRatio,
+            @Value("${cache.adaptive-ttl.smoothing:0.5}") double smoothing) {
+        this.adaptiveEnabled = adaptiveEnabled;
+        this.minFactor = minFactor;
+        this.maxFactor = maxFactor;
+        this.jitterRatio = jitterRatio;
+        this.minSamples = minSamples;
+        this.hotHitRatio = hotHitRatio;
+        this.stableInvalidationRatio = stableInvalidationRatio;
+        this.volatileInvalidationRatio = volatileInvalidationRatio;
+        this.smoothing = smoothing;
+        for (RedisKeyType keyType : RedisKeyType.values()) {
+            if (keyType.getTtl() != null) {
+                families.put(keyType, new FamilyStats());
+            }
+        }
+    }
 
     /**
      * 상태 키의 타입에 따라 적절한 TTL을 반환
@@ -109,10 +188,7 @@ public class AdaptiveTTLService {
     /**
      * 동적 TTL 조정 (사용 패턴 변화에 대응)
      *
-     * 현재는 고정 TTL을 반환하지만, 향후 다음 요소를 고려하여 동적 조정 가능:
-     * - 시간대별 트래픽 패턴
-     * - 시스템 부하
-     * - Redis 메모리 사용률
+     * 호출자가 부하 값을 직접 넘기는 방식 (관측 기반 조정은 getEffectiveTTL 사용)
      *
      * @param keyType RedisKeyType
      * @param systemLoadFactor 시스템 부하 (0.0 ~ 1.0)
@@ -133,6 +209,158 @@ public class AdaptiveTTLService {
         return baseTTL;
     }
 
+    /**
+     * 캐시 이름을 키 패밀리에 연결 (CacheConfig에서 캐시 설정 시 등록)
+     */
+    public void registerCacheFamily(String cacheName, RedisKeyType keyType) {
+        if (families.containsKey(keyType)) {
+            cacheFamilies.put(cacheName, keyType);
+        }
+    }
+
+    /**
+     * RedisCacheManager용 TTL 함수 - 캐시 값을 쓸 때마다 적응형 TTL 계산
+     */
+    public RedisCacheWriter.TtlFunction ttlFunction(RedisKeyType keyType) {
+        return (key, value) -> getEffectiveTTL(keyType);
+    }
+
+    @Override
+    public void recordAccess(String cacheName, boolean hit) {
+        RedisKeyType keyType = cacheFamilies.get(cacheName);
+        if (keyType != null) {
+            recordAccess(keyType, hit);
+        }
+    }
+
+    @Override
+    public void recordInvalidation(String cacheName) {
+        RedisKeyType keyType = cacheFamilies.get(cacheName);
+        if (keyType != null) {
+            recordInvalidation(keyType);
+        }
+    }
+
+    /**
+     * 키 패밀리 조회 1건 기록 (TTL 없는 키는 무시)
+     */
+    public void recordAccess(RedisKeyType keyType, boolean hit) {
+        FamilyStats stats = families.get(keyType);
+        if (stats != null) {
+            (hit ? stats.hits : stats.misses).increment();
+        }
+    }
+
+    /**
+     * 키 패밀리 무효화 1건 기록 (TTL 없는 키는 무시)
+     */
+    public void recordInvalidation(RedisKeyType keyType) {
+        FamilyStats stats = families.get(keyType);
+        if (stats != null) {
+            stats.invalidations.increment();
+            stats.invalidationObserved = true;
+        }
+    }
+
+    /**
+     * 쓰기 시 적용할 TTL = 기본 TTL × 현재 배율 ± 지터
+     *
+     * @return 적응형 TTL, TTL 없는 키는 null
+     */
+    public Duration getEffectiveTTL(RedisKeyType keyType) {
+        Duration baseTTL = getTTL(keyType);
+        FamilyStats stats = families.get(keyType);
+        if (baseTTL == null || stats == null) {
+            return baseTTL;
+        }
+        double factor = adaptiveEnabled ? stats.factor : 1.0;
+        double jitter = jitterRatio > 0 ? ThreadLocalRandom.current().nextDouble(-jitterRatio, jitterRatio) : 0;
+        double applied = Math.max(factor * (1 + jitter), floorFactor(keyType));
+        return Duration.ofMillis(Math.max(1, Math.round(baseTTL.toMillis() * applied)));
+    }
+
+    /**
+     * 지터를 뺀 최소 적응형 TTL = 기본 TTL × 현재 배율 × (1 − 지터 비율)
+     * - 실제 쓰기 TTL보다 길지 않으므로 만료 시각 추정에 사용 (StampedeProtectedCache XFetch)
+     *
+     * @return 최소 적응형 TTL, TTL 없는 키는 null
+     */
+    public Duration getMinEffectiveTTL(RedisKeyType keyType) {
+        Duration baseTTL = getTTL(keyType);
+        FamilyStats stats = families.get(keyType);
+        if (baseTTL == null || stats == null) {
+            return baseTTL;
+        }
+        double factor = adaptiveEnabled ? stats.factor : 1.0;
+        double applied = Math.max(factor * (1 - Math.max(jitterRatio, 0)), floorFactor(keyType));
+        return Duration.ofMillis(Math.max(1, Math.round(baseTTL.toMillis() * applied)));
+    }
+
+    /**
+     * 구간 관측치로 패밀리별 배율 재계산 (구간 카운터는 초기화)
+     */
+    @Scheduled(fixedDelayString = "${cache.adaptive-ttl.recompute-interval-ms:60000}")
+    public void recompute() {
+        families.forEach((keyType, stats) -> {
+            long hits = stats.hits.sumThenReset();
+            long misses = stats.misses.sumThenReset();
+            long invalidations = stats.invalidations.sumThenReset();
+            long accesses = hits + misses;
+            double hitRatio = accesses > 0 ? (double) hits / accesses : 0;
+            double invalidationRatio = accesses > 0 ? (double) invalidations / accesses : 0;
+
+            double target;
+            String reason;
+            if (accesses < minSamples) {
+                target = 1.0;
+                reason = "표본 부족";
+            } else if (invalidationRatio >= volatileInvalidationRatio) {
+                target = minFactor;
+                reason = "잦은 무효화";
+            } else if (invalidationRatio <= stableInvalidationRatio && hitRatio >= hotHitRatio) {
+                if (stats.invalidationObserved) {
+                    target = maxFactor;
+                    reason = "핫 + 변경 드묾";
+                } else {
+                    // 무효화 신호가 없는 캐시는 TTL 만료가 유일한 갱신 수단 → 늘리지 않음
+                    target = 1.0;
+                    reason = "무효화 신호 없음";
+                }
+            } else {
+                target = 1.0;
+                reason = "기본";
+            }
+            target = Math.max(target, floorFactor(keyType));
+
+            double previous = stats.factor;
+            double factor = previous + (target - previous) * smoothing;
+            stats.factor = factor;
+            stats.lastDecision = new TTLDecision(keyType.name(), getTTL(keyType),
+                    Duration.ofMillis(Math.round(getTTL(keyType).toMillis() * factor)), factor,
+                    hits, misses, invalidations, hitRatio, invalidationRatio, reason, LocalDateTime.now());
+            if (Math.abs(factor - previous) > 0.01) {
+                log.info("[AdaptiveTTL] key={}, factor {} → {} ({}), hit={}/miss={}, invalidation={}",
+                        keyType.name(), String.format("%.2f", previous), String.format("%.2f", factor),
+                        reason, hits, misses, invalidations);
+            }
+        });
+    }
+
+    /**
+     * 패밀리별 최근 TTL 결정 (한 번도 재계산하지 않은 패밀리는 기본 TTL)
+     */
+    public List<TTLDecision> getDecisions() {
+        return families.entrySet().stream()
+                .map(entry -> entry.getValue().lastDecision != null
+                        ? entry.getValue().lastDecision
+                        : TTLDecision.initial(entry.getKey().name(), getTTL(entry.getKey())))
+                .toList();
+    }
+
+    private static double floorFactor(RedisKeyType keyType) {
+        return keyType.getCategory() == RedisKeyCategory.STATE ? 1.0 : 0.0;
+    }
+
     /**
      * STATE 카테고리 키의 TTL 정보 DTO
      */
@@ -176,4 +404,99 @@ public class AdaptiveTTLService {
             );
         }
     }
+
+    /**
+     * 패밀리별 관측 카운터 (구간마다 초기화) + 현재 배율
+     * - invalidationObserved: 기동 후 무효화 관측 여부 (초기화하지 않음, TTL 연장 허용 조건)
+     */
+    private static class FamilyStats {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder invalidations = new LongAdder();
+        private volatile boolean invalidationObserved;
+        private volatile double factor = 1.0;
+        private volatile TTLDecision lastDecision;
+    }
+
+    /**
+     * 키 패밀리별 TTL 결정 DTO
+     */
+    public static class TTLDecision {
+        private final String keyName;
+        private final Duration baseTtl;
+        private final Duration effectiveTtl;
+        private final double factor;
+        private final long hits;
+        private final long misses;
+        private final long invalidations;
+        private final double hitRatio;
+        private final double invalidationRatio;
+        private final String reason;
+        private final LocalDateTime decidedAt;
+
+        public TTLDecision(String keyName, Duration baseTtl, Duration effectiveTtl, double factor,
+                           long hits, long misses, long invalidations,
+                           double hitRatio, double invalidationRatio,
+                           String reason, LocalDateTime decidedAt) {
+            this.keyName = keyName;
+            this.baseTtl = baseTtl;
+            this.effectiveTtl = effectiveTtl;
+            this.factor = factor;
+            this.hits = hits;
+            this.misses = misses;
+            this.invalidations = invalidations;
+            this.hitRatio = hitRatio;
+            this.invalidationRatio = invalidationRatio;
+            this.reason = reason;
+            this.decidedAt = decidedAt;
+        }
+
+        static TTLDecision initial(String keyName, Duration baseTtl) {
+            return new TTLDecision(keyName, baseTtl, baseTtl, 1.0, 0, 0, 0, 0, 0, "관측 전", null);
+        }
+
+        public String getKeyName() {
+            return keyName;
+        }
+
+        public Duration getBaseTtl() {
+            return baseTtl;
+        }
+
+        public Duration getEffectiveTtl() {
+            return effectiveTtl;
+        }
+
+        public double getFactor() {
+            return factor;
+        }
+
+        public long getHits() {
+            return hits;
+        }
+
+        public long getMisses() {
+            return misses;
+        }
+
+        public long getInvalidations() {
+            return invalidations;
+        }
+
+        public double getHitRatio() {
+            return hitRatio;
+        }
+
+        public double getInvalidationRatio() {
+            return invalidationRatio;
+        }
+
+        public String getReason() {
+            return reason;
+        }
+
+        public LocalDateTime getDecidedAt() {
+            return decidedAt;
+        }
+    }
 }
@@ -1,11 +1,13 @@
 package com.hhplus.ecommerce.infrastructure.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
 @EnableAsync
@@ -23,4 +25,53 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
-}
\ No newline at end of file
+
+    /**
+     * Outbox 릴레이 발행 전용 실행기 (OutboxPollingService)
+     * - 메시지 타입별 발행을 병렬 처리, 큐가 차면 호출 스레드에서 실행 (무제한 적재 방지)
+     */
+    @Bean(name = "outboxRelayExecutor")
+    public Executor outboxRelayExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(32);
+        executor.setThreadNamePrefix("outbox-relay-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Saga 독립 Step 동시 실행기 (OrderSagaOrchestrator)
+     * - Saga 1건당 최대 3개 Step 동시 실행 (재고/포인트/쿠폰), 각 Step이 DB 커넥션 1개 사용
+     * - 큐가 차면 호출 스레드에서 실행 → 순차 실행으로 자연스럽게 감속 (무제한 적재/거절 없음)
+     *
+     * 크기 산정 (Hikari 커넥션 풀 기준):
+     * - 스레드 1개 = 커넥션 1개 점유 → max-pool-size만큼 커넥션이 Step 실행에 묶일 수 있음
+     * - max-pool-size + 요청/리스너 스레드가 동시에 쓰는 커넥션 수 ≤ spring.datasource.hikari.maximum-pool-size
+     *   (Hikari 기본 10 → 기본값 8은 나머지 작업에 2개만 남김, 풀을 늘리거나 이 값을 줄여서 맞출 것)
+     * - 초과하면 Step 스레드가 커넥션을 기다리며 connection-timeout까지 막힘 (큐가 차지 않아 CallerRuns 감속도 걸리지 않음)
+     *
+     * 설정:
+     * - saga.parallel.core-pool-size (기본 8), saga.parallel.max-pool-size (기본 8)
+     * - saga.parallel.queue-capacity (기본 64): 초과분은 호출 스레드에서 실행
+     */
+    @Bean(name = "sagaStepExecutor")
+    public Executor sagaStepExecutor(@Value("${saga.parallel.core-pool-size:8}") int corePoolSize,
+                                     @Value("${saga.parallel.max-pool-size:8}") int maxPoolSize,
+                                     @Value("${saga.parallel.queue-capacity:64}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("saga-step-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
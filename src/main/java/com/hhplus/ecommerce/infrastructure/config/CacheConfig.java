@@ -3,8 +3,14 @@ package com.hhplus.ecommerce.infrastructure.config;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.hhplus.ecommerce.infrastructure.cache.CacheStampedeProtector;
+import com.hhplus.ecommerce.infrastructure.cache.CacheValueFormat;
+import com.hhplus.ecommerce.infrastructure.cache.RedisCacheInvalidationListener;
+import com.hhplus.ecommerce.infrastructure.cache.RedisCacheInvalidationPublisher;
+import com.hhplus.ecommerce.infrastructure.cache.TwoTierRedisCacheManager;
+import com.hhplus.ecommerce.infrastructure.cache.VersionedCacheValueSerializer;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.CacheManager;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -12,13 +18,17 @@ import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Redis 캐시 설정 (Phase 2: Redis 기반 분산 캐싱)
@@ -32,6 +42,11 @@ import java.util.Map;
  *
  * 3. 기존 기능 유지: 모든 캐시 기능 동일하게 동작
  *
+ * 4. 2단 캐시: 핫 캐시는 로컬 Caffeine(L1)을 먼저 조회하고 Redis(L2)로 폴백
+ *    - 무효화는 Redis pub/sub(cache:invalidation)으로 모든 노드 L1에 전파
+ *
+ * 5. 적응형 TTL: 캐시별 TTL은 AdaptiveTTLService가 관측한 히트율/무효화 빈도로 쓰기마다 결정
+ *
  * RedisCacheManager를 사용하여 Redis에서 캐시를 관리합니다.
  * 각 캐시별로 다른 TTL을 설정하여 성능 최적화를 달성합니다.
  *
@@ -55,6 +70,7 @@ import java.util.Map;
 public class CacheConfig {
 
     private final RedisConnectionFactory redisConnectionFactory;
+    private final AdaptiveTTLService adaptiveTTLService;
 
     /**
      * ObjectMapper 설정 (캐시 전용 - JSON 타입 정보 포함)
@@ -79,6 +95,13 @@ public class CacheConfig {
         return mapper;
     }
 
+    /**
+     * 기존 캐시 값 형식 (Jackson default typing JSON)
+     */
+    private RedisSerializer<Object> typedJsonSerializer() {
+        return new Jackson2JsonRedisSerializer<>(cacheObjectMapper(), Object.class);
+    }
+
     /**
      * 캐시 전용 RedisTemplate (JSON 직렬화)
      *
@@ -102,15 +125,15 @@ public class CacheConfig {
         // Key 직렬화 (String)
         StringRedisSerializer stringSerializer = new StringRedisSerializer();
 
-        // Value 직렬화 (Jackson JSON - 캐시 전용)
-        Jackson2JsonRedisSerializer<Object> jackson2JsonRedisSerializer =
-                new Jackson2JsonRedisSerializer<>(cacheObjectMapper(), Object.class);
+        // Value 직렬화 (Jackson JSON - 캐시 전용, 압축 형식 캐시 값도 읽기 가능)
+        RedisSerializer<Object> valueSerializer = new VersionedCacheValueSerializer(
+                typedJsonSerializer(), CacheValueFormat.TYPED_JSON, 0);
 
         // 캐시 전용으로 설정 (JSON 직렬화)
         template.setKeySerializer(stringSerializer);
-        template.setValueSerializer(jackson2JsonRedisSerializer);
+        template.setValueSerializer(valueSerializer);
         template.setHashKeySerializer(stringSerializer);
-        template.setHashValueSerializer(jackson2JsonRedisSerializer);
+        template.setHashValueSerializer(valueSerializer);
 
         template.afterPropertiesSet();
         return template;
@@ -150,7 +173,86 @@ public class CacheConfig {
     }
 
     /**
-     * 캐시 매니저 설정 (RedisCacheManager)
+     * L1 무효화 전파 (Redis pub/sub, 일반 용도 RedisTemplate 사용)
+     */
+    @Bean
+    public RedisCacheInvalidationPublisher cacheInvalidationPublisher() {
+        return new RedisCacheInvalidationPublisher(redisTemplate());
+    }
+
+    /**
+     * 캐시 매니저 (로컬 Caffeine L1 + Redis L2)
+     *
+     * L1 적용 캐시 (크기/TTL: RedisKeyType.getLocalCacheMaxSize()/getLocalCacheTtl()):
+     * - productDetail, productList, popularProducts
+     * - couponList / couponListCache (CouponService, CouponEventListener가 사용하는 이름)
+     * 그 외 캐시는 Redis 캐시만 사용
+     * L1 값은 L2와 같은 타입 포함 JSON 바이트로 보관 (조회마다 새 객체 → 가변 DTO 공유 방지)
+     *
+     * @param localCacheEnabled false면 모든 캐시가 Redis만 사용 (기존 동작)
+     * @return TwoTierRedisCacheManager
+     */
+    @Bean
+    public TwoTierRedisCacheManager cacheManager(
+            @Value("${cache.two-tier.enabled:true}") boolean localCacheEnabled,
+            @Value("${cache.codec.compact-caches:}")
+            String[] compactCaches,
+            @Value("${cache.codec.compression-threshold-bytes:1024}") int compressionThresholdBytes,
+            CacheStampedeProtector cacheStampedeProtector) {
+        Map<String, RedisKeyType> localCacheTypes = new HashMap<>();
+        if (localCacheEnabled) {
+            localCacheTypes.put(RedisKeyType.CACHE_PRODUCT_DETAIL_NAME, RedisKeyType.CACHE_PRODUCT_DETAIL);
+            localCacheTypes.put(RedisKeyType.CACHE_PRODUCT_LIST_NAME, RedisKeyType.CACHE_PRODUCT_LIST);
+            localCacheTypes.put(RedisKeyType.CACHE_POPULAR_PRODUCTS_NAME, RedisKeyType.CACHE_POPULAR_PRODUCTS);
+            localCacheTypes.put(RedisKeyType.CACHE_COUPON_LIST_NAME, RedisKeyType.CACHE_COUPON_LIST);
+            localCacheTypes.put("couponListCache", RedisKeyType.CACHE_COUPON_LIST);
+        }
+        return new TwoTierRedisCacheManager(redisCacheManager(Set.of(compactCaches), compressionThresholdBytes),
+                localCacheTypes, typedJsonSerializer(), cacheInvalidationPublisher(),
+                cacheStampedeProtector, adaptiveTTLService);
+    }
+
+    /**
+     * 캐시 스탬피드 방지 (popularProducts, productList - @Cacheable(sync = true) 경로)
+     *
+     * - 노드 내 키당 로드 1개 + 노드 간 Redis 리스로 재계산 1회
+     * - XFetch 조기 갱신: beta가 클수록 일찍 갱신 (0이면 미사용)
+     * - 만료 시각 추정은 고정 TTL이 아닌 적응형 TTL 기준 (AdaptiveTTLService.getMinEffectiveTTL)
+     *
+     * @param leaseEnabled 노드 간 재계산 리스 사용 여부
+     * @param leaseWaitMs 리스를 못 잡은 노드의 최대 대기 시간
+     * @param beta XFetch 가중치
+     * @param defaultRecomputeMs 재계산 시간을 모르는 항목의 추정 재계산 시간
+     */
+    @Bean
+    public CacheStampedeProtector cacheStampedeProtector(
+            @Value("${cache.stampede.lease-enabled:true}") boolean leaseEnabled,
+            @Value("${cache.stampede.lease-wait-ms:3000}") long leaseWaitMs,
+            @Value("${cache.stampede.xfetch-beta:1.0}") double beta,
+            @Value("${cache.stampede.default-recompute-ms:200}") long defaultRecomputeMs) {
+        Map<String, RedisKeyType> protectedCacheTypes = Map.of(
+                RedisKeyType.CACHE_POPULAR_PRODUCTS_NAME, RedisKeyType.CACHE_POPULAR_PRODUCTS,
+                RedisKeyType.CACHE_PRODUCT_LIST_NAME, RedisKeyType.CACHE_PRODUCT_LIST);
+        return new CacheStampedeProtector(redisTemplate(), protectedCacheTypes,
+                leaseEnabled, leaseWaitMs, beta, defaultRecomputeMs, adaptiveTTLService::getMinEffectiveTTL);
+    }
+
+    /**
+     * L1 무효화 메시지 수신 컨테이너
+     * 다른 노드의 evict/clear 메시지를 받아 자기 노드 L1만 제거
+     */
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(TwoTierRedisCacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(
+                new RedisCacheInvalidationListener(cacheManager, cacheInvalidationPublisher().getNodeId()),
+                new ChannelTopic(RedisCacheInvalidationPublisher.CHANNEL));
+        return container;
+    }
+
+    /**
+     * L2 캐시 매니저 설정 (RedisCacheManager)
      *
      * ✅ 개선: RedisKeyType enum을 사용하여 캐시 이름 및 TTL 관리
      *
@@ -163,10 +265,24 @@ public class CacheConfig {
      *
      * @CacheEvict로 캐시 무효화 시 Redis에서도 즉시 제거됩니다.
      *
+     * 위 TTL은 기준값이며, 실제 TTL은 AdaptiveTTLService.ttlFunction()이 쓰기마다 결정
+     * (기준값 × 관측 기반 배율 ± 지터, couponListCache는 couponList와 같은 패밀리)
+     *
+     * 값 형식 (VersionedCacheValueSerializer):
+     * - compactCaches에 포함된 캐시: COMPACT (루트 타입 1회 + 타입 정보 없는 Smile 본문, 임계값 이상 LZ4)
+     * - 그 외: 기존 TYPED_JSON
+     * - 읽기는 두 형식 모두 지원 → 목록을 바꿔 배포해도 캐시를 비울 필요 없음
+     *
+     * 배포 순서 (cache.codec.compact-caches 기본값은 빈 목록):
+     * 1. 읽기 지원만 담긴 이 버전을 모든 노드에 배포 (쓰기는 계속 TYPED_JSON)
+     * 2. 전체 배포가 끝난 뒤 설정으로 캐시 이름을 지정해 COMPACT 쓰기 시작
+     *    → 이전 버전 노드가 남아 있는 동안 COMPACT 값을 읽지 못해 역직렬화 오류가 나는 구간이 없음
+     *
+     * @param compactCaches 압축 형식으로 쓸 캐시 이름
+     * @param compressionThresholdBytes LZ4 압축 임계값 (바이트)
      * @return RedisCacheManager
      */
-    @Bean
-    public CacheManager cacheManager() {
+    private RedisCacheManager redisCacheManager(Set<String> compactCaches, int compressionThresholdBytes) {
         // 기본 캐시 설정 (TTL: 10분)
         RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
                 .entryTtl(Duration.ofMinutes(10))
@@ -177,37 +293,61 @@ public class CacheConfig {
                 )
                 .serializeValuesWith(
                         RedisSerializationContext.SerializationPair.fromSerializer(
-                                new Jackson2JsonRedisSerializer<>(cacheObjectMapper(), Object.class)
+                                new VersionedCacheValueSerializer(typedJsonSerializer(), CacheValueFormat.TYPED_JSON, 0)
                         )
                 )
                 .disableCachingNullValues();  // null 값 캐시 금지
+        RedisSerializationContext.SerializationPair<Object> compactValues =
+                RedisSerializationContext.SerializationPair.fromSerializer(new VersionedCacheValueSerializer(
+                        typedJsonSerializer(), CacheValueFormat.COMPACT, compressionThresholdBytes));
 
         // 캐시별 개별 설정
         Map<String, RedisCacheConfiguration> cacheConfigMap = new HashMap<>();
 
         // 상품 목록: RedisKeyType (TTL: 1시간)
-        cacheConfigMap.put(RedisKeyType.CACHE_PRODUCT_LIST_NAME, defaultConfig
-                .entryTtl(RedisKeyType.CACHE_PRODUCT_LIST.getTtl()));
+        cacheConfigMap.put(RedisKeyType.CACHE_PRODUCT_LIST_NAME, adaptiveTtlConfig(defaultConfig,
+                RedisKeyType.CACHE_PRODUCT_LIST_NAME, RedisKeyType.CACHE_PRODUCT_LIST));
 
         // 쿠폰 목록: RedisKeyType (TTL: 30분)
-        cacheConfigMap.put(RedisKeyType.CACHE_COUPON_LIST_NAME, defaultConfig
-                .entryTtl(RedisKeyType.CACHE_COUPON_LIST.getTtl()));
+        cacheConfigMap.put(RedisKeyType.CACHE_COUPON_LIST_NAME, adaptiveTtlConfig(defaultConfig,
+                RedisKeyType.CACHE_COUPON_LIST_NAME, RedisKeyType.CACHE_COUPON_LIST));
 
         // 상품 상세: RedisKeyType (TTL: 2시간)
-        cacheConfigMap.put(RedisKeyType.CACHE_PRODUCT_DETAIL_NAME, defaultConfig
-                .entryTtl(RedisKeyType.CACHE_PRODUCT_DETAIL.getTtl()));
+        cacheConfigMap.put(RedisKeyType.CACHE_PRODUCT_DETAIL_NAME, adaptiveTtlConfig(defaultConfig,
+                RedisKeyType.CACHE_PRODUCT_DETAIL_NAME, RedisKeyType.CACHE_PRODUCT_DETAIL));
 
         // 장바구니: RedisKeyType (TTL: 30분)
-        cacheConfigMap.put(RedisKeyType.CACHE_CART_ITEMS_NAME, defaultConfig
-                .entryTtl(RedisKeyType.CACHE_CART_ITEMS.getTtl()));
+        cacheConfigMap.put(RedisKeyType.CACHE_CART_ITEMS_NAME, adaptiveTtlConfig(defaultConfig,
+                RedisKeyType.CACHE_CART_ITEMS_NAME, RedisKeyType.CACHE_CART_ITEMS));
 
         // 인기 상품: RedisKeyType (TTL: 1시간)
-        cacheConfigMap.put(RedisKeyType.CACHE_POPULAR_PRODUCTS_NAME, defaultConfig
-                .entryTtl(RedisKeyType.CACHE_POPULAR_PRODUCTS.getTtl()));
+        cacheConfigMap.put(RedisKeyType.CACHE_POPULAR_PRODUCTS_NAME, adaptiveTtlConfig(defaultConfig,
+                RedisKeyType.CACHE_POPULAR_PRODUCTS_NAME, RedisKeyType.CACHE_POPULAR_PRODUCTS));
+
+        // 쿠폰 목록 (CouponService/CouponEventListener 캐시 이름): couponList와 같은 패밀리
+        cacheConfigMap.put("couponListCache", adaptiveTtlConfig(defaultConfig,
+                "couponListCache", RedisKeyType.CACHE_COUPON_LIST));
 
-        return RedisCacheManager.builder(redisConnectionFactory)
+        // 압축 형식 캐시 (개별 설정이 없는 캐시는 기본 설정 기준)
+        for (String cacheName : compactCaches) {
+            cacheConfigMap.put(cacheName, cacheConfigMap.getOrDefault(cacheName, defaultConfig)
+                    .serializeValuesWith(compactValues));
+        }
+
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(redisConnectionFactory)
                 .cacheDefaults(defaultConfig)
                 .withInitialCacheConfigurations(cacheConfigMap)
                 .build();
+        redisCacheManager.afterPropertiesSet();
+        return redisCacheManager;
+    }
+
+    /**
+     * 캐시 이름을 적응형 TTL 패밀리에 등록하고 TTL 함수 적용
+     */
+    private RedisCacheConfiguration adaptiveTtlConfig(RedisCacheConfiguration baseConfig,
+                                                      String cacheName, RedisKeyType keyType) {
+        adaptiveTTLService.registerCacheFamily(cacheName, keyType);
+        return baseConfig.entryTtl(adaptiveTTLService.ttlFunction(keyType));
     }
 }
@@ -2,8 +2,18 @@ package com.hhplus.ecommerce.infrastructure.config;
 
 import com.hhplus.ecommerce.domain.coupon.event.CouponIssueRequest;
 import com.hhplus.ecommerce.domain.order.event.OrderCompletedEvent;
+import com.hhplus.ecommerce.infrastructure.kafka.CouponStockLeaseRebalanceListener;
+import com.hhplus.ecommerce.infrastructure.kafka.codec.CouponIssueRequestCodec;
+import com.hhplus.ecommerce.infrastructure.kafka.codec.KafkaEventCodec;
+import com.hhplus.ecommerce.infrastructure.kafka.codec.KafkaWireFormat;
+import com.hhplus.ecommerce.infrastructure.kafka.codec.OrderCompletedEventCodec;
+import com.hhplus.ecommerce.infrastructure.kafka.codec.VersionedBinarySerializer;
+import com.hhplus.ecommerce.infrastructure.kafka.codec.WireFormatDeserializer;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.Serializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
@@ -13,13 +23,21 @@ import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.*;
 import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.ExponentialBackOffWithMaxRetries;
+import org.springframework.kafka.support.serializer.DelegatingByTypeSerializer;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 import org.springframework.kafka.support.serializer.JsonSerializer;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.common.config.TopicConfig;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Properties;
 
 /**
  * KafkaConfig - Kafka Producer/Consumer 설정
@@ -29,13 +47,20 @@ import java.util.Map;
  * - bootstrap-servers로 Kafka 브로커에 직접 연결
  *
  * Producer 설정:
- * - JSON 직렬화로 OrderCompletedEvent 객체 전송
+ * - OrderCompletedEvent 객체 전송 (형식: kafka.wire-format.order-events)
  * - acks=all: 모든 ISR 복제 완료 후 ack
  * - enable.idempotence=true: 멱등성 보장
  * - retries=3: 전송 실패 시 최대 3회 재시도
  *
+ * 메시지 형식 (토픽별, kafka.wire-format.*):
+ * - json (기본): Spring JsonSerializer
+ * - binary: 스키마 ID가 포함된 압축 바이너리 (codec 패키지)
+ * - Consumer는 설정과 무관하게 두 형식을 모두 읽음
+ *   → 전환 순서: Consumer 배포 → Producer 설정을 binary로 변경 (롤백은 역순 없이 json으로 되돌리면 됨)
+ *
  * Consumer 설정:
- * - JSON 역직렬화로 OrderCompletedEvent 객체 수신
+ * - JSON/바이너리 겸용 역직렬화로 OrderCompletedEvent / CouponIssueRequest 객체 수신
+ *   (ErrorHandlingDeserializer로 감싸 역직렬화 실패 레코드가 poll 루프를 멈추지 않음 → 에러 핸들러가 DLT로 격리)
  * - enable-auto-commit=false: 수동 커밋으로 at-least-once 보장
  * - auto-offset-reset=earliest: 처음부터 메시지 읽기
  * - Consumer Group: ecommerce-order-consumer-group
@@ -53,11 +78,17 @@ public class KafkaConfig {
     @Value("${kafka.consumer.coupon-group-id}")
     private String couponConsumerGroupId;
 
+    @Value("${kafka.wire-format.order-events:json}")
+    private String orderEventWireFormat;
+
+    @Value("${kafka.wire-format.coupon-issue-requests:json}")
+    private String couponIssueRequestWireFormat;
+
     /**
      * Kafka Producer 설정
      *
      * Key: String (orderId)
-     * Value: OrderCompletedEvent (JSON 직렬화)
+     * Value: OrderCompletedEvent (kafka.wire-format.order-events: json | binary)
      *
      * 주요 설정:
      * - acks=all: Leader + 모든 ISR Follower가 복제 완료 후 ack
@@ -71,7 +102,6 @@ public class KafkaConfig {
         Map<String, Object> configProps = new HashMap<>();
         configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
 
         // 안정성 설정
         configProps.put(ProducerConfig.ACKS_CONFIG, "all");
@@ -83,7 +113,11 @@ public class KafkaConfig {
         configProps.put(ProducerConfig.LINGER_MS_CONFIG, 10);
         configProps.put(ProducerConfig.BATCH_SIZE_CONFIG, 16384);
 
-        return new DefaultKafkaProducerFactory<>(configProps);
+        return new DefaultKafkaProducerFactory<>(
+            configProps,
+            new StringSerializer(),
+            valueSerializer(orderEventWireFormat, new OrderCompletedEventCodec())
+        );
     }
 
     /**
@@ -101,13 +135,15 @@ public class KafkaConfig {
      * Kafka Consumer 설정
      *
      * Key: String (orderId)
-     * Value: OrderCompletedEvent (JSON 역직렬화)
+     * Value: OrderCompletedEvent (JSON/바이너리 겸용 역직렬화)
      *
      * 주요 설정:
      * - group-id: ecommerce-order-consumer-group (Consumer Group)
      * - auto-offset-reset=earliest: 처음부터 메시지 읽기
      * - enable-auto-commit=false: 수동 커밋 (처리 성공 후 커밋)
      * - trusted.packages: JSON 역직렬화 보안 설정
+     * - ErrorHandlingDeserializer: 역직렬화 실패 시 예외 대신 값 null + 예외 헤더로 전달
+     *   (원본 바이트는 헤더에 보관 → DLT에 그대로 발행)
      */
     @Bean
     public ConsumerFactory<String, OrderCompletedEvent> consumerFactory() {
@@ -132,7 +168,9 @@ public class KafkaConfig {
         return new DefaultKafkaConsumerFactory<>(
             configProps,
             new StringDeserializer(),
-            new JsonDeserializer<>(OrderCompletedEvent.class)
+            new ErrorHandlingDeserializer<>(new WireFormatDeserializer<>(
+                List.<KafkaEventCodec<? extends OrderCompletedEvent>>of(new OrderCompletedEventCodec()),
+                new JsonDeserializer<>(OrderCompletedEvent.class)))
         );
     }
 
@@ -146,6 +184,7 @@ public class KafkaConfig {
      *   - Consumer에서 명시적으로 acknowledge() 호출 시에만 커밋
      *   - 메시지 처리 실패 시 재처리 보장 (at-least-once)
      * - concurrency=3: 3개의 Consumer 스레드로 병렬 처리
+     *   (초기값, kafka.autoscaling.enabled=true이면 ListenerConcurrencyAutoscaler가 Lag 기준으로 조절)
      */
     @Bean
     public ConcurrentKafkaListenerContainerFactory<String, OrderCompletedEvent> kafkaListenerContainerFactory() {
@@ -162,13 +201,70 @@ public class KafkaConfig {
         return factory;
     }
 
+    /**
+     * Order Event Batch Listener Container Factory
+     *
+     * OrderEventConsumer(주문 완료 이벤트 → data_platform_events) 배치 리스너용
+     *
+     * 주요 설정:
+     * - batchListener=true: poll() 결과를 List로 한 번에 전달 → 다건 INSERT 1회
+     * - max.poll.records: 배치 크기 (기본 500, 단건 팩토리는 10)
+     * - AckMode.MANUAL: 배치 저장 후에만 acknowledge()
+     * - concurrency=3: 단건 팩토리와 동일
+     * - DefaultErrorHandler: 지수 백오프로 재시도 후 DLT({토픽}.DLT)로 발행하고 다음 레코드로 진행
+     *   - 역직렬화 실패 (리스너가 BatchListenerFailedException으로 위치 지정, 원인 DeserializationException):
+     *     DeserializationException은 기본 재시도 제외 대상 → 재시도 없이 해당 레코드만 DLT
+     *   - 저장 실패 (그 외 예외): 배치 전체 재전달 재시도 → 소진 시 배치 레코드를 DLT로
+     *
+     * @param maxPollRecords 배치 크기
+     * @param retryIntervalMs 첫 재시도 간격 (이후 2배씩, 최대 10초)
+     * @param maxRetries DLT로 보내기 전 최대 재시도 횟수
+     */
+    @Bean(name = "orderEventBatchKafkaListenerContainerFactory")
+    public ConcurrentKafkaListenerContainerFactory<String, OrderCompletedEvent> orderEventBatchKafkaListenerContainerFactory(
+            @Value("${kafka.consumer.order-batch-max-poll-records:500}") int maxPollRecords,
+            @Value("${kafka.consumer.order-batch-retry-interval-ms:1000}") long retryIntervalMs,
+            @Value("${kafka.consumer.order-batch-max-retries:5}") int maxRetries) {
+        ConcurrentKafkaListenerContainerFactory<String, OrderCompletedEvent> factory =
+            new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory());
+        factory.setBatchListener(true);
+
+        // 배치 크기 (Consumer Factory의 max.poll.records=10을 덮어씀)
+        Properties consumerProperties = new Properties();
+        consumerProperties.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, String.valueOf(maxPollRecords));
+        factory.getContainerProperties().setKafkaConsumerProperties(consumerProperties);
+
+        // 수동 커밋 설정 (배치 저장 후 acknowledge)
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+
+        factory.setConcurrency(3);
+
+        // 재시도 소진 시 DLT 격리
+        factory.setCommonErrorHandler(deadLetterErrorHandler(orderEventDeadLetterKafkaTemplate(), retryIntervalMs, maxRetries));
+
+        return factory;
+    }
+
+    /**
+     * 주문 이벤트 DLT 발행용 KafkaTemplate (orderEventBatchKafkaListenerContainerFactory 에러 핸들러 전용)
+     *
+     * - 역직렬화 실패 레코드: 원본 byte[] 그대로 발행
+     * - 저장 실패 레코드: OrderCompletedEvent를 kafka.wire-format.order-events 형식으로 발행
+     */
+    @Bean
+    public KafkaTemplate<String, Object> orderEventDeadLetterKafkaTemplate() {
+        return deadLetterKafkaTemplate(OrderCompletedEvent.class,
+            valueSerializer(orderEventWireFormat, new OrderCompletedEventCodec()));
+    }
+
     // ===== Coupon Issue Request 설정 =====
 
     /**
      * Coupon Producer 설정
      *
      * Key: String (userId)
-     * Value: CouponIssueRequest (JSON 직렬화)
+     * Value: CouponIssueRequest (kafka.wire-format.coupon-issue-requests: json | binary)
      *
      * 주요 설정:
      * - userId를 Key로 사용하여 파티셔닝 (같은 사용자 요청은 같은 파티션)
@@ -180,7 +276,6 @@ public class KafkaConfig {
         Map<String, Object> configProps = new HashMap<>();
         configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
 
         // 안정성 설정
         configProps.put(ProducerConfig.ACKS_CONFIG, "all");
@@ -192,7 +287,11 @@ public class KafkaConfig {
         configProps.put(ProducerConfig.LINGER_MS_CONFIG, 10);
         configProps.put(ProducerConfig.BATCH_SIZE_CONFIG, 16384);
 
-        return new DefaultKafkaProducerFactory<>(configProps);
+        return new DefaultKafkaProducerFactory<>(
+            configProps,
+            new StringSerializer(),
+            valueSerializer(couponIssueRequestWireFormat, new CouponIssueRequestCodec())
+        );
     }
 
     /**
@@ -209,13 +308,15 @@ public class KafkaConfig {
      * Coupon Consumer 설정
      *
      * Key: String (userId)
-     * Value: CouponIssueRequest (JSON 역직렬화)
+     * Value: CouponIssueRequest (JSON/바이너리 겸용 역직렬화)
      *
      * 주요 설정:
      * - group-id: ecommerce-coupon-consumer-group (Consumer Group)
      * - auto-offset-reset=earliest: 처음부터 메시지 읽기
      * - enable-auto-commit=false: 수동 커밋 (처리 성공 후 커밋)
      * - trusted.packages: JSON 역직렬화 보안 설정
+     * - ErrorHandlingDeserializer: 역직렬화 실패(알 수 없는 스키마 ID 등) 시 예외 대신 값 null + 예외 헤더로 전달
+     *   (consumerFactory()와 동일, 감싸지 않으면 poll()이 같은 레코드에서 계속 실패해 파티션이 멈춤)
      */
     @Bean
     public ConsumerFactory<String, CouponIssueRequest> couponConsumerFactory() {
@@ -241,7 +342,9 @@ public class KafkaConfig {
         return new DefaultKafkaConsumerFactory<>(
             configProps,
             new StringDeserializer(),
-            new JsonDeserializer<>(CouponIssueRequest.class)
+            new ErrorHandlingDeserializer<>(new WireFormatDeserializer<>(
+                List.<KafkaEventCodec<? extends CouponIssueRequest>>of(new CouponIssueRequestCodec()),
+                new JsonDeserializer<>(CouponIssueRequest.class)))
         );
     }
 
@@ -255,9 +358,19 @@ public class KafkaConfig {
      * - concurrency=10: 10개의 Consumer 스레드로 병렬 처리
      *   - 10개 파티션 + 10개 Consumer = 최대 병렬도
      *   - 설계 문서 기준: 200 req/s (P=10)
+     *   - 초기값, kafka.autoscaling.enabled=true이면 ListenerConcurrencyAutoscaler가 Lag 기준으로 조절
+     * - ConsumerRebalanceListener: 파티션 소유권 이전 전 임대 재고 반납
+     * - DefaultErrorHandler: 역직렬화 실패 레코드는 재시도 없이 DLT({토픽}.DLT)로 발행하고 다음 레코드로 진행
+     *   (리스너는 처리 오류를 직접 판정하므로 그 외 예외는 전파되지 않음)
+     *
+     * @param retryIntervalMs 첫 재시도 간격 (이후 2배씩, 최대 10초)
+     * @param maxRetries DLT로 보내기 전 최대 재시도 횟수
      */
     @Bean(name = "couponKafkaListenerContainerFactory")
-    public ConcurrentKafkaListenerContainerFactory<String, CouponIssueRequest> couponKafkaListenerContainerFactory() {
+    public ConcurrentKafkaListenerContainerFactory<String, CouponIssueRequest> couponKafkaListenerContainerFactory(
+            CouponStockLeaseRebalanceListener couponStockLeaseRebalanceListener,
+            @Value("${kafka.consumer.coupon-retry-interval-ms:1000}") long retryIntervalMs,
+            @Value("${kafka.consumer.coupon-max-retries:5}") int maxRetries) {
         ConcurrentKafkaListenerContainerFactory<String, CouponIssueRequest> factory =
             new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(couponConsumerFactory());
@@ -269,9 +382,122 @@ public class KafkaConfig {
         // 설계 문서: 10개 파티션 기준
         factory.setConcurrency(10);
 
+        // 파티션 회수 시 임대 재고 반납 (coupon.stock-lease.enabled=true일 때만 동작)
+        factory.getContainerProperties().setConsumerRebalanceListener(couponStockLeaseRebalanceListener);
+
+        factory.setCommonErrorHandler(deadLetterErrorHandler(couponIssueDeadLetterKafkaTemplate(), retryIntervalMs, maxRetries));
+
         return factory;
     }
 
+    /**
+     * Coupon Batch Listener Container Factory
+     *
+     * 배치 리스너용 컨테이너 팩토리 (kafka.consumer.coupon-batch-enabled=true일 때 사용)
+     *
+     * 주요 설정:
+     * - batchListener=true: poll() 결과를 List로 한 번에 전달
+     * - max.poll.records: 배치 크기 (기본 500, 단건 팩토리는 10)
+     *   - 같은 쿠폰 요청이 많이 모일수록 행 락 1회로 처리되는 요청 수 증가
+     * - AckMode.MANUAL: 배치 트랜잭션 커밋 후에만 acknowledge()
+     * - concurrency=10: 단건 팩토리와 동일 (파티션 수 기준)
+     * - DefaultErrorHandler: 주문 배치 팩토리와 동일
+     *   - 역직렬화 실패 (리스너가 BatchListenerFailedException으로 위치 지정, 원인 DeserializationException):
+     *     재시도 없이 해당 레코드만 DLT
+     *   - 시스템 오류 (그 외 예외): 배치 전체 재전달 재시도 → 소진 시 배치 레코드를 DLT로
+     *     (DLT로 간 요청의 예약 게이트 카운터는 CouponReservationService 정합성 점검이 복구)
+     *
+     * @param maxPollRecords 배치 크기
+     * @param retryIntervalMs 첫 재시도 간격 (이후 2배씩, 최대 10초)
+     * @param maxRetries DLT로 보내기 전 최대 재시도 횟수
+     */
+    @Bean(name = "couponBatchKafkaListenerContainerFactory")
+    public ConcurrentKafkaListenerContainerFactory<String, CouponIssueRequest> couponBatchKafkaListenerContainerFactory(
+            @Value("${kafka.consumer.coupon-batch-max-poll-records:500}") int maxPollRecords,
+            @Value("${kafka.consumer.coupon-retry-interval-ms:1000}") long retryIntervalMs,
+            @Value("${kafka.consumer.coupon-max-retries:5}") int maxRetries) {
+        ConcurrentKafkaListenerContainerFactory<String, CouponIssueRequest> factory =
+            new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(couponConsumerFactory());
+        factory.setBatchListener(true);
+
+        // 배치 크기 (Consumer Factory의 max.poll.records=10을 덮어씀)
+        Properties consumerProperties = new Properties();
+        consumerProperties.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, String.valueOf(maxPollRecords));
+        factory.getContainerProperties().setKafkaConsumerProperties(consumerProperties);
+
+        // 수동 커밋 설정 (배치 커밋 후 acknowledge)
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+
+        factory.setConcurrency(10);
+
+        factory.setCommonErrorHandler(deadLetterErrorHandler(couponIssueDeadLetterKafkaTemplate(), retryIntervalMs, maxRetries));
+
+        return factory;
+    }
+
+    /**
+     * 쿠폰 발급 요청 DLT 발행용 KafkaTemplate (쿠폰 리스너 팩토리 에러 핸들러 전용)
+     *
+     * - 역직렬화 실패 레코드: 원본 byte[] 그대로 발행
+     * - 처리 실패 레코드: CouponIssueRequest를 kafka.wire-format.coupon-issue-requests 형식으로 발행
+     */
+    @Bean
+    public KafkaTemplate<String, Object> couponIssueDeadLetterKafkaTemplate() {
+        return deadLetterKafkaTemplate(CouponIssueRequest.class,
+            valueSerializer(couponIssueRequestWireFormat, new CouponIssueRequestCodec()));
+    }
+
+    /**
+     * 지수 백오프 재시도 후 DLT({토픽}.DLT)로 발행하는 에러 핸들러
+     * - DLT 파티션은 브로커가 선택 → DLT 파티션 수가 원본과 달라도 됨
+     * - DeserializationException 등 기본 재시도 제외 예외는 백오프 없이 바로 DLT
+     */
+    private DefaultErrorHandler deadLetterErrorHandler(KafkaTemplate<String, Object> deadLetterTemplate,
+                                                       long retryIntervalMs, int maxRetries) {
+        ExponentialBackOffWithMaxRetries backOff = new ExponentialBackOffWithMaxRetries(maxRetries);
+        backOff.setInitialInterval(retryIntervalMs);
+        backOff.setMultiplier(2.0);
+        backOff.setMaxInterval(10000);
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(deadLetterTemplate,
+            (record, exception) -> new TopicPartition(record.topic() + ".DLT", -1));
+        return new DefaultErrorHandler(recoverer, backOff);
+    }
+
+    /**
+     * DLT 발행용 KafkaTemplate (원본 byte[] + 이벤트 타입별 Serializer)
+     */
+    private <T> KafkaTemplate<String, Object> deadLetterKafkaTemplate(Class<T> eventType, Serializer<T> eventSerializer) {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ProducerConfig.ACKS_CONFIG, "all");
+        configProps.put(ProducerConfig.RETRIES_CONFIG, 3);
+        configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+
+        Map<Class<?>, Serializer<?>> serializers = new LinkedHashMap<>();
+        serializers.put(byte[].class, new ByteArraySerializer());
+        serializers.put(eventType, eventSerializer);
+
+        return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(
+            configProps,
+            new StringSerializer(),
+            new DelegatingByTypeSerializer(serializers)
+        ));
+    }
+
+    /**
+     * 토픽별 값 Serializer 선택
+     *
+     * - json: JsonSerializer (기존 형식, __TypeId__ 헤더 포함)
+     * - binary: VersionedBinarySerializer (스키마 ID + 압축 본문)
+     */
+    private <T> Serializer<T> valueSerializer(String wireFormat, KafkaEventCodec<T> codec) {
+        if (KafkaWireFormat.from(wireFormat) == KafkaWireFormat.BINARY) {
+            return new VersionedBinarySerializer<>(codec);
+        }
+        return new JsonSerializer<>();
+    }
+
     /**
      * Coupon Issue Requests Topic 설정
      *
@@ -0,0 +1,92 @@
+package com.hhplus.ecommerce.infrastructure.config;
+
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Redis 키 인벤토리 스냅샷 (SCAN 1회 결과)
+ *
+ * - 키 개수: SCAN으로 센 실제 개수 (maxKeys에서 중단되면 truncated = true)
+ * - 메모리: 키 타입별 표본의 MEMORY USAGE 평균 × 키 개수 (추정치)
+ * - 키 목록: 키 타입별 최대 keySampleLimit개 예시 키만 보관
+ * - 아직 한 번도 수집하지 않았으면 빈 스냅샷 (capturedAt = null, collected = false)
+ */
+@Getter
+public class RedisKeyInventorySnapshot {
+
+    private final LocalDateTime capturedAt;
+    private final long durationMillis;
+    private final long scannedKeys;
+    private final long unmatchedKeys;
+    private final boolean truncated;
+    private final Map<RedisKeyType, KeyTypeStats> keyTypeStats;
+
+    public RedisKeyInventorySnapshot(LocalDateTime capturedAt, long durationMillis, long scannedKeys,
+                                     long unmatchedKeys, boolean truncated,
+                                     Map<RedisKeyType, KeyTypeStats> keyTypeStats) {
+        this.capturedAt = capturedAt;
+        this.durationMillis = durationMillis;
+        this.scannedKeys = scannedKeys;
+        this.unmatchedKeys = unmatchedKeys;
+        this.truncated = truncated;
+        this.keyTypeStats = keyTypeStats.isEmpty()
+                ? Collections.emptyMap()
+                : Collections.unmodifiableMap(new EnumMap<>(keyTypeStats));
+    }
+
+    /**
+     * 첫 수집 전 빈 스냅샷
+     */
+    public static RedisKeyInventorySnapshot empty() {
+        return new RedisKeyInventorySnapshot(null, 0, 0, 0, false, Collections.emptyMap());
+    }
+
+    /**
+     * 수집된 스냅샷 여부 (빈 스냅샷이면 false)
+     */
+    public boolean isCollected() {
+        return capturedAt != null;
+    }
+
+    /**
+     * 수집 후 경과 시간 (밀리초, 빈 스냅샷이면 -1)
+     */
+    public long getAgeMillis() {
+        return capturedAt != null ? Duration.between(capturedAt, LocalDateTime.now()).toMillis() : -1;
+    }
+
+    /**
+     * 키 타입별 집계 (키 개수, 표본 기반 메모리 추정, 표본에서 관측한 자료구조)
+     */
+    @Getter
+    public static class KeyTypeStats {
+        private final long keyCount;
+        private final int sampledKeys;
+        private final long sampledBytes;
+        private final Set<String> dataTypes;
+        private final List<String> exampleKeys;
+
+        public KeyTypeStats(long keyCount, int sampledKeys, long sampledBytes,
+                            Set<String> dataTypes, List<String> exampleKeys) {
+            this.keyCount = keyCount;
+            this.sampledKeys = sampledKeys;
+            this.sampledBytes = sampledBytes;
+            this.dataTypes = Set.copyOf(dataTypes);
+            this.exampleKeys = List.copyOf(exampleKeys);
+        }
+
+        /**
+         * 표본 평균 크기 × 키 개수 (표본이 없으면 0)
+         */
+        public long getEstimatedBytes() {
+            return sampledKeys > 0 ? Math.round((double) sampledBytes / sampledKeys * keyCount) : 0;
+        }
+    }
+}
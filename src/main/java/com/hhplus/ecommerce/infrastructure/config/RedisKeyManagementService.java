@@ -1,12 +1,26 @@
 package com.hhplus.ecommerce.infrastructure.config;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.DataType;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
 
 /**
  * Redis 키 관리 서비스
@@ -17,6 +31,17 @@ import java.util.stream.Collectors;
  * - 키 검색 및 패턴 매칭
  * - 키 메타데이터 조회
  *
+ * 수집 방식 (KEYS 미사용):
+ * - 백그라운드 작업(refreshSnapshot)이 SCAN(COUNT 제한)으로 키 공간을 1회 순회하며 RedisKeyType별로 분류
+ *   - 페이지(scanCount개)마다 pauseMillis 쉬어 Redis 부하 제한, maxKeys에서 중단
+ *   - 분류: RedisKeyType 패턴({...}은 임의 문자열) + Spring 캐시 키("{cacheName}::")
+ * - 메모리: 키 타입별 저수지 표본(samplesPerType개)의 MEMORY USAGE 평균 × 키 개수
+ *   - 집합형(ZSET/LIST/HASH/SET)은 MEMORY USAGE ... SAMPLES n으로 원소 크기까지 반영 (STRLEN 추정은 문자열만 유효)
+ * - 조회 메서드는 마지막 스냅샷만 읽음 (조회 스레드에서 SCAN/MEMORY USAGE를 실행하지 않음)
+ *   - 스냅샷이 없거나 갱신 주기의 2배보다 오래되면 갱신을 refreshExecutor에 비동기로 요청하고
+ *     현재 스냅샷(없으면 빈 스냅샷)을 그대로 반환 → 호출자는 capturedAt/ageMillis로 신선도 확인
+ *   - 갱신 요청은 동시에 1건만 (이미 요청/진행 중이면 건너뜀, 진행 중 판단은 refreshLock.tryLock)
+ *
  * 사용 예:
  * - redisKeyManagementService.getAllKeysGroupedByCategory()
  * - redisKeyManagementService.getMemoryUsageByCategory()
@@ -25,35 +50,151 @@ import java.util.stream.Collectors;
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class RedisKeyManagementService {
 
+    private static final byte[] MEMORY_USAGE = "USAGE".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] MEMORY_SAMPLES = "SAMPLES".getBytes(StandardCharsets.UTF_8);
+
     private final RedisTemplate<String, Object> redisTemplate;
+    private final int scanCount;
+    private final long pauseMillis;
+    private final long maxKeys;
+    private final int samplesPerType;
+    private final int memoryUsageSamples;
+    private final int keySampleLimit;
+    private final int maxSearchResults;
+    private final long refreshIntervalMillis;
+
+    private final List<KeyTypeMatcher> matchers;
+    private final Executor refreshExecutor;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private final AtomicBoolean refreshRequested = new AtomicBoolean();
+    private volatile RedisKeyInventorySnapshot snapshot;
+
+    /**
+     * @param scanCount SCAN COUNT (페이지 크기 힌트)
+     * @param pauseMillis 페이지마다 쉬는 시간
+     * @param maxKeys 1회 순회 최대 키 수 (초과 시 중단, truncated)
+     * @param samplesPerType 키 타입별 MEMORY USAGE 표본 수
+     * @param memoryUsageSamples 집합형 MEMORY USAGE SAMPLES 값 (0이면 전체 원소)
+     * @param keySampleLimit 키 타입별 보관할 예시 키 수
+     * @param maxSearchResults searchKeys 최대 결과 수
+     * @param refreshIntervalMillis 주기 갱신 간격 (스냅샷이 이 값의 2배보다 오래되면 조회 시 비동기 갱신 요청)
+     * @param refreshExecutor 조회 시 요청된 갱신을 실행할 실행기
+     */
+    public RedisKeyManagementService(
+            RedisTemplate<String, Object> redisTemplate,
+            @Value("${redis.key-inventory.scan-count:500}") int scanCount,
+            @Value("${redis.key-inventory.pause-ms:5}") long pauseMillis,
+            @Value("${redis.key-inventory.max-keys:2000000}") long maxKeys,
+            @Value("${redis.key-inventory.samples-per-type:20}") int samplesPerType,
+            @Value("${redis.key-inventory.memory-usage-samples:5}") int memoryUsageSamples,
+            @Value("${redis.key-inventory.key-sample-limit:100}") int keySampleLimit,
+            @Value("${redis.key-inventory.max-search-results:1000}") int maxSearchResults,
+            @Value("${redis.key-inventory.refresh-interval-ms:300000}") long refreshIntervalMillis,
+            @Qualifier("asyncExecutor") Executor refreshExecutor) {
+        this.redisTemplate = redisTemplate;
+        this.scanCount = scanCount;
+        this.pauseMillis = pauseMillis;
+        this.maxKeys = maxKeys;
+        this.samplesPerType = samplesPerType;
+        this.memoryUsageSamples = memoryUsageSamples;
+        this.keySampleLimit = keySampleLimit;
+        this.maxSearchResults = maxSearchResults;
+        this.refreshIntervalMillis = refreshIntervalMillis;
+        this.refreshExecutor = refreshExecutor;
+        this.matchers = buildMatchers();
+    }
+
+    /**
+     * 키 인벤토리 갱신 (SCAN 순회 + 표본 MEMORY USAGE) 후 스냅샷 교체
+     *
+     * 이미 갱신 중이면 건너뜀 (노드 내 동시 순회 방지)
+     */
+    @Scheduled(fixedDelayString = "${redis.key-inventory.refresh-interval-ms:300000}",
+               initialDelayString = "${redis.key-inventory.initial-delay-ms:60000}")
+    public void refreshSnapshot() {
+        if (!refreshLock.tryLock()) {
+            return;
+        }
+        try {
+            snapshot = collectSnapshot();
+            log.info("[RedisKeyInventory] 스냅샷 갱신: scanned={}, unmatched={}, truncated={}, {}ms",
+                    snapshot.getScannedKeys(), snapshot.getUnmatchedKeys(),
+                    snapshot.isTruncated(), snapshot.getDurationMillis());
+        } catch (Exception e) {
+            log.warn("[RedisKeyInventory] 스냅샷 갱신 실패 (이전 스냅샷 유지)", e);
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * 마지막 스냅샷 (아직 없으면 빈 스냅샷)
+     *
+     * 없거나 오래됐으면 갱신을 비동기로 요청만 하고 기다리지 않음
+     */
+    public RedisKeyInventorySnapshot getSnapshot() {
+        RedisKeyInventorySnapshot current = snapshot;
+        if (current == null || isStale(current)) {
+            requestRefresh();
+        }
+        return current != null ? current : RedisKeyInventorySnapshot.empty();
+    }
+
+    /**
+     * refreshExecutor에 갱신 1건 요청 (요청 대기 중이거나 다른 스레드가 순회 중이면 건너뜀)
+     */
+    private void requestRefresh() {
+        if (!refreshRequested.compareAndSet(false, true)) {
+            return;
+        }
+        if (!refreshLock.tryLock()) {
+            // 주기 작업이 순회 중 → 끝나면 새 스냅샷으로 교체됨
+            refreshRequested.set(false);
+            return;
+        }
+        refreshLock.unlock();
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    refreshSnapshot();
+                } finally {
+                    refreshRequested.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshRequested.set(false);
+            log.warn("[RedisKeyInventory] 스냅샷 갱신 요청 거절 (다음 조회/주기 작업에서 재시도): {}", e.getMessage());
+        }
+    }
+
+    private boolean isStale(RedisKeyInventorySnapshot current) {
+        return current.getCapturedAt().isBefore(LocalDateTime.now().minus(Duration.ofMillis(refreshIntervalMillis * 2)));
+    }
 
     /**
      * 모든 Redis 키를 카테고리별로 그룹화
      *
+     * 키 타입별 예시 키(최대 keySampleLimit개)만 반환
+     *
      * @return 카테고리 → 키 목록 맵
      */
     public Map<RedisKeyCategory, List<String>> getAllKeysGroupedByCategory() {
         Map<RedisKeyCategory, List<String>> result = new HashMap<>();
 
-        for (RedisKeyType keyType : RedisKeyType.values()) {
-            String pattern = keyType.getPattern();
-            Set<String> keys = redisTemplate.keys(pattern);
-
-            if (keys != null && !keys.isEmpty()) {
-                RedisKeyCategory category = keyType.getCategory();
-                result.computeIfAbsent(category, k -> new ArrayList<>())
-                      .addAll(keys);
+        getSnapshot().getKeyTypeStats().forEach((keyType, stats) -> {
+            if (!stats.getExampleKeys().isEmpty()) {
+                result.computeIfAbsent(keyType.getCategory(), k -> new ArrayList<>())
+                      .addAll(stats.getExampleKeys());
             }
-        }
+        });
 
         return result;
     }
 
     /**
-     * 특정 카테고리의 모든 키 조회
+     * 특정 카테고리의 키 조회 (키 타입별 예시 키)
      *
      * @param category 카테고리
      * @return 키 목록
@@ -61,15 +202,11 @@ public class RedisKeyManagementService {
     public List<String> getKeysByCategory(RedisKeyCategory category) {
         List<String> result = new ArrayList<>();
 
-        for (RedisKeyType keyType : RedisKeyType.values()) {
+        getSnapshot().getKeyTypeStats().forEach((keyType, stats) -> {
             if (keyType.getCategory() == category) {
-                String pattern = keyType.getPattern();
-                Set<String> keys = redisTemplate.keys(pattern);
-                if (keys != null) {
-                    result.addAll(keys);
-                }
+                result.addAll(stats.getExampleKeys());
             }
-        }
+        });
 
         return result;
     }
@@ -82,16 +219,12 @@ public class RedisKeyManagementService {
     public Map<String, Integer> getKeyCountByCategory() {
         Map<String, Integer> result = new HashMap<>();
 
-        for (RedisKeyType keyType : RedisKeyType.values()) {
-            String pattern = keyType.getPattern();
-            Set<String> keys = redisTemplate.keys(pattern);
-            int count = keys != null ? keys.size() : 0;
-
-            if (count > 0) {
+        getSnapshot().getKeyTypeStats().forEach((keyType, stats) -> {
+            if (stats.getKeyCount() > 0) {
                 String categoryName = keyType.getCategory().getDisplayName();
-                result.merge(categoryName, count, Integer::sum);
+                result.merge(categoryName, (int) Math.min(Integer.MAX_VALUE, stats.getKeyCount()), Integer::sum);
             }
-        }
+        });
 
         return result;
     }
@@ -112,26 +245,19 @@ public class RedisKeyManagementService {
         metadata.put("ttl", keyType.getTtl() != null ?
             keyType.getTtl().getSeconds() + " seconds" : "none (persistent)");
 
-        // 실제 키 개수
-        Set<String> keys = redisTemplate.keys(keyType.getPattern());
-        metadata.put("actual_count", keys != null ? keys.size() : 0);
+        // 실제 키 개수 (스냅샷 기준)
+        RedisKeyInventorySnapshot current = getSnapshot();
+        RedisKeyInventorySnapshot.KeyTypeStats stats = current.getKeyTypeStats().get(keyType);
+        metadata.put("actual_count", stats != null ? stats.getKeyCount() : 0);
 
-        // 예상 메모리 사용 (샘플 기반)
-        if (keys != null && !keys.isEmpty()) {
-            try {
-                String sampleKey = keys.iterator().next();
-                var connection = redisTemplate.getConnectionFactory().getConnection();
-                if (connection != null) {
-                    // StringLength는 키의 메모리 사용량의 대략적인 추정치
-                    Long stringLength = redisTemplate.opsForValue().size(sampleKey);
-                    metadata.put("estimated_memory_bytes", stringLength != null ? stringLength : 0);
-                    connection.close();
-                }
-            } catch (Exception e) {
-                log.warn("메모리 사용량 계산 실패", e);
-                metadata.put("estimated_memory_bytes", 0);
-            }
+        // 예상 메모리 사용 (표본 MEMORY USAGE 평균 × 키 개수)
+        if (stats != null) {
+            metadata.put("estimated_memory_bytes", stats.getEstimatedBytes());
+            metadata.put("sampled_keys", stats.getSampledKeys());
+            metadata.put("data_types", stats.getDataTypes());
         }
+        metadata.put("snapshot_at", current.getCapturedAt());
+        metadata.put("snapshot_age_ms", current.getAgeMillis());
 
         return metadata;
     }
@@ -152,46 +278,38 @@ public class RedisKeyManagementService {
     }
 
     /**
-     * 카테고리별 예상 메모리 사용량 (대략적)
+     * 카테고리별 예상 메모리 사용량 (표본 기반 추정)
      *
      * @return 카테고리별 메모리 사용량 (바이트)
      */
     public Map<String, Long> getEstimatedMemoryByCategory() {
         Map<String, Long> result = new HashMap<>();
 
-        for (RedisKeyType keyType : RedisKeyType.values()) {
-            Set<String> keys = redisTemplate.keys(keyType.getPattern());
-            if (keys != null && !keys.isEmpty()) {
-                String categoryName = keyType.getCategory().getDisplayName();
-
-                try {
-                    // 첫 번째 키의 메모리 사용량 샘플링
-                    String sampleKey = keys.iterator().next();
-                    Long stringLength = redisTemplate.opsForValue().size(sampleKey);
-
-                    if (stringLength != null && stringLength > 0) {
-                        // 같은 카테고리의 모든 키가 유사한 크기라고 가정
-                        long estimatedTotal = stringLength * keys.size();
-                        result.merge(categoryName, estimatedTotal, Long::sum);
-                    }
-                } catch (Exception e) {
-                    log.warn("카테고리별 메모리 사용량 계산 실패: {}", categoryName, e);
-                }
+        getSnapshot().getKeyTypeStats().forEach((keyType, stats) -> {
+            long estimated = stats.getEstimatedBytes();
+            if (estimated > 0) {
+                result.merge(keyType.getCategory().getDisplayName(), estimated, Long::sum);
             }
-        }
+        });
 
         return result;
     }
 
     /**
-     * 특정 패턴의 키 검색
+     * 특정 패턴의 키 검색 (SCAN MATCH, 최대 maxSearchResults개)
      *
      * @param pattern 검색 패턴 (예: "cache:*")
      * @return 매칭된 키 목록
      */
     public List<String> searchKeys(String pattern) {
-        Set<String> keys = redisTemplate.keys(pattern);
-        return keys != null ? new ArrayList<>(keys) : new ArrayList<>();
+        List<String> result = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(scanCount).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext() && result.size() < maxSearchResults) {
+                result.add(cursor.next());
+            }
+        }
+        return result;
     }
 
     /**
@@ -210,46 +328,188 @@ public class RedisKeyManagementService {
         details.put("ttl_seconds", ttl != null && ttl >= 0 ? ttl : "no expiration");
 
         // 데이터 타입
-        String type = String.valueOf(redisTemplate.type(key));
-        details.put("type", type);
+        DataType dataType = redisTemplate.type(key);
+        details.put("type", String.valueOf(dataType));
+
+        // 메모리 사용량 (MEMORY USAGE, 자료구조 무관)
+        Long memoryBytes = memoryUsage(key, dataType);
+        details.put("memory_bytes", memoryBytes != null ? memoryBytes : 0);
 
-        // 메모리 사용량 추정
+        // 대응하는 RedisKeyType 찾기
+        RedisKeyType keyType = classify(key);
+        if (keyType != null) {
+            details.put("key_type", keyType.name());
+            details.put("category", keyType.getCategory().getDisplayName());
+            details.put("description", keyType.getDescription());
+        }
+
+        return details;
+    }
+
+    /**
+     * 키가 속한 RedisKeyType (리터럴이 긴 패턴 우선, 없으면 null)
+     */
+    public RedisKeyType classify(String key) {
+        for (KeyTypeMatcher matcher : matchers) {
+            if (matcher.pattern.matcher(key).matches()) {
+                return matcher.keyType;
+            }
+        }
+        return null;
+    }
+
+    private RedisKeyInventorySnapshot collectSnapshot() {
+        long startedAt = System.currentTimeMillis();
+        Map<RedisKeyType, KeyTypeAccumulator> accumulators = new EnumMap<>(RedisKeyType.class);
+        long scanned = 0;
+        long unmatched = 0;
+        boolean truncated = false;
+
+        ScanOptions options = ScanOptions.scanOptions().count(scanCount).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                if (scanned >= maxKeys) {
+                    truncated = true;
+                    break;
+                }
+                String key = cursor.next();
+                scanned++;
+                RedisKeyType keyType = classify(key);
+                if (keyType == null) {
+                    unmatched++;
+                } else {
+                    accumulators.computeIfAbsent(keyType, type -> new KeyTypeAccumulator()).add(key);
+                }
+                if (pauseMillis > 0 && scanned % scanCount == 0) {
+                    pause();
+                }
+            }
+        }
+
+        Map<RedisKeyType, RedisKeyInventorySnapshot.KeyTypeStats> stats = new EnumMap<>(RedisKeyType.class);
+        accumulators.forEach((keyType, accumulator) -> stats.put(keyType, sampleMemory(accumulator)));
+
+        return new RedisKeyInventorySnapshot(LocalDateTime.now(), System.currentTimeMillis() - startedAt,
+                scanned, unmatched, truncated, stats);
+    }
+
+    /**
+     * 저수지 표본 키마다 TYPE + MEMORY USAGE (만료/삭제된 키는 제외)
+     */
+    private RedisKeyInventorySnapshot.KeyTypeStats sampleMemory(KeyTypeAccumulator accumulator) {
+        int sampled = 0;
+        long sampledBytes = 0;
+        Set<String> dataTypes = new TreeSet<>();
+        for (String key : accumulator.reservoir) {
+            try {
+                DataType dataType = redisTemplate.type(key);
+                if (dataType == null || dataType == DataType.NONE) {
+                    continue;
+                }
+                Long bytes = memoryUsage(key, dataType);
+                if (bytes != null) {
+                    sampled++;
+                    sampledBytes += bytes;
+                    dataTypes.add(dataType.code());
+                }
+            } catch (Exception e) {
+                log.debug("[RedisKeyInventory] 메모리 표본 실패: key={}", key, e);
+            }
+        }
+        return new RedisKeyInventorySnapshot.KeyTypeStats(accumulator.count, sampled, sampledBytes,
+                dataTypes, accumulator.examples);
+    }
+
+    /**
+     * MEMORY USAGE (집합형은 SAMPLES 지정)
+     */
+    private Long memoryUsage(String key, DataType dataType) {
+        byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+        boolean aggregate = dataType != null && dataType != DataType.STRING && dataType != DataType.NONE;
+        Object result = redisTemplate.execute((RedisCallback<Object>) connection -> aggregate
+                ? connection.execute("MEMORY", MEMORY_USAGE, rawKey, MEMORY_SAMPLES,
+                        String.valueOf(memoryUsageSamples).getBytes(StandardCharsets.UTF_8))
+                : connection.execute("MEMORY", MEMORY_USAGE, rawKey));
+        if (result instanceof Number number) {
+            return number.longValue();
+        }
+        if (result instanceof byte[] bytes) {
+            return Long.parseLong(new String(bytes, StandardCharsets.UTF_8));
+        }
+        return null;
+    }
+
+    private void pause() {
         try {
-            Long stringLength = redisTemplate.opsForValue().size(key);
-            details.put("memory_bytes", stringLength != null ? stringLength : 0);
-        } catch (Exception e) {
-            log.warn("키 메모리 사용량 조회 실패: {}", key, e);
-            details.put("memory_bytes", 0);
+            Thread.sleep(pauseMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         }
+    }
 
-        // 대응하는 RedisKeyType 찾기
+    /**
+     * RedisKeyType 패턴 → 정규식 ({...} 플레이스홀더는 임의 문자열)
+     * CACHE 타입은 Spring 캐시 키("{cacheName}::...")도 같은 타입으로 분류
+     */
+    private static List<KeyTypeMatcher> buildMatchers() {
+        List<KeyTypeMatcher> result = new ArrayList<>();
         for (RedisKeyType keyType : RedisKeyType.values()) {
-            if (matchesPattern(key, keyType.getPattern())) {
-                details.put("key_type", keyType.name());
-                details.put("category", keyType.getCategory().getDisplayName());
-                details.put("description", keyType.getDescription());
-                break;
+            String[] literals = keyType.getPattern().split("\\{[^}]*\\}", -1);
+            StringBuilder regex = new StringBuilder();
+            int literalLength = 0;
+            for (int i = 0; i < literals.length; i++) {
+                if (i > 0) {
+                    regex.append(".+");
+                }
+                regex.append(Pattern.quote(literals[i]));
+                literalLength += literals[i].length();
+            }
+            result.add(new KeyTypeMatcher(keyType, Pattern.compile(regex.toString()), literalLength));
+
+            String cacheName = keyType.getCacheName();
+            if (keyType.getCategory() == RedisKeyCategory.CACHE && !cacheName.equals(keyType.getPattern())) {
+                result.add(new KeyTypeMatcher(keyType,
+                        Pattern.compile(Pattern.quote(cacheName + "::") + ".*"), cacheName.length() + 2));
             }
         }
+        result.sort(Comparator.comparingInt((KeyTypeMatcher matcher) -> matcher.literalLength).reversed());
+        return List.copyOf(result);
+    }
 
-        return details;
+    private static class KeyTypeMatcher {
+        private final RedisKeyType keyType;
+        private final Pattern pattern;
+        private final int literalLength;
+
+        private KeyTypeMatcher(RedisKeyType keyType, Pattern pattern, int literalLength) {
+            this.keyType = keyType;
+            this.pattern = pattern;
+            this.literalLength = literalLength;
+        }
     }
 
     /**
-     * 키가 패턴과 일치하는지 확인
-     *
-     * @param key 실제 키
-     * @param pattern 패턴 (예: "cache:coupon:*")
-     * @return 일치 여부
+     * 키 타입별 순회 집계 (개수 + 저수지 표본 + 예시 키)
      */
-    private boolean matchesPattern(String key, String pattern) {
-        // Redis 패턴: * = 모든 문자, ? = 하나의 문자
-        // 간단한 와일드카드 매칭 (정규표현식으로 변환)
-        String regex = pattern
-            .replace(".", "\\.")
-            .replace("*", ".*")
-            .replace("?", ".");
-        return key.matches(regex);
+    private class KeyTypeAccumulator {
+        private long count;
+        private final List<String> reservoir = new ArrayList<>();
+        private final List<String> examples = new ArrayList<>();
+
+        private void add(String key) {
+            count++;
+            if (examples.size() < keySampleLimit) {
+                examples.add(key);
+            }
+            if (reservoir.size() < samplesPerType) {
+                reservoir.add(key);
+            } else {
+                long slot = ThreadLocalRandom.current().nextLong(count);
+                if (slot < samplesPerType) {
+                    reservoir.set((int) slot, key);
+                }
+            }
+        }
     }
 
     /**
@@ -298,6 +558,15 @@ public class RedisKeyManagementService {
 
         report.append("=== Redis Key Management System Status Report ===\n\n");
 
+        RedisKeyInventorySnapshot current = getSnapshot();
+        if (current.isCollected()) {
+            report.append(String.format("0. Snapshot: %s, age %d ms (scanned %d keys in %d ms%s)\n\n",
+                current.getCapturedAt(), current.getAgeMillis(), current.getScannedKeys(),
+                current.getDurationMillis(), current.isTruncated() ? ", truncated" : ""));
+        } else {
+            report.append("0. Snapshot: not collected yet (refresh requested)\n\n");
+        }
+
         // 1. 키 카운트
         report.append("1. Key Count by Category:\n");
         Map<String, Integer> keyCount = getKeyCountByCategory();
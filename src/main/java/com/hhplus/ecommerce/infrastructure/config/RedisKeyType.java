@@ -104,6 +104,14 @@ public enum RedisKeyType {
         "상품 주문 시 재고 차감 동시성 제어"
     ),
 
+    LOCK_CACHE_FILL(
+        "lock:cache:{cacheName}:{key}",
+        RedisKeyCategory.LOCK,
+        Duration.ofSeconds(10),
+        "캐시 재계산 리스",
+        "캐시 미스/조기 갱신 시 한 노드만 원본을 재계산하도록 선점 (SET NX PX)"
+    ),
+
     // ===== 정렬 (Sorted Set) - 순위 계산 =====
 
     ZSET_RANKING_DAILY(
@@ -122,6 +130,22 @@ public enum RedisKeyType {
         "주차별 주문량 기준 상품 랭킹 (Sorted Set)"
     ),
 
+    ZSET_RANKING_HOURLY(
+        "ranking:hourly:{hour}",
+        RedisKeyCategory.SORTED_SET,
+        Duration.ofDays(8),
+        "시간별 상품 랭킹 버킷",
+        "시간(yyyyMMddHH)별 주문량 버킷 - 가장 긴 창(7일)보다 오래 유지"
+    ),
+
+    ZSET_RANKING_WINDOW(
+        "ranking:window:{window}",
+        RedisKeyCategory.SORTED_SET,
+        Duration.ofHours(3),
+        "구간 상품 랭킹",
+        "최근 24시간/3일/7일 시간 버킷의 ZUNIONSTORE 집계 (시간 마감마다 갱신)"
+    ),
+
     // ===== 큐 (Queue) - 비동기 작업 처리 =====
 
     QUEUE_COUPON_PENDING(
@@ -174,6 +198,30 @@ public enum RedisKeyType {
         "쿠폰 발급 완료 후 결과 JSON 저장"
     ),
 
+    STATE_COUPON_STOCK(
+        "state:coupon:stock:{couponId}",
+        RedisKeyCategory.STATE,
+        Duration.ofDays(7),
+        "쿠폰 예약 재고 카운터",
+        "Lua 게이트가 원자적으로 차감하는 선착순 잔여 수량 (coupons.remaining_qty에서 시딩)"
+    ),
+
+    STATE_COUPON_RESERVED_USERS(
+        "state:coupon:reserved:{couponId}",
+        RedisKeyCategory.STATE,
+        Duration.ofDays(7),
+        "쿠폰 예약 사용자 집합",
+        "Lua 게이트를 통과한 사용자 ID 집합 (Set, 중복 예약 차단)"
+    ),
+
+    STATE_STOCK_HOT_ITEMS(
+        "state:stock:hot:{itemType}",
+        RedisKeyCategory.STATE,
+        Duration.ofDays(7),
+        "핫 재고 아이템 집합",
+        "재고 버킷으로 분할할 아이템 ID 집합 (Set, 모든 인스턴스가 같은 핫 지정을 공유)"
+    ),
+
     STATE_ORDER_PROCESSING(
         "state:order:processing:{orderId}",
         RedisKeyCategory.STATE,
@@ -182,6 +230,14 @@ public enum RedisKeyType {
         "주문 처리 과정의 실시간 상태"
     ),
 
+    STATE_RANKING_WINDOW_HOUR(
+        "state:ranking:window:{window}",
+        RedisKeyCategory.STATE,
+        Duration.ofHours(3),
+        "구간 랭킹 반영 시간",
+        "구간 랭킹 집계에 마지막으로 반영된 시간 버킷 (증분 갱신 가능 여부 판단)"
+    ),
+
     STATE_ORDER_PAYMENT(
         "state:order:payment:{orderId}",
         RedisKeyCategory.STATE,
@@ -331,6 +387,41 @@ public enum RedisKeyType {
         };
     }
 
+    /**
+     * 로컬(L1) 캐시 최대 항목 수 (TwoTierRedisCacheManager)
+     *
+     * 0이면 L1 없이 Redis(L2)만 사용
+     * - 조회가 몰리고 값이 작은 캐시만 L1 사용
+     * - 사용자별/쓰기 잦은 캐시는 노드마다 복제할 이점이 적어 제외
+     *
+     * @return L1 최대 항목 수
+     */
+    public long getLocalCacheMaxSize() {
+        return switch (this) {
+            case CACHE_PRODUCT_DETAIL -> 10_000;
+            case CACHE_PRODUCT_LIST -> 1_000;
+            case CACHE_COUPON_LIST -> 100;
+            case CACHE_POPULAR_PRODUCTS -> 10;
+            default -> 0;
+        };
+    }
+
+    /**
+     * 로컬(L1) 캐시 TTL
+     *
+     * 무효화는 pub/sub으로 전파되지만 메시지는 유실될 수 있으므로
+     * L2 TTL보다 짧게 두어 다른 노드의 오래된 값이 남는 시간을 제한
+     *
+     * @return L1 TTL (L1 미사용이면 null)
+     */
+    public Duration getLocalCacheTtl() {
+        return switch (this) {
+            case CACHE_PRODUCT_DETAIL, CACHE_POPULAR_PRODUCTS -> Duration.ofMinutes(1);
+            case CACHE_PRODUCT_LIST, CACHE_COUPON_LIST -> Duration.ofSeconds(30);
+            default -> null;
+        };
+    }
+
     /**
      * 디버깅용 정보 출력
      */
@@ -0,0 +1,58 @@
+package com.hhplus.ecommerce.infrastructure.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * SchedulingConfig - @Scheduled 주기 작업 활성화
+ *
+ * 배경:
+ * - 초기 코드에는 @EnableScheduling이 없어 @Scheduled 메서드가 오류 없이 무시되고 있었음
+ *   (쿠폰 큐 워커, Outbox 릴레이가 한 번도 실행되지 않음)
+ * - 활성화하면 기존에 잠들어 있던 작업도 함께 깨어나므로 작업별 스위치를 둠
+ *
+ * 주기 작업과 스위치 (기본값):
+ * - 기존 작업 (초기 코드부터 @Scheduled, 이번 활성화로 처음 실행됨)
+ *   - CouponQueueWorkerScheduler: 대기 큐 10ms / 재시도 큐 1분 → coupon.queue.worker.enabled (true)
+ *   - OutboxPollingService.pollAndSendMessages: Outbox 릴레이 → outbox.relay.enabled (true)
+ *     (첫 배포 시 쌓여 있던 PENDING 메시지가 발행되므로, 미리 확인이 필요하면 false로 배포)
+ * - 추가된 작업 (각 기능 스위치를 따름)
+ *   - CouponReservationService.reconcileReservedStock → coupon.reservation.enabled (false)
+ *   - CouponStockLeaseService.releaseIdleLeases → coupon.stock-lease.enabled (false)
+ *   - StockStripingScheduler.rebalance → stock.striping.enabled (false)
+ *   - RankingScoreAccumulator.flush → ranking.write-behind.enabled (false)
+ *   - RankingWindowRefresher.refreshClosedHour → ranking.window.refresh-cron
+ *   - ListenerConcurrencyAutoscaler.evaluate → kafka.autoscaling.enabled (false)
+ *   - SagaRecoveryService.recoverPeriodically → saga.recovery.enabled (true)
+ *   - AdaptiveTTLService.recompute, RedisKeyManagementService.refreshSnapshot,
+ *     TwoTierRedisCacheManager.logStatistics → 관측/갱신 전용 (주기 속성으로 조절)
+ * - CompensationService의 재시도 스케줄은 주석 예시일 뿐 등록되지 않음
+ *
+ * 설정:
+ * - scheduling.enabled: false면 모든 주기 작업을 끔 (기본 true)
+ * - scheduling.pool-size: 스케줄러 스레드 수 (기본 4)
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "scheduling.enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {
+
+    /**
+     * @Scheduled 주기 작업 실행기
+     * - 기본 스케줄러는 스레드 1개 → 느린 작업(정합성 점검, 랭킹 갱신)이 큐 워커(10ms 주기)를 막지 않도록 풀로 분리
+     */
+    @Bean(name = "taskScheduler")
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${scheduling.pool-size:4}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("scheduled-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(30);
+        scheduler.initialize();
+        return scheduler;
+    }
+}
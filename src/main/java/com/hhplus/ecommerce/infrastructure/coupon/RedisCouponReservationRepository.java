@@ -0,0 +1,187 @@
+package com.hhplus.ecommerce.infrastructure.coupon;
+
+import com.hhplus.ecommerce.domain.coupon.CouponReservationRepository;
+import com.hhplus.ecommerce.domain.coupon.CouponReservationResult;
+import com.hhplus.ecommerce.infrastructure.config.RedisKeyType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * RedisCouponReservationRepository - Redis Lua 기반 선착순 예약 게이트
+ *
+ * 설계:
+ * - 재고 카운터: "state:coupon:stock:{couponId}" (String, 정수)
+ * - 예약 사용자: "state:coupon:reserved:{couponId}" (Set, userId)
+ *
+ * 원자성:
+ * - 재고 확인 + SISMEMBER + DECR + SADD를 하나의 Lua 스크립트로 실행
+ * - Redis 단일 스레드 모델로 스크립트 실행 중 다른 명령이 끼어들 수 없음
+ * - 네트워크 왕복 1회로 판정 완료 (DB 락 대기 없음)
+ *
+ * Lua 반환 코드:
+ * -  1: RESERVED
+ * -  0: SOLD_OUT
+ * - -1: DUPLICATE
+ * - -2: NOT_INITIALIZED (카운터 미시딩)
+ */
+@Repository
+public class RedisCouponReservationRepository implements CouponReservationRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisCouponReservationRepository.class);
+
+    /**
+     * KEYS[1]=재고 카운터, KEYS[2]=예약 사용자 Set
+     * ARGV[1]=userId, ARGV[2]=Set TTL(초)
+     */
+    private static final RedisScript<Long> RESERVE_SCRIPT = new DefaultRedisScript<>(
+            "local stock = redis.call('GET', KEYS[1]) " +
+            "if not stock then return -2 end " +
+            "if redis.call('SISMEMBER', KEYS[2], ARGV[1]) == 1 then return -1 end " +
+            "if tonumber(stock) <= 0 then return 0 end " +
+            "redis.call('DECR', KEYS[1]) " +
+            "redis.call('SADD', KEYS[2], ARGV[1]) " +
+            "if tonumber(ARGV[2]) > 0 then redis.call('EXPIRE', KEYS[2], ARGV[2]) end " +
+            "return 1",
+            Long.class);
+
+    /**
+     * KEYS[1]=재고 카운터, KEYS[2]=예약 사용자 Set
+     * ARGV[1]=userId, ARGV[2]=keepUser("1"/"0")
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end " +
+            "if ARGV[2] == '1' then " +
+            "  if redis.call('SISMEMBER', KEYS[2], ARGV[1]) == 0 then return 0 end " +
+            "  redis.call('INCR', KEYS[1]) return 1 " +
+            "end " +
+            "if redis.call('SREM', KEYS[2], ARGV[1]) == 1 then redis.call('INCR', KEYS[1]) return 1 end " +
+            "return 0",
+            Long.class);
+
+    /**
+     * KEYS[1]=재고 카운터, ARGV[1]=expected, ARGV[2]=corrected
+     */
+    private static final RedisScript<Long> COMPARE_AND_SET_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "  redis.call('SET', KEYS[1], ARGV[2], 'KEEPTTL') return 1 " +
+            "end " +
+            "return 0",
+            Long.class);
+
+    private static final long SCAN_COUNT = 1000;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public RedisCouponReservationRepository(RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public CouponReservationResult reserve(Long couponId, Long userId) {
+        Duration ttl = RedisKeyType.STATE_COUPON_RESERVED_USERS.getTtl();
+        Long code = redisTemplate.execute(
+                RESERVE_SCRIPT,
+                List.of(stockKey(couponId), reservedUsersKey(couponId)),
+                String.valueOf(userId),
+                String.valueOf(ttl.getSeconds())
+        );
+
+        if (code == null) {
+            throw new IllegalStateException("쿠폰 예약 스크립트 결과 없음: couponId=" + couponId);
+        }
+
+        return switch (code.intValue()) {
+            case 1 -> CouponReservationResult.RESERVED;
+            case 0 -> CouponReservationResult.SOLD_OUT;
+            case -1 -> CouponReservationResult.DUPLICATE;
+            case -2 -> CouponReservationResult.NOT_INITIALIZED;
+            default -> throw new IllegalStateException("알 수 없는 예약 스크립트 결과: " + code);
+        };
+    }
+
+    @Override
+    public boolean release(Long couponId, Long userId, boolean keepUser) {
+        Long released = redisTemplate.execute(
+                RELEASE_SCRIPT,
+                List.of(stockKey(couponId), reservedUsersKey(couponId)),
+                String.valueOf(userId),
+                keepUser ? "1" : "0"
+        );
+        return released != null && released == 1L;
+    }
+
+    @Override
+    public boolean seedIfAbsent(Long couponId, int remainingQty) {
+        Boolean seeded = redisTemplate.opsForValue().setIfAbsent(
+                stockKey(couponId),
+                String.valueOf(remainingQty),
+                RedisKeyType.STATE_COUPON_STOCK.getTtl()
+        );
+        if (Boolean.TRUE.equals(seeded)) {
+            log.info("[CouponReservation] 재고 카운터 시딩: couponId={}, remainingQty={}", couponId, remainingQty);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public Optional<Integer> getReservedStock(Long couponId) {
+        String value = redisTemplate.opsForValue().get(stockKey(couponId));
+        return Optional.ofNullable(value).map(Integer::valueOf);
+    }
+
+    @Override
+    public boolean compareAndSetStock(Long couponId, int expected, int corrected) {
+        Long updated = redisTemplate.execute(
+                COMPARE_AND_SET_SCRIPT,
+                List.of(stockKey(couponId)),
+                String.valueOf(expected),
+                String.valueOf(corrected)
+        );
+        return updated != null && updated == 1L;
+    }
+
+    /**
+     * SSCAN으로 나눠 조회 (발급 인원이 많은 쿠폰에서 SMEMBERS로 Redis를 오래 점유하지 않도록)
+     */
+    @Override
+    public Set<Long> getReservedUsers(Long couponId) {
+        Set<Long> userIds = new HashSet<>();
+        ScanOptions options = ScanOptions.scanOptions().count(SCAN_COUNT).build();
+        try (Cursor<String> cursor = redisTemplate.opsForSet().scan(reservedUsersKey(couponId), options)) {
+            cursor.forEachRemaining(member -> userIds.add(Long.valueOf(member)));
+        }
+        return userIds;
+    }
+
+    @Override
+    public long removeReservedUsers(Long couponId, Collection<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return 0;
+        }
+        Object[] members = userIds.stream().map(String::valueOf).toArray();
+        Long removed = redisTemplate.opsForSet().remove(reservedUsersKey(couponId), members);
+        return removed != null ? removed : 0;
+    }
+
+    private String stockKey(Long couponId) {
+        return RedisKeyType.STATE_COUPON_STOCK.buildKey(couponId);
+    }
+
+    private String reservedUsersKey(Long couponId) {
+        return RedisKeyType.STATE_COUPON_RESERVED_USERS.buildKey(couponId);
+    }
+}
@@ -0,0 +1,145 @@
+package com.hhplus.ecommerce.infrastructure.kafka;
+
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.admin.ListOffsetsResult.ListOffsetsResultInfo;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * ConsumerLagReader - AdminClient 기반 Consumer Group 파티션별 Lag 조회
+ *
+ * 조회 순서 (호출당 AdminClient 요청 3~4회):
+ * 1. describeTopics → 구독 토픽의 전체 파티션 (컨슈머가 아직 커밋하지 않은 파티션 포함)
+ * 2. listConsumerGroupOffsets → 그룹 커밋 오프셋
+ * 3. listOffsets(latest) → 파티션 끝 오프셋
+ * 4. 커밋 오프셋이 없는 파티션만 listOffsets(earliest) (auto-offset-reset=earliest 기준 시작 위치)
+ *
+ * AdminClient는 첫 조회 시 생성, 모든 요청은 kafka.autoscaling.admin-timeout-ms 안에 끝나지 않으면 실패
+ */
+@Component
+public class ConsumerLagReader {
+
+    private final String bootstrapServers;
+    private final long timeoutMs;
+
+    private volatile AdminClient adminClient;
+
+    public ConsumerLagReader(@Value("${kafka.bootstrap-servers}") String bootstrapServers,
+                             @Value("${kafka.autoscaling.admin-timeout-ms:3000}") long timeoutMs) {
+        this.bootstrapServers = bootstrapServers;
+        this.timeoutMs = timeoutMs;
+    }
+
+    /**
+     * 그룹의 토픽 파티션별 커밋/끝 오프셋 조회
+     *
+     * @param groupId Consumer Group ID
+     * @param topics 구독 토픽
+     * @return 파티션별 오프셋 (토픽/파티션 순)
+     */
+    public List<PartitionOffsets> read(String groupId, Collection<String> topics)
+            throws ExecutionException, InterruptedException, TimeoutException {
+        AdminClient admin = adminClient();
+
+        Map<String, TopicDescription> descriptions = admin.describeTopics(topics)
+                .allTopicNames().get(timeoutMs, TimeUnit.MILLISECONDS);
+        List<TopicPartition> partitions = new ArrayList<>();
+        descriptions.values().forEach(description -> description.partitions()
+                .forEach(partition -> partitions.add(new TopicPartition(description.name(), partition.partition()))));
+        partitions.sort((a, b) -> a.topic().equals(b.topic())
+                ? Integer.compare(a.partition(), b.partition())
+                : a.topic().compareTo(b.topic()));
+
+        Map<TopicPartition, OffsetAndMetadata> committed = admin.listConsumerGroupOffsets(groupId)
+                .partitionsToOffsetAndMetadata().get(timeoutMs, TimeUnit.MILLISECONDS);
+        Map<TopicPartition, ListOffsetsResultInfo> endOffsets = listOffsets(admin, partitions, OffsetSpec.latest());
+
+        List<TopicPartition> uncommitted = partitions.stream()
+                .filter(partition -> committed.get(partition) == null)
+                .toList();
+        Map<TopicPartition, ListOffsetsResultInfo> startOffsets = uncommitted.isEmpty()
+                ? Map.of()
+                : listOffsets(admin, uncommitted, OffsetSpec.earliest());
+
+        List<PartitionOffsets> result = new ArrayList<>(partitions.size());
+        for (TopicPartition partition : partitions) {
+            OffsetAndMetadata offset = committed.get(partition);
+            long committedOffset = offset != null ? offset.offset() : startOffsets.get(partition).offset();
+            result.add(new PartitionOffsets(partition, committedOffset, endOffsets.get(partition).offset()));
+        }
+        return result;
+    }
+
+    private Map<TopicPartition, ListOffsetsResultInfo> listOffsets(AdminClient admin, List<TopicPartition> partitions,
+                                                                   OffsetSpec spec)
+            throws ExecutionException, InterruptedException, TimeoutException {
+        Map<TopicPartition, OffsetSpec> request = partitions.stream()
+                .collect(Collectors.toMap(Function.identity(), partition -> spec));
+        return admin.listOffsets(request).all().get(timeoutMs, TimeUnit.MILLISECONDS);
+    }
+
+    private AdminClient adminClient() {
+        AdminClient admin = adminClient;
+        if (admin == null) {
+            synchronized (this) {
+                admin = adminClient;
+                if (admin == null) {
+                    Map<String, Object> config = new HashMap<>();
+                    config.put(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+                    config.put(AdminClientConfig.REQUEST_TIMEOUT_MS_CONFIG, (int) timeoutMs);
+                    config.put(AdminClientConfig.DEFAULT_API_TIMEOUT_MS_CONFIG, (int) timeoutMs);
+                    admin = AdminClient.create(config);
+                    adminClient = admin;
+                }
+            }
+        }
+        return admin;
+    }
+
+    @PreDestroy
+    public void close() {
+        AdminClient admin = adminClient;
+        if (admin != null) {
+            admin.close();
+        }
+    }
+
+    /**
+     * 파티션 1개의 커밋/끝 오프셋
+     */
+    @Getter
+    public static class PartitionOffsets {
+
+        private final TopicPartition partition;
+        private final long committedOffset;
+        private final long endOffset;
+
+        public PartitionOffsets(TopicPartition partition, long committedOffset, long endOffset) {
+            this.partition = partition;
+            this.committedOffset = committedOffset;
+            this.endOffset = endOffset;
+        }
+
+        public long getLag() {
+            return Math.max(0, endOffset - committedOffset);
+        }
+    }
+}
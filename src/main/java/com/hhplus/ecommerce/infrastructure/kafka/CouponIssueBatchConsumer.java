@@ -0,0 +1,174 @@
+package com.hhplus.ecommerce.infrastructure.kafka;
+
+import com.hhplus.ecommerce.application.coupon.CouponReservationService;
+import com.hhplus.ecommerce.application.coupon.CouponService;
+import com.hhplus.ecommerce.application.coupon.dto.CouponBatchIssueResult;
+import com.hhplus.ecommerce.domain.coupon.CouponIssueFailureCode;
+import com.hhplus.ecommerce.domain.coupon.CouponNotFoundException;
+import com.hhplus.ecommerce.domain.coupon.event.CouponIssueRequest;
+import com.hhplus.ecommerce.presentation.coupon.response.IssueCouponResponse;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CouponIssueBatchConsumer - Kafka 쿠폰 발급 요청 배치 소비 서비스
+ *
+ * 역할:
+ * - coupon.issue.requests 토픽의 poll() 결과를 한 번에 처리
+ * - kafka.consumer.coupon-batch-enabled=true일 때 CouponIssueConsumer(단건) 대신 활성화
+ *
+ * 단건 리스너와의 차이:
+ * - 단건: 메시지당 트랜잭션 1회 + 쿠폰 행 락 1회 (10 스레드가 같은 행 락 경합)
+ * - 배치: poll 단위로 같은 쿠폰 요청을 모아 행 락 1회 + 재고 차감 1회 + 다건 INSERT 1회
+ *   → CouponService.issueCouponRequests()
+ *
+ * Offset 관리:
+ * - 배치 트랜잭션 커밋 후에만 acknowledge() (at-least-once)
+ * - 사용자별 비즈니스 실패(중복, 소진, 없는 쿠폰 등)는 개별 결과로 기록하고 커밋
+ * - 배치 트랜잭션 실패 시 단건 경로로 재처리 (요청마다 독립 트랜잭션)
+ *   → 단건에서도 시스템 오류가 나면 그 레코드에서 중단하고 BatchListenerFailedException(해당 레코드) 전파
+ *   → 에러 핸들러가 앞 레코드(발급 완료) Offset 커밋, 실패 레코드만 재시도 후 DLT, 뒤 레코드는 재전달
+ *   (재전달 시 중복은 UNIQUE/중복 검증으로 걸러짐)
+ *
+ * 역직렬화 실패 (ErrorHandlingDeserializer → 값 null + 예외 헤더, 예: 알 수 없는 스키마 ID):
+ * - 실패 레코드 앞까지만 발급한 뒤 BatchListenerFailedException(실패 레코드, 원인 DeserializationException)을 던짐
+ *   → 에러 핸들러가 앞 레코드 Offset 커밋, 실패 레코드는 재시도 없이 DLT, 뒤 레코드는 재전달
+ * - 예외 헤더 없는 null 값(tombstone)은 skip
+ */
+@Service
+@ConditionalOnProperty(name = "kafka.consumer.coupon-batch-enabled", havingValue = "true")
+public class CouponIssueBatchConsumer {
+
+    private static final Logger log = LoggerFactory.getLogger(CouponIssueBatchConsumer.class);
+
+    private final CouponService couponService;
+    private final CouponReservationService couponReservationService;
+
+    public CouponIssueBatchConsumer(CouponService couponService,
+                                    CouponReservationService couponReservationService) {
+        this.couponService = couponService;
+        this.couponReservationService = couponReservationService;
+    }
+
+    /**
+     * 쿠폰 발급 요청 배치 리스너
+     *
+     * 처리 흐름:
+     * 1. poll() 결과에서 요청 추출 (빈 메시지는 skip, 역직렬화 실패 레코드에서 중단)
+     * 2. CouponService.issueCouponRequests() - 쿠폰별 집계 후 단일 트랜잭션으로 발급
+     * 3. 요청별 결과 기록 (실패 시 예약 게이트 취소)
+     * 4. acknowledge() → 배치 Offset 커밋
+     *
+     * @param records poll된 레코드 목록
+     * @param acknowledgment 수동 커밋 객체
+     */
+    @KafkaListener(
+        topics = "${kafka.topics.coupon-issue-requests}",
+        groupId = "${kafka.consumer.coupon-group-id}",
+        containerFactory = "couponBatchKafkaListenerContainerFactory"
+    )
+    public void listenBatch(List<ConsumerRecord<String, CouponIssueRequest>> records,
+                            Acknowledgment acknowledgment) {
+        List<ConsumerRecord<String, CouponIssueRequest>> accepted = new ArrayList<>(records.size());
+        List<CouponIssueRequest> requests = new ArrayList<>(records.size());
+        ConsumerRecord<String, CouponIssueRequest> poisonRecord = null;
+        for (ConsumerRecord<String, CouponIssueRequest> record : records) {
+            if (DeserializationFailures.isFailure(record)) {
+                poisonRecord = record;
+                break;
+            }
+            if (record.value() == null) {
+                log.warn("[CouponIssueBatchConsumer] 빈 메시지 skip - partition={}, offset={}",
+                        record.partition(), record.offset());
+                continue;
+            }
+            accepted.add(record);
+            requests.add(record.value());
+        }
+
+        log.info("[CouponIssueBatchConsumer] Kafka 배치 수신 - records={}, requests={}",
+                records.size(), requests.size());
+
+        if (!requests.isEmpty()) {
+            try {
+                List<CouponBatchIssueResult> results = couponService.issueCouponRequests(requests);
+                for (int i = 0; i < requests.size(); i++) {
+                    handleResult(requests.get(i), results.get(i));
+                }
+
+            } catch (Exception e) {
+                log.warn("[CouponIssueBatchConsumer] 배치 발급 실패, 단건 처리로 전환 - size={}, error={}",
+                        requests.size(), e.getMessage());
+
+                processIndividually(accepted);
+            }
+        }
+
+        if (poisonRecord != null) {
+            // 앞 레코드는 발급 완료 → 에러 핸들러가 실패 레코드만 DLT로 보내고 나머지는 재전달
+            log.error("[CouponIssueBatchConsumer] 역직렬화 실패 레코드 DLT 격리 - partition={}, offset={}, processedBefore={}",
+                    poisonRecord.partition(), poisonRecord.offset(), requests.size());
+            throw new BatchListenerFailedException("쿠폰 발급 요청 역직렬화 실패",
+                    DeserializationFailures.cause(poisonRecord, "쿠폰 발급 요청 역직렬화 실패"), poisonRecord);
+        }
+
+        // 배치 트랜잭션 커밋 후 Offset 커밋
+        acknowledgment.acknowledge();
+        log.info("[CouponIssueBatchConsumer] 배치 Offset 커밋 완료 - records={}", records.size());
+    }
+
+    private void handleResult(CouponIssueRequest request, CouponBatchIssueResult result) {
+        if (result.isSuccess()) {
+            log.info("[CouponIssueBatchConsumer] 쿠폰 발급 완료 - requestId={}, userId={}, couponId={}, userCouponId={}",
+                    request.getRequestId(), request.getUserId(), request.getCouponId(),
+                    result.getResponse().getUserCouponId());
+            return;
+        }
+
+        log.warn("[CouponIssueBatchConsumer] 비즈니스 오류 (재시도 불필요) - requestId={}, userId={}, couponId={}, 오류: {}",
+                request.getRequestId(), request.getUserId(), request.getCouponId(), result.getFailureReason());
+
+        // 예약 게이트 카운터 복구 (게이트 비활성화 시 NOOP)
+        couponReservationService.release(request.getUserId(), request.getCouponId(), result, request.getRequestedAt());
+    }
+
+    /**
+     * 단건 경로로 재처리 (CouponIssueConsumer와 동일한 판정)
+     *
+     * @throws BatchListenerFailedException 시스템 오류가 난 첫 레코드 (이전 레코드는 발급 완료)
+     */
+    private void processIndividually(List<ConsumerRecord<String, CouponIssueRequest>> records) {
+        for (ConsumerRecord<String, CouponIssueRequest> record : records) {
+            CouponIssueRequest request = record.value();
+            try {
+                IssueCouponResponse response = couponService.issueCouponWithLock(
+                        request.getUserId(),
+                        request.getCouponId()
+                );
+                handleResult(request, CouponBatchIssueResult.success(request.getUserId(), response));
+
+            } catch (IllegalArgumentException e) {
+                handleResult(request, CouponBatchIssueResult.failure(request.getUserId(), e));
+
+            } catch (CouponNotFoundException e) {
+                handleResult(request, CouponBatchIssueResult.failure(request.getUserId(), CouponIssueFailureCode.NOT_FOUND));
+
+            } catch (Exception e) {
+                // 이 레코드만 재시도/DLT 대상 → 뒤 레코드는 에러 핸들러가 재전달
+                log.error("[CouponIssueBatchConsumer] 메시지 처리 실패 (재처리 예정) - requestId={}, userId={}, couponId={}, partition={}, offset={}, error={}",
+                        request.getRequestId(), request.getUserId(), request.getCouponId(),
+                        record.partition(), record.offset(), e.getMessage(), e);
+                throw new BatchListenerFailedException("쿠폰 발급 요청 처리 실패 (재처리 예정)", e, record);
+            }
+        }
+    }
+}
@@ -1,10 +1,13 @@
 package com.hhplus.ecommerce.infrastructure.kafka;
 
+import com.hhplus.ecommerce.application.coupon.CouponReservationService;
 import com.hhplus.ecommerce.application.coupon.CouponService;
+import com.hhplus.ecommerce.application.coupon.CouponStockLeaseService;
 import com.hhplus.ecommerce.domain.coupon.event.CouponIssueRequest;
 import com.hhplus.ecommerce.presentation.coupon.response.IssueCouponResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.kafka.support.KafkaHeaders;
@@ -52,16 +55,29 @@ import org.springframework.stereotype.Service;
  * - 처리량: 200 req/s (P=10), 10,000 req/s (P=500)
  * - Consumer 개수 = 파티션 개수 (최대 병렬도)
  * - 각 Consumer: ~20 req/s (DB 처리 시간 ~50ms)
+ *
+ * 역직렬화 실패 (ErrorHandlingDeserializer, 예: 알 수 없는 스키마 ID):
+ * - 컨테이너가 리스너 호출 전에 에러 핸들러로 넘김 → 재시도 없이 DLT({토픽}.DLT), 다음 레코드 진행
+ *
+ * 배치 모드:
+ * - kafka.consumer.coupon-batch-enabled=true면 CouponIssueBatchConsumer가 대신 활성화
  */
 @Service
+@ConditionalOnProperty(name = "kafka.consumer.coupon-batch-enabled", havingValue = "false", matchIfMissing = true)
 public class CouponIssueConsumer {
 
     private static final Logger log = LoggerFactory.getLogger(CouponIssueConsumer.class);
 
     private final CouponService couponService;
+    private final CouponReservationService couponReservationService;
+    private final CouponStockLeaseService couponStockLeaseService;
 
-    public CouponIssueConsumer(CouponService couponService) {
+    public CouponIssueConsumer(CouponService couponService,
+                               CouponReservationService couponReservationService,
+                               CouponStockLeaseService couponStockLeaseService) {
         this.couponService = couponService;
+        this.couponReservationService = couponReservationService;
+        this.couponStockLeaseService = couponStockLeaseService;
     }
 
     /**
@@ -115,7 +131,7 @@ public class CouponIssueConsumer {
 
         try {
             // 비즈니스 로직 처리 (멱등성 보장)
-            handleCouponIssue(request);
+            handleCouponIssue(request, partition);
 
             // 처리 성공 → Offset 커밋
             acknowledgment.acknowledge();
@@ -132,6 +148,9 @@ public class CouponIssueConsumer {
                     partition, offset, request.getRequestId(), request.getUserId(),
                     request.getCouponId(), e.getMessage());
 
+            // 예약 게이트 카운터 복구 (게이트 비활성화 시 NOOP)
+            couponReservationService.release(request.getUserId(), request.getCouponId(), e, request.getRequestedAt());
+
             // Offset 커밋 (재시도 불필요)
             acknowledgment.acknowledge();
             log.info("[CouponIssueConsumer] 비즈니스 오류 Offset 커밋 완료 - " +
@@ -184,11 +203,16 @@ public class CouponIssueConsumer {
      * - UNIQUE(user_id, coupon_id) 제약으로 중복 발급 방지
      * - 중복 시 IllegalArgumentException 발생
      *
+     * 재고 임대 모드 (coupon.stock-lease.enabled=true):
+     * - couponId Key 파티셔닝과 함께 사용
+     * - 파티션 소유 스레드가 임대 재고로 발급 (CouponStockLeaseService, 발급마다 행 락 없음)
+     *
      * @param request 쿠폰 발급 요청
+     * @param partition 요청이 속한 파티션 (임대 재고 소유 단위)
      * @throws IllegalArgumentException 중복 발급, 쿠폰 소진, 유효기간 만료 등
      * @throws Exception 처리 실패 시 (DB 오류, 네트워크 오류 등)
      */
-    private void handleCouponIssue(CouponIssueRequest request) throws Exception {
+    private void handleCouponIssue(CouponIssueRequest request, int partition) throws Exception {
         log.info("[CouponIssueConsumer] >>> 쿠폰 발급 처리 시작 <<<");
         log.info("[CouponIssueConsumer]     - requestId: {}", request.getRequestId());
         log.info("[CouponIssueConsumer]     - userId: {}", request.getUserId());
@@ -199,10 +223,9 @@ public class CouponIssueConsumer {
         // - DB 비관적 락 (SELECT FOR UPDATE)
         // - UNIQUE constraint (user_id, coupon_id)로 중복 발급 방지
         // - 중복 시 IllegalArgumentException: "이 쿠폰은 이미 발급받으셨습니다"
-        IssueCouponResponse response = couponService.issueCouponWithLock(
-                request.getUserId(),
-                request.getCouponId()
-        );
+        IssueCouponResponse response = couponStockLeaseService.isEnabled()
+                ? couponStockLeaseService.issue(partition, request.getUserId(), request.getCouponId())
+                : couponService.issueCouponWithLock(request.getUserId(), request.getCouponId());
 
         log.info("[CouponIssueConsumer] 쿠폰 발급 완료 - " +
                 "requestId={}, userId={}, couponId={}, userCouponId={}, discountAmount={}",
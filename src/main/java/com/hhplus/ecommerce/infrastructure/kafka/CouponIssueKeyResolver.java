@@ -0,0 +1,61 @@
+package com.hhplus.ecommerce.infrastructure.kafka;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * CouponIssueKeyResolver - 쿠폰별 파티셔닝 Key 결정
+ *
+ * 설정:
+ * - kafka.coupon-issue.key-strategy: 기본 전략 (USER | COUPON | COUPON_BUCKET, 기본값 USER)
+ * - kafka.coupon-issue.hot-coupon-ids: COUPON_BUCKET을 적용할 초고트래픽 쿠폰 ID (쉼표 구분)
+ * - kafka.coupon-issue.hot-coupon-buckets: 초고트래픽 쿠폰의 버킷 수 (기본값 4)
+ *
+ * 기본 전략이 USER여도 hot-coupon-ids에 지정된 쿠폰은 COUPON_BUCKET으로 발행된다.
+ */
+@Component
+public class CouponIssueKeyResolver {
+
+    private final CouponIssueKeyStrategy defaultStrategy;
+    private final Set<Long> hotCouponIds;
+    private final int hotCouponBuckets;
+
+    public CouponIssueKeyResolver(
+            @Value("${kafka.coupon-issue.key-strategy:USER}") CouponIssueKeyStrategy defaultStrategy,
+            @Value("${kafka.coupon-issue.hot-coupon-ids:}") String hotCouponIds,
+            @Value("${kafka.coupon-issue.hot-coupon-buckets:4}") int hotCouponBuckets) {
+        this.defaultStrategy = defaultStrategy;
+        this.hotCouponIds = Arrays.stream(hotCouponIds.split(","))
+                .map(String::trim)
+                .filter(id -> !id.isEmpty())
+                .map(Long::valueOf)
+                .collect(Collectors.toUnmodifiableSet());
+        this.hotCouponBuckets = Math.max(1, hotCouponBuckets);
+    }
+
+    /**
+     * 쿠폰에 적용할 Key 전략
+     */
+    public CouponIssueKeyStrategy strategyFor(Long couponId) {
+        return hotCouponIds.contains(couponId) ? CouponIssueKeyStrategy.COUPON_BUCKET : defaultStrategy;
+    }
+
+    /**
+     * 메시지 Key 결정
+     *
+     * @param userId 사용자 ID
+     * @param couponId 쿠폰 ID
+     * @return Kafka 메시지 Key
+     */
+    public String resolveKey(Long userId, Long couponId) {
+        return switch (strategyFor(couponId)) {
+            case USER -> String.valueOf(userId);
+            case COUPON -> String.valueOf(couponId);
+            case COUPON_BUCKET -> couponId + ":" + Math.floorMod(userId, (long) hotCouponBuckets);
+        };
+    }
+}
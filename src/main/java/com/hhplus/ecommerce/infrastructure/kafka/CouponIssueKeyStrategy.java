@@ -0,0 +1,20 @@
+package com.hhplus.ecommerce.infrastructure.kafka;
+
+/**
+ * CouponIssueKeyStrategy - coupon.issue.requests 메시지 Key 전략
+ *
+ * Key가 파티션을 결정하므로 "누가 어떤 쿠폰의 재고를 경합하는가"를 결정한다.
+ *
+ * - USER: userId (기존 방식)
+ *   같은 쿠폰 요청이 모든 파티션에 흩어짐 → 모든 컨슈머가 같은 coupons 행 락 경합
+ * - COUPON: couponId
+ *   한 쿠폰의 요청이 한 파티션에 모임 → 한 컨슈머 스레드가 쿠폰 재고를 단독 소유
+ * - COUPON_BUCKET: couponId + ":" + (userId % 버킷 수)
+ *   초고트래픽 쿠폰을 버킷 수만큼의 파티션으로 분산 (버킷별로 재고를 임대하여 소유)
+ *   같은 (userId, couponId)는 항상 같은 버킷 → 중복 발급 판정이 한 소유자 안에서 이루어짐
+ */
+public enum CouponIssueKeyStrategy {
+    USER,
+    COUPON,
+    COUPON_BUCKET
+}
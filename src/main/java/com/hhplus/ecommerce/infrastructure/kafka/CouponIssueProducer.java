@@ -23,6 +23,7 @@ import java.util.concurrent.CompletableFuture;
  * - 같은 userId는 항상 같은 파티션으로 전달
  * - Hash(userId) % PartitionCount → Partition 번호 결정
  * - 예: userId=123 → Partition 3 (고정)
+ * - 쿠폰별 Key 전략은 CouponIssueKeyResolver가 결정 (USER | COUPON | COUPON_BUCKET)
  *
  * 순서 보장:
  * - 같은 사용자(userId)의 요청은 같은 파티션 → 순서 보장
@@ -51,12 +52,15 @@ public class CouponIssueProducer {
     private static final Logger log = LoggerFactory.getLogger(CouponIssueProducer.class);
 
     private final KafkaTemplate<String, CouponIssueRequest> kafkaTemplate;
+    private final CouponIssueKeyResolver couponIssueKeyResolver;
 
     @Value("${kafka.topics.coupon-issue-requests}")
     private String topicName;
 
-    public CouponIssueProducer(KafkaTemplate<String, CouponIssueRequest> kafkaTemplate) {
+    public CouponIssueProducer(KafkaTemplate<String, CouponIssueRequest> kafkaTemplate,
+                               CouponIssueKeyResolver couponIssueKeyResolver) {
         this.kafkaTemplate = kafkaTemplate;
+        this.couponIssueKeyResolver = couponIssueKeyResolver;
     }
 
     /**
@@ -64,7 +68,7 @@ public class CouponIssueProducer {
      *
      * 파라미터:
      * - topic: coupon.issue.requests
-     * - key: userId (String) → 파티셔닝 기준
+     * - key: CouponIssueKeyResolver가 결정 (기본 userId) → 파티셔닝 기준
      * - value: CouponIssueRequest (JSON 직렬화)
      *
      * 비동기 발행:
@@ -85,9 +89,8 @@ public class CouponIssueProducer {
         // 1. CouponIssueRequest 생성
         CouponIssueRequest request = CouponIssueRequest.create(userId, couponId);
 
-        // 2. Kafka로 발행 (Key: userId, Value: request)
-        // Key를 String으로 변환하여 파티셔닝
-        String key = String.valueOf(userId);
+        // 2. Kafka로 발행 (Key: 쿠폰별 전략, Value: request)
+        String key = couponIssueKeyResolver.resolveKey(userId, couponId);
 
         try {
             log.info("[CouponIssueProducer] 쿠폰 발급 요청 발행 시작 - " +
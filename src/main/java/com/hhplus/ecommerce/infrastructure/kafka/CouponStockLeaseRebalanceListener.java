@@ -0,0 +1,53 @@
+package com.hhplus.ecommerce.infrastructure.kafka;
+
+import com.hhplus.ecommerce.application.coupon.CouponStockLeaseService;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * CouponStockLeaseRebalanceListener - 파티션 회수 시 임대 재고 반납
+ *
+ * 리밸런싱으로 파티션 소유자가 바뀌기 전에 (Offset 커밋 전, 컨슈머 스레드에서)
+ * 기존 소유자가 메모리에 들고 있던 미사용 임대 재고를 DB로 돌려놓는다.
+ * → 새 소유자는 반납된 remaining_qty에서 다시 임대하므로 재고가 중복 소유되지 않음
+ */
+@Component
+public class CouponStockLeaseRebalanceListener implements ConsumerAwareRebalanceListener {
+
+    private static final Logger log = LoggerFactory.getLogger(CouponStockLeaseRebalanceListener.class);
+
+    private final CouponStockLeaseService couponStockLeaseService;
+
+    public CouponStockLeaseRebalanceListener(CouponStockLeaseService couponStockLeaseService) {
+        this.couponStockLeaseService = couponStockLeaseService;
+    }
+
+    @Override
+    public void onPartitionsRevokedBeforeCommit(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        releaseLeases(partitions, "revoked");
+    }
+
+    @Override
+    public void onPartitionsLost(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        releaseLeases(partitions, "lost");
+    }
+
+    private void releaseLeases(Collection<TopicPartition> partitions, String reason) {
+        if (!couponStockLeaseService.isEnabled() || partitions.isEmpty()) {
+            return;
+        }
+        List<Integer> partitionNumbers = partitions.stream()
+                .map(TopicPartition::partition)
+                .collect(Collectors.toList());
+        log.info("[CouponStockLease] 파티션 {} → 임대 재고 반납: partitions={}", reason, partitionNumbers);
+        couponStockLeaseService.releasePartitions(partitionNumbers);
+    }
+}
@@ -0,0 +1,41 @@
+package com.hhplus.ecommerce.infrastructure.kafka;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.core.log.LogAccessor;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.kafka.support.serializer.SerializationUtils;
+
+/**
+ * 배치 리스너용 역직렬화 실패 레코드 판별 (ErrorHandlingDeserializer → 값 null + 예외 헤더)
+ *
+ * - 배치 리스너에는 실패 레코드가 그대로 전달되므로 리스너가 위치를 지정해야 함
+ *   (BatchListenerFailedException의 cause로 DeserializationException 전달 → 에러 핸들러가 재시도 없이 DLT)
+ * - 단건 리스너는 컨테이너가 리스너 호출 전에 에러 핸들러로 넘기므로 사용하지 않음
+ */
+final class DeserializationFailures {
+
+    private static final LogAccessor HEADER_LOGGER = new LogAccessor(DeserializationFailures.class);
+
+    private DeserializationFailures() {
+    }
+
+    /**
+     * 값 역직렬화 실패 레코드 여부 (예외 헤더 없는 null 값은 tombstone)
+     */
+    static boolean isFailure(ConsumerRecord<?, ?> record) {
+        return record.value() == null
+                && record.headers().lastHeader(SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER) != null;
+    }
+
+    /**
+     * 예외 헤더의 DeserializationException (헤더를 복원하지 못하면 같은 타입으로 생성)
+     * - cause가 없으면 에러 핸들러가 재시도 대상으로 분류 → 독성 레코드가 백오프 동안 파티션을 막음
+     */
+    static DeserializationException cause(ConsumerRecord<?, ?> record, String description) {
+        DeserializationException cause = SerializationUtils.getExceptionFromHeader(
+                record, SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER, HEADER_LOGGER);
+        return cause != null
+                ? cause
+                : new DeserializationException(description + " (예외 헤더 복원 불가)", null, false, null);
+    }
+}
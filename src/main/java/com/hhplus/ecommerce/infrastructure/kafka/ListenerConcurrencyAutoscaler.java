@@ -0,0 +1,295 @@
+package com.hhplus.ecommerce.infrastructure.kafka;
+
+import com.hhplus.ecommerce.infrastructure.kafka.ConsumerLagReader.PartitionOffsets;
+import com.hhplus.ecommerce.infrastructure.kafka.ListenerScalingStatus.Decision;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ListenerConcurrencyAutoscaler - Consumer Lag 기반 리스너 동시성 자동 조절
+ *
+ * 문제:
+ * - 리스너 팩토리의 concurrency가 고정값 (주문 3, 쿠폰 10)
+ * - 쿠폰 오픈 시에는 Lag가 급증하고, 평소에는 대부분의 Consumer 스레드가 유휴 상태
+ *
+ * 동작 (kafka.autoscaling.interval-ms마다, 컨테이너별):
+ * 1. AdminClient로 그룹의 파티션별 Lag 조회 (ConsumerLagReader)
+ * 2. 목표 동시성 = ceil(이 노드에 할당된 파티션의 Lag ÷ target-lag-per-consumer),
+ *    [min-concurrency, min(max-concurrency, 할당된 파티션 수)]로 제한
+ *    - 그룹 전체 Lag를 기준으로 하면 모든 노드가 같은 목표를 잡아 그룹 전체로는 노드 수만큼 과다 증가
+ *    - 할당된 파티션이 없으면 (리밸런싱 중/중지) 평가 보류
+ * 3. 히스테리시스:
+ *    - 증가: 목표 > 현재이면 scale-up-cooldown-ms 경과 후 바로 적용
+ *    - 감소: 목표 < 현재가 scale-down-stable-cycles회 연속이고 scale-down-cooldown-ms 경과 시,
+ *      그 구간의 최대 목표값으로 적용 (순간적인 Lag 감소로 줄였다가 다시 늘리는 반복 방지)
+ * 4. 적용: 컨테이너 stop → setConcurrency → start (리밸런싱 1회 발생)
+ *
+ * 설정:
+ * - kafka.autoscaling.enabled: 관측 + 결정 (기본 false)
+ * - kafka.autoscaling.dry-run: 결정만 기록하고 컨테이너는 변경하지 않음 (기본 false)
+ *
+ * 관측 결과/결정은 getStatuses()로 조회 (KafkaConsumerScalingController)
+ */
+@Slf4j
+@Component
+public class ListenerConcurrencyAutoscaler {
+
+    private final KafkaListenerEndpointRegistry registry;
+    private final ConsumerLagReader lagReader;
+    private final boolean enabled;
+    private final boolean dryRun;
+    private final int minConcurrency;
+    private final int maxConcurrency;
+    private final long targetLagPerConsumer;
+    private final int scaleDownStableCycles;
+    private final long scaleUpCooldownMs;
+    private final long scaleDownCooldownMs;
+
+    private final Map<String, ListenerState> states = new ConcurrentHashMap<>();
+
+    public ListenerConcurrencyAutoscaler(
+            KafkaListenerEndpointRegistry registry,
+            ConsumerLagReader lagReader,
+            @Value("${kafka.autoscaling.enabled:false}") boolean enabled,
+            @Value("${kafka.autoscaling.dry-run:false}") boolean dryRun,
+            @Value("${kafka.autoscaling.min-concurrency:1}") int minConcurrency,
+            @Value("${kafka.autoscaling.max-concurrency:10}") int maxConcurrency,
+            @Value("${kafka.autoscaling.target-lag-per-consumer:1000}") long targetLagPerConsumer,
+            @Value("${kafka.autoscaling.scale-down-stable-cycles:6}") int scaleDownStableCycles,
+            @Value("${kafka.autoscaling.scale-up-cooldown-ms:30000}") long scaleUpCooldownMs,
+            @Value("${kafka.autoscaling.scale-down-cooldown-ms:120000}") long scaleDownCooldownMs) {
+        this.registry = registry;
+        this.lagReader = lagReader;
+        this.enabled = enabled;
+        this.dryRun = dryRun;
+        this.minConcurrency = Math.max(1, minConcurrency);
+        this.maxConcurrency = Math.max(this.minConcurrency, maxConcurrency);
+        this.targetLagPerConsumer = Math.max(1, targetLagPerConsumer);
+        this.scaleDownStableCycles = Math.max(1, scaleDownStableCycles);
+        this.scaleUpCooldownMs = scaleUpCooldownMs;
+        this.scaleDownCooldownMs = scaleDownCooldownMs;
+    }
+
+    @Scheduled(fixedDelayString = "${kafka.autoscaling.interval-ms:10000}",
+            initialDelayString = "${kafka.autoscaling.initial-delay-ms:30000}")
+    public void evaluate() {
+        if (!enabled) {
+            return;
+        }
+        evaluate(System.currentTimeMillis());
+    }
+
+    /**
+     * 지정 시각 기준으로 모든 동시성 컨테이너 평가 (속도/쿨다운 계산 기준 시각)
+     */
+    public void evaluate(long nowMillis) {
+        for (MessageListenerContainer container : registry.getListenerContainers()) {
+            if (!(container instanceof ConcurrentMessageListenerContainer<?, ?> concurrentContainer)) {
+                continue;
+            }
+            try {
+                evaluateContainer(concurrentContainer, nowMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.warn("[ListenerAutoscaler] Lag 조회 실패 - listenerId={}, error={}",
+                        container.getListenerId(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 컨테이너별 마지막 관측/결정 (리스너 ID 순)
+     */
+    public List<ListenerScalingStatus> getStatuses() {
+        return states.values().stream()
+                .map(state -> state.lastStatus)
+                .filter(status -> status != null)
+                .sorted(Comparator.comparing(ListenerScalingStatus::getListenerId))
+                .toList();
+    }
+
+    private void evaluateContainer(ConcurrentMessageListenerContainer<?, ?> container, long nowMillis)
+            throws Exception {
+        String listenerId = container.getListenerId();
+        String groupId = container.getGroupId();
+        String[] topicArray = container.getContainerProperties().getTopics();
+        if (listenerId == null || groupId == null || topicArray == null || topicArray.length == 0) {
+            return;
+        }
+        List<String> topics = Arrays.asList(topicArray);
+        List<PartitionOffsets> offsets = lagReader.read(groupId, topics);
+        Set<TopicPartition> assigned = assignedPartitions(container);
+
+        Map<String, Long> lagByPartition = new LinkedHashMap<>();
+        long totalLag = 0;
+        long committedTotal = 0;
+        long endTotal = 0;
+        long assignedLag = 0;
+        int assignedCount = 0;
+        for (PartitionOffsets offset : offsets) {
+            lagByPartition.put(offset.getPartition().toString(), offset.getLag());
+            totalLag += offset.getLag();
+            committedTotal += offset.getCommittedOffset();
+            endTotal += offset.getEndOffset();
+            if (assigned.contains(offset.getPartition())) {
+                assignedLag += offset.getLag();
+                assignedCount++;
+            }
+        }
+
+        ListenerState state = states.computeIfAbsent(listenerId, id -> new ListenerState());
+        double consumeRate = 0;
+        double produceRate = 0;
+        if (state.observedAt > 0 && nowMillis > state.observedAt) {
+            double elapsedSeconds = (nowMillis - state.observedAt) / 1000.0;
+            consumeRate = Math.max(0, committedTotal - state.committedTotal) / elapsedSeconds;
+            produceRate = Math.max(0, endTotal - state.endTotal) / elapsedSeconds;
+        }
+        state.observedAt = nowMillis;
+        state.committedTotal = committedTotal;
+        state.endTotal = endTotal;
+
+        int upper = Math.min(maxConcurrency, Math.max(1, assignedCount));
+        int lower = Math.min(minConcurrency, upper);
+        int current = container.getConcurrency();
+        long needed = (assignedLag + targetLagPerConsumer - 1) / targetLagPerConsumer;
+        int desired = (int) Math.max(lower, Math.min(upper, needed));
+
+        Decision decision = Decision.HOLD;
+        int target = current;
+        String reason;
+        long sinceLastScale = nowMillis - state.lastScaledAt;
+        if (assignedCount == 0) {
+            // 할당 현황을 모르는 상태에서 줄이거나 늘리지 않음 (다음 주기에 재평가)
+            desired = current;
+            reason = "할당된 파티션 없음 - 평가 보류 (리밸런싱 중 또는 중지)";
+        } else if (desired > current) {
+            state.belowCycles = 0;
+            state.belowWindowMax = 0;
+            if (sinceLastScale >= scaleUpCooldownMs) {
+                decision = Decision.SCALE_UP;
+                target = desired;
+                reason = String.format("할당 Lag %d > 스레드당 목표 %d x %d", assignedLag, targetLagPerConsumer, current);
+            } else {
+                reason = "증가 대기 (쿨다운 " + (scaleUpCooldownMs - sinceLastScale) + "ms 남음)";
+            }
+        } else if (desired < current) {
+            state.belowCycles++;
+            state.belowWindowMax = Math.max(state.belowWindowMax, desired);
+            if (state.belowCycles >= scaleDownStableCycles && sinceLastScale >= scaleDownCooldownMs) {
+                decision = Decision.SCALE_DOWN;
+                target = state.belowWindowMax;
+                reason = String.format("%d회 연속 목표 < 현재 (구간 최대 목표 %d)", state.belowCycles, target);
+            } else {
+                reason = String.format("감소 대기 (%d/%d회)", state.belowCycles, scaleDownStableCycles);
+            }
+        } else {
+            state.belowCycles = 0;
+            state.belowWindowMax = 0;
+            reason = "목표 동시성 유지";
+        }
+
+        boolean applied = false;
+        if (decision != Decision.HOLD) {
+            if (dryRun) {
+                reason += " (dry-run)";
+            } else if (!container.isRunning()) {
+                reason += " (컨테이너 중지 상태 - 미적용)";
+            } else {
+                applyConcurrency(container, target);
+                applied = true;
+            }
+            state.lastScaledAt = nowMillis;
+            state.belowCycles = 0;
+            state.belowWindowMax = 0;
+            log.info("[ListenerAutoscaler] {} - listenerId={}, concurrency {} → {}, assignedLag={}, reason={}",
+                    decision, listenerId, current, target, assignedLag, reason);
+        }
+
+        state.lastStatus = ListenerScalingStatus.builder()
+                .listenerId(listenerId)
+                .groupId(groupId)
+                .topics(new ArrayList<>(topics))
+                .partitionCount(offsets.size())
+                .lagByPartition(lagByPartition)
+                .totalLag(totalLag)
+                .assignedPartitionCount(assignedCount)
+                .assignedLag(assignedLag)
+                .consumeRatePerSecond(consumeRate)
+                .produceRatePerSecond(produceRate)
+                .timeToDrainSeconds(timeToDrainSeconds(totalLag, consumeRate, produceRate))
+                .currentConcurrency(current)
+                .desiredConcurrency(desired)
+                .minConcurrency(lower)
+                .maxConcurrency(upper)
+                .decision(decision)
+                .applied(applied)
+                .reason(reason)
+                .evaluatedAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(nowMillis), ZoneId.systemDefault()))
+                .build();
+    }
+
+    /**
+     * 이 노드의 컨테이너(모든 자식 Consumer)에 현재 할당된 파티션
+     */
+    private Set<TopicPartition> assignedPartitions(ConcurrentMessageListenerContainer<?, ?> container) {
+        Collection<TopicPartition> assigned = container.getAssignedPartitions();
+        return assigned == null ? Set.of() : new HashSet<>(assigned);
+    }
+
+    /**
+     * 동시성 변경: stop 완료 콜백에서 concurrency 변경 후 재시작 (새 Consumer 수로 리밸런싱)
+     */
+    private void applyConcurrency(ConcurrentMessageListenerContainer<?, ?> container, int concurrency) {
+        container.stop(() -> {
+            container.setConcurrency(concurrency);
+            container.start();
+        });
+    }
+
+    private Long timeToDrainSeconds(long totalLag, double consumeRate, double produceRate) {
+        if (totalLag == 0) {
+            return 0L;
+        }
+        double drainRate = consumeRate - produceRate;
+        if (drainRate <= 0) {
+            return null;
+        }
+        return (long) Math.ceil(totalLag / drainRate);
+    }
+
+    /**
+     * 컨테이너별 평가 상태 (스케줄러 스레드에서만 변경, 조회는 lastStatus만)
+     */
+    private static class ListenerState {
+        private long observedAt;
+        private long committedTotal;
+        private long endTotal;
+        private long lastScaledAt = Long.MIN_VALUE / 2;
+        private int belowCycles;
+        private int belowWindowMax;
+        private volatile ListenerScalingStatus lastStatus;
+    }
+}
@@ -0,0 +1,47 @@
+package com.hhplus.ecommerce.infrastructure.kafka;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ListenerScalingStatus - 리스너 컨테이너 1개의 마지막 Lag 관측 + 동시성 결정
+ *
+ * - partitionCount / lagByPartition / totalLag: 그룹 전체 (모든 노드)
+ * - assignedPartitionCount / assignedLag: 이 노드에 할당된 파티션만 (동시성 결정 기준)
+ * - consumeRatePerSecond / produceRatePerSecond: 직전 평가 대비 커밋/끝 오프셋 증가 속도 (첫 평가는 0)
+ * - timeToDrainSeconds: Lag ÷ (소비 속도 - 생산 속도), Lag가 줄지 않는 중이면 null
+ */
+@Getter
+@Builder
+public class ListenerScalingStatus {
+
+    public enum Decision {
+        SCALE_UP,
+        SCALE_DOWN,
+        HOLD
+    }
+
+    private final String listenerId;
+    private final String groupId;
+    private final List<String> topics;
+    private final int partitionCount;
+    private final Map<String, Long> lagByPartition;
+    private final long totalLag;
+    private final int assignedPartitionCount;
+    private final long assignedLag;
+    private final double consumeRatePerSecond;
+    private final double produceRatePerSecond;
+    private final Long timeToDrainSeconds;
+    private final int currentConcurrency;
+    private final int desiredConcurrency;
+    private final int minConcurrency;
+    private final int maxConcurrency;
+    private final Decision decision;
+    private final boolean applied;
+    private final String reason;
+    private final LocalDateTime evaluatedAt;
+}
@@ -1,18 +1,27 @@
 package com.hhplus.ecommerce.infrastructure.kafka;
 
 import com.hhplus.ecommerce.domain.order.DataPlatformEvent;
-import com.hhplus.ecommerce.domain.order.DataPlatformEventRepository;
+import com.hhplus.ecommerce.domain.order.DataPlatformEventBatchRepository;
 import com.hhplus.ecommerce.domain.order.event.OrderCompletedEvent;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.kafka.support.Acknowledgment;
-import org.springframework.kafka.support.KafkaHeaders;
-import org.springframework.messaging.handler.annotation.Header;
-import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.converter.MessageConversionException;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
 /**
  * OrderEventConsumer - Kafka 주문 이벤트 소비 서비스
  *
@@ -26,195 +35,198 @@ import org.springframework.stereotype.Service;
  * - 동일 그룹 내 Consumer들이 파티션을 분담하여 처리
  * - 예: 3개 파티션, 3개 Consumer → 각 Consumer가 1개 파티션 담당
  *
- * Offset 관리:
- * - enable-auto-commit=false: 수동 커밋
- * - 메시지 처리 성공 후 acknowledgment.acknowledge() 호출
- * - 처리 실패 시 커밋하지 않음 → 재처리 보장 (at-least-once)
+ * 배치 처리 (orderEventBatchKafkaListenerContainerFactory):
+ * - poll() 결과(최대 max.poll.records건)를 한 번에 전달받음
+ * - 배치 안에서 orderId 기준 중복 제거 (재전달/중복 발행분)
+ * - DataPlatformEventBatchRepository로 다건 INSERT (이미 저장된 주문은 DB에서 무시)
+ *   → 메시지마다 JPA save + DataIntegrityViolationException으로 중복 판정하지 않음
+ * - 저장 성공 후 acknowledge() → 배치 Offset 커밋
+ * - 저장 실패 시 acknowledge 하지 않고 예외 전파 → 컨테이너 ErrorHandler가 배치 재전달
+ *   (재전달된 행은 중복으로 무시되므로 부분 저장 후 재처리도 안전)
+ *
+ * 역직렬화 실패 (ErrorHandlingDeserializer → 값 null + 예외 헤더):
+ * - 실패 레코드 앞까지만 저장한 뒤 BatchListenerFailedException(실패 레코드)을 던짐
+ *   - 원인(cause)은 예외 헤더의 DeserializationException → DefaultErrorHandler 기본 분류상 재시도 제외
+ *   → 에러 핸들러가 앞 레코드 Offset 커밋, 실패 레코드는 재시도 없이 DLT, 뒤 레코드는 재전달
+ * - 예외 헤더 없는 null 값(tombstone)과 orderId 없는 이벤트는 처리할 내용이 없으므로 skip
+ *
+ * 필수 필드 누락 (userId / totalAmount / occurredAt 중 null):
+ * - 그대로 INSERT하면 NOT NULL 위반 / Timestamp 변환 NPE로 배치 전체가 재시도 후 DLT로 감
+ * - 역직렬화 실패와 같은 방식으로 해당 레코드만 격리
+ *   - 원인은 MessageConversionException → DefaultErrorHandler 기본 분류상 재시도 제외
  *
- * 동시성:
- * - concurrency=3: 3개의 Consumer 스레드로 병렬 처리
- * - 각 스레드가 독립적으로 메시지 처리
+ * 지표:
+ * - 파티션별 lag (배치 처리 직후 Consumer.currentLag), 처리/중복 건수, 배치 수
  *
- * 처리 로직:
- * 1. Kafka에서 메시지 수신
- * 2. OrderCompletedEvent로 역직렬화
- * 3. 비즈니스 로직 처리 (데이터 웨어하우스 전송, 알림 등)
- * 4. 성공 시 acknowledgment.acknowledge() → Offset 커밋
- * 5. 실패 시 로깅 + 커밋하지 않음 → 다음 poll()에서 재처리
+ * 중복 처리 방지 전략 (다층 방어):
+ * - Layer 1: Producer 멱등성 (enable.idempotence=true)
+ * - Layer 2: at-least-once (수동 커밋)
+ * - Layer 3: 배치 내 orderId 중복 제거 + DB Unique Constraint (order_id, event_type)
  */
 @Service
 public class OrderEventConsumer {
 
     private static final Logger log = LoggerFactory.getLogger(OrderEventConsumer.class);
 
-    private final DataPlatformEventRepository dataPlatformEventRepository;
+    private static final String EVENT_TYPE_ORDER_COMPLETED = "ORDER_COMPLETED";
+
+    private final DataPlatformEventBatchRepository dataPlatformEventBatchRepository;
+
+    private final LongAdder processedEvents = new LongAdder();
+    private final LongAdder duplicateEvents = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final Map<TopicPartition, Long> lagByPartition = new ConcurrentHashMap<>();
 
-    public OrderEventConsumer(DataPlatformEventRepository dataPlatformEventRepository) {
-        this.dataPlatformEventRepository = dataPlatformEventRepository;
+    public OrderEventConsumer(DataPlatformEventBatchRepository dataPlatformEventBatchRepository) {
+        this.dataPlatformEventBatchRepository = dataPlatformEventBatchRepository;
     }
 
     /**
-     * 주문 완료 이벤트 리스너
+     * 주문 완료 이벤트 배치 리스너
      *
-     * @KafkaListener 설정:
-     * - topics: order.events (application.yml의 kafka.topics.order-events)
-     * - groupId: ecommerce-order-consumer-group
-     * - containerFactory: kafkaListenerContainerFactory (KafkaConfig 참조)
+     * 처리 흐름:
+     * 1. poll() 결과에서 이벤트 추출 (빈 메시지는 skip, 역직렬화 실패 / 필수 필드 누락 레코드에서 중단)
+     * 2. orderId 기준 중복 제거 (먼저 수신한 이벤트 유지)
+     * 3. 다건 INSERT (중복은 DB에서 무시)
+     * 4. acknowledge() → 배치 Offset 커밋
+     * 5. 파티션별 lag 갱신
      *
-     * 파라미터:
-     * - @Payload: 메시지 본문 (OrderCompletedEvent)
-     * - @Header(PARTITION): 메시지가 속한 파티션 번호
-     * - @Header(OFFSET): 메시지 Offset
-     * - acknowledgment: 수동 커밋용 객체
-     *
-     * 처리 흐름 (중복 처리 방지 적용):
-     * 1. Kafka에서 메시지 poll
-     * 2. JSON → OrderCompletedEvent 역직렬화
-     * 3. handleOrderCompleted() 호출 (멱등성 보장)
-     *    - DataPlatformEvent 저장 시도 (UNIQUE constraint)
-     *    - 중복 시 DataIntegrityViolationException 발생 → 중복으로 판단
-     * 4. 처리 성공 → acknowledgment.acknowledge()
-     * 5. 중복 메시지 → acknowledgment.acknowledge() (재처리 불필요)
-     * 6. 실제 실패 → 커밋하지 않음 → 재처리
-     *
-     * 중복 처리 방지 전략 (다층 방어):
-     * - Layer 1: Producer 멱등성 (enable.idempotence=true)
-     * - Layer 2: at-least-once (수동 커밋)
-     * - Layer 3: DB Unique Constraint (order_id, event_type) ← 이 레이어
-     *
-     * @param event 주문 완료 이벤트
-     * @param partition 파티션 번호
-     * @param offset Offset
+     * @param records poll된 레코드 목록
      * @param acknowledgment 수동 커밋 객체
+     * @param consumer lag 조회용 Consumer (리스너 스레드 전용)
      */
     @KafkaListener(
         topics = "${kafka.topics.order-events}",
         groupId = "${kafka.consumer.group-id}",
-        containerFactory = "kafkaListenerContainerFactory"
+        containerFactory = "orderEventBatchKafkaListenerContainerFactory"
     )
-    public void listen(
-            @Payload OrderCompletedEvent event,
-            @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
-            @Header(KafkaHeaders.OFFSET) long offset,
-            Acknowledgment acknowledgment) {
-
-        log.info("[OrderEventConsumer] Kafka 메시지 수신 - " +
-                "partition={}, offset={}, orderId={}, userId={}, amount={}",
-                partition, offset, event.getOrderId(), event.getUserId(), event.getTotalAmount());
-
-        try {
-            // 비즈니스 로직 처리 (멱등성 보장)
-            handleOrderCompleted(event);
-
-            // 처리 성공 → Offset 커밋
-            acknowledgment.acknowledge();
-            log.info("[OrderEventConsumer] Offset 커밋 완료 - partition={}, offset={}, orderId={}",
-                    partition, offset, event.getOrderId());
-
-        } catch (DataIntegrityViolationException e) {
-            // ===== 중복 메시지 처리 =====
-            // UNIQUE constraint 위반 → 이미 처리된 메시지
-            // at-least-once 보장으로 인한 재처리 시나리오:
-            // 1. Consumer 재시작 후 미커밋 Offset 재처리
-            // 2. Kafka Rebalancing 중 중복 수신
-            // 3. 네트워크 재전송 (Producer 멱등성으로 방지되지만 방어적 처리)
-            log.warn("[OrderEventConsumer] 중복 메시지 감지 (이미 처리됨) - " +
-                    "partition={}, offset={}, orderId={}, 처리: Offset 커밋하고 skip",
-                    partition, offset, event.getOrderId());
-
-            // Offset 커밋 (중복이지만 재처리 불필요)
-            acknowledgment.acknowledge();
-            log.info("[OrderEventConsumer] 중복 메시지 Offset 커밋 완료 - partition={}, offset={}, orderId={}",
-                    partition, offset, event.getOrderId());
-
-        } catch (Exception e) {
-            // ===== 실제 에러 처리 =====
-            // 처리 실패 → 커밋하지 않음 → 다음 poll()에서 재처리
-            // 예: 외부 API 타임아웃, DB 연결 실패, 네트워크 오류 등
-            log.error("[OrderEventConsumer] 메시지 처리 실패 (재처리 예정) - " +
-                    "partition={}, offset={}, orderId={}, error={}",
-                    partition, offset, event.getOrderId(), e.getMessage(), e);
-
-            // Offset 커밋하지 않음 → 다음 poll()에서 같은 메시지 재처리
-            // 옵션:
-            // - 현재: 예외 전파하지 않고 로깅만 (재처리 보장)
-            // - 대안 1: 예외 전파하여 Spring Kafka ErrorHandler로 위임
-            // - 대안 2: 재시도 횟수 초과 시 DLQ (Dead Letter Queue)로 전송
+    public void listenBatch(List<ConsumerRecord<String, OrderCompletedEvent>> records,
+                            Acknowledgment acknowledgment,
+                            Consumer<?, ?> consumer) {
+        Map<Long, DataPlatformEvent> eventsByOrderId = new LinkedHashMap<>();
+        int duplicates = 0;
+        ConsumerRecord<String, OrderCompletedEvent> poisonRecord = null;
+        RuntimeException poisonCause = null;
+        for (ConsumerRecord<String, OrderCompletedEvent> record : records) {
+            if (DeserializationFailures.isFailure(record)) {
+                poisonRecord = record;
+                poisonCause = DeserializationFailures.cause(record, "주문 이벤트 역직렬화 실패");
+                break;
+            }
+            OrderCompletedEvent event = record.value();
+            if (event == null || event.getOrderId() == null) {
+                log.warn("[OrderEventConsumer] 빈 메시지 skip - partition={}, offset={}",
+                        record.partition(), record.offset());
+                continue;
+            }
+            String missingField = missingRequiredField(event);
+            if (missingField != null) {
+                poisonRecord = record;
+                poisonCause = new MessageConversionException("주문 이벤트 필수 필드 누락: " + missingField);
+                break;
+            }
+            if (eventsByOrderId.putIfAbsent(event.getOrderId(), toDataPlatformEvent(event)) != null) {
+                duplicates++;
+            }
+        }
+
+        // 외부 데이터 플랫폼 전송이 필요하면 이 지점에서 배치 단위로 1회 호출
+        List<DataPlatformEvent> events = new ArrayList<>(eventsByOrderId.values());
+        // 반환값은 실제 삽입 수가 아님 (중복으로 무시된 행도 포함) → 로그에는 시도 건수로만 기록
+        int attempted = dataPlatformEventBatchRepository.insertIgnoringDuplicates(events);
+
+        if (poisonRecord != null) {
+            // 앞 레코드는 저장 완료 → 에러 핸들러가 실패 레코드만 DLT로 보내고 나머지는 재전달
+            processedEvents.add(events.size());
+            duplicateEvents.add(duplicates);
+            log.error("[OrderEventConsumer] 처리 불가 레코드 DLT 격리 - partition={}, offset={}, attemptedBefore={}, reason={}",
+                    poisonRecord.partition(), poisonRecord.offset(), attempted, poisonCause.getMessage());
+            throw new BatchListenerFailedException("주문 이벤트 처리 불가", poisonCause, poisonRecord);
         }
+
+        // 저장 성공 후 Offset 커밋 (실패 시 예외 전파 → 재전달)
+        acknowledgment.acknowledge();
+
+        processedEvents.add(events.size());
+        duplicateEvents.add(duplicates);
+        batches.increment();
+        updateLag(records, consumer);
+
+        log.info("[OrderEventConsumer] 배치 처리 완료 - records={}, events={}, inBatchDuplicates={}, attempted={}, lag={}",
+                records.size(), events.size(), duplicates, attempted, getTotalLag());
     }
 
     /**
-     * 주문 완료 이벤트 처리 로직 (멱등성 보장)
-     *
-     * 처리 순서:
-     * 1. 외부 데이터 플랫폼으로 전송 (시뮬레이션)
-     * 2. DataPlatformEvent 저장 (멱등성 보장)
-     *    - UNIQUE constraint (order_id, event_type)로 중복 INSERT 방지
-     *    - 중복 시 DataIntegrityViolationException 발생 → 상위에서 catch
-     *
-     * 중복 처리 시나리오:
-     * 1. Consumer 재시작 후 미커밋 Offset 재처리
-     *    - 이전 처리가 성공했지만 Offset 커밋 전 서버 종료
-     *    - 재시작 후 같은 메시지 재처리
-     *    - DataPlatformEvent INSERT 시도 → UNIQUE constraint 위반
-     *    - DataIntegrityViolationException → 중복으로 판단 → Offset 커밋
-     *
-     * 2. Kafka Rebalancing 중 중복 수신
-     *    - Consumer Group 내 Consumer 추가/제거 시 Rebalancing
-     *    - 일시적으로 같은 메시지를 여러 Consumer가 처리
-     *    - 첫 처리: 성공 → DataPlatformEvent 저장
-     *    - 중복 처리: UNIQUE constraint 위반 → skip
-     *
-     * 실제 구현 예시 (TODO):
-     * 1. 데이터 웨어하우스로 전송
-     *    - HTTP API 호출 (재시도 로직 포함)
-     * 2. 알림 발송
-     *    - 주문 완료 SMS/Email 발송
-     * 3. 분석 시스템 연동
-     *    - 실시간 대시보드 업데이트
-     *
-     * @param event 주문 완료 이벤트
-     * @throws Exception 처리 실패 시 (외부 API 오류, 네트워크 오류 등)
-     * @throws DataIntegrityViolationException 중복 메시지 (UNIQUE constraint 위반)
+     * 배치에 포함된 파티션의 현재 lag 갱신 (Consumer가 아는 값이 없으면 유지)
      */
-    private void handleOrderCompleted(OrderCompletedEvent event) throws Exception {
-        log.info("[OrderEventConsumer] >>> 주문 완료 이벤트 처리 시작 <<<");
-        log.info("[OrderEventConsumer]     - orderId: {}", event.getOrderId());
-        log.info("[OrderEventConsumer]     - userId: {}", event.getUserId());
-        log.info("[OrderEventConsumer]     - totalAmount: {}", event.getTotalAmount());
-        log.info("[OrderEventConsumer]     - occurredAt: {}", event.getOccurredAt());
-
-        // ===== 1. 외부 데이터 플랫폼으로 전송 (시뮬레이션) =====
-        // 실제 구현:
-        // dataWarehouseClient.sendOrder(OrderDto.from(event));
-        // notificationService.sendOrderCompletedNotification(event.getUserId(), event.getOrderId());
-        // analyticsService.trackOrderCompleted(event);
-
-        // 시뮬레이션: 처리 시간 (외부 API 호출 시간)
-        Thread.sleep(100);
-
-        log.info("[OrderEventConsumer] 외부 데이터 플랫폼 전송 완료 (시뮬레이션)");
-
-        // ===== 2. DataPlatformEvent 저장 (멱등성 보장) =====
-        // UNIQUE constraint (order_id, event_type)로 중복 INSERT 방지
-        // 중복 시 DataIntegrityViolationException 발생 → 상위 catch 블록에서 처리
-        DataPlatformEvent dataPlatformEvent = DataPlatformEvent.create(
+    private void updateLag(List<ConsumerRecord<String, OrderCompletedEvent>> records, Consumer<?, ?> consumer) {
+        if (consumer == null) {
+            return;
+        }
+        records.stream()
+                .map(record -> new TopicPartition(record.topic(), record.partition()))
+                .distinct()
+                .forEach(partition -> {
+                    try {
+                        OptionalLong lag = consumer.currentLag(partition);
+                        if (lag.isPresent()) {
+                            lagByPartition.put(partition, lag.getAsLong());
+                        }
+                    } catch (Exception e) {
+                        log.debug("[OrderEventConsumer] lag 조회 실패 - partition={}", partition, e);
+                    }
+                });
+    }
+
+    /**
+     * data_platform_events NOT NULL 컬럼에 대응하는 필드 중 비어 있는 첫 필드명 (모두 있으면 null)
+     */
+    private static String missingRequiredField(OrderCompletedEvent event) {
+        if (event.getUserId() == null) {
+            return "userId";
+        }
+        if (event.getTotalAmount() == null) {
+            return "totalAmount";
+        }
+        if (event.getOccurredAt() == null) {
+            return "occurredAt";
+        }
+        return null;
+    }
+
+    private static DataPlatformEvent toDataPlatformEvent(OrderCompletedEvent event) {
+        return DataPlatformEvent.create(
                 event.getOrderId(),
-                "ORDER_COMPLETED",  // event_type
+                EVENT_TYPE_ORDER_COMPLETED,
                 event.getUserId(),
                 event.getTotalAmount(),
                 event.getOccurredAt()
         );
+    }
 
-        dataPlatformEventRepository.save(dataPlatformEvent);
-        log.info("[OrderEventConsumer] DataPlatformEvent 저장 완료 - eventId={}, orderId={}",
-                dataPlatformEvent.getEventId(), event.getOrderId());
+    /**
+     * 파티션별 마지막 관측 lag
+     */
+    public Map<TopicPartition, Long> getLagByPartition() {
+        return Map.copyOf(lagByPartition);
+    }
 
-        log.info("[OrderEventConsumer] >>> 주문 완료 이벤트 처리 완료 <<<");
+    /**
+     * 파티션별 lag 합계
+     */
+    public long getTotalLag() {
+        return lagByPartition.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    public long getProcessedEvents() {
+        return processedEvents.sum();
+    }
+
+    public long getDuplicateEvents() {
+        return duplicateEvents.sum();
+    }
 
-        // 실패 테스트용 시뮬레이션 (선택적):
-        // if (event.getOrderId() % 10 == 0) {
-        //     throw new Exception("Data warehouse connection timeout");
-        // }
+    public long getBatches() {
+        return batches.sum();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,83 @@
+package com.hhplus.ecommerce.infrastructure.kafka.codec;
+
+import org.apache.kafka.common.errors.SerializationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 바이너리 이벤트 읽기 (BinaryEventWriter 형식)
+ *
+ * 데이터가 끝나거나 길이가 잘못되면 SerializationException
+ */
+public class BinaryEventReader {
+
+    private final byte[] data;
+    private int position;
+
+    public BinaryEventReader(byte[] data, int offset) {
+        this.data = data;
+        this.position = offset;
+    }
+
+    public int readByte() {
+        require(1);
+        return data[position++] & 0xFF;
+    }
+
+    public byte[] readBytes(int length) {
+        require(length);
+        byte[] bytes = new byte[length];
+        System.arraycopy(data, position, bytes, 0, length);
+        position += length;
+        return bytes;
+    }
+
+    public long readVarLong() {
+        long zigzag = readUnsignedVarLong();
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+
+    public long readUnsignedVarLong() {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new SerializationException("잘못된 varint 형식입니다");
+    }
+
+    public long readFixedLong() {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | readByte();
+        }
+        return value;
+    }
+
+    public String readString() {
+        long length = readUnsignedVarLong();
+        if (length > data.length - position) {
+            throw new SerializationException("문자열 길이가 메시지 크기를 넘습니다: " + length);
+        }
+        String value = new String(data, position, (int) length, StandardCharsets.UTF_8);
+        position += (int) length;
+        return value;
+    }
+
+    public LocalDateTime readDateTime() {
+        long epochSecond = readVarLong();
+        int nano = (int) readUnsignedVarLong();
+        return LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+    }
+
+    private void require(int length) {
+        if (position + length > data.length) {
+            throw new SerializationException("메시지가 예상보다 짧습니다");
+        }
+    }
+}
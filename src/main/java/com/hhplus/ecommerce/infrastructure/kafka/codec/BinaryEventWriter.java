@@ -0,0 +1,80 @@
+package com.hhplus.ecommerce.infrastructure.kafka.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * 바이너리 이벤트 쓰기 버퍼
+ *
+ * - 정수: zigzag varint (작은 값/ID는 1~3바이트)
+ * - 문자열: varint 길이 + UTF-8
+ * - LocalDateTime: UTC 기준 epoch 초(zigzag varint) + 나노초(varint)
+ */
+public class BinaryEventWriter {
+
+    private byte[] buffer;
+    private int position;
+
+    public BinaryEventWriter(int initialCapacity) {
+        this.buffer = new byte[Math.max(16, initialCapacity)];
+    }
+
+    public BinaryEventWriter writeByte(int value) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) value;
+        return this;
+    }
+
+    public BinaryEventWriter writeBytes(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+        return this;
+    }
+
+    public BinaryEventWriter writeVarLong(long value) {
+        long zigzag = (value << 1) ^ (value >> 63);
+        return writeUnsignedVarLong(zigzag);
+    }
+
+    public BinaryEventWriter writeUnsignedVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+        return this;
+    }
+
+    public BinaryEventWriter writeFixedLong(long value) {
+        ensureCapacity(8);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            buffer[position++] = (byte) (value >>> shift);
+        }
+        return this;
+    }
+
+    public BinaryEventWriter writeString(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeUnsignedVarLong(bytes.length);
+        return writeBytes(bytes);
+    }
+
+    public BinaryEventWriter writeDateTime(LocalDateTime value) {
+        writeVarLong(value.toEpochSecond(ZoneOffset.UTC));
+        return writeUnsignedVarLong(value.getNano());
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    private void ensureCapacity(int additional) {
+        if (position + additional > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + additional));
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.hhplus.ecommerce.infrastructure.kafka.codec;
+
+import com.hhplus.ecommerce.domain.coupon.event.CouponIssueRequest;
+
+import java.util.UUID;
+
+/**
+ * CouponIssueRequest 바이너리 코덱 (schemaId=2)
+ *
+ * 본문 형식:
+ * - [1] 필드 존재 비트 (requestId, userId, couponId, requestedAt, retryCount, requestId가 UUID인지)
+ * - 존재하는 필드만 순서대로
+ * - requestId가 표준 UUID 문자열(CouponIssueRequest.create)이면 36바이트 문자열 대신 16바이트로 기록
+ */
+public class CouponIssueRequestCodec implements KafkaEventCodec<CouponIssueRequest> {
+
+    public static final int SCHEMA_ID = 2;
+
+    private static final int HAS_REQUEST_ID = 1;
+    private static final int HAS_USER_ID = 1 << 1;
+    private static final int HAS_COUPON_ID = 1 << 2;
+    private static final int HAS_REQUESTED_AT = 1 << 3;
+    private static final int HAS_RETRY_COUNT = 1 << 4;
+    private static final int REQUEST_ID_IS_UUID = 1 << 5;
+
+    @Override
+    public int schemaId() {
+        return SCHEMA_ID;
+    }
+
+    @Override
+    public Class<CouponIssueRequest> type() {
+        return CouponIssueRequest.class;
+    }
+
+    @Override
+    public void write(CouponIssueRequest request, BinaryEventWriter writer) {
+        UUID requestUuid = toCanonicalUuid(request.getRequestId());
+        int flags = (request.getRequestId() != null ? HAS_REQUEST_ID : 0)
+                | (request.getUserId() != null ? HAS_USER_ID : 0)
+                | (request.getCouponId() != null ? HAS_COUPON_ID : 0)
+                | (request.getRequestedAt() != null ? HAS_REQUESTED_AT : 0)
+                | (request.getRetryCount() != null ? HAS_RETRY_COUNT : 0)
+                | (requestUuid != null ? REQUEST_ID_IS_UUID : 0);
+
+        writer.writeByte(flags);
+        if (requestUuid != null) {
+            writer.writeFixedLong(requestUuid.getMostSignificantBits());
+            writer.writeFixedLong(requestUuid.getLeastSignificantBits());
+        } else if (request.getRequestId() != null) {
+            writer.writeString(request.getRequestId());
+        }
+        if (request.getUserId() != null) {
+            writer.writeVarLong(request.getUserId());
+        }
+        if (request.getCouponId() != null) {
+            writer.writeVarLong(request.getCouponId());
+        }
+        if (request.getRequestedAt() != null) {
+            writer.writeDateTime(request.getRequestedAt());
+        }
+        if (request.getRetryCount() != null) {
+            writer.writeVarLong(request.getRetryCount());
+        }
+    }
+
+    @Override
+    public CouponIssueRequest read(BinaryEventReader reader) {
+        int flags = reader.readByte();
+        String requestId = null;
+        if ((flags & REQUEST_ID_IS_UUID) != 0) {
+            requestId = new UUID(reader.readFixedLong(), reader.readFixedLong()).toString();
+        } else if ((flags & HAS_REQUEST_ID) != 0) {
+            requestId = reader.readString();
+        }
+        return CouponIssueRequest.builder()
+                .requestId(requestId)
+                .userId((flags & HAS_USER_ID) != 0 ? reader.readVarLong() : null)
+                .couponId((flags & HAS_COUPON_ID) != 0 ? reader.readVarLong() : null)
+                .requestedAt((flags & HAS_REQUESTED_AT) != 0 ? reader.readDateTime() : null)
+                .retryCount((flags & HAS_RETRY_COUNT) != 0 ? (int) reader.readVarLong() : null)
+                .build();
+    }
+
+    /**
+     * 표준 UUID 문자열이면 UUID, 아니면 null (문자열로 되돌렸을 때 원본과 같아야 함)
+     */
+    private static UUID toCanonicalUuid(String requestId) {
+        if (requestId == null || requestId.length() != 36) {
+            return null;
+        }
+        try {
+            UUID uuid = UUID.fromString(requestId);
+            return uuid.toString().equals(requestId) ? uuid : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
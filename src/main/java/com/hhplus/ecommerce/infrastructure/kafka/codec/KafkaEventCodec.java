@@ -0,0 +1,26 @@
+package com.hhplus.ecommerce.infrastructure.kafka.codec;
+
+/**
+ * 이벤트 타입 1개 + 스키마 버전 1개의 바이너리 인코딩
+ *
+ * - schemaId는 메시지에 함께 기록되며 (타입, 버전)을 식별
+ * - 필드를 바꾸면 기존 코덱은 그대로 두고 새 schemaId의 코덱을 추가 (이전 메시지 읽기 유지)
+ *
+ * @param <T> 이벤트 타입
+ */
+public interface KafkaEventCodec<T> {
+
+    /**
+     * 스키마 ID (토픽 내에서 고유, 1 이상)
+     */
+    int schemaId();
+
+    /**
+     * 이벤트 타입 (이 코덱으로 쓸 수 있는 값)
+     */
+    Class<T> type();
+
+    void write(T event, BinaryEventWriter writer);
+
+    T read(BinaryEventReader reader);
+}
@@ -0,0 +1,29 @@
+package com.hhplus.ecommerce.infrastructure.kafka.codec;
+
+import java.util.Locale;
+
+/**
+ * Kafka 이벤트 값 형식 (토픽별 Producer 설정)
+ *
+ * - JSON: Spring JsonSerializer (필드 이름 포함 JSON + __TypeId__ 헤더, 기존 형식)
+ * - BINARY: 스키마 ID가 포함된 압축 바이너리 (KafkaEventCodec)
+ *
+ * Consumer는 형식과 무관하게 두 형식을 모두 읽음 → Consumer 배포 후 Producer 형식 전환
+ */
+public enum KafkaWireFormat {
+    JSON,
+    BINARY;
+
+    /**
+     * 설정 값 → 형식 (대소문자 무시)
+     *
+     * @throws IllegalArgumentException 지원하지 않는 형식
+     */
+    public static KafkaWireFormat from(String value) {
+        try {
+            return KafkaWireFormat.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IllegalArgumentException("지원하지 않는 Kafka 메시지 형식입니다: " + value, e);
+        }
+    }
+}
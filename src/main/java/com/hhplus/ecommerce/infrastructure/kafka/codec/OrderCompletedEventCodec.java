@@ -0,0 +1,70 @@
+package com.hhplus.ecommerce.infrastructure.kafka.codec;
+
+import com.hhplus.ecommerce.domain.order.event.OrderCompletedEvent;
+
+/**
+ * OrderCompletedEvent 바이너리 코덱 (schemaId=1)
+ *
+ * 본문 형식:
+ * - [1] 필드 존재 비트 (userId, totalAmount, recipientName, shippingAddress, occurredAt)
+ * - orderId (항상 존재, ApplicationEvent source) → 이후 존재하는 필드만 순서대로
+ */
+public class OrderCompletedEventCodec implements KafkaEventCodec<OrderCompletedEvent> {
+
+    public static final int SCHEMA_ID = 1;
+
+    private static final int HAS_USER_ID = 1;
+    private static final int HAS_TOTAL_AMOUNT = 1 << 1;
+    private static final int HAS_RECIPIENT_NAME = 1 << 2;
+    private static final int HAS_SHIPPING_ADDRESS = 1 << 3;
+    private static final int HAS_OCCURRED_AT = 1 << 4;
+
+    @Override
+    public int schemaId() {
+        return SCHEMA_ID;
+    }
+
+    @Override
+    public Class<OrderCompletedEvent> type() {
+        return OrderCompletedEvent.class;
+    }
+
+    @Override
+    public void write(OrderCompletedEvent event, BinaryEventWriter writer) {
+        int flags = (event.getUserId() != null ? HAS_USER_ID : 0)
+                | (event.getTotalAmount() != null ? HAS_TOTAL_AMOUNT : 0)
+                | (event.getRecipientName() != null ? HAS_RECIPIENT_NAME : 0)
+                | (event.getShippingAddress() != null ? HAS_SHIPPING_ADDRESS : 0)
+                | (event.getOccurredAt() != null ? HAS_OCCURRED_AT : 0);
+
+        writer.writeByte(flags);
+        writer.writeVarLong(event.getOrderId());
+        if (event.getUserId() != null) {
+            writer.writeVarLong(event.getUserId());
+        }
+        if (event.getTotalAmount() != null) {
+            writer.writeVarLong(event.getTotalAmount());
+        }
+        if (event.getRecipientName() != null) {
+            writer.writeString(event.getRecipientName());
+        }
+        if (event.getShippingAddress() != null) {
+            writer.writeString(event.getShippingAddress());
+        }
+        if (event.getOccurredAt() != null) {
+            writer.writeDateTime(event.getOccurredAt());
+        }
+    }
+
+    @Override
+    public OrderCompletedEvent read(BinaryEventReader reader) {
+        int flags = reader.readByte();
+        Long orderId = reader.readVarLong();
+        Long userId = (flags & HAS_USER_ID) != 0 ? reader.readVarLong() : null;
+        Long totalAmount = (flags & HAS_TOTAL_AMOUNT) != 0 ? reader.readVarLong() : null;
+        String recipientName = (flags & HAS_RECIPIENT_NAME) != 0 ? reader.readString() : null;
+        String shippingAddress = (flags & HAS_SHIPPING_ADDRESS) != 0 ? reader.readString() : null;
+        return new OrderCompletedEvent(orderId, userId, totalAmount, recipientName, shippingAddress,
+                (flags & HAS_OCCURRED_AT) != 0 ? reader.readDateTime() : null);
+    }
+}
@@ -0,0 +1,37 @@
+package com.hhplus.ecommerce.infrastructure.kafka.codec;
+
+import org.apache.kafka.common.serialization.Serializer;
+
+/**
+ * 스키마 버전 바이너리 Serializer
+ *
+ * 메시지 형식: [MAGIC 1바이트][schemaId varint][코덱 본문]
+ * - MAGIC(0xB1)은 UTF-8 첫 바이트가 될 수 없는 값 → JSON 메시지와 첫 바이트로 구분
+ * - __TypeId__ 헤더를 쓰지 않음 (타입은 schemaId로 식별)
+ *
+ * @param <T> 이벤트 타입
+ */
+public class VersionedBinarySerializer<T> implements Serializer<T> {
+
+    public static final byte MAGIC = (byte) 0xB1;
+
+    private static final int INITIAL_BUFFER_SIZE = 128;
+
+    private final KafkaEventCodec<T> codec;
+
+    public VersionedBinarySerializer(KafkaEventCodec<T> codec) {
+        this.codec = codec;
+    }
+
+    @Override
+    public byte[] serialize(String topic, T data) {
+        if (data == null) {
+            return null;
+        }
+        BinaryEventWriter writer = new BinaryEventWriter(INITIAL_BUFFER_SIZE);
+        writer.writeByte(MAGIC);
+        writer.writeUnsignedVarLong(codec.schemaId());
+        codec.write(data, writer);
+        return writer.toByteArray();
+    }
+}
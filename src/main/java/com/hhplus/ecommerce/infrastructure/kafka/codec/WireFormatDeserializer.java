@@ -0,0 +1,74 @@
+package com.hhplus.ecommerce.infrastructure.kafka.codec;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JSON/바이너리 겸용 Deserializer
+ *
+ * - 첫 바이트가 MAGIC → schemaId로 코덱을 찾아 바이너리 본문 읽기
+ * - 그 외 → 기존 JSON Deserializer에 위임 (전환 전 메시지, 롤백 후 메시지)
+ *
+ * 모르는 schemaId는 건너뛰지 않고 SerializationException (새 스키마 Producer가 먼저 배포된 경우 → 에러 핸들러로 전달)
+ *
+ * @param <T> 이벤트 타입
+ */
+public class WireFormatDeserializer<T> implements Deserializer<T> {
+
+    private final Map<Integer, KafkaEventCodec<? extends T>> codecsBySchemaId = new HashMap<>();
+    private final Deserializer<T> jsonDeserializer;
+
+    public WireFormatDeserializer(List<KafkaEventCodec<? extends T>> codecs, Deserializer<T> jsonDeserializer) {
+        for (KafkaEventCodec<? extends T> codec : codecs) {
+            if (codecsBySchemaId.putIfAbsent(codec.schemaId(), codec) != null) {
+                throw new IllegalArgumentException("중복된 schemaId입니다: " + codec.schemaId());
+            }
+        }
+        this.jsonDeserializer = jsonDeserializer;
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        jsonDeserializer.configure(configs, isKey);
+    }
+
+    @Override
+    public T deserialize(String topic, byte[] data) {
+        if (isBinary(data)) {
+            return readBinary(data);
+        }
+        return jsonDeserializer.deserialize(topic, data);
+    }
+
+    @Override
+    public T deserialize(String topic, Headers headers, byte[] data) {
+        if (isBinary(data)) {
+            return readBinary(data);
+        }
+        return jsonDeserializer.deserialize(topic, headers, data);
+    }
+
+    @Override
+    public void close() {
+        jsonDeserializer.close();
+    }
+
+    private boolean isBinary(byte[] data) {
+        return data != null && data.length > 0 && data[0] == VersionedBinarySerializer.MAGIC;
+    }
+
+    private T readBinary(byte[] data) {
+        BinaryEventReader reader = new BinaryEventReader(data, 1);
+        long schemaId = reader.readUnsignedVarLong();
+        KafkaEventCodec<? extends T> codec = schemaId <= Integer.MAX_VALUE ? codecsBySchemaId.get((int) schemaId) : null;
+        if (codec == null) {
+            throw new SerializationException("지원하지 않는 schemaId입니다: " + schemaId);
+        }
+        return codec.read(reader);
+    }
+}
@@ -4,11 +4,17 @@ import com.hhplus.ecommerce.domain.coupon.UserCoupon;
 import com.hhplus.ecommerce.domain.coupon.UserCouponRepository;
 import com.hhplus.ecommerce.domain.coupon.UserCouponStatus;
 import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * MySQL 기반 UserCoupon Repository 구현
@@ -20,10 +26,17 @@ import java.util.Optional;
 @Primary
 public class MySQLUserCouponRepository implements UserCouponRepository {
 
+    private static final String BATCH_INSERT_PREFIX =
+            "INSERT INTO user_coupons (user_id, coupon_id, status, version, issued_at, used_at) VALUES ";
+    private static final String BATCH_INSERT_ROW = "(?, ?, ?, ?, ?, ?)";
+
     private final UserCouponJpaRepository userCouponJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
-    public MySQLUserCouponRepository(UserCouponJpaRepository userCouponJpaRepository) {
+    public MySQLUserCouponRepository(UserCouponJpaRepository userCouponJpaRepository,
+                                     JdbcTemplate jdbcTemplate) {
         this.userCouponJpaRepository = userCouponJpaRepository;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
@@ -36,6 +49,61 @@ public class MySQLUserCouponRepository implements UserCouponRepository {
         return userCouponJpaRepository.findByUserIdAndCouponId(userId, couponId);
     }
 
+    @Override
+    public List<Long> findIssuedUserIds(Long couponId, Collection<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return userCouponJpaRepository.findUserIdsByCouponIdAndUserIdIn(couponId, userIds);
+    }
+
+    @Override
+    public List<UserCoupon> findIssuedByUserIds(Long couponId, Collection<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return userCouponJpaRepository.findByCouponIdAndUserIdIn(couponId, userIds);
+    }
+
+    /**
+     * 사용자 쿠폰 일괄 저장
+     *
+     * IDENTITY 전략에서는 Hibernate JDBC 배치가 비활성화되므로
+     * 다건 VALUES INSERT 1회로 저장한 뒤 (coupon_id, user_id IN ...)로 발급 ID를 재조회
+     * - UNIQUE(user_id, coupon_id) 위반 시 DataIntegrityViolationException (호출 트랜잭션 롤백)
+     */
+    @Override
+    public List<UserCoupon> saveAllInBatch(List<UserCoupon> userCoupons) {
+        if (userCoupons == null || userCoupons.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        StringBuilder sql = new StringBuilder(BATCH_INSERT_PREFIX);
+        List<Object> params = new ArrayList<>(userCoupons.size() * 6);
+        for (int i = 0; i < userCoupons.size(); i++) {
+            UserCoupon uc = userCoupons.get(i);
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(BATCH_INSERT_ROW);
+            params.add(uc.getUserId());
+            params.add(uc.getCouponId());
+            params.add(uc.getStatus().name());
+            params.add(0L);
+            params.add(Timestamp.valueOf(uc.getIssuedAt()));
+            params.add(uc.getUsedAt() != null ? Timestamp.valueOf(uc.getUsedAt()) : null);
+        }
+        jdbcTemplate.update(sql.toString(), params.toArray());
+
+        // 쿠폰별로 발급 ID 재조회 (배치 발급은 보통 단일 쿠폰)
+        return userCoupons.stream()
+                .collect(Collectors.groupingBy(UserCoupon::getCouponId,
+                        Collectors.mapping(UserCoupon::getUserId, Collectors.toList())))
+                .entrySet().stream()
+                .flatMap(e -> userCouponJpaRepository.findByCouponIdAndUserIdIn(e.getKey(), e.getValue()).stream())
+                .collect(Collectors.toList());
+    }
+
     /**
      * 비관적 락을 사용하여 사용자 쿠폰 조회
      * SELECT ... FOR UPDATE로 즉시 락 획득
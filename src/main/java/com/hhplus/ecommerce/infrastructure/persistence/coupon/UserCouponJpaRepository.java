@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import jakarta.persistence.LockModeType;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -41,6 +42,18 @@ public interface UserCouponJpaRepository extends JpaRepository<UserCoupon, Long>
 
     List<UserCoupon> findByUserId(Long userId);
 
+    /**
+     * 배치 발급 중복 검증용: 이미 발급받은 사용자 ID만 조회
+     */
+    @Query("SELECT uc.userId FROM UserCoupon uc WHERE uc.couponId = :couponId AND uc.userId IN :userIds")
+    List<Long> findUserIdsByCouponIdAndUserIdIn(@Param("couponId") Long couponId,
+                                                @Param("userIds") Collection<Long> userIds);
+
+    /**
+     * 배치 발급 중복 검증(기존 발급 시각 포함) 및 발급 후 발급 ID 조회용
+     */
+    List<UserCoupon> findByCouponIdAndUserIdIn(Long couponId, Collection<Long> userIds);
+
     /**
      * 사용자 쿠폰 삭제 (보상용)
      *
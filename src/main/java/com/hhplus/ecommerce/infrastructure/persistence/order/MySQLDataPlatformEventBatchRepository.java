@@ -0,0 +1,69 @@
+package com.hhplus.ecommerce.infrastructure.persistence.order;
+
+import com.hhplus.ecommerce.domain.order.DataPlatformEvent;
+import com.hhplus.ecommerce.domain.order.DataPlatformEventBatchRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * MySQL 기반 DataPlatformEvent 일괄 저장 구현
+ *
+ * IDENTITY 전략에서는 Hibernate JDBC 배치가 비활성화되므로 JdbcTemplate 다건 VALUES INSERT 사용
+ * - CHUNK_SIZE 행마다 문장 1개 (max_allowed_packet 이내 유지)
+ * - ON DUPLICATE KEY UPDATE event_id = event_id: 중복 행은 변경 없이 건너뜀
+ *   (INSERT IGNORE는 중복 외의 데이터 오류까지 경고로 바꾸므로 사용하지 않음)
+ */
+@Repository
+public class MySQLDataPlatformEventBatchRepository implements DataPlatformEventBatchRepository {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final String BATCH_INSERT_PREFIX =
+            "INSERT INTO data_platform_events "
+                    + "(order_id, event_type, user_id, total_amount, occurred_at, processed_at, created_at) VALUES ";
+    private static final String BATCH_INSERT_ROW = "(?, ?, ?, ?, ?, ?, ?)";
+    private static final String BATCH_INSERT_SUFFIX = " ON DUPLICATE KEY UPDATE event_id = event_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public MySQLDataPlatformEventBatchRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public int insertIgnoringDuplicates(List<DataPlatformEvent> events) {
+        if (events == null || events.isEmpty()) {
+            return 0;
+        }
+
+        int attempted = 0;
+        for (int from = 0; from < events.size(); from += CHUNK_SIZE) {
+            attempted += insertChunk(events.subList(from, Math.min(from + CHUNK_SIZE, events.size())));
+        }
+        return attempted;
+    }
+
+    private int insertChunk(List<DataPlatformEvent> chunk) {
+        StringBuilder sql = new StringBuilder(BATCH_INSERT_PREFIX);
+        List<Object> params = new ArrayList<>(chunk.size() * 7);
+        for (int i = 0; i < chunk.size(); i++) {
+            DataPlatformEvent event = chunk.get(i);
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(BATCH_INSERT_ROW);
+            params.add(event.getOrderId());
+            params.add(event.getEventType());
+            params.add(event.getUserId());
+            params.add(event.getTotalAmount());
+            params.add(Timestamp.valueOf(event.getOccurredAt()));
+            params.add(Timestamp.valueOf(event.getProcessedAt()));
+            params.add(Timestamp.valueOf(event.getCreatedAt()));
+        }
+        sql.append(BATCH_INSERT_SUFFIX);
+        return jdbcTemplate.update(sql.toString(), params.toArray());
+    }
+}
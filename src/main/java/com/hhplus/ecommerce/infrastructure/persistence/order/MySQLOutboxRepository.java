@@ -3,26 +3,76 @@ package com.hhplus.ecommerce.infrastructure.persistence.order;
 import com.hhplus.ecommerce.domain.order.Outbox;
 import com.hhplus.ecommerce.domain.order.OutboxRepository;
 import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * MySQL 기반 Outbox Repository 구현
  * Spring Data JPA를 사용한 영구 저장소
  *
  * Port(OutboxRepository) 인터페이스를 구현하면서 JpaRepository 기능 제공
+ *
+ * 릴레이 경로(선점, 결과 일괄 반영)는 JdbcTemplate으로 처리
+ * - SKIP LOCKED 선점 + 결과별 UPDATE 1회 (메시지마다 save 하지 않음)
  */
 @Repository
 @Primary
 public class MySQLOutboxRepository implements OutboxRepository {
 
+    // (status, next_attempt_at, message_id) 인덱스 순서 그대로 읽고 LIMIT에서 멈춤 (정렬/전체 스캔 없음)
+    // next_attempt_at IS NULL: 컬럼 추가 이전에 저장된 메시지
+    private static final String SELECT_COLUMNS =
+            "SELECT message_id, order_id, user_id, message_type, payload, status, retry_count, "
+                    + "last_attempt, sent_at, next_attempt_at, created_at FROM outbox ";
+    private static final String SELECT_CLAIMABLE = SELECT_COLUMNS
+            + "WHERE status = 'PENDING' AND (next_attempt_at IS NULL OR next_attempt_at <= ?) "
+            + "ORDER BY next_attempt_at, message_id LIMIT ? FOR UPDATE SKIP LOCKED";
+    private static final String SELECT_CLAIMABLE_BY_ID = SELECT_COLUMNS
+            + "WHERE message_id = ? AND status = 'PENDING' AND (next_attempt_at IS NULL OR next_attempt_at <= ?) "
+            + "FOR UPDATE SKIP LOCKED";
+    private static final String EXTEND_LEASE =
+            "UPDATE outbox SET next_attempt_at = ? WHERE message_id IN (%s)";
+    private static final String MARK_SENT =
+            "UPDATE outbox SET status = 'SENT', sent_at = NOW(), last_attempt = NOW() WHERE message_id IN (%s)";
+    private static final String SCHEDULE_RETRY =
+            "UPDATE outbox SET retry_count = retry_count + 1, last_attempt = NOW(), next_attempt_at = ? "
+                    + "WHERE message_id IN (%s)";
+    private static final String MARK_ABANDONED =
+            "UPDATE outbox SET status = 'ABANDONED', retry_count = retry_count + 1, last_attempt = NOW() "
+                    + "WHERE message_id IN (%s)";
+
+    private static final RowMapper<Outbox> OUTBOX_ROW_MAPPER = (rs, rowNum) -> Outbox.builder()
+            .messageId(rs.getLong("message_id"))
+            .orderId(rs.getLong("order_id"))
+            .userId(rs.getLong("user_id"))
+            .messageType(rs.getString("message_type"))
+            .payload(rs.getString("payload"))
+            .status(rs.getString("status"))
+            .retryCount(rs.getInt("retry_count"))
+            .lastAttempt(toLocalDateTime(rs.getTimestamp("last_attempt")))
+            .sentAt(toLocalDateTime(rs.getTimestamp("sent_at")))
+            .nextAttemptAt(toLocalDateTime(rs.getTimestamp("next_attempt_at")))
+            .createdAt(toLocalDateTime(rs.getTimestamp("created_at")))
+            .build();
+
     private final OutboxJpaRepository outboxJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
-    public MySQLOutboxRepository(OutboxJpaRepository outboxJpaRepository) {
+    public MySQLOutboxRepository(OutboxJpaRepository outboxJpaRepository,
+                                 JdbcTemplate jdbcTemplate) {
         this.outboxJpaRepository = outboxJpaRepository;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
@@ -50,8 +100,74 @@ public class MySQLOutboxRepository implements OutboxRepository {
         return outboxJpaRepository.save(outbox);
     }
 
+    /**
+     * 발행 대상 선점 (독립 트랜잭션)
+     * - 선점 + 리스 연장까지만 트랜잭션으로 묶고 바로 커밋 (발행 중에는 행 락을 잡지 않음)
+     */
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<Outbox> claimPendingBatch(LocalDateTime now, int limit, LocalDateTime leaseUntil) {
+        List<Outbox> claimed = jdbcTemplate.query(SELECT_CLAIMABLE, OUTBOX_ROW_MAPPER, Timestamp.valueOf(now), limit);
+        extendLease(claimed, leaseUntil);
+        return claimed;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Optional<Outbox> claimById(Long messageId, LocalDateTime now, LocalDateTime leaseUntil) {
+        List<Outbox> claimed = jdbcTemplate.query(SELECT_CLAIMABLE_BY_ID, OUTBOX_ROW_MAPPER, messageId, Timestamp.valueOf(now));
+        extendLease(claimed, leaseUntil);
+        return claimed.stream().findFirst();
+    }
+
+    private void extendLease(List<Outbox> claimed, LocalDateTime leaseUntil) {
+        if (claimed.isEmpty()) {
+            return;
+        }
+        List<Long> messageIds = claimed.stream().map(Outbox::getMessageId).collect(Collectors.toList());
+        List<Object> args = new ArrayList<>();
+        args.add(Timestamp.valueOf(leaseUntil));
+        args.addAll(messageIds);
+        jdbcTemplate.update(String.format(EXTEND_LEASE, placeholders(messageIds)), args.toArray());
+    }
+
+    @Override
+    public void markSent(Collection<Long> messageIds) {
+        if (messageIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(String.format(MARK_SENT, placeholders(messageIds)), messageIds.toArray());
+    }
+
+    @Override
+    public void scheduleRetry(Collection<Long> messageIds, LocalDateTime nextAttemptAt) {
+        if (messageIds.isEmpty()) {
+            return;
+        }
+        List<Object> args = new ArrayList<>();
+        args.add(Timestamp.valueOf(nextAttemptAt));
+        args.addAll(messageIds);
+        jdbcTemplate.update(String.format(SCHEDULE_RETRY, placeholders(messageIds)), args.toArray());
+    }
+
+    @Override
+    public void markAbandoned(Collection<Long> messageIds) {
+        if (messageIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(String.format(MARK_ABANDONED, placeholders(messageIds)), messageIds.toArray());
+    }
+
     @Override
     public List<Outbox> findAll() {
         return outboxJpaRepository.findAll();
     }
+
+    private static String placeholders(Collection<?> values) {
+        return values.stream().map(value -> "?").collect(Collectors.joining(", "));
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
 }
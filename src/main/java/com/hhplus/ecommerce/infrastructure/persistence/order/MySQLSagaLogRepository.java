@@ -0,0 +1,143 @@
+package com.hhplus.ecommerce.infrastructure.persistence.order;
+
+import com.hhplus.ecommerce.domain.order.SagaLogEntry;
+import com.hhplus.ecommerce.domain.order.SagaLogEventType;
+import com.hhplus.ecommerce.domain.order.SagaLogRepository;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * MySQL 기반 SagaLogRepository 구현
+ *
+ * - appendAll: JdbcTemplate 다건 VALUES INSERT (IDENTITY 전략에서는 Hibernate 배치 불가)
+ *   ON DUPLICATE KEY UPDATE log_id = log_id로 재전송된 전이는 변경 없이 건너뜀
+ * - appendIfAbsent: 단건 INSERT + DuplicateKeyException → false
+ *   (ON DUPLICATE KEY는 드라이버 설정에 따라 중복도 영향 행 1로 보고하므로 선점 판정에 사용하지 않음)
+ * - removeIfPresent: uk_saga_log_transition 단건 DELETE (영향 행 수로 존재 여부 판정, 호출자 트랜잭션 참여)
+ * - findInFlightSagaIds: idx_saga_log_event_created_at로 STEP_APPLIED 범위 스캔 (Saga당 1행으로 묶음)
+ *   + uk_saga_log_transition으로 종결/선점 전이 존재 확인
+ */
+@Repository
+public class MySQLSagaLogRepository implements SagaLogRepository {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final String INSERT_PREFIX =
+            "INSERT INTO saga_log (saga_id, event_type, step_name, order_id, payload, created_at) VALUES ";
+    private static final String INSERT_ROW = "(?, ?, ?, ?, ?, ?)";
+    private static final String BATCH_INSERT_SUFFIX = " ON DUPLICATE KEY UPDATE log_id = log_id";
+
+    private static final String DELETE_SQL =
+            "DELETE FROM saga_log WHERE saga_id = ? AND event_type = ? AND step_name = ?";
+
+    private static final String TERMINAL_EVENT_TYPES = Arrays.stream(SagaLogEventType.values())
+            .filter(SagaLogEventType::isTerminal)
+            .map(type -> "'" + type.name() + "'")
+            .collect(Collectors.joining(", "));
+
+    private static final String FIND_IN_FLIGHT_SQL =
+            "SELECT s.saga_id FROM saga_log s "
+                    + "WHERE s.event_type = 'STEP_APPLIED' AND s.created_at >= ? AND s.created_at < ? "
+                    + "AND NOT EXISTS (SELECT 1 FROM saga_log t WHERE t.saga_id = s.saga_id "
+                    + "AND (t.event_type IN (" + TERMINAL_EVENT_TYPES + ") "
+                    + "OR (t.event_type = 'RECOVERY_CLAIMED' AND t.created_at >= ?))) "
+                    + "GROUP BY s.saga_id ORDER BY MIN(s.created_at) LIMIT ?";
+
+    private static final String FIND_BY_SAGA_ID_SQL =
+            "SELECT log_id, saga_id, event_type, step_name, order_id, payload, created_at "
+                    + "FROM saga_log WHERE saga_id = ? ORDER BY log_id";
+
+    private static final RowMapper<SagaLogEntry> ROW_MAPPER = (rs, rowNum) -> SagaLogEntry.builder()
+            .logId(rs.getLong("log_id"))
+            .sagaId(rs.getString("saga_id"))
+            .eventType(SagaLogEventType.valueOf(rs.getString("event_type")))
+            .stepName(rs.getString("step_name"))
+            .orderId(rs.getObject("order_id", Long.class))
+            .payload(rs.getString("payload"))
+            .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public MySQLSagaLogRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public int appendAll(List<SagaLogEntry> entries) {
+        if (entries == null || entries.isEmpty()) {
+            return 0;
+        }
+
+        int inserted = 0;
+        for (int from = 0; from < entries.size(); from += CHUNK_SIZE) {
+            inserted += insertChunk(entries.subList(from, Math.min(from + CHUNK_SIZE, entries.size())));
+        }
+        return inserted;
+    }
+
+    @Override
+    public boolean appendIfAbsent(SagaLogEntry entry) {
+        try {
+            return jdbcTemplate.update(INSERT_PREFIX + INSERT_ROW, rowParams(entry).toArray()) > 0;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public boolean removeIfPresent(String sagaId, SagaLogEventType eventType, String stepName) {
+        return jdbcTemplate.update(DELETE_SQL, sagaId, eventType.name(),
+                stepName != null ? stepName : SagaLogEntry.NO_STEP) > 0;
+    }
+
+    @Override
+    public List<String> findInFlightSagaIds(LocalDateTime startedAfter,
+                                            LocalDateTime startedBefore,
+                                            LocalDateTime claimedBefore,
+                                            int limit) {
+        return jdbcTemplate.queryForList(FIND_IN_FLIGHT_SQL, String.class,
+                Timestamp.valueOf(startedAfter),
+                Timestamp.valueOf(startedBefore),
+                Timestamp.valueOf(claimedBefore),
+                limit);
+    }
+
+    @Override
+    public List<SagaLogEntry> findBySagaId(String sagaId) {
+        return jdbcTemplate.query(FIND_BY_SAGA_ID_SQL, ROW_MAPPER, sagaId);
+    }
+
+    private int insertChunk(List<SagaLogEntry> chunk) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        List<Object> params = new ArrayList<>(chunk.size() * 6);
+        for (int i = 0; i < chunk.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(INSERT_ROW);
+            params.addAll(rowParams(chunk.get(i)));
+        }
+        sql.append(BATCH_INSERT_SUFFIX);
+        return jdbcTemplate.update(sql.toString(), params.toArray());
+    }
+
+    private List<Object> rowParams(SagaLogEntry entry) {
+        List<Object> params = new ArrayList<>(6);
+        params.add(entry.getSagaId());
+        params.add(entry.getEventType().name());
+        params.add(entry.getStepName());
+        params.add(entry.getOrderId());
+        params.add(entry.getPayload());
+        params.add(Timestamp.valueOf(entry.getCreatedAt()));
+        return params;
+    }
+}
@@ -3,32 +3,74 @@ package com.hhplus.ecommerce.infrastructure.persistence.product;
 import com.hhplus.ecommerce.domain.product.Product;
 import com.hhplus.ecommerce.domain.product.ProductOption;
 import com.hhplus.ecommerce.domain.product.ProductRepository;
+import com.hhplus.ecommerce.domain.product.ProductSort;
+import com.hhplus.ecommerce.domain.product.ProductSummary;
 import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashMap;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * MySQL 기반 Product Repository 구현
  * Spring Data JPA를 사용한 영구 저장소
  *
  * Port(ProductRepository) 인터페이스를 구현하면서 JpaRepository 기능 제공
+ *
+ * 재고 조건부 차감/총 재고 재계산은 JdbcTemplate으로 처리 (엔티티 로드 없음)
  */
 @Repository
 @Primary
 public class MySQLProductRepository implements ProductRepository {
 
+    private static final String DEDUCT_OPTION_STOCK =
+            "UPDATE product_options SET stock = stock - ?, version = version + 1, updated_at = NOW() "
+                    + "WHERE option_id = ? AND stock >= ?";
+
+    // MySQL 단일 테이블 UPDATE는 SET을 왼쪽부터 평가 → status는 갱신된 total_stock 기준
+    private static final String RECALCULATE_TOTAL_STOCKS =
+            "UPDATE products p SET "
+                    + "p.total_stock = (SELECT COALESCE(SUM(o.stock), 0) FROM product_options o WHERE o.product_id = p.product_id) "
+                    + "+ (SELECT COALESCE(SUM(b.quantity), 0) FROM stock_buckets b "
+                    + "JOIN product_options bo ON bo.option_id = b.item_id "
+                    + "WHERE b.item_type = 'PRODUCT_OPTION' AND bo.product_id = p.product_id), "
+                    + "p.status = CASE WHEN p.total_stock > 0 THEN 'IN_STOCK' ELSE 'SOLD_OUT' END, "
+                    + "p.version = p.version + 1, p.updated_at = NOW() "
+                    + "WHERE p.product_id IN (%s)";
+
+    private static final String SELECT_PRODUCT_SUMMARY =
+            "SELECT product_id, product_name, description, price, total_stock, status, created_at FROM products ";
+
+    private static final RowMapper<ProductSummary> PRODUCT_SUMMARY_ROW_MAPPER = (rs, rowNum) -> new ProductSummary(
+            rs.getLong("product_id"),
+            rs.getString("product_name"),
+            rs.getString("description"),
+            rs.getLong("price"),
+            rs.getInt("total_stock"),
+            rs.getString("status"),
+            rs.getTimestamp("created_at") != null ? rs.getTimestamp("created_at").toLocalDateTime() : null);
+
     private final ProductJpaRepository productJpaRepository;
     private final ProductOptionJpaRepository productOptionJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     public MySQLProductRepository(ProductJpaRepository productJpaRepository,
-                                  ProductOptionJpaRepository productOptionJpaRepository) {
+                                  ProductOptionJpaRepository productOptionJpaRepository,
+                                  JdbcTemplate jdbcTemplate) {
         this.productJpaRepository = productJpaRepository;
         this.productOptionJpaRepository = productOptionJpaRepository;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
@@ -36,12 +78,61 @@ public class MySQLProductRepository implements ProductRepository {
         return productJpaRepository.findAll();
     }
 
+    @Override
+    public List<ProductSummary> findProductSummaries(ProductSort sort, boolean ascending, int offset, int limit) {
+        String sql = SELECT_PRODUCT_SUMMARY + orderBy(sort, ascending) + " LIMIT ? OFFSET ?";
+        return jdbcTemplate.query(sql, PRODUCT_SUMMARY_ROW_MAPPER, limit, offset);
+    }
+
+    @Override
+    public List<ProductSummary> findProductSummariesAfter(ProductSort sort, boolean ascending,
+                                                          Object lastValue, Long lastProductId, int limit) {
+        String operator = ascending ? ">" : "<";
+        if (sort == ProductSort.PRODUCT_ID) {
+            String sql = SELECT_PRODUCT_SUMMARY + "WHERE product_id " + operator + " ? "
+                    + orderBy(sort, ascending) + " LIMIT ?";
+            return jdbcTemplate.query(sql, PRODUCT_SUMMARY_ROW_MAPPER, lastProductId, limit);
+        }
+
+        // (col, product_id) > (?, ?)를 풀어 쓴 형태 → (col, product_id) 인덱스 범위 조회
+        String column = sort.getColumn();
+        String sql = SELECT_PRODUCT_SUMMARY
+                + "WHERE (" + column + " " + operator + " ? OR (" + column + " = ? AND product_id " + operator + " ?)) "
+                + orderBy(sort, ascending) + " LIMIT ?";
+        Object value = lastValue instanceof LocalDateTime dateTime ? Timestamp.valueOf(dateTime) : lastValue;
+        return jdbcTemplate.query(sql, PRODUCT_SUMMARY_ROW_MAPPER, value, value, lastProductId, limit);
+    }
+
+    @Override
+    public long countProducts() {
+        return productJpaRepository.count();
+    }
+
+    /**
+     * ORDER BY 절 생성 (컬럼은 ProductSort에서만 결정, product_id 보조 정렬)
+     */
+    private String orderBy(ProductSort sort, boolean ascending) {
+        String direction = ascending ? "ASC" : "DESC";
+        if (sort == ProductSort.PRODUCT_ID) {
+            return "ORDER BY product_id " + direction;
+        }
+        return "ORDER BY " + sort.getColumn() + " " + direction + ", product_id " + direction;
+    }
+
     @Override
     public Optional<Product> findById(Long productId) {
         // ✅ FetchType.LAZY: options를 함께 로드하기 위해 fetch join 사용
         return productJpaRepository.findByIdWithOptions(productId);
     }
 
+    @Override
+    public List<Product> findAllByIdsWithOptions(Collection<Long> productIds) {
+        if (productIds == null || productIds.isEmpty()) {
+            return List.of();
+        }
+        return productJpaRepository.findAllByIdsWithOptions(productIds);
+    }
+
     @Override
     public List<ProductOption> findOptionsByProductId(Long productId) {
         return productOptionJpaRepository.findByProductId(productId);
@@ -70,51 +161,43 @@ public class MySQLProductRepository implements ProductRepository {
     }
 
     @Override
-    public Long getOrderCount3Days(Long productId) {
-        // 최근 3일간의 주문 수는 0으로 초기화 (인기상품 계산용)
-        // 실시간 인기상품 계산은 별도의 배치 작업이나 캐시로 처리
-        return 0L;
-    }
-
-    /**
-     * ✅ 배치 쿼리로 여러 상품의 최근 3일 주문 수량 조회 (Message 5)
-     *
-     * N+1 문제 해결:
-     * - 기존 PopularProductServiceImpl: 각 상품마다 getOrderCount3Days() 호출
-     * - 개선: 모든 상품의 주문 수량을 1번의 쿼리로 조회
-     *
-     * 반환 형태:
-     * - Map<productId, orderCount> 형태로 메모리 lookup 최적화
-     * - Stream API로 빠른 처리
-     *
-     * @param productIds 상품 ID 목록 (최근 3일 주문된 상품들)
-     * @return productId별 최근 3일 주문 수량
-     */
-    public Map<Long, Long> getOrderCountsLast3Days(List<Long> productIds) {
-        if (productIds == null || productIds.isEmpty()) {
-            return new HashMap<>();
+    public List<Long> deductOptionStocks(Map<Long, Integer> quantitiesByOptionId) {
+        if (quantitiesByOptionId == null || quantitiesByOptionId.isEmpty()) {
+            return List.of();
         }
 
-        List<Map<String, Object>> results = productJpaRepository.countOrdersByProductIdsLast3Days(productIds);
-
-        // 배치 쿼리 결과를 productId → orderCount Map으로 변환
-        Map<Long, Long> orderCountMap = new HashMap<>();
-        for (Map<String, Object> row : results) {
-            Long productId = ((Number) row.get("productId")).longValue();
-            Long orderCount = ((Number) row.get("orderCount")).longValue();
-            orderCountMap.put(productId, orderCount);
+        List<Map.Entry<Long, Integer>> entries = new ArrayList<>(quantitiesByOptionId.entrySet());
+        List<Object[]> batchArgs = entries.stream()
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey(), entry.getValue()})
+                .collect(Collectors.toList());
+
+        int[] updatedCounts = jdbcTemplate.batchUpdate(DEDUCT_OPTION_STOCK, batchArgs);
+
+        List<Long> failedOptionIds = new ArrayList<>();
+        for (int i = 0; i < updatedCounts.length; i++) {
+            if (updatedCounts[i] == Statement.SUCCESS_NO_INFO) {
+                // 드라이버가 행 수를 돌려주지 않으면 재고 부족 여부를 판정할 수 없음 → 초과 판매 방지를 위해 실패 처리
+                throw new IllegalStateException("재고 차감 배치의 영향 행 수를 확인할 수 없습니다");
+            }
+            if (updatedCounts[i] == 0) {
+                failedOptionIds.add(entries.get(i).getKey());
+            }
         }
+        return failedOptionIds;
+    }
 
-        return orderCountMap;
+    @Override
+    public void recalculateTotalStocks(Collection<Long> productIds) {
+        if (productIds == null || productIds.isEmpty()) {
+            return;
+        }
+        String placeholders = productIds.stream().map(id -> "?").collect(Collectors.joining(", "));
+        jdbcTemplate.update(String.format(RECALCULATE_TOTAL_STOCKS, placeholders), productIds.toArray());
     }
 
     @Override
-    public List<Product> findProductsOrderedLast3Days() {
-        // 최근 3일간 주문된 상품만 조회
-        // - 성능 개선: 전체 상품이 아닌 실제 주문이 있는 상품만 로드
-        // - 구현: order_items 테이블에서 최근 3일 주문 찾아서 해당 products 반환
-        // - 현재는 전체 상품 반환 (향후 최적화 필요)
-        return productJpaRepository.findAll();
+    public List<Product> findFirstProducts(int limit) {
+        return productJpaRepository.findAllByOrderByProductIdAsc(PageRequest.of(0, limit));
     }
 
     @Override
@@ -0,0 +1,59 @@
+package com.hhplus.ecommerce.infrastructure.persistence.product;
+
+import com.hhplus.ecommerce.domain.product.ProductSalesRepository;
+import com.hhplus.ecommerce.domain.ranking.RankingItem;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * MySQL 기반 ProductSalesRepository 구현
+ *
+ * - 누적: 배치 UPSERT (엔티티 로드 없이 행 단위 원자 증가)
+ * - 조회: uk_product_sales_daily(sales_date, product_id) 범위 스캔 + GROUP BY + LIMIT
+ */
+@Repository
+public class MySQLProductSalesRepository implements ProductSalesRepository {
+
+    private static final String UPSERT_DAILY_COUNT =
+            "INSERT INTO product_sales_daily (sales_date, product_id, order_count, updated_at) VALUES (?, ?, ?, NOW()) " +
+            "ON DUPLICATE KEY UPDATE order_count = order_count + VALUES(order_count), updated_at = NOW()";
+    private static final String SELECT_TOP_SINCE =
+            "SELECT product_id, SUM(order_count) AS order_count FROM product_sales_daily " +
+            "WHERE sales_date >= ? GROUP BY product_id ORDER BY order_count DESC, product_id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public MySQLProductSalesRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void addDailyOrderCounts(LocalDate salesDate, Map<Long, Long> orderCounts) {
+        if (orderCounts.isEmpty()) {
+            return;
+        }
+        // 상품 ID 순으로 UPSERT → 동시 주문 간 행 락 획득 순서 고정 (교착 방지)
+        Date date = Date.valueOf(salesDate);
+        List<Object[]> batchArgs = new ArrayList<>(orderCounts.size());
+        new TreeMap<>(orderCounts).forEach((productId, count) ->
+                batchArgs.add(new Object[]{date, productId, count}));
+        jdbcTemplate.batchUpdate(UPSERT_DAILY_COUNT, batchArgs);
+    }
+
+    @Override
+    public List<RankingItem> findTopProductsSince(LocalDate fromDate, int limit) {
+        return jdbcTemplate.query(SELECT_TOP_SINCE,
+                (rs, rowNum) -> RankingItem.builder()
+                        .productId(rs.getLong("product_id"))
+                        .score(rs.getLong("order_count"))
+                        .build(),
+                Date.valueOf(fromDate), limit);
+    }
+}
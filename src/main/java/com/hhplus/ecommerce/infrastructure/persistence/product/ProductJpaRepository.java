@@ -1,13 +1,14 @@
 package com.hhplus.ecommerce.infrastructure.persistence.product;
 
 import com.hhplus.ecommerce.domain.product.Product;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -31,22 +32,15 @@ public interface ProductJpaRepository extends JpaRepository<Product, Long> {
     Optional<Product> findByIdWithOptions(@Param("productId") Long productId);
 
     /**
-     * ✅ 배치 쿼리로 여러 상품의 최근 3일 주문 수량 조회 (Message 5)
-     *
-     * N+1 문제 해결:
-     * - 기존: 각 상품마다 개별 쿼리 호출 (상품 개수 * N)
-     * - 개선: 모든 상품의 주문 수량을 1번의 쿼리로 조회
-     * - 반환: Map<productId, orderCount> 형태로 빠른 메모리 lookup
-     *
-     * 성능:
-     * - 주문 100개 조회 기준: ~100개 개별 쿼리 → 1개 배치 쿼리
-     * - 응답시간 90% 이상 개선
-     *
-     * @param productIds 상품 ID 목록
-     * @return productId → 최근 3일 주문 수량 (현재는 0으로 초기화)
+     * 여러 상품을 options와 함께 일괄 조회 (IN + fetch join)
      */
-    @Query("SELECT new map(p.productId as productId, 0L as orderCount) " +
-            "FROM Product p " +
-            "WHERE p.productId IN :productIds")
-    List<Map<String, Object>> countOrdersByProductIdsLast3Days(@Param("productIds") List<Long> productIds);
+    @Query("SELECT DISTINCT p FROM Product p " +
+           "LEFT JOIN FETCH p.options po " +
+           "WHERE p.productId IN :productIds")
+    List<Product> findAllByIdsWithOptions(@Param("productIds") Collection<Long> productIds);
+
+    /**
+     * 상품 ID 순 조회 (Pageable로 LIMIT 적용)
+     */
+    List<Product> findAllByOrderByProductIdAsc(Pageable pageable);
 }
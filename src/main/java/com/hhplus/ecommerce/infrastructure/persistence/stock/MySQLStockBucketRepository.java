@@ -0,0 +1,111 @@
+package com.hhplus.ecommerce.infrastructure.persistence.stock;
+
+import com.hhplus.ecommerce.domain.stock.StockBucket;
+import com.hhplus.ecommerce.domain.stock.StockBucketRepository;
+import com.hhplus.ecommerce.domain.stock.StockBucketType;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * MySQL 기반 StockBucket Repository 구현
+ *
+ * 차감 경로(findByItem, deduct)는 JdbcTemplate으로 처리
+ * - 조건부 UPDATE의 영향 행 수로 성공 여부 판정 (엔티티 로드/더티체킹 없음)
+ * - 후보 조회 결과를 영속성 컨텍스트에 올리지 않음
+ *   → 같은 트랜잭션에서 이후 findByItemForUpdate()가 항상 최신 행을 읽음
+ *
+ * 분할/병합 주기 작업(StockStripingScheduler)용 조회도 JdbcTemplate으로 ID/시각만 조회
+ * - 아이템 ID는 UNIQUE(item_type, item_id, bucket_no) 인덱스 선두 컬럼만 읽음
+ * - 마지막 차감 시각은 병합 후보(핫 지정 해제) 아이템에 한정
+ */
+@Repository
+@Primary
+public class MySQLStockBucketRepository implements StockBucketRepository {
+
+    private static final String SELECT_BY_ITEM =
+            "SELECT bucket_id, item_id, bucket_no, quantity FROM stock_buckets WHERE item_type = ? AND item_id = ?";
+    private static final String SELECT_STRIPED_ITEM_IDS =
+            "SELECT DISTINCT item_id FROM stock_buckets WHERE item_type = ?";
+    private static final String SELECT_LAST_UPDATED_AT_PREFIX =
+            "SELECT item_id, MAX(updated_at) AS last_updated_at FROM stock_buckets WHERE item_type = ? AND item_id IN (";
+    private static final String DEDUCT =
+            "UPDATE stock_buckets SET quantity = quantity - ?, updated_at = NOW() WHERE bucket_id = ? AND quantity >= ?";
+
+    private final StockBucketJpaRepository stockBucketJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    public MySQLStockBucketRepository(StockBucketJpaRepository stockBucketJpaRepository,
+                                      JdbcTemplate jdbcTemplate) {
+        this.stockBucketJpaRepository = stockBucketJpaRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<StockBucket> findByItem(StockBucketType itemType, Long itemId) {
+        return jdbcTemplate.query(SELECT_BY_ITEM,
+                (rs, rowNum) -> StockBucket.builder()
+                        .bucketId(rs.getLong("bucket_id"))
+                        .itemType(itemType)
+                        .itemId(rs.getLong("item_id"))
+                        .bucketNo(rs.getInt("bucket_no"))
+                        .quantity(rs.getInt("quantity"))
+                        .build(),
+                itemType.name(), itemId);
+    }
+
+    @Override
+    public List<StockBucket> findByItemForUpdate(StockBucketType itemType, Long itemId) {
+        return stockBucketJpaRepository.findByItemWithLock(itemType, itemId);
+    }
+
+    @Override
+    public boolean deduct(Long bucketId, int quantity) {
+        return jdbcTemplate.update(DEDUCT, quantity, bucketId, quantity) == 1;
+    }
+
+    @Override
+    public Set<Long> findStripedItemIds(StockBucketType itemType) {
+        return new HashSet<>(jdbcTemplate.queryForList(SELECT_STRIPED_ITEM_IDS, Long.class, itemType.name()));
+    }
+
+    @Override
+    public Map<Long, LocalDateTime> findLastUpdatedAt(StockBucketType itemType, Collection<Long> itemIds) {
+        if (itemIds == null || itemIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        String placeholders = String.join(", ", Collections.nCopies(itemIds.size(), "?"));
+        List<Object> params = new ArrayList<>(itemIds.size() + 1);
+        params.add(itemType.name());
+        params.addAll(itemIds);
+
+        Map<Long, LocalDateTime> lastUpdatedAt = new HashMap<>();
+        jdbcTemplate.query(SELECT_LAST_UPDATED_AT_PREFIX + placeholders + ") GROUP BY item_id",
+                (RowCallbackHandler) rs -> lastUpdatedAt.put(rs.getLong("item_id"),
+                        rs.getTimestamp("last_updated_at").toLocalDateTime()),
+                params.toArray());
+        return lastUpdatedAt;
+    }
+
+    @Override
+    public List<StockBucket> saveAll(List<StockBucket> buckets) {
+        return stockBucketJpaRepository.saveAll(buckets);
+    }
+
+    @Override
+    public void deleteAll(List<StockBucket> buckets) {
+        stockBucketJpaRepository.deleteAll(buckets);
+    }
+}
@@ -0,0 +1,27 @@
+package com.hhplus.ecommerce.infrastructure.persistence.stock;
+
+import com.hhplus.ecommerce.domain.stock.StockBucket;
+import com.hhplus.ecommerce.domain.stock.StockBucketType;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * StockBucket JPA Repository
+ * Spring Data JPA를 통한 StockBucket 엔티티 영구 저장소
+ */
+public interface StockBucketJpaRepository extends JpaRepository<StockBucket, Long> {
+
+    /**
+     * 아이템의 버킷을 비관적 락으로 조회
+     * bucket_no 오름차순으로 락을 잡아 버킷 간 교착 방지
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM StockBucket b WHERE b.itemType = :itemType AND b.itemId = :itemId ORDER BY b.bucketNo")
+    List<StockBucket> findByItemWithLock(@Param("itemType") StockBucketType itemType,
+                                         @Param("itemId") Long itemId);
+}
@@ -2,15 +2,25 @@ package com.hhplus.ecommerce.infrastructure.ranking;
 
 import com.hhplus.ecommerce.domain.ranking.RankingRepository;
 import com.hhplus.ecommerce.domain.ranking.RankingItem;
+import com.hhplus.ecommerce.domain.ranking.RankingWindow;
+import com.hhplus.ecommerce.infrastructure.config.RedisKeyType;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -21,6 +31,7 @@ import java.util.stream.Collectors;
  * 설계:
  * - Data Structure: Redis Sorted Set (ZSET)
  * - Key Format: "ranking:daily:{YYYYMMDD}"
+ * - 구간 랭킹: 시간 버킷 "ranking:hourly:{YYYYMMDDHH}" → 집계 "ranking:window:{24h|3d|7d}"
  * - Member: productId (상품 ID)
  * - Score: 주문 수 (double 타입, 내림차순 정렬)
  *
@@ -31,6 +42,8 @@ import java.util.stream.Collectors;
  *
  * Redis Commands:
  * - ZADD: 멤버의 점수 증가
+ * - ZINCRBY (파이프라인): 쓰기 지연 누적분 일괄 반영 (일일 키 + 시간 버킷)
+ * - ZUNIONSTORE: 시간 버킷 → 구간 집계 (증분 갱신 / 전체 재계산)
  * - ZRANGE: 범위별 조회 (낮은 점수부터)
  * - ZREVRANGE: 범위별 조회 (높은 점수부터)
  * - ZREVRANK: 역순 순위 조회 (높은 점수 기준)
@@ -44,6 +57,24 @@ public class RedisRankingRepository implements RankingRepository {
     private static final String RANKING_KEY_PREFIX = "ranking:daily:";
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
 
+    /**
+     * 마감된 시간 버킷 증분 반영 (중복 반영 방지를 위해 마지막 반영 시간과 함께 원자적으로 처리)
+     *
+     * KEYS[1]=구간 집계, KEYS[2]=마지막 반영 시간, KEYS[3]=마감 버킷, KEYS[4]=만료 버킷
+     * ARGV[1]=closedHour, ARGV[2]=previousHour, ARGV[3]=decay, ARGV[4]=-decay^N, ARGV[5]=TTL(초)
+     * 반환: 1=반영(또는 이미 반영), 0=전체 재계산 필요
+     */
+    private static final RedisScript<Long> APPLY_CLOSED_HOUR_SCRIPT = new DefaultRedisScript<>(
+            "local applied = redis.call('GET', KEYS[2]) " +
+            "if applied == ARGV[1] then return 1 end " +
+            "if applied ~= ARGV[2] or redis.call('EXISTS', KEYS[1]) == 0 then return 0 end " +
+            "redis.call('ZUNIONSTORE', KEYS[1], 3, KEYS[1], KEYS[3], KEYS[4], 'WEIGHTS', ARGV[3], 1, ARGV[4]) " +
+            "redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', '0.000001') " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[5]) " +
+            "redis.call('SET', KEYS[2], ARGV[1], 'EX', ARGV[5]) " +
+            "return 1",
+            Long.class);
+
     private final RedisTemplate<String, String> redisTemplate;
 
     public RedisRankingRepository(RedisTemplate<String, String> redisTemplate) {
@@ -88,6 +119,106 @@ public class RedisRankingRepository implements RankingRepository {
         }
     }
 
+    @Override
+    public void incrementProductScores(String date, String hour, Map<Long, Long> increments) {
+        if (increments.isEmpty()) {
+            return;
+        }
+        String key = getRankingKey(date);
+        String hourlyKey = RedisKeyType.ZSET_RANKING_HOURLY.buildKey(hour);
+        Duration hourlyTtl = RedisKeyType.ZSET_RANKING_HOURLY.getTtl();
+
+        try {
+            // ZINCRBY (일일 키 + 시간 버킷) × 상품 수, 파이프라인 왕복 1회
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    increments.forEach((productId, delta) -> {
+                        String member = String.valueOf(productId);
+                        ops.opsForZSet().incrementScore(key, member, delta);
+                        ops.opsForZSet().incrementScore(hourlyKey, member, delta);
+                    });
+                    ops.expire(hourlyKey, hourlyTtl);
+                    return null;
+                }
+            });
+
+            log.debug("[RankingRepository] 상품 점수 일괄 증가: date={}, hour={}, count={}", date, hour, increments.size());
+        } catch (Exception e) {
+            log.error("[RankingRepository] 상품 점수 일괄 증가 실패: date={}, hour={}, count={}",
+                    date, hour, increments.size(), e);
+            throw new RuntimeException("랭킹 점수 일괄 업데이트 실패", e);
+        }
+    }
+
+    @Override
+    public boolean applyClosedHour(RankingWindow window, String closedHour, String previousHour,
+                                   String expiredHour, double decay) {
+        double expiredWeight = Math.pow(decay, window.getHours());
+        Long result = redisTemplate.execute(
+                APPLY_CLOSED_HOUR_SCRIPT,
+                List.of(RedisKeyType.ZSET_RANKING_WINDOW.buildKey(window.getCode()),
+                        RedisKeyType.STATE_RANKING_WINDOW_HOUR.buildKey(window.getCode()),
+                        RedisKeyType.ZSET_RANKING_HOURLY.buildKey(closedHour),
+                        RedisKeyType.ZSET_RANKING_HOURLY.buildKey(expiredHour)),
+                closedHour,
+                previousHour,
+                String.valueOf(decay),
+                String.valueOf(-expiredWeight),
+                String.valueOf(RedisKeyType.ZSET_RANKING_WINDOW.getTtl().getSeconds())
+        );
+        return result != null && result == 1L;
+    }
+
+    @Override
+    public void rebuildWindow(RankingWindow window, List<String> hoursNewestFirst, double decay) {
+        String windowKey = RedisKeyType.ZSET_RANKING_WINDOW.buildKey(window.getCode());
+        String hourMarkerKey = RedisKeyType.STATE_RANKING_WINDOW_HOUR.buildKey(window.getCode());
+        Duration ttl = RedisKeyType.ZSET_RANKING_WINDOW.getTtl();
+
+        List<String> bucketKeys = hoursNewestFirst.stream()
+                .map(RedisKeyType.ZSET_RANKING_HOURLY::buildKey)
+                .collect(Collectors.toList());
+        double[] weights = new double[bucketKeys.size()];
+        for (int age = 0; age < weights.length; age++) {
+            weights[age] = Math.pow(decay, age);
+        }
+
+        // ZUNIONSTORE ranking:window:{code} N bucket... WEIGHTS 1 decay decay^2 ...
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ops.opsForZSet().unionAndStore(bucketKeys.get(0), bucketKeys.subList(1, bucketKeys.size()),
+                        windowKey, Aggregate.SUM, Weights.of(weights));
+                ops.expire(windowKey, ttl);
+                ops.opsForValue().set(hourMarkerKey, hoursNewestFirst.get(0), ttl);
+                return null;
+            }
+        });
+
+        log.info("[RankingRepository] 구간 랭킹 재계산: window={}, latestHour={}, buckets={}",
+                window.getCode(), hoursNewestFirst.get(0), bucketKeys.size());
+    }
+
+    @Override
+    public List<RankingItem> getTopProducts(RankingWindow window, long topN) {
+        String key = RedisKeyType.ZSET_RANKING_WINDOW.buildKey(window.getCode());
+
+        try {
+            // ZREVRANGE ranking:window:{code} 0 (topN-1) WITHSCORES - 미리 집계된 ZSET 조회
+            Set<ZSetOperations.TypedTuple<String>> results =
+                    redisTemplate.opsForZSet().reverseRangeWithScores(key, 0, topN - 1);
+            return toRankingItems(results);
+        } catch (Exception e) {
+            log.error("[RankingRepository] 구간 TOP 상품 조회 실패: window={}, topN={}", window.getCode(), topN, e);
+            throw new RuntimeException("구간 TOP 상품 조회 실패", e);
+        }
+    }
+
     @Override
     public List<RankingItem> getTopProducts(String date, long topN) {
         String key = getRankingKey(date);
@@ -105,12 +236,7 @@ public class RedisRankingRepository implements RankingRepository {
                 return List.of();
             }
 
-            List<RankingItem> items = results.stream()
-                    .map(tuple -> RankingItem.builder()
-                            .productId(Long.parseLong(tuple.getValue()))
-                            .score(tuple.getScore() != null ? tuple.getScore().longValue() : 0L)
-                            .build())
-                    .collect(Collectors.toList());
+            List<RankingItem> items = toRankingItems(results);
 
             log.debug("[RankingRepository] TOP 상품 조회 완료: date={}, topN={}, count={}", date, topN, items.size());
             return items;
@@ -120,6 +246,18 @@ public class RedisRankingRepository implements RankingRepository {
         }
     }
 
+    private List<RankingItem> toRankingItems(Set<ZSetOperations.TypedTuple<String>> results) {
+        if (results == null || results.isEmpty()) {
+            return List.of();
+        }
+        return results.stream()
+                .map(tuple -> RankingItem.builder()
+                        .productId(Long.parseLong(tuple.getValue()))
+                        .score(tuple.getScore() != null ? tuple.getScore().longValue() : 0L)
+                        .build())
+                .collect(Collectors.toList());
+    }
+
     @Override
     public Optional<Long> getProductRank(String date, Long productId) {
         String key = getRankingKey(date);
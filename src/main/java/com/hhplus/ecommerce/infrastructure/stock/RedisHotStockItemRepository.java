@@ -0,0 +1,52 @@
+package com.hhplus.ecommerce.infrastructure.stock;
+
+import com.hhplus.ecommerce.domain.stock.HotStockItemRepository;
+import com.hhplus.ecommerce.domain.stock.StockBucketType;
+import com.hhplus.ecommerce.infrastructure.config.RedisKeyType;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * RedisHotStockItemRepository - Redis Set 기반 핫 아이템 지정 저장소
+ *
+ * 설계:
+ * - "state:stock:hot:{itemType}" (Set, itemId)
+ * - 지정할 때마다 TTL 갱신 (설정값 핫 아이템은 기동 시마다 다시 지정됨)
+ */
+@Repository
+public class RedisHotStockItemRepository implements HotStockItemRepository {
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public RedisHotStockItemRepository(RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public Set<Long> findHotItemIds(StockBucketType itemType) {
+        Set<String> members = redisTemplate.opsForSet().members(key(itemType));
+        if (members == null) {
+            return Set.of();
+        }
+        return members.stream().map(Long::valueOf).collect(Collectors.toSet());
+    }
+
+    @Override
+    public void add(StockBucketType itemType, Long itemId) {
+        String key = key(itemType);
+        redisTemplate.opsForSet().add(key, String.valueOf(itemId));
+        redisTemplate.expire(key, RedisKeyType.STATE_STOCK_HOT_ITEMS.getTtl());
+    }
+
+    @Override
+    public void remove(StockBucketType itemType, Long itemId) {
+        redisTemplate.opsForSet().remove(key(itemType), String.valueOf(itemId));
+    }
+
+    private String key(StockBucketType itemType) {
+        return RedisKeyType.STATE_STOCK_HOT_ITEMS.buildKey(itemType.name());
+    }
+}
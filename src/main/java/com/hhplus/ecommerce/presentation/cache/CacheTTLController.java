@@ -0,0 +1,34 @@
+package com.hhplus.ecommerce.presentation.cache;
+
+import com.hhplus.ecommerce.infrastructure.config.AdaptiveTTLService;
+import com.hhplus.ecommerce.presentation.cache.response.CacheTTLDecisionResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * CacheTTLController - 적응형 TTL 결정 조회 API (운영 모니터링용, 읽기 전용)
+ *
+ * 엔드포인트:
+ * - GET /cache/ttl-decisions → TTL이 있는 키 패밀리별 현재 배율, 구간 히트율/무효화 비율, 결정 사유
+ */
+@RestController
+@RequestMapping("/cache")
+public class CacheTTLController {
+
+    private final AdaptiveTTLService adaptiveTTLService;
+
+    public CacheTTLController(AdaptiveTTLService adaptiveTTLService) {
+        this.adaptiveTTLService = adaptiveTTLService;
+    }
+
+    @GetMapping("/ttl-decisions")
+    public ResponseEntity<List<CacheTTLDecisionResponse>> getTTLDecisions() {
+        return ResponseEntity.ok(adaptiveTTLService.getDecisions().stream()
+                .map(CacheTTLDecisionResponse::from)
+                .toList());
+    }
+}
@@ -0,0 +1,65 @@
+package com.hhplus.ecommerce.presentation.cache.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.hhplus.ecommerce.infrastructure.config.AdaptiveTTLService;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * CacheTTLDecisionResponse - 키 패밀리별 적응형 TTL 결정 응답 DTO
+ *
+ * 응답 형식:
+ * {"key_name": "CACHE_PRODUCT_DETAIL", "base_ttl_seconds": 7200, "effective_ttl_seconds": 14400,
+ *  "factor": 2.0, "hits": 980, "misses": 20, "invalidations": 3,
+ *  "hit_ratio": 0.98, "invalidation_ratio": 0.003, "reason": "핫 + 변경 드묾", "decided_at": "..."}
+ *
+ * - effective_ttl_seconds는 지터 적용 전 값 (실제 쓰기는 ±지터)
+ * - 관측 수치는 마지막 재계산 구간 기준
+ */
+@Getter
+@Builder
+public class CacheTTLDecisionResponse {
+
+    @JsonProperty("key_name")
+    private final String keyName;
+
+    @JsonProperty("base_ttl_seconds")
+    private final long baseTtlSeconds;
+
+    @JsonProperty("effective_ttl_seconds")
+    private final long effectiveTtlSeconds;
+
+    private final double factor;
+    private final long hits;
+    private final long misses;
+    private final long invalidations;
+
+    @JsonProperty("hit_ratio")
+    private final double hitRatio;
+
+    @JsonProperty("invalidation_ratio")
+    private final double invalidationRatio;
+
+    private final String reason;
+
+    @JsonProperty("decided_at")
+    private final LocalDateTime decidedAt;
+
+    public static CacheTTLDecisionResponse from(AdaptiveTTLService.TTLDecision decision) {
+        return CacheTTLDecisionResponse.builder()
+                .keyName(decision.getKeyName())
+                .baseTtlSeconds(decision.getBaseTtl().getSeconds())
+                .effectiveTtlSeconds(decision.getEffectiveTtl().getSeconds())
+                .factor(decision.getFactor())
+                .hits(decision.getHits())
+                .misses(decision.getMisses())
+                .invalidations(decision.getInvalidations())
+                .hitRatio(decision.getHitRatio())
+                .invalidationRatio(decision.getInvalidationRatio())
+                .reason(decision.getReason())
+                .decidedAt(decision.getDecidedAt())
+                .build();
+    }
+}
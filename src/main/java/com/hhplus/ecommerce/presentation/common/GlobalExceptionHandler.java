@@ -3,6 +3,7 @@ package com.hhplus.ecommerce.presentation.common;
 import com.hhplus.ecommerce.domain.cart.CartItemNotFoundException;
 import com.hhplus.ecommerce.domain.cart.InvalidQuantityException;
 import com.hhplus.ecommerce.domain.coupon.CouponNotFoundException;
+import com.hhplus.ecommerce.domain.order.OrderAdmissionRejectedException;
 import com.hhplus.ecommerce.domain.order.OrderNotFoundException;
 import com.hhplus.ecommerce.domain.user.UserNotFoundException;
 import com.hhplus.ecommerce.domain.product.ProductNotFoundException;
@@ -32,6 +33,7 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
  * HTTP 상태 코드 매핑:
  * - 404 Not Found: 리소스를 찾을 수 없음 (ProductNotFoundException, UserNotFoundException 등)
  * - 400 Bad Request: 파라미터 검증 실패 또는 비즈니스 로직 실패 (IllegalArgumentException, InvalidQuantityException 등)
+ * - 503 Service Unavailable: 주문 입장 대기열 부하 차단 (OrderAdmissionRejectedException)
  * - 500 Internal Server Error: 서버 내부 오류
  */
 @RestControllerAdvice
@@ -152,6 +154,20 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
     }
 
+    /**
+     * 주문 입장 대기열 부하 차단 (503)
+     *
+     * API 명세:
+     * - Error Code: ORDER_ADMISSION_REJECTED
+     * - HTTP Status: 503 Service Unavailable
+     * - 상황: 핫 옵션 레인 포화 또는 대기 시간 초과 (주문 미실행 → 재시도 가능)
+     */
+    @ExceptionHandler(OrderAdmissionRejectedException.class)
+    public ResponseEntity<ErrorResponse> handleOrderAdmissionRejectedException(OrderAdmissionRejectedException e) {
+        ErrorResponse errorResponse = ErrorResponse.of("ORDER_ADMISSION_REJECTED", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+    }
+
     /**
      * 지원하지 않는 작업 (400)
      *
@@ -2,7 +2,9 @@ package com.hhplus.ecommerce.presentation.coupon;
 
 import com.hhplus.ecommerce.application.coupon.CouponService;
 import com.hhplus.ecommerce.application.coupon.CouponQueueService;
+import com.hhplus.ecommerce.application.coupon.CouponReservationService;
 import com.hhplus.ecommerce.application.coupon.dto.CouponIssueStatusResponse;
+import com.hhplus.ecommerce.domain.coupon.CouponReservationResult;
 import com.hhplus.ecommerce.infrastructure.kafka.CouponIssueProducer;
 import com.hhplus.ecommerce.presentation.coupon.request.IssueCouponRequest;
 import com.hhplus.ecommerce.presentation.coupon.response.AvailableCouponResponse;
@@ -43,20 +45,25 @@ public class CouponController {
     private final CouponService couponService;
     private final CouponQueueService couponQueueService;
     private final CouponIssueProducer couponIssueProducer;
+    private final CouponReservationService couponReservationService;
 
     public CouponController(
             CouponService couponService,
             CouponQueueService couponQueueService,
-            CouponIssueProducer couponIssueProducer) {
+            CouponIssueProducer couponIssueProducer,
+            CouponReservationService couponReservationService) {
         this.couponService = couponService;
         this.couponQueueService = couponQueueService;
         this.couponIssueProducer = couponIssueProducer;
+        this.couponReservationService = couponReservationService;
     }
 
     /**
      * 4.1 쿠폰 발급 (선착순 - 동기)
      * POST /api/coupons/issue
      *
+     * 예약 게이트(Redis Lua)를 통과한 요청만 DB 비관적 락 경로로 진입
+     *
      * @param userId X-USER-ID 헤더 (사용자 ID)
      * @param request 쿠폰 발급 요청 (coupon_id)
      * @return 발급된 쿠폰 정보 (201 Created)
@@ -65,7 +72,7 @@ public class CouponController {
     public ResponseEntity<IssueCouponResponse> issueCoupon(
             @RequestHeader("X-USER-ID") Long userId,
             @RequestBody IssueCouponRequest request) {
-        IssueCouponResponse response = couponService.issueCoupon(userId, request.getCouponId());
+        IssueCouponResponse response = couponReservationService.issueCoupon(userId, request.getCouponId());
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
@@ -160,6 +167,15 @@ public class CouponController {
                     .body(CouponIssueAsyncResponse.error("쿠폰을 찾을 수 없습니다"));
         }
 
+        // 예약 게이트: 소진/중복 요청은 Kafka로 발행하지 않음
+        CouponReservationResult reservation = couponReservationService.reserve(userId, request.getCouponId());
+        if (!reservation.isAdmitted()) {
+            log.info("[CouponController] 예약 게이트 거절: userId={}, couponId={}, result={}",
+                    userId, request.getCouponId(), reservation);
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(CouponIssueAsyncResponse.error(reservation.getRejectMessage()));
+        }
+
         try {
             // Kafka로 쿠폰 발급 요청 발행
             String requestId = couponIssueProducer.sendCouponIssueRequest(userId, request.getCouponId());
@@ -180,6 +196,9 @@ public class CouponController {
         } catch (Exception e) {
             log.error("[CouponController] Kafka 발행 실패: userId={}, couponId={}, error={}",
                     userId, request.getCouponId(), e.getMessage(), e);
+            if (reservation == CouponReservationResult.RESERVED) {
+                couponReservationService.release(userId, request.getCouponId(), e);
+            }
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(CouponIssueAsyncResponse.error("쿠폰 발급 요청 발행 실패: " + e.getMessage()));
         }
@@ -65,6 +65,13 @@ public class AvailableCouponResponse {
      * Coupon 객체에서 Response로 변환
      */
     public static AvailableCouponResponse from(Coupon coupon) {
+        return from(coupon, coupon.getRemainingQty());
+    }
+
+    /**
+     * Coupon 객체에서 Response로 변환 (재고 분할 중인 쿠폰은 버킷 잔여분을 포함한 수량)
+     */
+    public static AvailableCouponResponse from(Coupon coupon, int availableQty) {
         return AvailableCouponResponse.builder()
                 .couponId(coupon.getCouponId())
                 .couponName(coupon.getCouponName())
@@ -74,7 +81,7 @@ public class AvailableCouponResponse {
                 .discountRate(coupon.getDiscountRate())
                 .validFrom(coupon.getValidFrom())
                 .validUntil(coupon.getValidUntil())
-                .remainingQty(coupon.getRemainingQty())
+                .remainingQty(availableQty)
                 .build();
     }
 }
@@ -0,0 +1,36 @@
+package com.hhplus.ecommerce.presentation.kafka;
+
+import com.hhplus.ecommerce.infrastructure.kafka.ListenerConcurrencyAutoscaler;
+import com.hhplus.ecommerce.presentation.kafka.response.ConsumerScalingResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * KafkaConsumerScalingController - Consumer Lag / 동시성 결정 조회 API (운영 모니터링용, 읽기 전용)
+ *
+ * 엔드포인트:
+ * - GET /kafka/consumer-scaling → 리스너 컨테이너별 파티션 Lag, 소진 예상 시간, 현재/목표 동시성, 결정 사유
+ *
+ * kafka.autoscaling.enabled=false이면 빈 목록
+ */
+@RestController
+@RequestMapping("/kafka")
+public class KafkaConsumerScalingController {
+
+    private final ListenerConcurrencyAutoscaler listenerConcurrencyAutoscaler;
+
+    public KafkaConsumerScalingController(ListenerConcurrencyAutoscaler listenerConcurrencyAutoscaler) {
+        this.listenerConcurrencyAutoscaler = listenerConcurrencyAutoscaler;
+    }
+
+    @GetMapping("/consumer-scaling")
+    public ResponseEntity<List<ConsumerScalingResponse>> getConsumerScaling() {
+        return ResponseEntity.ok(listenerConcurrencyAutoscaler.getStatuses().stream()
+                .map(ConsumerScalingResponse::from)
+                .toList());
+    }
+}
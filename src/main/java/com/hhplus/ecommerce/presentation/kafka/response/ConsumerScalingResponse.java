@@ -0,0 +1,104 @@
+package com.hhplus.ecommerce.presentation.kafka.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.hhplus.ecommerce.infrastructure.kafka.ListenerScalingStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ConsumerScalingResponse - 리스너 컨테이너별 Lag / 동시성 결정 응답 DTO
+ *
+ * 응답 형식:
+ * {"listener_id": "...", "group_id": "ecommerce-coupon-consumer-group", "topics": ["coupon.issue.requests"],
+ *  "partition_count": 10, "lag_by_partition": {"coupon.issue.requests-0": 120, ...}, "total_lag": 1200,
+ *  "assigned_partition_count": 5, "assigned_lag": 600,
+ *  "consume_rate_per_second": 250.0, "produce_rate_per_second": 50.0, "time_to_drain_seconds": 6,
+ *  "current_concurrency": 3, "desired_concurrency": 2, "min_concurrency": 1, "max_concurrency": 10,
+ *  "decision": "HOLD", "applied": false, "reason": "감소 대기 (1/6회)", "evaluated_at": "..."}
+ *
+ * - assigned_*: 이 노드에 할당된 파티션만 (동시성 결정 기준)
+ * - time_to_drain_seconds: Lag가 줄지 않는 중이면 null
+ */
+@Getter
+@Builder
+public class ConsumerScalingResponse {
+
+    @JsonProperty("listener_id")
+    private final String listenerId;
+
+    @JsonProperty("group_id")
+    private final String groupId;
+
+    private final List<String> topics;
+
+    @JsonProperty("partition_count")
+    private final int partitionCount;
+
+    @JsonProperty("lag_by_partition")
+    private final Map<String, Long> lagByPartition;
+
+    @JsonProperty("total_lag")
+    private final long totalLag;
+
+    @JsonProperty("assigned_partition_count")
+    private final int assignedPartitionCount;
+
+    @JsonProperty("assigned_lag")
+    private final long assignedLag;
+
+    @JsonProperty("consume_rate_per_second")
+    private final double consumeRatePerSecond;
+
+    @JsonProperty("produce_rate_per_second")
+    private final double produceRatePerSecond;
+
+    @JsonProperty("time_to_drain_seconds")
+    private final Long timeToDrainSeconds;
+
+    @JsonProperty("current_concurrency")
+    private final int currentConcurrency;
+
+    @JsonProperty("desired_concurrency")
+    private final int desiredConcurrency;
+
+    @JsonProperty("min_concurrency")
+    private final int minConcurrency;
+
+    @JsonProperty("max_concurrency")
+    private final int maxConcurrency;
+
+    private final String decision;
+    private final boolean applied;
+    private final String reason;
+
+    @JsonProperty("evaluated_at")
+    private final LocalDateTime evaluatedAt;
+
+    public static ConsumerScalingResponse from(ListenerScalingStatus status) {
+        return ConsumerScalingResponse.builder()
+                .listenerId(status.getListenerId())
+                .groupId(status.getGroupId())
+                .topics(status.getTopics())
+                .partitionCount(status.getPartitionCount())
+                .lagByPartition(status.getLagByPartition())
+                .totalLag(status.getTotalLag())
+                .assignedPartitionCount(status.getAssignedPartitionCount())
+                .assignedLag(status.getAssignedLag())
+                .consumeRatePerSecond(status.getConsumeRatePerSecond())
+                .produceRatePerSecond(status.getProduceRatePerSecond())
+                .timeToDrainSeconds(status.getTimeToDrainSeconds())
+                .currentConcurrency(status.getCurrentConcurrency())
+                .desiredConcurrency(status.getDesiredConcurrency())
+                .minConcurrency(status.getMinConcurrency())
+                .maxConcurrency(status.getMaxConcurrency())
+                .decision(status.getDecision().name())
+                .applied(status.isApplied())
+                .reason(status.getReason())
+                .evaluatedAt(status.getEvaluatedAt())
+                .build();
+    }
+}
@@ -8,7 +8,7 @@ import org.springframework.web.bind.annotation.*;
 
 /**
  * ProductController - 상품 조회 API (Presentation 계층)
- * GET /products - 상품 목록 조회 (페이지네이션, 정렬)
+ * GET /products - 상품 목록 조회 (페이지네이션, 정렬, 키셋 커서)
  * GET /products/{product_id} - 상품 상세 조회 (옵션 포함)
  */
 @RestController
@@ -27,13 +27,15 @@ public class ProductController {
      * @param page 페이지 번호 (기본값: 0)
      * @param size 페이지당 항목 수 (기본값: 10, 범위: 1~100)
      * @param sort 정렬 기준 (기본값: product_id,desc)
+     * @param after 키셋 커서 (이전 응답의 nextCursor, 지정 시 page 무시)
      * @return 페이지네이션된 상품 목록
      */
     @GetMapping
     public ResponseEntity<ProductListResponse> getProductList(
             @RequestParam(value = "page", defaultValue = "0") int page,
             @RequestParam(value = "size", defaultValue = "10") int size,
-            @RequestParam(value = "sort", defaultValue = "product_id,desc") String sort) {
+            @RequestParam(value = "sort", defaultValue = "product_id,desc") String sort,
+            @RequestParam(value = "after", required = false) String after) {
 
         // Controller 계층에서 기본적인 파라미터 검증
         if (page < 0) {
@@ -43,7 +45,9 @@ public class ProductController {
             throw new IllegalArgumentException("페이지 크기는 1 이상 100 이하여야 합니다");
         }
 
-        ProductListResponse response = productService.getProductList(page, size, sort);
+        ProductListResponse response = after != null
+                ? productService.getProductListAfter(after, size, sort)
+                : productService.getProductList(page, size, sort);
         return ResponseEntity.ok(response);
     }
 
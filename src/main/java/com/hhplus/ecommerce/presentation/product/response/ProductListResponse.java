@@ -10,6 +10,7 @@ import java.util.List;
 /**
  * 상품 목록 조회 (GET /products) 응답 DTO
  * 페이지네이션 정보와 상품 목록을 포함
+ * 키셋 커서 조회(?after=)는 전체 건수를 세지 않으므로 totalElements/totalPages/currentPage가 null
  */
 @Setter
 @Getter
@@ -21,15 +22,24 @@ public class ProductListResponse {
     private Integer currentPage;
     private Integer size;
 
+    /** 다음 페이지 키셋 커서 (?after=, 마지막 페이지면 null) */
+    private String nextCursor;
+
     public ProductListResponse() {}
 
     public ProductListResponse(List<ProductResponse> content, Long totalElements,
                               Long totalPages, Integer currentPage, Integer size) {
+        this(content, totalElements, totalPages, currentPage, size, null);
+    }
+
+    public ProductListResponse(List<ProductResponse> content, Long totalElements,
+                              Long totalPages, Integer currentPage, Integer size, String nextCursor) {
         this.content = content;
         this.totalElements = totalElements;
         this.totalPages = totalPages;
         this.currentPage = currentPage;
         this.size = size;
+        this.nextCursor = nextCursor;
     }
 
 }
@@ -1,7 +1,10 @@
 package com.hhplus.ecommerce.presentation.ranking;
 
+import com.hhplus.ecommerce.application.ranking.RankedProductQueryService;
 import com.hhplus.ecommerce.application.ranking.RankingService;
 import com.hhplus.ecommerce.domain.ranking.RankingItem;
+import com.hhplus.ecommerce.domain.ranking.RankingWindow;
+import com.hhplus.ecommerce.presentation.ranking.response.RankedProductsResponse;
 import com.hhplus.ecommerce.presentation.ranking.response.TopProductsResponse;
 import com.hhplus.ecommerce.presentation.ranking.response.ProductRankResponse;
 import org.springframework.http.ResponseEntity;
@@ -21,7 +24,8 @@ import java.util.Optional;
  * - 특정 상품 순위 확인
  *
  * 엔드포인트:
- * - GET /ranking/top/{topN} → TOP N 상품 조회
+ * - GET /ranking/top/{topN} → TOP N 상품 조회 (window=24h|3d|7d 지정 시 구간 랭킹)
+ * - GET /ranking/top/{topN}/products → 상품 정보가 결합된 TOP N 조회 (window 선택)
  * - GET /ranking/{productId} → 특정 상품 순위 조회
  *
  * 응답:
@@ -42,9 +46,11 @@ public class RankingController {
     private static final Logger log = LoggerFactory.getLogger(RankingController.class);
 
     private final RankingService rankingService;
+    private final RankedProductQueryService rankedProductQueryService;
 
-    public RankingController(RankingService rankingService) {
+    public RankingController(RankingService rankingService, RankedProductQueryService rankedProductQueryService) {
         this.rankingService = rankingService;
+        this.rankedProductQueryService = rankedProductQueryService;
     }
 
     /**
@@ -52,9 +58,11 @@ public class RankingController {
      *
      * HTTP Request:
      * GET /ranking/top/5
+     * GET /ranking/top/5?window=3d
      *
      * 동작:
-     * - 오늘 기준 상위 5개 상품 조회
+     * - window 미지정: 오늘 기준 상위 5개 상품 조회
+     * - window 지정: 마감된 최근 24시간/3일/7일 집계에서 조회 (시간 마감마다 갱신)
      * - 점수(주문 수) 기준 내림차순 정렬
      * - 상품이 없으면 빈 리스트 반환
      *
@@ -69,18 +77,21 @@ public class RankingController {
      *
      * 400 Bad Request:
      * - topN <= 0 인 경우
+     * - 지원하지 않는 window 값
      *
      * 500 Internal Server Error:
      * - Redis 연결 실패 등 예외 발생
      *
      * @param topN 상위 몇 개 (1 이상)
+     * @param window 랭킹 구간 코드 (선택: 24h, 3d, 7d)
      * @return TOP N 상품 리스트
      */
     @GetMapping("/top/{topN}")
     public ResponseEntity<TopProductsResponse> getTopProducts(
-            @PathVariable(name = "topN") long topN) {
+            @PathVariable(name = "topN") long topN,
+            @RequestParam(name = "window", required = false) String window) {
 
-        log.info("[RankingController] TOP 상품 조회 요청: topN={}", topN);
+        log.info("[RankingController] TOP 상품 조회 요청: topN={}, window={}", topN, window);
 
         // 입력 검증
         if (topN <= 0) {
@@ -89,9 +100,22 @@ public class RankingController {
                     .body(TopProductsResponse.of(List.of(), "topN은 1 이상이어야 합니다"));
         }
 
+        RankingWindow rankingWindow = null;
+        if (window != null) {
+            try {
+                rankingWindow = RankingWindow.fromCode(window);
+            } catch (IllegalArgumentException e) {
+                log.warn("[RankingController] 유효하지 않은 window 값: {}", window);
+                return ResponseEntity.badRequest()
+                        .body(TopProductsResponse.of(List.of(), e.getMessage()));
+            }
+        }
+
         try {
             // TOP N 상품 조회
-            List<RankingItem> topProducts = rankingService.getTopProducts(topN);
+            List<RankingItem> topProducts = rankingWindow == null
+                    ? rankingService.getTopProducts(topN)
+                    : rankingService.getTopProducts(rankingWindow, topN);
 
             log.info("[RankingController] TOP 상품 조회 완료: topN={}, count={}", topN, topProducts.size());
 
@@ -103,6 +127,55 @@ public class RankingController {
         }
     }
 
+    /**
+     * 상품 정보가 결합된 TOP N 조회
+     *
+     * HTTP Request:
+     * GET /ranking/top/5/products
+     * GET /ranking/top/5/products?window=24h
+     *
+     * 동작:
+     * - 순위, 상품명, 가격, 재고, 상태, 점수를 함께 반환 (상품 상세 N회 호출 불필요)
+     * - 노드 로컬 near-cache에서 반환, 수 초마다 갱신 (RankedProductQueryService)
+     *
+     * Response:
+     * 200 OK: {"window": "24h", "ranked_products": [{"rank": 1, "product_id": 100, ...}, ...]}
+     *
+     * 400 Bad Request:
+     * - topN <= 0 또는 지원하지 않는 window 값
+     *
+     * @param topN 상위 몇 개 (1 이상)
+     * @param window 랭킹 구간 코드 (선택: 24h, 3d, 7d, 미지정 시 오늘)
+     * @return 순위순 상품 목록
+     */
+    @GetMapping("/top/{topN}/products")
+    public ResponseEntity<RankedProductsResponse> getTopRankedProducts(
+            @PathVariable(name = "topN") int topN,
+            @RequestParam(name = "window", required = false) String window) {
+
+        if (topN <= 0) {
+            return ResponseEntity.badRequest().body(RankedProductsResponse.error("topN은 1 이상이어야 합니다"));
+        }
+
+        RankingWindow rankingWindow;
+        try {
+            rankingWindow = window == null ? null : RankingWindow.fromCode(window);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(RankedProductsResponse.error(e.getMessage()));
+        }
+
+        try {
+            List<RankedProductsResponse.RankedProductView> rankedProducts =
+                    rankedProductQueryService.getTopRankedProducts(rankingWindow, topN);
+            return ResponseEntity.ok(RankedProductsResponse.of(
+                    rankingWindow == null ? "daily" : rankingWindow.getCode(), rankedProducts));
+        } catch (Exception e) {
+            log.error("[RankingController] 상품 랭킹 조회 실패: topN={}, window={}", topN, window, e);
+            return ResponseEntity.internalServerError()
+                    .body(RankedProductsResponse.error("서버 오류: " + e.getMessage()));
+        }
+    }
+
     /**
      * 특정 상품 순위 조회
      *
@@ -0,0 +1,73 @@
+package com.hhplus.ecommerce.presentation.ranking.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * RankedProductsResponse - 상품 정보가 결합된 TOP N 랭킹 응답 DTO
+ *
+ * 응답 형식:
+ * {
+ *   "window": "3d",
+ *   "ranked_products": [
+ *     {"rank": 1, "product_id": 100, "product_name": "...", "price": 10000,
+ *      "total_stock": 50, "status": "판매 중", "score": 150},
+ *     ...
+ *   ]
+ * }
+ *
+ * - window는 일일 랭킹이면 "daily"
+ * - 클라이언트가 상품 상세를 N번 다시 조회하지 않도록 표시용 필드를 함께 반환
+ */
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class RankedProductsResponse {
+    private final String window;
+
+    @JsonProperty("ranked_products")
+    private final List<RankedProductView> rankedProducts;
+
+    private final String message;
+
+    public static RankedProductsResponse of(String window, List<RankedProductView> rankedProducts) {
+        return RankedProductsResponse.builder()
+                .window(window)
+                .rankedProducts(rankedProducts)
+                .build();
+    }
+
+    public static RankedProductsResponse error(String message) {
+        return RankedProductsResponse.builder()
+                .rankedProducts(List.of())
+                .message(message)
+                .build();
+    }
+
+    /**
+     * RankedProductView - 랭킹 항목 + 상품 표시 정보
+     */
+    @Getter
+    @Builder
+    public static class RankedProductView {
+        private final Integer rank;
+
+        @JsonProperty("product_id")
+        private final Long productId;
+
+        @JsonProperty("product_name")
+        private final String productName;
+
+        private final Long price;
+
+        @JsonProperty("total_stock")
+        private final Integer totalStock;
+
+        private final String status;
+        private final Long score;
+    }
+}
@@ -3,6 +3,7 @@ package com.hhplus.ecommerce.application.order.saga;
 import com.hhplus.ecommerce.application.order.saga.compensation.CompensationFailureContext;
 import com.hhplus.ecommerce.application.order.saga.compensation.SagaCompensationHandler;
 import com.hhplus.ecommerce.application.order.saga.context.SagaContext;
+import com.hhplus.ecommerce.application.order.saga.logging.SagaLogWriter;
 import com.hhplus.ecommerce.application.order.saga.orchestration.OrderSagaOrchestrator;
 import com.hhplus.ecommerce.application.order.saga.orchestration.SagaStep;
 import com.hhplus.ecommerce.domain.order.OrderRepository;
@@ -38,6 +39,8 @@ import static org.mockito.Mockito.*;
  * 4. LIFO 순서로 보상 실행 검증
  *    - 실행 순서: Step1 → Step2 → Step3
  *    - 보상 순서: Step3 → Step2 → Step1
+ *
+ * 5. 보상 실패 Step이 있으면 SAGA_COMPENSATED 기록 안 함 (복구 스캐너가 재보상)
  */
 @ExtendWith(MockitoExtension.class)
 @DisplayName("OrderSagaOrchestrator 보상 Handler 위임 테스트")
@@ -75,7 +78,7 @@ class OrderSagaOrchestratorCompensationTest {
         List<SagaStep> steps = Arrays.asList(step1, step2, step3);
 
         // Orchestrator 생성
-        orchestrator = new OrderSagaOrchestrator(
+        orchestrator = SagaTestFixtures.sequentialOrchestrator(
                 steps,
                 compensationHandler,
                 orderRepository
@@ -213,6 +216,37 @@ class OrderSagaOrchestratorCompensationTest {
         verify(compensationHandler, never()).handleFailure(any());
     }
 
+    @Test
+    @DisplayName("보상 실패 Step이 있으면 SAGA_COMPENSATED 기록 안 함 - 복구 스캐너가 재보상")
+    void recover_WhenStepCompensationFails_ShouldNotRecordCompensated() throws Exception {
+        // Given: 상태 전이 로그를 기록하는 Orchestrator, Step2 보상 실패
+        SagaLogWriter sagaLogWriter = mock(SagaLogWriter.class);
+        OrderSagaOrchestrator loggingOrchestrator = new OrderSagaOrchestrator(
+                Arrays.asList(step1, step2, step3),
+                compensationHandler,
+                orderRepository,
+                Runnable::run,
+                false,
+                sagaLogWriter
+        );
+
+        SagaContext context = new SagaContext(1L, null, null, 0L, 10000L, 10000L);
+        context.addExecutedStepName("Step1");
+        context.addExecutedStepName("Step2");
+        doThrow(new RuntimeException("Step2 compensation failed")).when(step2).compensate(any(SagaContext.class));
+
+        // When: 중단된 Saga 복구 (Step3 미실행 → 보상)
+        boolean completed = loggingOrchestrator.recover(context);
+
+        // Then: 실패 Step은 실패로 기록, 나머지 Step은 계속 보상, Saga 종결 기록 없음
+        assertThat(completed).isFalse();
+        verify(step1).compensate(context);
+        verify(sagaLogWriter).stepCompensated(context, "Step1");
+        verify(sagaLogWriter).stepCompensationFailed(context, "Step2");
+        verify(sagaLogWriter, never()).compensated(any());
+        verify(compensationHandler).handleFailure(any(CompensationFailureContext.class));
+    }
+
     @Test
     @DisplayName("LIFO 순서로 보상 실행 - Step3 → Step2 → Step1")
     void compensate_ShouldExecuteInLIFOOrder() throws Exception {
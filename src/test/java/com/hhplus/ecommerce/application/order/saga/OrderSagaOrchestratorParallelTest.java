@@ -0,0 +1,179 @@
+package com.hhplus.ecommerce.application.order.saga;
+
+import com.hhplus.ecommerce.application.order.saga.compensation.SagaCompensationHandler;
+import com.hhplus.ecommerce.application.order.saga.context.SagaContext;
+import com.hhplus.ecommerce.application.order.saga.orchestration.OrderSagaOrchestrator;
+import com.hhplus.ecommerce.application.order.saga.orchestration.SagaStep;
+import com.hhplus.ecommerce.domain.order.Order;
+import com.hhplus.ecommerce.domain.order.OrderRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * OrderSagaOrchestrator 의존 관계(DAG) 실행 테스트
+ *
+ * 테스트 범위:
+ * 1. 의존 없는 Step은 동시 실행, 후행 Step은 선행 Step 완료 후 실행
+ * 2. 독립 Step 실패 시 후행 Step 미실행, 성공한 Step만 위상 정렬 역순 보상
+ * 3. 순환 의존/존재하지 않는 의존은 생성 시 실패
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderSagaOrchestrator DAG 병렬 실행 테스트")
+class OrderSagaOrchestratorParallelTest {
+
+    @Mock
+    private SagaCompensationHandler compensationHandler;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    private ExecutorService executor;
+
+    private final List<String> events = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("독립 Step은 동시에 실행되고, 후행 Step은 모두 완료된 뒤 실행")
+    void executeSaga_IndependentStepsRunConcurrently() {
+        // 두 Step이 서로를 기다림 → 동시에 실행되지 않으면 시간 초과로 실패
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        SagaStep inventory = new TestStep("Inventory", 1, Set.of(), context -> awaitPeer(bothStarted));
+        SagaStep balance = new TestStep("Balance", 2, Set.of(), context -> awaitPeer(bothStarted));
+        SagaStep createOrder = new TestStep("CreateOrder", 3, Set.of("Inventory", "Balance"),
+                context -> context.setOrderId(100L));
+        when(orderRepository.findById(100L)).thenReturn(Optional.of(mock(Order.class)));
+
+        OrderSagaOrchestrator orchestrator = SagaTestFixtures.orchestrator(
+                List.of(createOrder, balance, inventory), compensationHandler, orderRepository, executor, true);
+
+        orchestrator.executeSaga(1L, List.of(), null, 0L, 10000L, 10000L);
+
+        assertThat(events).hasSize(3);
+        assertThat(events.get(2)).isEqualTo("execute:CreateOrder");
+        assertThat(orchestrator.getSteps()).extracting(SagaStep::getName)
+                .containsExactly("Inventory", "Balance", "CreateOrder");
+    }
+
+    @Test
+    @DisplayName("독립 Step 실패 - 후행 Step 미실행, 성공한 Step만 보상")
+    void executeSaga_IndependentStepFails_CompensatesCompletedSiblings() {
+        SagaStep inventory = new TestStep("Inventory", 1, Set.of(), context -> {
+            throw new IllegalArgumentException("재고가 부족합니다");
+        });
+        SagaStep balance = new TestStep("Balance", 2, Set.of(), context -> { });
+        SagaStep coupon = new TestStep("Coupon", 3, Set.of(), context -> { });
+        SagaStep createOrder = new TestStep("CreateOrder", 4, Set.of("Inventory", "Balance", "Coupon"),
+                context -> context.setOrderId(100L));
+
+        OrderSagaOrchestrator orchestrator = SagaTestFixtures.orchestrator(
+                List.of(inventory, balance, coupon, createOrder), compensationHandler, orderRepository, executor, true);
+
+        assertThatThrownBy(() -> orchestrator.executeSaga(1L, List.of(), null, 0L, 10000L, 10000L))
+                .hasRootCauseMessage("재고가 부족합니다");
+
+        assertThat(events).doesNotContain("execute:CreateOrder", "compensate:Inventory");
+        // 보상은 완료 순서와 무관하게 위상 정렬 역순 (Coupon → Balance)
+        assertThat(events.stream().filter(event -> event.startsWith("compensate:")).toList())
+                .containsExactly("compensate:Coupon", "compensate:Balance");
+        verifyNoInteractions(compensationHandler, orderRepository);
+    }
+
+    @Test
+    @DisplayName("순환 의존 또는 존재하지 않는 Step 의존 - 생성 시 IllegalStateException")
+    void constructor_InvalidGraph_Throws() {
+        SagaStep a = new TestStep("A", 1, Set.of("B"), context -> { });
+        SagaStep b = new TestStep("B", 2, Set.of("A"), context -> { });
+        SagaStep c = new TestStep("C", 3, Set.of("Missing"), context -> { });
+
+        assertThatThrownBy(() -> SagaTestFixtures.sequentialOrchestrator(List.of(a, b), compensationHandler, orderRepository))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("순환");
+        assertThatThrownBy(() -> SagaTestFixtures.sequentialOrchestrator(List.of(c), compensationHandler, orderRepository))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Missing");
+    }
+
+    private static void awaitPeer(CountDownLatch latch) {
+        latch.countDown();
+        try {
+            if (!latch.await(2, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("독립 Step이 동시에 실행되지 않았습니다");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private interface StepAction {
+        void run(SagaContext context) throws Exception;
+    }
+
+    private class TestStep implements SagaStep {
+
+        private final String name;
+        private final int order;
+        private final Set<String> dependencies;
+        private final StepAction action;
+
+        TestStep(String name, int order, Set<String> dependencies, StepAction action) {
+            this.name = name;
+            this.order = order;
+            this.dependencies = dependencies;
+            this.action = action;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public int getOrder() {
+            return order;
+        }
+
+        @Override
+        public Set<String> getDependencies() {
+            return dependencies;
+        }
+
+        @Override
+        public void execute(SagaContext context) throws Exception {
+            action.run(context);
+            events.add("execute:" + name);
+        }
+
+        @Override
+        public void compensate(SagaContext context) {
+            events.add("compensate:" + name);
+        }
+    }
+}
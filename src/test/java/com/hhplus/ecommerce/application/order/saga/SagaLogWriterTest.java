@@ -0,0 +1,144 @@
+package com.hhplus.ecommerce.application.order.saga;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hhplus.ecommerce.application.order.dto.CreateOrderRequestDto.OrderItemDto;
+import com.hhplus.ecommerce.application.order.saga.context.SagaContext;
+import com.hhplus.ecommerce.application.order.saga.context.SagaExecutionSnapshot;
+import com.hhplus.ecommerce.application.order.saga.logging.SagaLogWriter;
+import com.hhplus.ecommerce.domain.order.SagaLogEntry;
+import com.hhplus.ecommerce.domain.order.SagaLogEventType;
+import com.hhplus.ecommerce.domain.order.SagaLogRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * SagaLogWriter 비동기 그룹 커밋 테스트
+ *
+ * 테스트 범위:
+ * 1. 시작/완료/종결 전이는 플러셔 스레드에서 기록, 종료 시 남은 전이까지 모두 기록
+ * 2. 기록 실패 시 재시도 후 버림
+ * 3. Step 적용 표식은 입력 스냅샷을 포함하고, 한 번만 확인 + 삭제됨 (중복 보상 방지)
+ * 4. 비활성화 시 저장소 미호출
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SagaLogWriter 그룹 커밋 테스트")
+class SagaLogWriterTest {
+
+    @Mock
+    private SagaLogRepository sagaLogRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private SagaLogWriter writer;
+
+    @AfterEach
+    void tearDown() {
+        if (writer != null) {
+            writer.shutdown();
+        }
+    }
+
+    private SagaContext context() {
+        return new SagaContext(1L, List.of(new OrderItemDto(10L, 20L, 2)), null, 0L, 30000L, 30000L);
+    }
+
+    @Test
+    @DisplayName("시작/완료/종결 전이는 모두 플러셔 스레드에서 기록 (호출 스레드는 DB를 기다리지 않음)")
+    void transitions_AreGroupCommittedOffCallerThread() {
+        List<SagaLogEntry> written = new CopyOnWriteArrayList<>();
+        List<String> writerThreads = new CopyOnWriteArrayList<>();
+        when(sagaLogRepository.appendAll(anyList())).thenAnswer(invocation -> {
+            List<SagaLogEntry> entries = invocation.getArgument(0);
+            written.addAll(new ArrayList<>(entries));
+            entries.forEach(entry -> writerThreads.add(Thread.currentThread().getName()));
+            return entries.size();
+        });
+        writer = new SagaLogWriter(sagaLogRepository, objectMapper, true, 100, 500, 0);
+        SagaContext context = context();
+
+        writer.started(context);
+        writer.stepCompleted(context, "DeductInventoryStep");
+        context.setOrderId(100L);
+        writer.stepCompleted(context, "CreateOrderStep");
+        writer.completed(context);
+        writer.shutdown();
+
+        assertThat(written).extracting(SagaLogEntry::getEventType).containsExactly(
+                SagaLogEventType.SAGA_STARTED,
+                SagaLogEventType.STEP_COMPLETED,
+                SagaLogEventType.STEP_COMPLETED,
+                SagaLogEventType.SAGA_COMPLETED);
+        assertThat(written).allMatch(entry -> entry.getSagaId().equals(context.getSagaId()));
+        assertThat(written.get(2).getOrderId()).isEqualTo(100L);
+        assertThat(writerThreads).containsOnly("saga-log-flusher");
+        assertThat(writer.getWrittenEntries()).isEqualTo(4);
+        assertThat(writer.getFlushCount()).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("기록 실패 시 write-retries회 재시도 후 버림")
+    void writeFailure_RetriedThenDropped() {
+        when(sagaLogRepository.appendAll(anyList())).thenThrow(new RuntimeException("DB 연결 실패"));
+        writer = new SagaLogWriter(sagaLogRepository, objectMapper, true, 100, 500, 1);
+
+        writer.completed(context());
+        writer.shutdown();
+
+        verify(sagaLogRepository, times(2)).appendAll(anyList());
+        assertThat(writer.getDroppedEntries()).isEqualTo(1);
+        assertThat(writer.getWrittenEntries()).isZero();
+    }
+
+    @Test
+    @DisplayName("적용 표식 - 입력 스냅샷과 함께 기록, 보상 시 처음 한 번만 확인 + 삭제 성공")
+    void stepMarker_ClearedOnlyOnce() throws Exception {
+        writer = new SagaLogWriter(sagaLogRepository, objectMapper, true, 100, 500, 0);
+        SagaContext context = context();
+        when(sagaLogRepository.removeIfPresent(context.getSagaId(), SagaLogEventType.STEP_APPLIED, "UseCouponStep"))
+                .thenReturn(true)
+                .thenReturn(false);
+
+        writer.markApplied(context, "UseCouponStep");
+
+        assertThat(writer.clearApplied(context, "UseCouponStep")).isTrue();
+        assertThat(writer.clearApplied(context, "UseCouponStep")).isFalse();
+        ArgumentCaptor<SagaLogEntry> marker = ArgumentCaptor.forClass(SagaLogEntry.class);
+        verify(sagaLogRepository).appendIfAbsent(marker.capture());
+        assertThat(marker.getValue().getEventType()).isEqualTo(SagaLogEventType.STEP_APPLIED);
+        assertThat(marker.getValue().getStepName()).isEqualTo("UseCouponStep");
+        verify(sagaLogRepository, never()).appendAll(anyList());
+
+        SagaExecutionSnapshot snapshot = objectMapper.readValue(marker.getValue().getPayload(), SagaExecutionSnapshot.class);
+        assertThat(snapshot.getUserId()).isEqualTo(1L);
+        assertThat(snapshot.getFinalAmount()).isEqualTo(30000L);
+        assertThat(snapshot.getOrderItems()).singleElement()
+                .satisfies(item -> assertThat(item.getOptionId()).isEqualTo(20L));
+    }
+
+    @Test
+    @DisplayName("비활성화 시 저장소를 호출하지 않음")
+    void disabled_NoRepositoryCall() {
+        writer = new SagaLogWriter(sagaLogRepository, objectMapper, false, 100, 500, 0);
+
+        writer.started(context());
+        writer.markApplied(context(), "DeductInventoryStep");
+        writer.completed(context());
+
+        verifyNoInteractions(sagaLogRepository);
+        assertThat(writer.clearApplied(context(), "DeductInventoryStep")).isTrue();
+        assertThat(writer.isEnabled()).isFalse();
+    }
+}
@@ -0,0 +1,239 @@
+package com.hhplus.ecommerce.application.order.saga;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hhplus.ecommerce.application.order.dto.CreateOrderRequestDto.OrderItemDto;
+import com.hhplus.ecommerce.application.order.saga.compensation.SagaCompensationHandler;
+import com.hhplus.ecommerce.application.order.saga.context.SagaContext;
+import com.hhplus.ecommerce.application.order.saga.context.SagaExecutionSnapshot;
+import com.hhplus.ecommerce.application.order.saga.logging.SagaLogWriter;
+import com.hhplus.ecommerce.application.order.saga.orchestration.OrderSagaOrchestrator;
+import com.hhplus.ecommerce.application.order.saga.orchestration.SagaStep;
+import com.hhplus.ecommerce.application.order.saga.recovery.SagaRecoveryService;
+import com.hhplus.ecommerce.domain.order.Order;
+import com.hhplus.ecommerce.domain.order.OrderRepository;
+import com.hhplus.ecommerce.domain.order.SagaLogEntry;
+import com.hhplus.ecommerce.domain.order.SagaLogEventType;
+import com.hhplus.ecommerce.domain.order.SagaLogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * SagaRecoveryService 복구 스캐너 테스트
+ *
+ * 테스트 범위:
+ * 1. 적용 표식으로 SagaContext 복원 (보상된 Step 제외, orderId 복원) 후 Orchestrator 복구 호출
+ * 2. 시작/완료 전이가 유실돼도 표식의 입력 스냅샷과 표식으로 보상 후보와 orderId 복원
+ * 3. 다른 노드가 선점한 Saga는 복구하지 않음
+ * 4. 복구 시도 횟수 초과 시 RECOVERY_ABANDONED 기록
+ * 5. 보상 실패(STEP_COMPENSATION_FAILED)로 남은 Saga는 실패 Step을 다시 보상
+ * 6. 취소된 주문은 모든 Step 표식이 남아 있어도 성공으로 종결하지 않고 보상
+ * 7. 표식이 모두 삭제된 Saga는 선점/복구하지 않음
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SagaRecoveryService 복구 테스트")
+class SagaRecoveryServiceTest {
+
+    private static final String SAGA_ID = "saga-1";
+
+    @Mock
+    private SagaLogRepository sagaLogRepository;
+
+    @Mock
+    private OrderSagaOrchestrator orderSagaOrchestrator;
+
+    @Mock
+    private SagaLogWriter sagaLogWriter;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private SagaRecoveryService recoveryService;
+
+    @BeforeEach
+    void setUp() {
+        recoveryService = new SagaRecoveryService(sagaLogRepository, orderSagaOrchestrator, sagaLogWriter,
+                objectMapper, true, 300000, 24, 100, 2);
+        when(sagaLogWriter.isEnabled()).thenReturn(true);
+        when(sagaLogRepository.findInFlightSagaIds(any(), any(), any(), eq(100))).thenReturn(List.of(SAGA_ID));
+    }
+
+    private SagaLogEntry applied(String stepName, Long orderId) throws Exception {
+        SagaContext input = new SagaContext(1L, List.of(new OrderItemDto(10L, 20L, 2)), 5L, 1000L, 30000L, 29000L);
+        String payload = objectMapper.writeValueAsString(SagaExecutionSnapshot.inputsOf(input));
+        return SagaLogEntry.of(SAGA_ID, SagaLogEventType.STEP_APPLIED, stepName, orderId, payload);
+    }
+
+    private SagaLogEntry step(SagaLogEventType type, String stepName, Long orderId) {
+        return SagaLogEntry.of(SAGA_ID, type, stepName, orderId, null);
+    }
+
+    private static SagaStep sagaStep(String name) {
+        SagaStep step = mock(SagaStep.class);
+        when(step.getName()).thenReturn(name);
+        return step;
+    }
+
+    @Test
+    @DisplayName("적용 표식으로 SagaContext를 복원해 복구 - 보상으로 표식이 삭제된 Step은 실행 이력에서 제외")
+    void recover_RestoresContextFromMarkers() throws Exception {
+        // CreateOrderStep은 보상 완료 → 표식 삭제, 완료 전이만 남음
+        when(sagaLogRepository.findBySagaId(SAGA_ID)).thenReturn(List.of(
+                step(SagaLogEventType.SAGA_STARTED, null, null),
+                applied("DeductInventoryStep", null),
+                step(SagaLogEventType.STEP_COMPLETED, "DeductInventoryStep", null),
+                applied("UseCouponStep", null),
+                step(SagaLogEventType.STEP_COMPLETED, "UseCouponStep", null),
+                step(SagaLogEventType.STEP_COMPLETED, "CreateOrderStep", 100L),
+                step(SagaLogEventType.STEP_COMPENSATED, "CreateOrderStep", 100L)));
+        when(sagaLogRepository.appendIfAbsent(any())).thenReturn(true);
+
+        int recovered = recoveryService.recoverInFlightSagas();
+
+        assertThat(recovered).isEqualTo(1);
+        ArgumentCaptor<SagaLogEntry> claim = ArgumentCaptor.forClass(SagaLogEntry.class);
+        verify(sagaLogRepository).appendIfAbsent(claim.capture());
+        assertThat(claim.getValue().getEventType()).isEqualTo(SagaLogEventType.RECOVERY_CLAIMED);
+        assertThat(claim.getValue().getStepName()).isEqualTo("1");
+
+        ArgumentCaptor<SagaContext> context = ArgumentCaptor.forClass(SagaContext.class);
+        verify(orderSagaOrchestrator).recover(context.capture());
+        SagaContext restored = context.getValue();
+        assertThat(restored.getSagaId()).isEqualTo(SAGA_ID);
+        assertThat(restored.getUserId()).isEqualTo(1L);
+        assertThat(restored.getCouponId()).isEqualTo(5L);
+        assertThat(restored.getFinalAmount()).isEqualTo(29000L);
+        assertThat(restored.getOrderId()).isEqualTo(100L);
+        assertThat(restored.getExecutedStepNames()).containsExactly("DeductInventoryStep", "UseCouponStep");
+    }
+
+    @Test
+    @DisplayName("시작/완료 전이 유실 - 표식만으로 입력 스냅샷, 보상 후보, orderId 복원")
+    void recover_AsyncTransitionsLost_UsesMarkersOnly() throws Exception {
+        when(sagaLogRepository.findBySagaId(SAGA_ID)).thenReturn(List.of(
+                applied("DeductInventoryStep", null),
+                applied("CreateOrderStep", 100L)));
+        when(sagaLogRepository.appendIfAbsent(any())).thenReturn(true);
+
+        assertThat(recoveryService.recoverInFlightSagas()).isEqualTo(1);
+
+        ArgumentCaptor<SagaContext> context = ArgumentCaptor.forClass(SagaContext.class);
+        verify(orderSagaOrchestrator).recover(context.capture());
+        assertThat(context.getValue().getUserId()).isEqualTo(1L);
+        assertThat(context.getValue().getOrderId()).isEqualTo(100L);
+        assertThat(context.getValue().getExecutedStepNames())
+                .containsExactly("DeductInventoryStep", "CreateOrderStep");
+    }
+
+    @Test
+    @DisplayName("보상 실패로 종결되지 않은 Saga - 실패 Step만 다시 보상 후보")
+    void recover_CompensationFailed_RetriesFailedStep() throws Exception {
+        // 보상 실패로 롤백된 DeductBalanceStep만 표식이 남음
+        when(sagaLogRepository.findBySagaId(SAGA_ID)).thenReturn(List.of(
+                step(SagaLogEventType.STEP_COMPLETED, "DeductInventoryStep", null),
+                applied("DeductBalanceStep", null),
+                step(SagaLogEventType.STEP_COMPLETED, "DeductBalanceStep", null),
+                step(SagaLogEventType.STEP_COMPENSATED, "DeductInventoryStep", null),
+                step(SagaLogEventType.STEP_COMPENSATION_FAILED, "DeductBalanceStep", null)));
+        when(sagaLogRepository.appendIfAbsent(any())).thenReturn(true);
+
+        assertThat(recoveryService.recoverInFlightSagas()).isEqualTo(1);
+
+        ArgumentCaptor<SagaContext> context = ArgumentCaptor.forClass(SagaContext.class);
+        verify(orderSagaOrchestrator).recover(context.capture());
+        assertThat(context.getValue().getExecutedStepNames()).containsExactly("DeductBalanceStep");
+    }
+
+    @Test
+    @DisplayName("취소된 주문 - 모든 Step 표식이 남아 있어도 성공으로 종결하지 않고 보상")
+    void recover_OrderCancelled_CompensatesInsteadOfCompleting() throws Exception {
+        // Saga 종결 전이 유실 + 주문은 Saga 밖에서 취소됨
+        when(sagaLogRepository.findBySagaId(SAGA_ID)).thenReturn(List.of(
+                applied("DeductInventoryStep", null),
+                applied("DeductBalanceStep", null),
+                applied("UseCouponStep", null),
+                applied("CreateOrderStep", 100L)));
+        when(sagaLogRepository.appendIfAbsent(any())).thenReturn(true);
+
+        List<SagaStep> steps = List.of(sagaStep("DeductInventoryStep"), sagaStep("DeductBalanceStep"),
+                sagaStep("UseCouponStep"), sagaStep("CreateOrderStep"));
+        OrderRepository orderRepository = mock(OrderRepository.class);
+        Order cancelledOrder = mock(Order.class);
+        when(cancelledOrder.isCancelled()).thenReturn(true);
+        when(orderRepository.findById(100L)).thenReturn(Optional.of(cancelledOrder));
+        OrderSagaOrchestrator orchestrator = new OrderSagaOrchestrator(steps, mock(SagaCompensationHandler.class),
+                orderRepository, Runnable::run, false, sagaLogWriter);
+        SagaRecoveryService service = new SagaRecoveryService(sagaLogRepository, orchestrator, sagaLogWriter,
+                objectMapper, true, 300000, 24, 100, 2);
+
+        assertThat(service.recoverInFlightSagas()).isEqualTo(1);
+
+        verify(sagaLogWriter, never()).completed(any());
+        for (SagaStep step : steps) {
+            verify(step).compensate(any(SagaContext.class));
+        }
+        verify(sagaLogWriter).compensated(any());
+    }
+
+    @Test
+    @DisplayName("다른 노드가 먼저 선점하면 복구하지 않음")
+    void recover_ClaimLost_Skips() throws Exception {
+        when(sagaLogRepository.findBySagaId(SAGA_ID)).thenReturn(List.of(applied("DeductInventoryStep", null)));
+        when(sagaLogRepository.appendIfAbsent(any())).thenReturn(false);
+
+        assertThat(recoveryService.recoverInFlightSagas()).isZero();
+
+        verifyNoInteractions(orderSagaOrchestrator);
+    }
+
+    @Test
+    @DisplayName("복구 시도 횟수를 넘기면 선점하지 않고 RECOVERY_ABANDONED 기록")
+    void recover_AttemptsExceeded_Abandons() throws Exception {
+        when(sagaLogRepository.findBySagaId(SAGA_ID)).thenReturn(List.of(
+                applied("DeductInventoryStep", null),
+                step(SagaLogEventType.RECOVERY_CLAIMED, "1", null),
+                step(SagaLogEventType.RECOVERY_CLAIMED, "2", null)));
+
+        assertThat(recoveryService.recoverInFlightSagas()).isZero();
+
+        verify(sagaLogRepository, never()).appendIfAbsent(any());
+        verifyNoInteractions(orderSagaOrchestrator);
+        verify(sagaLogWriter).append(argThat(entry -> entry.getEventType() == SagaLogEventType.RECOVERY_ABANDONED));
+    }
+
+    @Test
+    @DisplayName("조회 후 표식이 모두 삭제된 Saga는 되돌릴 변경이 없으므로 선점/복구하지 않음")
+    void recover_NoMarkersLeft_Skips() {
+        when(sagaLogRepository.findBySagaId(SAGA_ID)).thenReturn(List.of(
+                step(SagaLogEventType.SAGA_STARTED, null, null),
+                step(SagaLogEventType.STEP_COMPENSATED, "DeductInventoryStep", null)));
+
+        assertThat(recoveryService.recoverInFlightSagas()).isZero();
+
+        verify(sagaLogRepository, never()).appendIfAbsent(any());
+        verifyNoInteractions(orderSagaOrchestrator);
+    }
+
+    @Test
+    @DisplayName("표식에 입력 스냅샷이 없으면 RECOVERY_ABANDONED 기록 (수동 처리)")
+    void recover_MarkerWithoutSnapshot_Abandons() {
+        when(sagaLogRepository.findBySagaId(SAGA_ID)).thenReturn(List.of(
+                step(SagaLogEventType.STEP_APPLIED, "DeductInventoryStep", null)));
+        when(sagaLogRepository.appendIfAbsent(any())).thenReturn(true);
+
+        assertThat(recoveryService.recoverInFlightSagas()).isZero();
+
+        verifyNoInteractions(orderSagaOrchestrator);
+        verify(sagaLogWriter).append(argThat(entry -> entry.getEventType() == SagaLogEventType.RECOVERY_ABANDONED));
+    }
+}
@@ -0,0 +1,50 @@
+package com.hhplus.ecommerce.application.order.saga;
+
+import com.hhplus.ecommerce.application.order.saga.compensation.SagaCompensationHandler;
+import com.hhplus.ecommerce.application.order.saga.logging.SagaLogWriter;
+import com.hhplus.ecommerce.application.order.saga.orchestration.OrderSagaOrchestrator;
+import com.hhplus.ecommerce.application.order.saga.orchestration.SagaStep;
+import com.hhplus.ecommerce.domain.order.OrderRepository;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * Saga 단위 테스트용 객체 생성 (운영 생성자만 사용)
+ *
+ * - 상태 전이 로그 없이 Orchestrator를 구성할 때 비활성화된 SagaLogWriter 사용
+ *   (기록/표식 호출은 모두 no-op, clearApplied는 항상 true)
+ */
+final class SagaTestFixtures {
+
+    private SagaTestFixtures() {
+    }
+
+    /**
+     * 기록하지 않는 SagaLogWriter (플러시 스레드 없음)
+     */
+    static SagaLogWriter disabledSagaLogWriter() {
+        return new SagaLogWriter(null, null, false, 1, 1, 0);
+    }
+
+    /**
+     * 순차 실행 Orchestrator (호출 스레드에서 위상 정렬 순으로 실행, 상태 전이 로그 없음)
+     */
+    static OrderSagaOrchestrator sequentialOrchestrator(List<SagaStep> steps,
+                                                        SagaCompensationHandler compensationHandler,
+                                                        OrderRepository orderRepository) {
+        return orchestrator(steps, compensationHandler, orderRepository, Runnable::run, false);
+    }
+
+    /**
+     * 상태 전이 로그 없는 Orchestrator
+     */
+    static OrderSagaOrchestrator orchestrator(List<SagaStep> steps,
+                                              SagaCompensationHandler compensationHandler,
+                                              OrderRepository orderRepository,
+                                              Executor stepExecutor,
+                                              boolean parallelEnabled) {
+        return new OrderSagaOrchestrator(steps, compensationHandler, orderRepository,
+                stepExecutor, parallelEnabled, disabledSagaLogWriter());
+    }
+}
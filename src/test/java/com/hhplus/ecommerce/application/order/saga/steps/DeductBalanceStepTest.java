@@ -2,6 +2,7 @@ package com.hhplus.ecommerce.application.order.saga.steps;
 
 import com.hhplus.ecommerce.application.order.dto.CreateOrderRequestDto.OrderItemDto;
 import com.hhplus.ecommerce.application.order.saga.context.SagaContext;
+import com.hhplus.ecommerce.application.order.saga.logging.SagaLogWriter;
 import com.hhplus.ecommerce.domain.user.User;
 import com.hhplus.ecommerce.domain.user.UserRepository;
 import com.hhplus.ecommerce.integration.BaseIntegrationTest;
@@ -24,7 +25,7 @@ import static org.junit.jupiter.api.Assertions.*;
  *
  * 검증 포인트:
  * 1. 정상 보상 처리 (포인트 환불)
- * 2. 보상 실패 시 Best Effort 동작
+ * 2. 보상 실패 시 예외 전파 + 적용 표식 유지
  * 3. DB 상태 변화 검증
  */
 @SpringBootTest
@@ -34,6 +35,9 @@ class DeductBalanceStepTest extends BaseIntegrationTest {
     @Autowired
     private DeductBalanceStep deductBalanceStep;
 
+    @Autowired
+    private SagaLogWriter sagaLogWriter;
+
     @Autowired
     private UserRepository userRepository;
 
@@ -156,8 +160,8 @@ class DeductBalanceStepTest extends BaseIntegrationTest {
     }
 
     @Test
-    @DisplayName("[DeductBalanceStep] 보상 실패 시 Best Effort - 예외 발생해도 전파하지 않음")
-    void testCompensate_BestEffort_NoExceptionPropagation() throws Exception {
+    @DisplayName("[DeductBalanceStep] 보상 실패 시 예외 전파 + 적용 표식 유지 (복구 시 재보상)")
+    void testCompensate_Failure_PropagatesAndKeepsAppliedMarker() throws Exception {
         // Given - 존재하지 않는 사용자 ID로 SagaContext 생성
         long nonExistentUserId = 999999L;
 
@@ -170,9 +174,19 @@ class DeductBalanceStepTest extends BaseIntegrationTest {
                 10000L  // finalAmount
         );
 
-        // When & Then - 보상 실패해도 예외 발생하지 않음 (Best Effort)
-        assertDoesNotThrow(() -> deductBalanceStep.compensate(context),
-            "보상 실패해도 예외가 발생하지 않아야 함 (Best Effort)");
+        // Step 실행 + 적용 표식 기록 상태로 보상 진입
+        context.addExecutedStepName(deductBalanceStep.getName());
+        sagaLogWriter.markApplied(context, deductBalanceStep.getName());
+
+        // When & Then - 보상 실패는 예외로 전파 (Orchestrator가 STEP_COMPENSATION_FAILED 기록)
+        assertThrows(Exception.class, () -> deductBalanceStep.compensate(context),
+            "보상 실패 시 예외가 전파되어야 함");
+
+        // Then - 보상 트랜잭션 롤백으로 적용 표식이 남아 있음 (복구 시 다시 보상)
+        Boolean markerRemains = newTransactionTemplate.execute(status ->
+            sagaLogWriter.clearApplied(context, deductBalanceStep.getName())
+        );
+        assertTrue(markerRemains, "보상 실패 시 적용 표식이 유지되어야 함");
     }
 
     @Test
@@ -2,6 +2,7 @@ package com.hhplus.ecommerce.application.order.saga.steps;
 
 import com.hhplus.ecommerce.application.order.dto.CreateOrderRequestDto.OrderItemDto;
 import com.hhplus.ecommerce.application.order.saga.context.SagaContext;
+import com.hhplus.ecommerce.application.order.saga.logging.SagaLogWriter;
 import com.hhplus.ecommerce.domain.product.Product;
 import com.hhplus.ecommerce.domain.product.ProductOption;
 import com.hhplus.ecommerce.domain.product.ProductRepository;
@@ -26,7 +27,7 @@ import static org.junit.jupiter.api.Assertions.*;
  *
  * 검증 포인트:
  * 1. 정상 보상 처리 (재고 복구)
- * 2. 보상 실패 시 Best Effort 동작
+ * 2. 보상 실패 시 예외 전파 + 적용 표식 유지
  * 3. DB 상태 변화 검증
  */
 @SpringBootTest
@@ -36,6 +37,9 @@ class DeductInventoryStepTest extends BaseIntegrationTest {
     @Autowired
     private DeductInventoryStep deductInventoryStep;
 
+    @Autowired
+    private SagaLogWriter sagaLogWriter;
+
     @Autowired
     private ProductRepository productRepository;
 
@@ -283,8 +287,8 @@ class DeductInventoryStepTest extends BaseIntegrationTest {
     }
 
     @Test
-    @DisplayName("[DeductInventoryStep] 보상 실패 시 Best Effort - 예외 발생해도 전파하지 않음")
-    void testCompensate_BestEffort_NoExceptionPropagation() throws Exception {
+    @DisplayName("[DeductInventoryStep] 보상 실패 시 예외 전파 + 적용 표식 유지 (복구 시 재보상)")
+    void testCompensate_Failure_PropagatesAndKeepsAppliedMarker() throws Exception {
         // Given - 존재하지 않는 옵션으로 SagaContext 생성
         List<OrderItemDto> orderItems = List.of(
                 new OrderItemDto(1L, 999999L, 10) // 존재하지 않는 옵션
@@ -298,8 +302,18 @@ class DeductInventoryStepTest extends BaseIntegrationTest {
                 100000L  // finalAmount
         );
 
-        // When & Then - 보상 실패해도 예외 발생하지 않음 (Best Effort)
-        assertDoesNotThrow(() -> deductInventoryStep.compensate(context),
-            "보상 실패해도 예외가 발생하지 않아야 함 (Best Effort)");
+        // Step 실행 + 적용 표식 기록 상태로 보상 진입
+        context.addExecutedStepName(deductInventoryStep.getName());
+        sagaLogWriter.markApplied(context, deductInventoryStep.getName());
+
+        // When & Then - 보상 실패는 예외로 전파 (Orchestrator가 STEP_COMPENSATION_FAILED 기록)
+        assertThrows(Exception.class, () -> deductInventoryStep.compensate(context),
+            "보상 실패 시 예외가 전파되어야 함");
+
+        // Then - 보상 트랜잭션 롤백으로 적용 표식이 남아 있음 (복구 시 다시 보상)
+        Boolean markerRemains = newTransactionTemplate.execute(status ->
+            sagaLogWriter.clearApplied(context, deductInventoryStep.getName())
+        );
+        assertTrue(markerRemains, "보상 실패 시 적용 표식이 유지되어야 함");
     }
 }
@@ -2,6 +2,7 @@ package com.hhplus.ecommerce.application.order.saga.steps;
 
 import com.hhplus.ecommerce.application.order.dto.CreateOrderRequestDto.OrderItemDto;
 import com.hhplus.ecommerce.application.order.saga.context.SagaContext;
+import com.hhplus.ecommerce.application.order.saga.logging.SagaLogWriter;
 import com.hhplus.ecommerce.domain.coupon.Coupon;
 import com.hhplus.ecommerce.domain.coupon.CouponRepository;
 import com.hhplus.ecommerce.domain.coupon.UserCoupon;
@@ -39,6 +40,9 @@ class UseCouponStepTest extends BaseIntegrationTest {
     @Autowired
     private UseCouponStep useCouponStep;
 
+    @Autowired
+    private SagaLogWriter sagaLogWriter;
+
     @Autowired
     private UserRepository userRepository;
 
@@ -183,8 +187,8 @@ class UseCouponStepTest extends BaseIntegrationTest {
     }
 
     @Test
-    @DisplayName("[UseCouponStep] 보상 실패 시 Best Effort - 예외 발생해도 전파하지 않음")
-    void testCompensate_BestEffort_NoExceptionPropagation() throws Exception {
+    @DisplayName("[UseCouponStep] 보상 실패 시 예외 전파 + 적용 표식 유지 (복구 시 재보상)")
+    void testCompensate_Failure_PropagatesAndKeepsAppliedMarker() throws Exception {
         // Given - 존재하지 않는 쿠폰으로 SagaContext 생성
         long nonExistentCouponId = 999999L;
 
@@ -197,9 +201,19 @@ class UseCouponStepTest extends BaseIntegrationTest {
                 5000L  // finalAmount
         );
 
-        // When & Then - 보상 실패해도 예외 발생하지 않음 (Best Effort)
-        assertDoesNotThrow(() -> useCouponStep.compensate(context),
-            "보상 실패해도 예외가 발생하지 않아야 함 (Best Effort)");
+        // Step 실행 + 적용 표식 기록 상태로 보상 진입
+        context.addExecutedStepName(useCouponStep.getName());
+        sagaLogWriter.markApplied(context, useCouponStep.getName());
+
+        // When & Then - 보상 실패는 예외로 전파 (Orchestrator가 STEP_COMPENSATION_FAILED 기록)
+        assertThrows(Exception.class, () -> useCouponStep.compensate(context),
+            "보상 실패 시 예외가 전파되어야 함");
+
+        // Then - 보상 트랜잭션 롤백으로 적용 표식이 남아 있음 (복구 시 다시 보상)
+        Boolean markerRemains = newTransactionTemplate.execute(status ->
+            sagaLogWriter.clearApplied(context, useCouponStep.getName())
+        );
+        assertTrue(markerRemains, "보상 실패 시 적용 표식이 유지되어야 함");
     }
 
     @Test
@@ -63,6 +63,8 @@ import org.testcontainers.junit.jupiter.Testcontainers;
  * 8. ✅ Redis 캐시 실제 검증 (RedisTemplate을 통한 직접 조회 가능)
  * 9. ✅ 분산락 테스트 지원 (@DistributedLock)
  * 10. ✅ 캐시 일관성 검증 가능
+ * 11. ✅ 쿠폰 큐 워커 스케줄 비활성화 (coupon.queue.worker.enabled=false)
+ *     → 테스트가 processCouponQueue()를 직접 호출하므로 백그라운드 워커가 큐를 먼저 비우지 않음
  *
  * ═══════════════════════════════════════════════════════════════════════════════════
  * 🔧 동작 원리
@@ -124,7 +126,8 @@ import org.testcontainers.junit.jupiter.Testcontainers;
  *    - 캐시 히트: 5-15ms (Redis 조회)
  *    - 약 5~10배 성능 향상 기대
  */
-@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "coupon.queue.worker.enabled=false")
 @Transactional
 @Testcontainers
 @ContextConfiguration(initializers = BaseIntegrationTest.TestContainersInitializer.class)
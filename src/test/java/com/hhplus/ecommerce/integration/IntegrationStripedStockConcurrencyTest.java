@@ -0,0 +1,235 @@
+package com.hhplus.ecommerce.integration;
+
+import com.hhplus.ecommerce.application.coupon.CouponService;
+import com.hhplus.ecommerce.application.inventory.OptionStockDeductionService;
+import com.hhplus.ecommerce.application.inventory.StripedStockService;
+import com.hhplus.ecommerce.application.order.dto.CreateOrderRequestDto.OrderItemDto;
+import com.hhplus.ecommerce.domain.coupon.Coupon;
+import com.hhplus.ecommerce.domain.coupon.CouponRepository;
+import com.hhplus.ecommerce.domain.coupon.UserCouponRepository;
+import com.hhplus.ecommerce.domain.product.Product;
+import com.hhplus.ecommerce.domain.product.ProductOption;
+import com.hhplus.ecommerce.domain.product.ProductRepository;
+import com.hhplus.ecommerce.domain.stock.StockBucket;
+import com.hhplus.ecommerce.domain.stock.StockBucketRepository;
+import com.hhplus.ecommerce.domain.stock.StockBucketType;
+import com.hhplus.ecommerce.domain.user.User;
+import com.hhplus.ecommerce.domain.user.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 재고 분할 동시성 통합 테스트
+ *
+ * 목표:
+ * - stock.striping.enabled=true에서 쿠폰 발급과 주문 재고 차감이 동시에 몰려도 초과 판매/발급이 없는지 검증
+ * - 버킷 빠른 경로(tryDeduct), 원본 행 부족 시 버킷 차감(deductOnRowShortage), 진행 중 병합(merge)이 섞인 상황
+ *
+ * 검증 항목:
+ * - 성공 건수 = 초기 재고 (수요 > 공급)
+ * - 원본 행 재고 + Σ버킷 재고 = 0 (음수/유실 없음)
+ * - 발급 기록 수 = 쿠폰 초기 재고
+ */
+@DisplayName("재고 분할 활성화 시 동시 주문/쿠폰 발급 초과 판매 방지 테스트")
+@TestPropertySource(properties = {
+    "stock.striping.enabled=true",
+    "stock.striping.buckets=4"
+})
+class IntegrationStripedStockConcurrencyTest extends BaseIntegrationTest {
+
+    private static final int COUPON_STOCK = 20;
+    private static final int OPTION_STOCK = 20;
+    private static final int REQUESTS_PER_ITEM = 60;
+
+    @Autowired
+    private CouponService couponService;
+
+    @Autowired
+    private OptionStockDeductionService optionStockDeductionService;
+
+    @Autowired
+    private StripedStockService stripedStockService;
+
+    @Autowired
+    private StockBucketRepository stockBucketRepository;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private UserCouponRepository userCouponRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private TransactionTemplate newTransactionTemplate;
+
+    @Autowired
+    public void setTransactionManager(PlatformTransactionManager tm) {
+        this.newTransactionTemplate = new TransactionTemplate(tm);
+        this.newTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Test
+    @DisplayName("분할된 쿠폰/옵션에 동시 요청 + 진행 중 병합 → 정확히 재고만큼만 성공")
+    void testConcurrentOrdersAndCouponIssues_StripedStock_NoOverselling() throws InterruptedException {
+        // Given - 고유한 테스트 데이터 준비 후 쿠폰/옵션 재고를 버킷으로 분할 (별도 트랜잭션)
+        String testId = UUID.randomUUID().toString().substring(0, 8);
+        long[] ids = new long[3];
+        List<Long> userIds = new ArrayList<>();
+
+        newTransactionTemplate.execute(status -> {
+            Coupon coupon = Coupon.builder()
+                    .couponName("분할 쿠폰_" + testId)
+                    .discountType("FIXED_AMOUNT")
+                    .discountAmount(1000L)
+                    .discountRate(BigDecimal.ZERO)
+                    .totalQuantity(COUPON_STOCK)
+                    .remainingQty(COUPON_STOCK)
+                    .validFrom(LocalDateTime.now().minusDays(1))
+                    .validUntil(LocalDateTime.now().plusDays(1))
+                    .isActive(true)
+                    .version(1L)
+                    .createdAt(LocalDateTime.now())
+                    .updatedAt(LocalDateTime.now())
+                    .build();
+            couponRepository.save(coupon);
+
+            Product product = Product.builder()
+                    .productName("분할 상품_" + testId)
+                    .price(10000L)
+                    .totalStock(OPTION_STOCK)
+                    .status("IN_STOCK")
+                    .options(new ArrayList<>())
+                    .createdAt(LocalDateTime.now())
+                    .updatedAt(LocalDateTime.now())
+                    .build();
+            productRepository.save(product);
+            entityManager.flush();
+
+            ProductOption option = ProductOption.builder()
+                    .productId(product.getProductId())
+                    .name("핫옵션")
+                    .stock(OPTION_STOCK)
+                    .version(1L)
+                    .createdAt(LocalDateTime.now())
+                    .updatedAt(LocalDateTime.now())
+                    .build();
+            productRepository.saveOption(option);
+            entityManager.flush();
+
+            for (int i = 0; i < REQUESTS_PER_ITEM; i++) {
+                User user = User.createUser("striped-" + testId + "-" + i + "@example.com", "hash",
+                        "분할" + i, "010-7777-" + String.format("%04d", i));
+                userRepository.save(user);
+                userIds.add(user.getUserId());
+            }
+
+            ids[0] = coupon.getCouponId();
+            ids[1] = product.getProductId();
+            ids[2] = productRepository.findOptionsByProductId(product.getProductId())
+                    .stream().findFirst().orElseThrow().getOptionId();
+
+            stripedStockService.stripe(StockBucketType.COUPON, ids[0]);
+            stripedStockService.stripe(StockBucketType.PRODUCT_OPTION, ids[2]);
+            return null;
+        });
+
+        long couponId = ids[0];
+        long productId = ids[1];
+        long optionId = ids[2];
+
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch endLatch = new CountDownLatch(REQUESTS_PER_ITEM * 2 + 1);
+        AtomicInteger issuedCount = new AtomicInteger(0);
+        AtomicInteger orderedCount = new AtomicInteger(0);
+
+        // When - 쿠폰 발급과 주문 재고 차감을 동시에 실행
+        for (Long userId : userIds) {
+            executor.submit(() -> {
+                try {
+                    startLatch.await();
+                    couponService.issueCoupon(userId, couponId);
+                    issuedCount.incrementAndGet();
+                } catch (Exception e) {
+                    // 소진
+                } finally {
+                    endLatch.countDown();
+                }
+            });
+            executor.submit(() -> {
+                try {
+                    startLatch.await();
+                    newTransactionTemplate.execute(status -> optionStockDeductionService.deductAll(
+                            List.of(new OrderItemDto(productId, optionId, 1))));
+                    orderedCount.incrementAndGet();
+                } catch (Exception e) {
+                    // 재고 부족
+                } finally {
+                    endLatch.countDown();
+                }
+            });
+        }
+        // 진행 중 핫 지정 해제 → 옵션 버킷을 원본 행으로 병합
+        executor.submit(() -> {
+            try {
+                startLatch.await();
+                stripedStockService.merge(StockBucketType.PRODUCT_OPTION, optionId);
+            } catch (Exception e) {
+                // 병합 실패는 다음 주기에 재시도되는 경로 (재고 보존에는 영향 없음)
+            } finally {
+                endLatch.countDown();
+            }
+        });
+
+        startLatch.countDown();
+        assertTrue(endLatch.await(60, TimeUnit.SECONDS), "모든 요청이 60초 내에 끝나야 함");
+        executor.shutdown();
+
+        // Then - 성공 건수 = 초기 재고, 남은 재고(원본 행 + 버킷) = 0
+        assertEquals(COUPON_STOCK, issuedCount.get(), "쿠폰은 정확히 재고만큼만 발급되어야 함");
+        assertEquals(OPTION_STOCK, orderedCount.get(), "주문은 정확히 재고만큼만 차감되어야 함");
+
+        Coupon finalCoupon = couponRepository.findById(couponId).orElseThrow();
+        assertEquals(0, finalCoupon.getRemainingQty() + bucketQuantity(StockBucketType.COUPON, couponId),
+                "쿠폰 원본 행 + 버킷 재고가 0이어야 함");
+        assertEquals(COUPON_STOCK, userCouponRepository.findIssuedUserIds(couponId, userIds).size(),
+                "발급 기록 수가 쿠폰 재고와 같아야 함");
+
+        ProductOption finalOption = productRepository.findOptionById(optionId).orElseThrow();
+        assertEquals(0, finalOption.getStock() + bucketQuantity(StockBucketType.PRODUCT_OPTION, optionId),
+                "옵션 원본 행 + 버킷 재고가 0이어야 함");
+    }
+
+    private int bucketQuantity(StockBucketType itemType, Long itemId) {
+        return stockBucketRepository.findByItem(itemType, itemId).stream()
+                .mapToInt(StockBucket::getQuantity)
+                .sum();
+    }
+}
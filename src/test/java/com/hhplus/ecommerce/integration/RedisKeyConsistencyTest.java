@@ -307,7 +307,8 @@ class RedisKeyConsistencyTest extends BaseIntegrationTest {
     @Test
     @DisplayName("RedisKeyManagementService - 카테고리별 키 개수 조회")
     void testRedisKeyManagementService_GetKeyCountByCategory() {
-        // Given: RedisKeyManagementService가 주입됨
+        // Given: RedisKeyManagementService가 주입됨, 스냅샷 수집 완료 (조회는 순회를 기다리지 않음)
+        redisKeyManagementService.refreshSnapshot();
 
         // When: 카테고리별 키 개수 조회
         var keyCountByCategory = redisKeyManagementService.getKeyCountByCategory();
@@ -438,9 +439,10 @@ class RedisKeyConsistencyTest extends BaseIntegrationTest {
     @Test
     @DisplayName("Integration - 전체 키 관리 워크플로우")
     void testIntegration_CompleteKeyManagementWorkflow() {
-        // Given: RedisKeyManagementService가 주입됨
+        // Given: RedisKeyManagementService가 주입됨, 스냅샷 수집 완료 (조회는 순회를 기다리지 않음)
         assertThat(redisKeyManagementService).isNotNull();
         assertThat(redisTemplate).isNotNull();
+        redisKeyManagementService.refreshSnapshot();
 
         // When: 1. 모든 키를 카테고리별로 그룹화
         var allKeysGrouped = redisKeyManagementService.getAllKeysGroupedByCategory();
@@ -0,0 +1,74 @@
+package com.hhplus.ecommerce.unit.application.coupon;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hhplus.ecommerce.application.coupon.CouponQueueInspector;
+import com.hhplus.ecommerce.infrastructure.config.RedisKeyType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * CouponQueueInspectorTest - 대기/재시도 큐 조회 단위 테스트
+ *
+ * 테스트 대상: CouponQueueInspector
+ * - 큐를 page-size 단위 LRANGE로 나눠 읽고, 마지막 페이지(page-size 미만)에서 중단
+ * - 파싱 실패 항목은 건너뜀
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CouponQueueInspector 단위 테스트")
+class CouponQueueInspectorTest {
+
+    private static final String PENDING = RedisKeyType.QUEUE_COUPON_PENDING.getKey();
+    private static final String RETRY = RedisKeyType.QUEUE_COUPON_RETRY.getKey();
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ListOperations<String, String> listOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private CouponQueueInspector inspector;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForList()).thenReturn(listOperations);
+        inspector = new CouponQueueInspector(redisTemplate, objectMapper, 2);
+    }
+
+    private static String request(long userId, long couponId) {
+        return "{\"requestId\":\"r-" + userId + "\",\"userId\":" + userId + ",\"couponId\":" + couponId
+                + ",\"status\":\"PENDING\",\"retryCount\":0}";
+    }
+
+    @Test
+    @DisplayName("page-size 단위로 나눠 읽고 마지막 페이지에서 중단")
+    void findQueuedUsers_ReadsInBoundedPages() {
+        when(listOperations.range(PENDING, 0, 1)).thenReturn(List.of(request(1L, 10L), request(2L, 10L)));
+        when(listOperations.range(PENDING, 2, 3)).thenReturn(List.of(request(3L, 20L)));
+        when(listOperations.range(RETRY, 0, 1)).thenReturn(List.of("{깨진 JSON", request(4L, 10L)));
+        when(listOperations.range(RETRY, 2, 3)).thenReturn(List.of());
+
+        Map<Long, Set<Long>> queuedUsers = inspector.findQueuedUsers();
+
+        assertEquals(Map.of(10L, Set.of(1L, 2L, 4L), 20L, Set.of(3L)), queuedUsers);
+        verify(listOperations, never()).range(eq(PENDING), eq(0L), eq(-1L));
+        verify(listOperations, times(4)).range(anyString(), anyLong(), anyLong());
+    }
+}
@@ -0,0 +1,300 @@
+package com.hhplus.ecommerce.unit.application.coupon;
+
+import com.hhplus.ecommerce.application.coupon.CouponQueueInspector;
+import com.hhplus.ecommerce.application.coupon.CouponReservationService;
+import com.hhplus.ecommerce.application.coupon.CouponService;
+import com.hhplus.ecommerce.application.coupon.CouponStockLeaseService;
+import com.hhplus.ecommerce.application.coupon.dto.CouponBatchIssueResult;
+import com.hhplus.ecommerce.application.inventory.StripedStockService;
+import com.hhplus.ecommerce.domain.coupon.Coupon;
+import com.hhplus.ecommerce.domain.coupon.CouponAlreadyIssuedException;
+import com.hhplus.ecommerce.domain.coupon.CouponIssueFailureCode;
+import com.hhplus.ecommerce.domain.coupon.CouponRepository;
+import com.hhplus.ecommerce.domain.coupon.CouponReservationRepository;
+import com.hhplus.ecommerce.domain.coupon.CouponReservationResult;
+import com.hhplus.ecommerce.domain.coupon.UserCouponRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * CouponReservationServiceTest - 선착순 예약 게이트 단위 테스트
+ *
+ * 테스트 대상: CouponReservationService
+ * - 예약 판정 및 지연 시딩 (재고 분할 중인 쿠폰은 버킷 잔여분 포함)
+ * - 게이트 거절 시 DB 경로 차단
+ * - DB 실패 시 예약 취소 (타입 기반 중복 판정, 재처리 시 미복구)
+ * - 예약 재고 드리프트 보정 (미발급 임대 재고 포함, 임대 사용 시 과대 카운터도 연속 관측 시에만 보정)
+ * - 고아 예약 사용자 정리 (큐에서 대기 중인 사용자 제외)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CouponReservationService 단위 테스트")
+class CouponReservationServiceTest {
+
+    @Mock
+    private CouponReservationRepository couponReservationRepository;
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @Mock
+    private UserCouponRepository userCouponRepository;
+
+    @Mock
+    private CouponService couponService;
+
+    @Mock
+    private StripedStockService stripedStockService;
+
+    @Mock
+    private CouponQueueInspector couponQueueInspector;
+
+    @Mock
+    private CouponStockLeaseService couponStockLeaseService;
+
+    private CouponReservationService couponReservationService;
+
+    private static final Long USER_ID = 1L;
+    private static final Long COUPON_ID = 10L;
+
+    @BeforeEach
+    void setUp() {
+        couponReservationService = new CouponReservationService(couponReservationRepository, couponRepository,
+                userCouponRepository, couponService, stripedStockService, couponQueueInspector,
+                couponStockLeaseService, true);
+        // 재고 분할되지 않은 쿠폰: 발급 가능 수량 = remaining_qty
+        lenient().when(stripedStockService.getAvailableQuantity(any(Coupon.class)))
+                .thenAnswer(invocation -> invocation.<Coupon>getArgument(0).getRemainingQty());
+    }
+
+    private Coupon coupon(int remainingQty) {
+        return Coupon.builder()
+                .couponId(COUPON_ID)
+                .couponName("선착순 쿠폰")
+                .discountType("FIXED_AMOUNT")
+                .discountAmount(1000L)
+                .totalQuantity(100)
+                .remainingQty(remainingQty)
+                .validFrom(LocalDateTime.now().minusDays(1))
+                .validUntil(LocalDateTime.now().plusDays(1))
+                .build();
+    }
+
+    @Test
+    @DisplayName("게이트 비활성화 - 항상 BYPASSED, Redis 호출 없음")
+    void reserve_Disabled_Bypassed() {
+        CouponReservationService disabled = new CouponReservationService(couponReservationRepository,
+                couponRepository, userCouponRepository, couponService, stripedStockService, couponQueueInspector,
+                couponStockLeaseService, false);
+
+        assertEquals(CouponReservationResult.BYPASSED, disabled.reserve(USER_ID, COUPON_ID));
+        verifyNoInteractions(couponReservationRepository);
+    }
+
+    @Test
+    @DisplayName("카운터 미시딩 - DB remaining_qty로 시딩 후 재시도")
+    void reserve_NotInitialized_SeedsAndRetries() {
+        when(couponReservationRepository.reserve(COUPON_ID, USER_ID))
+                .thenReturn(CouponReservationResult.NOT_INITIALIZED)
+                .thenReturn(CouponReservationResult.RESERVED);
+        when(couponRepository.findById(COUPON_ID)).thenReturn(Optional.of(coupon(7)));
+
+        CouponReservationResult result = couponReservationService.reserve(USER_ID, COUPON_ID);
+
+        assertEquals(CouponReservationResult.RESERVED, result);
+        verify(couponReservationRepository).seedIfAbsent(COUPON_ID, 7);
+    }
+
+    @Test
+    @DisplayName("카운터 미시딩 - 재고 분할로 remaining_qty가 0인 핫 쿠폰은 버킷 잔여분을 포함해 시딩")
+    void reserve_NotInitialized_StripedCoupon_SeedsAvailableQuantity() {
+        Coupon striped = coupon(0);
+        when(couponReservationRepository.reserve(COUPON_ID, USER_ID))
+                .thenReturn(CouponReservationResult.NOT_INITIALIZED)
+                .thenReturn(CouponReservationResult.RESERVED);
+        when(couponRepository.findById(COUPON_ID)).thenReturn(Optional.of(striped));
+        when(stripedStockService.getAvailableQuantity(striped)).thenReturn(40);
+
+        assertEquals(CouponReservationResult.RESERVED, couponReservationService.reserve(USER_ID, COUPON_ID));
+        verify(couponReservationRepository).seedIfAbsent(COUPON_ID, 40);
+    }
+
+    @Test
+    @DisplayName("Redis 오류 - DB 경로로 우회 (fail-open)")
+    void reserve_RedisFailure_Bypassed() {
+        when(couponReservationRepository.reserve(COUPON_ID, USER_ID))
+                .thenThrow(new IllegalStateException("connection refused"));
+
+        assertEquals(CouponReservationResult.BYPASSED, couponReservationService.reserve(USER_ID, COUPON_ID));
+    }
+
+    @Test
+    @DisplayName("동기 발급 - 게이트 소진 시 DB 락 경로 미진입")
+    void issueCoupon_SoldOut_DoesNotTouchDb() {
+        when(couponReservationRepository.reserve(COUPON_ID, USER_ID))
+                .thenReturn(CouponReservationResult.SOLD_OUT);
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> couponReservationService.issueCoupon(USER_ID, COUPON_ID));
+
+        assertTrue(e.getMessage().contains("소진"));
+        verifyNoInteractions(couponService);
+    }
+
+    @Test
+    @DisplayName("동기 발급 - DB 중복 발급이면 재고만 복구하고 사용자 기록 유지")
+    void issueCoupon_DbDuplicate_ReleasesKeepingUser() {
+        when(couponReservationRepository.reserve(COUPON_ID, USER_ID))
+                .thenReturn(CouponReservationResult.RESERVED);
+        when(couponService.issueCoupon(USER_ID, COUPON_ID))
+                .thenThrow(new CouponAlreadyIssuedException(USER_ID, COUPON_ID, LocalDateTime.now().minusDays(1)));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> couponReservationService.issueCoupon(USER_ID, COUPON_ID));
+
+        verify(couponReservationRepository).release(COUPON_ID, USER_ID, true);
+    }
+
+    @Test
+    @DisplayName("예약 취소 - 메시지가 같아도 타입이 아니면 중복으로 보지 않음 (사용자 기록 제거)")
+    void release_UntypedMessage_RemovesUser() {
+        couponReservationService.release(USER_ID, COUPON_ID,
+                new IllegalArgumentException("이 쿠폰은 이미 발급받으셨습니다"));
+
+        verify(couponReservationRepository).release(COUPON_ID, USER_ID, false);
+    }
+
+    @Test
+    @DisplayName("예약 취소 - 요청 이후에 생긴 발급이면 같은 요청의 재처리로 보고 재고를 복구하지 않음")
+    void release_RedeliveredRequest_DoesNotReturnSlot() {
+        LocalDateTime requestedAt = LocalDateTime.now().minusSeconds(10);
+        CouponAlreadyIssuedException issuedByThisRequest =
+                new CouponAlreadyIssuedException(USER_ID, COUPON_ID, requestedAt.plusSeconds(1));
+
+        couponReservationService.release(USER_ID, COUPON_ID, issuedByThisRequest, requestedAt);
+        couponReservationService.release(USER_ID, COUPON_ID,
+                CouponBatchIssueResult.alreadyIssued(USER_ID, requestedAt.plusSeconds(1)), requestedAt);
+
+        verify(couponReservationRepository, never()).release(anyLong(), anyLong(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("예약 취소 - 요청 이전의 발급이면 재고만 복구, 그 외 배치 실패는 사용자 기록까지 제거")
+    void release_BatchResult_ByFailureCode() {
+        LocalDateTime requestedAt = LocalDateTime.now();
+
+        couponReservationService.release(USER_ID, COUPON_ID,
+                CouponBatchIssueResult.alreadyIssued(USER_ID, requestedAt.minusDays(1)), requestedAt);
+        couponReservationService.release(2L, COUPON_ID,
+                CouponBatchIssueResult.failure(2L, CouponIssueFailureCode.SOLD_OUT), requestedAt);
+
+        verify(couponReservationRepository).release(COUPON_ID, USER_ID, true);
+        verify(couponReservationRepository).release(COUPON_ID, 2L, false);
+    }
+
+    @Test
+    @DisplayName("정합성 점검 - Redis 카운터가 DB보다 크면 즉시 하향 보정")
+    void reconcile_OverCount_CorrectedImmediately() {
+        when(couponRepository.findAllAvailable()).thenReturn(List.of(coupon(3)));
+        when(couponReservationRepository.getReservedStock(COUPON_ID)).thenReturn(Optional.of(5));
+        when(couponReservationRepository.compareAndSetStock(COUPON_ID, 5, 3)).thenReturn(true);
+
+        assertEquals(1, couponReservationService.reconcileReservedStock());
+    }
+
+    @Test
+    @DisplayName("정합성 점검 - 미발급 임대 재고는 발급 가능 수량에 포함 (임대분만큼 하향 보정하지 않음)")
+    void reconcile_OutstandingLease_NotTreatedAsOverCount() {
+        when(couponRepository.findAllAvailable()).thenReturn(List.of(coupon(3)));
+        when(couponReservationRepository.getReservedStock(COUPON_ID)).thenReturn(Optional.of(5));
+        when(couponStockLeaseService.getOutstandingQuantity(COUPON_ID)).thenReturn(2);
+
+        assertEquals(0, couponReservationService.reconcileReservedStock());
+        verify(couponReservationRepository, never()).compareAndSetStock(anyLong(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("정합성 점검 - 재고 임대 사용 시 과대 카운터도 연속 관측 시에만 보정 (다른 노드 임대분 가능)")
+    void reconcile_OverCountWithLeasing_CorrectedWhenStuck() {
+        when(couponRepository.findAllAvailable()).thenReturn(List.of(coupon(3)));
+        when(couponReservationRepository.getReservedStock(COUPON_ID)).thenReturn(Optional.of(5));
+        when(couponStockLeaseService.isEnabled()).thenReturn(true);
+        when(couponReservationRepository.compareAndSetStock(COUPON_ID, 5, 3)).thenReturn(true);
+
+        assertEquals(0, couponReservationService.reconcileReservedStock());
+        verify(couponReservationRepository, never()).compareAndSetStock(anyLong(), anyInt(), anyInt());
+
+        assertEquals(1, couponReservationService.reconcileReservedStock());
+    }
+
+    @Test
+    @DisplayName("정합성 점검 - Redis 카운터가 DB보다 작으면 연속 관측 시에만 보정")
+    void reconcile_UnderCount_CorrectedWhenStuck() {
+        when(couponRepository.findAllAvailable()).thenReturn(List.of(coupon(5)));
+        when(couponReservationRepository.getReservedStock(COUPON_ID)).thenReturn(Optional.of(3));
+        when(couponReservationRepository.compareAndSetStock(COUPON_ID, 3, 5)).thenReturn(true);
+
+        // 1차: in-flight 가능성 → 보정 안 함
+        assertEquals(0, couponReservationService.reconcileReservedStock());
+        verify(couponReservationRepository, never()).compareAndSetStock(anyLong(), anyInt(), anyInt());
+
+        // 2차: 동일 값 유지 → 고착 드리프트로 보정
+        assertEquals(1, couponReservationService.reconcileReservedStock());
+    }
+
+    @Test
+    @DisplayName("정합성 점검 - DB 발급 없이 연속 두 번 남은 예약 사용자만 Set에서 제거")
+    void reconcile_OrphanReservedUsers_RemovedWhenStuck() {
+        when(couponRepository.findAllAvailable()).thenReturn(List.of(coupon(5)));
+        when(couponReservationRepository.getReservedStock(COUPON_ID)).thenReturn(Optional.of(5));
+        when(couponReservationRepository.getReservedUsers(COUPON_ID))
+                .thenReturn(Set.of(7L, 8L))
+                .thenReturn(Set.of(7L, 8L, 9L));
+        when(userCouponRepository.findIssuedUserIds(eq(COUPON_ID), any()))
+                .thenReturn(List.of(8L))
+                .thenReturn(List.of(8L));
+        when(couponReservationRepository.removeReservedUsers(COUPON_ID, Set.of(7L))).thenReturn(1L);
+
+        // 1차: 처리 중일 수 있음 → 제거 안 함
+        assertEquals(0, couponReservationService.reconcileReservedStock());
+        verify(couponReservationRepository, never()).removeReservedUsers(anyLong(), any());
+
+        // 2차: 7은 계속 발급 없음 → 제거, 9는 처음 관측 → 유지
+        assertEquals(1, couponReservationService.reconcileReservedStock());
+        verify(couponReservationRepository).removeReservedUsers(COUPON_ID, Set.of(7L));
+    }
+
+    @Test
+    @DisplayName("정합성 점검 - 대기/재시도 큐에 요청이 남은 사용자는 고아로 보지 않음")
+    void reconcile_QueuedReservedUsers_NotRemoved() {
+        when(couponRepository.findAllAvailable()).thenReturn(List.of(coupon(5)));
+        when(couponReservationRepository.getReservedStock(COUPON_ID)).thenReturn(Optional.of(5));
+        when(couponReservationRepository.getReservedUsers(COUPON_ID)).thenReturn(Set.of(7L, 8L));
+        when(couponQueueInspector.findQueuedUsers()).thenReturn(Map.of(COUPON_ID, Set.of(8L)));
+        when(userCouponRepository.findIssuedUserIds(eq(COUPON_ID), any())).thenReturn(List.of());
+        when(couponReservationRepository.removeReservedUsers(COUPON_ID, Set.of(7L))).thenReturn(1L);
+
+        assertEquals(0, couponReservationService.reconcileReservedStock());
+
+        // 2차: 7은 큐에도 DB에도 없음 → 제거, 8은 아직 큐에서 대기 중 → 유지
+        assertEquals(1, couponReservationService.reconcileReservedStock());
+        verify(couponReservationRepository).removeReservedUsers(COUPON_ID, Set.of(7L));
+    }
+}
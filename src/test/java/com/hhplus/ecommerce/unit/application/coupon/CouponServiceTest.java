@@ -2,15 +2,20 @@ package com.hhplus.ecommerce.unit.application.coupon;
 
 
 import com.hhplus.ecommerce.application.coupon.CouponService;
+import com.hhplus.ecommerce.application.coupon.dto.CouponBatchIssueResult;
+import com.hhplus.ecommerce.application.inventory.StripedStockService;
 import com.hhplus.ecommerce.domain.coupon.Coupon;
+import com.hhplus.ecommerce.domain.coupon.CouponIssueFailureCode;
 import com.hhplus.ecommerce.domain.coupon.UserCoupon;
 import com.hhplus.ecommerce.domain.coupon.UserCouponStatus;
 import com.hhplus.ecommerce.domain.coupon.CouponNotFoundException;
 import com.hhplus.ecommerce.domain.coupon.CouponRepository;
+import com.hhplus.ecommerce.domain.coupon.event.CouponIssueRequest;
 import com.hhplus.ecommerce.domain.coupon.UserCouponRepository;
 import com.hhplus.ecommerce.domain.user.UserNotFoundException;
 import com.hhplus.ecommerce.domain.user.UserRepository;
 import com.hhplus.ecommerce.domain.order.ChildTransactionEventRepository;
+import com.hhplus.ecommerce.domain.stock.StockBucketType;
 import com.hhplus.ecommerce.presentation.coupon.response.IssueCouponResponse;
 import com.hhplus.ecommerce.presentation.coupon.response.UserCouponResponse;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -18,6 +23,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -28,6 +34,7 @@ import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -70,6 +77,9 @@ class CouponServiceTest {
     @Mock
     private ApplicationEventPublisher eventPublisher;
 
+    @Mock
+    private StripedStockService stripedStockService;
+
     private static final Long TEST_USER_ID = 1L;
     private static final Long TEST_COUPON_ID = 1L;
     private static final Long TEST_USER_COUPON_ID = 100L;
@@ -78,7 +88,7 @@ class CouponServiceTest {
     void setup() {
         MockitoAnnotations.openMocks(this);
         couponService = new CouponService(couponRepository, userCouponRepository, userRepository,
-                childTransactionEventRepository, objectMapper, eventPublisher);
+                childTransactionEventRepository, objectMapper, eventPublisher, stripedStockService);
     }
 
     // ========== 쿠폰 발급 (issueCoupon) ==========
@@ -522,4 +532,303 @@ class CouponServiceTest {
         // The coupon passed to update should have version 2 (1 + 1)
         // and remainingQty 9 (10 - 1)
     }
+
+    // ========== 쿠폰 배치 발급 (issueCouponBatch) ==========
+
+    private Coupon batchCoupon(boolean isActive, int remainingQty) {
+        return Coupon.builder()
+                .couponId(TEST_COUPON_ID)
+                .couponName("선착순 배치 쿠폰")
+                .discountType("FIXED_AMOUNT")
+                .discountAmount(1000L)
+                .isActive(isActive)
+                .validFrom(LocalDateTime.now().minusDays(1))
+                .validUntil(LocalDateTime.now().plusDays(1))
+                .remainingQty(remainingQty)
+                .version(1L)
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubBatchInsertEcho() {
+        when(userCouponRepository.saveAllInBatch(anyList())).thenAnswer(invocation -> {
+            List<UserCoupon> toSave = invocation.getArgument(0);
+            return toSave.stream()
+                    .map(uc -> UserCoupon.builder()
+                            .userCouponId(uc.getUserId() + 1000)
+                            .userId(uc.getUserId())
+                            .couponId(uc.getCouponId())
+                            .status(uc.getStatus())
+                            .issuedAt(uc.getIssuedAt())
+                            .build())
+                    .collect(Collectors.toList());
+        });
+    }
+
+    @Test
+    @DisplayName("배치 발급 - 재고만큼 FIFO 순서로 발급, 이후 요청은 소진(SOLD_OUT)으로 실패")
+    void testIssueCouponBatch_StockLimit_FifoOrder() {
+        // Given
+        Coupon coupon = batchCoupon(true, 2);
+        when(couponRepository.findByIdForUpdate(TEST_COUPON_ID)).thenReturn(Optional.of(coupon));
+        when(userCouponRepository.findIssuedByUserIds(eq(TEST_COUPON_ID), anyCollection()))
+                .thenReturn(Collections.emptyList());
+        stubBatchInsertEcho();
+
+        // When
+        List<CouponBatchIssueResult> results =
+                couponService.issueCouponBatch(TEST_COUPON_ID, List.of(1L, 2L, 3L));
+
+        // Then
+        assertEquals(3, results.size());
+        assertTrue(results.get(0).isSuccess());
+        assertEquals(1001L, results.get(0).getResponse().getUserCouponId());
+        assertTrue(results.get(1).isSuccess());
+        assertFalse(results.get(2).isSuccess());
+        assertEquals(CouponIssueFailureCode.SOLD_OUT, results.get(2).getFailureCode());
+        assertEquals("쿠폰이 모두 소진되었습니다", results.get(2).getFailureReason());
+
+        assertEquals(0, coupon.getRemainingQty());
+        assertFalse(coupon.getIsActive());
+        verify(couponRepository, times(1)).findByIdForUpdate(TEST_COUPON_ID);
+        verify(couponRepository, times(1)).update(coupon);
+        verify(userCouponRepository, times(1)).saveAllInBatch(argThat(list -> list.size() == 2));
+        verify(eventPublisher, times(1)).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("배치 발급 - 기발급 사용자와 배치 내 중복 요청은 재고 차감 없이 실패, 기존 발급 시각은 IN 쿼리 1회로 조회")
+    void testIssueCouponBatch_Duplicates_NotCharged() {
+        // Given
+        Coupon coupon = batchCoupon(true, 10);
+        when(couponRepository.findByIdForUpdate(TEST_COUPON_ID)).thenReturn(Optional.of(coupon));
+        LocalDateTime existingIssuedAt = LocalDateTime.now().minusHours(1);
+        when(userCouponRepository.findIssuedByUserIds(eq(TEST_COUPON_ID), anyCollection()))
+                .thenReturn(List.of(UserCoupon.builder()
+                        .userCouponId(500L)
+                        .userId(1L)
+                        .couponId(TEST_COUPON_ID)
+                        .status(UserCouponStatus.UNUSED)
+                        .issuedAt(existingIssuedAt)
+                        .build()));
+        stubBatchInsertEcho();
+
+        // When
+        List<CouponBatchIssueResult> results =
+                couponService.issueCouponBatch(TEST_COUPON_ID, List.of(1L, 2L, 2L));
+
+        // Then
+        assertEquals("이 쿠폰은 이미 발급받으셨습니다", results.get(0).getFailureReason());
+        assertTrue(results.get(1).isSuccess());
+        assertEquals("이 쿠폰은 이미 발급받으셨습니다", results.get(2).getFailureReason());
+        assertEquals(existingIssuedAt, results.get(0).getExistingIssuedAt());
+        assertEquals(9, coupon.getRemainingQty());
+        verify(userCouponRepository, never()).findByUserIdAndCouponId(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("배치 발급 - 비활성 쿠폰이면 전체 실패, INSERT 없음")
+    void testIssueCouponBatch_InactiveCoupon_AllRejected() {
+        // Given
+        when(couponRepository.findByIdForUpdate(TEST_COUPON_ID))
+                .thenReturn(Optional.of(batchCoupon(false, 10)));
+
+        // When
+        List<CouponBatchIssueResult> results =
+                couponService.issueCouponBatch(TEST_COUPON_ID, List.of(1L, 2L));
+
+        // Then
+        assertTrue(results.stream().noneMatch(CouponBatchIssueResult::isSuccess));
+        assertTrue(results.stream().allMatch(r -> "쿠폰이 비활성화되어 있습니다".equals(r.getFailureReason())));
+        verify(userCouponRepository, never()).saveAllInBatch(anyList());
+        verify(couponRepository, never()).update(any(Coupon.class));
+    }
+
+    @Test
+    @DisplayName("Kafka 배치 발급 - 쿠폰별로 묶어 couponId 오름차순으로 락 획득, 결과는 입력 순서 유지")
+    void testIssueCouponRequests_GroupsByCouponInLockOrder() {
+        // Given
+        Long otherCouponId = 2L;
+        Coupon coupon = batchCoupon(true, 10);
+        Coupon otherCoupon = Coupon.builder()
+                .couponId(otherCouponId)
+                .couponName("다른 쿠폰")
+                .discountType("FIXED_AMOUNT")
+                .discountAmount(500L)
+                .isActive(true)
+                .validFrom(LocalDateTime.now().minusDays(1))
+                .validUntil(LocalDateTime.now().plusDays(1))
+                .remainingQty(0)
+                .build();
+        when(couponRepository.findByIdForUpdate(TEST_COUPON_ID)).thenReturn(Optional.of(coupon));
+        when(couponRepository.findByIdForUpdate(otherCouponId)).thenReturn(Optional.of(otherCoupon));
+        when(userCouponRepository.findIssuedByUserIds(anyLong(), anyCollection()))
+                .thenReturn(Collections.emptyList());
+        stubBatchInsertEcho();
+
+        List<CouponIssueRequest> requests = List.of(
+                CouponIssueRequest.create(11L, otherCouponId),
+                CouponIssueRequest.create(12L, TEST_COUPON_ID),
+                CouponIssueRequest.create(13L, TEST_COUPON_ID));
+
+        // When
+        List<CouponBatchIssueResult> results = couponService.issueCouponRequests(requests);
+
+        // Then
+        assertEquals("쿠폰이 모두 소진되었습니다", results.get(0).getFailureReason());
+        assertEquals(12L, results.get(1).getUserId());
+        assertTrue(results.get(1).isSuccess());
+        assertTrue(results.get(2).isSuccess());
+        assertEquals(8, coupon.getRemainingQty());
+
+        InOrder lockOrder = inOrder(couponRepository);
+        lockOrder.verify(couponRepository).findByIdForUpdate(TEST_COUPON_ID);
+        lockOrder.verify(couponRepository).findByIdForUpdate(otherCouponId);
+    }
+
+    @Test
+    @DisplayName("Kafka 배치 발급 - 없는 쿠폰 요청만 NOT_FOUND 실패, 다른 쿠폰은 그대로 발급")
+    void testIssueCouponRequests_MissingCoupon_FailsOnlyItsRequests() {
+        // Given
+        Long missingCouponId = 999L;
+        Coupon coupon = batchCoupon(true, 10);
+        when(couponRepository.findByIdForUpdate(TEST_COUPON_ID)).thenReturn(Optional.of(coupon));
+        when(couponRepository.findByIdForUpdate(missingCouponId)).thenReturn(Optional.empty());
+        when(userCouponRepository.findIssuedByUserIds(anyLong(), anyCollection()))
+                .thenReturn(Collections.emptyList());
+        stubBatchInsertEcho();
+
+        List<CouponIssueRequest> requests = List.of(
+                CouponIssueRequest.create(11L, missingCouponId),
+                CouponIssueRequest.create(12L, TEST_COUPON_ID));
+
+        // When
+        List<CouponBatchIssueResult> results = couponService.issueCouponRequests(requests);
+
+        // Then
+        assertEquals(CouponIssueFailureCode.NOT_FOUND, results.get(0).getFailureCode());
+        assertEquals("쿠폰을 찾을 수 없습니다", results.get(0).getFailureReason());
+        assertTrue(results.get(1).isSuccess());
+        assertEquals(9, coupon.getRemainingQty());
+    }
+
+    @Test
+    @DisplayName("핫 쿠폰 발급 - 재고 버킷에서 차감되면 쿠폰 행 락/재고 갱신 없이 발급")
+    void testIssueCouponWithLock_StripedStock_SkipsRowLock() {
+        // Given
+        Coupon coupon = batchCoupon(true, 0);
+        when(stripedStockService.tryDeduct(StockBucketType.COUPON, TEST_COUPON_ID, 1)).thenReturn(true);
+        when(couponRepository.findById(TEST_COUPON_ID)).thenReturn(Optional.of(coupon));
+        when(userCouponRepository.findByUserIdAndCouponId(TEST_USER_ID, TEST_COUPON_ID))
+                .thenReturn(Optional.empty());
+        when(userCouponRepository.save(any(UserCoupon.class))).thenAnswer(invocation -> {
+            UserCoupon userCoupon = invocation.getArgument(0);
+            userCoupon.setUserCouponId(TEST_USER_COUPON_ID);
+            return userCoupon;
+        });
+
+        // When
+        IssueCouponResponse result = couponService.issueCouponWithLock(TEST_USER_ID, TEST_COUPON_ID);
+
+        // Then
+        assertEquals(TEST_USER_COUPON_ID, result.getUserCouponId());
+        verify(couponRepository, never()).findByIdForUpdate(anyLong());
+        verify(couponRepository, never()).update(any(Coupon.class));
+    }
+
+    @Test
+    @DisplayName("핫 쿠폰 발급 - 다른 인스턴스가 분할해 쿠폰 행 재고가 0이면 행 락을 잡은 채 재고 버킷에서 차감")
+    void testIssueCouponWithLock_RowEmpty_DeductsFromBuckets() {
+        // Given
+        Coupon coupon = batchCoupon(true, 0);
+        when(couponRepository.findByIdForUpdate(TEST_COUPON_ID)).thenReturn(Optional.of(coupon));
+        when(stripedStockService.deductOnRowShortage(StockBucketType.COUPON, TEST_COUPON_ID, 1)).thenReturn(true);
+        when(userCouponRepository.findByUserIdAndCouponId(TEST_USER_ID, TEST_COUPON_ID))
+                .thenReturn(Optional.empty());
+        when(userCouponRepository.save(any(UserCoupon.class))).thenAnswer(invocation -> {
+            UserCoupon userCoupon = invocation.getArgument(0);
+            userCoupon.setUserCouponId(TEST_USER_COUPON_ID);
+            return userCoupon;
+        });
+
+        // When
+        IssueCouponResponse result = couponService.issueCouponWithLock(TEST_USER_ID, TEST_COUPON_ID);
+
+        // Then
+        assertEquals(TEST_USER_COUPON_ID, result.getUserCouponId());
+        assertTrue(coupon.isActiveCoupon());
+        verify(couponRepository, never()).update(any(Coupon.class));
+    }
+
+    @Test
+    @DisplayName("배치 발급 - 쿠폰 행으로 부족한 수량은 재고 버킷에서 차감, 버킷에 재고가 남으면 활성 유지")
+    void testIssueCouponBatch_StripedStock_TakesShortfallFromBuckets() {
+        // Given
+        Coupon coupon = batchCoupon(true, 1);
+        when(couponRepository.findByIdForUpdate(TEST_COUPON_ID)).thenReturn(Optional.of(coupon));
+        when(userCouponRepository.findIssuedByUserIds(eq(TEST_COUPON_ID), anyCollection()))
+                .thenReturn(Collections.emptyList());
+        when(stripedStockService.takeUpTo(StockBucketType.COUPON, TEST_COUPON_ID, 2)).thenReturn(2);
+        when(stripedStockService.getStripedQuantity(StockBucketType.COUPON, TEST_COUPON_ID)).thenReturn(5);
+        stubBatchInsertEcho();
+
+        // When
+        List<CouponBatchIssueResult> results =
+                couponService.issueCouponBatch(TEST_COUPON_ID, List.of(1L, 2L, 3L));
+
+        // Then
+        assertTrue(results.stream().allMatch(CouponBatchIssueResult::isSuccess));
+        assertEquals(0, coupon.getRemainingQty());
+        assertTrue(coupon.isActiveCoupon());
+        verify(userCouponRepository, times(1)).saveAllInBatch(argThat(list -> list.size() == 3));
+    }
+
+    @Test
+    @DisplayName("임대 재고 발급 - 재고가 남은 상태에서 비활성화된 쿠폰(관리자 조치)은 거절")
+    void testIssueCouponFromLease_DeactivatedCoupon_Rejected() {
+        // Given
+        when(couponRepository.findById(TEST_COUPON_ID)).thenReturn(Optional.of(batchCoupon(false, 10)));
+
+        // When & Then
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> couponService.issueCouponFromLease(TEST_USER_ID, TEST_COUPON_ID));
+        assertEquals("쿠폰이 비활성화되어 있습니다", e.getMessage());
+        verify(userCouponRepository, never()).save(any(UserCoupon.class));
+    }
+
+    @Test
+    @DisplayName("임대 재고 발급 - 임대로 행 재고가 0이 되어 비활성화된 쿠폰은 임대분으로 발급")
+    void testIssueCouponFromLease_ExhaustedByLease_Issued() {
+        // Given
+        when(couponRepository.findById(TEST_COUPON_ID)).thenReturn(Optional.of(batchCoupon(false, 0)));
+        when(userCouponRepository.findByUserIdAndCouponId(TEST_USER_ID, TEST_COUPON_ID))
+                .thenReturn(Optional.empty());
+        when(userCouponRepository.save(any(UserCoupon.class))).thenAnswer(invocation -> {
+            UserCoupon userCoupon = invocation.getArgument(0);
+            userCoupon.setUserCouponId(TEST_USER_COUPON_ID);
+            return userCoupon;
+        });
+
+        // When
+        IssueCouponResponse result = couponService.issueCouponFromLease(TEST_USER_ID, TEST_COUPON_ID);
+
+        // Then
+        assertEquals(TEST_USER_COUPON_ID, result.getUserCouponId());
+    }
+
+    @Test
+    @DisplayName("재고 임대 - 쿠폰 행으로 부족한 수량은 재고 버킷에서 임대")
+    void testLeaseStock_StripedStock_LeasesFromBuckets() {
+        // Given
+        Coupon coupon = batchCoupon(true, 0);
+        when(couponRepository.findByIdForUpdate(TEST_COUPON_ID)).thenReturn(Optional.of(coupon));
+        when(stripedStockService.takeUpTo(StockBucketType.COUPON, TEST_COUPON_ID, 5)).thenReturn(3);
+
+        // When
+        int granted = couponService.leaseStock(TEST_COUPON_ID, 5);
+
+        // Then
+        assertEquals(3, granted);
+        verify(couponRepository, never()).update(any(Coupon.class));
+    }
 }
@@ -0,0 +1,122 @@
+package com.hhplus.ecommerce.unit.application.coupon;
+
+import com.hhplus.ecommerce.application.coupon.CouponService;
+import com.hhplus.ecommerce.application.coupon.CouponStockLeaseService;
+import com.hhplus.ecommerce.presentation.coupon.response.IssueCouponResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * CouponStockLeaseServiceTest - 파티션 소유 재고 임대 단위 테스트
+ *
+ * 테스트 대상: CouponStockLeaseService
+ * - 임대분 범위 내 발급 (행 락 1회)
+ * - 재고 소진 판정
+ * - 발급 실패 시 임대분 복구
+ * - 파티션 회수 시 미사용 임대분 반납 (회수 이후 복구분은 즉시 반납)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CouponStockLeaseService 단위 테스트")
+class CouponStockLeaseServiceTest {
+
+    private static final int PARTITION = 3;
+    private static final Long COUPON_ID = 10L;
+
+    @Mock
+    private CouponService couponService;
+
+    private CouponStockLeaseService couponStockLeaseService;
+
+    @BeforeEach
+    void setUp() {
+        couponStockLeaseService = new CouponStockLeaseService(couponService, true, 5, 5000L);
+    }
+
+    private IssueCouponResponse response(Long userId) {
+        return IssueCouponResponse.builder().userId(userId).couponId(COUPON_ID).build();
+    }
+
+    @Test
+    @DisplayName("임대분이 남아 있으면 추가 임대 없이 발급")
+    void issue_WithinLease_LeasesOnce() {
+        when(couponService.leaseStock(COUPON_ID, 5)).thenReturn(5);
+        when(couponService.issueCouponFromLease(anyLong(), eq(COUPON_ID)))
+                .thenAnswer(invocation -> response(invocation.getArgument(0)));
+
+        for (long userId = 1; userId <= 5; userId++) {
+            couponStockLeaseService.issue(PARTITION, userId, COUPON_ID);
+        }
+
+        verify(couponService, times(1)).leaseStock(COUPON_ID, 5);
+        verify(couponService, times(5)).issueCouponFromLease(anyLong(), eq(COUPON_ID));
+    }
+
+    @Test
+    @DisplayName("임대 가능한 재고가 없으면 소진으로 거절")
+    void issue_NothingToLease_SoldOut() {
+        when(couponService.leaseStock(COUPON_ID, 5)).thenReturn(0);
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> couponStockLeaseService.issue(PARTITION, 1L, COUPON_ID));
+
+        assertEquals("쿠폰이 모두 소진되었습니다", e.getMessage());
+        verify(couponService, never()).issueCouponFromLease(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("중복 발급 실패는 임대분을 소비하지 않고, 파티션 회수 시 미사용분 반납")
+    void issue_DuplicateThenRevoke_ReturnsUnused() {
+        when(couponService.leaseStock(COUPON_ID, 5)).thenReturn(2);
+        when(couponService.issueCouponFromLease(1L, COUPON_ID))
+                .thenThrow(new IllegalArgumentException("이 쿠폰은 이미 발급받으셨습니다"));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> couponStockLeaseService.issue(PARTITION, 1L, COUPON_ID));
+
+        couponStockLeaseService.releasePartitions(List.of(PARTITION));
+
+        verify(couponService).returnLeasedStock(COUPON_ID, 2);
+    }
+
+    @Test
+    @DisplayName("반납 실패분은 보관 후 다음 정리 주기에 재시도")
+    void release_ReturnFails_RetriedLater() {
+        when(couponService.leaseStock(COUPON_ID, 5)).thenReturn(3);
+        when(couponService.issueCouponFromLease(1L, COUPON_ID)).thenReturn(response(1L));
+        doThrow(new IllegalStateException("db down"))
+                .doNothing()
+                .when(couponService).returnLeasedStock(COUPON_ID, 2);
+
+        couponStockLeaseService.issue(PARTITION, 1L, COUPON_ID);
+        couponStockLeaseService.releasePartitions(List.of(PARTITION));
+        couponStockLeaseService.releaseIdleLeases();
+
+        verify(couponService, times(2)).returnLeasedStock(COUPON_ID, 2);
+    }
+
+    @Test
+    @DisplayName("발급 중 파티션이 회수되면 실패 복구분은 회수된 임대에 남기지 않고 바로 반납")
+    void issue_RevokedDuringIssue_ReturnsRestoredUnit() {
+        when(couponService.leaseStock(COUPON_ID, 5)).thenReturn(2);
+        when(couponService.issueCouponFromLease(1L, COUPON_ID)).thenAnswer(invocation -> {
+            couponStockLeaseService.releasePartitions(List.of(PARTITION));
+            throw new IllegalStateException("db down");
+        });
+
+        assertThrows(IllegalStateException.class,
+                () -> couponStockLeaseService.issue(PARTITION, 1L, COUPON_ID));
+
+        // 회수 시 미사용 1개 + 발급 실패 복구 1개
+        verify(couponService, times(2)).returnLeasedStock(COUPON_ID, 1);
+    }
+}
@@ -0,0 +1,128 @@
+package com.hhplus.ecommerce.unit.application.inventory;
+
+import com.hhplus.ecommerce.application.inventory.OptionStockDeductionService;
+import com.hhplus.ecommerce.application.inventory.StripedStockService;
+import com.hhplus.ecommerce.application.order.dto.CreateOrderRequestDto.OrderItemDto;
+import com.hhplus.ecommerce.domain.product.ProductOption;
+import com.hhplus.ecommerce.domain.product.ProductRepository;
+import com.hhplus.ecommerce.domain.product.event.ProductStockChangedEvent;
+import com.hhplus.ecommerce.domain.stock.StockBucketType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * OptionStockDeductionServiceTest - 옵션 재고 조건부 일괄 차감 단위 테스트
+ *
+ * 테스트 대상: OptionStockDeductionService
+ * - 같은 옵션 수량 합산, 옵션 ID 순 배치 실행
+ * - 영향 행 수 0 → 재고 부족 예외 (이벤트 미발행)
+ * - 재고 분할된 옵션은 버킷에서 차감하고 재고 변경 이벤트 발행
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OptionStockDeductionService 단위 테스트")
+class OptionStockDeductionServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private StripedStockService stripedStockService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private OptionStockDeductionService optionStockDeductionService;
+
+    @BeforeEach
+    void setUp() {
+        optionStockDeductionService = new OptionStockDeductionService(productRepository, stripedStockService, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("같은 옵션은 수량을 합산해 옵션 ID 순으로 배치 1회 차감 후 재고 변경 이벤트 발행")
+    @SuppressWarnings("unchecked")
+    void deductAll_MergesQuantitiesInOptionIdOrder() {
+        when(productRepository.deductOptionStocks(anyMap())).thenReturn(List.of());
+
+        optionStockDeductionService.deductAll(List.of(
+                new OrderItemDto(1L, 30L, 1),
+                new OrderItemDto(2L, 10L, 2),
+                new OrderItemDto(1L, 30L, 3)));
+
+        ArgumentCaptor<Map<Long, Integer>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(productRepository, times(1)).deductOptionStocks(captor.capture());
+        assertEquals(List.of(10L, 30L), new ArrayList<>(captor.getValue().keySet()));
+        assertEquals(4, captor.getValue().get(30L));
+
+        ArgumentCaptor<ProductStockChangedEvent> eventCaptor = ArgumentCaptor.forClass(ProductStockChangedEvent.class);
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertEquals(List.of(1L, 2L), eventCaptor.getValue().getProductIds());
+        verify(productRepository, never()).findOptionById(anyLong());
+    }
+
+    @Test
+    @DisplayName("영향 행 수 0이면 재고 부족 예외, 이벤트 미발행")
+    void deductAll_NoRowUpdated_ThrowsInsufficientStock() {
+        when(productRepository.deductOptionStocks(anyMap())).thenReturn(List.of(10L));
+        when(productRepository.findOptionById(10L))
+                .thenReturn(Optional.of(ProductOption.createOption(1L, "블랙", 1)));
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> optionStockDeductionService.deductAll(List.of(new OrderItemDto(1L, 10L, 2))));
+
+        assertTrue(exception.getMessage().contains("재고가 부족합니다"));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("차감 대상이 없으면 쿼리/이벤트 없음")
+    void deductAll_Empty_NoQuery() {
+        optionStockDeductionService.deductAll(List.of());
+
+        verifyNoInteractions(productRepository, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("버킷에서 차감된 옵션은 행 차감에서 제외하고, 재고 변경 이벤트에 상품 포함")
+    void deductAll_BucketDeduction_PublishesStockChangedEvent() {
+        when(stripedStockService.tryDeduct(StockBucketType.PRODUCT_OPTION, 10L, 2)).thenReturn(true);
+
+        List<OrderItemDto> rowItems = optionStockDeductionService.deductAll(List.of(new OrderItemDto(1L, 10L, 2)));
+
+        assertTrue(rowItems.isEmpty());
+        verify(productRepository, never()).deductOptionStocks(anyMap());
+        ArgumentCaptor<ProductStockChangedEvent> eventCaptor = ArgumentCaptor.forClass(ProductStockChangedEvent.class);
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertEquals(List.of(1L), eventCaptor.getValue().getProductIds());
+    }
+
+    @Test
+    @DisplayName("옵션 행이 부족하면 (다른 인스턴스가 분할한) 재고 버킷에서 차감")
+    void deductAll_RowShortage_DeductsFromBuckets() {
+        when(productRepository.deductOptionStocks(anyMap())).thenReturn(List.of(10L));
+        when(stripedStockService.deductOnRowShortage(StockBucketType.PRODUCT_OPTION, 10L, 2)).thenReturn(true);
+
+        List<OrderItemDto> rowItems = optionStockDeductionService.deductAll(List.of(
+                new OrderItemDto(1L, 10L, 2),
+                new OrderItemDto(2L, 20L, 1)));
+
+        assertEquals(List.of(20L), rowItems.stream().map(OrderItemDto::getOptionId).toList());
+        verify(productRepository, never()).findOptionById(anyLong());
+        verify(eventPublisher).publishEvent(any(ProductStockChangedEvent.class));
+    }
+}
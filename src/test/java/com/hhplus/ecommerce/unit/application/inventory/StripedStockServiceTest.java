@@ -0,0 +1,219 @@
+package com.hhplus.ecommerce.unit.application.inventory;
+
+import com.hhplus.ecommerce.application.inventory.StripedStockService;
+import com.hhplus.ecommerce.domain.coupon.Coupon;
+import com.hhplus.ecommerce.domain.coupon.CouponRepository;
+import com.hhplus.ecommerce.domain.product.ProductOption;
+import com.hhplus.ecommerce.domain.product.ProductRepository;
+import com.hhplus.ecommerce.domain.stock.HotStockItemRepository;
+import com.hhplus.ecommerce.domain.stock.StockBucket;
+import com.hhplus.ecommerce.domain.stock.StockBucketRepository;
+import com.hhplus.ecommerce.domain.stock.StockBucketType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * StripedStockServiceTest - 핫 아이템 재고 분할 단위 테스트
+ *
+ * 테스트 대상: StripedStockService
+ * - 핫 아이템이 아니면 기존 경로 유지
+ * - 버킷 조건부 차감 및 형제 버킷 폴백
+ * - 원본 행 부족 시 버킷 차감 (다른 인스턴스가 분할한 아이템 포함)
+ * - 분할/병합 시 재고 총량 보존, 원본 행 → 버킷 락 순서
+ * - 핫 지정은 공유 저장소 기준
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StripedStockService 단위 테스트")
+class StripedStockServiceTest {
+
+    private static final Long COUPON_ID = 10L;
+    private static final Long OPTION_ID = 20L;
+
+    @Mock
+    private StockBucketRepository stockBucketRepository;
+
+    @Mock
+    private HotStockItemRepository hotStockItemRepository;
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private StripedStockService stripedStockService;
+
+    @BeforeEach
+    void setUp() {
+        stripedStockService = new StripedStockService(stockBucketRepository, hotStockItemRepository,
+                couponRepository, productRepository, true, 4, String.valueOf(COUPON_ID), String.valueOf(OPTION_ID));
+    }
+
+    private StockBucket bucket(long bucketId, int bucketNo, int quantity) {
+        return StockBucket.builder()
+                .bucketId(bucketId)
+                .itemType(StockBucketType.PRODUCT_OPTION)
+                .itemId(OPTION_ID)
+                .bucketNo(bucketNo)
+                .quantity(quantity)
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Test
+    @DisplayName("핫 아이템이 아니면 버킷 조회 없이 false")
+    void tryDeduct_NotHot_ReturnsFalse() {
+        assertFalse(stripedStockService.tryDeduct(StockBucketType.PRODUCT_OPTION, 999L, 1));
+
+        verifyNoInteractions(stockBucketRepository);
+    }
+
+    @Test
+    @DisplayName("선택한 버킷이 경합으로 소진되면 형제 버킷에서 차감")
+    void tryDeduct_FallsBackToSiblingBucket() {
+        when(stockBucketRepository.findByItem(StockBucketType.PRODUCT_OPTION, OPTION_ID))
+                .thenReturn(List.of(bucket(1L, 0, 3), bucket(2L, 1, 3), bucket(3L, 2, 0)));
+        // 어느 버킷부터 시도하든 1개 버킷만 조건부 UPDATE 성공
+        when(stockBucketRepository.deduct(anyLong(), anyInt())).thenReturn(false, true);
+
+        assertTrue(stripedStockService.tryDeduct(StockBucketType.PRODUCT_OPTION, OPTION_ID, 2));
+
+        // 수량이 부족한 버킷(3L)은 시도하지 않음
+        verify(stockBucketRepository, never()).deduct(eq(3L), anyInt());
+        verify(stockBucketRepository, times(2)).deduct(anyLong(), eq(2));
+        verify(stockBucketRepository, never()).findByItemForUpdate(any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("단일 버킷으로 부족하면 빠른 경로는 버킷 락 없이 false, 원본 행 부족 시 전체 버킷 락 후 합산 차감")
+    void deductOnRowShortage_AcrossBuckets() {
+        List<StockBucket> snapshot = List.of(bucket(1L, 0, 2), bucket(2L, 1, 2));
+        List<StockBucket> locked = List.of(bucket(1L, 0, 2), bucket(2L, 1, 2));
+        when(stockBucketRepository.findByItem(StockBucketType.PRODUCT_OPTION, OPTION_ID)).thenReturn(snapshot);
+        when(stockBucketRepository.findByItemForUpdate(StockBucketType.PRODUCT_OPTION, OPTION_ID)).thenReturn(locked);
+
+        assertFalse(stripedStockService.tryDeduct(StockBucketType.PRODUCT_OPTION, OPTION_ID, 3));
+        verify(stockBucketRepository, never()).findByItemForUpdate(any(), anyLong());
+
+        assertTrue(stripedStockService.deductOnRowShortage(StockBucketType.PRODUCT_OPTION, OPTION_ID, 3));
+        assertEquals(0, locked.get(0).getQuantity());
+        assertEquals(1, locked.get(1).getQuantity());
+        verify(stockBucketRepository).saveAll(locked);
+
+        assertFalse(stripedStockService.deductOnRowShortage(StockBucketType.PRODUCT_OPTION, OPTION_ID, 5));
+    }
+
+    @Test
+    @DisplayName("핫 지정이 없는 인스턴스도 원본 행이 부족하면 버킷을 확인 (다른 인스턴스가 분할한 아이템)")
+    void deductOnRowShortage_NotHotLocally_ChecksBuckets() {
+        Long otherOptionId = 21L;
+        List<StockBucket> locked = List.of(bucket(5L, 0, 1));
+        when(stockBucketRepository.findByItemForUpdate(StockBucketType.PRODUCT_OPTION, otherOptionId)).thenReturn(locked);
+
+        assertTrue(stripedStockService.deductOnRowShortage(StockBucketType.PRODUCT_OPTION, otherOptionId, 1));
+        assertEquals(0, locked.get(0).getQuantity());
+
+        // 분할이 확인된 아이템은 이후 빠른 경로로 진입
+        when(stockBucketRepository.findByItem(StockBucketType.PRODUCT_OPTION, otherOptionId)).thenReturn(List.of());
+        assertFalse(stripedStockService.tryDeduct(StockBucketType.PRODUCT_OPTION, otherOptionId, 1));
+        verify(stockBucketRepository).findByItem(StockBucketType.PRODUCT_OPTION, otherOptionId);
+    }
+
+    @Test
+    @DisplayName("버킷 일괄 차감 - 합계가 부족하면 남은 만큼만 차감")
+    void takeUpTo_TakesAtMostAvailable() {
+        List<StockBucket> locked = List.of(bucket(1L, 0, 2), bucket(2L, 1, 1));
+        when(stockBucketRepository.findByItemForUpdate(StockBucketType.PRODUCT_OPTION, OPTION_ID)).thenReturn(locked);
+
+        assertEquals(3, stripedStockService.takeUpTo(StockBucketType.PRODUCT_OPTION, OPTION_ID, 5));
+        assertEquals(0, locked.stream().mapToInt(StockBucket::getQuantity).sum());
+    }
+
+    @Test
+    @DisplayName("쿠폰 발급 가능 수량 = remaining_qty + 버킷 잔여분")
+    void getAvailableQuantity_IncludesBuckets() {
+        Coupon coupon = Coupon.builder().couponId(COUPON_ID).remainingQty(0).build();
+        when(stockBucketRepository.findByItem(StockBucketType.COUPON, COUPON_ID))
+                .thenReturn(List.of(bucket(1L, 0, 3), bucket(2L, 1, 4)));
+
+        assertEquals(7, stripedStockService.getAvailableQuantity(coupon));
+    }
+
+    @Test
+    @DisplayName("핫 지정은 공유 저장소 기준으로 갱신 (인스턴스 간 동일한 판단)")
+    void refreshHotItems_ReplacesLocalCopyFromSharedStore() {
+        when(hotStockItemRepository.findHotItemIds(StockBucketType.COUPON)).thenReturn(Set.of(11L));
+        when(hotStockItemRepository.findHotItemIds(StockBucketType.PRODUCT_OPTION)).thenReturn(Set.of());
+
+        stripedStockService.refreshHotItems();
+
+        assertTrue(stripedStockService.isHot(StockBucketType.COUPON, 11L));
+        assertFalse(stripedStockService.isHot(StockBucketType.COUPON, COUPON_ID));
+        assertFalse(stripedStockService.isHot(StockBucketType.PRODUCT_OPTION, OPTION_ID));
+
+        stripedStockService.markHot(StockBucketType.PRODUCT_OPTION, OPTION_ID);
+        verify(hotStockItemRepository).add(StockBucketType.PRODUCT_OPTION, OPTION_ID);
+    }
+
+    @Test
+    @DisplayName("분할 - 쿠폰 남은 재고를 버킷으로 이동 (총량 보존, 활성 상태 유지)")
+    @SuppressWarnings("unchecked")
+    void stripe_MovesCouponStockIntoBuckets() {
+        Coupon coupon = Coupon.builder()
+                .couponId(COUPON_ID)
+                .isActive(true)
+                .totalQuantity(100)
+                .remainingQty(10)
+                .build();
+        when(stockBucketRepository.findByItemForUpdate(StockBucketType.COUPON, COUPON_ID)).thenReturn(List.of());
+        when(couponRepository.findByIdForUpdate(COUPON_ID)).thenReturn(Optional.of(coupon));
+
+        int moved = stripedStockService.stripe(StockBucketType.COUPON, COUPON_ID);
+
+        // 락 순서: 원본 행 → 버킷
+        InOrder lockOrder = inOrder(couponRepository, stockBucketRepository);
+        lockOrder.verify(couponRepository).findByIdForUpdate(COUPON_ID);
+        lockOrder.verify(stockBucketRepository).findByItemForUpdate(StockBucketType.COUPON, COUPON_ID);
+
+        ArgumentCaptor<List<StockBucket>> captor = ArgumentCaptor.forClass(List.class);
+        verify(stockBucketRepository).saveAll(captor.capture());
+        List<StockBucket> buckets = captor.getValue();
+        assertEquals(10, moved);
+        assertEquals(0, coupon.getRemainingQty());
+        assertTrue(coupon.isActiveCoupon());
+        assertEquals(4, buckets.size());
+        assertEquals(List.of(3, 3, 2, 2), buckets.stream().map(StockBucket::getQuantity).toList());
+    }
+
+    @Test
+    @DisplayName("병합 - 버킷 잔여분을 옵션 재고로 되돌리고 버킷 삭제")
+    void merge_ReturnsBucketStockToOption() {
+        ProductOption option = ProductOption.createOption(1L, "블랙", 0);
+        List<StockBucket> buckets = List.of(bucket(1L, 0, 2), bucket(2L, 1, 5));
+        when(stockBucketRepository.findByItemForUpdate(StockBucketType.PRODUCT_OPTION, OPTION_ID)).thenReturn(buckets);
+        when(productRepository.findOptionByIdForUpdate(OPTION_ID)).thenReturn(Optional.of(option));
+
+        int merged = stripedStockService.merge(StockBucketType.PRODUCT_OPTION, OPTION_ID);
+
+        assertEquals(7, merged);
+        assertEquals(7, option.getStock());
+        verify(productRepository).saveOption(option);
+        verify(stockBucketRepository).deleteAll(buckets);
+    }
+}
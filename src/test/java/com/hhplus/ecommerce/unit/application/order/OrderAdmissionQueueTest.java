@@ -0,0 +1,104 @@
+package com.hhplus.ecommerce.unit.application.order;
+
+import com.hhplus.ecommerce.application.order.OrderAdmissionQueue;
+import com.hhplus.ecommerce.domain.order.OrderAdmissionRejectedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * OrderAdmissionQueueTest - 핫 옵션 주문 입장 대기열 단위 테스트
+ *
+ * 테스트 대상: OrderAdmissionQueue
+ * - 비활성화/일반 옵션은 호출 스레드에서 바로 실행
+ * - 핫 옵션은 레인 스레드에서 실행, 예외는 호출자에게 그대로 전달
+ * - 레인 포화 및 대기 시간 초과 시 거절 (작업 미실행)
+ */
+@DisplayName("OrderAdmissionQueue 단위 테스트")
+class OrderAdmissionQueueTest {
+
+    private static final Long HOT_OPTION_ID = 7L;
+
+    private OrderAdmissionQueue queue;
+
+    @AfterEach
+    void tearDown() {
+        if (queue != null) {
+            queue.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("핫 옵션이 없으면 호출 스레드에서 바로 실행")
+    void execute_NotHot_RunsInline() {
+        queue = new OrderAdmissionQueue(true, 2, 4, 4, 1000, String.valueOf(HOT_OPTION_ID));
+        Thread caller = Thread.currentThread();
+
+        Thread executed = queue.execute(List.of(1L, 2L), Thread::currentThread);
+
+        assertSame(caller, executed);
+    }
+
+    @Test
+    @DisplayName("핫 옵션 주문은 레인 스레드에서 실행되고 예외는 그대로 전달")
+    void execute_Hot_RunsOnLane() {
+        queue = new OrderAdmissionQueue(true, 2, 4, 4, 1000, String.valueOf(HOT_OPTION_ID));
+
+        String threadName = queue.execute(List.of(1L, HOT_OPTION_ID), () -> Thread.currentThread().getName());
+        assertTrue(threadName.startsWith("order-admission-lane-"));
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> queue.execute(List.of(HOT_OPTION_ID), () -> {
+                    throw new IllegalArgumentException("재고가 부족합니다");
+                }));
+        assertEquals("재고가 부족합니다", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("레인 대기열이 가득 차면 즉시 거절, 대기 시간 안에 시작하지 못한 주문은 실행하지 않음")
+    void execute_LaneSaturated_Rejects() throws Exception {
+        queue = new OrderAdmissionQueue(true, 1, 1, 1, 200, String.valueOf(HOT_OPTION_ID));
+        CountDownLatch blockerStarted = new CountDownLatch(1);
+        CountDownLatch releaseBlocker = new CountDownLatch(1);
+
+        // 레인 스레드를 점유하는 주문
+        CompletableFuture<Boolean> blocker = CompletableFuture.supplyAsync(() -> queue.execute(List.of(HOT_OPTION_ID), () -> {
+            blockerStarted.countDown();
+            try {
+                return releaseBlocker.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }));
+        assertTrue(blockerStarted.await(1, TimeUnit.SECONDS));
+
+        // 대기열 1칸을 채운 주문 → 대기 시간 초과로 거절, 작업은 실행되지 않아야 함
+        AtomicBoolean queuedExecuted = new AtomicBoolean(false);
+        CompletableFuture<Object> queued = CompletableFuture.supplyAsync(() -> queue.execute(List.of(HOT_OPTION_ID), () -> {
+            queuedExecuted.set(true);
+            return null;
+        }));
+        Thread.sleep(50);
+
+        // 대기열 포화 → 즉시 거절
+        assertThrows(OrderAdmissionRejectedException.class,
+                () -> queue.execute(List.of(HOT_OPTION_ID), () -> null));
+
+        Exception timeout = assertThrows(Exception.class, () -> queued.get(2, TimeUnit.SECONDS));
+        assertInstanceOf(OrderAdmissionRejectedException.class, timeout.getCause());
+
+        // 점유 중이던 주문은 대기 시간이 지나도 실행 결과를 받음
+        releaseBlocker.countDown();
+        assertTrue(blocker.get(2, TimeUnit.SECONDS));
+        assertFalse(queuedExecuted.get());
+    }
+}
@@ -1,5 +1,6 @@
 package com.hhplus.ecommerce.unit.application.order;
 
+import com.hhplus.ecommerce.application.order.OrderAdmissionQueue;
 import com.hhplus.ecommerce.application.order.OrderService;
 import com.hhplus.ecommerce.application.order.OrderTransactionService;
 import com.hhplus.ecommerce.application.order.OrderCancelTransactionService;
@@ -80,10 +81,12 @@ class OrderCancelServiceTest {
         orderService = new OrderService(
                 orderRepository,
                 userRepository,
+                productRepository,
                 orderValidator,
                 orderCalculator,
                 orderTransactionService,
-                orderCancelTransactionService
+                orderCancelTransactionService,
+                new OrderAdmissionQueue(false, 1, 1, 1, 1000, "")
         );
 
         // 기본 mock 설정
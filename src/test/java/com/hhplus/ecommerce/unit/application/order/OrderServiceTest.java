@@ -1,9 +1,13 @@
 package com.hhplus.ecommerce.unit.application.order;
 
+import com.hhplus.ecommerce.application.order.OrderAdmissionQueue;
 import com.hhplus.ecommerce.application.order.OrderService;
 import com.hhplus.ecommerce.application.order.OrderTransactionService;
 import com.hhplus.ecommerce.application.order.OrderCancelTransactionService;
 import com.hhplus.ecommerce.application.order.OrderValidator;
+import com.hhplus.ecommerce.application.order.OrderCalculator;
+import com.hhplus.ecommerce.application.inventory.StripedStockService;
+import com.hhplus.ecommerce.domain.coupon.UserCouponRepository;
 import com.hhplus.ecommerce.domain.order.Order;
 import com.hhplus.ecommerce.domain.order.OrderNotFoundException;
 import com.hhplus.ecommerce.domain.order.OrderRepository;
@@ -57,6 +61,9 @@ class OrderServiceTest {
 
     private OrderService orderService;
 
+    // 비활성화 상태: 호출 스레드에서 바로 실행
+    private final OrderAdmissionQueue orderAdmissionQueue = new OrderAdmissionQueue(false, 1, 1, 1, 1000, "");
+
     @Mock
     private OrderRepository orderRepository;
 
@@ -87,12 +94,12 @@ class OrderServiceTest {
     void setup() {
         MockitoAnnotations.openMocks(this);
 
-        // OrderService 생성자: OrderRepository, UserRepository, OrderValidator, OrderCalculator, OrderTransactionService, OrderCancelTransactionService
-        orderService = new OrderService(orderRepository, userRepository, orderValidator, orderCalculator, orderTransactionService, orderCancelTransactionService);
+        // OrderService 생성자: OrderRepository, UserRepository, ProductRepository, OrderValidator, OrderCalculator, OrderTransactionService, OrderCancelTransactionService
+        orderService = new OrderService(orderRepository, userRepository, productRepository, orderValidator, orderCalculator, orderTransactionService, orderCancelTransactionService, orderAdmissionQueue);
 
         // Lenient mode for tests - mocks won't complain about unused stubs
         // This is needed because productRepository is called multiple times during order creation
-        lenient().when(orderCalculator.calculatePrices(anyList(), any())).thenReturn(new long[]{100000L, 0L, 100000L});
+        lenient().when(orderCalculator.calculatePrices(any(), anyList(), any())).thenReturn(new long[]{100000L, 0L, 100000L});
     }
 
     // ========== 주문 생성 (createOrder) ==========
@@ -155,7 +162,7 @@ class OrderServiceTest {
 
         lenient().when(userRepository.findById(TEST_USER_ID)).thenReturn(Optional.of(user));
         lenient().when(productRepository.findById(TEST_PRODUCT_ID)).thenReturn(Optional.of(product));
-        lenient().when(orderCalculator.calculatePrices(anyList(), isNull())).thenReturn(new long[]{100000L, 0L, 100000L});
+        lenient().when(orderCalculator.calculatePrices(any(), anyList(), isNull())).thenReturn(new long[]{100000L, 0L, 100000L});
         lenient().when(orderTransactionService.executeTransactionalOrder(
                 eq(TEST_USER_ID), anyList(), isNull(), eq(0L), eq(100000L), eq(100000L)
         )).thenReturn(savedOrder);
@@ -234,7 +241,7 @@ class OrderServiceTest {
 
         lenient().when(userRepository.findById(TEST_USER_ID)).thenReturn(Optional.of(user));
         lenient().when(productRepository.findById(TEST_PRODUCT_ID)).thenReturn(Optional.of(product));
-        lenient().when(orderCalculator.calculatePrices(anyList(), eq(1L))).thenReturn(new long[]{100000L, 5000L, 95000L});
+        lenient().when(orderCalculator.calculatePrices(any(), anyList(), eq(1L))).thenReturn(new long[]{100000L, 5000L, 95000L});
         lenient().when(orderTransactionService.executeTransactionalOrder(
                 eq(TEST_USER_ID), anyList(), eq(1L), eq(5000L), eq(100000L), eq(95000L)
         )).thenReturn(savedOrder);
@@ -309,7 +316,7 @@ class OrderServiceTest {
         // orderValidator는 Mock이고 productRepository를 주입받았으므로,
         // validator의 validateOrder() 호출 시 ProductNotFoundException을 던지도록 설정
         lenient().doThrow(new ProductNotFoundException(TEST_PRODUCT_ID))
-                .when(orderValidator).validateOrder(eq(user), anyList(), anyLong());
+                .when(orderValidator).validateOrder(eq(user), anyList(), anyLong(), any());
 
         // When & Then
         assertThrows(ProductNotFoundException.class, () -> {
@@ -529,7 +536,7 @@ class OrderServiceTest {
         lenient().when(userRepository.findById(TEST_USER_ID)).thenReturn(Optional.of(user));
         lenient().when(productRepository.findById(TEST_PRODUCT_ID)).thenReturn(Optional.of(product));
         // orderCalculator가 단일 상품의 금액을 계산하도록 설정
-        lenient().when(orderCalculator.calculatePrices(anyList(), isNull())).thenReturn(new long[]{50000L, 0L, 50000L});
+        lenient().when(orderCalculator.calculatePrices(any(), anyList(), isNull())).thenReturn(new long[]{50000L, 0L, 50000L});
         lenient().when(orderTransactionService.executeTransactionalOrder(
                 eq(TEST_USER_ID), anyList(), isNull(), eq(0L), eq(50000L), eq(50000L)
         )).thenReturn(savedOrder);
@@ -610,6 +617,61 @@ class OrderServiceTest {
         );
     }
 
+    @Test
+    @DisplayName("주문 생성 - 계산/검증이 상품 스냅샷을 공유 (항목 수와 무관하게 상품 일괄 조회 1회)")
+    void testCreateOrder_SharedProductSnapshot_SingleBulkLoad() {
+        // Given - 실제 OrderCalculator/OrderValidator 사용
+        OrderService snapshotOrderService = new OrderService(orderRepository, userRepository, productRepository,
+                new OrderValidator(mock(UserCouponRepository.class), orderRepository, mock(StripedStockService.class)),
+                new OrderCalculator(productRepository), orderTransactionService, orderCancelTransactionService,
+                orderAdmissionQueue);
+
+        User user = User.builder()
+                .userId(TEST_USER_ID)
+                .name("testuser")
+                .email("test@example.com")
+                .balance(1000000L)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+        Product product1 = createProductWithOption(1L, "상품1", 30000L, 101L);
+        Product product2 = createProductWithOption(2L, "상품2", 70000L, 201L);
+
+        CreateOrderCommand command = CreateOrderCommand.builder()
+                .orderItems(List.of(
+                        OrderItemCommand.builder().productId(1L).optionId(101L).quantity(1).build(),
+                        OrderItemCommand.builder().productId(2L).optionId(201L).quantity(1).build(),
+                        OrderItemCommand.builder().productId(1L).optionId(101L).quantity(1).build()))
+                .couponId(null)
+                .build();
+
+        Order savedOrder = Order.builder()
+                .orderId(TEST_ORDER_ID)
+                .userId(TEST_USER_ID)
+                .orderStatus(com.hhplus.ecommerce.domain.order.OrderStatus.PENDING)
+                .subtotal(130000L)
+                .couponDiscount(0L)
+                .finalAmount(130000L)
+                .orderItems(new ArrayList<>())
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+
+        when(userRepository.findById(TEST_USER_ID)).thenReturn(Optional.of(user));
+        when(productRepository.findAllByIdsWithOptions(anyCollection())).thenReturn(List.of(product1, product2));
+        when(orderTransactionService.executeTransactionalOrder(
+                eq(TEST_USER_ID), anyList(), isNull(), eq(0L), eq(130000L), eq(130000L)
+        )).thenReturn(savedOrder);
+
+        // When
+        CreateOrderResponse result = snapshotOrderService.createOrder(TEST_USER_ID, command);
+
+        // Then
+        assertEquals(130000L, result.getSubtotal());
+        verify(productRepository, times(1)).findAllByIdsWithOptions(anyCollection());
+        verify(productRepository, never()).findById(anyLong());
+    }
+
     // ========== 트랜잭션 처리 검증 ==========
 
     @Test
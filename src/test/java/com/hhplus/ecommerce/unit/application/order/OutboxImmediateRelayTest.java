@@ -0,0 +1,99 @@
+package com.hhplus.ecommerce.unit.application.order;
+
+import com.hhplus.ecommerce.application.order.OutboxImmediateRelay;
+import com.hhplus.ecommerce.application.order.OutboxPollingService;
+import com.hhplus.ecommerce.domain.order.Outbox;
+import com.hhplus.ecommerce.domain.order.OutboxRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * OutboxImmediateRelayTest - 커밋 직후 Outbox 즉시 발행 단위 테스트
+ *
+ * 테스트 대상: OutboxImmediateRelay
+ * - 트랜잭션 안에서는 커밋 후에만 발행 (롤백 시 발행 없음)
+ * - 선점한 메시지만 발행, 이미 선점된 메시지는 건너뜀
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxImmediateRelay 단위 테스트")
+class OutboxImmediateRelayTest {
+
+    @Mock
+    private OutboxRepository outboxRepository;
+
+    @Mock
+    private OutboxPollingService outboxPollingService;
+
+    private OutboxImmediateRelay relay;
+
+    @AfterEach
+    void tearDown() {
+        if (relay != null) {
+            relay.shutdown();
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션 커밋 후에만 선점·발행, 롤백되면 발행하지 않음")
+    void register_InTransaction_RelaysAfterCommitOnly() {
+        relay = new OutboxImmediateRelay(outboxRepository, outboxPollingService, true, 16, 1, 30);
+        Outbox message = Outbox.createOutbox(100L, 1L, "ORDER_COMPLETED");
+        when(outboxRepository.claimById(eq(1L), any(), any())).thenReturn(Optional.of(message));
+
+        // 롤백된 트랜잭션
+        TransactionSynchronizationManager.initSynchronization();
+        relay.register(2L);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        TransactionSynchronizationManager.clearSynchronization();
+
+        // 커밋된 트랜잭션
+        TransactionSynchronizationManager.initSynchronization();
+        relay.register(1L);
+        verify(outboxRepository, after(100).never()).claimById(anyLong(), any(), any());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        verify(outboxPollingService, timeout(1000)).relayClaimed(List.of(message));
+        verify(outboxRepository, never()).claimById(eq(2L), any(), any());
+    }
+
+    @Test
+    @DisplayName("다른 릴레이가 이미 선점한 메시지는 발행하지 않음")
+    void register_AlreadyClaimed_Skips() {
+        relay = new OutboxImmediateRelay(outboxRepository, outboxPollingService, true, 16, 1, 30);
+        when(outboxRepository.claimById(eq(1L), any(), any())).thenReturn(Optional.empty());
+
+        relay.register(1L);
+
+        verify(outboxRepository, timeout(1000)).claimById(eq(1L), any(), any());
+        verify(outboxPollingService, after(100).never()).relayClaimed(anyList());
+    }
+
+    @Test
+    @DisplayName("비활성화 상태면 등록해도 아무것도 하지 않음")
+    void register_Disabled_NoOp() {
+        relay = new OutboxImmediateRelay(outboxRepository, outboxPollingService, false, 16, 1, 30);
+
+        relay.register(1L);
+
+        assertFalse(relay.isEnabled());
+        verifyNoInteractions(outboxRepository, outboxPollingService);
+    }
+}
@@ -0,0 +1,97 @@
+package com.hhplus.ecommerce.unit.application.order;
+
+import com.hhplus.ecommerce.application.alert.AlertService;
+import com.hhplus.ecommerce.application.order.OutboxEventPublisher;
+import com.hhplus.ecommerce.application.order.OutboxPollingService;
+import com.hhplus.ecommerce.domain.order.Outbox;
+import com.hhplus.ecommerce.domain.order.OutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * OutboxPollingServiceTest - Outbox 릴레이 단위 테스트
+ *
+ * 테스트 대상: OutboxPollingService
+ * - 배치 선점 반복 (가득 찬 배치면 다음 배치)
+ * - 결과별 일괄 반영 (SENT / 재시도 예약 / ABANDONED)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxPollingService 단위 테스트")
+class OutboxPollingServiceTest {
+
+    @Mock
+    private OutboxRepository outboxRepository;
+
+    @Mock
+    private OutboxEventPublisher eventPublisher;
+
+    @Mock
+    private AlertService alertService;
+
+    private OutboxPollingService outboxPollingService;
+
+    @BeforeEach
+    void setUp() {
+        // 발행을 호출 스레드에서 실행 (결과 검증 단순화)
+        outboxPollingService = new OutboxPollingService(outboxRepository, eventPublisher, alertService,
+                Runnable::run, true, 2, 10, 30, false, 30);
+    }
+
+    private Outbox message(long messageId, String messageType, int retryCount) {
+        return Outbox.builder()
+                .messageId(messageId)
+                .orderId(100L + messageId)
+                .userId(1L)
+                .messageType(messageType)
+                .status("PENDING")
+                .retryCount(retryCount)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Test
+    @DisplayName("가득 찬 배치면 다음 배치를 선점하고, 성공 메시지는 배치마다 UPDATE 1회로 SENT 처리")
+    void pollAndSendMessages_ClaimsUntilShortBatch() throws Exception {
+        when(outboxRepository.claimPendingBatch(any(), eq(2), any()))
+                .thenReturn(List.of(message(1L, "ORDER_COMPLETED", 0), message(2L, "SHIPPING", 0)))
+                .thenReturn(List.of(message(3L, "ORDER_COMPLETED", 0)));
+
+        outboxPollingService.pollAndSendMessages();
+
+        verify(outboxRepository, times(2)).claimPendingBatch(any(), eq(2), any());
+        verify(outboxRepository).markSent(List.of(1L, 2L));
+        verify(outboxRepository).markSent(List.of(3L));
+        verify(eventPublisher, times(3)).publish(any());
+        verify(outboxRepository, never()).update(any());
+        verifyNoInteractions(alertService);
+    }
+
+    @Test
+    @DisplayName("발행 실패 - 재시도 가능하면 재시도 예약, 최대 재시도 초과면 ABANDONED + 알림")
+    void pollAndSendMessages_FailuresAreRetriedOrAbandoned() throws Exception {
+        Outbox retryable = message(1L, "ORDER_COMPLETED", 0);
+        Outbox exhausted = message(2L, "ORDER_COMPLETED", 2);
+        when(outboxRepository.claimPendingBatch(any(), eq(2), any()))
+                .thenReturn(List.of(retryable, exhausted))
+                .thenReturn(List.of());
+        doThrow(new RuntimeException("외부 시스템 오류")).when(eventPublisher).publish(any());
+
+        outboxPollingService.pollAndSendMessages();
+
+        verify(outboxRepository).markSent(List.of());
+        verify(outboxRepository).scheduleRetry(eq(List.of(1L)), any(LocalDateTime.class));
+        verify(outboxRepository).markAbandoned(List.of(2L));
+        verify(alertService).notifyOutboxFailure(exhausted);
+        verify(alertService, never()).notifyOutboxFailure(retryable);
+    }
+}
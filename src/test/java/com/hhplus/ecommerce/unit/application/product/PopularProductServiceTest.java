@@ -0,0 +1,109 @@
+package com.hhplus.ecommerce.unit.application.product;
+
+import com.hhplus.ecommerce.application.product.PopularProductServiceImpl;
+import com.hhplus.ecommerce.application.ranking.RankingService;
+import com.hhplus.ecommerce.domain.product.Product;
+import com.hhplus.ecommerce.domain.product.ProductRepository;
+import com.hhplus.ecommerce.domain.product.ProductSalesRepository;
+import com.hhplus.ecommerce.domain.ranking.RankingItem;
+import com.hhplus.ecommerce.domain.ranking.RankingWindow;
+import com.hhplus.ecommerce.presentation.product.response.PopularProductListResponse;
+import com.hhplus.ecommerce.presentation.product.response.PopularProductView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * PopularProductServiceTest - 인기 상품 조회 단위 테스트
+ *
+ * 테스트 대상: PopularProductServiceImpl
+ * - 구간 랭킹(3일)이 있으면 랭킹 순서대로 상품 결합
+ * - 구간 랭킹이 비어 있으면 일일 요약 테이블 상위 5개로 대체 (전체 상품 스캔 없음)
+ * - 주문된 상품이 5개 미만이면 주문 수 0 상품으로 채움
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PopularProductService 단위 테스트")
+class PopularProductServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductSalesRepository productSalesRepository;
+
+    @Mock
+    private RankingService rankingService;
+
+    private PopularProductServiceImpl popularProductService;
+
+    @BeforeEach
+    void setUp() {
+        popularProductService = new PopularProductServiceImpl(productRepository, productSalesRepository, rankingService);
+    }
+
+    private Product product(long productId) {
+        return Product.builder()
+                .productId(productId)
+                .productName("상품 " + productId)
+                .price(10000L)
+                .totalStock(10)
+                .status("ACTIVE")
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    private RankingItem item(long productId, long score) {
+        return RankingItem.builder().productId(productId).score(score).build();
+    }
+
+    private List<Long> productIds(PopularProductListResponse response) {
+        return response.getProducts().stream().map(PopularProductView::getProductId).collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("구간 랭킹 순서대로 결합하고 요약 테이블은 조회하지 않음")
+    void getPopularProducts_FromWindowRanking() {
+        List<RankingItem> ranked = List.of(item(3L, 30), item(1L, 20), item(2L, 10), item(5L, 5), item(4L, 1));
+        when(rankingService.getTopProducts(RankingWindow.LAST_3_DAYS, 5)).thenReturn(ranked);
+        when(productRepository.findAllByIdsWithOptions(anyCollection()))
+                .thenReturn(List.of(product(1L), product(2L), product(3L), product(4L), product(5L)));
+
+        PopularProductListResponse response = popularProductService.getPopularProducts();
+
+        assertEquals(List.of(3L, 1L, 2L, 5L, 4L), productIds(response));
+        assertEquals(30L, response.getProducts().get(0).getOrderCount3Days());
+        assertEquals(1, response.getProducts().get(0).getRank());
+        verifyNoInteractions(productSalesRepository);
+        verify(productRepository, never()).findFirstProducts(anyInt());
+    }
+
+    @Test
+    @DisplayName("구간 랭킹이 비어 있으면 최근 3일 요약 상위 5개로 대체, 부족분은 주문 수 0 상품으로 채움")
+    void getPopularProducts_EmptyWindow_FallsBackToSummary() {
+        when(rankingService.getTopProducts(RankingWindow.LAST_3_DAYS, 5)).thenReturn(List.of());
+        when(productSalesRepository.findTopProductsSince(LocalDate.now().minusDays(2), 5))
+                .thenReturn(List.of(item(7L, 4)));
+        when(productRepository.findAllByIdsWithOptions(anyCollection())).thenReturn(List.of(product(7L)));
+        when(productRepository.findFirstProducts(6))
+                .thenReturn(List.of(product(1L), product(2L), product(7L), product(3L), product(4L), product(5L)));
+
+        PopularProductListResponse response = popularProductService.getPopularProducts();
+
+        assertEquals(List.of(7L, 1L, 2L, 3L, 4L), productIds(response));
+        assertEquals(4L, response.getProducts().get(0).getOrderCount3Days());
+        assertEquals(0L, response.getProducts().get(1).getOrderCount3Days());
+        assertEquals(5, response.getProducts().get(4).getRank());
+    }
+}
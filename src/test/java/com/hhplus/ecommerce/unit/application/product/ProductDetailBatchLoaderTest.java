@@ -0,0 +1,100 @@
+package com.hhplus.ecommerce.unit.application.product;
+
+import com.hhplus.ecommerce.application.product.ProductDetailBatchLoader;
+import com.hhplus.ecommerce.domain.product.Product;
+import com.hhplus.ecommerce.domain.product.ProductRepository;
+import com.hhplus.ecommerce.presentation.product.response.ProductDetailResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ProductDetailBatchLoaderTest - 상품 상세 일괄 조회 단위 테스트
+ *
+ * 테스트 대상: ProductDetailBatchLoader
+ * - 상세 캐시 MGET 1회, 미스만 DB IN 조회 1회 후 캐시에 채움
+ * - MGET 실패 시 전부 DB 조회
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductDetailBatchLoader 단위 테스트")
+class ProductDetailBatchLoaderTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private RedisTemplate<String, Object> cacheRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache detailCache;
+
+    private ProductDetailBatchLoader loader;
+
+    @BeforeEach
+    void setUp() {
+        loader = new ProductDetailBatchLoader(productRepository, cacheRedisTemplate, cacheManager);
+    }
+
+    private Product product(long productId) {
+        return Product.builder()
+                .productId(productId)
+                .productName("상품 " + productId)
+                .price(10000L)
+                .totalStock(10)
+                .status("판매 중")
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Test
+    @DisplayName("캐시 히트는 그대로, 미스만 DB IN 조회 1회 후 상세 캐시에 저장")
+    void loadAll_MissesLoadedFromDbOnce() {
+        ProductDetailResponse cached = new ProductDetailResponse(1L, "상품 1", null, 10000L, 10, "판매 중",
+                List.of(), LocalDateTime.now());
+        when(cacheRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(List.of("productDetail::1", "productDetail::2")))
+                .thenReturn(Arrays.asList(cached, null));
+        when(productRepository.findAllByIdsWithOptions(List.of(2L))).thenReturn(List.of(product(2L)));
+        when(cacheManager.getCache("productDetail")).thenReturn(detailCache);
+
+        Map<Long, ProductDetailResponse> details = loader.loadAll(List.of(1L, 2L, 1L));
+
+        assertSame(cached, details.get(1L));
+        assertEquals("상품 2", details.get(2L).getProductName());
+        verify(productRepository, times(1)).findAllByIdsWithOptions(anyCollection());
+        verify(detailCache).put(eq(2L), any(ProductDetailResponse.class));
+    }
+
+    @Test
+    @DisplayName("MGET 실패 시 전부 DB에서 조회")
+    void loadAll_CacheFailure_FallsBackToDb() {
+        when(cacheRedisTemplate.opsForValue()).thenThrow(new RuntimeException("Redis 연결 실패"));
+        when(productRepository.findAllByIdsWithOptions(List.of(1L, 2L))).thenReturn(List.of(product(1L), product(2L)));
+
+        Map<Long, ProductDetailResponse> details = loader.loadAll(List.of(1L, 2L));
+
+        assertEquals(2, details.size());
+    }
+}
@@ -5,6 +5,8 @@ import com.hhplus.ecommerce.application.product.ProductService;import com.hhplus
 import com.hhplus.ecommerce.domain.product.ProductOption;
 import com.hhplus.ecommerce.domain.product.ProductNotFoundException;
 import com.hhplus.ecommerce.domain.product.ProductRepository;
+import com.hhplus.ecommerce.domain.product.ProductSort;
+import com.hhplus.ecommerce.domain.product.ProductSummary;
 import com.hhplus.ecommerce.presentation.product.response.ProductDetailResponse;
 import com.hhplus.ecommerce.presentation.product.response.ProductListResponse;
 import com.hhplus.ecommerce.presentation.product.response.ProductResponse;
@@ -18,10 +20,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 /**
@@ -29,7 +34,7 @@ import static org.mockito.Mockito.*;
  * Spring Boot 3.4+ Mockito 방식 테스트
  *
  * 테스트 대상: ProductService
- * - 상품 목록 조회 (페이지네이션, 정렬)
+ * - 상품 목록 조회 (페이지네이션, 정렬, 키셋 커서)
  * - 상품 상세 조회 (옵션 포함)
  * - 인기 상품 조회
  *
@@ -62,7 +67,7 @@ class ProductServiceTest {
     void testGetProductList_Success_FirstPage() {
         // Given
         List<Product> allProducts = createProductList(25);
-        when(productRepository.findAll()).thenReturn(allProducts);
+        givenProducts(allProducts);
 
         // When
         ProductListResponse result = productService.getProductList(0, 10, "product_id,asc");
@@ -75,7 +80,7 @@ class ProductServiceTest {
         assertEquals(0, result.getCurrentPage());
         assertEquals(10, result.getSize());
 
-        verify(productRepository, times(1)).findAll();
+        verify(productRepository, times(1)).findProductSummaries(ProductSort.PRODUCT_ID, true, 0, 10);
     }
 
     @Test
@@ -83,7 +88,7 @@ class ProductServiceTest {
     void testGetProductList_Success_SecondPage() {
         // Given
         List<Product> allProducts = createProductList(25);
-        when(productRepository.findAll()).thenReturn(allProducts);
+        givenProducts(allProducts);
 
         // When
         ProductListResponse result = productService.getProductList(1, 10, "product_id,asc");
@@ -94,7 +99,7 @@ class ProductServiceTest {
         assertEquals(25L, result.getTotalElements());
         assertEquals(1, result.getCurrentPage());
 
-        verify(productRepository, times(1)).findAll();
+        verify(productRepository, times(1)).findProductSummaries(ProductSort.PRODUCT_ID, true, 10, 10);
     }
 
     @Test
@@ -102,7 +107,7 @@ class ProductServiceTest {
     void testGetProductList_Success_LastPage() {
         // Given
         List<Product> allProducts = createProductList(25);
-        when(productRepository.findAll()).thenReturn(allProducts);
+        givenProducts(allProducts);
 
         // When
         ProductListResponse result = productService.getProductList(2, 10, "product_id,asc");
@@ -113,7 +118,7 @@ class ProductServiceTest {
         assertEquals(25L, result.getTotalElements());
         assertEquals(2, result.getCurrentPage());
 
-        verify(productRepository, times(1)).findAll();
+        verify(productRepository, times(1)).findProductSummaries(ProductSort.PRODUCT_ID, true, 20, 10);
     }
 
     @Test
@@ -121,7 +126,7 @@ class ProductServiceTest {
     void testGetProductList_Success_PageOutOfRange() {
         // Given
         List<Product> allProducts = createProductList(20);
-        when(productRepository.findAll()).thenReturn(allProducts);
+        givenProducts(allProducts);
 
         // When
         ProductListResponse result = productService.getProductList(5, 10, "product_id,asc");
@@ -132,7 +137,7 @@ class ProductServiceTest {
         assertEquals(20L, result.getTotalElements());
         assertEquals(5, result.getCurrentPage());
 
-        verify(productRepository, times(1)).findAll();
+        verify(productRepository, never()).findProductSummaries(any(), anyBoolean(), anyInt(), anyInt());
     }
 
     @Test
@@ -171,7 +176,7 @@ class ProductServiceTest {
                 createProduct(2L, "상품2", 30000L),
                 createProduct(3L, "상품3", 80000L)
         );
-        when(productRepository.findAll()).thenReturn(allProducts);
+        givenProducts(allProducts);
 
         // When
         ProductListResponse result = productService.getProductList(0, 10, "price,asc");
@@ -181,6 +186,7 @@ class ProductServiceTest {
         assertEquals(3, result.getContent().size());
         // First product should have lowest price
         assertEquals(30000L, result.getContent().get(0).getPrice());
+        verify(productRepository).findProductSummaries(ProductSort.PRICE, true, 0, 10);
     }
 
     @Test
@@ -192,7 +198,7 @@ class ProductServiceTest {
                 createProduct(2L, "상품2", 30000L),
                 createProduct(3L, "상품3", 80000L)
         );
-        when(productRepository.findAll()).thenReturn(allProducts);
+        givenProducts(allProducts);
 
         // When
         ProductListResponse result = productService.getProductList(0, 10, "price,desc");
@@ -202,13 +208,14 @@ class ProductServiceTest {
         assertEquals(3, result.getContent().size());
         // First product should have highest price
         assertEquals(80000L, result.getContent().get(0).getPrice());
+        verify(productRepository).findProductSummaries(ProductSort.PRICE, false, 0, 10);
     }
 
     @Test
     @DisplayName("상품 목록 조회 - 성공 (빈 결과)")
     void testGetProductList_Success_EmptyResult() {
         // Given
-        when(productRepository.findAll()).thenReturn(new ArrayList<>());
+        givenProducts(new ArrayList<>());
 
         // When
         ProductListResponse result = productService.getProductList(0, 10, "product_id,asc");
@@ -332,7 +339,7 @@ class ProductServiceTest {
     void testGetProductList_PaginationCalculation_ExactDivision() {
         // Given: 30개 상품, 페이지 크기 10 = 3 페이지
         List<Product> allProducts = createProductList(30);
-        when(productRepository.findAll()).thenReturn(allProducts);
+        givenProducts(allProducts);
 
         // When
         ProductListResponse result = productService.getProductList(0, 10, "product_id,asc");
@@ -347,7 +354,7 @@ class ProductServiceTest {
     void testGetProductList_PaginationCalculation_IncompleteDivision() {
         // Given: 35개 상품, 페이지 크기 10 = 4 페이지
         List<Product> allProducts = createProductList(35);
-        when(productRepository.findAll()).thenReturn(allProducts);
+        givenProducts(allProducts);
 
         // When
         ProductListResponse result = productService.getProductList(0, 10, "product_id,asc");
@@ -362,7 +369,7 @@ class ProductServiceTest {
     void testGetProductList_PaginationCalculation_SingleItem() {
         // Given: 1개 상품, 페이지 크기 10 = 1 페이지
         List<Product> allProducts = createProductList(1);
-        when(productRepository.findAll()).thenReturn(allProducts);
+        givenProducts(allProducts);
 
         // When
         ProductListResponse result = productService.getProductList(0, 10, "product_id,asc");
@@ -380,7 +387,7 @@ class ProductServiceTest {
     void testGetProductList_DifferentPageSize_20() {
         // Given
         List<Product> allProducts = createProductList(50);
-        when(productRepository.findAll()).thenReturn(allProducts);
+        givenProducts(allProducts);
 
         // When
         ProductListResponse result = productService.getProductList(0, 20, "product_id,asc");
@@ -395,7 +402,7 @@ class ProductServiceTest {
     void testGetProductList_MaxPageSize() {
         // Given
         List<Product> allProducts = createProductList(150);
-        when(productRepository.findAll()).thenReturn(allProducts);
+        givenProducts(allProducts);
 
         // When
         ProductListResponse result = productService.getProductList(0, 100, "product_id,asc");
@@ -405,8 +412,98 @@ class ProductServiceTest {
         assertEquals(2L, result.getTotalPages());
     }
 
+    // ========== 키셋 커서 조회 (getProductListAfter) ==========
+
+    @Test
+    @DisplayName("상품 목록 조회 - 다음 페이지가 있으면 nextCursor 반환, 커서 조회는 마지막 행 다음부터")
+    void testGetProductListAfter_ContinuesFromCursor() {
+        // Given
+        givenProducts(createProductList(25));
+        ProductListResponse firstPage = productService.getProductList(0, 10, "price,desc");
+        assertNotNull(firstPage.getNextCursor());
+
+        List<ProductSummary> nextRows = createProductList(25).stream()
+                .sorted(Comparator.comparing(Product::getPrice).reversed())
+                .skip(10)
+                .limit(11)
+                .map(this::toSummary)
+                .collect(Collectors.toList());
+        when(productRepository.findProductSummariesAfter(ProductSort.PRICE, false, 160000L, 16L, 11))
+                .thenReturn(nextRows);
+
+        // When
+        ProductListResponse result = productService.getProductListAfter(firstPage.getNextCursor(), 10, "price,desc");
+
+        // Then: 11개 조회 → 10개 반환 + 다음 커서, 전체 건수는 세지 않음
+        assertEquals(10, result.getContent().size());
+        assertEquals(150000L, result.getContent().get(0).getPrice());
+        assertNotNull(result.getNextCursor());
+        assertNull(result.getTotalElements());
+        verify(productRepository, times(1)).countProducts();
+    }
+
+    @Test
+    @DisplayName("상품 목록 조회 - 마지막 페이지면 nextCursor 없음")
+    void testGetProductList_LastPage_NoCursor() {
+        // Given
+        givenProducts(createProductList(25));
+
+        // When
+        ProductListResponse result = productService.getProductList(2, 10, "product_id,asc");
+
+        // Then
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("상품 목록 조회 - 실패 (커서와 정렬 기준 불일치, 잘못된 커서)")
+    void testGetProductListAfter_Failed_InvalidCursor() {
+        // Given
+        givenProducts(createProductList(25));
+        String priceCursor = productService.getProductList(0, 10, "price,desc").getNextCursor();
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                () -> productService.getProductListAfter(priceCursor, 10, "created_at,desc"));
+        assertThrows(IllegalArgumentException.class,
+                () -> productService.getProductListAfter("not-a-cursor", 10, "price,desc"));
+        verify(productRepository, never()).findProductSummariesAfter(any(), anyBoolean(), any(), anyLong(), anyInt());
+    }
+
     // ========== Helper 메서드 ==========
 
+    /**
+     * DB 정렬/페이지네이션 흉내 (count + ORDER BY ... LIMIT/OFFSET)
+     */
+    private void givenProducts(List<Product> products) {
+        lenient().when(productRepository.countProducts()).thenReturn((long) products.size());
+        lenient().when(productRepository.findProductSummaries(any(), anyBoolean(), anyInt(), anyInt()))
+                .thenAnswer(invocation -> {
+                    ProductSort sort = invocation.getArgument(0);
+                    boolean ascending = invocation.getArgument(1);
+                    int offset = invocation.getArgument(2);
+                    int limit = invocation.getArgument(3);
+                    Comparator<Product> comparator = switch (sort) {
+                        case PRODUCT_ID -> Comparator.comparing(Product::getProductId);
+                        case PRODUCT_NAME -> Comparator.comparing(Product::getProductName);
+                        case PRICE -> Comparator.comparing(Product::getPrice);
+                        case CREATED_AT -> Comparator.comparing(Product::getCreatedAt);
+                    };
+                    return products.stream()
+                            .sorted(ascending ? comparator : comparator.reversed())
+                            .skip(offset)
+                            .limit(limit)
+                            .map(this::toSummary)
+                            .collect(Collectors.toList());
+                });
+    }
+
+    private ProductSummary toSummary(Product product) {
+        return new ProductSummary(product.getProductId(), product.getProductName(), product.getDescription(),
+                product.getPrice(), product.getTotalStock(), product.getStatus(), product.getCreatedAt());
+    }
+
+
     private List<Product> createProductList(int size) {
         List<Product> products = new ArrayList<>();
         for (int i = 1; i <= size; i++) {
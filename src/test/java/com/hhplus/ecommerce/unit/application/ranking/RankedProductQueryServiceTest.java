@@ -0,0 +1,101 @@
+package com.hhplus.ecommerce.unit.application.ranking;
+
+import com.hhplus.ecommerce.application.product.ProductDetailBatchLoader;
+import com.hhplus.ecommerce.application.ranking.RankedProductQueryService;
+import com.hhplus.ecommerce.application.ranking.RankingService;
+import com.hhplus.ecommerce.domain.ranking.RankingItem;
+import com.hhplus.ecommerce.domain.ranking.RankingWindow;
+import com.hhplus.ecommerce.presentation.product.response.ProductDetailResponse;
+import com.hhplus.ecommerce.presentation.ranking.response.RankedProductsResponse.RankedProductView;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * RankedProductQueryServiceTest - 상품 정보 결합 랭킹 조회 단위 테스트
+ *
+ * 테스트 대상: RankedProductQueryService
+ * - 랭킹 순서대로 상품 상세 결합, 삭제된 상품은 건너뛰고 순위 재부여
+ * - 갱신 주기 안에서는 near-cache 재사용 (랭킹/상세 재조회 없음)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RankedProductQueryService 단위 테스트")
+class RankedProductQueryServiceTest {
+
+    @Mock
+    private RankingService rankingService;
+
+    @Mock
+    private ProductDetailBatchLoader productDetailBatchLoader;
+
+    private ProductDetailResponse detail(long productId) {
+        return new ProductDetailResponse(productId, "상품 " + productId, "설명", 1000L * productId,
+                10, "판매 중", List.of(), LocalDateTime.now());
+    }
+
+    private RankingItem item(long productId, long score) {
+        return RankingItem.builder().productId(productId).score(score).build();
+    }
+
+    @Test
+    @DisplayName("랭킹 순서대로 상세를 결합하고 삭제된 상품은 건너뛰어 순위를 다시 매김")
+    void getTopRankedProducts_HydratesInRankOrder() {
+        RankedProductQueryService service = new RankedProductQueryService(rankingService, productDetailBatchLoader, 50, 60_000);
+        when(rankingService.getTopProducts(RankingWindow.LAST_24_HOURS, 50))
+                .thenReturn(List.of(item(3L, 30), item(9L, 20), item(1L, 10)));
+        when(productDetailBatchLoader.loadAll(List.of(3L, 9L, 1L)))
+                .thenReturn(Map.of(3L, detail(3L), 1L, detail(1L)));
+
+        List<RankedProductView> views = service.getTopRankedProducts(RankingWindow.LAST_24_HOURS, 5);
+
+        assertEquals(2, views.size());
+        assertEquals(3L, views.get(0).getProductId());
+        assertEquals(1, views.get(0).getRank());
+        assertEquals(30L, views.get(0).getScore());
+        assertEquals("상품 3", views.get(0).getProductName());
+        assertEquals(1L, views.get(1).getProductId());
+        assertEquals(2, views.get(1).getRank());
+    }
+
+    @Test
+    @DisplayName("갱신 주기 안의 재조회는 near-cache에서 topN만큼 잘라 반환")
+    void getTopRankedProducts_WithinRefresh_UsesNearCache() {
+        RankedProductQueryService service = new RankedProductQueryService(rankingService, productDetailBatchLoader, 50, 60_000);
+        when(rankingService.getTopProducts(50)).thenReturn(List.of(item(1L, 3), item(2L, 2), item(3L, 1)));
+        when(productDetailBatchLoader.loadAll(anyCollection()))
+                .thenReturn(Map.of(1L, detail(1L), 2L, detail(2L), 3L, detail(3L)));
+
+        assertEquals(3, service.getTopRankedProducts(null, 10).size());
+        List<RankedProductView> top2 = service.getTopRankedProducts(null, 2);
+
+        assertEquals(List.of(1L, 2L), top2.stream().map(RankedProductView::getProductId).toList());
+        verify(rankingService, times(1)).getTopProducts(50);
+        verify(productDetailBatchLoader, times(1)).loadAll(anyCollection());
+    }
+
+    @Test
+    @DisplayName("갱신 주기가 지나면 다시 조회, 갱신 실패 시 이전 목록 반환")
+    void getTopRankedProducts_Expired_RefreshesOrServesStale() {
+        RankedProductQueryService service = new RankedProductQueryService(rankingService, productDetailBatchLoader, 50, 0);
+        when(rankingService.getTopProducts(50))
+                .thenReturn(List.of(item(1L, 3)))
+                .thenThrow(new RuntimeException("Redis 연결 실패"));
+        when(productDetailBatchLoader.loadAll(anyCollection())).thenReturn(Map.of(1L, detail(1L)));
+
+        service.getTopRankedProducts(null, 5);
+        List<RankedProductView> stale = service.getTopRankedProducts(null, 5);
+
+        assertEquals(1L, stale.get(0).getProductId());
+        verify(rankingService, times(2)).getTopProducts(50);
+    }
+}
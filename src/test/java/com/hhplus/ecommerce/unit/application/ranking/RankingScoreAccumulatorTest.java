@@ -0,0 +1,117 @@
+package com.hhplus.ecommerce.unit.application.ranking;
+
+import com.hhplus.ecommerce.application.ranking.RankingScoreAccumulator;
+import com.hhplus.ecommerce.domain.ranking.RankingRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * RankingScoreAccumulatorTest - 랭킹 점수 쓰기 지연 누적기 단위 테스트
+ *
+ * 테스트 대상: RankingScoreAccumulator
+ * - 같은 상품 증가는 델타 하나로 합산, 시간 버킷별 일괄 반영 1회
+ * - 누적 한도 도달 시 즉시 플러시
+ * - 실패 시 at-least-once(재전송) / bounded-loss(버림)
+ * - 지난 시간 버킷 정리 후에도 그 시간의 증가 유실 없음
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RankingScoreAccumulator 단위 테스트")
+class RankingScoreAccumulatorTest {
+
+    private static final String TODAY = "20241202";
+    private static final String HOUR = "2024120214";
+    private static final String NEXT_HOUR = "2024120215";
+
+    @Mock
+    private RankingRepository rankingRepository;
+
+    @Test
+    @DisplayName("같은 상품 증가는 합산되어 플러시 1회로 반영, 반영 후 다시 플러시하면 호출 없음")
+    void flush_MergesIncrementsPerProduct() {
+        RankingScoreAccumulator accumulator = new RankingScoreAccumulator(rankingRepository, true, 10000, true);
+
+        accumulator.add(HOUR, 100L);
+        accumulator.add(HOUR, 100L);
+        accumulator.add(HOUR, 200L);
+        accumulator.flush();
+        accumulator.flush();
+
+        verify(rankingRepository, times(1)).incrementProductScores(TODAY, HOUR, Map.of(100L, 2L, 200L, 1L));
+        verify(rankingRepository, never()).incrementProductScore(anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("누적 증가가 한도에 도달하면 주기를 기다리지 않고 플러시")
+    void add_MaxPendingReached_FlushesImmediately() {
+        RankingScoreAccumulator accumulator = new RankingScoreAccumulator(rankingRepository, true, 2, true);
+
+        accumulator.add(HOUR, 100L);
+        verifyNoInteractions(rankingRepository);
+
+        accumulator.add(HOUR, 100L);
+        verify(rankingRepository).incrementProductScores(TODAY, HOUR, Map.of(100L, 2L));
+    }
+
+    @Test
+    @DisplayName("at-least-once - 실패한 델타는 다음 플러시에 새 증가와 합쳐 재전송")
+    void flush_FailureWithRetry_ResendsDelta() {
+        RankingScoreAccumulator accumulator = new RankingScoreAccumulator(rankingRepository, true, 10000, true);
+        doThrow(new RuntimeException("Redis 연결 실패"))
+                .doNothing()
+                .when(rankingRepository).incrementProductScores(eq(TODAY), eq(HOUR), anyMap());
+
+        accumulator.add(HOUR, 100L);
+        accumulator.flush();
+        accumulator.add(HOUR, 100L);
+        accumulator.flush();
+
+        verify(rankingRepository).incrementProductScores(TODAY, HOUR, Map.of(100L, 1L));
+        verify(rankingRepository).incrementProductScores(TODAY, HOUR, Map.of(100L, 2L));
+        assertEquals(0, accumulator.getDroppedIncrements());
+    }
+
+    @Test
+    @DisplayName("bounded-loss - 실패한 델타는 버리고 이후 증가만 반영")
+    void flush_FailureWithoutRetry_DropsDelta() {
+        RankingScoreAccumulator accumulator = new RankingScoreAccumulator(rankingRepository, true, 10000, false);
+        doThrow(new RuntimeException("Redis 연결 실패"))
+                .doNothing()
+                .when(rankingRepository).incrementProductScores(eq(TODAY), eq(HOUR), anyMap());
+
+        accumulator.add(HOUR, 100L);
+        accumulator.flush();
+        accumulator.add(HOUR, 100L);
+        accumulator.shutdown();
+
+        verify(rankingRepository, times(2)).incrementProductScores(TODAY, HOUR, Map.of(100L, 1L));
+        assertEquals(1, accumulator.getDroppedIncrements());
+    }
+
+    @Test
+    @DisplayName("지난 시간 버킷을 떼어 낸 뒤 도착한 그 시간의 증가도 다음 플러시에 반영, 늦은 이전 시간 add()는 최신 시간을 되돌리지 않음")
+    void flush_RetiredHour_LateIncrementsNotLost() {
+        RankingScoreAccumulator accumulator = new RankingScoreAccumulator(rankingRepository, true, 10000, true);
+
+        accumulator.add(NEXT_HOUR, 100L);
+        accumulator.add(HOUR, 200L);
+        accumulator.flush();
+        accumulator.add(HOUR, 200L);
+        accumulator.add(HOUR, 200L);
+        accumulator.flush();
+        accumulator.flush();
+
+        verify(rankingRepository).incrementProductScores(TODAY, NEXT_HOUR, Map.of(100L, 1L));
+        verify(rankingRepository).incrementProductScores(TODAY, HOUR, Map.of(200L, 1L));
+        verify(rankingRepository).incrementProductScores(TODAY, HOUR, Map.of(200L, 2L));
+        verifyNoMoreInteractions(rankingRepository);
+    }
+}
@@ -1,6 +1,8 @@
 package com.hhplus.ecommerce.unit.application.ranking;
 
+import com.hhplus.ecommerce.application.ranking.RankingScoreAccumulator;
 import com.hhplus.ecommerce.application.ranking.RankingServiceImpl;
+import com.hhplus.ecommerce.application.ranking.RankingWindowRefresher;
 import com.hhplus.ecommerce.domain.ranking.RankingRepository;
 import com.hhplus.ecommerce.domain.ranking.RankingItem;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,6 +18,7 @@ import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -46,7 +49,9 @@ public class RankingServiceControllerScenarioTest {
 
     @BeforeEach
     void setUp() {
-        rankingService = new RankingServiceImpl(rankingRepository);
+        rankingService = new RankingServiceImpl(rankingRepository,
+                new RankingScoreAccumulator(rankingRepository, false, 10000, true),
+                new RankingWindowRefresher(rankingRepository, 1.0));
         log.info("========== 시나리오 테스트 시작 ==========\n");
     }
 
@@ -61,8 +66,8 @@ public class RankingServiceControllerScenarioTest {
         // When: 점수 증가
         rankingService.incrementProductScore(productId);
 
-        // Then: Repository의 incrementProductScore가 호출되었는지 확인
-        verify(rankingRepository, times(1)).incrementProductScore(TODAY_DATE, productId);
+        // Then: Repository의 incrementProductScores가 호출되었는지 확인
+        verify(rankingRepository, times(1)).incrementProductScores(eq(TODAY_DATE), anyString(), eq(Map.of(productId, 1L)));
 
         log.info("✅ 시나리오 1-1 통과: 상품 100의 단일 주문 처리됨");
     }
@@ -88,9 +93,9 @@ public class RankingServiceControllerScenarioTest {
         rankingService.incrementProductScore(product1);
 
         // Then: 각 상품별로 올바른 횟수로 호출되었는지 확인
-        verify(rankingRepository, times(3)).incrementProductScore(TODAY_DATE, product1);
-        verify(rankingRepository, times(1)).incrementProductScore(TODAY_DATE, product2);
-        verify(rankingRepository, times(1)).incrementProductScore(TODAY_DATE, product3);
+        verify(rankingRepository, times(3)).incrementProductScores(eq(TODAY_DATE), anyString(), eq(Map.of(product1, 1L)));
+        verify(rankingRepository, times(1)).incrementProductScores(eq(TODAY_DATE), anyString(), eq(Map.of(product2, 1L)));
+        verify(rankingRepository, times(1)).incrementProductScores(eq(TODAY_DATE), anyString(), eq(Map.of(product3, 1L)));
 
         log.info("✅ 시나리오 1-2 통과: 모든 주문이 올바르게 처리됨");
     }
@@ -110,7 +115,7 @@ public class RankingServiceControllerScenarioTest {
         }
 
         // Then: 100번 호출되었는지 확인
-        verify(rankingRepository, times(totalOrders)).incrementProductScore(TODAY_DATE, productId);
+        verify(rankingRepository, times(totalOrders)).incrementProductScores(eq(TODAY_DATE), anyString(), eq(Map.of(productId, 1L)));
 
         log.info("✅ 시나리오 1-3 통과: {} 개 주문 모두 처리됨\n", totalOrders);
     }
@@ -328,11 +333,11 @@ public class RankingServiceControllerScenarioTest {
         }
 
         // 각 상품별로 올바른 횟수로 호출되었는지 검증
-        verify(rankingRepository, times(15)).incrementProductScore(TODAY_DATE, 100L);
-        verify(rankingRepository, times(12)).incrementProductScore(TODAY_DATE, 200L);
-        verify(rankingRepository, times(8)).incrementProductScore(TODAY_DATE, 300L);
-        verify(rankingRepository, times(5)).incrementProductScore(TODAY_DATE, 400L);
-        verify(rankingRepository, times(3)).incrementProductScore(TODAY_DATE, 500L);
+        verify(rankingRepository, times(15)).incrementProductScores(eq(TODAY_DATE), anyString(), eq(Map.of(100L, 1L)));
+        verify(rankingRepository, times(12)).incrementProductScores(eq(TODAY_DATE), anyString(), eq(Map.of(200L, 1L)));
+        verify(rankingRepository, times(8)).incrementProductScores(eq(TODAY_DATE), anyString(), eq(Map.of(300L, 1L)));
+        verify(rankingRepository, times(5)).incrementProductScores(eq(TODAY_DATE), anyString(), eq(Map.of(400L, 1L)));
+        verify(rankingRepository, times(3)).incrementProductScores(eq(TODAY_DATE), anyString(), eq(Map.of(500L, 1L)));
 
         // ========== Phase 2: TOP 5 조회 ==========
         log.info("\n📍 Phase 2: TOP 5 상품 조회\n");
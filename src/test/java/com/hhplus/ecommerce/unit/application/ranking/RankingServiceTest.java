@@ -1,8 +1,11 @@
 package com.hhplus.ecommerce.unit.application.ranking;
 
+import com.hhplus.ecommerce.application.ranking.RankingScoreAccumulator;
 import com.hhplus.ecommerce.application.ranking.RankingServiceImpl;
+import com.hhplus.ecommerce.application.ranking.RankingWindowRefresher;
 import com.hhplus.ecommerce.domain.ranking.RankingRepository;
 import com.hhplus.ecommerce.domain.ranking.RankingItem;
+import com.hhplus.ecommerce.domain.ranking.RankingWindow;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,6 +16,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -51,7 +55,9 @@ public class RankingServiceTest {
 
     @BeforeEach
     void setUp() {
-        rankingService = new RankingServiceImpl(rankingRepository);
+        rankingService = new RankingServiceImpl(rankingRepository,
+                new RankingScoreAccumulator(rankingRepository, false, 10000, true),
+                new RankingWindowRefresher(rankingRepository, 1.0));
     }
 
     // ========== 상품 점수 증가 (주문 발생) ==========
@@ -67,7 +73,7 @@ public class RankingServiceTest {
 
         // Then
         verify(rankingRepository, times(1))
-                .incrementProductScore(TODAY_DATE, productId);
+                .incrementProductScores(eq(TODAY_DATE), anyString(), eq(Map.of(productId, 1L)));
     }
 
     @Test
@@ -81,9 +87,9 @@ public class RankingServiceTest {
         rankingService.incrementProductScore(productId);
         rankingService.incrementProductScore(productId);
 
-        // Then: Repository의 incrementProductScore가 3번 호출됨
+        // Then: Repository의 incrementProductScores가 3번 호출됨
         verify(rankingRepository, times(3))
-                .incrementProductScore(TODAY_DATE, productId);
+                .incrementProductScores(eq(TODAY_DATE), anyString(), eq(Map.of(productId, 1L)));
     }
 
     @Test
@@ -100,9 +106,9 @@ public class RankingServiceTest {
         rankingService.incrementProductScore(product3);
 
         // Then: 각 상품마다 한 번씩 호출
-        verify(rankingRepository).incrementProductScore(TODAY_DATE, product1);
-        verify(rankingRepository).incrementProductScore(TODAY_DATE, product2);
-        verify(rankingRepository).incrementProductScore(TODAY_DATE, product3);
+        verify(rankingRepository).incrementProductScores(eq(TODAY_DATE), anyString(), eq(Map.of(product1, 1L)));
+        verify(rankingRepository).incrementProductScores(eq(TODAY_DATE), anyString(), eq(Map.of(product2, 1L)));
+        verify(rankingRepository).incrementProductScores(eq(TODAY_DATE), anyString(), eq(Map.of(product3, 1L)));
     }
 
     // ========== TOP N 상품 조회 ==========
@@ -182,6 +188,26 @@ public class RankingServiceTest {
         verify(rankingRepository, never()).getTopProducts(anyString(), anyLong());
     }
 
+    @Test
+    @DisplayName("구간 TOP 조회 - 집계가 비어 있으면 조회 시 재계산 후 재조회, 같은 시간 재조회는 재계산하지 않음")
+    void testGetTopProducts_WindowMissing_RebuildsOnDemand() {
+        // Given: 정시 갱신 전이라 구간 집계 없음 → 재계산 후 결과 존재
+        List<RankingItem> rebuilt = List.of(RankingItem.builder().productId(100L).score(30L).build());
+        when(rankingRepository.getTopProducts(RankingWindow.LAST_24_HOURS, 5))
+                .thenReturn(List.of())
+                .thenReturn(rebuilt)
+                .thenReturn(List.of());
+
+        // When
+        List<RankingItem> first = rankingService.getTopProducts(RankingWindow.LAST_24_HOURS, 5);
+        List<RankingItem> second = rankingService.getTopProducts(RankingWindow.LAST_24_HOURS, 5);
+
+        // Then
+        assertEquals(rebuilt, first);
+        assertTrue(second.isEmpty());
+        verify(rankingRepository, times(1)).rebuildWindow(eq(RankingWindow.LAST_24_HOURS), anyList(), eq(1.0));
+    }
+
     // ========== 특정 상품 순위 확인 ==========
 
     @Test
@@ -301,7 +327,7 @@ public class RankingServiceTest {
     void testIncrementProductScore_RepositoryException() {
         // Given: Repository에서 예외 발생
         doThrow(new RuntimeException("Redis 연결 실패"))
-                .when(rankingRepository).incrementProductScore(anyString(), anyLong());
+                .when(rankingRepository).incrementProductScores(anyString(), anyString(), anyMap());
 
         // When & Then
         assertThrows(RuntimeException.class, () -> {
@@ -0,0 +1,95 @@
+package com.hhplus.ecommerce.unit.application.ranking;
+
+import com.hhplus.ecommerce.application.ranking.RankingWindowRefresher;
+import com.hhplus.ecommerce.domain.ranking.RankingRepository;
+import com.hhplus.ecommerce.domain.ranking.RankingWindow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * RankingWindowRefresherTest - 구간 랭킹 집계 갱신 단위 테스트
+ *
+ * 테스트 대상: RankingWindowRefresher
+ * - 직전 시간 마감 → 구간별 증분 반영 (마감 버킷 + 만료 버킷)
+ * - 증분 불가 시 전체 재계산
+ * - 자정 직후 갱신은 항상 전체 재계산
+ * - 조회 시 재계산은 마감 시간당 1회
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RankingWindowRefresher 단위 테스트")
+class RankingWindowRefresherTest {
+
+    @Mock
+    private RankingRepository rankingRepository;
+
+    @Test
+    @DisplayName("직전 시간을 마감하고 구간마다 마감 버킷/만료 버킷으로 증분 반영")
+    void refreshClosedHour_AppliesIncrementally() {
+        RankingWindowRefresher refresher = new RankingWindowRefresher(rankingRepository, 1.0);
+        when(rankingRepository.applyClosedHour(any(), anyString(), anyString(), anyString(), anyDouble()))
+                .thenReturn(true);
+
+        refresher.refreshClosedHour(LocalDateTime.of(2024, 12, 2, 15, 0, 10));
+
+        verify(rankingRepository).applyClosedHour(RankingWindow.LAST_24_HOURS,
+                "2024120214", "2024120213", "2024120114", 1.0);
+        verify(rankingRepository).applyClosedHour(RankingWindow.LAST_3_DAYS,
+                "2024120214", "2024120213", "2024112914", 1.0);
+        verify(rankingRepository).applyClosedHour(RankingWindow.LAST_7_DAYS,
+                "2024120214", "2024120213", "2024112514", 1.0);
+        verify(rankingRepository, never()).rebuildWindow(any(), anyList(), anyDouble());
+    }
+
+    @Test
+    @DisplayName("집계가 없거나 끊긴 구간은 마감 시간부터 N개 버킷으로 전체 재계산")
+    @SuppressWarnings("unchecked")
+    void refreshClosedHour_NotApplicable_Rebuilds() {
+        RankingWindowRefresher refresher = new RankingWindowRefresher(rankingRepository, 0.9);
+        when(rankingRepository.applyClosedHour(any(), anyString(), anyString(), anyString(), anyDouble()))
+                .thenReturn(true);
+        when(rankingRepository.applyClosedHour(eq(RankingWindow.LAST_24_HOURS), anyString(), anyString(), anyString(), anyDouble()))
+                .thenReturn(false);
+
+        refresher.refreshClosedHour(LocalDateTime.of(2024, 12, 2, 15, 0, 10));
+
+        ArgumentCaptor<List<String>> hours = ArgumentCaptor.forClass(List.class);
+        verify(rankingRepository).rebuildWindow(eq(RankingWindow.LAST_24_HOURS), hours.capture(), eq(0.9));
+        assertEquals(24, hours.getValue().size());
+        assertEquals("2024120214", hours.getValue().get(0));
+        assertEquals("2024120115", hours.getValue().get(23));
+    }
+
+    @Test
+    @DisplayName("자정 직후(23시 마감) 갱신은 증분 없이 모든 구간 전체 재계산")
+    void refreshClosedHour_Midnight_RebuildsAll() {
+        RankingWindowRefresher refresher = new RankingWindowRefresher(rankingRepository, 1.0);
+
+        refresher.refreshClosedHour(LocalDateTime.of(2024, 12, 3, 0, 0, 10));
+
+        verify(rankingRepository, never()).applyClosedHour(any(), anyString(), anyString(), anyString(), anyDouble());
+        verify(rankingRepository, times(RankingWindow.values().length)).rebuildWindow(any(), anyList(), eq(1.0));
+    }
+
+    @Test
+    @DisplayName("조회 시 재계산은 같은 마감 시간에 1회만, 다음 시간이 마감되면 다시 가능")
+    void rebuildIfMissing_OncePerClosedHour() {
+        RankingWindowRefresher refresher = new RankingWindowRefresher(rankingRepository, 1.0);
+
+        assertTrue(refresher.rebuildIfMissing(RankingWindow.LAST_24_HOURS, LocalDateTime.of(2024, 12, 2, 15, 5)));
+        assertFalse(refresher.rebuildIfMissing(RankingWindow.LAST_24_HOURS, LocalDateTime.of(2024, 12, 2, 15, 30)));
+        assertTrue(refresher.rebuildIfMissing(RankingWindow.LAST_24_HOURS, LocalDateTime.of(2024, 12, 2, 16, 1)));
+
+        verify(rankingRepository, times(2)).rebuildWindow(eq(RankingWindow.LAST_24_HOURS), anyList(), eq(1.0));
+    }
+}
@@ -161,4 +161,29 @@ class CouponDomainTest {
         assertFalse(expiredCoupon.isValidPeriod(now), "만료된 쿠폰은 false");
         assertFalse(futureCoupon.isValidPeriod(now), "아직 시작되지 않은 쿠폰은 false");
     }
+
+    @Test
+    @DisplayName("쿠폰 재고 일괄 차감 - 잔여 수량만큼 차감 시 자동 비활성화, 초과 시 예외")
+    void testDecreaseStockByQuantity() {
+        // Given
+        Coupon coupon = Coupon.builder()
+                .couponId(1L)
+                .couponName("배치 쿠폰")
+                .discountType("FIXED_AMOUNT")
+                .discountAmount(1000L)
+                .totalQuantity(10)
+                .remainingQty(3)
+                .validFrom(LocalDateTime.now().minusDays(1))
+                .validUntil(LocalDateTime.now().plusDays(1))
+                .isActive(true)
+                .build();
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> coupon.decreaseStock(4));
+        assertEquals(3, coupon.getRemainingQty(), "재고 부족 시 차감되지 않아야 함");
+
+        coupon.decreaseStock(3);
+        assertEquals(0, coupon.getRemainingQty());
+        assertFalse(coupon.getIsActive(), "재고 소진 시 자동 비활성화");
+    }
 }
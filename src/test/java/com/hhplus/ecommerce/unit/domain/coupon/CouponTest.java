@@ -236,4 +236,58 @@ class CouponTest {
             coupon.validateDiscount();
         }, "유효한 할인율 쿠폰은 예외가 발생하지 않아야 합니다");
     }
+
+    @Test
+    @DisplayName("increaseRemainingQty(int) - 소진으로 비활성화된 쿠폰만 재활성화")
+    void increaseRemainingQty_ReactivatesOnlyWhenExhausted() {
+        // Given: 임대로 재고가 소진되어 비활성화된 쿠폰, 관리자가 비활성화한 쿠폰
+        Coupon exhausted = Coupon.builder()
+                .couponId(1L)
+                .totalQuantity(10)
+                .remainingQty(3)
+                .build();
+        exhausted.decreaseStock(3);
+        Coupon deactivatedByAdmin = Coupon.builder()
+                .couponId(2L)
+                .totalQuantity(10)
+                .remainingQty(5)
+                .isActive(false)
+                .build();
+
+        // When: 미사용 임대분 반납
+        exhausted.increaseRemainingQty(2);
+        deactivatedByAdmin.increaseRemainingQty(2);
+
+        // Then: 소진 비활성화만 해제, 관리자 비활성화는 유지
+        assertTrue(exhausted.isActiveCoupon());
+        assertEquals(2, exhausted.getRemainingQty());
+        assertFalse(deactivatedByAdmin.isActiveCoupon());
+        assertEquals(7, deactivatedByAdmin.getRemainingQty());
+    }
+
+    @Test
+    @DisplayName("decreaseStock(int, int) - 쿠폰 행이 0이 되어도 재고 버킷에 남은 수량이 있으면 활성 유지")
+    void decreaseStock_KeepsActive_WhenBucketsHaveStock() {
+        // Given: 재고 분할 중인 쿠폰 (행 2개, 버킷 5개)
+        Coupon striped = Coupon.builder()
+                .couponId(1L)
+                .totalQuantity(10)
+                .remainingQty(2)
+                .build();
+
+        // When: 행 재고 소진
+        striped.decreaseStock(2, 5);
+
+        // Then: 발급 가능 수량 = 버킷 잔여분, 활성 유지
+        assertEquals(0, striped.getRemainingQty());
+        assertTrue(striped.isActiveCoupon());
+        assertTrue(striped.hasStock(5));
+        assertEquals(5, striped.getAvailableQty(5));
+
+        // When: 버킷까지 소진된 채 병합
+        striped.returnStockFromBuckets(0);
+
+        // Then: 소진으로 비활성화
+        assertFalse(striped.isActiveCoupon());
+    }
 }
@@ -0,0 +1,195 @@
+package com.hhplus.ecommerce.unit.infrastructure.cache;
+
+import com.hhplus.ecommerce.infrastructure.cache.CacheStampedeProtector;
+import com.hhplus.ecommerce.infrastructure.cache.StampedeProtectedCache;
+import com.hhplus.ecommerce.infrastructure.config.RedisKeyType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * StampedeProtectedCacheTest - 캐시 스탬피드 방지 단위 테스트
+ *
+ * 테스트 대상: StampedeProtectedCache, CacheStampedeProtector
+ * - 동시 미스는 키당 1회 로드로 병합
+ * - XFetch: 만료 임박 + 재계산 비용이 크면 만료 전에 재계산, beta 0이면 재계산 없음
+ * - 조기 갱신 중 발생한 미스는 조기 갱신 결과를 기다리지 않고 직접 로드 (null 반환 방지)
+ * - 재계산 후 만료 시각은 고정 TTL이 아닌 TTL 공급자(적응형 TTL) 기준
+ * - 리스 해제는 자기 노드 ID 비교 후 삭제 (무조건 DEL 하지 않음)
+ * (리스 해제 테스트 외에는 리스 비활성화, L2는 ConcurrentMapCache로 대체)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StampedeProtectedCache 단위 테스트")
+class StampedeProtectedCacheTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private Cache protect(double beta) {
+        return protect(beta, RedisKeyType::getTtl);
+    }
+
+    private Cache protect(double beta, Function<RedisKeyType, Duration> ttlResolver) {
+        CacheStampedeProtector protector = new CacheStampedeProtector(redisTemplate,
+                Map.of(RedisKeyType.CACHE_POPULAR_PRODUCTS_NAME, RedisKeyType.CACHE_POPULAR_PRODUCTS),
+                false, 100, beta, 200, ttlResolver);
+        return protector.protect(new ConcurrentMapCache(RedisKeyType.CACHE_POPULAR_PRODUCTS_NAME));
+    }
+
+    @Test
+    @DisplayName("동시 미스는 키당 1회 로드로 병합되고 모두 같은 값을 받음")
+    void get_ConcurrentMisses_LoadOnce() throws Exception {
+        Cache cache = protect(0);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            results.add(executor.submit(() -> cache.get("list", () -> {
+                loads.incrementAndGet();
+                loaderStarted.countDown();
+                releaseLoader.await(2, TimeUnit.SECONDS);
+                return "인기 상품";
+            })));
+            assertTrue(loaderStarted.await(1, TimeUnit.SECONDS));
+            for (int i = 0; i < 7; i++) {
+                results.add(executor.submit(() -> cache.get("list", () -> {
+                    loads.incrementAndGet();
+                    return "중복 로드";
+                })));
+            }
+            Thread.sleep(100);
+            releaseLoader.countDown();
+
+            for (Future<String> result : results) {
+                assertEquals("인기 상품", result.get(2, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, loads.get());
+        StampedeProtectedCache protectedCache = (StampedeProtectedCache) cache;
+        assertEquals(Map.of("list", 1L), protectedCache.getRecomputeCounts());
+        assertEquals(7, protectedCache.getCoalescedLoads());
+    }
+
+    @Test
+    @DisplayName("만료 임박 항목은 XFetch로 만료 전에 재계산")
+    void get_NearExpiry_RefreshesEarly() {
+        Cache cache = protect(1_000_000);
+        cache.put("list", "이전 값");
+        // 다른 노드가 채운 값: L2 남은 TTL 1초
+        when(redisTemplate.getExpire(eq("popularProducts::list"), eq(TimeUnit.MILLISECONDS))).thenReturn(1000L);
+
+        Object value = cache.get("list", () -> "새 값");
+
+        assertEquals("새 값", value);
+        assertEquals("새 값", cache.get("list").get());
+        assertEquals(1, ((StampedeProtectedCache) cache).getEarlyRefreshes());
+    }
+
+    @Test
+    @DisplayName("조기 갱신이 진행 중일 때 항목이 사라지면 미스 요청은 직접 로드 (실패한 조기 갱신의 null을 받지 않음)")
+    void get_MissDuringFailingEarlyRefresh_LoadsItself() throws Exception {
+        Cache cache = protect(1_000_000);
+        cache.put("list", "이전 값");
+        when(redisTemplate.getExpire(eq("popularProducts::list"), eq(TimeUnit.MILLISECONDS))).thenReturn(1000L);
+        CountDownLatch refreshStarted = new CountDownLatch(1);
+        CountDownLatch releaseRefresh = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            Future<Object> refresher = executor.submit(() -> cache.get("list", () -> {
+                refreshStarted.countDown();
+                releaseRefresh.await(2, TimeUnit.SECONDS);
+                throw new IllegalStateException("원본 조회 실패");
+            }));
+            assertTrue(refreshStarted.await(1, TimeUnit.SECONDS));
+            cache.evict("list");
+
+            Future<Object> miss = executor.submit(() -> cache.get("list", () -> "새 로드"));
+
+            assertEquals("새 로드", miss.get(1, TimeUnit.SECONDS));
+            releaseRefresh.countDown();
+            assertEquals("이전 값", refresher.get(2, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("beta 0이면 히트 시 재계산 없이 기존 값 반환")
+    void get_BetaZero_NoEarlyRefresh() {
+        Cache cache = protect(0);
+        cache.put("list", "이전 값");
+        lenient().when(redisTemplate.getExpire(anyString(), any(TimeUnit.class))).thenReturn(1L);
+
+        Object value = cache.get("list", () -> "새 값");
+
+        assertEquals("이전 값", value);
+        assertEquals(0, ((StampedeProtectedCache) cache).getEarlyRefreshes());
+    }
+
+    @Test
+    @DisplayName("재계산 후 만료 시각은 TTL 공급자 값 기준 - 적응형 TTL이 짧아지면 그 시각에 L2 남은 TTL을 다시 확인")
+    void get_AfterRecompute_UsesResolvedTtl() throws Exception {
+        Cache cache = protect(0, type -> Duration.ofMillis(1));
+        when(redisTemplate.getExpire(eq("popularProducts::list"), eq(TimeUnit.MILLISECONDS))).thenReturn(1000L);
+
+        cache.get("list", () -> "인기 상품");
+        Thread.sleep(5);
+        Object value = cache.get("list", () -> "새 값");
+
+        assertEquals("인기 상품", value);
+        verify(redisTemplate).getExpire("popularProducts::list", TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    @DisplayName("리스 해제는 자기 노드 ID일 때만 삭제하는 스크립트로 처리 - 다른 노드가 다시 잡은 리스를 지우지 않음")
+    void get_LeaseEnabled_ReleasesOnlyOwnLease() {
+        CacheStampedeProtector protector = new CacheStampedeProtector(redisTemplate,
+                Map.of(RedisKeyType.CACHE_POPULAR_PRODUCTS_NAME, RedisKeyType.CACHE_POPULAR_PRODUCTS),
+                true, 100, 0, 200, RedisKeyType::getTtl);
+        Cache cache = protector.protect(new ConcurrentMapCache(RedisKeyType.CACHE_POPULAR_PRODUCTS_NAME));
+        String leaseKey = RedisKeyType.LOCK_CACHE_FILL.buildKey(RedisKeyType.CACHE_POPULAR_PRODUCTS_NAME, "list");
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq(leaseKey), anyString(), any(Duration.class))).thenReturn(true);
+
+        assertEquals("인기 상품", cache.get("list", () -> "인기 상품"));
+
+        ArgumentCaptor<String> owner = ArgumentCaptor.forClass(String.class);
+        verify(valueOperations).setIfAbsent(eq(leaseKey), owner.capture(), any(Duration.class));
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(leaseKey)), eq(owner.getValue()));
+        verify(redisTemplate, never()).delete(anyString());
+    }
+}
@@ -0,0 +1,129 @@
+package com.hhplus.ecommerce.unit.infrastructure.cache;
+
+import com.hhplus.ecommerce.infrastructure.cache.CacheInvalidationPublisher;
+import com.hhplus.ecommerce.infrastructure.cache.CacheTierStatistics;
+import com.hhplus.ecommerce.infrastructure.cache.RedisCacheInvalidationListener;
+import com.hhplus.ecommerce.infrastructure.cache.TwoTierCache;
+import com.hhplus.ecommerce.infrastructure.cache.TwoTierRedisCacheManager;
+import com.hhplus.ecommerce.infrastructure.config.RedisKeyType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * TwoTierRedisCacheManagerTest - 로컬(L1) + Redis(L2) 2단 캐시 단위 테스트
+ *
+ * 테스트 대상: TwoTierRedisCacheManager, TwoTierCache, RedisCacheInvalidationListener
+ * - L2 히트 값은 L1에 채워 다음 조회는 L1에서 반환
+ * - L1은 복사본을 반환 (호출자가 수정해도 캐시 값은 그대로)
+ * - evict는 두 계층 제거 + 다른 노드로 전파
+ * - 다른 노드 메시지는 L1만 제거, 자기 노드 메시지는 무시
+ * (L2는 ConcurrentMapCacheManager로 대체)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TwoTierRedisCacheManager 단위 테스트")
+class TwoTierRedisCacheManagerTest {
+
+    private static final String NODE_ID = "node-a";
+
+    @Mock
+    private CacheInvalidationPublisher invalidationPublisher;
+
+    private ConcurrentMapCacheManager redisCacheManager;
+    private TwoTierRedisCacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        redisCacheManager = new ConcurrentMapCacheManager();
+        cacheManager = new TwoTierRedisCacheManager(redisCacheManager,
+                Map.of(RedisKeyType.CACHE_PRODUCT_DETAIL_NAME, RedisKeyType.CACHE_PRODUCT_DETAIL),
+                new GenericJackson2JsonRedisSerializer(), invalidationPublisher, null, null);
+    }
+
+    @Test
+    @DisplayName("L2 히트 값은 L1에 채워지고 다음 조회는 L1 히트")
+    void get_RedisHitFillsLocal() {
+        Cache cache = cacheManager.getCache(RedisKeyType.CACHE_PRODUCT_DETAIL_NAME);
+        assertInstanceOf(TwoTierCache.class, cache);
+        redisCacheManager.getCache(RedisKeyType.CACHE_PRODUCT_DETAIL_NAME).put(1L, "상품 1");
+
+        assertEquals("상품 1", cache.get(1L).get());
+        // L2에서 지워도 L1에 남아 있으면 L1에서 반환
+        redisCacheManager.getCache(RedisKeyType.CACHE_PRODUCT_DETAIL_NAME).evict(1L);
+        assertEquals("상품 1", cache.get(1L).get());
+        assertNull(cache.get(2L));
+
+        CacheTierStatistics stats = ((TwoTierCache) cache).getStatistics();
+        assertEquals(1, stats.getLocalHits());
+        assertEquals(2, stats.getLocalMisses());
+        assertEquals(1, stats.getRedisHits());
+        assertEquals(1, stats.getRedisMisses());
+    }
+
+    @Test
+    @DisplayName("L1 조회는 매번 새 복사본 - 반환 객체나 저장한 객체를 수정해도 캐시 값은 그대로")
+    void get_LocalHitReturnsIsolatedCopy() {
+        Cache cache = cacheManager.getCache(RedisKeyType.CACHE_PRODUCT_DETAIL_NAME);
+        List<String> value = new ArrayList<>(List.of("옵션 A"));
+        cache.put(1L, value);
+        value.add("저장 후 수정");
+
+        @SuppressWarnings("unchecked")
+        List<String> first = (List<String>) cache.get(1L).get();
+        first.add("조회 후 수정");
+
+        assertEquals(List.of("옵션 A"), cache.get(1L).get());
+        assertNotSame(first, cache.get(1L).get());
+    }
+
+    @Test
+    @DisplayName("evict는 L1/L2 모두 제거하고 다른 노드로 무효화 전파")
+    void evict_RemovesBothTiersAndPublishes() {
+        Cache cache = cacheManager.getCache(RedisKeyType.CACHE_PRODUCT_DETAIL_NAME);
+        cache.put(1L, "상품 1");
+
+        cache.evict(1L);
+
+        assertNull(cache.get(1L));
+        assertNull(redisCacheManager.getCache(RedisKeyType.CACHE_PRODUCT_DETAIL_NAME).get(1L));
+        verify(invalidationPublisher).publishEvict(RedisKeyType.CACHE_PRODUCT_DETAIL_NAME, "1");
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지는 L1만 제거, 자기 노드 메시지는 무시")
+    void listener_EvictsLocalOnlyForOtherNodes() {
+        Cache cache = cacheManager.getCache(RedisKeyType.CACHE_PRODUCT_DETAIL_NAME);
+        cache.put(1L, "상품 1");
+        RedisCacheInvalidationListener listener = new RedisCacheInvalidationListener(cacheManager, NODE_ID);
+
+        listener.handle(NODE_ID + "|E|productDetail|1");
+        redisCacheManager.getCache(RedisKeyType.CACHE_PRODUCT_DETAIL_NAME).put(1L, "상품 1 (수정)");
+        assertEquals("상품 1", cache.get(1L).get());
+
+        listener.handle("node-b|E|productDetail|1");
+        assertEquals("상품 1 (수정)", cache.get(1L).get());
+    }
+
+    @Test
+    @DisplayName("L1 설정이 없는 캐시는 Redis 캐시 그대로 사용")
+    void getCache_WithoutLocalConfig_ReturnsRedisCache() {
+        Cache cache = cacheManager.getCache("cartCache");
+
+        assertFalse(cache instanceof TwoTierCache);
+        cache.evict("cart:1");
+        verifyNoInteractions(invalidationPublisher);
+    }
+}
@@ -0,0 +1,116 @@
+package com.hhplus.ecommerce.unit.infrastructure.cache;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.hhplus.ecommerce.infrastructure.cache.CacheValueFormat;
+import com.hhplus.ecommerce.infrastructure.cache.VersionedCacheValueSerializer;
+import com.hhplus.ecommerce.presentation.product.response.ProductDetailResponse;
+import com.hhplus.ecommerce.presentation.product.response.ProductOptionResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * VersionedCacheValueSerializerTest - 캐시 값 버전 봉투 직렬화 단위 테스트
+ *
+ * 테스트 대상: VersionedCacheValueSerializer
+ * - 압축 형식 왕복 (단일 DTO, 컬렉션, LZ4 압축), 본문은 Smile
+ * - 기존 TYPED_JSON 값 읽기 호환, 모르는 버전은 캐시 미스(null)
+ */
+@DisplayName("VersionedCacheValueSerializer 단위 테스트")
+class VersionedCacheValueSerializerTest {
+
+    private final RedisSerializer<Object> typedJson = typedJsonSerializer();
+
+    private static RedisSerializer<Object> typedJsonSerializer() {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.activateDefaultTyping(
+                BasicPolymorphicTypeValidator.builder().allowIfBaseType(Object.class).build(),
+                ObjectMapper.DefaultTyping.NON_FINAL,
+                JsonTypeInfo.As.PROPERTY);
+        return new Jackson2JsonRedisSerializer<>(mapper, Object.class);
+    }
+
+    private List<ProductOptionResponse> options(int count) {
+        List<ProductOptionResponse> options = new ArrayList<>();
+        for (long i = 1; i <= count; i++) {
+            options.add(new ProductOptionResponse(i, "옵션 " + i, 10, 0L));
+        }
+        return options;
+    }
+
+    @Test
+    @DisplayName("압축 형식 - 날짜/중첩 목록을 포함한 DTO를 Smile 본문으로 왕복")
+    void compact_RoundTripsDto() {
+        VersionedCacheValueSerializer serializer = new VersionedCacheValueSerializer(typedJson, CacheValueFormat.COMPACT, 0);
+        LocalDateTime createdAt = LocalDateTime.of(2024, 12, 2, 14, 30, 0);
+        ProductDetailResponse detail = new ProductDetailResponse(1L, "상품", "설명", 10000L, 20, "판매 중",
+                options(2), createdAt);
+
+        byte[] bytes = serializer.serialize(detail);
+        ProductDetailResponse restored = (ProductDetailResponse) serializer.deserialize(bytes);
+
+        assertEquals(0x00, bytes[0]);
+        // 봉투 [매직][버전][플래그][루트 타입 길이 2바이트 + 클래스명] 뒤 Smile 헤더 ":)\n"
+        int bodyStart = 5 + ProductDetailResponse.class.getName().length();
+        assertEquals(':', bytes[bodyStart]);
+        assertEquals(')', bytes[bodyStart + 1]);
+        assertEquals('\n', bytes[bodyStart + 2]);
+        assertEquals("상품", restored.getProductName());
+        assertEquals(createdAt, restored.getCreatedAt());
+        assertEquals(2, restored.getOptions().size());
+        assertEquals("옵션 2", restored.getOptions().get(1).getName());
+    }
+
+    @Test
+    @DisplayName("압축 형식 - 목록은 요소 타입을 1회만 기록하고 임계값 이상이면 LZ4로 기존 형식보다 작게 저장")
+    void compact_ListIsSmallerThanTypedJson() {
+        VersionedCacheValueSerializer serializer = new VersionedCacheValueSerializer(typedJson, CacheValueFormat.COMPACT, 256);
+        List<ProductOptionResponse> options = options(200);
+
+        byte[] compact = serializer.serialize(options);
+        byte[] legacy = typedJson.serialize(options);
+
+        assertEquals(0x01, compact[2] & 0x01);
+        assertTrue(compact.length * 4 < legacy.length,
+                "compact=" + compact.length + ", legacy=" + legacy.length);
+        @SuppressWarnings("unchecked")
+        List<ProductOptionResponse> restored = (List<ProductOptionResponse>) serializer.deserialize(compact);
+        assertEquals(200, restored.size());
+        assertEquals(200L, restored.get(199).getOptionId());
+    }
+
+    @Test
+    @DisplayName("형식 전환 호환 - 기존 TYPED_JSON 값도 읽고, 모르는 버전은 null(캐시 미스)")
+    void deserialize_ReadsLegacyAndSkipsUnknownVersion() {
+        VersionedCacheValueSerializer serializer = new VersionedCacheValueSerializer(typedJson, CacheValueFormat.COMPACT, 0);
+        byte[] legacy = typedJson.serialize(new ProductOptionResponse(7L, "블랙", 3, 1L));
+
+        ProductOptionResponse restored = (ProductOptionResponse) serializer.deserialize(legacy);
+        assertEquals(7L, restored.getOptionId());
+
+        byte[] future = serializer.serialize(new ProductOptionResponse(7L, "블랙", 3, 1L));
+        future[1] = 99;
+        assertNull(serializer.deserialize(future));
+    }
+
+    @Test
+    @DisplayName("압축 형식으로 표현할 수 없는 값(이종 목록)은 TYPED_JSON으로 저장")
+    void compact_FallsBackForHeterogeneousList() {
+        VersionedCacheValueSerializer serializer = new VersionedCacheValueSerializer(typedJson, CacheValueFormat.COMPACT, 0);
+        List<Object> mixed = new ArrayList<>(List.of(new ProductOptionResponse(1L, "블랙", 1, 0L), "문자열"));
+
+        byte[] bytes = serializer.serialize(mixed);
+
+        assertNotEquals(0x00, bytes[0]);
+        assertEquals(2, ((List<?>) serializer.deserialize(bytes)).size());
+    }
+}
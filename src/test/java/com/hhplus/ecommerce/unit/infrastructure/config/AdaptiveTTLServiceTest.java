@@ -0,0 +1,133 @@
+package com.hhplus.ecommerce.unit.infrastructure.config;
+
+import com.hhplus.ecommerce.infrastructure.config.AdaptiveTTLService;
+import com.hhplus.ecommerce.infrastructure.config.RedisKeyType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AdaptiveTTLServiceTest - 관측 기반 적응형 TTL 단위 테스트
+ *
+ * 테스트 대상: AdaptiveTTLService
+ * - 핫 + 변경 드묾 → TTL 증가, 잦은 무효화 → TTL 감소 (평활화 없이 즉시 반영)
+ * - 무효화가 한 번도 관측되지 않은 캐시는 히트율만으로 TTL을 늘리지 않음
+ * - STATE 키는 기본 TTL 아래로 줄지 않음
+ * - 지터 범위, 기본 TTL 조회(getTTL)는 그대로
+ */
+@DisplayName("AdaptiveTTLService 단위 테스트")
+class AdaptiveTTLServiceTest {
+
+    private AdaptiveTTLService adaptiveTTLService;
+
+    @BeforeEach
+    void setUp() {
+        // 지터 0, 최소 표본 10, 평활화 없음
+        adaptiveTTLService = new AdaptiveTTLService(true, 0.5, 4.0, 0, 10, 0.8, 0.01, 0.2, 1.0);
+        adaptiveTTLService.registerCacheFamily(RedisKeyType.CACHE_PRODUCT_DETAIL_NAME, RedisKeyType.CACHE_PRODUCT_DETAIL);
+        adaptiveTTLService.registerCacheFamily(RedisKeyType.CACHE_COUPON_LIST_NAME, RedisKeyType.CACHE_COUPON_LIST);
+    }
+
+    @Test
+    @DisplayName("히트율이 높고 무효화가 드문 캐시는 최대 배율, 무효화가 잦은 캐시는 최소 배율")
+    void recompute_AdjustsFactorByObservedRates() {
+        for (int i = 0; i < 100; i++) {
+            adaptiveTTLService.recordAccess(RedisKeyType.CACHE_PRODUCT_DETAIL_NAME, i % 20 != 0);
+            adaptiveTTLService.recordAccess(RedisKeyType.CACHE_COUPON_LIST_NAME, true);
+        }
+        adaptiveTTLService.recordInvalidation(RedisKeyType.CACHE_PRODUCT_DETAIL_NAME);
+        for (int i = 0; i < 30; i++) {
+            adaptiveTTLService.recordInvalidation(RedisKeyType.CACHE_COUPON_LIST_NAME);
+        }
+
+        adaptiveTTLService.recompute();
+
+        assertEquals(RedisKeyType.CACHE_PRODUCT_DETAIL.getTtl().multipliedBy(4),
+                adaptiveTTLService.getEffectiveTTL(RedisKeyType.CACHE_PRODUCT_DETAIL));
+        assertEquals(RedisKeyType.CACHE_COUPON_LIST.getTtl().dividedBy(2),
+                adaptiveTTLService.getEffectiveTTL(RedisKeyType.CACHE_COUPON_LIST));
+        // 정책상 기본 TTL 조회는 그대로
+        assertEquals(RedisKeyType.CACHE_PRODUCT_DETAIL.getTtl(),
+                adaptiveTTLService.getTTL(RedisKeyType.CACHE_PRODUCT_DETAIL));
+
+        AdaptiveTTLService.TTLDecision decision = adaptiveTTLService.getDecisions().stream()
+                .filter(d -> "CACHE_COUPON_LIST".equals(d.getKeyName()))
+                .findFirst()
+                .orElseThrow();
+        assertEquals("잦은 무효화", decision.getReason());
+        assertEquals(30, decision.getInvalidations());
+    }
+
+    @Test
+    @DisplayName("무효화가 한 번도 관측되지 않은 캐시는 히트율이 높아도 기본 TTL 유지")
+    void recompute_NoInvalidationSignal_KeepsBaseTTL() {
+        for (int i = 0; i < 100; i++) {
+            adaptiveTTLService.recordAccess(RedisKeyType.CACHE_PRODUCT_DETAIL_NAME, true);
+        }
+
+        adaptiveTTLService.recompute();
+
+        assertEquals(RedisKeyType.CACHE_PRODUCT_DETAIL.getTtl(),
+                adaptiveTTLService.getEffectiveTTL(RedisKeyType.CACHE_PRODUCT_DETAIL));
+        AdaptiveTTLService.TTLDecision decision = adaptiveTTLService.getDecisions().stream()
+                .filter(d -> "CACHE_PRODUCT_DETAIL".equals(d.getKeyName()))
+                .findFirst()
+                .orElseThrow();
+        assertEquals("무효화 신호 없음", decision.getReason());
+    }
+
+    @Test
+    @DisplayName("표본이 부족하거나 등록되지 않은 캐시 이름이면 기본 TTL 유지")
+    void recompute_NotEnoughSamples_KeepsBaseTTL() {
+        adaptiveTTLService.recordAccess(RedisKeyType.CACHE_PRODUCT_DETAIL_NAME, true);
+        for (int i = 0; i < 100; i++) {
+            adaptiveTTLService.recordAccess("unknownCache", true);
+        }
+
+        adaptiveTTLService.recompute();
+
+        assertEquals(RedisKeyType.CACHE_PRODUCT_DETAIL.getTtl(),
+                adaptiveTTLService.getEffectiveTTL(RedisKeyType.CACHE_PRODUCT_DETAIL));
+        assertNull(adaptiveTTLService.getEffectiveTTL(RedisKeyType.QUEUE_COUPON_PENDING));
+    }
+
+    @Test
+    @DisplayName("STATE 키는 미스가 많아도 기본 TTL 아래로 줄지 않고, 지터는 설정 비율 안에서만 적용")
+    void getEffectiveTTL_StateFloorAndJitterBounds() {
+        for (int i = 0; i < 100; i++) {
+            adaptiveTTLService.recordAccess(RedisKeyType.STATE_COUPON_REQUEST, false);
+            adaptiveTTLService.recordInvalidation(RedisKeyType.STATE_COUPON_REQUEST);
+        }
+        adaptiveTTLService.recompute();
+        assertEquals(Duration.ofMinutes(30), adaptiveTTLService.getEffectiveTTL(RedisKeyType.STATE_COUPON_REQUEST));
+
+        AdaptiveTTLService jittered = new AdaptiveTTLService(true, 0.5, 4.0, 0.1, 10, 0.8, 0.01, 0.2, 1.0);
+        long baseMillis = RedisKeyType.CACHE_PRODUCT_LIST.getTtl().toMillis();
+        for (int i = 0; i < 200; i++) {
+            long ttlMillis = jittered.getEffectiveTTL(RedisKeyType.CACHE_PRODUCT_LIST).toMillis();
+            assertTrue(ttlMillis >= baseMillis * 0.9 && ttlMillis <= baseMillis * 1.1);
+        }
+    }
+
+    @Test
+    @DisplayName("최소 적응형 TTL은 현재 배율을 반영하고 지터를 적용한 어떤 쓰기 TTL보다 길지 않음")
+    void getMinEffectiveTTL_LowerBoundOfJitteredTTL() {
+        AdaptiveTTLService jittered = new AdaptiveTTLService(true, 0.5, 4.0, 0.1, 10, 0.8, 0.01, 0.2, 1.0);
+        jittered.registerCacheFamily(RedisKeyType.CACHE_COUPON_LIST_NAME, RedisKeyType.CACHE_COUPON_LIST);
+        for (int i = 0; i < 100; i++) {
+            jittered.recordAccess(RedisKeyType.CACHE_COUPON_LIST_NAME, true);
+            jittered.recordInvalidation(RedisKeyType.CACHE_COUPON_LIST_NAME);
+        }
+        jittered.recompute();
+
+        Duration min = jittered.getMinEffectiveTTL(RedisKeyType.CACHE_COUPON_LIST);
+        assertEquals(Math.round(RedisKeyType.CACHE_COUPON_LIST.getTtl().toMillis() * 0.5 * 0.9), min.toMillis());
+        for (int i = 0; i < 200; i++) {
+            assertTrue(jittered.getEffectiveTTL(RedisKeyType.CACHE_COUPON_LIST).compareTo(min) >= 0);
+        }
+    }
+}
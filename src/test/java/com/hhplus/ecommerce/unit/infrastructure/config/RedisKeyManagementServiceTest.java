@@ -0,0 +1,161 @@
+package com.hhplus.ecommerce.unit.infrastructure.config;
+
+import com.hhplus.ecommerce.infrastructure.config.RedisKeyCategory;
+import com.hhplus.ecommerce.infrastructure.config.RedisKeyInventorySnapshot;
+import com.hhplus.ecommerce.infrastructure.config.RedisKeyManagementService;
+import com.hhplus.ecommerce.infrastructure.config.RedisKeyType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DataType;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * RedisKeyManagementServiceTest - SCAN 기반 키 인벤토리 단위 테스트
+ *
+ * 테스트 대상: RedisKeyManagementService
+ * - KEYS 없이 SCAN 1회로 키 타입별 개수 집계, 표본 MEMORY USAGE로 메모리 추정
+ * - 조회 메서드는 스냅샷만 읽음 (반복 조회 시 재순회 없음, 없거나 오래된 스냅샷은 실행기에 갱신 요청만)
+ * - 패턴 분류 (리터럴이 긴 패턴 우선, Spring 캐시 키)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisKeyManagementService 단위 테스트")
+class RedisKeyManagementServiceTest {
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    private RedisKeyManagementService redisKeyManagementService;
+
+    @BeforeEach
+    void setUp() {
+        // 페이지 휴식 없음, 키 타입별 표본 2개, 갱신 요청은 호출 스레드에서 실행
+        redisKeyManagementService = new RedisKeyManagementService(redisTemplate, 100, 0, 1000, 2, 5, 10, 100, 300000,
+                Runnable::run);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenScan(List<String> keys) {
+        Iterator<String> iterator = keys.iterator();
+        Cursor<String> cursor = mock(Cursor.class);
+        when(cursor.hasNext()).thenAnswer(invocation -> iterator.hasNext());
+        when(cursor.next()).thenAnswer(invocation -> iterator.next());
+        when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
+    }
+
+    @Test
+    @DisplayName("SCAN 1회로 키 타입별 개수를 세고, 표본 평균 크기 × 개수로 카테고리 메모리 추정")
+    @SuppressWarnings("unchecked")
+    void getSnapshot_CountsByScanAndExtrapolatesSampledMemory() {
+        givenScan(List.of(
+                "state:coupon:request:r1", "state:coupon:request:r2", "state:coupon:request:r3",
+                "state:coupon:request:r4", "productDetail::1", "unknown:key"));
+        when(redisTemplate.type(anyString())).thenReturn(DataType.STRING);
+        when(redisTemplate.execute(any(RedisCallback.class))).thenReturn(100L);
+
+        redisKeyManagementService.refreshSnapshot();
+        RedisKeyInventorySnapshot snapshot = redisKeyManagementService.getSnapshot();
+
+        assertEquals(6, snapshot.getScannedKeys());
+        assertEquals(1, snapshot.getUnmatchedKeys());
+        RedisKeyInventorySnapshot.KeyTypeStats stateStats =
+                snapshot.getKeyTypeStats().get(RedisKeyType.STATE_COUPON_REQUEST);
+        assertEquals(4, stateStats.getKeyCount());
+        assertEquals(2, stateStats.getSampledKeys());
+        assertEquals(400, stateStats.getEstimatedBytes());
+        assertEquals(1, snapshot.getKeyTypeStats().get(RedisKeyType.CACHE_PRODUCT_DETAIL).getKeyCount());
+
+        assertEquals(400L, redisKeyManagementService.getEstimatedMemoryByCategory()
+                .get(RedisKeyCategory.STATE.getDisplayName()));
+        assertEquals(4, redisKeyManagementService.getKeyCountByCategory()
+                .get(RedisKeyCategory.STATE.getDisplayName()));
+        assertEquals(4, redisKeyManagementService.getKeysByCategory(RedisKeyCategory.STATE).size());
+
+        // 조회는 스냅샷만 읽음 → SCAN 1회, KEYS 미사용
+        verify(redisTemplate, times(1)).scan(any(ScanOptions.class));
+        verify(redisTemplate, never()).keys(anyString());
+    }
+
+    @Test
+    @DisplayName("최대 키 수에 도달하면 순회를 중단하고 truncated 표시")
+    void getSnapshot_StopsAtMaxKeys() {
+        redisKeyManagementService = new RedisKeyManagementService(redisTemplate, 100, 0, 2, 0, 5, 10, 100, 300000,
+                Runnable::run);
+        givenScan(List.of("state:order:lock:1", "state:order:lock:2", "state:order:lock:3"));
+
+        redisKeyManagementService.refreshSnapshot();
+        RedisKeyInventorySnapshot snapshot = redisKeyManagementService.getSnapshot();
+
+        assertTrue(snapshot.isTruncated());
+        assertEquals(2, snapshot.getScannedKeys());
+        assertEquals(0, snapshot.getKeyTypeStats().get(RedisKeyType.STATE_ORDER_LOCK).getEstimatedBytes());
+    }
+
+    @Test
+    @DisplayName("첫 수집 전 조회는 빈 스냅샷을 바로 반환하고 순회는 실행기에 요청 1건만 넘김")
+    void getSnapshot_NoSnapshot_ReturnsEmptyAndRefreshesAsync() {
+        List<Runnable> submitted = new ArrayList<>();
+        redisKeyManagementService = new RedisKeyManagementService(redisTemplate, 100, 0, 1000, 0, 5, 10, 100, 300000,
+                submitted::add);
+
+        RedisKeyInventorySnapshot first = redisKeyManagementService.getSnapshot();
+        RedisKeyInventorySnapshot second = redisKeyManagementService.getSnapshot();
+
+        assertFalse(first.isCollected());
+        assertEquals(-1, first.getAgeMillis());
+        assertFalse(second.isCollected());
+        assertEquals(1, submitted.size());
+        verify(redisTemplate, never()).scan(any(ScanOptions.class));
+
+        givenScan(List.of("unknown:key"));
+        submitted.get(0).run();
+
+        RedisKeyInventorySnapshot collected = redisKeyManagementService.getSnapshot();
+        assertTrue(collected.isCollected());
+        assertTrue(collected.getAgeMillis() >= 0);
+        assertEquals(1, collected.getScannedKeys());
+    }
+
+    @Test
+    @DisplayName("스냅샷이 갱신 주기의 2배보다 오래되면 기존 스냅샷을 반환하고 갱신은 비동기로 요청")
+    void getSnapshot_Stale_ReturnsCachedAndRefreshesAsync() throws Exception {
+        List<Runnable> submitted = new ArrayList<>();
+        redisKeyManagementService = new RedisKeyManagementService(redisTemplate, 100, 0, 1000, 0, 5, 10, 100, 1,
+                submitted::add);
+        givenScan(List.of("unknown:key"));
+
+        redisKeyManagementService.refreshSnapshot();
+        RedisKeyInventorySnapshot stale = redisKeyManagementService.getSnapshot();
+        Thread.sleep(5);
+        submitted.clear();
+
+        assertSame(stale, redisKeyManagementService.getSnapshot());
+        assertEquals(1, submitted.size());
+        verify(redisTemplate, times(1)).scan(any(ScanOptions.class));
+
+        submitted.get(0).run();
+        verify(redisTemplate, times(2)).scan(any(ScanOptions.class));
+    }
+
+    @Test
+    @DisplayName("정적 키는 같은 접두사의 파라미터 패턴보다 우선, Spring 캐시 키는 캐시 타입으로 분류")
+    void classify_PrefersMostSpecificPattern() {
+        assertEquals(RedisKeyType.CACHE_COUPON_LIST, redisKeyManagementService.classify("cache:coupon:list"));
+        assertEquals(RedisKeyType.CACHE_PRODUCT_LIST, redisKeyManagementService.classify("productList::0:10"));
+        assertNull(redisKeyManagementService.classify("no-such-family"));
+    }
+}
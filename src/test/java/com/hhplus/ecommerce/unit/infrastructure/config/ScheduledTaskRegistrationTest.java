@@ -0,0 +1,143 @@
+package com.hhplus.ecommerce.unit.infrastructure.config;
+
+import com.hhplus.ecommerce.application.alert.AlertService;
+import com.hhplus.ecommerce.application.order.OutboxEventPublisher;
+import com.hhplus.ecommerce.application.order.OutboxPollingService;
+import com.hhplus.ecommerce.application.order.saga.logging.SagaLogWriter;
+import com.hhplus.ecommerce.application.order.saga.orchestration.OrderSagaOrchestrator;
+import com.hhplus.ecommerce.application.order.saga.recovery.SagaRecoveryService;
+import com.hhplus.ecommerce.application.ranking.RankingScoreAccumulator;
+import com.hhplus.ecommerce.application.ranking.RankingWindowRefresher;
+import com.hhplus.ecommerce.domain.order.OutboxRepository;
+import com.hhplus.ecommerce.domain.order.SagaLogRepository;
+import com.hhplus.ecommerce.domain.ranking.RankingRepository;
+import com.hhplus.ecommerce.infrastructure.config.AdaptiveTTLService;
+import com.hhplus.ecommerce.infrastructure.config.RedisKeyManagementService;
+import com.hhplus.ecommerce.infrastructure.config.SchedulingConfig;
+import com.hhplus.ecommerce.infrastructure.kafka.ConsumerLagReader;
+import com.hhplus.ecommerce.infrastructure.kafka.ListenerConcurrencyAutoscaler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.config.ScheduledTaskHolder;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * ScheduledTaskRegistrationTest - @Scheduled 주기 작업 등록 테스트
+ *
+ * 테스트 대상: SchedulingConfig(@EnableScheduling) + @Scheduled 메서드를 가진 컴포넌트
+ * - @EnableScheduling이 없으면 @Scheduled 메서드는 조용히 무시됨 (오류 없이 실행되지 않음)
+ * - 스케줄링이 켜진 컨텍스트에서 각 주기 작업이 실제 작업으로 등록되는지 확인
+ */
+@DisplayName("@Scheduled 주기 작업 등록 테스트")
+class ScheduledTaskRegistrationTest {
+
+    @Configuration
+    @EnableScheduling
+    static class SchedulingConfig {
+    }
+
+    @Test
+    @DisplayName("SchedulingConfig에 @EnableScheduling이 선언되어 있음")
+    void schedulingConfig_EnablesScheduling() {
+        assertThat(AnnotatedElementUtils.hasAnnotation(SchedulingConfig.class, EnableScheduling.class)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Outbox 안전망 폴러(pollAndSendMessages)가 주기 작업으로 등록됨")
+    void outboxPoller_IsScheduled() {
+        List<String> scheduled = scheduledMethods(OutboxPollingService.class, () -> new OutboxPollingService(
+                mock(OutboxRepository.class), mock(OutboxEventPublisher.class), mock(AlertService.class),
+                Runnable::run, true, 200, 50, 30, false, 30));
+
+        assertThat(scheduled).contains("pollAndSendMessages");
+    }
+
+    @Test
+    @DisplayName("랭킹 쓰기 지연 주기 플러시(flush)가 주기 작업으로 등록됨")
+    void rankingFlush_IsScheduled() {
+        List<String> scheduled = scheduledMethods(RankingScoreAccumulator.class,
+                () -> new RankingScoreAccumulator(mock(RankingRepository.class), true, 10000, true));
+
+        assertThat(scheduled).contains("flush");
+    }
+
+    @Test
+    @DisplayName("구간 랭킹 정시 갱신(refreshClosedHour)이 주기 작업으로 등록됨")
+    void rankingWindowRefresh_IsScheduled() {
+        List<String> scheduled = scheduledMethods(RankingWindowRefresher.class,
+                () -> new RankingWindowRefresher(mock(RankingRepository.class), 1.0));
+
+        assertThat(scheduled).contains("refreshClosedHour");
+    }
+
+    @Test
+    @DisplayName("적응형 TTL 배율 재계산(recompute)이 주기 작업으로 등록됨")
+    void adaptiveTtlRecompute_IsScheduled() {
+        List<String> scheduled = scheduledMethods(AdaptiveTTLService.class,
+                () -> new AdaptiveTTLService(true, 0.5, 4.0, 0.1, 10, 0.8, 0.01, 0.2, 1.0));
+
+        assertThat(scheduled).contains("recompute");
+    }
+
+    @Test
+    @DisplayName("Redis 키 인벤토리 스냅샷 갱신(refreshSnapshot)이 주기 작업으로 등록됨")
+    @SuppressWarnings("unchecked")
+    void keyInventoryRefresh_IsScheduled() {
+        List<String> scheduled = scheduledMethods(RedisKeyManagementService.class,
+                () -> new RedisKeyManagementService(mock(RedisTemplate.class), 500, 5, 2000000, 20, 5, 100, 1000, 300000,
+                        Runnable::run));
+
+        assertThat(scheduled).contains("refreshSnapshot");
+    }
+
+    @Test
+    @DisplayName("리스너 동시성 자동 조절 평가(evaluate)가 주기 작업으로 등록됨")
+    void listenerAutoscaling_IsScheduled() {
+        List<String> scheduled = scheduledMethods(ListenerConcurrencyAutoscaler.class,
+                () -> new ListenerConcurrencyAutoscaler(mock(KafkaListenerEndpointRegistry.class),
+                        mock(ConsumerLagReader.class), true, false, 1, 10, 1000, 6, 30000, 120000));
+
+        assertThat(scheduled).contains("evaluate");
+    }
+
+    @Test
+    @DisplayName("중단된 Saga 주기 복구(recoverPeriodically)가 주기 작업으로 등록됨")
+    void sagaRecovery_IsScheduled() {
+        List<String> scheduled = scheduledMethods(SagaRecoveryService.class, () -> new SagaRecoveryService(
+                mock(SagaLogRepository.class), mock(OrderSagaOrchestrator.class), mock(SagaLogWriter.class),
+                new ObjectMapper(), true, 300000, 24, 100, 3));
+
+        assertThat(scheduled).contains("recoverPeriodically");
+    }
+
+    /**
+     * 스케줄링이 켜진 컨텍스트에 빈 하나만 등록하고, 등록된 주기 작업의 메서드 이름 반환
+     */
+    private <T> List<String> scheduledMethods(Class<T> beanType, Supplier<T> factory) {
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+            context.register(SchedulingConfig.class);
+            context.registerBean(beanType, factory);
+            context.refresh();
+
+            return context.getBeansOfType(ScheduledTaskHolder.class).values().stream()
+                    .flatMap(holder -> holder.getScheduledTasks().stream())
+                    // 등록된 작업은 실행 결과 추적용으로 감싸져 있으므로 설명 문자열("클래스명.메서드명")로 식별
+                    .map(task -> task.getTask().toString())
+                    .filter(description -> description.startsWith(beanType.getName() + "."))
+                    .map(description -> description.substring(beanType.getName().length() + 1))
+                    .toList();
+        }
+    }
+}
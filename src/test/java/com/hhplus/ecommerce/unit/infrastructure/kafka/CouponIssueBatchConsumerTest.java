@@ -0,0 +1,161 @@
+package com.hhplus.ecommerce.unit.infrastructure.kafka;
+
+import com.hhplus.ecommerce.application.coupon.CouponReservationService;
+import com.hhplus.ecommerce.application.coupon.CouponService;
+import com.hhplus.ecommerce.application.coupon.dto.CouponBatchIssueResult;
+import com.hhplus.ecommerce.domain.coupon.CouponIssueFailureCode;
+import com.hhplus.ecommerce.domain.coupon.CouponNotFoundException;
+import com.hhplus.ecommerce.domain.coupon.event.CouponIssueRequest;
+import com.hhplus.ecommerce.infrastructure.kafka.CouponIssueBatchConsumer;
+import com.hhplus.ecommerce.presentation.coupon.response.IssueCouponResponse;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.kafka.support.serializer.SerializationUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * CouponIssueBatchConsumerTest - Kafka 쿠폰 발급 배치 리스너 단위 테스트
+ *
+ * 테스트 대상: CouponIssueBatchConsumer
+ * - 배치 커밋 후 Offset 커밋
+ * - 요청별 비즈니스 실패 처리
+ * - 배치 실패 시 단건 재처리 (없는 쿠폰은 개별 실패, 시스템 오류는 해당 레코드를 지정해 예외 전파)
+ * - 역직렬화 실패 레코드는 앞 레코드만 발급 후 BatchListenerFailedException으로 위치 지정 (DLT 격리)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CouponIssueBatchConsumer 단위 테스트")
+class CouponIssueBatchConsumerTest {
+
+    private static final String TOPIC = "coupon.issue.requests";
+    private static final Long COUPON_ID = 10L;
+
+    @Mock
+    private CouponService couponService;
+
+    @Mock
+    private CouponReservationService couponReservationService;
+
+    @Mock
+    private Acknowledgment acknowledgment;
+
+    private CouponIssueBatchConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        consumer = new CouponIssueBatchConsumer(couponService, couponReservationService);
+    }
+
+    private List<ConsumerRecord<String, CouponIssueRequest>> records(CouponIssueRequest... requests) {
+        return IntStream.range(0, requests.length)
+                .mapToObj(i -> new ConsumerRecord<>(TOPIC, 0, i, String.valueOf(requests[i].getUserId()), requests[i]))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("배치 발급 성공 - 실패 요청만 예약 취소 후 Offset 커밋")
+    void listenBatch_Success_AcknowledgesAfterCommit() {
+        CouponIssueRequest first = CouponIssueRequest.create(1L, COUPON_ID);
+        CouponIssueRequest second = CouponIssueRequest.create(2L, COUPON_ID);
+        CouponBatchIssueResult soldOut = CouponBatchIssueResult.failure(2L, CouponIssueFailureCode.SOLD_OUT);
+        when(couponService.issueCouponRequests(anyList())).thenReturn(List.of(
+                CouponBatchIssueResult.success(1L, IssueCouponResponse.builder().userCouponId(100L).build()),
+                soldOut));
+
+        consumer.listenBatch(records(first, second), acknowledgment);
+
+        verify(couponReservationService).release(2L, COUPON_ID, soldOut, second.getRequestedAt());
+        verify(couponReservationService, never())
+                .release(eq(1L), anyLong(), any(CouponBatchIssueResult.class), any());
+        verify(acknowledgment).acknowledge();
+        verify(couponService, never()).issueCouponWithLock(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("배치 실패 후 단건에서 시스템 오류 - 앞 레코드는 발급, 실패 레코드를 지정해 예외 전파 (뒤 레코드는 미처리)")
+    void listenBatch_SystemFailure_PointsAtFailedRecord() {
+        CouponIssueRequest first = CouponIssueRequest.create(1L, COUPON_ID);
+        CouponIssueRequest second = CouponIssueRequest.create(2L, COUPON_ID);
+        CouponIssueRequest third = CouponIssueRequest.create(3L, COUPON_ID);
+        QueryTimeoutException timeout = new QueryTimeoutException("lock wait timeout");
+        when(couponService.issueCouponRequests(anyList())).thenThrow(timeout);
+        when(couponService.issueCouponWithLock(1L, COUPON_ID))
+                .thenReturn(IssueCouponResponse.builder().userCouponId(100L).build());
+        when(couponService.issueCouponWithLock(2L, COUPON_ID)).thenThrow(timeout);
+        List<ConsumerRecord<String, CouponIssueRequest>> batch = records(first, second, third);
+
+        BatchListenerFailedException exception = assertThrows(BatchListenerFailedException.class,
+                () -> consumer.listenBatch(batch, acknowledgment));
+
+        assertSame(batch.get(1), exception.getRecord());
+        assertSame(timeout, exception.getCause());
+        verify(couponService, never()).issueCouponWithLock(3L, COUPON_ID);
+        verify(acknowledgment, never()).acknowledge();
+    }
+
+    @Test
+    @DisplayName("배치 실패 후 단건에서 없는 쿠폰 - 비즈니스 실패로 예약 취소 후 Offset 커밋 (재전달/DLT 없음)")
+    void listenBatch_CouponNotFound_IsPerRequestFailure() {
+        Long missingCouponId = 999L;
+        CouponIssueRequest missing = CouponIssueRequest.create(1L, missingCouponId);
+        CouponIssueRequest valid = CouponIssueRequest.create(2L, COUPON_ID);
+        when(couponService.issueCouponRequests(anyList())).thenThrow(new QueryTimeoutException("lock wait timeout"));
+        when(couponService.issueCouponWithLock(1L, missingCouponId))
+                .thenThrow(new CouponNotFoundException(missingCouponId));
+        when(couponService.issueCouponWithLock(2L, COUPON_ID))
+                .thenReturn(IssueCouponResponse.builder().userCouponId(100L).build());
+
+        consumer.listenBatch(records(missing, valid), acknowledgment);
+
+        ArgumentCaptor<CouponBatchIssueResult> result = ArgumentCaptor.forClass(CouponBatchIssueResult.class);
+        verify(couponReservationService).release(eq(1L), eq(missingCouponId), result.capture(), any());
+        assertEquals(CouponIssueFailureCode.NOT_FOUND, result.getValue().getFailureCode());
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("역직렬화 실패 레코드 앞까지만 발급하고 실패 레코드를 지정해 예외 전파 (원인 DeserializationException)")
+    @SuppressWarnings("unchecked")
+    void listenBatch_DeserializationFailure_IssuesPrefixAndPointsAtPoisonRecord() {
+        CouponIssueRequest first = CouponIssueRequest.create(1L, COUPON_ID);
+        CouponIssueRequest third = CouponIssueRequest.create(3L, COUPON_ID);
+        when(couponService.issueCouponRequests(anyList())).thenReturn(List.of(
+                CouponBatchIssueResult.success(1L, IssueCouponResponse.builder().userCouponId(100L).build())));
+        ConsumerRecord<String, CouponIssueRequest> poison = new ConsumerRecord<>(TOPIC, 0, 1, "2", null);
+        poison.headers().add(SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER, new byte[]{1});
+        List<ConsumerRecord<String, CouponIssueRequest>> batch = new ArrayList<>();
+        batch.add(new ConsumerRecord<>(TOPIC, 0, 0, "1", first));
+        batch.add(poison);
+        batch.add(new ConsumerRecord<>(TOPIC, 0, 2, "3", third));
+
+        BatchListenerFailedException exception = assertThrows(BatchListenerFailedException.class,
+                () -> consumer.listenBatch(batch, acknowledgment));
+
+        assertSame(poison, exception.getRecord());
+        assertInstanceOf(DeserializationException.class, exception.getCause());
+        ArgumentCaptor<List<CouponIssueRequest>> captor = ArgumentCaptor.forClass(List.class);
+        verify(couponService).issueCouponRequests(captor.capture());
+        assertEquals(List.of(first), captor.getValue());
+        verify(acknowledgment, never()).acknowledge();
+    }
+}
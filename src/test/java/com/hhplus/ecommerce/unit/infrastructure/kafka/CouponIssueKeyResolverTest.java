@@ -0,0 +1,44 @@
+package com.hhplus.ecommerce.unit.infrastructure.kafka;
+
+import com.hhplus.ecommerce.infrastructure.kafka.CouponIssueKeyResolver;
+import com.hhplus.ecommerce.infrastructure.kafka.CouponIssueKeyStrategy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * CouponIssueKeyResolverTest - 쿠폰 발급 메시지 Key 전략 단위 테스트
+ */
+@DisplayName("CouponIssueKeyResolver 단위 테스트")
+class CouponIssueKeyResolverTest {
+
+    @Test
+    @DisplayName("기본 USER 전략 - userId Key 유지")
+    void resolveKey_UserStrategy() {
+        CouponIssueKeyResolver resolver = new CouponIssueKeyResolver(CouponIssueKeyStrategy.USER, "", 4);
+
+        assertEquals("123", resolver.resolveKey(123L, 10L));
+    }
+
+    @Test
+    @DisplayName("COUPON 전략 - 같은 쿠폰은 사용자와 무관하게 같은 Key")
+    void resolveKey_CouponStrategy() {
+        CouponIssueKeyResolver resolver = new CouponIssueKeyResolver(CouponIssueKeyStrategy.COUPON, "", 4);
+
+        assertEquals("10", resolver.resolveKey(1L, 10L));
+        assertEquals("10", resolver.resolveKey(2L, 10L));
+    }
+
+    @Test
+    @DisplayName("핫 쿠폰 - 기본 전략과 무관하게 couponId:버킷 Key, 같은 사용자는 같은 버킷")
+    void resolveKey_HotCouponBucket() {
+        CouponIssueKeyResolver resolver = new CouponIssueKeyResolver(CouponIssueKeyStrategy.USER, "10, 20", 4);
+
+        assertEquals(CouponIssueKeyStrategy.COUPON_BUCKET, resolver.strategyFor(10L));
+        assertEquals("10:1", resolver.resolveKey(5L, 10L));
+        assertEquals("10:1", resolver.resolveKey(5L, 10L));
+        assertEquals("10:2", resolver.resolveKey(6L, 10L));
+        assertEquals("5", resolver.resolveKey(5L, 30L));
+    }
+}
@@ -0,0 +1,195 @@
+package com.hhplus.ecommerce.unit.infrastructure.kafka;
+
+import com.hhplus.ecommerce.infrastructure.kafka.ConsumerLagReader;
+import com.hhplus.ecommerce.infrastructure.kafka.ConsumerLagReader.PartitionOffsets;
+import com.hhplus.ecommerce.infrastructure.kafka.ListenerConcurrencyAutoscaler;
+import com.hhplus.ecommerce.infrastructure.kafka.ListenerScalingStatus;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ContainerProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ListenerConcurrencyAutoscalerTest - Lag 기반 리스너 동시성 조절 단위 테스트
+ *
+ * 테스트 대상: ListenerConcurrencyAutoscaler
+ * - Lag 급증 → 할당된 파티션 수 이내로 즉시 증가 (stop → setConcurrency → start)
+ * - 여러 노드가 그룹을 나눠 가질 때 → 이 노드에 할당된 파티션의 Lag만 기준으로 결정
+ * - 할당된 파티션이 없으면 (리밸런싱 중) 평가 보류
+ * - Lag 해소 → 연속 N회 관측 후에만 감소 (히스테리시스)
+ * - 소진 예상 시간 계산
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ListenerConcurrencyAutoscaler 단위 테스트")
+class ListenerConcurrencyAutoscalerTest {
+
+    private static final String TOPIC = "coupon.issue.requests";
+    private static final String GROUP_ID = "ecommerce-coupon-consumer-group";
+
+    @Mock
+    private KafkaListenerEndpointRegistry registry;
+
+    @Mock
+    private ConsumerLagReader lagReader;
+
+    @Mock
+    private ConcurrentMessageListenerContainer<String, Object> container;
+
+    private ListenerConcurrencyAutoscaler autoscaler;
+
+    @BeforeEach
+    void setUp() {
+        // min 1, max 10, 스레드당 Lag 100, 감소는 3회 연속, 쿨다운 없음
+        autoscaler = new ListenerConcurrencyAutoscaler(registry, lagReader, true, false,
+                1, 10, 100, 3, 0, 0);
+        when(registry.getListenerContainers()).thenReturn(List.of(container));
+        when(container.getListenerId()).thenReturn("coupon-listener");
+        when(container.getGroupId()).thenReturn(GROUP_ID);
+        when(container.getContainerProperties()).thenReturn(new ContainerProperties(TOPIC));
+    }
+
+    private void assign(int... partitions) {
+        List<TopicPartition> assigned = new ArrayList<>();
+        for (int partition : partitions) {
+            assigned.add(new TopicPartition(TOPIC, partition));
+        }
+        when(container.getAssignedPartitions()).thenReturn(assigned);
+    }
+
+    private List<PartitionOffsets> offsets(int partitions, long committed, long end) {
+        List<PartitionOffsets> result = new ArrayList<>();
+        for (int i = 0; i < partitions; i++) {
+            result.add(new PartitionOffsets(new TopicPartition(TOPIC, i), committed, end));
+        }
+        return result;
+    }
+
+    @Test
+    @DisplayName("Lag 급증 - 목표 동시성을 파티션 수로 제한해 즉시 증가, stop 완료 후 재시작")
+    void evaluate_LagSpike_ScalesUpWithinPartitionCount() throws Exception {
+        when(container.getConcurrency()).thenReturn(2);
+        when(container.isRunning()).thenReturn(true);
+        // 4개 파티션, 파티션당 Lag 500 → 필요 20개지만 파티션 수 4로 제한
+        when(lagReader.read(eq(GROUP_ID), any())).thenReturn(offsets(4, 0, 500));
+        assign(0, 1, 2, 3);
+
+        autoscaler.evaluate(1_000L);
+
+        ArgumentCaptor<Runnable> callback = ArgumentCaptor.forClass(Runnable.class);
+        verify(container).stop(callback.capture());
+        callback.getValue().run();
+        verify(container).setConcurrency(4);
+        verify(container).start();
+
+        ListenerScalingStatus status = autoscaler.getStatuses().get(0);
+        assertEquals(ListenerScalingStatus.Decision.SCALE_UP, status.getDecision());
+        assertEquals(2000L, status.getTotalLag());
+        assertEquals(4, status.getMaxConcurrency());
+        assertTrue(status.isApplied());
+    }
+
+    @Test
+    @DisplayName("Lag 해소 - 연속 3회 관측 전에는 유지, 3회째에 구간 최대 목표로 감소")
+    void evaluate_LagDrained_ScalesDownAfterStableCycles() throws Exception {
+        when(container.getConcurrency()).thenReturn(8);
+        when(container.isRunning()).thenReturn(true);
+        when(lagReader.read(eq(GROUP_ID), any()))
+                .thenReturn(offsets(10, 1000, 1030))   // 목표 3
+                .thenReturn(offsets(10, 2000, 2000))   // 목표 1
+                .thenReturn(offsets(10, 3000, 3000));  // 목표 1
+        assign(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+
+        autoscaler.evaluate(1_000L);
+        autoscaler.evaluate(2_000L);
+        verify(container, never()).stop(any(Runnable.class));
+        assertEquals(ListenerScalingStatus.Decision.HOLD, autoscaler.getStatuses().get(0).getDecision());
+
+        autoscaler.evaluate(3_000L);
+
+        ArgumentCaptor<Runnable> callback = ArgumentCaptor.forClass(Runnable.class);
+        verify(container).stop(callback.capture());
+        callback.getValue().run();
+        verify(container).setConcurrency(3);
+        assertEquals(ListenerScalingStatus.Decision.SCALE_DOWN, autoscaler.getStatuses().get(0).getDecision());
+    }
+
+    @Test
+    @DisplayName("소진 예상 시간 = Lag ÷ (소비 속도 - 생산 속도), Lag가 늘면 null")
+    void evaluate_TimeToDrain() throws Exception {
+        when(container.getConcurrency()).thenReturn(1);
+        when(lagReader.read(eq(GROUP_ID), any()))
+                .thenReturn(offsets(1, 0, 100))
+                .thenReturn(offsets(1, 60, 110))    // 1초 동안 소비 60, 생산 10 → Lag 50 ÷ 50/s = 1초
+                .thenReturn(offsets(1, 70, 200));   // 소비 10, 생산 90 → 증가 중
+        assign(0);
+
+        autoscaler = new ListenerConcurrencyAutoscaler(registry, lagReader, true, true,
+                1, 10, 1000, 3, 0, 0);
+        autoscaler.evaluate(1_000L);
+        autoscaler.evaluate(2_000L);
+
+        ListenerScalingStatus draining = autoscaler.getStatuses().get(0);
+        assertEquals(60.0, draining.getConsumeRatePerSecond(), 0.001);
+        assertEquals(10.0, draining.getProduceRatePerSecond(), 0.001);
+        assertEquals(1L, draining.getTimeToDrainSeconds());
+
+        autoscaler.evaluate(3_000L);
+        assertNull(autoscaler.getStatuses().get(0).getTimeToDrainSeconds());
+        verify(container, never()).stop(any(Runnable.class));
+    }
+
+    @Test
+    @DisplayName("다른 노드와 그룹을 나눠 가짐 - 그룹 전체가 아닌 할당된 파티션의 Lag로 목표 결정")
+    void evaluate_SharedGroup_SizesAgainstAssignedPartitions() throws Exception {
+        autoscaler = new ListenerConcurrencyAutoscaler(registry, lagReader, true, false,
+                1, 10, 500, 3, 0, 0);
+        when(container.getConcurrency()).thenReturn(1);
+        when(container.isRunning()).thenReturn(true);
+        // 4개 파티션 Lag 2000 → 그룹 전체로는 4개 필요, 이 노드는 2개 파티션(Lag 1000)만 담당
+        when(lagReader.read(eq(GROUP_ID), any())).thenReturn(offsets(4, 0, 500));
+        assign(0, 1);
+
+        autoscaler.evaluate(1_000L);
+
+        ArgumentCaptor<Runnable> callback = ArgumentCaptor.forClass(Runnable.class);
+        verify(container).stop(callback.capture());
+        callback.getValue().run();
+        verify(container).setConcurrency(2);
+
+        ListenerScalingStatus status = autoscaler.getStatuses().get(0);
+        assertEquals(2000L, status.getTotalLag());
+        assertEquals(1000L, status.getAssignedLag());
+        assertEquals(2, status.getAssignedPartitionCount());
+        assertEquals(2, status.getDesiredConcurrency());
+        assertEquals(2, status.getMaxConcurrency());
+    }
+
+    @Test
+    @DisplayName("할당된 파티션 없음 (리밸런싱 중) - 현재 동시성 유지")
+    void evaluate_NoAssignment_Holds() throws Exception {
+        when(container.getConcurrency()).thenReturn(3);
+        when(lagReader.read(eq(GROUP_ID), any())).thenReturn(offsets(4, 0, 500));
+        assign();
+
+        autoscaler.evaluate(1_000L);
+
+        verify(container, never()).stop(any(Runnable.class));
+        ListenerScalingStatus status = autoscaler.getStatuses().get(0);
+        assertEquals(ListenerScalingStatus.Decision.HOLD, status.getDecision());
+        assertEquals(3, status.getDesiredConcurrency());
+    }
+}
@@ -0,0 +1,194 @@
+package com.hhplus.ecommerce.unit.infrastructure.kafka;
+
+import com.hhplus.ecommerce.domain.order.DataPlatformEvent;
+import com.hhplus.ecommerce.domain.order.DataPlatformEventBatchRepository;
+import com.hhplus.ecommerce.domain.order.event.OrderCompletedEvent;
+import com.hhplus.ecommerce.infrastructure.kafka.OrderEventConsumer;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.kafka.support.serializer.SerializationUtils;
+import org.springframework.messaging.converter.MessageConversionException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.List;
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * OrderEventConsumerTest - Kafka 주문 이벤트 배치 리스너 단위 테스트
+ *
+ * 테스트 대상: OrderEventConsumer
+ * - 배치 내 orderId 중복 제거 후 다건 INSERT 1회, 저장 후 Offset 커밋
+ * - 저장 실패 시 Offset 미커밋 + 예외 전파 (재전달)
+ * - 파티션별 lag 갱신
+ * - 역직렬화 실패 레코드는 앞 레코드만 저장 후 BatchListenerFailedException으로 위치 지정 (DLT 격리)
+ *   원인은 DeserializationException (재시도 제외 분류)
+ * - 필수 필드 누락 레코드도 같은 방식으로 격리 (원인은 MessageConversionException)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderEventConsumer 단위 테스트")
+class OrderEventConsumerTest {
+
+    private static final String TOPIC = "order.events";
+
+    @Mock
+    private DataPlatformEventBatchRepository dataPlatformEventBatchRepository;
+
+    @Mock
+    private Acknowledgment acknowledgment;
+
+    @Mock
+    private Consumer<String, OrderCompletedEvent> kafkaConsumer;
+
+    private OrderEventConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        consumer = new OrderEventConsumer(dataPlatformEventBatchRepository);
+    }
+
+    private ConsumerRecord<String, OrderCompletedEvent> record(int partition, long offset, OrderCompletedEvent event) {
+        return new ConsumerRecord<>(TOPIC, partition, offset, event != null ? String.valueOf(event.getOrderId()) : null, event);
+    }
+
+    @Test
+    @DisplayName("같은 주문은 1건만 남기고 다건 INSERT 1회 후 Offset 커밋, 파티션 lag 기록")
+    @SuppressWarnings("unchecked")
+    void listenBatch_DeduplicatesAndInsertsOnce() {
+        when(dataPlatformEventBatchRepository.insertIgnoringDuplicates(anyList())).thenReturn(2);
+        when(kafkaConsumer.currentLag(new TopicPartition(TOPIC, 0))).thenReturn(OptionalLong.of(40));
+        when(kafkaConsumer.currentLag(new TopicPartition(TOPIC, 1))).thenReturn(OptionalLong.of(2));
+
+        consumer.listenBatch(List.of(
+                record(0, 0, new OrderCompletedEvent(1L, 10L, 5000L)),
+                record(1, 0, new OrderCompletedEvent(2L, 20L, 7000L)),
+                record(0, 1, new OrderCompletedEvent(1L, 10L, 5000L)),
+                record(1, 1, null)), acknowledgment, kafkaConsumer);
+
+        ArgumentCaptor<List<DataPlatformEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(dataPlatformEventBatchRepository, times(1)).insertIgnoringDuplicates(captor.capture());
+        assertEquals(List.of(1L, 2L), captor.getValue().stream().map(DataPlatformEvent::getOrderId).toList());
+        assertEquals("ORDER_COMPLETED", captor.getValue().get(0).getEventType());
+        verify(acknowledgment).acknowledge();
+
+        assertEquals(2, consumer.getProcessedEvents());
+        assertEquals(1, consumer.getDuplicateEvents());
+        assertEquals(42, consumer.getTotalLag());
+    }
+
+    @Test
+    @DisplayName("저장 실패 시 Offset 커밋하지 않고 예외 전파")
+    void listenBatch_InsertFails_DoesNotAcknowledge() {
+        when(dataPlatformEventBatchRepository.insertIgnoringDuplicates(anyList()))
+                .thenThrow(new QueryTimeoutException("DB 타임아웃"));
+
+        assertThrows(QueryTimeoutException.class, () -> consumer.listenBatch(
+                List.of(record(0, 0, new OrderCompletedEvent(1L, 10L, 5000L))), acknowledgment, kafkaConsumer));
+
+        verify(acknowledgment, never()).acknowledge();
+        assertEquals(0, consumer.getProcessedEvents());
+    }
+
+    @Test
+    @DisplayName("역직렬화 실패 레코드 앞까지만 저장하고 실패 레코드를 지정해 예외 전파 (Offset 커밋은 에러 핸들러 담당)")
+    @SuppressWarnings("unchecked")
+    void listenBatch_DeserializationFailure_SavesPrefixAndPointsAtPoisonRecord() {
+        when(dataPlatformEventBatchRepository.insertIgnoringDuplicates(anyList())).thenReturn(1);
+        ConsumerRecord<String, OrderCompletedEvent> poison = record(0, 1, null);
+        poison.headers().add(SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER, new byte[]{1});
+
+        BatchListenerFailedException exception = assertThrows(BatchListenerFailedException.class, () -> consumer.listenBatch(
+                List.of(
+                        record(0, 0, new OrderCompletedEvent(1L, 10L, 5000L)),
+                        poison,
+                        record(0, 2, new OrderCompletedEvent(2L, 20L, 7000L))),
+                acknowledgment, kafkaConsumer));
+
+        assertSame(poison, exception.getRecord());
+        assertInstanceOf(DeserializationException.class, exception.getCause());
+        ArgumentCaptor<List<DataPlatformEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(dataPlatformEventBatchRepository).insertIgnoringDuplicates(captor.capture());
+        assertEquals(List.of(1L), captor.getValue().stream().map(DataPlatformEvent::getOrderId).toList());
+        verify(acknowledgment, never()).acknowledge();
+    }
+
+    @Test
+    @DisplayName("역직렬화 실패 원인은 예외 헤더에 담긴 DeserializationException 그대로 전달")
+    void listenBatch_DeserializationFailure_UsesHeaderExceptionAsCause() throws IOException {
+        when(dataPlatformEventBatchRepository.insertIgnoringDuplicates(anyList())).thenReturn(0);
+        ConsumerRecord<String, OrderCompletedEvent> poison = record(0, 0, null);
+        poison.headers().add(SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER,
+                serialize(new DeserializationException("알 수 없는 스키마 ID", new byte[]{9}, false, null)));
+
+        BatchListenerFailedException exception = assertThrows(BatchListenerFailedException.class,
+                () -> consumer.listenBatch(List.of(poison), acknowledgment, kafkaConsumer));
+
+        DeserializationException cause = assertInstanceOf(DeserializationException.class, exception.getCause());
+        assertEquals("알 수 없는 스키마 ID", cause.getMessage());
+    }
+
+    @Test
+    @DisplayName("필수 필드가 빠진 레코드 앞까지만 저장하고 해당 레코드를 재시도 제외 원인으로 지정")
+    @SuppressWarnings("unchecked")
+    void listenBatch_MissingRequiredField_SavesPrefixAndPointsAtInvalidRecord() {
+        when(dataPlatformEventBatchRepository.insertIgnoringDuplicates(anyList())).thenReturn(1);
+        ConsumerRecord<String, OrderCompletedEvent> invalid =
+                record(0, 1, new OrderCompletedEvent(2L, 20L, 7000L, null));
+
+        BatchListenerFailedException exception = assertThrows(BatchListenerFailedException.class, () -> consumer.listenBatch(
+                List.of(
+                        record(0, 0, new OrderCompletedEvent(1L, 10L, 5000L)),
+                        invalid,
+                        record(0, 2, new OrderCompletedEvent(3L, 30L, 9000L))),
+                acknowledgment, kafkaConsumer));
+
+        assertSame(invalid, exception.getRecord());
+        MessageConversionException cause = assertInstanceOf(MessageConversionException.class, exception.getCause());
+        assertTrue(cause.getMessage().contains("occurredAt"));
+        ArgumentCaptor<List<DataPlatformEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(dataPlatformEventBatchRepository).insertIgnoringDuplicates(captor.capture());
+        assertEquals(List.of(1L), captor.getValue().stream().map(DataPlatformEvent::getOrderId).toList());
+        verify(acknowledgment, never()).acknowledge();
+    }
+
+    @Test
+    @DisplayName("userId / totalAmount가 빠진 레코드도 저장 대상에서 제외")
+    void listenBatch_MissingUserIdOrAmount_IsIsolated() {
+        when(dataPlatformEventBatchRepository.insertIgnoringDuplicates(anyList())).thenReturn(0);
+
+        BatchListenerFailedException missingUser = assertThrows(BatchListenerFailedException.class, () -> consumer.listenBatch(
+                List.of(record(0, 0, new OrderCompletedEvent(1L, null, 5000L))), acknowledgment, kafkaConsumer));
+        BatchListenerFailedException missingAmount = assertThrows(BatchListenerFailedException.class, () -> consumer.listenBatch(
+                List.of(record(0, 1, new OrderCompletedEvent(2L, 20L, null))), acknowledgment, kafkaConsumer));
+
+        assertTrue(missingUser.getCause().getMessage().contains("userId"));
+        assertTrue(missingAmount.getCause().getMessage().contains("totalAmount"));
+        verify(dataPlatformEventBatchRepository, times(2)).insertIgnoringDuplicates(List.of());
+        verify(acknowledgment, never()).acknowledge();
+    }
+
+    private static byte[] serialize(DeserializationException exception) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(exception);
+        }
+        return bytes.toByteArray();
+    }
+}
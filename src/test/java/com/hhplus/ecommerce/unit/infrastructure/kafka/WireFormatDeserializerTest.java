@@ -0,0 +1,111 @@
+package com.hhplus.ecommerce.unit.infrastructure.kafka;
+
+import com.hhplus.ecommerce.domain.coupon.event.CouponIssueRequest;
+import com.hhplus.ecommerce.domain.order.event.OrderCompletedEvent;
+import com.hhplus.ecommerce.infrastructure.kafka.codec.CouponIssueRequestCodec;
+import com.hhplus.ecommerce.infrastructure.kafka.codec.KafkaEventCodec;
+import com.hhplus.ecommerce.infrastructure.kafka.codec.OrderCompletedEventCodec;
+import com.hhplus.ecommerce.infrastructure.kafka.codec.VersionedBinarySerializer;
+import com.hhplus.ecommerce.infrastructure.kafka.codec.WireFormatDeserializer;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * WireFormatDeserializerTest - Kafka 메시지 형식 단위 테스트
+ *
+ * 테스트 대상: VersionedBinarySerializer, WireFormatDeserializer, 이벤트 코덱
+ * - 바이너리 왕복 (null 필드 포함), JSON 대비 크기
+ * - 기존 JSON 메시지 읽기 유지
+ * - 모르는 schemaId는 예외
+ */
+@DisplayName("WireFormatDeserializer 단위 테스트")
+class WireFormatDeserializerTest {
+
+    private static final String TOPIC = "coupon.issue.requests";
+
+    private WireFormatDeserializer<CouponIssueRequest> couponDeserializer() {
+        return new WireFormatDeserializer<>(
+                List.<KafkaEventCodec<? extends CouponIssueRequest>>of(new CouponIssueRequestCodec()),
+                new JsonDeserializer<>(CouponIssueRequest.class));
+    }
+
+    @Test
+    @DisplayName("바이너리 왕복 - 모든 필드 복원, JSON보다 작은 메시지")
+    void binary_RoundTrip_SmallerThanJson() {
+        CouponIssueRequest request = CouponIssueRequest.create(1001L, 42L);
+        request.incrementRetryCount();
+
+        byte[] binary = new VersionedBinarySerializer<>(new CouponIssueRequestCodec()).serialize(TOPIC, request);
+        byte[] json = new JsonSerializer<CouponIssueRequest>().serialize(TOPIC, request);
+        CouponIssueRequest decoded = couponDeserializer().deserialize(TOPIC, new RecordHeaders(), binary);
+
+        assertEquals(request.getRequestId(), decoded.getRequestId());
+        assertEquals(1001L, decoded.getUserId());
+        assertEquals(42L, decoded.getCouponId());
+        assertEquals(request.getRequestedAt(), decoded.getRequestedAt());
+        assertEquals(1, decoded.getRetryCount());
+        assertTrue(binary.length * 3 < json.length, "binary=" + binary.length + ", json=" + json.length);
+    }
+
+    @Test
+    @DisplayName("null 필드와 UUID가 아닌 requestId도 그대로 복원")
+    void binary_NullFieldsAndPlainRequestId() {
+        CouponIssueRequest request = CouponIssueRequest.builder()
+                .requestId("legacy-request-1")
+                .userId(-5L)
+                .retryCount(null)
+                .build();
+        OrderCompletedEvent event = new OrderCompletedEvent(7L, 3L, 15000L, "홍길동", null,
+                LocalDateTime.of(2024, 1, 2, 3, 4, 5, 600));
+
+        CouponIssueRequest decoded = couponDeserializer().deserialize(TOPIC,
+                new VersionedBinarySerializer<>(new CouponIssueRequestCodec()).serialize(TOPIC, request));
+        OrderCompletedEvent decodedEvent = new WireFormatDeserializer<>(
+                List.<KafkaEventCodec<? extends OrderCompletedEvent>>of(new OrderCompletedEventCodec()),
+                new JsonDeserializer<>(OrderCompletedEvent.class))
+                .deserialize("order.completed", new VersionedBinarySerializer<>(new OrderCompletedEventCodec())
+                        .serialize("order.completed", event));
+
+        assertEquals("legacy-request-1", decoded.getRequestId());
+        assertEquals(-5L, decoded.getUserId());
+        assertNull(decoded.getCouponId());
+        assertNull(decoded.getRequestedAt());
+        assertNull(decoded.getRetryCount());
+
+        assertEquals(7L, decodedEvent.getOrderId());
+        assertEquals(15000L, decodedEvent.getTotalAmount());
+        assertEquals("홍길동", decodedEvent.getRecipientName());
+        assertNull(decodedEvent.getShippingAddress());
+        assertEquals(event.getOccurredAt(), decodedEvent.getOccurredAt());
+    }
+
+    @Test
+    @DisplayName("MAGIC 바이트가 없는 기존 JSON 메시지는 JSON으로 읽음")
+    void json_FallsBackToJsonDeserializer() {
+        CouponIssueRequest request = CouponIssueRequest.create(1L, 2L);
+        RecordHeaders headers = new RecordHeaders();
+        byte[] json = new JsonSerializer<CouponIssueRequest>().serialize(TOPIC, headers, request);
+
+        CouponIssueRequest decoded = couponDeserializer().deserialize(TOPIC, headers, json);
+
+        assertEquals(request.getRequestId(), decoded.getRequestId());
+        assertEquals(2L, decoded.getCouponId());
+    }
+
+    @Test
+    @DisplayName("모르는 schemaId는 SerializationException")
+    void binary_UnknownSchemaId_Throws() {
+        byte[] unknown = {VersionedBinarySerializer.MAGIC, 99, 0};
+
+        assertThrows(SerializationException.class, () -> couponDeserializer().deserialize(TOPIC, unknown));
+    }
+}
@@ -53,7 +53,9 @@ CREATE TABLE `products` (
                             `updated_at` timestamp NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정 시각',
                             PRIMARY KEY (`product_id`),
                             KEY `idx_status` (`status`),
-                            KEY `idx_created_at` (`created_at`)
+                            KEY `idx_products_price` (`price`,`product_id`),
+                            KEY `idx_products_created_at` (`created_at`,`product_id`),
+                            KEY `idx_products_product_name` (`product_name`,`product_id`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='상품 정보';
 
 -- 4. 상품 옵션
@@ -165,12 +167,51 @@ CREATE TABLE `outbox` (
                           `retry_count` int NOT NULL DEFAULT '0' COMMENT '재시도 횟수',
                           `last_attempt` timestamp NULL DEFAULT NULL COMMENT '마지막 시도 시각',
                           `sent_at` timestamp NULL DEFAULT NULL COMMENT '전송 완료 시각',
+                          `next_attempt_at` timestamp NULL DEFAULT NULL COMMENT '다음 발행 가능 시각 (선점 리스/재시도 지연)',
                           `created_at` timestamp NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '생성 시각',
                           PRIMARY KEY (`message_id`),
                           KEY `idx_status_created_at` (`status`, `created_at`) COMMENT '미전송 메시지 조회',
+                          KEY `idx_outbox_status_next_attempt` (`status`, `next_attempt_at`, `message_id`) COMMENT '릴레이 선점 (SKIP LOCKED)',
                           KEY `idx_order_id` (`order_id`) COMMENT '주문별 메시지 추적',
                           CONSTRAINT `outbox_ibfk_1` FOREIGN KEY (`order_id`) REFERENCES `orders` (`order_id`) ON DELETE CASCADE,
                           CONSTRAINT `outbox_ibfk_2` FOREIGN KEY (`user_id`) REFERENCES `users` (`user_id`) ON DELETE CASCADE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='Outbox 메시지 테이블';
 
+-- 11. 재고 버킷 (핫 아이템 재고 분할)
+CREATE TABLE `stock_buckets` (
+                                 `bucket_id` bigint NOT NULL AUTO_INCREMENT COMMENT '버킷 ID',
+                                 `item_type` varchar(255) COLLATE utf8mb4_unicode_ci NOT NULL COMMENT 'COUPON | PRODUCT_OPTION',
+                                 `item_id` bigint NOT NULL COMMENT '쿠폰 ID 또는 옵션 ID',
+                                 `bucket_no` int NOT NULL COMMENT '버킷 번호 (0 ~ K-1)',
+                                 `quantity` int NOT NULL DEFAULT '0' COMMENT '버킷 재고',
+                                 `updated_at` timestamp NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '마지막 차감 시각',
+                                 PRIMARY KEY (`bucket_id`),
+                                 UNIQUE KEY `uk_stock_bucket` (`item_type`, `item_id`, `bucket_no`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='핫 아이템 재고 버킷';
+
+-- 12. 상품별 일일 주문 수 요약 (인기 상품 집계)
+CREATE TABLE `product_sales_daily` (
+                                       `sales_id` bigint NOT NULL AUTO_INCREMENT COMMENT '요약 ID',
+                                       `sales_date` date NOT NULL COMMENT '주문 일자',
+                                       `product_id` bigint NOT NULL COMMENT '상품 ID',
+                                       `order_count` bigint NOT NULL DEFAULT '0' COMMENT '주문 수',
+                                       `updated_at` timestamp NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '마지막 누적 시각',
+                                       PRIMARY KEY (`sales_id`),
+                                       UNIQUE KEY `uk_product_sales_daily` (`sales_date`, `product_id`) COMMENT '기간 범위 스캔 + UPSERT'
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='상품별 일일 주문 수 요약';
+
+-- 13. Saga 상태 전이 로그 (크래시 복구)
+CREATE TABLE `saga_log` (
+                            `log_id` bigint NOT NULL AUTO_INCREMENT COMMENT '로그 ID',
+                            `saga_id` varchar(36) COLLATE utf8mb4_unicode_ci NOT NULL COMMENT 'Saga 실행 ID',
+                            `event_type` varchar(32) COLLATE utf8mb4_unicode_ci NOT NULL COMMENT 'SAGA_STARTED | STEP_COMPLETED | STEP_COMPENSATED | ...',
+                            `step_name` varchar(64) COLLATE utf8mb4_unicode_ci NOT NULL DEFAULT '' COMMENT 'Step 이름 (Saga 수준 전이는 빈 문자열)',
+                            `order_id` bigint DEFAULT NULL COMMENT '생성된 주문 ID',
+                            `payload` text COLLATE utf8mb4_unicode_ci COMMENT '입력 스냅샷 JSON (STEP_APPLIED 표식)',
+                            `created_at` timestamp NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '기록 시각',
+                            PRIMARY KEY (`log_id`),
+                            UNIQUE KEY `uk_saga_log_transition` (`saga_id`, `event_type`, `step_name`) COMMENT '전이 멱등성 + Saga별 조회',
+                            KEY `idx_saga_log_event_created_at` (`event_type`, `created_at`) COMMENT '미종결 Saga 범위 스캔'
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='Saga 상태 전이 로그';
+
 SET FOREIGN_KEY_CHECKS = 1;